@@ -22,6 +22,7 @@ import org.wso2.carbon.apimgt.core.models.API;
 import org.wso2.carbon.apimgt.core.models.APIResource;
 import org.wso2.carbon.apimgt.core.models.CompositeAPI;
 import org.wso2.carbon.apimgt.core.models.Scope;
+import org.wso2.carbon.apimgt.core.util.ScopeRouteTable;
 import org.wso2.msf4j.Request;
 import org.wso2.msf4j.ServiceMethodInfo;
 
@@ -73,6 +74,16 @@ public interface APIDefinition {
     String getScopeOfResourcePath(String resourceConfigsJSON, Request request, ServiceMethodInfo serviceMethodInfo)
             throws APIManagementException;
 
+    /**
+     * This method compiles the scopes of all the resources of the API definition into a table which can be used to
+     * look up the scope of a resource path without parsing the API definition again
+     *
+     * @param resourceConfigsJSON resource json
+     * @return table of the scopes of the resources
+     * @throws APIManagementException   If error occurs while parsing swagger resources.
+     */
+    ScopeRouteTable getScopeRouteTable(String resourceConfigsJSON) throws APIManagementException;
+
     /**
      * generate the swagger from uri templates.
      *
@@ -29,6 +29,7 @@ import org.wso2.carbon.apimgt.core.models.Label;
 import org.wso2.carbon.apimgt.core.models.PolicyValidationData;
 import org.wso2.carbon.apimgt.core.models.RegistrationSummary;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
+import org.wso2.carbon.apimgt.core.models.SubscriptionValidationResults;
 import org.wso2.carbon.apimgt.core.models.UriTemplate;
 import org.wso2.carbon.apimgt.core.models.policy.APIPolicy;
 import org.wso2.carbon.apimgt.core.models.policy.ApplicationPolicy;
@@ -74,6 +75,27 @@ public interface APIMgtAdminService {
      */
     List<SubscriptionValidationData> getAPISubscriptions(int limit) throws APIManagementException;
 
+    /**
+     * Return a page of all API subscriptions
+     *
+     * @param cursor Cursor returned with the previous page, or null to retrieve the first page
+     * @param limit  Maximum number of subscriptions in the page, a negative value to retrieve all subscriptions
+     * @return page of subscriptions along with the cursor of the next page and the current change sequence
+     * @throws APIManagementException If failed to get list of subscriptions.
+     */
+    SubscriptionValidationResults getAPISubscriptions(String cursor, int limit) throws APIManagementException;
+
+    /**
+     * Return the API subscriptions added, updated or removed after a given change sequence
+     *
+     * @param changeSequence Change sequence returned with a previous result
+     * @param limit          Maximum number of changes to be read, a negative value to read all changes
+     * @return changed subscriptions along with the latest change sequence read
+     * @throws APIManagementException If failed to get list of subscription changes.
+     */
+    SubscriptionValidationResults getAPISubscriptionChanges(long changeSequence, int limit)
+            throws APIManagementException;
+
     /**
      * Return all API subscriptions of a given API
      *
@@ -315,6 +337,18 @@ public interface APIMgtAdminService {
      */
     List<API> getAPIsByGatewayLabel(List<String> gatewayLabels) throws APIManagementException;
 
+    /**
+     * Read summaries of the APIs with given gateway labels and optionally a given status, passing each API to the
+     * consumer as it is read
+     *
+     * @param gatewayLabels List of labels
+     * @param status        Lifecycle status or {@code null} to read APIs in any status
+     * @param consumer      Consumer of the API summaries
+     * @throws APIManagementException If failed to read the APIs
+     */
+    void getAPIsByGatewayLabel(List<String> gatewayLabels, String status, ResultConsumer<API> consumer)
+            throws APIManagementException;
+
     /**
      * Retrieve API Gateway registration summary
      *
@@ -330,6 +364,14 @@ public interface APIMgtAdminService {
      */
     List<Application> getAllApplications() throws APIManagementException;
 
+    /**
+     * Read all Applications, passing each Application to the consumer as it is read
+     *
+     * @param consumer Consumer of the Applications
+     * @throws APIManagementException If failed to read Applications
+     */
+    void getAllApplications(ResultConsumer<Application> consumer) throws APIManagementException;
+
     /**
      *
      * Get List of Endpoints
@@ -338,6 +380,14 @@ public interface APIMgtAdminService {
      */
     List<Endpoint> getAllEndpoints() throws APIManagementException;
 
+    /**
+     * Read all Global Endpoints, passing each Endpoint to the consumer as it is read
+     *
+     * @param consumer Consumer of the Endpoints
+     * @throws APIManagementException If failed to read Endpoints
+     */
+    void getAllEndpoints(ResultConsumer<Endpoint> consumer) throws APIManagementException;
+
     /**
      * Return Gateway Configuration of Endpoint
      *
@@ -355,6 +405,14 @@ public interface APIMgtAdminService {
      */
     Set<PolicyValidationData> getAllPolicies() throws APIManagementException;
 
+    /**
+     * Read simple Policy related details, passing each policy to the consumer as it is read
+     *
+     * @param consumer Consumer of the policies
+     * @throws APIManagementException If failed to read Policies
+     */
+    void getAllPolicies(ResultConsumer<PolicyValidationData> consumer) throws APIManagementException;
+
     /**
      * Policy Level enum
      */
@@ -373,6 +431,14 @@ public interface APIMgtAdminService {
      */
     List<BlockConditions> getBlockConditions() throws APIManagementException;
 
+    /**
+     * Read all block conditions, passing each block condition to the consumer as it is read
+     *
+     * @param consumer Consumer of the block conditions
+     * @throws APIManagementException If failed to read block conditions
+     */
+    void getBlockConditions(ResultConsumer<BlockConditions> consumer) throws APIManagementException;
+
     /**
      * Retrieves a block condition by its UUID.
      *
@@ -106,6 +106,16 @@ public interface APIPublisher extends APIManager {
      */
     String addAPI(API.APIBuilder apiBuilder) throws APIManagementException;
 
+    /**
+     * Adds a set of new APIs in a single transaction, notifying the gateway once all of them are added. An API which
+     * could not be added to the gateway is removed again and is not included in the returned UUIDs.
+     *
+     * @param apiBuilders APIs
+     * @return UUIDs of the added APIs.
+     * @throws APIManagementException if failed to add the APIs, in which case none of them is added
+     */
+    List<String> addAPIs(List<API.APIBuilder> apiBuilders) throws APIManagementException;
+
     /**
      * @param api API Object
      * @return Validity of the API update.
@@ -43,6 +43,7 @@ import org.wso2.carbon.apimgt.core.models.Tag;
 import org.wso2.carbon.apimgt.core.models.User;
 import org.wso2.carbon.apimgt.core.models.WSDLArchiveInfo;
 import org.wso2.carbon.apimgt.core.models.policy.Policy;
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
 import org.wso2.carbon.apimgt.core.workflow.ApplicationCreationResponse;
 
 import java.io.InputStream;
@@ -540,6 +541,20 @@ public interface APIStore extends APIManager {
     String getAPIWSDL(String apiId, String labelName)
             throws APIMgtDAOException, APIMgtWSDLException, APINotFoundException, LabelException;
 
+    /**
+     * Returns the WSDL of a given API UUID and gateway label name as a stream, without copying the WSDL
+     *
+     * @param apiId API Id
+     * @param labelName gateway label name
+     * @return WSDL of the API as an {@link InputStream}, or null if the API has no WSDL content
+     * @throws APIMgtDAOException if error occurs while accessing the WSDL from the data layer
+     * @throws APIMgtWSDLException if error occurs while parsing/manipulating the WSDL
+     * @throws APINotFoundException If API cannot be found
+     * @throws LabelException If Label related error occurs
+     */
+    InputStream getAPIWSDLStream(String apiId, String labelName)
+            throws APIMgtDAOException, APIMgtWSDLException, APINotFoundException, LabelException;
+
     /**
      * Returns the WSDL archive info of a given API UUID and gateway label name
      *
@@ -554,6 +569,17 @@ public interface APIStore extends APIManager {
     WSDLArchiveInfo getAPIWSDLArchive(String apiId, String labelName)
             throws APIMgtDAOException, APIMgtWSDLException, APINotFoundException, LabelException;
 
+    /**
+     * Opens a WSDL archive returned by {@link #getAPIWSDLArchive(String, String)} for reading. The archive is kept on
+     * the disk until the returned stream is closed, even if the WSDL of the API is updated in the meantime.
+     *
+     * @param wsdlArchiveInfo WSDL archive information
+     * @return stream of the WSDL archive, or null if the archive has already been removed since the WSDL of the API
+     * was updated
+     * @throws APIMgtWSDLException if error occurs while opening the WSDL archive
+     */
+    SizedInputStream openAPIWSDLArchive(WSDLArchiveInfo wsdlArchiveInfo) throws APIMgtWSDLException;
+
     /**
      * Store user self signup
      *
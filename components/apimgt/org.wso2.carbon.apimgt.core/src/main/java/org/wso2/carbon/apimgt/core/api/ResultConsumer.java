@@ -0,0 +1,40 @@
+/*
+ *
+ *   Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 Inc. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.core.api;
+
+import java.io.IOException;
+
+/**
+ * Receives the results of a bulk retrieval one at a time, while the underlying result set is being read. This allows
+ * large result sets to be written out (e.g. to an HTTP response) without materializing the whole list in memory.
+ *
+ * @param <T> type of the retrieved entity
+ */
+@FunctionalInterface
+public interface ResultConsumer<T> {
+    /**
+     * Consume a single result
+     *
+     * @param result retrieved entity
+     * @throws IOException If the result could not be written to the destination
+     */
+    void accept(T result) throws IOException;
+}
@@ -91,9 +91,31 @@ public class APIMConfigurations {
             "org.wso2.carbon.apimgt.core.impl.WSDL11ProcessorImpl",
             "org.wso2.carbon.apimgt.core.impl.WSDL20ProcessorImpl");
 
+    @Element(description = "Number of APIs whose parsed and rendered WSDLs are cached for the store")
+    private int wsdlCacheSize = 100;
+
+    @Element(description = "Time in seconds for which subscription changes are kept for gateways to synchronize " +
+            "their subscriptions with")
+    private long subscriptionChangeRetention = 604800;
+
+    @Element(description = "Interval in seconds at which expired subscription changes are removed, 0 to keep all " +
+            "the changes")
+    private long subscriptionChangePruneInterval = 3600;
+
     @Element(description = "SDK Generation Language Configurations")
     private SdkLanguageConfigurations sdkLanguageConfigurations = new SdkLanguageConfigurations();
 
+    @Element(description = "API Search Configurations")
+    private SearchConfigurations searchConfigurations = new SearchConfigurations();
+
+    public SearchConfigurations getSearchConfigurations() {
+        return searchConfigurations;
+    }
+
+    public void setSearchConfigurations(SearchConfigurations searchConfigurations) {
+        this.searchConfigurations = searchConfigurations;
+    }
+
     public SdkLanguageConfigurations getSdkLanguageConfigurations() {
         return sdkLanguageConfigurations;
     }
@@ -262,4 +284,28 @@ public class APIMConfigurations {
     public void setWsdlProcessors(List<String> wsdlProcessors) {
         this.wsdlProcessors = wsdlProcessors;
     }
+
+    public int getWsdlCacheSize() {
+        return wsdlCacheSize;
+    }
+
+    public void setWsdlCacheSize(int wsdlCacheSize) {
+        this.wsdlCacheSize = wsdlCacheSize;
+    }
+
+    public long getSubscriptionChangeRetention() {
+        return subscriptionChangeRetention;
+    }
+
+    public void setSubscriptionChangeRetention(long subscriptionChangeRetention) {
+        this.subscriptionChangeRetention = subscriptionChangeRetention;
+    }
+
+    public long getSubscriptionChangePruneInterval() {
+        return subscriptionChangePruneInterval;
+    }
+
+    public void setSubscriptionChangePruneInterval(long subscriptionChangePruneInterval) {
+        this.subscriptionChangePruneInterval = subscriptionChangePruneInterval;
+    }
 }
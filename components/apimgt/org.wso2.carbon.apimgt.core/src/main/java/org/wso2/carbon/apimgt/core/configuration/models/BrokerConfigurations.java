@@ -35,6 +35,24 @@ public class BrokerConfigurations {
     private String publisherTopic = "PublisherTopic";
     @Element(description = "Throttle topic name")
     private String throttleTopic = "ThrottleTopic";
+    @Element(description = "Maximum number of idle publishers kept open per topic")
+    private int maxIdlePublishersPerTopic = 10;
+    @Element(description = "Publish events asynchronously in batches")
+    private boolean asyncPublishingEnabled = false;
+    @Element(description = "Time window in milliseconds within which events are coalesced into a batch")
+    private long batchWindowMillis = 50;
+    @Element(description = "Maximum number of events published in a single batch")
+    private int maxBatchSize = 100;
+    @Element(description = "Maximum number of events waiting to be published asynchronously")
+    private int asyncQueueSize = 10000;
+    @Element(description = "Time in milliseconds to wait for space in a full asynchronous publishing queue before "
+            + "the event is rejected")
+    private long asyncEnqueueTimeoutMillis = 5000;
+    @Element(description = "Maximum number of attempts to publish a batch of asynchronous events")
+    private int maxAsyncPublishAttempts = 3;
+    @Element(description = "Time in milliseconds to wait before retrying a failed asynchronous publish")
+    private long asyncRetryIntervalMillis = 1000;
+
     public JMSConnectionConfiguration getJmsConnectionConfiguration() {
         return jmsConnectionConfiguration;
     }
@@ -66,4 +84,68 @@ public class BrokerConfigurations {
     public void setThrottleTopic(String throttleTopic) {
         this.throttleTopic = throttleTopic;
     }
+
+    public int getMaxIdlePublishersPerTopic() {
+        return maxIdlePublishersPerTopic;
+    }
+
+    public void setMaxIdlePublishersPerTopic(int maxIdlePublishersPerTopic) {
+        this.maxIdlePublishersPerTopic = maxIdlePublishersPerTopic;
+    }
+
+    public boolean isAsyncPublishingEnabled() {
+        return asyncPublishingEnabled;
+    }
+
+    public void setAsyncPublishingEnabled(boolean asyncPublishingEnabled) {
+        this.asyncPublishingEnabled = asyncPublishingEnabled;
+    }
+
+    public long getBatchWindowMillis() {
+        return batchWindowMillis;
+    }
+
+    public void setBatchWindowMillis(long batchWindowMillis) {
+        this.batchWindowMillis = batchWindowMillis;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public int getAsyncQueueSize() {
+        return asyncQueueSize;
+    }
+
+    public void setAsyncQueueSize(int asyncQueueSize) {
+        this.asyncQueueSize = asyncQueueSize;
+    }
+
+    public long getAsyncEnqueueTimeoutMillis() {
+        return asyncEnqueueTimeoutMillis;
+    }
+
+    public void setAsyncEnqueueTimeoutMillis(long asyncEnqueueTimeoutMillis) {
+        this.asyncEnqueueTimeoutMillis = asyncEnqueueTimeoutMillis;
+    }
+
+    public int getMaxAsyncPublishAttempts() {
+        return maxAsyncPublishAttempts;
+    }
+
+    public void setMaxAsyncPublishAttempts(int maxAsyncPublishAttempts) {
+        this.maxAsyncPublishAttempts = maxAsyncPublishAttempts;
+    }
+
+    public long getAsyncRetryIntervalMillis() {
+        return asyncRetryIntervalMillis;
+    }
+
+    public void setAsyncRetryIntervalMillis(long asyncRetryIntervalMillis) {
+        this.asyncRetryIntervalMillis = asyncRetryIntervalMillis;
+    }
 }
@@ -35,6 +35,10 @@ public class IdentityProviderConfigurations {
     private CredentialConfigurations identityProviderCredentials = new CredentialConfigurations();
     @Element(description = "Alias of Identity Provider Certificate in Client Trust Store")
     private String idpCertAlias = "wso2carbon";
+    @Element(description = "Maximum number of users and roles cached for each of the user and role mappings")
+    private int roleCacheMaxEntries = 10000;
+    @Element(description = "Maximum time in seconds users and roles are cached")
+    private long roleCacheExpiryTime = 300L;
 
     public String getIdentityProviderImplClass() {
         return identityProviderImplClass;
@@ -67,4 +71,20 @@ public class IdentityProviderConfigurations {
     public void setIdpCertAlias(String idpCertAlias) {
         this.idpCertAlias = idpCertAlias;
     }
+
+    public int getRoleCacheMaxEntries() {
+        return roleCacheMaxEntries;
+    }
+
+    public void setRoleCacheMaxEntries(int roleCacheMaxEntries) {
+        this.roleCacheMaxEntries = roleCacheMaxEntries;
+    }
+
+    public long getRoleCacheExpiryTime() {
+        return roleCacheExpiryTime;
+    }
+
+    public void setRoleCacheExpiryTime(long roleCacheExpiryTime) {
+        this.roleCacheExpiryTime = roleCacheExpiryTime;
+    }
 }
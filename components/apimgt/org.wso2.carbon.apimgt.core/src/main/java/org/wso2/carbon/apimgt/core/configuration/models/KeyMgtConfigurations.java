@@ -45,6 +45,10 @@ public class KeyMgtConfigurations {
     private long defaultTokenValidityPeriod = 3600L;
     @Element(description = "OpenId Connect Userinfo Response JWT Signing Algorithm")
     private String oidcUserinfoJWTSigningAlgo = "SHA256withRSA";
+    @Element(description = "Maximum number of validated access tokens cached")
+    private int tokenCacheMaxEntries = 10000;
+    @Element(description = "Maximum time in seconds a validated access token is cached")
+    private long tokenCacheExpiryTime = 300L;
 
     public String getKeyManagerImplClass() {
         return keyManagerImplClass;
@@ -117,4 +121,20 @@ public class KeyMgtConfigurations {
     public void setOidcUserinfoJWTSigningAlgo(String oidcUserinfoJWTSigningAlgo) {
         this.oidcUserinfoJWTSigningAlgo = oidcUserinfoJWTSigningAlgo;
     }
+
+    public int getTokenCacheMaxEntries() {
+        return tokenCacheMaxEntries;
+    }
+
+    public void setTokenCacheMaxEntries(int tokenCacheMaxEntries) {
+        this.tokenCacheMaxEntries = tokenCacheMaxEntries;
+    }
+
+    public long getTokenCacheExpiryTime() {
+        return tokenCacheExpiryTime;
+    }
+
+    public void setTokenCacheExpiryTime(long tokenCacheExpiryTime) {
+        this.tokenCacheExpiryTime = tokenCacheExpiryTime;
+    }
 }
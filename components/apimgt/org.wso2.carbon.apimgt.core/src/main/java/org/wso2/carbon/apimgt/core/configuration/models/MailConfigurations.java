@@ -41,6 +41,16 @@ public class MailConfigurations {
     @Element(description = "StartTSL")
     private Boolean startTsl = true;
 
+    @Element(description = "Maximum number of recipients of a single mail. Notifications to more recipients are sent "
+            + "in batches over the same SMTP connection")
+    private int maxRecipientsPerMail = 50;
+
+    @Element(description = "Maximum number of attempts to send a batch of mails")
+    private int maxSendAttempts = 3;
+
+    @Element(description = "Time in milliseconds to wait before retrying to send a batch of mails")
+    private long retryInterval = 1000L;
+
     public String getSmtpHostname() {
         return smtpHostname;
     }
@@ -80,4 +90,28 @@ public class MailConfigurations {
     public void setStartTsl(Boolean startTsl) {
         this.startTsl = startTsl;
     }
+
+    public int getMaxRecipientsPerMail() {
+        return maxRecipientsPerMail;
+    }
+
+    public void setMaxRecipientsPerMail(int maxRecipientsPerMail) {
+        this.maxRecipientsPerMail = maxRecipientsPerMail;
+    }
+
+    public int getMaxSendAttempts() {
+        return maxSendAttempts;
+    }
+
+    public void setMaxSendAttempts(int maxSendAttempts) {
+        this.maxSendAttempts = maxSendAttempts;
+    }
+
+    public long getRetryInterval() {
+        return retryInterval;
+    }
+
+    public void setRetryInterval(long retryInterval) {
+        this.retryInterval = retryInterval;
+    }
 }
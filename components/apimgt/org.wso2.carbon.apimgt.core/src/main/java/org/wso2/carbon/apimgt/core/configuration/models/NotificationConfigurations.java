@@ -34,6 +34,13 @@ public class NotificationConfigurations {
     @Element(description = "Notification Configurations")
     private NewVersionNotifierConfigurations newVersionNotifierConfigurations = new NewVersionNotifierConfigurations();
 
+    @Element(description = "Number of threads sending notifications")
+    private int notifierThreadCount = 5;
+
+    @Element(description = "Maximum number of notifications waiting to be sent. Notifications are dropped once the "
+            + "queue is full")
+    private int notificationQueueSize = 1000;
+
     public Boolean getNotificationEnable() {
         return notificationEnable;
     }
@@ -57,4 +64,20 @@ public class NotificationConfigurations {
     public void setNewVersionNotifierConfiguration(NewVersionNotifierConfigurations newVersionNotifierConfiguration) {
         this.newVersionNotifierConfigurations = newVersionNotifierConfiguration;
     }
+
+    public int getNotifierThreadCount() {
+        return notifierThreadCount;
+    }
+
+    public void setNotifierThreadCount(int notifierThreadCount) {
+        this.notifierThreadCount = notifierThreadCount;
+    }
+
+    public int getNotificationQueueSize() {
+        return notificationQueueSize;
+    }
+
+    public void setNotificationQueueSize(int notificationQueueSize) {
+        this.notificationQueueSize = notificationQueueSize;
+    }
 }
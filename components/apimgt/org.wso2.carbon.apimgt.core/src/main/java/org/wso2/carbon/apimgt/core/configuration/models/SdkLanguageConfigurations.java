@@ -39,6 +39,20 @@ public class SdkLanguageConfigurations {
     @Element(description = "SDK Generation Supported Languages")
     private Map<String, String> sdkGenLanguages = new HashMap<>();
 
+    @Element(description = "Number of SDKs generated concurrently")
+    private int sdkGenerationThreads = 2;
+
+    @Element(description = "Number of SDK generation requests which can wait for a free generation thread")
+    private int sdkGenerationQueueSize = 20;
+
+    @Element(description = "Directory in which generated SDK archives are cached. Defaults to a directory in the " +
+            "temporary directory")
+    private String sdkCacheDirectory = "";
+
+    @Element(description = "Maximum total size in megabytes of the cached SDK archives. The least recently used " +
+            "archives are removed once it is exceeded")
+    private long sdkCacheSizeInMB = 256;
+
     public Map<String, String> getSdkGenLanguages() {
         return sdkGenLanguages;
     }
@@ -46,4 +60,36 @@ public class SdkLanguageConfigurations {
     public void setSdkGenLanguages(Map<String, String> sdkGenLanguages) {
         this.sdkGenLanguages = sdkGenLanguages;
     }
+
+    public int getSdkGenerationThreads() {
+        return sdkGenerationThreads;
+    }
+
+    public void setSdkGenerationThreads(int sdkGenerationThreads) {
+        this.sdkGenerationThreads = sdkGenerationThreads;
+    }
+
+    public int getSdkGenerationQueueSize() {
+        return sdkGenerationQueueSize;
+    }
+
+    public void setSdkGenerationQueueSize(int sdkGenerationQueueSize) {
+        this.sdkGenerationQueueSize = sdkGenerationQueueSize;
+    }
+
+    public String getSdkCacheDirectory() {
+        return sdkCacheDirectory;
+    }
+
+    public void setSdkCacheDirectory(String sdkCacheDirectory) {
+        this.sdkCacheDirectory = sdkCacheDirectory;
+    }
+
+    public long getSdkCacheSizeInMB() {
+        return sdkCacheSizeInMB;
+    }
+
+    public void setSdkCacheSizeInMB(long sdkCacheSizeInMB) {
+        this.sdkCacheSizeInMB = sdkCacheSizeInMB;
+    }
 }
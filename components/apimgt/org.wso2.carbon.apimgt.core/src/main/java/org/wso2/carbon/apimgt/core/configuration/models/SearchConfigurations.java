@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.configuration.models;
+
+import org.wso2.carbon.kernel.annotations.Configuration;
+import org.wso2.carbon.kernel.annotations.Element;
+
+/**
+ * Class to hold API search configurations
+ */
+@Configuration(description = "API Search Configurations")
+public class SearchConfigurations {
+
+    @Element(description = "Enable the in-memory full text search index for store API search")
+    private boolean indexEnabled = true;
+
+    @Element(description = "Interval in seconds at which the search index is rebuilt from the database, to pick up " +
+            "changes made on other nodes. 0 builds the index only at startup")
+    private long indexRebuildInterval = 1800;
+
+    public boolean isIndexEnabled() {
+        return indexEnabled;
+    }
+
+    public void setIndexEnabled(boolean indexEnabled) {
+        this.indexEnabled = indexEnabled;
+    }
+
+    public long getIndexRebuildInterval() {
+        return indexRebuildInterval;
+    }
+
+    public void setIndexRebuildInterval(long indexRebuildInterval) {
+        this.indexRebuildInterval = indexRebuildInterval;
+    }
+}
@@ -25,6 +25,7 @@ import org.wso2.carbon.apimgt.core.models.APISubscriptionResults;
 import org.wso2.carbon.apimgt.core.models.Subscription;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationResult;
+import org.wso2.carbon.apimgt.core.models.SubscriptionValidationResults;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 
 import java.util.List;
@@ -121,6 +122,43 @@ public interface APISubscriptionDAO {
     @CheckForNull
     List<SubscriptionValidationData> getAPISubscriptionsOfAPIForValidation(int limit) throws APIMgtDAOException;
 
+    /**
+     * Retrieve a page of all API Subscriptions for validation. Pages are ordered by subscription and the returned
+     * cursor identifies the last entry of the page, so that pages stay stable while subscriptions are being added or
+     * removed. The change sequence of the returned results is the one captured when the first page was retrieved.
+     *
+     * @param cursor Cursor returned with the previous page, or null to retrieve the first page
+     * @param limit  Maximum number of entries in the page, a negative value to retrieve all remaining entries
+     * @return {@link SubscriptionValidationResults} matching results
+     * @throws APIMgtDAOException If failed to get subscriptions or if the cursor is invalid.
+     */
+    SubscriptionValidationResults getAPISubscriptionsForValidation(String cursor, int limit)
+            throws APIMgtDAOException;
+
+    /**
+     * Retrieve the API Subscriptions for validation which were added, updated or removed after the given position
+     * of the subscription change log. The returned change sequence is not advanced past recent changes which may
+     * still be committed with lower positions, so changes after it may be returned again by the next call.
+     *
+     * @param changeSequence Change sequence returned with a previous result
+     * @param limit          Maximum number of changes to be read, a negative value to read all changes
+     * @return {@link SubscriptionValidationResults} holding the added/updated and removed subscriptions
+     * @throws APIMgtDAOException If failed to get subscription changes, or if the changes after the change
+     *                            sequence have been removed by {@link #pruneSubscriptionChanges(long)}.
+     */
+    SubscriptionValidationResults getAPISubscriptionChangesForValidation(long changeSequence, int limit)
+            throws APIMgtDAOException;
+
+    /**
+     * Remove the subscription changes which are older than the given retention time. Gateways whose change
+     * sequence precedes the removed changes have to retrieve all the subscriptions again.
+     *
+     * @param retentionSeconds Time in seconds for which subscription changes are kept
+     * @return number of removed changes
+     * @throws APIMgtDAOException If failed to remove subscription changes.
+     */
+    int pruneSubscriptionChanges(long retentionSeconds) throws APIMgtDAOException;
+
     /**
      * Retrieves all available API Subscriptions. This method supports result pagination and ensuring results
      * returned are those that belong to the specified username
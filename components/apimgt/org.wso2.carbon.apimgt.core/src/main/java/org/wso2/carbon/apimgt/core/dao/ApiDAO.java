@@ -20,6 +20,7 @@
 
 package org.wso2.carbon.apimgt.core.dao;
 
+import org.wso2.carbon.apimgt.core.api.ResultConsumer;
 import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.models.API;
 import org.wso2.carbon.apimgt.core.models.Comment;
@@ -69,6 +70,25 @@ public interface ApiDAO {
      */
     API getAPISummary(String apiID) throws APIMgtDAOException;
 
+    /**
+     * Retrieve the summaries of a list of APIs which are visible to a user
+     *
+     * @param apiIDs The UUIDs of the APIs
+     * @param roles  The roles of the user
+     * @param user   The username of the user
+     * @return summaries of the APIs which exist and are visible to the user, in the order of the given UUIDs
+     * @throws APIMgtDAOException if error occurs while accessing data layer
+     */
+    List<API> getAPISummaries(List<String> apiIDs, Set<String> roles, String user) throws APIMgtDAOException;
+
+    /**
+     * Retrieve all the APIs along with their tags, resources and permissions, e.g. to build a search index
+     *
+     * @return {@code List<API>} all the APIs
+     * @throws APIMgtDAOException if error occurs while accessing data layer
+     */
+    List<API> getAllAPIs() throws APIMgtDAOException;
+
     /**
      * Retrieves the summary of a Composite API. Summary contains only basic information
      * of the API. To get the complete API details, use {@link #getAPI(String)}
@@ -254,6 +274,14 @@ public interface ApiDAO {
      */
     void addAPI(API api) throws APIMgtDAOException;
 
+    /**
+     * Add several new APIs in a single transaction, so that either all or none of them are added
+     *
+     * @param apis The {@link API} objects to be added
+     * @throws APIMgtDAOException if error occurs while accessing data layer
+     */
+    void addAPIs(List<API> apis) throws APIMgtDAOException;
+
     /**
      * Create API that is associated with an Application. This is specifically required to support the creation of
      * Composite APIs which are always associated with a specific Application.
@@ -319,7 +347,7 @@ public interface ApiDAO {
      * Get image of a given API
      *
      * @param apiID The UUID of the respective API
-     * @return Image stream
+     * @return Image stream, which is read from the data layer as it is read and must be closed
      * @throws APIMgtDAOException if error occurs while accessing data layer
      *
      */
@@ -368,7 +396,8 @@ public interface ApiDAO {
     /**
      *
      * @param resourceID The UUID of the respective resource
-     * @return {@link InputStream} Document File content
+     * @return {@link InputStream} Document File content, which is read from the data layer as it is read and must be
+     * closed
      * @throws APIMgtDAOException if error occurs while accessing data layer
      */
     @CheckForNull
@@ -504,6 +533,14 @@ public interface ApiDAO {
      */
     List<Endpoint> getEndpoints() throws APIMgtDAOException;
 
+    /**
+     * Read all Endpoints, passing each Endpoint to the consumer as it is read from the data layer
+     *
+     * @param consumer  Consumer of the retrieved endpoints
+     * @throws APIMgtDAOException   If failed to get endpoints or if the consumer failed.
+     */
+    void getEndpoints(ResultConsumer<Endpoint> consumer) throws APIMgtDAOException;
+
     /**
      * Update swagger definition of a given API
      *
@@ -546,7 +583,7 @@ public interface ApiDAO {
      * Gets a WSDL archive content stream for an API.
      * 
      * @param apiId UUID of API
-     * @return WSDL archive content of the API
+     * @return WSDL archive content of the API, which is read from the data layer as it is read and must be closed
      * @throws APIMgtDAOException If error occurs while accessing the WSDL from the data layer
      */
     InputStream getWSDLArchive(String apiId) throws APIMgtDAOException;
@@ -602,7 +639,7 @@ public interface ApiDAO {
      * Get gateway configuration of a given Composite API
      *
      * @param apiID The UUID of the respective Composite API
-     * @return gateway configuration String
+     * @return gateway configuration stream, which is read from the data layer as it is read and must be closed
      * @throws APIMgtDAOException if error occurs while accessing data layer
      *
      */
@@ -779,6 +816,18 @@ public interface ApiDAO {
      */
     List<API> getAPIsByGatewayLabel(List<String> gatewayLabels) throws APIMgtDAOException;
 
+    /**
+     * Reads summaries of the APIs with given gateway labels and optionally a given life cycle status, passing each
+     * API to the consumer as it is read from the data layer.
+     *
+     * @param gatewayLabels A list of gateway labels
+     * @param status Life cycle status, or {@code null} to read APIs in any status
+     * @param consumer Consumer of the retrieved API summaries
+     * @throws APIMgtDAOException if error occurs while accessing data layer or if the consumer failed
+     */
+    void getAPISummariesByGatewayLabel(List<String> gatewayLabels, @CheckForNull String status,
+                                       ResultConsumer<API> consumer) throws APIMgtDAOException;
+
     /**
      * Add a rating for an api.
      * By default the max rating value is 5. To update the max rating, add "ratingMaxValue" config to deployment.yaml
@@ -20,7 +20,7 @@
 
 package org.wso2.carbon.apimgt.core.dao;
 
-
+import org.wso2.carbon.apimgt.core.api.ResultConsumer;
 import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.models.Application;
 import org.wso2.carbon.apimgt.core.models.OAuthApplicationInfo;
@@ -175,4 +175,12 @@ public interface ApplicationDAO {
      */
     List<Application> getAllApplications() throws APIMgtDAOException;
 
+    /**
+     * Reads all Applications, passing each Application to the consumer as it is read
+     *
+     * @param consumer Consumer of the retrieved Applications
+     * @throws APIMgtDAOException if DB level exception occurred or if the consumer failed
+     */
+    void getAllApplications(ResultConsumer<Application> consumer) throws APIMgtDAOException;
+
 }
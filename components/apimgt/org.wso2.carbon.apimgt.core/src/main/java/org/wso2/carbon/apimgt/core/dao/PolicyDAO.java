@@ -21,6 +21,7 @@
 package org.wso2.carbon.apimgt.core.dao;
 
 import org.wso2.carbon.apimgt.core.api.APIMgtAdminService;
+import org.wso2.carbon.apimgt.core.api.ResultConsumer;
 import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.exception.APIMgtResourceNotFoundException;
 import org.wso2.carbon.apimgt.core.models.BlockConditions;
@@ -232,6 +233,14 @@ public interface PolicyDAO {
      */
     Set<PolicyValidationData> getAllPolicies() throws APIMgtDAOException;
 
+    /**
+     * Read simplified Policies, passing each policy to the consumer as it is read from the Data layer
+     *
+     * @param consumer consumer of the retrieved policies
+     * @throws APIMgtDAOException if failed to retrieve policies from Data layer or if the consumer failed
+     */
+    void getAllPolicies(ResultConsumer<PolicyValidationData> consumer) throws APIMgtDAOException;
+
     /**
      * Gets all Policies by level and UUID
      *
@@ -269,6 +278,14 @@ public interface PolicyDAO {
      */
     List<BlockConditions> getBlockConditions() throws APIMgtDAOException;
 
+    /**
+     * Read all block conditions, passing each block condition to the consumer as it is read.
+     *
+     * @param consumer consumer of the retrieved block conditions
+     * @throws APIMgtDAOException if getting all block conditions failed or if the consumer failed
+     */
+    void getBlockConditions(ResultConsumer<BlockConditions> consumer) throws APIMgtDAOException;
+
     /**
      * Update the block condition state true (Enabled) /false (Disabled) given the UUID.
      *
@@ -20,6 +20,7 @@
 
 package org.wso2.carbon.apimgt.core.dao.impl;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.dao.APISubscriptionDAO;
@@ -32,10 +33,12 @@ import org.wso2.carbon.apimgt.core.models.Application;
 import org.wso2.carbon.apimgt.core.models.Subscription;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationResult;
+import org.wso2.carbon.apimgt.core.models.SubscriptionValidationResults;
 import org.wso2.carbon.apimgt.core.models.policy.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants.SubscriptionStatus;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -43,7 +46,12 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Default implementation of the APISubscriptionDAO interface. Uses SQL syntax that is common to H2 and MySQL DBs.
@@ -52,6 +60,13 @@ import java.util.List;
 public class APISubscriptionDAOImpl implements APISubscriptionDAO {
 
     private static final String AM_SUBSCRIPTION_TABLE_NAME = "AM_SUBSCRIPTION";
+    private static final String SUBSCRIPTION_VALIDATION_DATA_SELECT = "SELECT SUBS.UUID AS SUBS_UUID, " +
+            "SUBS.API_ID AS API_ID, SUBS.APPLICATION_ID AS APP_ID, SUBS.SUB_STATUS AS SUB_STATUS, " +
+            "API.PROVIDER AS API_PROVIDER, API.NAME AS API_NAME, API.CONTEXT AS API_CONTEXT, " +
+            "API.VERSION AS API_VERSION, SUBS.TIER_ID AS SUBS_POLICY, KEY_MAP.CLIENT_ID AS CLIENT_ID, " +
+            "KEY_MAP.KEY_TYPE AS KEY_ENV_TYPE FROM AM_SUBSCRIPTION SUBS, AM_API API, AM_APP_KEY_MAPPING KEY_MAP " +
+            "WHERE SUBS.API_ID = API.UUID AND KEY_MAP.APPLICATION_ID = SUBS.APPLICATION_ID ";
+    private static final String CURSOR_SEPARATOR = ":";
     private static final Logger log = LoggerFactory.getLogger(APISubscriptionDAOImpl.class);
 
     /**
@@ -151,12 +166,12 @@ public class APISubscriptionDAOImpl implements APISubscriptionDAO {
                 "API.CONTEXT AS API_CONTEXT, API.VERSION AS API_VERSION, POLICY.NAME AS SUBS_POLICY " +
                 "FROM AM_SUBSCRIPTION SUBS, AM_API API, AM_SUBSCRIPTION_POLICY POLICY  " +
                 "WHERE SUBS.APPLICATION_ID = ? AND SUBS.API_ID = API.UUID AND SUBS.TIER_ID = POLICY.UUID " +
-                "AND API.API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)";
+                "AND API.API_TYPE_ID = ?";
 
         try (Connection conn = DAOUtil.getConnection();
              PreparedStatement ps = conn.prepareStatement(getSubscriptionsByAppSql)) {
             ps.setString(1, applicationId);
-            ps.setString(2, apiType.toString());
+            ps.setInt(2, LookupTableRegistry.getApiTypeID(conn, apiType));
             try (ResultSet rs = ps.executeQuery()) {
                 return createSubscriptionsWithApiInformationOnly(rs);
             }
@@ -200,7 +215,7 @@ public class APISubscriptionDAOImpl implements APISubscriptionDAO {
     /**
      * Retrieve all API Subscriptions for validation
      *
-     * @param limit Subscription Limit
+     * @param limit Maximum number of subscriptions, a negative value to retrieve all subscriptions
      * @return A list of {@link SubscriptionValidationData} objects
      * @throws APIMgtDAOException If failed to get subscriptions.
      */
@@ -209,18 +224,150 @@ public class APISubscriptionDAOImpl implements APISubscriptionDAO {
         if (limit == 0) {
             return new ArrayList<>();
         }
-        final String getSubscriptionsSql = "SELECT SUBS.API_ID AS API_ID,SUBS.APPLICATION_ID AS APP_ID,SUBS" +
-                ".SUB_STATUS AS SUB_STATUS, API.PROVIDER AS API_PROVIDER, API.NAME AS API_NAME,API.CONTEXT AS " +
-                "API_CONTEXT, API.VERSION AS API_VERSION,SUBS.TIER_ID AS SUBS_POLICY , KEY_MAP.CLIENT_ID AS " +
-                "CLIENT_ID,KEY_MAP.KEY_TYPE AS KEY_ENV_TYPE FROM AM_SUBSCRIPTION SUBS, AM_API API,AM_APP_KEY_MAPPING " +
-                "KEY_MAP WHERE SUBS.API_ID = API.UUID AND KEY_MAP.APPLICATION_ID = SUBS.APPLICATION_ID";
-        try (Connection conn = DAOUtil.getConnection();
-             PreparedStatement ps = conn.prepareStatement(getSubscriptionsSql)) {
-            try (ResultSet rs = ps.executeQuery()) {
-                return createSubscriptionValidationDataFromResultSet(rs);
+        return getAPISubscriptionsForValidation(null, limit).getSubscriptionList();
+    }
+
+    /**
+     * @see APISubscriptionDAO#getAPISubscriptionsForValidation(String, int)
+     */
+    @Override
+    public SubscriptionValidationResults getAPISubscriptionsForValidation(String cursor, int limit)
+            throws APIMgtDAOException {
+        final String getSubscriptionsSql = SUBSCRIPTION_VALIDATION_DATA_SELECT +
+                "ORDER BY SUBS.UUID, KEY_MAP.KEY_TYPE";
+        final String getSubscriptionsAfterCursorSql = SUBSCRIPTION_VALIDATION_DATA_SELECT +
+                "AND (SUBS.UUID > ? OR (SUBS.UUID = ? AND KEY_MAP.KEY_TYPE > ?)) ORDER BY SUBS.UUID, KEY_MAP.KEY_TYPE";
+        String[] cursorValues = cursor == null ? null : decodeCursor(cursor);
+        try (Connection conn = DAOUtil.getConnection()) {
+            SubscriptionValidationResults results = new SubscriptionValidationResults();
+            // the change sequence is captured before reading the first page, so that changes made while pages are
+            // being read are also returned when the gateway requests changes after this sequence. Only settled
+            // changes are skipped, since recent changes may be committed after the first page is read.
+            long changeSequence = cursorValues == null ? SubscriptionChangeLogDAO.getSettledChangeSequence(conn) :
+                    Long.parseLong(cursorValues[0]);
+            results.setChangeSequence(changeSequence);
+            try (PreparedStatement ps = conn.prepareStatement(cursorValues == null ? getSubscriptionsSql :
+                    getSubscriptionsAfterCursorSql)) {
+                if (cursorValues != null) {
+                    ps.setString(1, cursorValues[1]);
+                    ps.setString(2, cursorValues[1]);
+                    ps.setString(3, cursorValues[2]);
+                }
+                if (limit > 0) {
+                    ps.setMaxRows(limit + 1);
+                    ps.setFetchSize(limit + 1);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    List<SubscriptionValidationData> subscriptionList = new ArrayList<>();
+                    String lastSubscriptionId = null;
+                    String lastKeyType = null;
+                    while (rs.next()) {
+                        if (limit > 0 && subscriptionList.size() == limit) {
+                            results.setMoreResultsExist(true);
+                            results.setNextCursor(encodeCursor(changeSequence, lastSubscriptionId, lastKeyType));
+                            break;
+                        }
+                        subscriptionList.add(createSubscriptionValidationData(rs));
+                        lastSubscriptionId = rs.getString("SUBS_UUID");
+                        lastKeyType = rs.getString("KEY_ENV_TYPE");
+                    }
+                    results.setSubscriptionList(subscriptionList);
+                }
             }
+            return results;
         } catch (SQLException e) {
-            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting api subscriptions for validation", e);
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting api subscriptions for validation" +
+                    "(cursor: " + cursor + ", limit: " + limit + ")", e);
+        }
+    }
+
+    /**
+     * @see APISubscriptionDAO#getAPISubscriptionChangesForValidation(long, int)
+     */
+    @Override
+    public SubscriptionValidationResults getAPISubscriptionChangesForValidation(long changeSequence, int limit)
+            throws APIMgtDAOException {
+        final String getChangesSql = "SELECT SEQUENCE_ID, SUBSCRIPTION_ID, CHANGE_TYPE, API_CONTEXT, API_VERSION, " +
+                "APPLICATION_ID, CLIENT_ID, KEY_TYPE, CHANGED_TIME FROM AM_SUBSCRIPTION_CHANGES " +
+                "WHERE SEQUENCE_ID > ? ORDER BY SEQUENCE_ID";
+        try (Connection conn = DAOUtil.getConnection()) {
+            if (SubscriptionChangeLogDAO.isPruned(conn, changeSequence)) {
+                throw new APIMgtDAOException("Subscription changes after change sequence " + changeSequence +
+                        " have been removed", ExceptionCodes.SUBSCRIPTION_CHANGES_PRUNED);
+            }
+            SubscriptionValidationResults results = new SubscriptionValidationResults();
+            // the returned sequence is only advanced up to the first missing sequence ID which may still be
+            // committed, so that the changes after it are read again by the next request
+            long settledSequence = changeSequence;
+            boolean unsettledGapFound = false;
+            Timestamp settleTime = SubscriptionChangeLogDAO.getSettleTime();
+            // only the latest change of a subscription matters, hence changes are collapsed per subscription
+            Set<String> changedSubscriptions = new LinkedHashSet<>();
+            Map<String, List<SubscriptionValidationData>> removedSubscriptions = new LinkedHashMap<>();
+            try (PreparedStatement ps = conn.prepareStatement(getChangesSql)) {
+                ps.setLong(1, changeSequence);
+                if (limit > 0) {
+                    ps.setMaxRows(limit + 1);
+                    ps.setFetchSize(limit + 1);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    int changeCount = 0;
+                    while (rs.next()) {
+                        if (limit > 0 && changeCount == limit) {
+                            results.setMoreResultsExist(true);
+                            break;
+                        }
+                        changeCount++;
+                        long sequence = rs.getLong("SEQUENCE_ID");
+                        if (!unsettledGapFound) {
+                            Timestamp changedTime = rs.getTimestamp("CHANGED_TIME");
+                            if (sequence == settledSequence + 1 || changedTime == null ||
+                                    changedTime.before(settleTime)) {
+                                settledSequence = sequence;
+                            } else {
+                                unsettledGapFound = true;
+                            }
+                        }
+                        String subscriptionId = rs.getString("SUBSCRIPTION_ID");
+                        if (SubscriptionChangeLogDAO.CHANGE_TYPE_DELETE.equals(rs.getString("CHANGE_TYPE"))) {
+                            changedSubscriptions.remove(subscriptionId);
+                            SubscriptionValidationData removedSubscription = new SubscriptionValidationData(
+                                    rs.getString("API_CONTEXT"), rs.getString("API_VERSION"),
+                                    rs.getString("CLIENT_ID"));
+                            removedSubscription.setApplicationId(rs.getString("APPLICATION_ID"));
+                            removedSubscription.setKeyEnvType(rs.getString("KEY_TYPE"));
+                            removedSubscriptions.computeIfAbsent(subscriptionId, k -> new ArrayList<>())
+                                    .add(removedSubscription);
+                        } else {
+                            changedSubscriptions.add(subscriptionId);
+                        }
+                    }
+                }
+            }
+            results.setSubscriptionList(getSubscriptionValidationData(conn, new ArrayList<>(changedSubscriptions)));
+            List<SubscriptionValidationData> removedSubscriptionList = new ArrayList<>();
+            for (List<SubscriptionValidationData> removed : removedSubscriptions.values()) {
+                removedSubscriptionList.addAll(removed);
+            }
+            results.setRemovedSubscriptionList(removedSubscriptionList);
+            results.setChangeSequence(settledSequence);
+            return results;
+        } catch (SQLException e) {
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting api subscription changes for " +
+                    "validation(changeSequence: " + changeSequence + ", limit: " + limit + ")", e);
+        }
+    }
+
+    /**
+     * @see APISubscriptionDAO#pruneSubscriptionChanges(long)
+     */
+    @Override
+    public int pruneSubscriptionChanges(long retentionSeconds) throws APIMgtDAOException {
+        try (Connection conn = DAOUtil.getConnection()) {
+            return SubscriptionChangeLogDAO.pruneChanges(conn, retentionSeconds);
+        } catch (SQLException e) {
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "removing subscription changes older than " +
+                    retentionSeconds + " seconds", e);
         }
     }
 
@@ -451,6 +598,7 @@ public class APISubscriptionDAOImpl implements APISubscriptionDAO {
             boolean originalAutoCommitState = conn.getAutoCommit();
             conn.setAutoCommit(false);
             try (PreparedStatement ps = conn.prepareStatement(deleteSubscriptionSql)) {
+                SubscriptionChangeLogDAO.recordDeletion(conn, subscriptionId);
                 ps.setString(1, subscriptionId);
                 ps.execute();
                 conn.commit();
@@ -539,6 +687,7 @@ public class APISubscriptionDAOImpl implements APISubscriptionDAO {
                 preparedStatement.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
                 preparedStatement.setString(3, subId);
                 preparedStatement.execute();
+                SubscriptionChangeLogDAO.recordChange(conn, subId, SubscriptionChangeLogDAO.CHANGE_TYPE_UPDATE);
                 conn.commit();
             } catch (SQLException ex) {
                 conn.rollback();
@@ -578,6 +727,7 @@ public class APISubscriptionDAOImpl implements APISubscriptionDAO {
                 preparedStatement.setString(1, policy);
                 preparedStatement.setString(2, subId);
                 preparedStatement.execute();
+                SubscriptionChangeLogDAO.recordChange(conn, subId, SubscriptionChangeLogDAO.CHANGE_TYPE_UPDATE);
                 conn.commit();
             } catch (SQLException ex) {
                 conn.rollback();
@@ -648,15 +798,7 @@ public class APISubscriptionDAOImpl implements APISubscriptionDAO {
         }
         try {
             while (rs.next()) {
-                SubscriptionValidationData subValidationData = new SubscriptionValidationData(
-                        rs.getString("API_CONTEXT"), rs.getString("API_VERSION"), rs.getString("CLIENT_ID"));
-                subValidationData.setSubscriptionPolicy(rs.getString("SUBS_POLICY"));
-                subValidationData.setApiName(rs.getString("API_NAME"));
-                subValidationData.setApiProvider(rs.getString("API_PROVIDER"));
-                subValidationData.setKeyEnvType(rs.getString("KEY_ENV_TYPE"));
-                subValidationData.setApplicationId(rs.getString("APP_ID"));
-                subValidationData.setStatus(rs.getString("SUB_STATUS"));
-                subscriptionList.add(subValidationData);
+                subscriptionList.add(createSubscriptionValidationData(rs));
             }
         } catch (SQLException e) {
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "creating subscription validation data", e);
@@ -664,6 +806,63 @@ public class APISubscriptionDAOImpl implements APISubscriptionDAO {
         return subscriptionList;
     }
 
+    private SubscriptionValidationData createSubscriptionValidationData(ResultSet rs) throws SQLException {
+        SubscriptionValidationData subValidationData = new SubscriptionValidationData(
+                rs.getString("API_CONTEXT"), rs.getString("API_VERSION"), rs.getString("CLIENT_ID"));
+        subValidationData.setSubscriptionPolicy(rs.getString("SUBS_POLICY"));
+        subValidationData.setApiName(rs.getString("API_NAME"));
+        subValidationData.setApiProvider(rs.getString("API_PROVIDER"));
+        subValidationData.setKeyEnvType(rs.getString("KEY_ENV_TYPE"));
+        subValidationData.setApplicationId(rs.getString("APP_ID"));
+        subValidationData.setStatus(rs.getString("SUB_STATUS"));
+        return subValidationData;
+    }
+
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    private List<SubscriptionValidationData> getSubscriptionValidationData(Connection conn,
+                                                                           List<String> subscriptionIds)
+            throws SQLException {
+        List<SubscriptionValidationData> subscriptionList = new ArrayList<>();
+        for (int start = 0; start < subscriptionIds.size(); start += ApiBulkLoadDAO.MAX_IN_CLAUSE_SIZE) {
+            List<String> chunk = subscriptionIds.subList(start,
+                    Math.min(start + ApiBulkLoadDAO.MAX_IN_CLAUSE_SIZE, subscriptionIds.size()));
+            final String query = SUBSCRIPTION_VALIDATION_DATA_SELECT + "AND SUBS.UUID IN (" +
+                    DAOUtil.getParameterString(chunk.size()) + ")";
+            try (PreparedStatement ps = conn.prepareStatement(query)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    ps.setString(i + 1, chunk.get(i));
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        subscriptionList.add(createSubscriptionValidationData(rs));
+                    }
+                }
+            }
+        }
+        return subscriptionList;
+    }
+
+    private static String encodeCursor(long changeSequence, String subscriptionId, String keyType) {
+        String cursor = changeSequence + CURSOR_SEPARATOR + subscriptionId + CURSOR_SEPARATOR + keyType;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) throws APIMgtDAOException {
+        try {
+            String[] cursorValues = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(CURSOR_SEPARATOR, 3);
+            if (cursorValues.length == 3) {
+                Long.parseLong(cursorValues[0]);
+                return cursorValues;
+            }
+        } catch (IllegalArgumentException e) {
+            throw new APIMgtDAOException("Invalid subscription cursor: " + cursor, e,
+                    ExceptionCodes.INVALID_PAGINATION_CURSOR);
+        }
+        throw new APIMgtDAOException("Invalid subscription cursor: " + cursor,
+                ExceptionCodes.INVALID_PAGINATION_CURSOR);
+    }
+
     private List<Subscription> createSubscriptionsFromResultSet(ResultSet rs) throws APIMgtDAOException {
         List<Subscription> subscriptionList = new ArrayList<>();
         Subscription subscription;
@@ -783,5 +982,6 @@ public class APISubscriptionDAOImpl implements APISubscriptionDAO {
             ps.setTimestamp(6, Timestamp.valueOf(LocalDateTime.now()));
             ps.execute();
         }
+        SubscriptionChangeLogDAO.recordChange(conn, uuid, SubscriptionChangeLogDAO.CHANGE_TYPE_INSERT);
     }
 }
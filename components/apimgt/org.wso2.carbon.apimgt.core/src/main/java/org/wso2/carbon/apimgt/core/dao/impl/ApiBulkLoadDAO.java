@@ -0,0 +1,279 @@
+/*
+ *
+ *   Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 Inc. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.core.dao.impl;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.wso2.carbon.apimgt.core.models.Endpoint;
+import org.wso2.carbon.apimgt.core.models.ResourceCategory;
+import org.wso2.carbon.apimgt.core.models.UriTemplate;
+import org.wso2.carbon.apimgt.core.models.policy.APIPolicy;
+import org.wso2.carbon.apimgt.core.models.policy.Policy;
+import org.wso2.carbon.apimgt.core.models.policy.SubscriptionPolicy;
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads the child collections of a set of APIs with a single IN clause query per table, so that the number of
+ * queries needed to build full {@link org.wso2.carbon.apimgt.core.models.API} objects does not depend on the number
+ * of APIs or operations being loaded.
+ */
+class ApiBulkLoadDAO {
+
+    /**
+     * Maximum number of API IDs bound to a single IN clause. Larger ID lists are split into chunks of this size to
+     * stay within the bind variable limits of all supported databases.
+     */
+    static final int MAX_IN_CLAUSE_SIZE = 500;
+
+    private ApiBulkLoadDAO() {
+    }
+
+    /**
+     * Callback used to consume the rows returned for a chunk of API IDs
+     */
+    private interface RowHandler {
+        void handle(ResultSet rs) throws SQLException, IOException;
+    }
+
+    static Map<String, Set<String>> getVisibleRoles(Connection connection, List<String> apiIds)
+            throws SQLException, IOException {
+        final String query = "SELECT API_ID, ROLE FROM AM_API_VISIBLE_ROLES WHERE API_ID IN (%s)";
+        Map<String, Set<String>> roles = new HashMap<>();
+
+        executeForApis(connection, query, apiIds, rs ->
+                roles.computeIfAbsent(rs.getString("API_ID"), k -> new HashSet<>()).add(rs.getString("ROLE")));
+
+        return roles;
+    }
+
+    static Map<String, Set<String>> getTags(Connection connection, List<String> apiIds)
+            throws SQLException, IOException {
+        final String query = "SELECT M.API_ID AS API_ID, T.NAME AS NAME FROM AM_API_TAG_MAPPING M " +
+                "INNER JOIN AM_TAGS T ON M.TAG_ID = T.TAG_ID WHERE M.API_ID IN (%s)";
+        Map<String, Set<String>> tags = new HashMap<>();
+
+        executeForApis(connection, query, apiIds, rs ->
+                tags.computeIfAbsent(rs.getString("API_ID"), k -> new HashSet<>()).add(rs.getString("NAME")));
+
+        return tags;
+    }
+
+    static Map<String, Set<String>> getLabelNames(Connection connection, List<String> apiIds)
+            throws SQLException, IOException {
+        final String query = "SELECT M.API_ID AS API_ID, L.NAME AS NAME FROM AM_API_LABEL_MAPPING M " +
+                "INNER JOIN AM_LABELS L ON M.LABEL_ID = L.LABEL_ID WHERE M.API_ID IN (%s)";
+        Map<String, Set<String>> labels = new HashMap<>();
+
+        executeForApis(connection, query, apiIds, rs ->
+                labels.computeIfAbsent(rs.getString("API_ID"), k -> new HashSet<>()).add(rs.getString("NAME")));
+
+        return labels;
+    }
+
+    static Map<String, Set<String>> getTransports(Connection connection, List<String> apiIds)
+            throws SQLException, IOException {
+        final String query = "SELECT API_ID, TRANSPORT FROM AM_API_TRANSPORTS WHERE API_ID IN (%s)";
+        Map<String, Set<String>> transports = new HashMap<>();
+
+        executeForApis(connection, query, apiIds, rs -> transports.computeIfAbsent(rs.getString("API_ID"),
+                k -> new HashSet<>()).add(rs.getString("TRANSPORT")));
+
+        return transports;
+    }
+
+    static Map<String, String> getTextValuesForCategory(Connection connection, List<String> apiIds,
+                                                        ResourceCategory category) throws SQLException, IOException {
+        final String query = "SELECT API_ID, RESOURCE_TEXT_VALUE FROM AM_API_RESOURCES WHERE API_ID IN (%s) AND " +
+                "RESOURCE_CATEGORY_ID = (SELECT RESOURCE_CATEGORY_ID FROM AM_RESOURCE_CATEGORIES " +
+                "WHERE RESOURCE_CATEGORY = ?)";
+        Map<String, String> textValues = new HashMap<>();
+
+        executeForApis(connection, query, apiIds, rs ->
+                textValues.put(rs.getString("API_ID"), rs.getString("RESOURCE_TEXT_VALUE")), category.toString());
+
+        return textValues;
+    }
+
+    static Map<String, Map<String, Integer>> getPermissionMaps(Connection connection, List<String> apiIds)
+            throws SQLException, IOException {
+        final String query = "SELECT API_ID, GROUP_ID, PERMISSION FROM AM_API_GROUP_PERMISSION WHERE API_ID IN (%s)";
+        Map<String, Map<String, Integer>> permissions = new HashMap<>();
+
+        executeForApis(connection, query, apiIds, rs -> permissions.computeIfAbsent(rs.getString("API_ID"),
+                k -> new HashMap<>()).put(rs.getString("GROUP_ID"), rs.getInt("PERMISSION")));
+
+        return permissions;
+    }
+
+    static Map<String, Map<String, Endpoint>> getEndpoints(Connection connection, List<String> apiIds)
+            throws SQLException, IOException {
+        final String query = "SELECT AM_ENDPOINT.UUID,AM_ENDPOINT.NAME,AM_ENDPOINT.SECURITY_CONFIGURATION," +
+                "AM_ENDPOINT.APPLICABLE_LEVEL,AM_ENDPOINT.ENDPOINT_CONFIGURATION,AM_ENDPOINT.TPS,AM_ENDPOINT.TYPE," +
+                "AM_API_ENDPOINT_MAPPING.TYPE AS ENDPOINT_LEVEL,AM_API_ENDPOINT_MAPPING.API_ID AS API_ID " +
+                "FROM AM_API_ENDPOINT_MAPPING INNER JOIN AM_ENDPOINT ON " +
+                "AM_API_ENDPOINT_MAPPING.ENDPOINT_ID=AM_ENDPOINT.UUID WHERE AM_API_ENDPOINT_MAPPING.API_ID IN (%s)";
+        Map<String, Map<String, Endpoint>> endpoints = new HashMap<>();
+
+        executeForApis(connection, query, apiIds, rs -> {
+            Endpoint endpoint = ApiDAOImpl.constructEndPointDetails(rs);
+            if (APIMgtConstants.GLOBAL_ENDPOINT.equals(endpoint.getApplicableLevel())) {
+                endpoint = new Endpoint.Builder().id(endpoint.getId())
+                        .applicableLevel(APIMgtConstants.GLOBAL_ENDPOINT).build();
+            }
+            endpoints.computeIfAbsent(rs.getString("API_ID"), k -> new HashMap<>())
+                    .put(rs.getString("ENDPOINT_LEVEL"), endpoint);
+        });
+
+        return endpoints;
+    }
+
+    /**
+     * Retrieves the URI templates of the given APIs along with the endpoints of each operation.
+     *
+     * @param connection DB connection
+     * @param apiIds     IDs of the APIs
+     * @return URI templates keyed by template ID, grouped by API ID
+     * @throws SQLException if error occurs while accessing data layer
+     * @throws IOException  if error occurs while reading endpoint configurations
+     */
+    static Map<String, Map<String, UriTemplate>> getUriTemplates(Connection connection, List<String> apiIds)
+            throws SQLException, IOException {
+        final String operationQuery = "SELECT operationMapping.OPERATION_ID AS OPERATION_ID," +
+                "operationMapping.API_ID AS API_ID,operationMapping.HTTP_METHOD AS HTTP_METHOD," +
+                "operationMapping.URL_PATTERN AS URL_PATTERN,operationMapping.AUTH_SCHEME AS AUTH_SCHEME," +
+                "apiPolicy.NAME AS POLICY_NAME FROM AM_API_OPERATION_MAPPING operationMapping INNER JOIN " +
+                "AM_API_POLICY apiPolicy ON operationMapping.API_POLICY_ID = apiPolicy.UUID " +
+                "WHERE operationMapping.API_ID IN (%s)";
+        final String endpointQuery = "SELECT AM_ENDPOINT.UUID,AM_ENDPOINT.NAME,AM_ENDPOINT.SECURITY_CONFIGURATION," +
+                "AM_ENDPOINT.APPLICABLE_LEVEL,AM_ENDPOINT.ENDPOINT_CONFIGURATION,AM_ENDPOINT.TPS,AM_ENDPOINT.TYPE," +
+                "AM_API_RESOURCE_ENDPOINT.TYPE AS ENDPOINT_LEVEL,AM_API_RESOURCE_ENDPOINT.API_ID AS API_ID," +
+                "AM_API_RESOURCE_ENDPOINT.OPERATION_ID AS OPERATION_ID FROM AM_API_RESOURCE_ENDPOINT INNER JOIN " +
+                "AM_ENDPOINT ON AM_API_RESOURCE_ENDPOINT.ENDPOINT_ID=AM_ENDPOINT.UUID " +
+                "WHERE AM_API_RESOURCE_ENDPOINT.API_ID IN (%s)";
+
+        Map<String, Map<String, Map<String, Endpoint>>> operationEndpoints = new HashMap<>();
+        executeForApis(connection, endpointQuery, apiIds, rs -> {
+            Endpoint endpoint = ApiDAOImpl.constructEndPointDetails(rs);
+            if (APIMgtConstants.API_SPECIFIC_ENDPOINT.equals(endpoint.getApplicableLevel())) {
+                endpoint = new Endpoint.Builder().id(endpoint.getId())
+                        .applicableLevel(endpoint.getApplicableLevel()).build();
+            }
+            operationEndpoints.computeIfAbsent(rs.getString("API_ID"), k -> new HashMap<>())
+                    .computeIfAbsent(rs.getString("OPERATION_ID"), k -> new HashMap<>())
+                    .put(rs.getString("ENDPOINT_LEVEL"), endpoint);
+        });
+
+        Map<String, Map<String, UriTemplate>> uriTemplates = new HashMap<>();
+        executeForApis(connection, operationQuery, apiIds, rs -> {
+            String apiId = rs.getString("API_ID");
+            String operationId = rs.getString("OPERATION_ID");
+            Map<String, Endpoint> endpoints = new HashMap<>();
+            Map<String, Map<String, Endpoint>> endpointsOfApi = operationEndpoints.get(apiId);
+            if (endpointsOfApi != null && endpointsOfApi.containsKey(operationId)) {
+                endpoints = endpointsOfApi.get(operationId);
+            }
+
+            UriTemplate uriTemplate = new UriTemplate.UriTemplateBuilder()
+                    .uriTemplate(rs.getString("URL_PATTERN")).authType(rs.getString("AUTH_SCHEME"))
+                    .httpVerb(rs.getString("HTTP_METHOD"))
+                    .policy(new APIPolicy(rs.getString("POLICY_NAME"))).templateId(operationId)
+                    .endpoint(endpoints).build();
+            uriTemplates.computeIfAbsent(apiId, k -> new HashMap<>()).put(operationId, uriTemplate);
+        });
+
+        return uriTemplates;
+    }
+
+    static Map<String, Set<Policy>> getSubscriptionPolicies(Connection connection, List<String> apiIds)
+            throws SQLException, IOException {
+        final String query = "SELECT apimsubmapping.API_ID AS API_ID, amPolcySub.NAME AS NAME " +
+                "FROM AM_API_SUBS_POLICY_MAPPING apimsubmapping INNER JOIN AM_SUBSCRIPTION_POLICY amPolcySub " +
+                "ON apimsubmapping.SUBSCRIPTION_POLICY_ID = amPolcySub.UUID WHERE apimsubmapping.API_ID IN (%s)";
+        Map<String, Set<Policy>> policies = new HashMap<>();
+
+        executeForApis(connection, query, apiIds, rs -> policies.computeIfAbsent(rs.getString("API_ID"),
+                k -> new HashSet<>()).add(new SubscriptionPolicy(rs.getString("NAME"))));
+
+        return policies;
+    }
+
+    static Map<String, Policy> getApiPolicies(Connection connection, List<String> apiIds)
+            throws SQLException, IOException {
+        final String query = "SELECT apimpolicymapping.API_ID AS API_ID, amapipolicy.NAME AS POLICY_NAME " +
+                "FROM AM_API_POLICY_MAPPING apimpolicymapping INNER JOIN AM_API_POLICY amapipolicy " +
+                "ON apimpolicymapping.API_POLICY_ID = amapipolicy.UUID WHERE apimpolicymapping.API_ID IN (%s)";
+        Map<String, Policy> policies = new HashMap<>();
+
+        executeForApis(connection, query, apiIds, rs ->
+                policies.putIfAbsent(rs.getString("API_ID"), new APIPolicy(rs.getString("POLICY_NAME"))));
+
+        return policies;
+    }
+
+    /**
+     * Executes the given query for each chunk of the API ID list. The query must contain a single {@code %s}
+     * placeholder which is replaced with the bind parameters of the IN clause. Any additional parameters are bound
+     * after the API IDs.
+     *
+     * @param connection      DB connection
+     * @param queryTemplate   query containing the IN clause placeholder
+     * @param apiIds          IDs of the APIs
+     * @param handler         consumer of each returned row
+     * @param extraParameters parameters to be bound after the API IDs
+     * @throws SQLException if error occurs while accessing data layer
+     * @throws IOException  if error occurs while reading row data
+     */
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    private static void executeForApis(Connection connection, String queryTemplate, List<String> apiIds,
+                                       RowHandler handler, String... extraParameters)
+            throws SQLException, IOException {
+        for (int start = 0; start < apiIds.size(); start += MAX_IN_CLAUSE_SIZE) {
+            List<String> chunk = apiIds.subList(start, Math.min(start + MAX_IN_CLAUSE_SIZE, apiIds.size()));
+            final String query = String.format(queryTemplate, DAOUtil.getParameterString(chunk.size()));
+
+            try (PreparedStatement statement = connection.prepareStatement(query)) {
+                int index = 0;
+                for (String apiId : chunk) {
+                    statement.setString(++index, apiId);
+                }
+                for (String parameter : extraParameters) {
+                    statement.setString(++index, parameter);
+                }
+
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        handler.handle(rs);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.api.ResultConsumer;
 import org.wso2.carbon.apimgt.core.dao.APISubscriptionDAO;
 import org.wso2.carbon.apimgt.core.dao.ApiDAO;
 import org.wso2.carbon.apimgt.core.dao.ApiType;
@@ -44,7 +45,6 @@ import org.wso2.carbon.apimgt.core.models.Subscription;
 import org.wso2.carbon.apimgt.core.models.UriTemplate;
 import org.wso2.carbon.apimgt.core.models.policy.APIPolicy;
 import org.wso2.carbon.apimgt.core.models.policy.Policy;
-import org.wso2.carbon.apimgt.core.models.policy.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants.APILCWorkflowStatus;
 import org.wso2.carbon.apimgt.core.util.APIUtils;
@@ -55,7 +55,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
-import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -63,13 +62,16 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import javax.annotation.CheckForNull;
@@ -82,6 +84,7 @@ import javax.ws.rs.core.MediaType;
 public class ApiDAOImpl implements ApiDAO {
 
     private final ApiDAOVendorSpecificStatements sqlStatements;
+    private final ApiSearchSchemaCatalogue searchSchemaCatalogue;
 
     private static final String API_SUMMARY_SELECT = "SELECT DISTINCT UUID, PROVIDER, NAME, CONTEXT, VERSION, " +
             "DESCRIPTION, CURRENT_LC_STATUS, LIFECYCLE_INSTANCE_ID, LC_WORKFLOW_STATUS, SECURITY_SCHEME FROM AM_API";
@@ -107,14 +110,13 @@ public class ApiDAOImpl implements ApiDAO {
     private static final String API_DELETE = "DELETE FROM AM_API WHERE UUID = ?";
 
     private static final String AM_API_TABLE_NAME = "AM_API";
-    private static final String AM_TAGS_TABLE_NAME = "AM_TAGS";
-    private static final String AM_API_OPERATION_MAPPING_TABLE_NAME = "AM_API_OPERATION_MAPPING";
     private static final String AM_API_COMMENTS_TABLE_NAME = "AM_API_COMMENTS";
     private static final String AM_ENDPOINT_TABLE_NAME = "AM_ENDPOINT";
     private static final Logger log = LoggerFactory.getLogger(ApiDAOImpl.class);
 
-    ApiDAOImpl(ApiDAOVendorSpecificStatements sqlStatements) {
+    ApiDAOImpl(ApiDAOVendorSpecificStatements sqlStatements, ApiSearchSchemaCatalogue searchSchemaCatalogue) {
         this.sqlStatements = sqlStatements;
+        this.searchSchemaCatalogue = searchSchemaCatalogue;
     }
 
     @Override
@@ -143,13 +145,12 @@ public class ApiDAOImpl implements ApiDAO {
      */
     @Override
     public API getAPI(String apiID) throws APIMgtDAOException {
-        final String query = API_SELECT + " WHERE UUID = ? AND API_TYPE_ID = " +
-                "(SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)";
+        final String query = API_SELECT + " WHERE UUID = ? AND API_TYPE_ID = ?";
 
         try (Connection connection = DAOUtil.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, apiID);
-            statement.setString(2, ApiType.STANDARD.toString());
+            statement.setInt(2, LookupTableRegistry.getApiTypeID(connection, ApiType.STANDARD));
 
             API api = constructAPIFromResultSet(connection, statement);
 
@@ -168,13 +169,12 @@ public class ApiDAOImpl implements ApiDAO {
      */
     @Override
     public API getAPISummary(String apiID) throws APIMgtDAOException {
-        final String query = API_SUMMARY_SELECT + " WHERE UUID = ? AND API_TYPE_ID = " +
-                "(SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)";
+        final String query = API_SUMMARY_SELECT + " WHERE UUID = ? AND API_TYPE_ID = ?";
 
         try (Connection connection = DAOUtil.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, apiID);
-            statement.setString(2, ApiType.STANDARD.toString());
+            statement.setInt(2, LookupTableRegistry.getApiTypeID(connection, ApiType.STANDARD));
 
             List<API> apiResults = constructAPISummaryList(connection, statement);
             if (apiResults.isEmpty()) {
@@ -187,15 +187,81 @@ public class ApiDAOImpl implements ApiDAO {
         }
     }
 
+    /**
+     * @see ApiDAO#getAPISummaries(List, Set, String)
+     */
+    @Override
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    public List<API> getAPISummaries(List<String> apiIDs, Set<String> roles, String user)
+            throws APIMgtDAOException {
+        // an API is visible to the user if the user is its provider, if one of the roles of the user has read
+        // permission on it or if no permissions are set on it
+        String permissionClause = "(PROVIDER = ?) OR (GROUP_ID IS NULL)";
+        if (!roles.isEmpty()) {
+            permissionClause = "((GROUP_ID IN (" + DAOUtil.getParameterString(roles.size()) + ")" +
+                    " AND PERMISSION >= " + APIMgtConstants.Permission.READ_PERMISSION + ") OR " + permissionClause;
+        }
+        Map<String, API> apis = new HashMap<>();
+        try (Connection connection = DAOUtil.getConnection()) {
+            for (int i = 0; i < apiIDs.size(); i += ApiBulkLoadDAO.MAX_IN_CLAUSE_SIZE) {
+                List<String> chunk = apiIDs.subList(i, Math.min(i + ApiBulkLoadDAO.MAX_IN_CLAUSE_SIZE,
+                        apiIDs.size()));
+                final String query = API_SUMMARY_SELECT + " LEFT JOIN AM_API_GROUP_PERMISSION ON UUID = API_ID" +
+                        " WHERE UUID IN (" + DAOUtil.getParameterString(chunk.size()) + ") AND (" +
+                        permissionClause + ")";
+                try (PreparedStatement statement = connection.prepareStatement(query)) {
+                    int index = 0;
+                    for (String apiID : chunk) {
+                        statement.setString(++index, apiID);
+                    }
+                    for (String role : roles) {
+                        statement.setString(++index, role);
+                    }
+                    statement.setString(++index, user);
+                    for (API api : constructAPISummaryList(connection, statement)) {
+                        apis.put(api.getId(), api);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting API summaries", e);
+        }
+
+        List<API> apiList = new ArrayList<>(apis.size());
+        for (String apiID : apiIDs) {
+            API api = apis.get(apiID);
+            if (api != null) {
+                apiList.add(api);
+            }
+        }
+        return apiList;
+    }
+
+    /**
+     * @see ApiDAO#getAllAPIs()
+     */
+    @Override
+    public List<API> getAllAPIs() throws APIMgtDAOException {
+        final String query = API_SELECT + " WHERE API_TYPE_ID = ?";
+
+        try (Connection connection = DAOUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setInt(1, LookupTableRegistry.getApiTypeID(connection, ApiType.STANDARD));
+
+            return constructAPIListFromResultSet(connection, statement);
+        } catch (SQLException | IOException e) {
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting all APIs", e);
+        }
+    }
+
     @Override
     public CompositeAPI getCompositeAPISummary(String apiID) throws APIMgtDAOException {
-        final String query = COMPOSITE_API_SUMMARY_SELECT + " WHERE UUID = ? AND API_TYPE_ID = " +
-                "(SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)";
+        final String query = COMPOSITE_API_SUMMARY_SELECT + " WHERE UUID = ? AND API_TYPE_ID = ?";
 
         try (Connection connection = DAOUtil.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, apiID);
-            statement.setString(2, ApiType.COMPOSITE.toString());
+            statement.setInt(2, LookupTableRegistry.getApiTypeID(connection, ApiType.COMPOSITE));
 
             List<CompositeAPI> apiResults = getCompositeAPISummaryList(connection, statement);
             if (apiResults.isEmpty()) {
@@ -213,12 +279,12 @@ public class ApiDAOImpl implements ApiDAO {
     public CompositeAPI getCompositeAPI(String apiID) throws APIMgtDAOException {
         final String query = "SELECT UUID, PROVIDER, NAME, CONTEXT, VERSION, DESCRIPTION, CREATED_BY, CREATED_TIME, " +
                 "LAST_UPDATED_TIME, COPIED_FROM_API, UPDATED_BY, LC_WORKFLOW_STATUS " +
-                "FROM AM_API WHERE UUID = ? AND API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)";
+                "FROM AM_API WHERE UUID = ? AND API_TYPE_ID = ?";
 
         try (Connection connection = DAOUtil.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, apiID);
-            statement.setString(2, ApiType.COMPOSITE.toString());
+            statement.setInt(2, LookupTableRegistry.getApiTypeID(connection, ApiType.COMPOSITE));
 
             CompositeAPI api = getCompositeAPIFromResultSet(connection, statement);
 
@@ -297,18 +363,18 @@ public class ApiDAOImpl implements ApiDAO {
         final String query;
         if (roleCount > 0) {
             query = API_SUMMARY_SELECT + " LEFT JOIN AM_API_GROUP_PERMISSION PERMISSION ON UUID = API_ID WHERE" +
-                    " API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = '" + ApiType.STANDARD.toString()
-                    + "') AND (((PERMISSION.GROUP_ID IN (" + DAOUtil.getParameterString(roles.size()) + "))" +
+                    " API_TYPE_ID = ? AND (((PERMISSION.GROUP_ID IN (" + DAOUtil.getParameterString(roles.size()) +
+                    "))" +
                     " AND PERMISSION.PERMISSION >= " + APIMgtConstants.Permission.READ_PERMISSION + ") OR " +
                     "(PROVIDER = ?) OR (PERMISSION.GROUP_ID IS NULL))";
         } else {
             query = API_SUMMARY_SELECT + " LEFT JOIN AM_API_GROUP_PERMISSION PERMISSION ON UUID = API_ID WHERE" +
-                    " API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = '" + ApiType.STANDARD.toString()
-                    + "') AND ((PROVIDER = ?) OR (PERMISSION.GROUP_ID IS NULL))";
+                    " API_TYPE_ID = ? AND ((PROVIDER = ?) OR (PERMISSION.GROUP_ID IS NULL))";
         }
         try (Connection connection = DAOUtil.getConnection();
                 PreparedStatement statement = connection.prepareStatement(query)) {
             int index = 0;
+            statement.setInt(++index, LookupTableRegistry.getApiTypeID(connection, ApiType.STANDARD));
             if (roleCount > 0) {
                 for (String role : roles) {
                     statement.setString(++index, role);
@@ -328,12 +394,11 @@ public class ApiDAOImpl implements ApiDAO {
 
         // TODO: 6/5/17 Implement pagination support when implementing pagination support for
         // other list operations.
-        final String query = COMPOSITE_API_SUMMARY_SELECT + " WHERE API_TYPE_ID = " +
-                "(SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?) AND PROVIDER = ?";
+        final String query = COMPOSITE_API_SUMMARY_SELECT + " WHERE API_TYPE_ID = ? AND PROVIDER = ?";
 
         try (Connection connection = DAOUtil.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, ApiType.COMPOSITE.toString());
+            statement.setInt(1, LookupTableRegistry.getApiTypeID(connection, ApiType.COMPOSITE));
             statement.setString(2, user);
 
             return getCompositeAPISummaryList(connection, statement);
@@ -350,7 +415,7 @@ public class ApiDAOImpl implements ApiDAO {
     public List<API> getAPIsByStatus(List<String> statuses) throws APIMgtDAOException {
         final String query = API_SUMMARY_SELECT + " WHERE CURRENT_LC_STATUS IN (" +
                 DAOUtil.getParameterString(statuses.size()) + ") AND " +
-                "API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)";
+                "API_TYPE_ID = ?";
 
         try (Connection connection = DAOUtil.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
@@ -360,7 +425,7 @@ public class ApiDAOImpl implements ApiDAO {
                 statement.setString(++i, status);
             }
 
-            statement.setString(++i, ApiType.STANDARD.toString());
+            statement.setInt(++i, LookupTableRegistry.getApiTypeID(connection, ApiType.STANDARD));
 
             return constructAPISummaryList(connection, statement);
         } catch (SQLException e) {
@@ -381,7 +446,7 @@ public class ApiDAOImpl implements ApiDAO {
                 "VISIBILITY = '" + API.Visibility.PUBLIC + "' " +
                 "AND " +
                 "CURRENT_LC_STATUS  IN (" + DAOUtil.getParameterString(statuses.size()) + ") AND " +
-                "API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)" +
+                "API_TYPE_ID = ? " +
                 "UNION " +
                 API_SUMMARY_SELECT +
                 " WHERE " +
@@ -391,7 +456,7 @@ public class ApiDAOImpl implements ApiDAO {
                 "(" + DAOUtil.getParameterString(roles.size()) + ")) " +
                 "AND " + "CURRENT_LC_STATUS  IN (" +
                 DAOUtil.getParameterString(statuses.size()) + ") AND " +
-                "API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)";
+                "API_TYPE_ID = ?";
 
         try (Connection connection = DAOUtil.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
@@ -401,7 +466,7 @@ public class ApiDAOImpl implements ApiDAO {
                 statement.setString(++i, status);
             }
 
-            statement.setString(++i, ApiType.STANDARD.toString());
+            statement.setInt(++i, LookupTableRegistry.getApiTypeID(connection, ApiType.STANDARD));
 
             //put desired roles into the query
             for (String role : roles) {
@@ -412,7 +477,7 @@ public class ApiDAOImpl implements ApiDAO {
                 statement.setString(++i, status);
             }
 
-            statement.setString(++i, ApiType.STANDARD.toString());
+            statement.setInt(++i, LookupTableRegistry.getApiTypeID(connection, ApiType.STANDARD));
 
             return constructAPISummaryList(connection, statement);
         } catch (SQLException e) {
@@ -463,26 +528,17 @@ public class ApiDAOImpl implements ApiDAO {
     @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
     public List<API> attributeSearchAPIs(Set<String> roles, String user, Map<String, String> attributeMap,
                                          int offset, int limit) throws APIMgtDAOException {
-        final String query = sqlStatements.getApiAttributeSearchQuery(attributeMap, roles.size());
-        try (Connection connection = DAOUtil.getConnection();
-             PreparedStatement statement = connection.prepareStatement(query)) {
-
-            DatabaseMetaData md = connection.getMetaData();
-            Iterator<Map.Entry<String, String>> entries = attributeMap.entrySet().iterator();
-            while (entries.hasNext()) {
-                Map.Entry<String, String> entry = entries.next();
-                String tableName = connection.getMetaData().getDriverName().contains("PostgreSQL") ?
-                        AM_API_TABLE_NAME.toLowerCase(Locale.ENGLISH) :
-                        AM_API_TABLE_NAME;
-                String columnName = connection.getMetaData().getDriverName().contains("PostgreSQL") ?
-                        entry.getKey().toLowerCase(Locale.ENGLISH) :
-                        entry.getKey().toUpperCase(Locale.ENGLISH);
-                if (!checkTableColumnExists(md, tableName, columnName)) {
-                    throw new APIMgtDAOException("Attribute does not exist with name: " + entry.getKey(),
-                            ExceptionCodes.API_ATTRIBUTE_NOT_FOUND);
-                }
+        for (String attribute : attributeMap.keySet()) {
+            if (!searchSchemaCatalogue.isApiAttribute(attribute)) {
+                throw new APIMgtDAOException("Attribute does not exist with name: " + attribute,
+                        ExceptionCodes.API_ATTRIBUTE_NOT_FOUND);
             }
+        }
 
+        final String query = searchSchemaCatalogue.getSearchQuery("publisher", attributeMap, roles.size(),
+                () -> sqlStatements.getApiAttributeSearchQuery(attributeMap, roles.size()));
+        try (Connection connection = DAOUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
             sqlStatements.setApiAttributeSearchStatement(statement, roles, user, attributeMap,
                     ApiType.STANDARD, offset, limit);
 
@@ -500,51 +556,19 @@ public class ApiDAOImpl implements ApiDAO {
     @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
     public List<API> searchAPIsByAttributeInStore(List<String> roles, Map<String, String> attributeMap,
                                                   int offset, int limit) throws APIMgtDAOException {
+        for (String attribute : attributeMap.keySet()) {
+            if (!searchSchemaCatalogue.isStoreAttribute(attribute)) {
+                throw new APIMgtDAOException("Attribute does not exist with name: " + attribute,
+                        ExceptionCodes.API_ATTRIBUTE_NOT_FOUND);
+            }
+        }
 
+        final String query = searchSchemaCatalogue.getSearchQuery("store", attributeMap, roles.size(),
+                () -> sqlStatements.getStoreAttributeSearchQuery(attributeMap, roles.size()));
         try (Connection connection = DAOUtil.getConnection();
-             PreparedStatement statement = sqlStatements.prepareAttributeSearchStatementForStore
-                     (connection, roles, attributeMap, offset, limit)) {
-            DatabaseMetaData md = connection.getMetaData();
-            Iterator<Map.Entry<String, String>> entries = attributeMap.entrySet().iterator();
-
-            while (entries.hasNext()) {
-                Map.Entry<String, String> entry = entries.next();
-                String tableName = null, columnName = null;
-
-                if (APIMgtConstants.TAG_SEARCH_TYPE_PREFIX.equalsIgnoreCase(entry.getKey())) {
-                    //if the search is related to tags, need to check NAME column in AM_TAGS table
-                    tableName = connection.getMetaData().getDriverName().contains("PostgreSQL") ?
-                            AM_TAGS_TABLE_NAME.toLowerCase(Locale.ENGLISH) :
-                            AM_TAGS_TABLE_NAME;
-                    columnName = connection.getMetaData().getDriverName().contains("PostgreSQL") ?
-                            APIMgtConstants.TAG_NAME_COLUMN.toLowerCase(Locale.ENGLISH) :
-                            APIMgtConstants.TAG_NAME_COLUMN.toUpperCase(Locale.ENGLISH);
-                } else if (APIMgtConstants.SUBCONTEXT_SEARCH_TYPE_PREFIX.equalsIgnoreCase
-                        (entry.getKey())) {
-                    //if the search is related to subcontext, need to check URL_PATTERN column in
-                    //AM_API_OPERATION_MAPPING table
-                    tableName = connection.getMetaData().getDriverName().contains("PostgreSQL") ?
-                            AM_API_OPERATION_MAPPING_TABLE_NAME.toLowerCase(Locale.ENGLISH) :
-                            AM_API_OPERATION_MAPPING_TABLE_NAME;
-                    columnName = connection.getMetaData().getDriverName().contains("PostgreSQL") ?
-                            APIMgtConstants.URL_PATTERN_COLUMN.toLowerCase(Locale.ENGLISH) :
-                            APIMgtConstants.URL_PATTERN_COLUMN.toUpperCase(Locale.ENGLISH);
-                } else {
-                    //if the search is related to any other attribute, need to check that attribute
-                    //in AM_API table
-                    tableName = connection.getMetaData().getDriverName().contains("PostgreSQL") ?
-                            AM_API_TABLE_NAME.toLowerCase(Locale.ENGLISH) :
-                            AM_API_TABLE_NAME;
-                    columnName = connection.getMetaData().getDriverName().contains("PostgreSQL") ?
-                            entry.getKey().toLowerCase(Locale.ENGLISH) :
-                            entry.getKey().toUpperCase(Locale.ENGLISH);
-                }
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            sqlStatements.setStoreAttributeSearchStatement(statement, roles, attributeMap, offset, limit);
 
-                if (!checkTableColumnExists(md, tableName, columnName)) {
-                    throw new APIMgtDAOException("Attribute does not exist with name: " + entry.getKey(),
-                            ExceptionCodes.API_ATTRIBUTE_NOT_FOUND);
-                }
-            }
             return constructAPISummaryList(connection, statement);
         } catch (SQLException e) {
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "searching APIs by attribute", e);
@@ -557,13 +581,13 @@ public class ApiDAOImpl implements ApiDAO {
     @Override
     public boolean isAPINameExists(String apiName, String providerName) throws APIMgtDAOException {
         final String apiExistsQuery = "SELECT 1 FROM AM_API WHERE LOWER(NAME) = ? AND PROVIDER = ? AND " +
-                "API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)";
+                "API_TYPE_ID = ?";
 
         try (Connection connection = DAOUtil.getConnection();
              PreparedStatement statement = connection.prepareStatement(apiExistsQuery)) {
             statement.setString(1, apiName.toLowerCase(Locale.ENGLISH));
             statement.setString(2, providerName);
-            statement.setString(3, ApiType.STANDARD.toString());
+            statement.setInt(3, LookupTableRegistry.getApiTypeID(connection, ApiType.STANDARD));
 
             try (ResultSet rs = statement.executeQuery()) {
                 if (rs.next()) {
@@ -630,6 +654,41 @@ public class ApiDAOImpl implements ApiDAO {
         }
     }
 
+    /**
+     * @see ApiDAO#addAPIs(List)
+     */
+    @Override
+    public void addAPIs(List<API> apis) throws APIMgtDAOException {
+        if (apis.isEmpty()) {
+            return;
+        }
+        try (Connection connection = DAOUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(API_INSERT)) {
+            try {
+                connection.setAutoCommit(false);
+
+                int apiTypeId = LookupTableRegistry.getApiTypeID(connection, ApiType.STANDARD);
+                // API rows are inserted before the rows which refer to them
+                for (API api : apis) {
+                    setAPIInsertParameters(statement, api, apiTypeId);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                for (API api : apis) {
+                    addAPIChildInformation(connection, api);
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw new APIMgtDAOException("adding " + apis.size() + " APIs", e);
+            } finally {
+                connection.setAutoCommit(DAOUtil.isAutoCommit());
+            }
+        } catch (SQLException e) {
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "adding " + apis.size() + " APIs", e);
+        }
+    }
+
     @Override
     public void addApplicationAssociatedAPI(CompositeAPI api) throws APIMgtDAOException {
         final String query = "INSERT INTO AM_API (PROVIDER, NAME, CONTEXT, VERSION, " +
@@ -672,6 +731,21 @@ public class ApiDAOImpl implements ApiDAO {
      */
     private void addAPIRelatedInformation(Connection connection, PreparedStatement statement, final API api)
             throws SQLException {
+        setAPIInsertParameters(statement, api, LookupTableRegistry.getApiTypeID(connection, ApiType.STANDARD));
+        statement.execute();
+        addAPIChildInformation(connection, api);
+    }
+
+    /**
+     * Set the parameters of the AM_API insert statement
+     *
+     * @param statement PreparedStatement
+     * @param api       API object
+     * @param apiTypeId ID of the API type
+     * @throws SQLException if error occurs while accessing data layer
+     */
+    private void setAPIInsertParameters(PreparedStatement statement, final API api, int apiTypeId)
+            throws SQLException {
         String apiPrimaryKey = api.getId();
         statement.setString(1, api.getProvider());
         statement.setString(2, api.getName());
@@ -700,7 +774,7 @@ public class ApiDAOImpl implements ApiDAO {
         statement.setString(20, String.join(",", corsConfiguration.getAllowHeaders()));
         statement.setString(21, String.join(",", corsConfiguration.getAllowMethods()));
 
-        statement.setInt(22, getApiTypeId(connection, ApiType.STANDARD));
+        statement.setInt(22, apiTypeId);
         statement.setString(23, api.getCreatedBy());
         statement.setTimestamp(24, Timestamp.valueOf(LocalDateTime.now()));
         statement.setTimestamp(25, Timestamp.valueOf(LocalDateTime.now()));
@@ -708,8 +782,17 @@ public class ApiDAOImpl implements ApiDAO {
         statement.setString(27, api.getUpdatedBy());
         statement.setString(28, APILCWorkflowStatus.APPROVED.toString());
         statement.setInt(29, api.getSecurityScheme());
-        statement.execute();
+    }
 
+    /**
+     * Add the information of an API stored in tables other than AM_API
+     *
+     * @param connection DB Connection
+     * @param api        API object
+     * @throws SQLException if error occurs while accessing data layer
+     */
+    private void addAPIChildInformation(Connection connection, final API api) throws SQLException {
+        String apiPrimaryKey = api.getId();
         if (API.Visibility.RESTRICTED == api.getVisibility()) {
             addVisibleRole(connection, apiPrimaryKey, api.getVisibleRoles());
         }
@@ -746,7 +829,7 @@ public class ApiDAOImpl implements ApiDAO {
         statement.setString(5, api.getDescription());
         statement.setString(6, apiPrimaryKey);
 
-        statement.setInt(7, getApiTypeId(connection, ApiType.COMPOSITE));
+        statement.setInt(7, LookupTableRegistry.getApiTypeID(connection, ApiType.COMPOSITE));
         statement.setString(8, api.getCreatedBy());
         statement.setTimestamp(9, Timestamp.valueOf(LocalDateTime.now()));
         statement.setTimestamp(10, Timestamp.valueOf(LocalDateTime.now()));
@@ -810,33 +893,17 @@ public class ApiDAOImpl implements ApiDAO {
 
                 statement.execute();
 
-                deleteVisibleRoles(connection, apiID); // Delete current visible roles if they exist
-
-                if (API.Visibility.RESTRICTED == substituteAPI.getVisibility()) {
-                    addVisibleRole(connection, apiID, substituteAPI.getVisibleRoles());
-                }
-
-                deleteAPIPermission(connection, apiID);
-                updateApiPermission(connection, substituteAPI.getPermissionMap(), apiID);
-
-                deleteTransports(connection, apiID);
-                addTransports(connection, apiID, substituteAPI.getTransport());
-
-                deleteTagsMapping(connection, apiID); // Delete current tag mappings if they exist
-                addTagsMapping(connection, apiID, substituteAPI.getTags());
-                deleteLabelsMapping(connection, apiID);
-                addLabelMapping(connection, apiID, substituteAPI.getLabels());
-                deleteSubscriptionPolicies(connection, apiID);
-                addSubscriptionPolicies(connection, substituteAPI.getPolicies(), apiID);
-                deleteEndPointsForApi(connection, apiID);
-                addEndPointsForApi(connection, apiID, substituteAPI.getEndpoint());
-                deleteEndPointsForOperation(connection, apiID);
-                deleteUrlMappings(connection, apiID);
-                addUrlMappings(connection, substituteAPI.getUriTemplates().values(), apiID);
-                deleteApiPolicy(connection, apiID);
-                if (substituteAPI.getApiPolicy() != null) {
-                    addApiPolicy(connection, substituteAPI.getApiPolicy().getUuid(), apiID);
-                }
+                // Child tables are updated with only the rows which differ from the stored API
+                updateVisibleRoles(connection, apiID, API.Visibility.RESTRICTED == substituteAPI.getVisibility() ?
+                        substituteAPI.getVisibleRoles() : Collections.emptySet());
+                updateAPIPermission(connection, substituteAPI.getPermissionMap(), apiID);
+                updateTransports(connection, apiID, substituteAPI.getTransport());
+                updateTagsMapping(connection, apiID, substituteAPI.getTags());
+                updateLabelsMapping(connection, apiID, substituteAPI.getLabels());
+                updateSubscriptionPolicies(connection, substituteAPI.getPolicies(), apiID);
+                updateEndPointsForApi(connection, apiID, substituteAPI.getEndpoint());
+                updateUrlMappings(connection, substituteAPI.getUriTemplates().values(), apiID);
+                updateApiPolicy(connection, substituteAPI.getApiPolicy(), apiID);
                 connection.commit();
             } catch (SQLException | IOException e) {
                 connection.rollback();
@@ -845,9 +912,482 @@ public class ApiDAOImpl implements ApiDAO {
             } finally {
                 connection.setAutoCommit(DAOUtil.isAutoCommit());
             }
-        } catch (SQLException e) {
-            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "updating API: " + substituteAPI.getProvider() +
-                    " - " + substituteAPI.getName() + " - " + substituteAPI.getVersion(), e);
+        } catch (SQLException e) {
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "updating API: " + substituteAPI.getProvider() +
+                    " - " + substituteAPI.getName() + " - " + substituteAPI.getVersion(), e);
+        }
+    }
+
+    private void updateVisibleRoles(Connection connection, String apiID, Set<String> roles) throws SQLException {
+        final String selectQuery = "SELECT ROLE FROM AM_API_VISIBLE_ROLES WHERE API_ID = ?";
+        final String deleteQuery = "DELETE FROM AM_API_VISIBLE_ROLES WHERE API_ID = ? AND ROLE = ?";
+
+        Set<String> storedRoles = getChildValues(connection, selectQuery, apiID);
+        Set<String> addedRoles = new HashSet<>(roles);
+        addedRoles.removeAll(storedRoles);
+        storedRoles.removeAll(roles);
+
+        deleteChildRows(connection, deleteQuery, apiID, storedRoles);
+        if (!addedRoles.isEmpty()) {
+            addVisibleRole(connection, apiID, addedRoles);
+        }
+    }
+
+    /**
+     * Update API permission, changing only the permissions of the groups which differ from the stored permissions
+     *
+     * @param connection    connection to database
+     * @param permissionMap updated permission map
+     * @param apiId         id of API to be updated permission
+     * @throws SQLException if error occurred when updating api permission
+     */
+    private void updateAPIPermission(Connection connection, Map permissionMap, String apiId) throws SQLException {
+        final String selectQuery = "SELECT GROUP_ID, PERMISSION FROM AM_API_GROUP_PERMISSION WHERE API_ID = ?";
+        final String updateQuery = "UPDATE AM_API_GROUP_PERMISSION SET PERMISSION = ? WHERE API_ID = ? AND " +
+                "GROUP_ID = ?";
+        final String deleteQuery = "DELETE FROM AM_API_GROUP_PERMISSION WHERE API_ID = ? AND GROUP_ID = ?";
+
+        Map<String, Integer> storedPermissions = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(selectQuery)) {
+            statement.setString(1, apiId);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    storedPermissions.put(rs.getString("GROUP_ID"), rs.getInt("PERMISSION"));
+                }
+            }
+        }
+
+        Map<String, Integer> map = permissionMap;
+        Map<String, Integer> addedPermissions = new HashMap<>();
+        Map<String, Integer> changedPermissions = new HashMap<>();
+        if (permissionMap != null) {
+            for (Map.Entry<String, Integer> entry : map.entrySet()) {
+                Integer storedPermission = storedPermissions.remove(entry.getKey());
+                int permission = getStoredPermissionValue(entry.getValue());
+                if (storedPermission == null) {
+                    addedPermissions.put(entry.getKey(), entry.getValue());
+                } else if (storedPermission != permission) {
+                    changedPermissions.put(entry.getKey(), permission);
+                }
+            }
+        }
+
+        deleteChildRows(connection, deleteQuery, apiId, storedPermissions.keySet());
+        if (!changedPermissions.isEmpty()) {
+            try (PreparedStatement statement = connection.prepareStatement(updateQuery)) {
+                for (Map.Entry<String, Integer> entry : changedPermissions.entrySet()) {
+                    statement.setInt(1, entry.getValue());
+                    statement.setString(2, apiId);
+                    statement.setString(3, entry.getKey());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+        addAPIPermission(connection, addedPermissions, apiId);
+    }
+
+    /**
+     * Get the permission value stored for a group
+     *
+     * @param permissionValue permission value given for the group
+     * @return permission value including the read permission where applicable
+     */
+    private static int getStoredPermissionValue(Integer permissionValue) {
+        //if permission value is UPDATE, DELETE or MANAGE_SUBSCRIPTION_PERMISSION we by default give
+        // them read permission also. Have used the bitwise AND operation to check whether the
+        // permission value passed by the user contains the read permission.
+        if (permissionValue > APIMgtConstants.Permission.READ_PERMISSION
+                && (permissionValue & APIMgtConstants.Permission.READ_PERMISSION) == 0) {
+            return permissionValue + APIMgtConstants.Permission.READ_PERMISSION;
+        }
+        return permissionValue;
+    }
+
+    private void updateTransports(Connection connection, String apiID, Set<String> transports) throws SQLException {
+        final String selectQuery = "SELECT TRANSPORT FROM AM_API_TRANSPORTS WHERE API_ID = ?";
+        final String deleteQuery = "DELETE FROM AM_API_TRANSPORTS WHERE API_ID = ? AND TRANSPORT = ?";
+
+        Set<String> storedTransports = getChildValues(connection, selectQuery, apiID);
+        Set<String> addedTransports = new HashSet<>(transports);
+        addedTransports.removeAll(storedTransports);
+        storedTransports.removeAll(transports);
+
+        deleteChildRows(connection, deleteQuery, apiID, storedTransports);
+        if (!addedTransports.isEmpty()) {
+            addTransports(connection, apiID, addedTransports);
+        }
+    }
+
+    private void updateTagsMapping(Connection connection, String apiID, Set<String> tags) throws SQLException {
+        final String selectQuery = "SELECT T.NAME, T.TAG_ID FROM AM_API_TAG_MAPPING M INNER JOIN AM_TAGS T " +
+                "ON M.TAG_ID = T.TAG_ID WHERE M.API_ID = ?";
+        final String deleteQuery = "DELETE FROM AM_API_TAG_MAPPING WHERE API_ID = ? AND TAG_ID = ?";
+
+        Map<String, String> storedTags = getChildValueMap(connection, selectQuery, apiID);
+        Set<String> addedTags = new HashSet<>(tags);
+        addedTags.removeAll(storedTags.keySet());
+        storedTags.keySet().removeAll(tags);
+
+        deleteChildRows(connection, deleteQuery, apiID, storedTags.values());
+        addTagsMapping(connection, apiID, addedTags);
+    }
+
+    private void updateLabelsMapping(Connection connection, String apiID, Set<String> labels) throws SQLException {
+        final String selectQuery = "SELECT L.NAME, L.LABEL_ID FROM AM_API_LABEL_MAPPING M INNER JOIN AM_LABELS L " +
+                "ON M.LABEL_ID = L.LABEL_ID WHERE M.API_ID = ?";
+        final String deleteQuery = "DELETE FROM AM_API_LABEL_MAPPING WHERE API_ID = ? AND LABEL_ID = ?";
+
+        Map<String, String> storedLabels = getChildValueMap(connection, selectQuery, apiID);
+        Set<String> addedLabels = new HashSet<>();
+        if (labels != null) {
+            addedLabels.addAll(labels);
+            addedLabels.removeAll(storedLabels.keySet());
+            storedLabels.keySet().removeAll(labels);
+        }
+
+        deleteChildRows(connection, deleteQuery, apiID, storedLabels.values());
+        addLabelMapping(connection, apiID, addedLabels);
+    }
+
+    private void updateSubscriptionPolicies(Connection connection, Set<Policy> policies, String apiID)
+            throws SQLException {
+        final String selectQuery = "SELECT SUBSCRIPTION_POLICY_ID FROM AM_API_SUBS_POLICY_MAPPING WHERE API_ID = ?";
+        final String deleteQuery = "DELETE FROM AM_API_SUBS_POLICY_MAPPING WHERE API_ID = ? AND " +
+                "SUBSCRIPTION_POLICY_ID = ?";
+
+        Set<String> storedPolicies = getChildValues(connection, selectQuery, apiID);
+        Set<Policy> addedPolicies = new HashSet<>();
+        for (Policy policy : policies) {
+            if (!storedPolicies.remove(policy.getUuid())) {
+                addedPolicies.add(policy);
+            }
+        }
+
+        deleteChildRows(connection, deleteQuery, apiID, storedPolicies);
+        if (!addedPolicies.isEmpty()) {
+            addSubscriptionPolicies(connection, addedPolicies, apiID);
+        }
+    }
+
+    private void updateApiPolicy(Connection connection, Policy apiPolicy, String apiID) throws SQLException {
+        final String selectQuery = "SELECT API_POLICY_ID FROM AM_API_POLICY_MAPPING WHERE API_ID = ?";
+
+        Set<String> storedPolicies = getChildValues(connection, selectQuery, apiID);
+        Set<String> policies = apiPolicy != null ? Collections.singleton(apiPolicy.getUuid()) :
+                Collections.emptySet();
+        if (!storedPolicies.equals(policies)) {
+            if (!storedPolicies.isEmpty()) {
+                deleteApiPolicy(connection, apiID);
+            }
+            if (apiPolicy != null) {
+                addApiPolicy(connection, apiPolicy.getUuid(), apiID);
+            }
+        }
+    }
+
+    private void updateEndPointsForApi(Connection connection, String apiId, Map<String, Endpoint> endpointMap)
+            throws SQLException, IOException {
+        final String selectQuery = "SELECT AM_API_ENDPOINT_MAPPING.TYPE, AM_API_ENDPOINT_MAPPING.ENDPOINT_ID, " +
+                "AM_ENDPOINT.APPLICABLE_LEVEL, AM_ENDPOINT.ENDPOINT_CONFIGURATION, AM_ENDPOINT.TPS, " +
+                "AM_ENDPOINT.TYPE AS ENDPOINT_TYPE, AM_ENDPOINT.SECURITY_CONFIGURATION FROM AM_API_ENDPOINT_MAPPING " +
+                "INNER JOIN AM_ENDPOINT ON AM_API_ENDPOINT_MAPPING.ENDPOINT_ID = AM_ENDPOINT.UUID " +
+                "WHERE AM_API_ENDPOINT_MAPPING.API_ID = ?";
+        final String deleteQuery = "DELETE FROM AM_API_ENDPOINT_MAPPING WHERE API_ID = ? AND TYPE = ?";
+
+        Map<String, EndpointMapping> storedMappings = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(selectQuery)) {
+            statement.setString(1, apiId);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    storedMappings.put(rs.getString("TYPE"), new EndpointMapping(rs));
+                }
+            }
+        }
+
+        Set<String> removedTypes = new HashSet<>();
+        Set<String> unmappedEndpoints = new HashSet<>();
+        Map<String, Endpoint> changedEndpoints = new HashMap<>();
+        Map<String, Endpoint> addedEndpoints = getChangedEndpointMappings(storedMappings, endpointMap, removedTypes,
+                unmappedEndpoints, changedEndpoints);
+
+        deleteChildRows(connection, deleteQuery, apiId, removedTypes);
+        for (Endpoint endpoint : changedEndpoints.values()) {
+            updateEndpoint(connection, endpoint);
+        }
+        addEndPointsForApi(connection, apiId, addedEndpoints);
+        deleteUnassociatedEndpoints(connection, unmappedEndpoints);
+    }
+
+    /**
+     * Update the URL mappings of an API, matching the stored operations with the URI templates by template ID. Only
+     * the operations and operation endpoints which are added, changed or removed are written.
+     *
+     * @param connection   DB connection
+     * @param uriTemplates URI templates of the substitute API
+     * @param apiID        ID of the API
+     * @throws SQLException if error occurs while accessing data layer
+     * @throws IOException  if error occurs while reading the stored endpoint configurations
+     */
+    private void updateUrlMappings(Connection connection, Collection<UriTemplate> uriTemplates, String apiID)
+            throws SQLException, IOException {
+        final String selectQuery = "SELECT OPERATION_ID, HTTP_METHOD, URL_PATTERN, AUTH_SCHEME, API_POLICY_ID " +
+                "FROM AM_API_OPERATION_MAPPING WHERE API_ID = ?";
+        final String endpointSelectQuery = "SELECT AM_API_RESOURCE_ENDPOINT.OPERATION_ID, " +
+                "AM_API_RESOURCE_ENDPOINT.TYPE, AM_API_RESOURCE_ENDPOINT.ENDPOINT_ID, AM_ENDPOINT.APPLICABLE_LEVEL, " +
+                "AM_ENDPOINT.ENDPOINT_CONFIGURATION, AM_ENDPOINT.TPS, AM_ENDPOINT.TYPE AS ENDPOINT_TYPE, " +
+                "AM_ENDPOINT.SECURITY_CONFIGURATION FROM AM_API_RESOURCE_ENDPOINT INNER JOIN AM_ENDPOINT ON " +
+                "AM_API_RESOURCE_ENDPOINT.ENDPOINT_ID = AM_ENDPOINT.UUID WHERE AM_API_RESOURCE_ENDPOINT.API_ID = ?";
+        final String updateQuery = "UPDATE AM_API_OPERATION_MAPPING SET HTTP_METHOD = ?, URL_PATTERN = ?, " +
+                "AUTH_SCHEME = ?, API_POLICY_ID = ? WHERE API_ID = ? AND OPERATION_ID = ?";
+        final String deleteQuery = "DELETE FROM AM_API_OPERATION_MAPPING WHERE API_ID = ? AND OPERATION_ID = ?";
+        final String endpointDeleteQuery = "DELETE FROM AM_API_RESOURCE_ENDPOINT WHERE API_ID = ? AND " +
+                "OPERATION_ID = ? AND TYPE = ?";
+
+        Map<String, List<String>> storedOperations = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(selectQuery)) {
+            statement.setString(1, apiID);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    storedOperations.put(rs.getString("OPERATION_ID"), Arrays.asList(rs.getString("HTTP_METHOD"),
+                            rs.getString("URL_PATTERN"), rs.getString("AUTH_SCHEME"), rs.getString("API_POLICY_ID")));
+                }
+            }
+        }
+
+        Map<String, Map<String, EndpointMapping>> storedEndpointMappings = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(endpointSelectQuery)) {
+            statement.setString(1, apiID);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    storedEndpointMappings.computeIfAbsent(rs.getString("OPERATION_ID"), k -> new HashMap<>())
+                            .put(rs.getString("TYPE"), new EndpointMapping(rs));
+                }
+            }
+        }
+
+        List<UriTemplate> addedTemplates = new ArrayList<>();
+        List<UriTemplate> changedTemplates = new ArrayList<>();
+        Map<String, Map<String, Endpoint>> addedEndpoints = new HashMap<>();
+        Map<String, Set<String>> removedEndpointTypes = new HashMap<>();
+        Set<String> unmappedEndpoints = new HashSet<>();
+        Map<String, Endpoint> changedEndpoints = new HashMap<>();
+        for (UriTemplate uriTemplate : uriTemplates) {
+            String operationId = uriTemplate.getTemplateId();
+            List<String> storedOperation = storedOperations.remove(operationId);
+            if (storedOperation == null) {
+                addedTemplates.add(uriTemplate);
+                continue;
+            }
+            if (!storedOperation.equals(Arrays.asList(uriTemplate.getHttpVerb(), uriTemplate.getUriTemplate(),
+                    uriTemplate.getAuthType(), uriTemplate.getPolicy().getUuid()))) {
+                changedTemplates.add(uriTemplate);
+            }
+            Set<String> removedTypes = new HashSet<>();
+            Map<String, Endpoint> endpoints = getChangedEndpointMappings(storedEndpointMappings.getOrDefault(
+                    operationId, Collections.emptyMap()), uriTemplate.getEndpoint(), removedTypes, unmappedEndpoints,
+                    changedEndpoints);
+            if (!endpoints.isEmpty()) {
+                addedEndpoints.put(operationId, endpoints);
+            }
+            if (!removedTypes.isEmpty()) {
+                removedEndpointTypes.put(operationId, removedTypes);
+            }
+        }
+        // Operations left in the stored operations are removed along with their endpoints
+        for (String operationId : storedOperations.keySet()) {
+            Map<String, EndpointMapping> endpointMappings = storedEndpointMappings.getOrDefault(operationId,
+                    Collections.emptyMap());
+            getChangedEndpointMappings(endpointMappings, null, removedEndpointTypes.computeIfAbsent(operationId,
+                    k -> new HashSet<>()), unmappedEndpoints, changedEndpoints);
+        }
+
+        removedEndpointTypes.values().removeIf(Set::isEmpty);
+        if (!removedEndpointTypes.isEmpty()) {
+            try (PreparedStatement statement = connection.prepareStatement(endpointDeleteQuery)) {
+                for (Map.Entry<String, Set<String>> entry : removedEndpointTypes.entrySet()) {
+                    for (String type : entry.getValue()) {
+                        statement.setString(1, apiID);
+                        statement.setString(2, entry.getKey());
+                        statement.setString(3, type);
+                        statement.addBatch();
+                    }
+                }
+                statement.executeBatch();
+            }
+        }
+        deleteChildRows(connection, deleteQuery, apiID, storedOperations.keySet());
+
+        if (!changedTemplates.isEmpty()) {
+            try (PreparedStatement statement = connection.prepareStatement(updateQuery)) {
+                for (UriTemplate uriTemplate : changedTemplates) {
+                    statement.setString(1, uriTemplate.getHttpVerb());
+                    statement.setString(2, uriTemplate.getUriTemplate());
+                    statement.setString(3, uriTemplate.getAuthType());
+                    statement.setString(4, uriTemplate.getPolicy().getUuid());
+                    statement.setString(5, apiID);
+                    statement.setString(6, uriTemplate.getTemplateId());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+        if (!addedTemplates.isEmpty()) {
+            addUrlMappings(connection, addedTemplates, apiID);
+        }
+        for (Endpoint endpoint : changedEndpoints.values()) {
+            updateEndpoint(connection, endpoint);
+        }
+        for (Map.Entry<String, Map<String, Endpoint>> entry : addedEndpoints.entrySet()) {
+            addEndPointsForOperation(connection, apiID, entry.getKey(), entry.getValue());
+        }
+        deleteUnassociatedEndpoints(connection, unmappedEndpoints);
+    }
+
+    /**
+     * Compares the stored endpoint mappings of an API or operation with its new endpoints
+     *
+     * @param storedMappings    stored endpoint mappings keyed by endpoint type
+     * @param endpoints         new endpoints keyed by endpoint type, may be null
+     * @param removedTypes      collects the endpoint types whose mapping is removed or replaced
+     * @param unmappedEndpoints collects the IDs of API specific endpoints which are no longer mapped
+     * @param changedEndpoints  collects the API specific endpoints which are still mapped but whose content is edited,
+     *                          keyed by endpoint ID
+     * @return endpoints to be mapped, keyed by endpoint type
+     */
+    private static Map<String, Endpoint> getChangedEndpointMappings(Map<String, EndpointMapping> storedMappings,
+                                                                   Map<String, Endpoint> endpoints,
+                                                                   Set<String> removedTypes,
+                                                                   Set<String> unmappedEndpoints,
+                                                                   Map<String, Endpoint> changedEndpoints) {
+        Map<String, Endpoint> newEndpoints = endpoints != null ? endpoints : Collections.emptyMap();
+        Map<String, Endpoint> addedEndpoints = new HashMap<>();
+        for (Map.Entry<String, EndpointMapping> entry : storedMappings.entrySet()) {
+            Endpoint endpoint = newEndpoints.get(entry.getKey());
+            EndpointMapping storedMapping = entry.getValue();
+            if (endpoint == null || !storedMapping.endpointId.equals(endpoint.getId())) {
+                removedTypes.add(entry.getKey());
+                if (APIMgtConstants.API_SPECIFIC_ENDPOINT.equals(storedMapping.applicableLevel)) {
+                    unmappedEndpoints.add(storedMapping.endpointId);
+                }
+            }
+        }
+        for (Map.Entry<String, Endpoint> entry : newEndpoints.entrySet()) {
+            EndpointMapping storedMapping = storedMappings.get(entry.getKey());
+            if (storedMapping == null || !storedMapping.endpointId.equals(entry.getValue().getId())) {
+                addedEndpoints.put(entry.getKey(), entry.getValue());
+            } else if (storedMapping.isContentChanged(entry.getValue())) {
+                changedEndpoints.put(storedMapping.endpointId, entry.getValue());
+            }
+        }
+        return addedEndpoints;
+    }
+
+    private void deleteUnassociatedEndpoints(Connection connection, Set<String> endpointIds) throws SQLException {
+        for (String endpointId : endpointIds) {
+            if (!isEndpointAssociated(connection, endpointId)) {
+                deleteEndpoint(connection, endpointId);
+            }
+        }
+    }
+
+    private static Set<String> getChildValues(Connection connection, String query, String apiID)
+            throws SQLException {
+        Set<String> values = new HashSet<>();
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, apiID);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    values.add(rs.getString(1));
+                }
+            }
+        }
+        return values;
+    }
+
+    private static Map<String, String> getChildValueMap(Connection connection, String query, String apiID)
+            throws SQLException {
+        Map<String, String> values = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, apiID);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    values.put(rs.getString(1), rs.getString(2));
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Deletes the rows of a child table of an API in a single batch
+     *
+     * @param connection DB connection
+     * @param query      delete query taking the API ID and the value identifying the row as parameters
+     * @param apiID      ID of the API
+     * @param values     values identifying the rows to be deleted
+     * @throws SQLException if error occurs while accessing data layer
+     */
+    private static void deleteChildRows(Connection connection, String query, String apiID,
+                                        Collection<String> values) throws SQLException {
+        if (values.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            for (String value : values) {
+                statement.setString(1, apiID);
+                statement.setString(2, value);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Endpoint mapped to an API or to an operation of an API, as stored in the endpoint mapping tables. The content of
+     * API specific endpoints is kept as well, since such an endpoint is edited along with the API under the same ID.
+     */
+    private static final class EndpointMapping {
+        private final String endpointId;
+        private final String applicableLevel;
+        private String endpointConfig;
+        private Long maxTps;
+        private String type;
+        private String security;
+
+        private EndpointMapping(ResultSet rs) throws SQLException, IOException {
+            endpointId = rs.getString("ENDPOINT_ID");
+            applicableLevel = rs.getString("APPLICABLE_LEVEL");
+            if (APIMgtConstants.API_SPECIFIC_ENDPOINT.equals(applicableLevel)) {
+                endpointConfig = readStream(rs.getBinaryStream("ENDPOINT_CONFIGURATION"));
+                maxTps = rs.getLong("TPS");
+                if (rs.wasNull()) {
+                    maxTps = null;
+                }
+                type = rs.getString("ENDPOINT_TYPE");
+                security = readStream(rs.getBinaryStream("SECURITY_CONFIGURATION"));
+            }
+        }
+
+        /**
+         * Check whether the given endpoint edits the content of the stored API specific endpoint. Endpoints which
+         * only refer to the stored endpoint by ID, without an endpoint configuration, do not change it.
+         *
+         * @param endpoint endpoint mapped under the same ID
+         * @return true if the stored endpoint has to be updated
+         */
+        private boolean isContentChanged(Endpoint endpoint) {
+            if (!APIMgtConstants.API_SPECIFIC_ENDPOINT.equals(applicableLevel)
+                    || endpoint.getEndpointConfig() == null) {
+                return false;
+            }
+            return !endpoint.getEndpointConfig().equals(endpointConfig)
+                    || !Objects.equals(endpoint.getMaxTps(), maxTps) || !Objects.equals(endpoint.getType(), type)
+                    || !Objects.equals(endpoint.getSecurity(), security);
+        }
+
+        private static String readStream(InputStream inputStream) throws IOException {
+            return inputStream != null ? IOUtils.toString(inputStream) : null;
         }
     }
 
@@ -1011,9 +1551,9 @@ public class ApiDAOImpl implements ApiDAO {
     @Override
     public InputStream getWSDLArchive(String apiId) throws APIMgtDAOException {
         try (Connection connection = DAOUtil.getConnection()) {
-            return ApiResourceDAO.getBinaryValueForCategory(connection, apiId, ResourceCategory.WSDL_ZIP,
-                    ApiType.STANDARD);
-        } catch (SQLException | IOException e) {
+            return ApiResourceDAO.getBinaryValueStreamForCategory(connection, sqlStatements.getBinaryLengthFunction(),
+                    apiId, ResourceCategory.WSDL_ZIP, ApiType.STANDARD);
+        } catch (SQLException e) {
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX +
                     "getting WSDL archive for API(api: " + apiId + ")", e);
         }
@@ -1037,6 +1577,7 @@ public class ApiDAOImpl implements ApiDAO {
                     ApiResourceDAO.updateBinaryResourceForCategory(connection, apiId,
                             ResourceCategory.WSDL_TEXT, new ByteArrayInputStream(wsdlContent), updatedBy);
                 }
+                updateLastUpdatedTimeOfAPI(connection, apiId, updatedBy);
                 connection.commit();
             } catch (SQLException e) {
                 connection.rollback();
@@ -1069,6 +1610,7 @@ public class ApiDAOImpl implements ApiDAO {
                     ApiResourceDAO.updateBinaryResourceForCategory(connection, apiID,
                             ResourceCategory.WSDL_ZIP, inputStream, updatedBy);
                 }
+                updateLastUpdatedTimeOfAPI(connection, apiID, updatedBy);
                 connection.commit();
             } catch (SQLException e) {
                 connection.rollback();
@@ -1083,6 +1625,26 @@ public class ApiDAOImpl implements ApiDAO {
         }
     }
 
+    /**
+     * Bumps the last updated time of an API when one of its resources (e.g. the WSDL) changes, so that nodes which
+     * cache derived content against that timestamp pick up the change.
+     *
+     * @param connection DB connection of the ongoing transaction
+     * @param apiId      UUID of the API
+     * @param updatedBy  user who updated the resource
+     * @throws SQLException if error occurs while accessing data layer
+     */
+    private void updateLastUpdatedTimeOfAPI(Connection connection, String apiId, String updatedBy)
+            throws SQLException {
+        final String query = "UPDATE AM_API SET LAST_UPDATED_TIME = ?, UPDATED_BY = ? WHERE UUID = ?";
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+            statement.setString(2, updatedBy);
+            statement.setString(3, apiId);
+            statement.execute();
+        }
+    }
+
     @Override
     public void removeWSDL(String apiId) throws APIMgtDAOException {
         try (Connection connection = DAOUtil.getConnection()) {
@@ -1127,8 +1689,8 @@ public class ApiDAOImpl implements ApiDAO {
     @Override
     public InputStream getCompositeAPIGatewayConfig(String apiID) throws APIMgtDAOException {
         try (Connection connection = DAOUtil.getConnection()) {
-            InputStream gatewayConfig = ApiResourceDAO
-                    .getBinaryValueForCategory(connection, apiID, ResourceCategory.GATEWAY_CONFIG, ApiType.COMPOSITE);
+            InputStream gatewayConfig = ApiResourceDAO.getBinaryValueStreamForCategory(connection,
+                    sqlStatements.getBinaryLengthFunction(), apiID, ResourceCategory.GATEWAY_CONFIG, ApiType.COMPOSITE);
 
             if (gatewayConfig == null) {
                 throw new APIMgtDAOException("Gateway config of Composite API: " + apiID + ", does not exist",
@@ -1136,7 +1698,7 @@ public class ApiDAOImpl implements ApiDAO {
             }
 
             return gatewayConfig;
-        } catch (SQLException | IOException e) {
+        } catch (SQLException e) {
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX +
                     "getting Gateway Config for Composite API: " + apiID, e);
         }
@@ -1663,9 +2225,9 @@ public class ApiDAOImpl implements ApiDAO {
     @Override
     public InputStream getImage(String apiID) throws APIMgtDAOException {
         try (Connection connection = DAOUtil.getConnection()) {
-            return ApiResourceDAO.getBinaryValueForCategory(connection, apiID,
-                    ResourceCategory.IMAGE, ApiType.STANDARD);
-        } catch (SQLException | IOException e) {
+            return ApiResourceDAO.getBinaryValueStreamForCategory(connection, sqlStatements.getBinaryLengthFunction(),
+                    apiID, ResourceCategory.IMAGE, ApiType.STANDARD);
+        } catch (SQLException e) {
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting Image for API: " + apiID, e);
         }
     }
@@ -1779,8 +2341,9 @@ public class ApiDAOImpl implements ApiDAO {
     @CheckForNull
     public InputStream getDocumentFileContent(String resourceID) throws APIMgtDAOException {
         try (Connection connection = DAOUtil.getConnection()) {
-            return ApiResourceDAO.getBinaryResource(connection, resourceID);
-        } catch (SQLException | IOException e) {
+            return ApiResourceDAO.getBinaryResourceStream(connection, sqlStatements.getBinaryLengthFunction(),
+                    resourceID);
+        } catch (SQLException e) {
             String msg = "getting Document File Content for Resource: " + resourceID;
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + msg, e);
         }
@@ -1975,8 +2538,32 @@ public class ApiDAOImpl implements ApiDAO {
 
     private API constructAPIFromResultSet(Connection connection, PreparedStatement statement) throws SQLException,
             IOException {
+        List<API> apis = constructAPIListFromResultSet(connection, statement);
+
+        if (apis.isEmpty()) {
+            return null;
+        }
+
+        return apis.get(0);
+    }
+
+    /**
+     * Constructs fully populated APIs for all rows returned by the given statement. The child collections of all
+     * returned APIs are fetched in bulk via {@link ApiBulkLoadDAO}, so the number of queries executed is independent
+     * of the number of APIs and operations.
+     *
+     * @param connection DB connection
+     * @param statement  statement selecting the {@code API_SELECT} columns
+     * @return list of APIs in the order returned by the statement
+     * @throws SQLException if error occurs while accessing data layer
+     * @throws IOException  if error occurs while reading endpoint configurations
+     */
+    private List<API> constructAPIListFromResultSet(Connection connection, PreparedStatement statement)
+            throws SQLException, IOException {
+        Map<String, API.APIBuilder> apiBuilders = new LinkedHashMap<>();
+
         try (ResultSet rs = statement.executeQuery()) {
-            if (rs.next()) {
+            while (rs.next()) {
                 BusinessInformation businessInformation = new BusinessInformation();
                 businessInformation.setTechnicalOwner(rs.getString("TECHNICAL_OWNER"));
                 businessInformation.setTechnicalOwnerEmail(rs.getString("TECHNICAL_EMAIL"));
@@ -1999,24 +2586,15 @@ public class ApiDAOImpl implements ApiDAO {
 
                 String apiPrimaryKey = rs.getString("UUID");
 
-                return new API.APIBuilder(rs.getString("PROVIDER"), rs.getString("NAME"), rs.getString("VERSION")).
+                apiBuilders.put(apiPrimaryKey, new API.APIBuilder(rs.getString("PROVIDER"), rs.getString("NAME"),
+                        rs.getString("VERSION")).
                         id(apiPrimaryKey).
                         context(rs.getString("CONTEXT")).
                         isDefaultVersion(rs.getBoolean("IS_DEFAULT_VERSION")).
                         description(rs.getString("DESCRIPTION")).
                         visibility(API.Visibility.valueOf(rs.getString("VISIBILITY"))).
-                        visibleRoles(getVisibleRoles(connection, apiPrimaryKey)).
                         isResponseCachingEnabled(rs.getBoolean("IS_RESPONSE_CACHED")).
                         cacheTimeout(rs.getInt("CACHE_TIMEOUT")).
-                        tags(getTags(connection, apiPrimaryKey)).
-                        labels(getLabelNames(connection, apiPrimaryKey)).
-                        wsdlUri(ApiResourceDAO.
-                                getTextValueForCategory(connection, apiPrimaryKey,
-                                        ResourceCategory.WSDL_TEXT)).
-                        transport(getTransports(connection, apiPrimaryKey)).
-                        endpoint(getEndPointsForApi(connection, apiPrimaryKey)).
-                        apiPermission(getPermissionsStringForApi(connection, apiPrimaryKey)).
-                        permissionMap(getPermissionMapForApi(connection, apiPrimaryKey)).
                         businessInformation(businessInformation).
                         lifecycleInstanceId(rs.getString("LIFECYCLE_INSTANCE_ID")).
                         lifeCycleStatus(rs.getString("CURRENT_LC_STATUS")).
@@ -2025,40 +2603,73 @@ public class ApiDAOImpl implements ApiDAO {
                         updatedBy(rs.getString("UPDATED_BY")).
                         createdTime(rs.getTimestamp("CREATED_TIME").toLocalDateTime()).
                         lastUpdatedTime(rs.getTimestamp("LAST_UPDATED_TIME").toLocalDateTime()).
-                        uriTemplates(getUriTemplates(connection, apiPrimaryKey)).
-                        policies(getSubscripitonPolciesByAPIId(connection, apiPrimaryKey)).copiedFromApiId(rs.getString
-                        ("COPIED_FROM_API")).
+                        copiedFromApiId(rs.getString("COPIED_FROM_API")).
                         workflowStatus(rs.getString("LC_WORKFLOW_STATUS")).
-                        securityScheme(rs.getInt("SECURITY_SCHEME")).
-                        apiPolicy(getApiPolicyByAPIId(connection, apiPrimaryKey)).build();
+                        securityScheme(rs.getInt("SECURITY_SCHEME")));
             }
         }
 
-        return null;
+        List<API> apis = new ArrayList<>(apiBuilders.size());
+        if (apiBuilders.isEmpty()) {
+            return apis;
+        }
+
+        List<String> apiIds = new ArrayList<>(apiBuilders.keySet());
+        Map<String, Set<String>> visibleRoles = ApiBulkLoadDAO.getVisibleRoles(connection, apiIds);
+        Map<String, Set<String>> tags = ApiBulkLoadDAO.getTags(connection, apiIds);
+        Map<String, Set<String>> labels = ApiBulkLoadDAO.getLabelNames(connection, apiIds);
+        Map<String, String> wsdlUris = ApiBulkLoadDAO.getTextValuesForCategory(connection, apiIds,
+                ResourceCategory.WSDL_TEXT);
+        Map<String, Set<String>> transports = ApiBulkLoadDAO.getTransports(connection, apiIds);
+        Map<String, Map<String, Endpoint>> endpoints = ApiBulkLoadDAO.getEndpoints(connection, apiIds);
+        Map<String, Map<String, Integer>> permissionMaps = ApiBulkLoadDAO.getPermissionMaps(connection, apiIds);
+        Map<String, Map<String, UriTemplate>> uriTemplates = ApiBulkLoadDAO.getUriTemplates(connection, apiIds);
+        Map<String, Set<Policy>> subscriptionPolicies = ApiBulkLoadDAO.getSubscriptionPolicies(connection, apiIds);
+        Map<String, Policy> apiPolicies = ApiBulkLoadDAO.getApiPolicies(connection, apiIds);
+
+        for (Map.Entry<String, API.APIBuilder> entry : apiBuilders.entrySet()) {
+            String apiId = entry.getKey();
+            Map<String, Integer> permissionMap = permissionMaps.getOrDefault(apiId, new HashMap<>());
+
+            apis.add(entry.getValue().
+                    visibleRoles(visibleRoles.getOrDefault(apiId, new HashSet<>())).
+                    tags(tags.getOrDefault(apiId, new HashSet<>())).
+                    labels(labels.getOrDefault(apiId, new HashSet<>())).
+                    wsdlUri(wsdlUris.get(apiId)).
+                    transport(transports.getOrDefault(apiId, new HashSet<>())).
+                    endpoint(endpoints.getOrDefault(apiId, new HashMap<>())).
+                    apiPermission(getPermissionsString(permissionMap)).
+                    permissionMap(permissionMap).
+                    uriTemplates(uriTemplates.getOrDefault(apiId, new HashMap<>())).
+                    policies(subscriptionPolicies.getOrDefault(apiId, new HashSet<>())).
+                    apiPolicy(apiPolicies.get(apiId)).build());
+        }
+
+        return apis;
     }
 
     private List<API> constructAPISummaryList(Connection connection, PreparedStatement statement) throws SQLException {
         List<API> apiList = new ArrayList<>();
         try (ResultSet rs = statement.executeQuery()) {
             while (rs.next()) {
-                String apiPrimaryKey = rs.getString("UUID");
-                API apiSummary = new API.APIBuilder(rs.getString("PROVIDER"), rs.getString("NAME"),
-                        rs.getString("VERSION")).
-                        id(apiPrimaryKey).
-                        context(rs.getString("CONTEXT")).
-                        description(rs.getString("DESCRIPTION")).
-                        lifeCycleStatus(rs.getString("CURRENT_LC_STATUS")).
-                        lifecycleInstanceId(rs.getString("LIFECYCLE_INSTANCE_ID")).
-                        workflowStatus(rs.getString("LC_WORKFLOW_STATUS")).
-                        securityScheme(rs.getInt("SECURITY_SCHEME")).build();
-
-                apiList.add(apiSummary);
+                apiList.add(constructAPISummary(rs));
             }
         }
 
         return apiList;
     }
 
+    private API constructAPISummary(ResultSet rs) throws SQLException {
+        return new API.APIBuilder(rs.getString("PROVIDER"), rs.getString("NAME"), rs.getString("VERSION")).
+                id(rs.getString("UUID")).
+                context(rs.getString("CONTEXT")).
+                description(rs.getString("DESCRIPTION")).
+                lifeCycleStatus(rs.getString("CURRENT_LC_STATUS")).
+                lifecycleInstanceId(rs.getString("LIFECYCLE_INSTANCE_ID")).
+                workflowStatus(rs.getString("LC_WORKFLOW_STATUS")).
+                securityScheme(rs.getInt("SECURITY_SCHEME")).build();
+    }
+
     private CompositeAPI getCompositeAPIFromResultSet(Connection connection, PreparedStatement statement)
             throws SQLException, IOException, APIMgtDAOException {
         try (ResultSet rs = statement.executeQuery()) {
@@ -2143,39 +2754,6 @@ public class ApiDAOImpl implements ApiDAO {
         }
     }
 
-    private void deleteTagsMapping(Connection connection, String apiID) throws SQLException {
-        final String query = "DELETE FROM AM_API_TAG_MAPPING WHERE API_ID = ?";
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiID);
-            statement.execute();
-        }
-    }
-
-
-    private Set<String> getTags(Connection connection, String apiID) throws SQLException {
-        Set<String> tags = new HashSet<>();
-
-        final String query = "SELECT TAG_ID FROM AM_API_TAG_MAPPING WHERE API_ID = ?";
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiID);
-            statement.execute();
-
-            try (ResultSet rs = statement.getResultSet()) {
-                List<String> tagIDs = new ArrayList<>();
-
-                while (rs.next()) {
-                    tagIDs.add(rs.getString("TAG_ID"));
-                }
-
-                if (!tagIDs.isEmpty()) {
-                    tags = TagDAOImpl.getTagsByIDs(connection, tagIDs);
-                }
-            }
-        }
-
-        return tags;
-    }
-
     private void addVisibleRole(Connection connection, String apiID, Set<String> roles) throws SQLException {
         final String query = "INSERT INTO AM_API_VISIBLE_ROLES (API_ID, ROLE) VALUES (?,?)";
         try (PreparedStatement statement = connection.prepareStatement(query)) {
@@ -2189,32 +2767,6 @@ public class ApiDAOImpl implements ApiDAO {
         }
     }
 
-    private void deleteVisibleRoles(Connection connection, String apiID) throws SQLException {
-        final String query = "DELETE FROM AM_API_VISIBLE_ROLES WHERE API_ID = ?";
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiID);
-            statement.execute();
-        }
-    }
-
-    private Set<String> getVisibleRoles(Connection connection, String apiID) throws SQLException {
-        Set<String> roles = new HashSet<>();
-
-        final String query = "SELECT ROLE FROM AM_API_VISIBLE_ROLES WHERE API_ID = ?";
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiID);
-            statement.execute();
-
-            try (ResultSet rs = statement.getResultSet()) {
-                while (rs.next()) {
-                    roles.add(rs.getString("ROLE"));
-                }
-            }
-        }
-
-        return roles;
-    }
-
     private void addAPIDefinition(Connection connection, String apiID, String apiDefinition, String addedBy)
             throws SQLException {
         if (!apiDefinition.isEmpty()) {
@@ -2280,14 +2832,6 @@ public class ApiDAOImpl implements ApiDAO {
     }
 
 
-    private void deleteAPIPermission(Connection connection, String apiID) throws SQLException {
-        final String query = "DELETE FROM AM_API_GROUP_PERMISSION WHERE API_ID = ?";
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiID);
-            statement.execute();
-        }
-    }
-
     /**
      * Adding API permission to database
      *
@@ -2305,51 +2849,7 @@ public class ApiDAOImpl implements ApiDAO {
                     for (Map.Entry<String, Integer> entry : map.entrySet()) {
                         statement.setString(1, apiId);
                         statement.setString(2, entry.getKey());
-                        Integer permissionValue = entry.getValue();
-                        //if permission value is UPDATE, DELETE or MANAGE_SUBSCRIPTION_PERMISSION we by default give
-                        // them read permission also. Have used the bitwise AND operation to check whether the
-                        // permission value passed by the user contains the read permission.
-                        if (permissionValue > APIMgtConstants.Permission.READ_PERMISSION
-                                && (permissionValue & APIMgtConstants.Permission.READ_PERMISSION) == 0) {
-                            statement.setInt(3, permissionValue + APIMgtConstants.Permission.READ_PERMISSION);
-                        } else {
-                            statement.setInt(3, permissionValue);
-                        }
-                        statement.addBatch();
-                    }
-                    statement.executeBatch();
-                }
-            }
-        }
-    }
-
-    /**
-     * Update API permission
-     *
-     * @param connection connection to database
-     * @param permissionMap updated permission map
-     * @param apiId id of API to be updated permission
-     * @throws SQLException if error occurred when updating api permission
-     */
-    private void updateApiPermission(Connection connection, Map permissionMap, String apiId) throws SQLException {
-        final String query = "INSERT INTO AM_API_GROUP_PERMISSION (API_ID, GROUP_ID, PERMISSION) VALUES (?, ?, ?)";
-        Map<String, Integer> map = permissionMap;
-        if (permissionMap != null) {
-            if (permissionMap.size() > 0) {
-                try (PreparedStatement statement = connection.prepareStatement(query)) {
-                    for (Map.Entry<String, Integer> entry : map.entrySet()) {
-                        statement.setString(1, apiId);
-                        statement.setString(2, entry.getKey());
-                        Integer permissionValue = entry.getValue();
-                        //if permission value is UPDATE, DELETE or MANAGE_SUBSCRIPTION_PERMISSION we by default give
-                        // them read permission also. Have used the bitwise AND operation to check whether the
-                        // permission value passed by the user contains the read permission.
-                        if (permissionValue > APIMgtConstants.Permission.READ_PERMISSION
-                                && (permissionValue & APIMgtConstants.Permission.READ_PERMISSION) == 0) {
-                            statement.setInt(3, permissionValue + APIMgtConstants.Permission.READ_PERMISSION);
-                        } else {
-                            statement.setInt(3, permissionValue);
-                        }
+                        statement.setInt(3, getStoredPermissionValue(entry.getValue()));
                         statement.addBatch();
                     }
                     statement.executeBatch();
@@ -2358,15 +2858,6 @@ public class ApiDAOImpl implements ApiDAO {
         }
     }
 
-    private void deleteTransports(Connection connection, String apiID) throws SQLException {
-        final String query = "DELETE FROM AM_API_TRANSPORTS WHERE API_ID = ?";
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiID);
-            statement.execute();
-        }
-    }
-
-
     private void addUrlMappings(Connection connection, Collection<UriTemplate> uriTemplates, String apiID)
             throws SQLException {
         final String query = "INSERT INTO AM_API_OPERATION_MAPPING (OPERATION_ID,API_ID, HTTP_METHOD, URL_PATTERN, "
@@ -2456,75 +2947,6 @@ public class ApiDAOImpl implements ApiDAO {
         }
     }
 
-    private Policy getApiPolicyByAPIId(Connection connection, String apiId) throws SQLException {
-        final String query = "SELECT amapipolicy.NAME AS POLICY_NAME FROM AM_API_POLICY_MAPPING apimpolicymapping," +
-                "AM_API_POLICY amapipolicy WHERE apimpolicymapping.API_POLICY_ID=amapipolicy.UUID " +
-                "AND apimpolicymapping.API_ID = ?";
-        Policy apiPolicy = null;
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiId);
-            statement.execute();
-
-            try (ResultSet rs = statement.getResultSet()) {
-                if (rs.next()) {
-                    apiPolicy = new APIPolicy(rs.getString("POLICY_NAME"));
-                }
-            }
-        }
-        return apiPolicy;
-    }
-
-    private void deleteSubscriptionPolicies(Connection connection, String apiID) throws SQLException {
-        final String query = "DELETE FROM AM_API_SUBS_POLICY_MAPPING WHERE API_ID = ?";
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiID);
-            statement.execute();
-        }
-    }
-
-    private Set<Policy> getSubscripitonPolciesByAPIId(Connection connection, String apiId) throws SQLException {
-        final String query = "SELECT amPolcySub.NAME FROM AM_API_SUBS_POLICY_MAPPING apimsubmapping," +
-                "AM_SUBSCRIPTION_POLICY amPolcySub where apimsubmapping.SUBSCRIPTION_POLICY_ID=amPolcySub.UUID " +
-                "AND apimsubmapping.API_ID = ?";
-        Set<Policy> policies = new HashSet<>();
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiId);
-            statement.execute();
-
-            try (ResultSet rs = statement.getResultSet()) {
-                while (rs.next()) {
-                    policies.add(new SubscriptionPolicy(rs.getString("NAME")));
-                }
-            }
-        }
-
-        return policies;
-    }
-
-    private boolean checkTableColumnExists(DatabaseMetaData databaseMetaData, String tableName, String columnName)
-            throws SQLException {
-        try (ResultSet rs = databaseMetaData.getColumns(null, null, tableName, columnName)) {
-            return rs.next();
-        }
-    }
-
-    private int getApiTypeId(Connection connection, ApiType apiType) throws SQLException {
-        final String query = "SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?";
-
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiType.toString());
-            statement.execute();
-
-            try (ResultSet rs = statement.getResultSet()) {
-                if (rs.next()) {
-                    return rs.getInt("TYPE_ID");
-                }
-
-                throw new IllegalStateException("API Type " + apiType.toString() + " does not exist");
-            }
-        }
-    }
-
     static void initResourceCategories() throws APIMgtDAOException {
         try (Connection connection = DAOUtil.getConnection()) {
             try {
@@ -2532,6 +2954,7 @@ public class ApiDAOImpl implements ApiDAO {
                     connection.setAutoCommit(false);
                     ResourceCategoryDAO.addResourceCategories(connection);
                     connection.commit();
+                    LookupTableRegistry.refresh(connection);
                 }
             } catch (SQLException e) {
                 connection.rollback();
@@ -2551,6 +2974,7 @@ public class ApiDAOImpl implements ApiDAO {
                     connection.setAutoCommit(false);
                     addApiTypes(connection);
                     connection.commit();
+                    LookupTableRegistry.refresh(connection);
                 }
             } catch (SQLException e) {
                 connection.rollback();
@@ -2678,11 +3102,9 @@ public class ApiDAOImpl implements ApiDAO {
     @Override
     @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
     public List<API> getAPIsByStatus(List<String> gatewayLabels, String status) throws APIMgtDAOException {
-        final String query = "SELECT DISTINCT UUID, PROVIDER, A.NAME, CONTEXT, VERSION, DESCRIPTION, CURRENT_LC_STATUS,"
-                + " LIFECYCLE_INSTANCE_ID, LC_WORKFLOW_STATUS, SECURITY_SCHEME FROM AM_API A INNER JOIN " +
-                " AM_API_LABEL_MAPPING M ON A.UUID"
-                + " = M.API_ID INNER JOIN AM_LABELS L ON L.LABEL_ID = M.LABEL_ID WHERE L.NAME IN (" + DAOUtil
-                .getParameterString(gatewayLabels.size()) + ") AND A.CURRENT_LC_STATUS=?";
+        final String query = API_SELECT + " WHERE UUID IN (SELECT M.API_ID FROM AM_API_LABEL_MAPPING M " +
+                "INNER JOIN AM_LABELS L ON L.LABEL_ID = M.LABEL_ID WHERE L.NAME IN (" +
+                DAOUtil.getParameterString(gatewayLabels.size()) + ")) AND CURRENT_LC_STATUS = ?";
 
         try (Connection connection = DAOUtil.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
@@ -2691,8 +3113,8 @@ public class ApiDAOImpl implements ApiDAO {
                 statement.setString(++i, label);
             }
             statement.setString(++i, status);
-            return constructAPISummaryList(connection, statement);
-        } catch (SQLException e) {
+            return constructAPIListFromResultSet(connection, statement);
+        } catch (SQLException | IOException e) {
             String msg = "getting APIs for given gateway labels: " + gatewayLabels.toString() +
                     " with status: " + status;
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + msg, e);
@@ -2702,11 +3124,9 @@ public class ApiDAOImpl implements ApiDAO {
     @Override
     @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
     public List<API> getAPIsByGatewayLabel(List<String> gatewayLabels) throws APIMgtDAOException {
-        final String query = "SELECT DISTINCT UUID, PROVIDER, A.NAME, CONTEXT, VERSION, DESCRIPTION, CURRENT_LC_STATUS,"
-                + " LIFECYCLE_INSTANCE_ID, LC_WORKFLOW_STATUS, SECURITY_SCHEME FROM AM_API A INNER JOIN " +
-                "AM_API_LABEL_MAPPING M ON A.UUID"
-                + " = M.API_ID INNER JOIN AM_LABELS L ON L.LABEL_ID = M.LABEL_ID WHERE L.NAME IN (" + DAOUtil
-                .getParameterString(gatewayLabels.size()) + ")";
+        final String query = API_SELECT + " WHERE UUID IN (SELECT M.API_ID FROM AM_API_LABEL_MAPPING M " +
+                "INNER JOIN AM_LABELS L ON L.LABEL_ID = M.LABEL_ID WHERE L.NAME IN (" +
+                DAOUtil.getParameterString(gatewayLabels.size()) + "))";
 
         try (Connection connection = DAOUtil.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
@@ -2714,13 +3134,43 @@ public class ApiDAOImpl implements ApiDAO {
             for (String label : gatewayLabels) {
                 statement.setString(++i, label);
             }
-            return constructAPISummaryList(connection, statement);
-        } catch (SQLException e) {
+            return constructAPIListFromResultSet(connection, statement);
+        } catch (SQLException | IOException e) {
             String msg = "searching APIs getting APIs for given gateway labels: " + gatewayLabels.toString();
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + msg, e);
         }
     }
 
+    @Override
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    public void getAPISummariesByGatewayLabel(List<String> gatewayLabels, String status,
+                                              ResultConsumer<API> consumer) throws APIMgtDAOException {
+        final String query = API_SUMMARY_SELECT + " WHERE UUID IN (SELECT M.API_ID FROM AM_API_LABEL_MAPPING M " +
+                "INNER JOIN AM_LABELS L ON L.LABEL_ID = M.LABEL_ID WHERE L.NAME IN (" +
+                DAOUtil.getParameterString(gatewayLabels.size()) + "))" +
+                (status != null ? " AND CURRENT_LC_STATUS = ?" : "");
+
+        try (Connection connection = DAOUtil.getConnection();
+             PreparedStatement statement = DAOUtil.prepareStreamingStatement(connection, query)) {
+            int i = 0;
+            for (String label : gatewayLabels) {
+                statement.setString(++i, label);
+            }
+            if (status != null) {
+                statement.setString(++i, status);
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    consumer.accept(constructAPISummary(rs));
+                }
+            }
+        } catch (SQLException | IOException e) {
+            String msg = "reading APIs for given gateway labels: " + gatewayLabels.toString() +
+                    " with status: " + status;
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + msg, e);
+        }
+    }
+
     private boolean isEndpointAssociatedToOperation(Connection connection, String endpointId) throws SQLException {
         final String query = "Select 1 FROM AM_API_RESOURCE_ENDPOINT WHERE ENDPOINT_ID = ?";
         try (PreparedStatement statement = connection.prepareStatement(query)) {
@@ -2740,24 +3190,10 @@ public class ApiDAOImpl implements ApiDAO {
      */
     @Override
     public boolean updateEndpoint(Endpoint endpoint) throws APIMgtDAOException {
-        final String query = "UPDATE AM_ENDPOINT SET ENDPOINT_CONFIGURATION = ?,TPS = ?,TYPE = " +
-                "?,SECURITY_CONFIGURATION =?, LAST_UPDATED_TIME = ?, GATEWAY_CONFIG = ? WHERE UUID = ?";
         try (Connection connection = DAOUtil.getConnection()) {
             connection.setAutoCommit(false);
-            try (PreparedStatement statement = connection.prepareStatement(query)) {
-                InputStream byteArrayInputStream = IOUtils.toInputStream(endpoint.getEndpointConfig());
-                statement.setBinaryStream(1, byteArrayInputStream);
-                if (endpoint.getMaxTps() != null) {
-                    statement.setLong(2, endpoint.getMaxTps());
-                } else {
-                    statement.setNull(2, Types.INTEGER);
-                }
-                statement.setString(3, endpoint.getType());
-                statement.setBinaryStream(4, IOUtils.toInputStream(endpoint.getSecurity()));
-                statement.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
-                statement.setBinaryStream(6, IOUtils.toInputStream(endpoint.getConfig()));
-                statement.setString(7, endpoint.getId());
-                statement.execute();
+            try {
+                updateEndpoint(connection, endpoint);
                 connection.commit();
                 return true;
             } catch (SQLException e) {
@@ -2771,6 +3207,26 @@ public class ApiDAOImpl implements ApiDAO {
         }
     }
 
+    private void updateEndpoint(Connection connection, Endpoint endpoint) throws SQLException {
+        final String query = "UPDATE AM_ENDPOINT SET ENDPOINT_CONFIGURATION = ?,TPS = ?,TYPE = " +
+                "?,SECURITY_CONFIGURATION =?, LAST_UPDATED_TIME = ?, GATEWAY_CONFIG = ? WHERE UUID = ?";
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            InputStream byteArrayInputStream = IOUtils.toInputStream(endpoint.getEndpointConfig());
+            statement.setBinaryStream(1, byteArrayInputStream);
+            if (endpoint.getMaxTps() != null) {
+                statement.setLong(2, endpoint.getMaxTps());
+            } else {
+                statement.setNull(2, Types.INTEGER);
+            }
+            statement.setString(3, endpoint.getType());
+            statement.setBinaryStream(4, IOUtils.toInputStream(endpoint.getSecurity()));
+            statement.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
+            statement.setBinaryStream(6, IOUtils.toInputStream(endpoint.getConfig()));
+            statement.setString(7, endpoint.getId());
+            statement.execute();
+        }
+    }
+
     /**
      * Get an Endpoint
      *
@@ -2804,7 +3260,7 @@ public class ApiDAOImpl implements ApiDAO {
         return null;
     }
 
-    private Endpoint constructEndPointDetails(ResultSet resultSet) throws SQLException, IOException {
+    static Endpoint constructEndPointDetails(ResultSet resultSet) throws SQLException, IOException {
         Endpoint.Builder endpointBuilder = new Endpoint.Builder();
         endpointBuilder.id(resultSet.getString("UUID"));
         endpointBuilder.name(resultSet.getString("NAME"));
@@ -2860,32 +3316,40 @@ public class ApiDAOImpl implements ApiDAO {
      */
     @Override
     public List<Endpoint> getEndpoints() throws APIMgtDAOException {
+        List<Endpoint> endpointList = new ArrayList<>();
+        getEndpoints(endpointList::add);
+        return endpointList;
+    }
+
+    /**
+     * Read all Endpoints, passing each Endpoint to the consumer as it is read
+     *
+     * @param consumer Consumer of the retrieved endpoints
+     * @throws APIMgtDAOException If failed to retrieve endpoints or if the consumer failed.
+     */
+    @Override
+    public void getEndpoints(ResultConsumer<Endpoint> consumer) throws APIMgtDAOException {
         final String query = "SELECT UUID,NAME,ENDPOINT_CONFIGURATION,TPS,TYPE,SECURITY_CONFIGURATION," +
                 "APPLICABLE_LEVEL FROM AM_ENDPOINT WHERE APPLICABLE_LEVEL='" + APIMgtConstants.GLOBAL_ENDPOINT + "'";
-        List<Endpoint> endpointList = new ArrayList<>();
         try (Connection connection = DAOUtil.getConnection();
-             PreparedStatement statement = connection.prepareStatement(query);
+             PreparedStatement statement = DAOUtil.prepareStreamingStatement(connection, query);
              ResultSet resultSet = statement.executeQuery()) {
             while (resultSet.next()) {
-                endpointList.add(constructEndPointDetails(resultSet));
+                consumer.accept(constructEndPointDetails(resultSet));
             }
         } catch (SQLException | IOException e) {
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting Endpoints", e);
         }
-        return endpointList;
     }
 
     /**
-     * This returns the json string containing the role permissions for a given API
+     * This returns the json string containing the role permissions of the given permission map
      *
-     * @param connection - DB connection
-     * @param apiId - apiId of the API
+     * @param permissionMap - permission map of the API
      * @return permission string
-     * @throws SQLException - if error occurred while getting permissionMap of API from DB
      */
-    private String getPermissionsStringForApi(Connection connection, String apiId) throws SQLException {
+    private static String getPermissionsString(Map<String, Integer> permissionMap) {
         JSONArray permissionArray = new JSONArray();
-        Map<String, Integer> permissionMap = getPermissionMapForApi(connection, apiId);
         for (Map.Entry<String, Integer> entry : permissionMap.entrySet()) {
             JSONObject jsonObject = new JSONObject();
             jsonObject.put(APIMgtConstants.Permission.GROUP_ID, entry.getKey());
@@ -2900,28 +3364,6 @@ public class ApiDAOImpl implements ApiDAO {
         }
     }
 
-    /**
-     * This constructs and returns the API permissions map from the DB
-     *
-     * @param connection - DB connection
-     * @param apiId - apiId of the API
-     * @return permission map for the API
-     * @throws SQLException - if error occurred while getting permissionMap of API from DB
-     */
-    private Map<String, Integer> getPermissionMapForApi(Connection connection, String apiId) throws SQLException {
-        Map<String, Integer> permissionMap = new HashMap();
-        final String query = "SELECT GROUP_ID,PERMISSION FROM AM_API_GROUP_PERMISSION WHERE API_ID=?";
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setString(1, apiId);
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                while (resultSet.next()) {
-                    permissionMap.put(resultSet.getString("GROUP_ID"), resultSet.getInt("PERMISSION"));
-                }
-            }
-        }
-        return permissionMap;
-    }
-
     private Map<String, Endpoint> getEndPointsForApi(Connection connection, String apiId) throws SQLException,
             IOException {
         Map<String, Endpoint> endpointMap = new HashMap();
@@ -3086,14 +3528,6 @@ public class ApiDAOImpl implements ApiDAO {
         }
     }
 
-    private void deleteLabelsMapping(Connection connection, String apiID) throws SQLException {
-        final String query = "DELETE FROM AM_API_LABEL_MAPPING WHERE API_ID = ?";
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiID);
-            statement.execute();
-        }
-    }
-
     private Set<String> getLabelNames(Connection connection, String apiID) throws SQLException {
         Set<String> labelNames = new HashSet<>();
 
@@ -21,9 +21,7 @@
 package org.wso2.carbon.apimgt.core.dao.impl;
 
 import org.wso2.carbon.apimgt.core.dao.ApiType;
-import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.List;
@@ -85,17 +83,33 @@ public interface ApiDAOVendorSpecificStatements {
                                         throws SQLException;
 
     /**
-     * Creates attribute search query in API store, specific to database
+     * Returns the query string to be used for the attribute search query in API store. This is required to construct
+     * the PreparedStatement which will be created externally
      *
-     * @param connection DB connection
+     * @param attributeMap map containing the attributes and search queries for those attributes
+     * @param roleCount number of user roles to be passed to query
+     * @return query string specific to database type.
+     */
+    String getStoreAttributeSearchQuery(Map<String, String> attributeMap, int roleCount);
+
+    /**
+     * Sets the parameters of the attribute search query in API store, specific to database
+     *
+     * @param statement SQL PreparedStatement created from {@link #getStoreAttributeSearchQuery(Map, int)}
      * @param roles user roles
      * @param attributeMap map containing the attributes and search queries for those attributes
      * @param offset the starting point of the search results.
      * @param limit number of search results that will be returned.
-     * @return statement build for specific database type.
-     * @throws APIMgtDAOException if error occurs while accessing data layer
+     * @throws SQLException if DB error occurs
      */
-    PreparedStatement prepareAttributeSearchStatementForStore(Connection connection, List<String> roles, Map<String,
-            String> attributeMap, int offset, int limit) throws APIMgtDAOException;
+    void setStoreAttributeSearchStatement(PreparedStatement statement, List<String> roles, Map<String,
+            String> attributeMap, int offset, int limit) throws SQLException;
 
+    /**
+     * Returns the SQL function which gives the size in bytes of a binary column value, which is used to find the size
+     * of a stored resource without reading it
+     *
+     * @return function name specific to database type
+     */
+    String getBinaryLengthFunction();
 }
@@ -21,6 +21,7 @@ import com.google.gson.Gson;
 import com.google.gson.stream.JsonReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.api.ResultConsumer;
 import org.wso2.carbon.apimgt.core.dao.ApiDAO;
 import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
@@ -78,6 +79,33 @@ public class ApiFileDAOImpl implements ApiDAO {
         APIFileUtils.exportSwaggerDefinitionToFileSystem(api.getApiDefinition(), api, apiExportDirectory);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addAPIs(List<API> apis) throws APIMgtDAOException {
+        for (API api : apis) {
+            addAPI(api);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<API> getAPISummaries(List<String> apiIDs, Set<String> roles, String user)
+            throws APIMgtDAOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<API> getAllAPIs() throws APIMgtDAOException {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -343,6 +371,15 @@ public class ApiFileDAOImpl implements ApiDAO {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * @see ApiDAO#getEndpoints(ResultConsumer)
+     */
+    @Override
+    public void getEndpoints(ResultConsumer<Endpoint> consumer) throws APIMgtDAOException {
+        // global endpoints are not supported in editor mode
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * @see ApiDAO#updateApiDefinition(String apiID, String swaggerDefinition, String updatedBy)
      */
@@ -518,6 +555,15 @@ public class ApiFileDAOImpl implements ApiDAO {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * @see ApiDAO#getAPISummariesByGatewayLabel(List, String, ResultConsumer)
+     */
+    @Override
+    public void getAPISummariesByGatewayLabel(List<String> gatewayLabels, String status,
+                                              ResultConsumer<API> consumer) throws APIMgtDAOException {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * @see ApiDAO#addComment(Comment, String)
      */
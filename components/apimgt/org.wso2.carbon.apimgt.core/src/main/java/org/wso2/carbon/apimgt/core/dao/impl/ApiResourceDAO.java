@@ -20,9 +20,11 @@
 
 package org.wso2.carbon.apimgt.core.dao.impl;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.io.IOUtils;
 import org.wso2.carbon.apimgt.core.dao.ApiType;
 import org.wso2.carbon.apimgt.core.models.ResourceCategory;
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -36,13 +38,18 @@ import java.time.LocalDateTime;
 
 class ApiResourceDAO {
 
+    private static final String CATEGORY_RESOURCE_CONDITION = " FROM AM_API_RESOURCES res " +
+            "INNER JOIN AM_API api ON res.API_ID = api.UUID " +
+            "WHERE res.API_ID = ? AND res.RESOURCE_CATEGORY_ID = ? AND " +
+            "api.API_TYPE_ID = ?";
+
     static boolean isResourceExistsForCategory(Connection connection, String apiID,
                                                ResourceCategory category) throws SQLException {
         final String query = "SELECT 1 FROM AM_API_RESOURCES WHERE API_ID = ? AND RESOURCE_CATEGORY_ID = ?";
 
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, apiID);
-            statement.setInt(2, ResourceCategoryDAO.getResourceCategoryID(connection, category));
+            statement.setInt(2, LookupTableRegistry.getResourceCategoryID(connection, category));
             statement.execute();
 
             try (ResultSet rs =  statement.getResultSet()) {
@@ -62,7 +69,7 @@ class ApiResourceDAO {
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, resourceID);
             statement.setString(2, apiID);
-            statement.setInt(3, ResourceCategoryDAO.getResourceCategoryID(connection, category));
+            statement.setInt(3, LookupTableRegistry.getResourceCategoryID(connection, category));
 
             statement.execute();
         }
@@ -78,7 +85,7 @@ class ApiResourceDAO {
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, resourceID);
             statement.setString(2, apiID);
-            statement.setInt(3, ResourceCategoryDAO.getResourceCategoryID(connection, category));
+            statement.setInt(3, LookupTableRegistry.getResourceCategoryID(connection, category));
             statement.setString(4, dataType);
             statement.setString(5, textValue);
             statement.setString(6, createdBy);
@@ -98,7 +105,7 @@ class ApiResourceDAO {
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, resourceID);
             statement.setString(2, apiID);
-            statement.setInt(3, ResourceCategoryDAO.getResourceCategoryID(connection, category));
+            statement.setInt(3, LookupTableRegistry.getResourceCategoryID(connection, category));
             statement.setString(4, dataType);
             statement.setBinaryStream(5, binaryValue);
             statement.setString(6, createdBy);
@@ -116,7 +123,7 @@ class ApiResourceDAO {
                 "RESOURCE_CATEGORY_ID = ?";
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, apiID);
-            statement.setInt(2, ResourceCategoryDAO.getResourceCategoryID(connection, resourceCategory));
+            statement.setInt(2, LookupTableRegistry.getResourceCategoryID(connection, resourceCategory));
             statement.execute();
 
             try (ResultSet rs =  statement.getResultSet()) {
@@ -139,7 +146,7 @@ class ApiResourceDAO {
             statement.setString(2, updatedBy);
             statement.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
             statement.setString(4, apiID);
-            statement.setInt(5, ResourceCategoryDAO.getResourceCategoryID(connection, category));
+            statement.setInt(5, LookupTableRegistry.getResourceCategoryID(connection, category));
 
             statement.execute();
         }
@@ -151,12 +158,12 @@ class ApiResourceDAO {
         final String query = "SELECT res.RESOURCE_BINARY_VALUE FROM AM_API_RESOURCES res " +
                 "INNER JOIN AM_API api ON res.API_ID = api.UUID " +
                 "WHERE res.API_ID = ? AND res.RESOURCE_CATEGORY_ID = ? AND " +
-                "api.API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)";
+                "api.API_TYPE_ID = ?";
 
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, apiID);
-            statement.setInt(2, ResourceCategoryDAO.getResourceCategoryID(connection, category));
-            statement.setString(3, apiType.toString());
+            statement.setInt(2, LookupTableRegistry.getResourceCategoryID(connection, category));
+            statement.setInt(3, LookupTableRegistry.getApiTypeID(connection, apiType));
             statement.execute();
 
             try (ResultSet rs =  statement.getResultSet()) {
@@ -171,8 +178,62 @@ class ApiResourceDAO {
         return null;
     }
 
-    static InputStream getBinaryResource(Connection connection, String resourceID) throws SQLException, IOException {
-        final String query = "SELECT RESOURCE_BINARY_VALUE FROM AM_API_RESOURCES WHERE UUID = ?";
+    /**
+     * Get a stream of the binary value of a resource category of an API, which reads the value from the database as
+     * the stream is read
+     *
+     * @param connection     connection used to find the size of the value
+     * @param lengthFunction SQL function giving the size of a binary value, specific to the database
+     * @param apiID          UUID of the API
+     * @param category       resource category
+     * @param apiType        type of the API
+     * @return stream of the value, or null if the API has no value for the category
+     * @throws SQLException if DB error occurs
+     */
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    static SizedInputStream getBinaryValueStreamForCategory(Connection connection, String lengthFunction,
+                                                            String apiID, ResourceCategory category,
+                                                            ApiType apiType) throws SQLException {
+        final String query = "SELECT " + lengthFunction + "(res.RESOURCE_BINARY_VALUE)" + CATEGORY_RESOURCE_CONDITION;
+        final int categoryID = LookupTableRegistry.getResourceCategoryID(connection, category);
+        final int apiTypeID = LookupTableRegistry.getApiTypeID(connection, apiType);
+
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            setCategoryResourceParameters(statement, apiID, categoryID, apiTypeID);
+            statement.execute();
+
+            try (ResultSet rs = statement.getResultSet()) {
+                if (rs.next()) {
+                    long size = rs.getLong(1);
+                    if (!rs.wasNull()) {
+                        return new BinaryValueInputStream(size, valueConnection -> {
+                            PreparedStatement valueStatement = valueConnection.prepareStatement(
+                                    "SELECT res.RESOURCE_BINARY_VALUE" + CATEGORY_RESOURCE_CONDITION);
+                            setCategoryResourceParameters(valueStatement, apiID, categoryID, apiTypeID);
+                            return valueStatement;
+                        });
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Get a stream of the binary value of a resource, which reads the value from the database as the stream is read
+     *
+     * @param connection     connection used to find the size of the value
+     * @param lengthFunction SQL function giving the size of a binary value, specific to the database
+     * @param resourceID     UUID of the resource
+     * @return stream of the value, or null if the resource has no binary value
+     * @throws SQLException if DB error occurs
+     */
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    static SizedInputStream getBinaryResourceStream(Connection connection, String lengthFunction, String resourceID)
+            throws SQLException {
+        final String query = "SELECT " + lengthFunction + "(RESOURCE_BINARY_VALUE) FROM AM_API_RESOURCES " +
+                "WHERE UUID = ?";
 
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, resourceID);
@@ -180,9 +241,14 @@ class ApiResourceDAO {
 
             try (ResultSet rs = statement.getResultSet()) {
                 if (rs.next()) {
-                    InputStream inputStream = rs.getBinaryStream("RESOURCE_BINARY_VALUE");
-                    if (inputStream != null) {
-                        return new ByteArrayInputStream(IOUtils.toByteArray(inputStream));
+                    long size = rs.getLong(1);
+                    if (!rs.wasNull()) {
+                        return new BinaryValueInputStream(size, valueConnection -> {
+                            PreparedStatement valueStatement = valueConnection.prepareStatement(
+                                    "SELECT RESOURCE_BINARY_VALUE FROM AM_API_RESOURCES WHERE UUID = ?");
+                            valueStatement.setString(1, resourceID);
+                            return valueStatement;
+                        });
                     }
                 }
             }
@@ -190,6 +256,13 @@ class ApiResourceDAO {
         return null;
     }
 
+    private static void setCategoryResourceParameters(PreparedStatement statement, String apiID, int categoryID,
+                                                      int apiTypeID) throws SQLException {
+        statement.setString(1, apiID);
+        statement.setInt(2, categoryID);
+        statement.setInt(3, apiTypeID);
+    }
+
     static String getTextResource(Connection connection, String resourceID) throws SQLException {
         final String query = "SELECT RESOURCE_TEXT_VALUE FROM AM_API_RESOURCES WHERE UUID = ?";
 
@@ -218,7 +291,7 @@ class ApiResourceDAO {
             statement.setString(2, updatedBy);
             statement.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
             statement.setString(4, apiID);
-            statement.setInt(5, ResourceCategoryDAO.getResourceCategoryID(connection, category));
+            statement.setInt(5, LookupTableRegistry.getResourceCategoryID(connection, category));
 
             statement.execute();
         }
@@ -231,7 +304,7 @@ class ApiResourceDAO {
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, apiId);
             statement.setString(2, resourceID);
-            statement.setInt(3, ResourceCategoryDAO.getResourceCategoryID(connection, category));
+            statement.setInt(3, LookupTableRegistry.getResourceCategoryID(connection, category));
             statement.execute();
 
             try (ResultSet rs = statement.getResultSet()) {
@@ -249,7 +322,7 @@ class ApiResourceDAO {
                 "RESOURCE_CATEGORY_ID = ?";
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, apiID);
-            statement.setInt(2, ResourceCategoryDAO.getResourceCategoryID(connection, category));
+            statement.setInt(2, LookupTableRegistry.getResourceCategoryID(connection, category));
             statement.execute();
 
             try (ResultSet rs = statement.getResultSet()) {
@@ -294,7 +367,7 @@ class ApiResourceDAO {
         final String query = "DELETE FROM AM_API_RESOURCES WHERE API_ID = ? AND RESOURCE_CATEGORY_ID = ?";
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, apiID);
-            statement.setInt(2, ResourceCategoryDAO.getResourceCategoryID(connection, resourceCategory));
+            statement.setInt(2, LookupTableRegistry.getResourceCategoryID(connection, resourceCategory));
 
             statement.execute();
         }
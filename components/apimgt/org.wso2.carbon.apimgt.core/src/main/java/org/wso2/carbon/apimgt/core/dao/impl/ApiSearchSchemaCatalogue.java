@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.dao.impl;
+
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Catalogue of the columns which can be searched by attribute, read from the database metadata once per data source
+ * so that the attribute names of search requests are validated in memory instead of through metadata lookups which
+ * are round trips to the database on some vendors. Also caches the attribute search queries, which depend only on
+ * the searched attributes and on the number of roles of the user.
+ */
+final class ApiSearchSchemaCatalogue {
+    private static final String AM_API_TABLE_NAME = "AM_API";
+    private static final String AM_TAGS_TABLE_NAME = "AM_TAGS";
+    private static final String AM_API_OPERATION_MAPPING_TABLE_NAME = "AM_API_OPERATION_MAPPING";
+
+    // upper bound on the cached queries, since the number of roles of a user is not bounded
+    private static final int MAX_CACHED_QUERIES = 1000;
+
+    private static volatile ApiSearchSchemaCatalogue instance;
+
+    private final Map<String, Set<String>> tableColumns;
+    private final Map<String, String> searchQueries = new ConcurrentHashMap<>();
+
+    ApiSearchSchemaCatalogue(Map<String, Set<String>> tableColumns) {
+        this.tableColumns = tableColumns;
+    }
+
+    /**
+     * Get the catalogue of the configured data source, reading it from the database metadata on first use
+     *
+     * @param connection DB connection
+     * @return {@link ApiSearchSchemaCatalogue} of the data source
+     * @throws SQLException if the database metadata could not be read
+     */
+    static ApiSearchSchemaCatalogue getInstance(Connection connection) throws SQLException {
+        if (instance == null) {
+            synchronized (ApiSearchSchemaCatalogue.class) {
+                if (instance == null) {
+                    ApiSearchSchemaCatalogue catalogue = build(connection.getMetaData());
+                    // the tables may not have been created yet, in which case the metadata is read again later
+                    if (!catalogue.tableColumns.get(AM_API_TABLE_NAME).isEmpty()) {
+                        instance = catalogue;
+                    }
+                    return catalogue;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Discard the catalogue, so that it is read again once the data source changes
+     */
+    static synchronized void clear() {
+        instance = null;
+    }
+
+    static ApiSearchSchemaCatalogue build(DatabaseMetaData metaData) throws SQLException {
+        Map<String, Set<String>> tableColumns = new HashMap<>();
+        for (String tableName : new String[]{AM_API_TABLE_NAME, AM_TAGS_TABLE_NAME,
+                AM_API_OPERATION_MAPPING_TABLE_NAME}) {
+            tableColumns.put(tableName, Collections.unmodifiableSet(getColumns(metaData, tableName)));
+        }
+        return new ApiSearchSchemaCatalogue(tableColumns);
+    }
+
+    /**
+     * Check whether an attribute can be searched through the publisher attribute search
+     *
+     * @param attribute attribute name
+     * @return true if the attribute is a column of the AM_API table
+     */
+    boolean isApiAttribute(String attribute) {
+        return hasColumn(AM_API_TABLE_NAME, attribute);
+    }
+
+    /**
+     * Check whether an attribute can be searched through the store attribute search
+     *
+     * @param attribute attribute name
+     * @return true if the attribute is the tag or subcontext search type, or a column of the AM_API table
+     */
+    boolean isStoreAttribute(String attribute) {
+        if (APIMgtConstants.TAG_SEARCH_TYPE_PREFIX.equalsIgnoreCase(attribute)) {
+            //if the search is related to tags, need to check NAME column in AM_TAGS table
+            return hasColumn(AM_TAGS_TABLE_NAME, APIMgtConstants.TAG_NAME_COLUMN);
+        } else if (APIMgtConstants.SUBCONTEXT_SEARCH_TYPE_PREFIX.equalsIgnoreCase(attribute)) {
+            //if the search is related to subcontext, need to check URL_PATTERN column in
+            //AM_API_OPERATION_MAPPING table
+            return hasColumn(AM_API_OPERATION_MAPPING_TABLE_NAME, APIMgtConstants.URL_PATTERN_COLUMN);
+        }
+        return isApiAttribute(attribute);
+    }
+
+    /**
+     * Get an attribute search query, building it if it is not cached
+     *
+     * @param searchType   type of the search, which distinguishes queries built for the same attributes
+     * @param attributeMap searched attributes, in the order the query parameters are set
+     * @param roleCount    number of roles passed to the query
+     * @param queryBuilder builds the query if it is not cached
+     * @return search query
+     */
+    String getSearchQuery(String searchType, Map<String, String> attributeMap, int roleCount,
+                          Supplier<String> queryBuilder) {
+        String key = searchType + ':' + String.join(",", attributeMap.keySet()) + ':' + roleCount;
+        String query = searchQueries.get(key);
+        if (query == null) {
+            query = queryBuilder.get();
+            if (searchQueries.size() < MAX_CACHED_QUERIES) {
+                searchQueries.put(key, query);
+            }
+        }
+        return query;
+    }
+
+    private boolean hasColumn(String tableName, String columnName) {
+        return tableColumns.get(tableName).contains(columnName.toUpperCase(Locale.ENGLISH));
+    }
+
+    private static Set<String> getColumns(DatabaseMetaData metaData, String tableName) throws SQLException {
+        String tableNamePattern = tableName;
+        if (metaData.storesLowerCaseIdentifiers()) {
+            tableNamePattern = tableName.toLowerCase(Locale.ENGLISH);
+        } else if (metaData.storesUpperCaseIdentifiers()) {
+            tableNamePattern = tableName.toUpperCase(Locale.ENGLISH);
+        }
+
+        Set<String> columns = new HashSet<>();
+        try (ResultSet rs = metaData.getColumns(null, null, tableNamePattern, null)) {
+            while (rs.next()) {
+                columns.add(rs.getString("COLUMN_NAME").toUpperCase(Locale.ENGLISH));
+            }
+        }
+        return columns;
+    }
+}
@@ -20,6 +20,7 @@
 
 package org.wso2.carbon.apimgt.core.dao.impl;
 
+import org.wso2.carbon.apimgt.core.api.ResultConsumer;
 import org.wso2.carbon.apimgt.core.dao.ApplicationDAO;
 import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
@@ -28,6 +29,7 @@ import org.wso2.carbon.apimgt.core.models.OAuthApplicationInfo;
 import org.wso2.carbon.apimgt.core.models.policy.ApplicationPolicy;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -381,6 +383,7 @@ public class ApplicationDAOImpl implements ApplicationDAO {
                 ps.setString(2, consumerKey);
                 ps.setString(3, keyType);
                 ps.executeUpdate();
+                SubscriptionChangeLogDAO.recordApplicationChange(conn, appId);
                 conn.commit();
             } catch (SQLException ex) {
                 conn.rollback();
@@ -450,8 +453,14 @@ public class ApplicationDAOImpl implements ApplicationDAO {
     @Override
     public List<Application> getAllApplications() throws APIMgtDAOException {
         List<Application> applicationList = new ArrayList<>();
+        getAllApplications(applicationList::add);
+        return applicationList;
+    }
+
+    @Override
+    public void getAllApplications(ResultConsumer<Application> consumer) throws APIMgtDAOException {
         try (Connection conn = DAOUtil.getConnection();
-             PreparedStatement ps = conn.prepareStatement(GET_APPS_QUERY)) {
+             PreparedStatement ps = DAOUtil.prepareStreamingStatement(conn, GET_APPS_QUERY)) {
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                         String createdUser = rs.getString("CREATED_BY");
@@ -459,14 +468,13 @@ public class ApplicationDAOImpl implements ApplicationDAO {
                         application.setId(rs.getString("UUID"));
                         application.setStatus(rs.getString("APPLICATION_STATUS"));
                         application.setPolicy(new ApplicationPolicy(rs.getString("APPLICATION_POLICY_ID"), ""));
-                        applicationList.add(application);
+                        consumer.accept(application);
 
                 }
             }
-        } catch (SQLException ex) {
+        } catch (SQLException | IOException ex) {
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting all applications", ex);
         }
-        return applicationList;
     }
 
     private List<Application> createApplicationsFromResultSet(ResultSet rs) throws SQLException, APIMgtDAOException {
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.core.dao.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Stream of a binary value which is read from the database as the stream is read, instead of being loaded into
+ * memory. A connection is held only while the value is being read: it is acquired on the first read and released
+ * once the value is read to the end or the stream is closed. Streams which are obtained but not yet read, such as
+ * the documents of an API being exported, therefore do not hold connections.
+ */
+final class BinaryValueInputStream extends SizedInputStream {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryValueInputStream.class);
+
+    /**
+     * Prepares the statement selecting the binary value as its first column
+     */
+    interface ValueQuery {
+        PreparedStatement prepare(Connection connection) throws SQLException;
+    }
+
+    private final long size;
+    private final ValueQuery valueQuery;
+    private Connection connection;
+    private PreparedStatement statement;
+    private ResultSet resultSet;
+    private InputStream value;
+    private boolean exhausted;
+    private boolean closed;
+
+    BinaryValueInputStream(long size, ValueQuery valueQuery) {
+        this.size = size;
+        this.valueQuery = valueQuery;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (exhausted) {
+            return -1;
+        }
+        int data = getValue().read();
+        if (data == -1) {
+            exhausted = true;
+            release();
+        }
+        return data;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (exhausted) {
+            return -1;
+        }
+        if (length == 0) {
+            return 0;
+        }
+        int count = getValue().read(buffer, offset, length);
+        if (count == -1) {
+            exhausted = true;
+            release();
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+        if (exhausted || count <= 0) {
+            return 0;
+        }
+        return getValue().skip(count);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return value != null && !exhausted ? value.available() : 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        release();
+    }
+
+    private InputStream getValue() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        if (value == null) {
+            try {
+                connection = DAOUtil.getConnection();
+                statement = valueQuery.prepare(connection);
+                resultSet = statement.executeQuery();
+                value = resultSet.next() ? resultSet.getBinaryStream(1) : null;
+            } catch (SQLException e) {
+                release();
+                throw new IOException(DAOUtil.DAO_ERROR_PREFIX + "reading binary value", e);
+            }
+            if (value == null) {
+                // the value was removed after the stream was obtained
+                release();
+                throw new IOException("Binary value does not exist anymore");
+            }
+        }
+        return value;
+    }
+
+    private void release() {
+        // resources are closed in the reverse order, the connection last
+        try (Connection connectionToRelease = connection;
+             PreparedStatement statementToClose = statement;
+             ResultSet resultSetToClose = resultSet;
+             InputStream valueToClose = value) {
+            log.trace("Releasing connection of binary value stream");
+        } catch (SQLException | IOException e) {
+            log.error("Error while releasing connection of binary value stream", e);
+        } finally {
+            value = null;
+            resultSet = null;
+            statement = null;
+            connection = null;
+        }
+    }
+}
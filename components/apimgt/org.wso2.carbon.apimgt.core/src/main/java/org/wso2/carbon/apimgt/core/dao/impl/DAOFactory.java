@@ -73,21 +73,22 @@ public class DAOFactory {
 
         try (Connection connection = DAOUtil.getConnection()) {
             String driverName = connection.getMetaData().getDriverName();
+            ApiSearchSchemaCatalogue searchSchemaCatalogue = ApiSearchSchemaCatalogue.getInstance(connection);
 
             if (driverName.contains(MYSQL)) {
-                apiDAO = new ApiDAOImpl(new MysqlSQLStatements());
+                apiDAO = new ApiDAOImpl(new MysqlSQLStatements(), searchSchemaCatalogue);
             } else if (driverName.contains(H2)) {
-                apiDAO = new ApiDAOImpl(new H2SQLStatements());
+                apiDAO = new ApiDAOImpl(new H2SQLStatements(), searchSchemaCatalogue);
 
             } else if (driverName.contains(DB2)) {
 
             } else if (driverName.contains(MS_SQL) || driverName.contains(MICROSOFT)) {
-                apiDAO = new ApiDAOImpl(new MssqlSQLStatements());
+                apiDAO = new ApiDAOImpl(new MssqlSQLStatements(), searchSchemaCatalogue);
             } else if (driverName.contains(POSTGRE)) {
-                apiDAO = new ApiDAOImpl(new PostgresSQLStatements());
+                apiDAO = new ApiDAOImpl(new PostgresSQLStatements(), searchSchemaCatalogue);
 
             } else if (driverName.contains(ORACLE)) {
-                apiDAO = new ApiDAOImpl(new OracleSQLStatements());
+                apiDAO = new ApiDAOImpl(new OracleSQLStatements(), searchSchemaCatalogue);
 
             } else {
                 throw new APIMgtDAOException("Unhandled DB driver: " + driverName + " detected",
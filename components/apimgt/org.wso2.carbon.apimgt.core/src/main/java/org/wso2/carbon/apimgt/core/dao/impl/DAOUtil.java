@@ -20,11 +20,13 @@
 
 package org.wso2.carbon.apimgt.core.dao.impl;
 
-
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -38,10 +40,13 @@ import java.util.Locale;
 public class DAOUtil {
     private static final Logger log = LoggerFactory.getLogger(DAOUtil.class);
     private static final String DB_NAME_POSTGRESQL = "PostgreSQL";
+    private static final String DB_NAME_MYSQL = "MySQL";
     private static DataSource dataSource;
     private static DataSource analyticsDataSource;
 
     static final String DAO_ERROR_PREFIX = "Error occurred in DAO layer while ";
+    // number of rows fetched per round trip when a result set is read row by row
+    static final int STREAMING_FETCH_SIZE = 500;
 
     public static synchronized void initialize(DataSource dataSource) {
         if (DAOUtil.dataSource != null) {
@@ -112,6 +117,31 @@ public class DAOUtil {
         return String.join(",", questionMarks);
     }
 
+    /**
+     * Prepare a forward only, read only statement whose result set is intended to be read row by row, so that the
+     * driver fetches the rows in batches instead of loading the whole result set into memory.
+     * <p>
+     * MySQL Connector/J ignores the fetch size unless useCursorFetch is set in the datasource URL, and streams the
+     * rows one by one only when the fetch size is {@link Integer#MIN_VALUE}. No other statement can be executed on
+     * the connection until such a result set is closed, hence the rows must not be used to query the same connection.
+     *
+     * @param connection DB connection
+     * @param query      select query
+     * @return prepared statement
+     * @throws SQLException If failed to prepare the statement
+     */
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    static PreparedStatement prepareStreamingStatement(Connection connection, String query) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY);
+        if (DB_NAME_MYSQL.equals(connection.getMetaData().getDatabaseProductName())) {
+            statement.setFetchSize(Integer.MIN_VALUE);
+        } else {
+            statement.setFetchSize(STREAMING_FETCH_SIZE);
+        }
+        return statement;
+    }
+
     static List<String> commaSeperatedStringToList(String strValue) {
         if (strValue != null && !strValue.isEmpty()) {
             return Arrays.asList(strValue.split("\\s*,\\s*"));
@@ -139,6 +169,7 @@ public class DAOUtil {
 
     public static void clearDataSource() {
         dataSource = null;
+        ApiSearchSchemaCatalogue.clear();
     }
 
     public static void clearAnalyticsDataSource() {
@@ -32,7 +32,7 @@ class H2TagSearchImpl implements StoreApiAttributeSearch {
 
     @Override
     public String getStoreAttributeSearchQuery(StringBuilder roleListBuilder,
-                                               StringBuilder searchQuery, int offset, int limit) {
+                                               StringBuilder searchQuery) {
 
         //for tag search, need to check AM_API_TAG_MAPPING and AM_TAGS tables
         String tagSearchQuery = API_SUMMARY_SELECT_STORE + " WHERE CURRENT_LC_STATUS  IN ('" +
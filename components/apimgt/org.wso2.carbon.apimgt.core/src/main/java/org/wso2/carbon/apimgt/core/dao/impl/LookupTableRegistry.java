@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.core.dao.impl;
+
+import org.wso2.carbon.apimgt.core.dao.ApiType;
+import org.wso2.carbon.apimgt.core.models.ResourceCategory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Holds the IDs of the rows of the lookup tables AM_RESOURCE_CATEGORIES and AM_API_TYPES, which only change when
+ * they are seeded, so that queries bind the IDs directly instead of looking them up on every call. The IDs are
+ * loaded when first needed and reloaded by {@link #refresh(Connection)}, such as after the tables are seeded.
+ */
+final class LookupTableRegistry {
+
+    private static volatile Map<ResourceCategory, Integer> resourceCategoryIDs = Collections.emptyMap();
+    private static volatile Map<ApiType, Integer> apiTypeIDs = Collections.emptyMap();
+
+    private LookupTableRegistry() {
+    }
+
+    /**
+     * Get the ID of a resource category
+     *
+     * @param connection connection used to load the IDs if they are not loaded yet
+     * @param category   resource category
+     * @return ID of the resource category
+     * @throws SQLException if the resource category does not exist or DB error occurs
+     */
+    static int getResourceCategoryID(Connection connection, ResourceCategory category) throws SQLException {
+        Integer id = resourceCategoryIDs.get(category);
+        if (id == null) {
+            refresh(connection);
+            id = resourceCategoryIDs.get(category);
+            if (id == null) {
+                throw new SQLException("Resource category does not exist");
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Get the ID of an API type
+     *
+     * @param connection connection used to load the IDs if they are not loaded yet
+     * @param apiType    API type
+     * @return ID of the API type
+     * @throws SQLException if the API type does not exist or DB error occurs
+     */
+    static int getApiTypeID(Connection connection, ApiType apiType) throws SQLException {
+        Integer id = apiTypeIDs.get(apiType);
+        if (id == null) {
+            refresh(connection);
+            id = apiTypeIDs.get(apiType);
+            if (id == null) {
+                throw new SQLException("API Type " + apiType.toString() + " does not exist");
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Reload the IDs from the database
+     *
+     * @param connection connection to the database
+     * @throws SQLException if DB error occurs
+     */
+    static void refresh(Connection connection) throws SQLException {
+        final String categoryQuery = "SELECT RESOURCE_CATEGORY_ID, RESOURCE_CATEGORY FROM AM_RESOURCE_CATEGORIES";
+        final String typeQuery = "SELECT TYPE_ID, TYPE_NAME FROM AM_API_TYPES";
+
+        Map<ResourceCategory, Integer> categoryIDs = new EnumMap<>(ResourceCategory.class);
+        try (PreparedStatement statement = connection.prepareStatement(categoryQuery);
+             ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                for (ResourceCategory category : ResourceCategory.values()) {
+                    if (category.toString().equals(rs.getString("RESOURCE_CATEGORY"))) {
+                        categoryIDs.put(category, rs.getInt("RESOURCE_CATEGORY_ID"));
+                    }
+                }
+            }
+        }
+
+        Map<ApiType, Integer> typeIDs = new EnumMap<>(ApiType.class);
+        try (PreparedStatement statement = connection.prepareStatement(typeQuery);
+             ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                for (ApiType apiType : ApiType.values()) {
+                    if (apiType.toString().equals(rs.getString("TYPE_NAME"))) {
+                        typeIDs.put(apiType, rs.getInt("TYPE_ID"));
+                    }
+                }
+            }
+        }
+
+        resourceCategoryIDs = Collections.unmodifiableMap(categoryIDs);
+        apiTypeIDs = Collections.unmodifiableMap(typeIDs);
+    }
+}
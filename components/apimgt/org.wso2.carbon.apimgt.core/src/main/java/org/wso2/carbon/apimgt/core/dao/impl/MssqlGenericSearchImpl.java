@@ -32,7 +32,7 @@ class MssqlGenericSearchImpl implements StoreApiAttributeSearch {
 
     @Override
     public String getStoreAttributeSearchQuery(StringBuilder roleListBuilder,
-                                               StringBuilder searchQuery, int offset, int limit) {
+                                               StringBuilder searchQuery) {
 
         //for any other attribute search, need to check AM_API table
         String tagSearchQuery = API_SUMMARY_SELECT_STORE + " WHERE CURRENT_LC_STATUS  IN ('" +
@@ -32,7 +32,7 @@ class MssqlSubcontextSearchImpl implements StoreApiAttributeSearch {
 
     @Override
     public String getStoreAttributeSearchQuery(StringBuilder roleListBuilder,
-                                               StringBuilder searchQuery, int offset, int limit) {
+                                               StringBuilder searchQuery) {
 
         //for subcontext search, need to check AM_API_OPERATION_MAPPING table
         String subcontextSearchQuery = API_SUMMARY_SELECT_STORE + " WHERE CURRENT_LC_STATUS  IN ('" +
@@ -19,13 +19,9 @@
 package org.wso2.carbon.apimgt.core.dao.impl;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.dao.ApiType;
-import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.HashMap;
@@ -40,7 +36,6 @@ import java.util.Set;
  */
 public class MysqlSQLStatements implements ApiDAOVendorSpecificStatements {
 
-    private static final Logger log = LoggerFactory.getLogger(MysqlSQLStatements.class);
     private static final String API_SUMMARY_SELECT =
             "SELECT DISTINCT API.UUID, API.PROVIDER, API.NAME, API.CONTEXT, API.VERSION, API.DESCRIPTION,"
                     + "API.CURRENT_LC_STATUS, API.LIFECYCLE_INSTANCE_ID, API.LC_WORKFLOW_STATUS, API.API_TYPE_ID, "
@@ -71,7 +66,7 @@ public class MysqlSQLStatements implements ApiDAOVendorSpecificStatements {
             return API_SUMMARY_SELECT +
                     " WHERE MATCH (`NAME`,`PROVIDER`,`CONTEXT`,`VERSION`,`DESCRIPTION`,`CURRENT_LC_STATUS`," +
                     "`TECHNICAL_OWNER`, `BUSINESS_OWNER`) AGAINST (? IN BOOLEAN MODE)" +
-                    " AND API.API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)" +
+                    " AND API.API_TYPE_ID = ?" +
                     " AND (((`GROUP_ID` IN (" + DAOUtil.getParameterString(roleCount) + "))" +
                     " AND PERMISSION.PERMISSION >= " + APIMgtConstants.Permission.READ_PERMISSION +
                     ") OR (PROVIDER = ?) OR (PERMISSION.GROUP_ID IS NULL))" +
@@ -80,7 +75,7 @@ public class MysqlSQLStatements implements ApiDAOVendorSpecificStatements {
             return API_SUMMARY_SELECT +
                     " WHERE MATCH (`NAME`,`PROVIDER`,`CONTEXT`,`VERSION`,`DESCRIPTION`,`CURRENT_LC_STATUS`," +
                     "`TECHNICAL_OWNER`, `BUSINESS_OWNER`) AGAINST (? IN BOOLEAN MODE)" +
-                    " AND API.API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)" +
+                    " AND API.API_TYPE_ID = ?" +
                     " AND ((PROVIDER = ?) OR (PERMISSION.GROUP_ID IS NULL))" +
                     " GROUP BY UUID ORDER BY NAME LIMIT ?, ?";
         }
@@ -99,7 +94,7 @@ public class MysqlSQLStatements implements ApiDAOVendorSpecificStatements {
                                  int offset, int limit) throws SQLException {
         int index = 0;
         statement.setString(++index, '*' + searchString.toLowerCase(Locale.ENGLISH) + '*');
-        statement.setString(++index, apiType.toString());
+        statement.setInt(++index, LookupTableRegistry.getApiTypeID(statement.getConnection(), apiType));
 
         for (String role : roles) {
             statement.setString(++index, role);
@@ -129,14 +124,14 @@ public class MysqlSQLStatements implements ApiDAOVendorSpecificStatements {
 
         if (roleCount > 0) {
             return API_SUMMARY_SELECT + " WHERE " + searchQuery.toString() +
-                    " AND API.API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)" +
+                    " AND API.API_TYPE_ID = ?" +
                     " AND (((GROUP_ID IN (" + DAOUtil.getParameterString(roleCount) +
                     ")) AND PERMISSION.PERMISSION >= " + APIMgtConstants.Permission.READ_PERMISSION +
                     ") OR (PROVIDER = ?) OR (PERMISSION.GROUP_ID IS NULL))" +
                     " GROUP BY UUID ORDER BY NAME LIMIT ?, ?";
         } else {
             return API_SUMMARY_SELECT + " WHERE " + searchQuery.toString() +
-                    " AND API.API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)" +
+                    " AND API.API_TYPE_ID = ?" +
                     " AND ((PROVIDER = ?) OR (PERMISSION.GROUP_ID IS NULL))" +
                     " GROUP BY UUID ORDER BY NAME LIMIT ?, ?";
         }
@@ -159,7 +154,7 @@ public class MysqlSQLStatements implements ApiDAOVendorSpecificStatements {
             statement.setString(++index, entry.getValue());
         }
 
-        statement.setString(++index, apiType.toString());
+        statement.setInt(++index, LookupTableRegistry.getApiTypeID(statement.getConnection(), apiType));
 
         for (String role : roles) {
             statement.setString(++index, role);
@@ -171,21 +166,16 @@ public class MysqlSQLStatements implements ApiDAOVendorSpecificStatements {
     }
 
     /**
-     * @see ApiDAOVendorSpecificStatements#prepareAttributeSearchStatementForStore(Connection connection, List,
-     * Map, int, int)
+     * @see ApiDAOVendorSpecificStatements#getStoreAttributeSearchQuery(Map, int)
      */
     @Override
-    @SuppressFBWarnings({"SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING",
-            "OBL_UNSATISFIED_OBLIGATION_EXCEPTION_EDGE"})
-    public PreparedStatement prepareAttributeSearchStatementForStore(Connection connection, List<String> roles,
-                                                                     Map<String, String> attributeMap, int offset,
-                                                                     int limit) throws APIMgtDAOException {
-
+    public String getStoreAttributeSearchQuery(Map<String, String> attributeMap, int roleCount) {
         StringBuilder roleListBuilder = new StringBuilder();
         roleListBuilder.append("?");
-        for (int i = 0; i < roles.size() - 1; i++) {
+        for (int i = 0; i < roleCount - 1; i++) {
             roleListBuilder.append(",?");
         }
+
         StringBuilder searchQuery = new StringBuilder();
         Iterator<Map.Entry<String, String>> entries = attributeMap.entrySet().iterator();
 
@@ -209,37 +199,42 @@ public class MysqlSQLStatements implements ApiDAOVendorSpecificStatements {
         //retrieve the attribute applicable for the search
         String searchAttribute = attributeMap.entrySet().iterator().next().getKey();
         //get the corresponding implementation based on the attribute to be searched
-        String query = searchMap.get(searchAttribute).
-                getStoreAttributeSearchQuery(roleListBuilder, searchQuery, offset, limit);
-
-        try {
-            int queryIndex = 1;
-            PreparedStatement statement = connection.prepareStatement(query);
-            //include the attribute in the query (for APIs with public visibility)
-            for (Map.Entry<String, String> entry : attributeMap.entrySet()) {
-                statement.setString(queryIndex, '%' + entry.getValue().
-                        toLowerCase(Locale.ENGLISH) + '%');
-                queryIndex++;
-            }
-            //include user roles in the query
-            for (String role : roles) {
-                statement.setString(queryIndex, role);
-                queryIndex++;
-            }
-            //include the attribute in the query (for APIs with restricted visibility)
-            for (Map.Entry<String, String> entry : attributeMap.entrySet()) {
-                statement.setString(queryIndex, '%' + entry.getValue().
-                        toLowerCase(Locale.ENGLISH) + '%');
-                queryIndex++;
-            }
-            //setting 0 as the default offset based on store-api.yaml and MySQL specifications
-            statement.setInt(queryIndex, (offset < 0) ? 0 : offset);
-            statement.setInt(++queryIndex, limit);
-            return statement;
-        } catch (SQLException e) {
-            String errorMsg = "Error occurred while searching APIs for attributes in the database.";
-            log.error(errorMsg, e);
-            throw new APIMgtDAOException(errorMsg, e);
+        return searchMap.get(searchAttribute).getStoreAttributeSearchQuery(roleListBuilder, searchQuery);
+    }
+
+    /**
+     * @see ApiDAOVendorSpecificStatements#setStoreAttributeSearchStatement(PreparedStatement, List, Map, int, int)
+     */
+    @Override
+    public void setStoreAttributeSearchStatement(PreparedStatement statement, List<String> roles,
+                                                 Map<String, String> attributeMap, int offset, int limit)
+            throws SQLException {
+        int queryIndex = 1;
+        //include the attribute in the query (for APIs with public visibility)
+        for (Map.Entry<String, String> entry : attributeMap.entrySet()) {
+            statement.setString(queryIndex, '%' + entry.getValue().toLowerCase(Locale.ENGLISH) + '%');
+            queryIndex++;
+        }
+        //include user roles in the query
+        for (String role : roles) {
+            statement.setString(queryIndex, role);
+            queryIndex++;
+        }
+        //include the attribute in the query (for APIs with restricted visibility)
+        for (Map.Entry<String, String> entry : attributeMap.entrySet()) {
+            statement.setString(queryIndex, '%' + entry.getValue().toLowerCase(Locale.ENGLISH) + '%');
+            queryIndex++;
         }
+        //setting 0 as the default offset based on store-api.yaml and MySQL specifications
+        statement.setInt(queryIndex, (offset < 0) ? 0 : offset);
+        statement.setInt(++queryIndex, limit);
+    }
+
+    /**
+     * @see ApiDAOVendorSpecificStatements#getBinaryLengthFunction()
+     */
+    @Override
+    public String getBinaryLengthFunction() {
+        return "LENGTH";
     }
 }
@@ -19,13 +19,9 @@
 package org.wso2.carbon.apimgt.core.dao.impl;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.dao.ApiType;
-import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.HashMap;
@@ -40,8 +36,6 @@ import java.util.Set;
  */
 public class OracleSQLStatements implements ApiDAOVendorSpecificStatements {
 
-    private static Logger log = LoggerFactory.getLogger(OracleSQLStatements.class);
-
     private static final String API_SUMMARY_SELECT =
             "SELECT A.*, rownum rnum from (SELECT  DISTINCT API.UUID, API.PROVIDER, API.NAME, API.CONTEXT, API"
                     + ".VERSION, API.DESCRIPTION,"
@@ -77,7 +71,7 @@ public class OracleSQLStatements implements ApiDAOVendorSpecificStatements {
             return "SELECT * FROM (" +
                     API_SUMMARY_SELECT +
                     " WHERE (CONTAINS(INDEXER, ?, 1) > 0)" +
-                    " AND API.API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)" +
+                    " AND API.API_TYPE_ID = ?" +
                     " AND (((GROUP_ID IN (" + DAOUtil.getParameterString(roleCount) + "))" +
                     " AND PERMISSION.PERMISSION >= " + APIMgtConstants.Permission.READ_PERMISSION +
                     ") OR (PROVIDER = ?) OR (PERMISSION.GROUP_ID IS NULL))" +
@@ -87,7 +81,7 @@ public class OracleSQLStatements implements ApiDAOVendorSpecificStatements {
             return "SELECT * FROM (" +
                     API_SUMMARY_SELECT +
                     " WHERE (CONTAINS(INDEXER, ?, 1) > 0)" +
-                    " AND API.API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)" +
+                    " AND API.API_TYPE_ID = ?" +
                     " AND ((PROVIDER = ?) OR (PERMISSION.GROUP_ID IS NULL))" +
                     " ORDER BY NAME " +
                     ") A WHERE rownum <= ?) where rnum >= ?";
@@ -109,7 +103,7 @@ public class OracleSQLStatements implements ApiDAOVendorSpecificStatements {
 
         // Replacing special characters and allowing only alphabetical letters, numbers and space
         statement.setString(++index, '%' + searchString.toLowerCase(Locale.ENGLISH) + '%');
-        statement.setString(++index, apiType.toString());
+        statement.setInt(++index, LookupTableRegistry.getApiTypeID(statement.getConnection(), apiType));
 
         for (String role : roles) {
             statement.setString(++index, role);
@@ -140,14 +134,14 @@ public class OracleSQLStatements implements ApiDAOVendorSpecificStatements {
 
         if (roleCount > 0) {
             return "SELECT * FROM (" + API_SUMMARY_SELECT + " WHERE " + searchQuery.toString() +
-                    " AND API.API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)" +
+                    " AND API.API_TYPE_ID = ?" +
                     " AND (((GROUP_ID IN (" + DAOUtil.getParameterString(roleCount) +
                     ")) AND PERMISSION.PERMISSION >= " + APIMgtConstants.Permission.READ_PERMISSION +
                     ") OR (PROVIDER = ?) OR (PERMISSION.GROUP_ID IS NULL))" +
                     " ORDER BY NAME" + ")  A WHERE rownum <= ?) where rnum >= ?";
         } else {
             return "SELECT * FROM (" + API_SUMMARY_SELECT + " WHERE " + searchQuery.toString() +
-                    " AND API.API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)" +
+                    " AND API.API_TYPE_ID = ?" +
                     " AND ((PROVIDER = ?) OR (PERMISSION.GROUP_ID IS NULL))" + " ORDER BY NAME" +
                     ")  A WHERE rownum <= ?) where rnum >= ?";
         }
@@ -170,7 +164,7 @@ public class OracleSQLStatements implements ApiDAOVendorSpecificStatements {
             statement.setString(++index, entry.getValue());
         }
 
-        statement.setString(++index, apiType.toString());
+        statement.setInt(++index, LookupTableRegistry.getApiTypeID(statement.getConnection(), apiType));
 
         for (String role : roles) {
             statement.setString(++index, role);
@@ -182,20 +176,16 @@ public class OracleSQLStatements implements ApiDAOVendorSpecificStatements {
     }
 
     /**
-     * @see ApiDAOVendorSpecificStatements#prepareAttributeSearchStatementForStore(Connection connection, List,
-     * Map, int, int)
+     * @see ApiDAOVendorSpecificStatements#getStoreAttributeSearchQuery(Map, int)
      */
     @Override
-    @SuppressFBWarnings({"SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING",
-            "OBL_UNSATISFIED_OBLIGATION_EXCEPTION_EDGE"})
-    public PreparedStatement prepareAttributeSearchStatementForStore(Connection connection, List<String> roles,
-                                                                     Map<String, String> attributeMap, int offset,
-                                                                     int limit) throws APIMgtDAOException {
+    public String getStoreAttributeSearchQuery(Map<String, String> attributeMap, int roleCount) {
         StringBuilder roleListBuilder = new StringBuilder();
         roleListBuilder.append("?");
-        for (int i = 0; i < roles.size() - 1; i++) {
+        for (int i = 0; i < roleCount - 1; i++) {
             roleListBuilder.append(",?");
         }
+
         StringBuilder searchQuery = new StringBuilder();
         Iterator<Map.Entry<String, String>> entries = attributeMap.entrySet().iterator();
 
@@ -219,39 +209,42 @@ public class OracleSQLStatements implements ApiDAOVendorSpecificStatements {
         //retrieve the attribute applicable for the search
         String searchAttribute = attributeMap.entrySet().iterator().next().getKey();
         //get the corresponding implementation based on the attribute to be searched
-        String query = searchMap.get(searchAttribute).
-                getStoreAttributeSearchQuery(roleListBuilder, searchQuery, offset, limit);
+        return searchMap.get(searchAttribute).getStoreAttributeSearchQuery(roleListBuilder, searchQuery);
+    }
 
-        try {
-            int queryIndex = 1;
-            PreparedStatement statement = connection.prepareStatement(query);
-            //include the attribute in the query (for APIs with public visibility)
-            for (Map.Entry<String, String> entry : attributeMap.entrySet()) {
-                statement.setString(queryIndex, '%' + entry.getValue().
-                        toLowerCase(Locale.ENGLISH) + '%');
-                queryIndex++;
-            }
-            //include user roles in the query
-            for (String role : roles) {
-                statement.setString(queryIndex, role);
-                queryIndex++;
-            }
-            //include the attribute in the query (for APIs with restricted visibility)
-            for (Map.Entry<String, String> entry : attributeMap.entrySet()) {
-                statement.setString(queryIndex, '%' + entry.getValue().
-                        toLowerCase(Locale.ENGLISH) + '%');
-                queryIndex++;
-            }
-            //setting 0 as the default offset based on store-api.yaml and Oracle specifications
-            statement.setInt(queryIndex, (offset < 0) ? 0 : offset);
+    /**
+     * @see ApiDAOVendorSpecificStatements#setStoreAttributeSearchStatement(PreparedStatement, List, Map, int, int)
+     */
+    @Override
+    public void setStoreAttributeSearchStatement(PreparedStatement statement, List<String> roles,
+                                                 Map<String, String> attributeMap, int offset, int limit)
+            throws SQLException {
+        int queryIndex = 1;
+        //include the attribute in the query (for APIs with public visibility)
+        for (Map.Entry<String, String> entry : attributeMap.entrySet()) {
+            statement.setString(queryIndex, '%' + entry.getValue().toLowerCase(Locale.ENGLISH) + '%');
             queryIndex++;
-            statement.setInt(queryIndex, limit);
-            return statement;
-        } catch (SQLException e) {
-            String errorMsg = "Error occurred while searching APIs for attributes in the database.";
-            log.error(errorMsg, e);
-            throw new APIMgtDAOException(errorMsg, e);
         }
+        //include user roles in the query
+        for (String role : roles) {
+            statement.setString(queryIndex, role);
+            queryIndex++;
+        }
+        //include the attribute in the query (for APIs with restricted visibility)
+        for (Map.Entry<String, String> entry : attributeMap.entrySet()) {
+            statement.setString(queryIndex, '%' + entry.getValue().toLowerCase(Locale.ENGLISH) + '%');
+            queryIndex++;
+        }
+        //setting 0 as the default offset based on store-api.yaml and Oracle specifications
+        statement.setInt(queryIndex, (offset < 0) ? 0 : offset);
+        statement.setInt(++queryIndex, limit);
+    }
 
+    /**
+     * @see ApiDAOVendorSpecificStatements#getBinaryLengthFunction()
+     */
+    @Override
+    public String getBinaryLengthFunction() {
+        return "DBMS_LOB.GETLENGTH";
     }
 }
@@ -22,6 +22,7 @@ import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.api.APIMgtAdminService;
+import org.wso2.carbon.apimgt.core.api.ResultConsumer;
 import org.wso2.carbon.apimgt.core.dao.PolicyDAO;
 import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.exception.APIMgtResourceNotFoundException;
@@ -45,10 +46,13 @@ import org.wso2.carbon.apimgt.core.models.policy.QuotaPolicy;
 import org.wso2.carbon.apimgt.core.models.policy.RequestCountLimit;
 import org.wso2.carbon.apimgt.core.models.policy.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+import org.wso2.carbon.apimgt.core.util.APIUtils;
+import org.wso2.carbon.apimgt.core.util.ThrottleConstants;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.InetAddress;
 import java.nio.charset.Charset;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -62,6 +66,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * DAO Layer implementation class for Throttling Policies
@@ -1136,40 +1141,96 @@ public class PolicyDAOImpl implements PolicyDAO {
     @Override
     public Set<PolicyValidationData> getAllPolicies() throws APIMgtDAOException {
         Set<PolicyValidationData> policyValidationDataList = new LinkedHashSet();
-        final String apiPolicyQuery = "SELECT UUID,NAME FROM AM_API_POLICY";
-        final String applicationPolicyQuery = "SELECT UUID,NAME FROM AM_APPLICATION_POLICY";
-        final String subscriptionPolicyQuery = "SELECT UUID,NAME,STOP_ON_QUOTA_REACH FROM AM_SUBSCRIPTION_POLICY";
+        getAllPolicies(policyValidationDataList::add);
+        return policyValidationDataList;
+    }
+
+    @Override
+    public void getAllPolicies(ResultConsumer<PolicyValidationData> consumer) throws APIMgtDAOException {
+        final String apiPolicyQuery = "SELECT UUID,NAME,DEFAULT_QUOTA_TYPE,DEFAULT_QUOTA,DEFAULT_UNIT_TIME,"
+                + "DEFAULT_TIME_UNIT FROM AM_API_POLICY";
+        final String applicationPolicyQuery = "SELECT UUID,NAME,QUOTA_TYPE,QUOTA,UNIT_TIME,TIME_UNIT "
+                + "FROM AM_APPLICATION_POLICY";
+        final String subscriptionPolicyQuery = "SELECT UUID,NAME,STOP_ON_QUOTA_REACH,QUOTA_TYPE,QUOTA,UNIT_TIME,"
+                + "TIME_UNIT FROM AM_SUBSCRIPTION_POLICY";
         try (Connection connection = DAOUtil.getConnection()) {
             try (Statement statement = connection.createStatement()) {
+                statement.setFetchSize(DAOUtil.STREAMING_FETCH_SIZE);
                 try (ResultSet resultSet = statement.executeQuery(apiPolicyQuery)) {
                     while (resultSet.next()) {
-                        policyValidationDataList.add(new PolicyValidationData(resultSet.getString(APIMgtConstants
-                                .ThrottlePolicyConstants.COLUMN_UUID), resultSet.getString(APIMgtConstants
-                                .ThrottlePolicyConstants.COLUMN_NAME), false));
+                        consumer.accept(createPolicyValidationData(resultSet, "DEFAULT_", false));
                     }
                 }
                 try (ResultSet resultSet = statement.executeQuery(applicationPolicyQuery)) {
                     while (resultSet.next()) {
-                        policyValidationDataList.add(new PolicyValidationData(resultSet.getString(APIMgtConstants
-                                .ThrottlePolicyConstants.COLUMN_UUID), resultSet.getString(APIMgtConstants
-                                .ThrottlePolicyConstants.COLUMN_NAME), false));
+                        consumer.accept(createPolicyValidationData(resultSet, "", false));
                     }
                 }
                 try (ResultSet resultSet = statement.executeQuery(subscriptionPolicyQuery)) {
                     while (resultSet.next()) {
-                        policyValidationDataList.add(new PolicyValidationData(resultSet.getString(APIMgtConstants
-                                .ThrottlePolicyConstants.COLUMN_UUID), resultSet.getString(APIMgtConstants
-                                .ThrottlePolicyConstants.COLUMN_NAME), resultSet.getBoolean(APIMgtConstants
+                        consumer.accept(createPolicyValidationData(resultSet, "", resultSet.getBoolean(APIMgtConstants
                                 .ThrottlePolicyConstants.COLUMN_STOP_ON_QUOTA_REACH)));
                     }
                 }
             }
-        } catch (SQLException e) {
+        } catch (SQLException | IOException e) {
             String msg = "Error while retrieving policies";
             log.error(msg, e);
             throw new APIMgtDAOException(msg, ExceptionCodes.APIMGT_DAO_EXCEPTION);
         }
-        return policyValidationDataList;
+    }
+
+    /**
+     * Create the policy data sent to the gateway from a policy row, along with the request count limit of the
+     * policy, which the gateway enforces locally
+     *
+     * @param resultSet        result set positioned at the policy row
+     * @param prefix           prefix of the quota columns
+     * @param stopOnQuotaReach whether requests are rejected once the quota is reached
+     * @return policy data of the row
+     * @throws SQLException If failed to read the row
+     */
+    private static PolicyValidationData createPolicyValidationData(ResultSet resultSet, String prefix,
+                                                                   boolean stopOnQuotaReach) throws SQLException {
+        long requestCount = 0;
+        long unitTime = 0;
+        if (PolicyConstants.REQUEST_COUNT_TYPE.equalsIgnoreCase(resultSet.getString(prefix + APIMgtConstants
+                .ThrottlePolicyConstants.COLUMN_QUOTA_POLICY_TYPE))) {
+            unitTime = toMillis(resultSet.getLong(prefix + APIMgtConstants.ThrottlePolicyConstants.COLUMN_UNIT_TIME),
+                    resultSet.getString(prefix + APIMgtConstants.ThrottlePolicyConstants.COLUMN_TIME_UNIT));
+            if (unitTime > 0) {
+                requestCount = resultSet.getLong(prefix + APIMgtConstants.ThrottlePolicyConstants.COLUMN_QUOTA);
+            }
+        }
+        return new PolicyValidationData(resultSet.getString(APIMgtConstants.ThrottlePolicyConstants.COLUMN_UUID),
+                resultSet.getString(APIMgtConstants.ThrottlePolicyConstants.COLUMN_NAME), stopOnQuotaReach,
+                requestCount, unitTime);
+    }
+
+    /**
+     * Convert the unit time of a policy to milliseconds
+     *
+     * @param unitTime unit time of the policy
+     * @param timeUnit time unit of the unit time
+     * @return unit time in milliseconds, or 0 if the time unit is not known
+     */
+    private static long toMillis(long unitTime, String timeUnit) {
+        if (timeUnit == null) {
+            return 0;
+        }
+        switch (timeUnit) {
+            case SECONDS_TIMUNIT:
+            case ThrottleConstants.TIME_UNIT_SECOND:
+                return TimeUnit.SECONDS.toMillis(unitTime);
+            case ThrottleConstants.TIME_UNIT_MINUTE:
+                return TimeUnit.MINUTES.toMillis(unitTime);
+            case ThrottleConstants.TIME_UNIT_HOUR:
+                return TimeUnit.HOURS.toMillis(unitTime);
+            case ThrottleConstants.TIME_UNIT_DAY:
+                return TimeUnit.DAYS.toMillis(unitTime);
+            default:
+                return 0;
+        }
     }
 
     @Override
@@ -1804,11 +1865,17 @@ public class PolicyDAOImpl implements PolicyDAO {
     @Override
     public List<BlockConditions> getBlockConditions() throws APIMgtDAOException {
         List<BlockConditions> blockConditionsList = new ArrayList<BlockConditions>();
+        getBlockConditions(blockConditionsList::add);
+        return blockConditionsList;
+    }
+
+    @Override
+    public void getBlockConditions(ResultConsumer<BlockConditions> consumer) throws APIMgtDAOException {
         String query = "SELECT CONDITION_ID, TYPE, VALUE, ENABLED, AM_BLOCK_CONDITIONS.UUID, STARTING_IP, ENDING_IP "
                 + "FROM AM_BLOCK_CONDITIONS LEFT JOIN AM_IP_RANGE_CONDITION ON "
                 + "AM_BLOCK_CONDITIONS.UUID = AM_IP_RANGE_CONDITION.UUID";
         try (Connection connection = DAOUtil.getConnection();
-             PreparedStatement selectPreparedStatement = connection.prepareStatement(query)) {
+             PreparedStatement selectPreparedStatement = DAOUtil.prepareStreamingStatement(connection, query)) {
             connection.setAutoCommit(true);
             try (ResultSet resultSet = selectPreparedStatement.executeQuery()) {
                 while (resultSet.next()) {
@@ -1820,13 +1887,12 @@ public class PolicyDAOImpl implements PolicyDAO {
                     blockConditions.setUuid(resultSet.getString("UUID"));
                     blockConditions.setStartingIP(resultSet.getString("STARTING_IP"));
                     blockConditions.setEndingIP(resultSet.getString("ENDING_IP"));
-                    blockConditionsList.add(blockConditions);
+                    consumer.accept(blockConditions);
                 }
             }
-        } catch (SQLException e) {
+        } catch (SQLException | IOException e) {
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting block conditions", e);
         }
-        return blockConditionsList;
     }
 
     @Override
@@ -2156,34 +2222,15 @@ public class PolicyDAOImpl implements PolicyDAO {
      */
     private boolean isIPRangeConditionValid(String startingIp, String endingIp) {
         Boolean status = false;
-        Long startingIP = ipToLong(startingIp);
-        Long endingIP = ipToLong(endingIp);
-        if (startingIP < endingIP) {
+        InetAddress startingIP = APIUtils.toIpAddress(startingIp);
+        InetAddress endingIP = APIUtils.toIpAddress(endingIp);
+        // both ends of the range have to be of the same IP version
+        if (startingIP != null && endingIP != null && startingIP.getClass() == endingIP.getClass()
+                && APIUtils.ipToBigInteger(startingIP).compareTo(APIUtils.ipToBigInteger(endingIP)) < 0) {
             status = true;
         } else {
             log.error("IR Range is not valid. starting IP :" + startingIp + ", ending IP :" + endingIp);
         }
         return status;
     }
-
-    /**
-     * Convert IP address to long
-     *
-     * @param ip ip address to be converted to long
-     * @return ip address in long
-     */
-    private long ipToLong(String ip) {
-        long ipAddressinLong = 0;
-        if (ip != null) {
-            //convert ipaddress into a long
-            String[] ipAddressArray = ip.split("\\.");    //split by "." and add to an array
-
-            for (int i = 0; i < ipAddressArray.length; i++) {
-                int power = 3 - i;
-                long ipAddress = Long.parseLong(ipAddressArray[i]);   //parse to long
-                ipAddressinLong += ipAddress * Math.pow(256, power);
-            }
-        }
-        return ipAddressinLong;
-    }
 }
@@ -47,25 +47,6 @@ class ResourceCategoryDAO {
         return false;
     }
 
-    static int getResourceCategoryID(Connection connection, ResourceCategory category) throws SQLException {
-        final String query = "SELECT RESOURCE_CATEGORY_ID FROM AM_RESOURCE_CATEGORIES WHERE RESOURCE_CATEGORY = ?";
-        int resourceTypeID;
-
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, category.toString());
-
-            try (ResultSet rs = statement.executeQuery()) {
-                if (rs.next()) {
-                    resourceTypeID = rs.getInt("RESOURCE_CATEGORY_ID");
-                } else {
-                    throw new SQLException("Resource category does not exist");
-                }
-            }
-        }
-
-        return resourceTypeID;
-    }
-
     static void addResourceCategories(Connection connection) throws SQLException {
         final String query = "INSERT INTO AM_RESOURCE_CATEGORIES (RESOURCE_CATEGORY) VALUES (?)";
 
@@ -29,10 +29,8 @@ interface StoreApiAttributeSearch {
      *
      * @param roleListBuilder a parameterized string builder with question marks constructed based on user roles
      * @param searchQuery a sub string containing only the attributes
-     * @param offset the starting point of the search results.
-     * @param limit number of search results that will be returned.
      * @return the query to be executed, as a string
      */
     String getStoreAttributeSearchQuery(StringBuilder roleListBuilder,
-                                        StringBuilder searchQuery, int offset, int limit);
+                                        StringBuilder searchQuery);
 }
@@ -0,0 +1,209 @@
+/*
+ *
+ *   Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 Inc. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.core.dao.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Maintains the subscription change log (AM_SUBSCRIPTION_CHANGES) which gateways use to synchronize their
+ * subscription caches incrementally. Every change is appended within the transaction that modifies the subscription,
+ * so that the increasing SEQUENCE_ID of the log can be used as a change cursor.
+ * <p>
+ * Sequence IDs are assigned when changes are inserted, not when they are committed, so a change may become visible
+ * after changes with higher IDs. A cursor is therefore only advanced past a missing ID once the change following it
+ * is older than {@link #CHANGE_SETTLE_TIME_SECONDS}, by which time the transaction holding the missing ID has either
+ * committed or rolled back. Changes after the cursor are read again until then, which is harmless since applying a
+ * change twice has the same outcome as applying it once.
+ */
+class SubscriptionChangeLogDAO {
+
+    static final String CHANGE_TYPE_INSERT = "INSERT";
+    static final String CHANGE_TYPE_UPDATE = "UPDATE";
+    static final String CHANGE_TYPE_DELETE = "DELETE";
+
+    /**
+     * Time after which a change is assumed to have no uncommitted changes with lower sequence IDs
+     */
+    static final long CHANGE_SETTLE_TIME_SECONDS = 60L;
+
+    private SubscriptionChangeLogDAO() {
+    }
+
+    /**
+     * Record an insertion or an update of a subscription
+     *
+     * @param connection     DB connection
+     * @param subscriptionId UUID of the subscription
+     * @param changeType     {@link #CHANGE_TYPE_INSERT} or {@link #CHANGE_TYPE_UPDATE}
+     * @throws SQLException If failed to record the change
+     */
+    static void recordChange(Connection connection, String subscriptionId, String changeType) throws SQLException {
+        final String query = "INSERT INTO AM_SUBSCRIPTION_CHANGES (SUBSCRIPTION_ID, CHANGE_TYPE, CHANGED_TIME) " +
+                "VALUES (?,?,?)";
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, subscriptionId);
+            statement.setString(2, changeType);
+            statement.setTimestamp(3, now());
+            statement.execute();
+        }
+    }
+
+    /**
+     * Record an update of every subscription of an application. Used when the keys of the application change, since
+     * the consumer keys are part of the validation data of its subscriptions.
+     *
+     * @param connection    DB connection
+     * @param applicationId UUID of the application
+     * @throws SQLException If failed to record the change
+     */
+    static void recordApplicationChange(Connection connection, String applicationId) throws SQLException {
+        final String query = "INSERT INTO AM_SUBSCRIPTION_CHANGES (SUBSCRIPTION_ID, CHANGE_TYPE, CHANGED_TIME) " +
+                "SELECT UUID, '" + CHANGE_TYPE_UPDATE + "', ? FROM AM_SUBSCRIPTION WHERE APPLICATION_ID = ?";
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setTimestamp(1, now());
+            statement.setString(2, applicationId);
+            statement.execute();
+        }
+    }
+
+    /**
+     * Record the deletion of a subscription. Since the subscription will no longer exist when gateways request the
+     * change, the API context, version and consumer keys the gateways have cached the subscription against are
+     * stored along with the change. This must be called before the subscription is deleted.
+     *
+     * @param connection     DB connection
+     * @param subscriptionId UUID of the subscription
+     * @throws SQLException If failed to record the change
+     */
+    static void recordDeletion(Connection connection, String subscriptionId) throws SQLException {
+        final String query = "INSERT INTO AM_SUBSCRIPTION_CHANGES (SUBSCRIPTION_ID, CHANGE_TYPE, API_CONTEXT, " +
+                "API_VERSION, APPLICATION_ID, CLIENT_ID, KEY_TYPE, CHANGED_TIME) " +
+                "SELECT SUBS.UUID, '" + CHANGE_TYPE_DELETE + "', API.CONTEXT, API.VERSION, SUBS.APPLICATION_ID, " +
+                "KEY_MAP.CLIENT_ID, KEY_MAP.KEY_TYPE, ? FROM AM_SUBSCRIPTION SUBS, AM_API API, AM_APP_KEY_MAPPING " +
+                "KEY_MAP WHERE SUBS.API_ID = API.UUID AND KEY_MAP.APPLICATION_ID = SUBS.APPLICATION_ID " +
+                "AND SUBS.UUID = ?";
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setTimestamp(1, now());
+            statement.setString(2, subscriptionId);
+            statement.execute();
+        }
+    }
+
+    /**
+     * Get the sequence number of the latest subscription change which is older than
+     * {@link #CHANGE_SETTLE_TIME_SECONDS}. All the changes up to this sequence number are committed, while more
+     * recent changes may still be committed with lower sequence numbers than the latest one.
+     *
+     * @param connection DB connection
+     * @return latest settled sequence number or 0 if no changes are settled
+     * @throws SQLException If failed to read the change log
+     */
+    static long getSettledChangeSequence(Connection connection) throws SQLException {
+        final String query = "SELECT MAX(SEQUENCE_ID) AS SETTLED_SEQUENCE FROM AM_SUBSCRIPTION_CHANGES " +
+                "WHERE CHANGED_TIME < ?";
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setTimestamp(1, getSettleTime());
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getLong("SETTLED_SEQUENCE");
+                }
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * Remove the changes which are older than the given retention time. The latest of the removed changes is kept,
+     * so that {@link #isPruned(Connection, long)} can tell whether the changes after a change sequence are still
+     * available and {@link #getSettledChangeSequence(Connection)} does not go back once changes are removed.
+     *
+     * @param connection       DB connection
+     * @param retentionSeconds Time in seconds for which changes are kept, never less than
+     *                         {@link #CHANGE_SETTLE_TIME_SECONDS}
+     * @return number of removed changes
+     * @throws SQLException If failed to remove the changes
+     */
+    static int pruneChanges(Connection connection, long retentionSeconds) throws SQLException {
+        final String latestExpiredQuery = "SELECT MAX(SEQUENCE_ID) AS EXPIRED_SEQUENCE FROM AM_SUBSCRIPTION_CHANGES " +
+                "WHERE CHANGED_TIME < ?";
+        final String deleteQuery = "DELETE FROM AM_SUBSCRIPTION_CHANGES WHERE SEQUENCE_ID < ?";
+        long expiredSequence = 0L;
+        try (PreparedStatement statement = connection.prepareStatement(latestExpiredQuery)) {
+            statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()
+                    .minusSeconds(Math.max(retentionSeconds, CHANGE_SETTLE_TIME_SECONDS))));
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next()) {
+                    expiredSequence = rs.getLong("EXPIRED_SEQUENCE");
+                }
+            }
+        }
+        if (expiredSequence == 0L) {
+            return 0;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(deleteQuery)) {
+            statement.setLong(1, expiredSequence);
+            return statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Check whether changes after the given change sequence may have been removed by
+     * {@link #pruneChanges(Connection, long)}
+     *
+     * @param connection     DB connection
+     * @param changeSequence Change sequence returned to a gateway
+     * @return true if the changes after the sequence are no longer complete
+     * @throws SQLException If failed to read the change log
+     */
+    static boolean isPruned(Connection connection, long changeSequence) throws SQLException {
+        final String query = "SELECT MIN(SEQUENCE_ID) AS FIRST_SEQUENCE FROM AM_SUBSCRIPTION_CHANGES";
+        try (PreparedStatement statement = connection.prepareStatement(query);
+             ResultSet rs = statement.executeQuery()) {
+            if (rs.next()) {
+                long firstSequence = rs.getLong("FIRST_SEQUENCE");
+                return !rs.wasNull() && changeSequence < firstSequence - 1;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the time before which changes are settled
+     *
+     * @return changes recorded before this time are settled
+     */
+    static Timestamp getSettleTime() {
+        return Timestamp.valueOf(LocalDateTime.now().minusSeconds(CHANGE_SETTLE_TIME_SECONDS));
+    }
+
+    /**
+     * Change times are recorded with the clock of the server rather than of the database, so that they can be
+     * compared with {@link #getSettleTime()}
+     */
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+}
@@ -38,12 +38,19 @@ public class ApiStoreSdkGenerationException extends Exception {
         this.errorHandler = ExceptionCodes.SDK_NOT_GENERATED;
     }
 
+    public ApiStoreSdkGenerationException(String message, ErrorHandler errorHandler) {
+        super(message);
+        this.errorHandler = errorHandler;
+    }
+
     public ApiStoreSdkGenerationException(String message, Throwable cause) {
         super(message, cause);
+        this.errorHandler = ExceptionCodes.SDK_NOT_GENERATED;
     }
 
     public ApiStoreSdkGenerationException(Throwable cause) {
         super(cause);
+        this.errorHandler = ExceptionCodes.SDK_NOT_GENERATED;
     }
 
     public String getErrorMessage() {
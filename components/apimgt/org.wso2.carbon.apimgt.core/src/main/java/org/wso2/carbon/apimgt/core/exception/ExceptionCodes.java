@@ -75,6 +75,9 @@ public enum ExceptionCodes implements ErrorHandler {
     API_ATTRIBUTE_NOT_FOUND(900335, "API attribute not found", 404, "API attribute not found"),
     SUBSCRIPTION_ALREADY_EXISTS(900336, "Subscription already exists", 409, "Subscription already exists"),
     SDK_NOT_GENERATED(900337, "Error while generating SDK", 500, "Error while generating SDK"),
+    SDK_GENERATION_JOB_NOT_FOUND(900338, "SDK generation job not found", 404, "SDK generation job not found"),
+    SDK_GENERATION_QUEUE_FULL(900339, "SDK generation queue is full", 503,
+            "Too many SDKs are being generated, please try again later"),
 
     // Generic codes
     JSON_PARSE_ERROR(900400, "Json parse error", 500, "JSON parse error"),
@@ -160,6 +163,10 @@ public enum ExceptionCodes implements ErrorHandler {
     LAST_UPDATED_TIME_RETRIEVAL_ERROR(900702, "Error while retrieving last access time for the resource", 500,
             "Error while retrieving last access time for the resource"),
     INVALID_DATE_TIME_STAMP(900703, "Invalid timestamp value", 400, "Timestamp should be in ISO8601 format"),
+    INVALID_PAGINATION_CURSOR(900704, "Invalid pagination cursor", 400,
+            "Provided cursor is not a value returned by a previous request"),
+    SUBSCRIPTION_CHANGES_PRUNED(900705, "Subscription changes are no longer available", 410,
+            "Changes after the provided change sequence were removed, subscriptions have to be retrieved again"),
 
 
     // Oauth related codes
@@ -205,7 +212,8 @@ public enum ExceptionCodes implements ErrorHandler {
     BLOCK_CONDITION_UNSUPPORTED_APP_ID_NAME(900978, "Block Condition Error", 400, "Application ID or Name does not " +
             "exist"),
     BLOCK_CONDITION_ALREADY_EXISTS(900979, "The Block Condition exists.", 409, " The Block Condition already exists"),
-    SYSTEM_APP_NOT_FOUND(900980, "System Application not found", 409, "System Application not found");
+    SYSTEM_APP_NOT_FOUND(900980, "System Application not found", 409, "System Application not found"),
+    API_SEARCH_INDEX_ERROR(900981, "API Search Error", 500, "Error while accessing the API search index");
 
     private final long errorCode;
     private final String errorMessage;
@@ -20,33 +20,57 @@ package org.wso2.carbon.apimgt.core.executors;
 import org.apache.juli.logging.Log;
 import org.apache.juli.logging.LogFactory;
 import org.wso2.carbon.apimgt.core.configuration.models.APIMConfigurations;
+import org.wso2.carbon.apimgt.core.configuration.models.NotificationConfigurations;
 import org.wso2.carbon.apimgt.core.configuration.models.NotifierConfigurations;
 import org.wso2.carbon.apimgt.core.exception.NotificationException;
 import org.wso2.carbon.apimgt.core.impl.Notifier;
 import org.wso2.carbon.apimgt.core.impl.NotifierConstants;
+import org.wso2.carbon.apimgt.core.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.core.template.dto.NotificationDTO;
 import org.wso2.carbon.apimgt.core.util.APIUtils;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 
 /**
- * Used to execute notification threads.
+ * Used to execute notification threads. Notifiers are queued to a thread pool shared by all the notifications, so
+ * that the caller does not wait for the notifications to be sent. The queue is bounded, and notifications which do
+ * not fit in the queue are rejected instead of piling up in memory.
  */
 public class NotificationExecutor {
 
     private static final Log log = LogFactory.getLog(NotificationExecutor.class);
-    ExecutorService executor = Executors.newFixedThreadPool(10);
+    private static final long THREAD_ALIVE_TIME = 300L;
 
     /**
-     * Executes the notifer classes in separtate threads.
+     * A static class which holds the thread pool shared by the notifications.
+     */
+    private static class ExecutorHolder {
+        private static final ThreadPoolExecutor executor = createExecutor();
+
+        private static ThreadPoolExecutor createExecutor() {
+            NotificationConfigurations notificationConfigs = ServiceReferenceHolder.getInstance()
+                    .getAPIMConfiguration().getNotificationConfigurations();
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(notificationConfigs.getNotifierThreadCount(),
+                    notificationConfigs.getNotifierThreadCount(), THREAD_ALIVE_TIME, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(notificationConfigs.getNotificationQueueSize()));
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            return threadPoolExecutor;
+        }
+    }
+
+    /**
+     * Queues the notifer classes to be executed in separate threads.
      *
      * @param notificationDTO
-     * @throws org.wso2.carbon.apimgt.core.exception.NotificationException
+     * @throws org.wso2.carbon.apimgt.core.exception.NotificationException if a notifier could not be initialized or
+     *                                                                      the notification queue is full
      */
     public void sendAsyncNotifications(NotificationDTO notificationDTO) throws NotificationException {
 
@@ -75,7 +99,12 @@ public class NotificationExecutor {
                         throw new NotificationException("ClassNotFound Error while Initializing the notifier class", e);
                     }
                     notifier.setNotificationDTO(notificationDTO);
-                    executor.execute(notifier);
+                    try {
+                        ExecutorHolder.executor.execute(notifier);
+                    } catch (RejectedExecutionException e) {
+                        throw new NotificationException("Notification queue is full. Notifier " + executorClass
+                                + " is not executed", e);
+                    }
                 } else {
                     if (log.isDebugEnabled()) {
                         log.debug("Class " + executorClass + " Empty Or Null");
@@ -87,9 +116,6 @@ public class NotificationExecutor {
                 log.debug("Notification Type Does Not match with " + NotifierConstants.NOTIFICATION_TYPE_NEW_VERSION);
             }
         }
-        executor.shutdown();
-        while (!executor.isTerminated()) {
-        }
     }
 
 }
@@ -63,6 +63,7 @@ import org.wso2.carbon.apimgt.core.models.URITemplateParam;
 import org.wso2.carbon.apimgt.core.models.UriTemplate;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.core.util.APIUtils;
+import org.wso2.carbon.apimgt.core.util.ScopeRouteTable;
 import org.wso2.msf4j.Request;
 import org.wso2.msf4j.ServiceMethodInfo;
 
@@ -108,16 +109,7 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
         if (resourceMethod.getAnnotation(javax.ws.rs.Path.class) != null) {
             pathTemplate = resourceMethod.getAnnotation(javax.ws.rs.Path.class).value();
         }
-        String nameSpace = getNamespaceFromBasePath(basepath);
-        if (basepath.contains(APIMgtConstants.APPType.PUBLISHER)) {
-            nameSpace = APIMgtConstants.NAMESPACE_PUBLISHER_API;
-        } else if (basepath.contains(APIMgtConstants.APPType.STORE)) {
-            nameSpace = APIMgtConstants.NAMESPACE_STORE_API;
-        } else if (basepath.contains(APIMgtConstants.APPType.ADMIN)) {
-            nameSpace = APIMgtConstants.NAMESPACE_ADMIN_API;
-        } else if (basepath.contains(APIMgtConstants.APPType.ANALYTICS)) {
-            nameSpace = APIMgtConstants.NAMESPACE_ANALYTICS_API;
-        }
+        String nameSpace = getRestAPINamespace(basepath);
 
         //if namespace is not available in local cache add it.
         if (nameSpace != null && !localConfigMap.containsKey(nameSpace)) {
@@ -135,6 +127,58 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
         return null;
     }
 
+    @Override
+    public ScopeRouteTable getScopeRouteTable(String resourceConfigsJSON) throws APIManagementException {
+        Swagger swagger = new SwaggerParser().parse(resourceConfigsJSON);
+        if (swagger == null) {
+            String message = "Error while parsing the REST API definition";
+            log.error(message);
+            throw new APIManagementException(message, ExceptionCodes.SWAGGER_PARSE_EXCEPTION);
+        }
+        Map<String, String> resourceScopes = new HashMap<>();
+        String nameSpace = getRestAPINamespace(swagger.getBasePath());
+        if (nameSpace != null) {
+            //resource to scope mappings defined in configuration file(dep.yaml) take precedence over swagger
+            Map<String, String> configMap = ServiceReferenceHolder.getInstance().getRestAPIConfigurationMap(nameSpace);
+            if (configMap != null) {
+                resourceScopes.putAll(configMap);
+            }
+        }
+        if (swagger.getPaths() != null) {
+            for (Map.Entry<String, Path> entry : swagger.getPaths().entrySet()) {
+                for (Map.Entry<HttpMethod, Operation> httpVerbEntry : entry.getValue().getOperationMap().entrySet()) {
+                    Object scope = httpVerbEntry.getValue().getVendorExtensions()
+                            .get(APIMgtConstants.SWAGGER_X_SCOPE);
+                    if (scope != null) {
+                        resourceScopes.putIfAbsent(httpVerbEntry.getKey() + "_" + entry.getKey(), scope.toString());
+                    }
+                }
+            }
+        }
+        return new ScopeRouteTable(resourceScopes);
+    }
+
+    /**
+     * Get the configuration namespace of a REST API of API Manager
+     *
+     * @param basePath base path of the REST API
+     * @return namespace of the REST API or null if the base path does not belong to a REST API of API Manager
+     */
+    private String getRestAPINamespace(String basePath) {
+        if (basePath == null) {
+            return null;
+        } else if (basePath.contains(APIMgtConstants.APPType.PUBLISHER)) {
+            return APIMgtConstants.NAMESPACE_PUBLISHER_API;
+        } else if (basePath.contains(APIMgtConstants.APPType.STORE)) {
+            return APIMgtConstants.NAMESPACE_STORE_API;
+        } else if (basePath.contains(APIMgtConstants.APPType.ADMIN)) {
+            return APIMgtConstants.NAMESPACE_ADMIN_API;
+        } else if (basePath.contains(APIMgtConstants.APPType.ANALYTICS)) {
+            return APIMgtConstants.NAMESPACE_ANALYTICS_API;
+        }
+        return null;
+    }
+
     /*
     * This method populates resource to scope mappings into localConfigMap
     *
@@ -43,6 +43,8 @@ import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.core.util.APIUtils;
 import org.wso2.carbon.apimgt.core.util.BrokerUtil;
 
+import java.net.Inet4Address;
+import java.net.InetAddress;
 import java.util.List;
 
 /**
@@ -359,8 +361,7 @@ public class APIGatewayPublisherImpl implements APIGateway {
             }
             if (APIMgtConstants.ThrottlePolicyConstants.BLOCKING_CONDITION_IP_RANGE.equals(blockConditions
                     .getConditionType())) {
-                blockEvent.setStartingIP(APIUtils.ipToLong(blockConditions.getStartingIP()));
-                blockEvent.setEndingIP(APIUtils.ipToLong(blockConditions.getEndingIP()));
+                setIpRange(blockEvent, blockConditions);
             }
             publishToThrottleTopic(blockEvent);
             if (log.isDebugEnabled()) {
@@ -385,8 +386,7 @@ public class APIGatewayPublisherImpl implements APIGateway {
             }
             if (APIMgtConstants.ThrottlePolicyConstants.BLOCKING_CONDITION_IP_RANGE.equals(blockConditions
                     .getConditionType())) {
-                blockEvent.setStartingIP(APIUtils.ipToLong(blockConditions.getStartingIP()));
-                blockEvent.setEndingIP(APIUtils.ipToLong(blockConditions.getEndingIP()));
+                setIpRange(blockEvent, blockConditions);
             }
             publishToThrottleTopic(blockEvent);
             if (log.isDebugEnabled()) {
@@ -396,6 +396,24 @@ public class APIGatewayPublisherImpl implements APIGateway {
         }
     }
 
+    /**
+     * Set the addresses of an IP range block condition to an event. The numeric values of the addresses are only set
+     * for IPv4 ranges, while the address literals are set for both IPv4 and IPv6 ranges.
+     *
+     * @param blockEvent      event to be published
+     * @param blockConditions IP range block condition
+     */
+    private void setIpRange(BlockEvent blockEvent, BlockConditions blockConditions) {
+        blockEvent.setStartingIPAddress(blockConditions.getStartingIP());
+        blockEvent.setEndingIPAddress(blockConditions.getEndingIP());
+        InetAddress startingIP = APIUtils.toIpAddress(blockConditions.getStartingIP());
+        InetAddress endingIP = APIUtils.toIpAddress(blockConditions.getEndingIP());
+        if (startingIP instanceof Inet4Address && endingIP instanceof Inet4Address) {
+            blockEvent.setStartingIP(APIUtils.ipToBigInteger(startingIP).longValue());
+            blockEvent.setEndingIP(APIUtils.ipToBigInteger(endingIP).longValue());
+        }
+    }
+
     @Override
     public void deleteBlockCondition(BlockConditions blockConditions) throws GatewayException {
         if (blockConditions != null) {
@@ -411,8 +429,7 @@ public class APIGatewayPublisherImpl implements APIGateway {
             }
             if (APIMgtConstants.ThrottlePolicyConstants.BLOCKING_CONDITION_IP_RANGE.equals(blockConditions
                     .getConditionType())) {
-                blockEvent.setStartingIP(APIUtils.ipToLong(blockConditions.getStartingIP()));
-                blockEvent.setEndingIP(APIUtils.ipToLong(blockConditions.getEndingIP()));
+                setIpRange(blockEvent, blockConditions);
             }
             publishToThrottleTopic(blockEvent);
             if (log.isDebugEnabled()) {
@@ -127,6 +127,11 @@ public class APIManagerFactory {
             apiPublisher.registerObserver(new EventLogger());
             apiPublisher.registerObserver(new FunctionTrigger(DAOFactory.getFunctionDAO(),
                     new RestCallUtilImpl()));
+            if (ServiceReferenceHolder.getInstance().getAPIMConfiguration().getSearchConfigurations()
+                    .isIndexEnabled()) {
+                apiPublisher.registerObserver(new APISearchIndexUpdater(DAOFactory.getApiDAO(),
+                        APISearchIndex.getInstance()));
+            }
 
             return apiPublisher;
         } catch (APIMgtDAOException e) {
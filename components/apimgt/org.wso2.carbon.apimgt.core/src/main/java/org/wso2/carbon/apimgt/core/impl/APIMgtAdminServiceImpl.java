@@ -5,6 +5,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.api.APIGateway;
 import org.wso2.carbon.apimgt.core.api.APIMgtAdminService;
+import org.wso2.carbon.apimgt.core.api.ResultConsumer;
 import org.wso2.carbon.apimgt.core.api.WorkflowExecutor;
 import org.wso2.carbon.apimgt.core.api.WorkflowResponse;
 import org.wso2.carbon.apimgt.core.configuration.models.APIMConfigurations;
@@ -27,6 +28,7 @@ import org.wso2.carbon.apimgt.core.models.Label;
 import org.wso2.carbon.apimgt.core.models.PolicyValidationData;
 import org.wso2.carbon.apimgt.core.models.RegistrationSummary;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
+import org.wso2.carbon.apimgt.core.models.SubscriptionValidationResults;
 import org.wso2.carbon.apimgt.core.models.UriTemplate;
 import org.wso2.carbon.apimgt.core.models.policy.APIPolicy;
 import org.wso2.carbon.apimgt.core.models.policy.ApplicationPolicy;
@@ -98,6 +100,18 @@ public class APIMgtAdminServiceImpl implements APIMgtAdminService {
         return apiSubscriptionDAO.getAPISubscriptionsOfAPIForValidation(limit);
     }
 
+    @Override
+    public SubscriptionValidationResults getAPISubscriptions(String cursor, int limit)
+            throws APIManagementException {
+        return apiSubscriptionDAO.getAPISubscriptionsForValidation(cursor, limit);
+    }
+
+    @Override
+    public SubscriptionValidationResults getAPISubscriptionChanges(long changeSequence, int limit)
+            throws APIManagementException {
+        return apiSubscriptionDAO.getAPISubscriptionChangesForValidation(changeSequence, limit);
+    }
+
     @Override
     public List<SubscriptionValidationData> getAPISubscriptionsOfApi(String apiContext, String apiVersion)
             throws APIManagementException {
@@ -477,6 +491,23 @@ public class APIMgtAdminServiceImpl implements APIMgtAdminService {
         return apiList;
     }
 
+    @Override
+    public void getAPIsByGatewayLabel(List<String> gatewayLabels, String status, ResultConsumer<API> consumer)
+            throws APIManagementException {
+        if (gatewayLabels == null) {
+            String msg = "Gateway labels cannot be null";
+            log.error(msg);
+            throw new APIManagementException(msg, ExceptionCodes.GATEWAY_LABELS_CANNOT_BE_NULL);
+        }
+        try {
+            apiDAO.getAPISummariesByGatewayLabel(gatewayLabels, status, consumer);
+        } catch (APIMgtDAOException e) {
+            String msg = "Error occurred while reading the API list in given gateway labels";
+            log.error(msg, e);
+            throw new APIManagementException(msg, ExceptionCodes.APIMGT_DAO_EXCEPTION);
+        }
+    }
+
     @Override
     public RegistrationSummary getRegistrationSummary() {
         return new RegistrationSummary(apimConfiguration);
@@ -493,6 +524,17 @@ public class APIMgtAdminServiceImpl implements APIMgtAdminService {
         }
     }
 
+    @Override
+    public void getAllApplications(ResultConsumer<Application> consumer) throws APIManagementException {
+        try {
+            applicationDAO.getAllApplications(consumer);
+        } catch (APIMgtDAOException ex) {
+            String msg = "Error occurred while reading the Application list";
+            log.error(msg, ex);
+            throw new APIManagementException(msg, ExceptionCodes.APIMGT_DAO_EXCEPTION);
+        }
+    }
+
     @Override
     public List<Endpoint> getAllEndpoints() throws APIManagementException {
         try {
@@ -504,6 +546,17 @@ public class APIMgtAdminServiceImpl implements APIMgtAdminService {
         }
     }
 
+    @Override
+    public void getAllEndpoints(ResultConsumer<Endpoint> consumer) throws APIManagementException {
+        try {
+            apiDAO.getEndpoints(consumer);
+        } catch (APIMgtDAOException ex) {
+            String msg = "Error occurred while reading the Endpoint list";
+            log.error(msg, ex);
+            throw new APIManagementException(msg, ExceptionCodes.APIMGT_DAO_EXCEPTION);
+        }
+    }
+
     @Override
     public String getEndpointGatewayConfig(String endpointId) throws APIManagementException {
         try {
@@ -527,6 +580,17 @@ public class APIMgtAdminServiceImpl implements APIMgtAdminService {
         }
     }
 
+    @Override
+    public void getAllPolicies(ResultConsumer<PolicyValidationData> consumer) throws APIManagementException {
+        try {
+            policyDAO.getAllPolicies(consumer);
+        } catch (APIMgtDAOException ex) {
+            String msg = "Error occurred while reading policies";
+            log.error(msg, ex);
+            throw new APIManagementException(msg, ExceptionCodes.APIMGT_DAO_EXCEPTION);
+        }
+    }
+
     @Override
     public String addBlockCondition(BlockConditions blockConditions) throws APIManagementException {
         try {
@@ -590,6 +654,17 @@ public class APIMgtAdminServiceImpl implements APIMgtAdminService {
         }
     }
 
+    @Override
+    public void getBlockConditions(ResultConsumer<BlockConditions> consumer) throws APIManagementException {
+        try {
+            policyDAO.getBlockConditions(consumer);
+        } catch (APIMgtDAOException e) {
+            String errorMessage = "Couldn't read list of block conditions.";
+            log.error(errorMessage, e);
+            throw new APIManagementException(errorMessage, ExceptionCodes.APIMGT_DAO_EXCEPTION);
+        }
+    }
+
     @Override
     public BlockConditions getBlockConditionByUUID(String uuid) throws APIManagementException {
         try {
@@ -243,9 +243,147 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
     @Override
     public String addAPI(API.APIBuilder apiBuilder) throws APIManagementException {
 
-        API createdAPI;
         APIGateway gateway = getApiGateway();
+        API createdAPI = buildNewAPI(apiBuilder);
+        boolean added = false;
+        try {
+            //Add API to gateway
+            gateway.addAPI(createdAPI);
+            if (log.isDebugEnabled()) {
+                log.debug("API : " + apiBuilder.getName() + " has been identifier published to gateway");
+            }
+
+            if (isAllowedToAdd(createdAPI)) {
+                getApiDAO().addAPI(createdAPI);
+            }
+
+            added = true;
+            APIUtils.logDebug("API " + createdAPI.getName() + "-" + createdAPI.getVersion() + " was created " +
+                    "successfully.", log);
+            notifyAPICreation(createdAPI);
+        } catch (APIMgtDAOException e) {
+            String errorMsg = "Error occurred while creating the API - " + apiBuilder.getName();
+            log.error(errorMsg);
+            throw new APIManagementException(errorMsg, e, e.getErrorHandler());
+        } catch (GatewayException e) {
+            String message = "Error occurred while adding API - " + apiBuilder.getName() + " to gateway";
+            log.error(message, e);
+            throw new APIManagementException(message, ExceptionCodes.GATEWAY_EXCEPTION);
+        } finally {
+            if (!added) {
+                removeLifecycle(createdAPI.getName(), createdAPI.getLifecycleInstanceId());
+            }
+        }
+        return apiBuilder.getId();
+    }
+
+    /**
+     * Adds a set of new APIs to the system in a single transaction. The gateway is notified of the APIs once all of
+     * them are added, instead of before each API is added. The lifecycles of the APIs are removed if the APIs are not
+     * added, since they can't be created within the same transaction.
+     * <p>
+     * As with {@link #addAPI(API.APIBuilder)}, an API which could not be added to the gateway is not kept. It is
+     * removed again and left out of the returned UUIDs, so that it is reported as not added.
+     *
+     * @param apiBuilders API model objects
+     * @return UUIDs of the added APIs
+     * @throws APIManagementException if failed to add the APIs, in which case none of them is added
+     */
+    @Override
+    public List<String> addAPIs(List<API.APIBuilder> apiBuilders) throws APIManagementException {
+
+        Set<String> apiNames = new HashSet<>();
+        Set<String> apiContexts = new HashSet<>();
+        // APIs associated with a lifecycle, which has to be removed unless the API is added
+        List<API> builtAPIs = new ArrayList<>();
+        List<API> createdAPIs = new ArrayList<>();
+        List<API> notAllowedAPIs = new ArrayList<>();
+        boolean added = false;
+        try {
+            for (API.APIBuilder apiBuilder : apiBuilders) {
+                // APIs of the same set are not in the database yet, so they are checked against each other
+                if (!apiNames.add(apiBuilder.getName()) || !apiContexts.add(apiBuilder.getContext())) {
+                    String message = "Duplicate API already Exist with name/Context " + apiBuilder.getName();
+                    log.error(message);
+                    throw new APIManagementException(message, ExceptionCodes.API_ALREADY_EXISTS);
+                }
+                API createdAPI = buildNewAPI(apiBuilder);
+                builtAPIs.add(createdAPI);
+                if (isAllowedToAdd(createdAPI)) {
+                    createdAPIs.add(createdAPI);
+                } else {
+                    notAllowedAPIs.add(createdAPI);
+                }
+            }
+            getApiDAO().addAPIs(createdAPIs);
+            added = true;
+        } catch (APIMgtDAOException e) {
+            String errorMsg = "Error occurred while creating " + createdAPIs.size() + " APIs";
+            log.error(errorMsg);
+            throw new APIManagementException(errorMsg, e, e.getErrorHandler());
+        } finally {
+            for (API notAddedAPI : added ? notAllowedAPIs : builtAPIs) {
+                removeLifecycle(notAddedAPI.getName(), notAddedAPI.getLifecycleInstanceId());
+            }
+        }
 
+        APIGateway gateway = getApiGateway();
+        List<String> apiIds = new ArrayList<>();
+        for (API createdAPI : createdAPIs) {
+            try {
+                gateway.addAPI(createdAPI);
+            } catch (GatewayException e) {
+                log.error("Error occurred while adding API - " + createdAPI.getName() + " to gateway. The API is "
+                        + "removed", e);
+                removeAPINotAddedToGateway(createdAPI);
+                continue;
+            }
+            notifyAPICreation(createdAPI);
+            apiIds.add(createdAPI.getId());
+        }
+        log.info("Added " + apiIds.size() + " APIs and published them to gateway");
+        return apiIds;
+    }
+
+    /**
+     * Removes an API which was added to the database but could not be added to the gateway, along with its lifecycle
+     *
+     * @param api API to be removed
+     */
+    private void removeAPINotAddedToGateway(API api) {
+        try {
+            getApiDAO().deleteAPI(api.getId());
+        } catch (APIMgtDAOException e) {
+            log.error("Error occurred while removing API - " + api.getName() + " which could not be added to gateway",
+                    e);
+            return;
+        }
+        removeLifecycle(api.getName(), api.getLifecycleInstanceId());
+    }
+
+    /**
+     * Removes the lifecycle associated with an API which is not added
+     *
+     * @param apiName             name of the API which is not added
+     * @param lifecycleInstanceId lifecycle instance associated with the API
+     */
+    private void removeLifecycle(String apiName, String lifecycleInstanceId) {
+        try {
+            getApiLifecycleManager().removeLifecycle(lifecycleInstanceId);
+        } catch (LifecycleException e) {
+            log.error("Error occurred while removing the lifecycle of API - " + apiName, e);
+        }
+    }
+
+    /**
+     * Validates a new API and completes its details, associating it with a lifecycle and generating its gateway
+     * configuration
+     *
+     * @param apiBuilder API model object
+     * @return API to be added
+     * @throws APIManagementException if the API is not valid or its details could not be completed
+     */
+    private API buildNewAPI(API.APIBuilder apiBuilder) throws APIManagementException {
         apiBuilder.provider(getUsername());
         if (StringUtils.isEmpty(apiBuilder.getId())) {
             apiBuilder.id(UUID.randomUUID().toString());
@@ -263,9 +401,11 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
         }
         Map<String, Endpoint> apiEndpointMap = apiBuilder.getEndpoint();
         validateEndpoints(apiEndpointMap, false);
+        LifecycleState lifecycleState = null;
+        boolean built = false;
         try {
             if (!isApiNameExist(apiBuilder.getName()) && !isContextExist(apiBuilder.getContext())) {
-                LifecycleState lifecycleState = getApiLifecycleManager().addLifecycle(APIMgtConstants.API_LIFECYCLE,
+                lifecycleState = getApiLifecycleManager().addLifecycle(APIMgtConstants.API_LIFECYCLE,
                         getUsername());
                 apiBuilder.associateLifecycle(lifecycleState);
 
@@ -311,47 +451,11 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
                     apiBuilder.permissionMap(roleNamePermissionList);
                 }
 
-                createdAPI = apiBuilder.build();
+                API createdAPI = apiBuilder.build();
                 APIUtils.validate(createdAPI);
 
-                //Add API to gateway
-                gateway.addAPI(createdAPI);
-                if (log.isDebugEnabled()) {
-                    log.debug("API : " + apiBuilder.getName() + " has been identifier published to gateway");
-                }
-
-                Set<String> apiRoleList;
-
-                //if the API has public visibility, add the API without any role checking
-                //if the API has role based visibility, add the API with role checking
-                if (API.Visibility.PUBLIC == createdAPI.getVisibility()) {
-                    getApiDAO().addAPI(createdAPI);
-                } else if (API.Visibility.RESTRICTED == createdAPI.getVisibility()) {
-                    //get all the roles in the system
-                    Set<String> allAvailableRoles = APIUtils.getAllAvailableRoles();
-                    //get the roles needed to be associated with the API
-                    apiRoleList = createdAPI.getVisibleRoles();
-                    if (APIUtils.checkAllowedRoles(allAvailableRoles, apiRoleList)) {
-                        getApiDAO().addAPI(createdAPI);
-                    }
-                }
-
-                APIUtils.logDebug("API " + createdAPI.getName() + "-" + createdAPI.getVersion() + " was created " +
-                        "successfully.", log);
-                // 'API_M Functions' related code
-                //Create a payload with event specific details
-                Map<String, String> eventPayload = new HashMap<>();
-                eventPayload.put(APIMgtConstants.FunctionsConstants.API_ID, createdAPI.getId());
-                eventPayload.put(APIMgtConstants.FunctionsConstants.API_NAME, createdAPI.getName());
-                eventPayload.put(APIMgtConstants.FunctionsConstants.API_VERSION, createdAPI.getVersion());
-                eventPayload.put(APIMgtConstants.FunctionsConstants.API_DESCRIPTION, createdAPI.getDescription());
-                eventPayload.put(APIMgtConstants.FunctionsConstants.API_CONTEXT, createdAPI.getContext());
-                eventPayload.put(APIMgtConstants.FunctionsConstants.API_LC_STATUS, createdAPI.getLifeCycleStatus());
-                eventPayload.put(APIMgtConstants.FunctionsConstants.API_PERMISSION, createdAPI.getApiPermission());
-                // This will notify all the EventObservers(Asynchronous)
-                ObserverNotifier observerNotifier = new ObserverNotifier(Event.API_CREATION, getUsername(),
-                        ZonedDateTime.now(ZoneOffset.UTC), eventPayload, this);
-                ObserverNotifierThreadPool.getInstance().executeTask(observerNotifier);
+                built = true;
+                return createdAPI;
             } else {
                 String message = "Duplicate API already Exist with name/Context " + apiBuilder.getName();
                 log.error(message);
@@ -369,12 +473,53 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
             String message = "Error generating API configuration for API " + apiBuilder.getName();
             log.error(message, e);
             throw new APIManagementException(message, ExceptionCodes.TEMPLATE_EXCEPTION);
-        } catch (GatewayException e) {
-            String message = "Error occurred while adding API - " + apiBuilder.getName() + " to gateway";
-            log.error(message, e);
-            throw new APIManagementException(message, ExceptionCodes.GATEWAY_EXCEPTION);
+        } finally {
+            if (!built && lifecycleState != null) {
+                removeLifecycle(apiBuilder.getName(), lifecycleState.getLifecycleId());
+            }
         }
-        return apiBuilder.getId();
+    }
+
+    /**
+     * Checks whether an API can be added. An API with public visibility is added without any role checking, while an
+     * API with role based visibility is added only if its roles exist.
+     *
+     * @param api API to be added
+     * @return true if the API can be added
+     * @throws APIManagementException if the roles could not be checked
+     */
+    private boolean isAllowedToAdd(API api) throws APIManagementException {
+        if (API.Visibility.PUBLIC == api.getVisibility()) {
+            return true;
+        } else if (API.Visibility.RESTRICTED == api.getVisibility()) {
+            //get all the roles in the system
+            Set<String> allAvailableRoles = APIUtils.getAllAvailableRoles();
+            //get the roles needed to be associated with the API
+            return APIUtils.checkAllowedRoles(allAvailableRoles, api.getVisibleRoles());
+        }
+        return false;
+    }
+
+    /**
+     * Notifies the observers of the creation of an API
+     *
+     * @param createdAPI created API
+     */
+    private void notifyAPICreation(API createdAPI) {
+        // 'API_M Functions' related code
+        //Create a payload with event specific details
+        Map<String, String> eventPayload = new HashMap<>();
+        eventPayload.put(APIMgtConstants.FunctionsConstants.API_ID, createdAPI.getId());
+        eventPayload.put(APIMgtConstants.FunctionsConstants.API_NAME, createdAPI.getName());
+        eventPayload.put(APIMgtConstants.FunctionsConstants.API_VERSION, createdAPI.getVersion());
+        eventPayload.put(APIMgtConstants.FunctionsConstants.API_DESCRIPTION, createdAPI.getDescription());
+        eventPayload.put(APIMgtConstants.FunctionsConstants.API_CONTEXT, createdAPI.getContext());
+        eventPayload.put(APIMgtConstants.FunctionsConstants.API_LC_STATUS, createdAPI.getLifeCycleStatus());
+        eventPayload.put(APIMgtConstants.FunctionsConstants.API_PERMISSION, createdAPI.getApiPermission());
+        // This will notify all the EventObservers(Asynchronous)
+        ObserverNotifier observerNotifier = new ObserverNotifier(Event.API_CREATION, getUsername(),
+                ZonedDateTime.now(ZoneOffset.UTC), eventPayload, this);
+        ObserverNotifierThreadPool.getInstance().executeTask(observerNotifier);
     }
 
     private void validateEndpoints(Map<String, Endpoint> endpointMap, boolean apiUpdate) throws
@@ -556,20 +701,20 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
                     }
                     if (log.isDebugEnabled()) {
                         log.debug("API " + api.getName() + "-" + api.getVersion() + " was updated successfully.");
-                        // 'API_M Functions' related code
-                        //Create a payload with event specific details
-                        Map<String, String> eventPayload = new HashMap<>();
-                        eventPayload.put(APIMgtConstants.FunctionsConstants.API_ID, api.getId());
-                        eventPayload.put(APIMgtConstants.FunctionsConstants.API_NAME, api.getName());
-                        eventPayload.put(APIMgtConstants.FunctionsConstants.API_VERSION, api.getVersion());
-                        eventPayload.put(APIMgtConstants.FunctionsConstants.API_DESCRIPTION, api.getDescription());
-                        eventPayload.put(APIMgtConstants.FunctionsConstants.API_CONTEXT, api.getContext());
-                        eventPayload.put(APIMgtConstants.FunctionsConstants.API_LC_STATUS, api.getLifeCycleStatus());
-                        // This will notify all the EventObservers(Asynchronous)
-                        ObserverNotifier observerNotifier = new ObserverNotifier(Event.API_UPDATE, getUsername(),
-                                ZonedDateTime.now(ZoneOffset.UTC), eventPayload, this);
-                        ObserverNotifierThreadPool.getInstance().executeTask(observerNotifier);
                     }
+                    // 'API_M Functions' related code
+                    //Create a payload with event specific details
+                    Map<String, String> eventPayload = new HashMap<>();
+                    eventPayload.put(APIMgtConstants.FunctionsConstants.API_ID, api.getId());
+                    eventPayload.put(APIMgtConstants.FunctionsConstants.API_NAME, api.getName());
+                    eventPayload.put(APIMgtConstants.FunctionsConstants.API_VERSION, api.getVersion());
+                    eventPayload.put(APIMgtConstants.FunctionsConstants.API_DESCRIPTION, api.getDescription());
+                    eventPayload.put(APIMgtConstants.FunctionsConstants.API_CONTEXT, api.getContext());
+                    eventPayload.put(APIMgtConstants.FunctionsConstants.API_LC_STATUS, api.getLifeCycleStatus());
+                    // This will notify all the EventObservers(Asynchronous)
+                    ObserverNotifier observerNotifier = new ObserverNotifier(Event.API_UPDATE, getUsername(),
+                            ZonedDateTime.now(ZoneOffset.UTC), eventPayload, this);
+                    ObserverNotifierThreadPool.getInstance().executeTask(observerNotifier);
                 } else {
                     APIUtils.verifyValidityOfApiUpdate(apiBuilder, originalAPI);
                 }
@@ -1763,6 +1908,7 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
                 log.debug("Successfully validated the content of WSDL. API uuid: " + apiId);
             }
             getApiDAO().addOrUpdateWSDL(apiId, wsdlContent, getUsername());
+            WSDLCache.getInstance().invalidate(apiId);
             if (log.isDebugEnabled()) {
                 log.debug("Successfully added WSDL to the DB. API uuid: " + apiId);
             }
@@ -1786,6 +1932,7 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
             }
             fileInputStream = new FileInputStream(archiveInfo.getAbsoluteFilePath());
             getApiDAO().addOrUpdateWSDLArchive(apiId, fileInputStream, getUsername());
+            WSDLCache.getInstance().invalidate(apiId);
             if (log.isDebugEnabled()) {
                 log.debug("Successfully updated the WSDL archive in DB. API uuid: " + apiId);
             }
@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.QueryWrapperFilter;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.util.Version;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.dao.ApiDAO;
+import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.models.API;
+import org.wso2.carbon.apimgt.core.models.UriTemplate;
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory full text index of the APIs, used by the store to search APIs by name, version, provider, context,
+ * description, tags and resource URL patterns without scanning the API tables. Results are ranked by relevance, name
+ * matches ranking highest, and filtered by the roles which are allowed to read each API.
+ * <p>
+ * The index only holds the terms needed to find an API, so that search results are always read from the database by
+ * their UUIDs. It is kept up to date by {@link APISearchIndexUpdater} as APIs are created, updated and deleted, and is
+ * periodically rebuilt from the database to pick up changes made on other nodes. The APIs are read from the database
+ * while holding the write lock of the index, so that a rebuild and an update of an API are applied in the order in
+ * which they read the database and an older state of an API never replaces a newer one.
+ */
+public class APISearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(APISearchIndex.class);
+    private static final Version LUCENE_VERSION = Version.LUCENE_36;
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_VERSION = "version";
+    private static final String FIELD_PROVIDER = "provider";
+    private static final String FIELD_CONTEXT = "context";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_TAG = "tag";
+    private static final String FIELD_RESOURCE = "resource";
+    private static final String FIELD_OWNER = "owner";
+    private static final String FIELD_READ_ROLE = "readRole";
+    private static final String FIELD_PUBLIC = "public";
+
+    /**
+     * Boost of the matches of each searchable field, in the order of relevance
+     */
+    private static final String[] SEARCH_FIELDS = {FIELD_NAME, FIELD_TAG, FIELD_CONTEXT, FIELD_RESOURCE,
+            FIELD_DESCRIPTION, FIELD_PROVIDER, FIELD_VERSION};
+    private static final float[] SEARCH_FIELD_BOOSTS = {8f, 4f, 4f, 2f, 1f, 1f, 1f};
+    private static final float EXACT_NAME_MATCH_BOOST = 16f;
+
+    private static volatile APISearchIndex instance;
+
+    private final Analyzer analyzer = new StandardAnalyzer(LUCENE_VERSION);
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final Object writeLock = new Object();
+    private volatile boolean ready;
+    private ScheduledExecutorService rebuildExecutor;
+
+    /**
+     * Constructor
+     *
+     * @throws APIManagementException if the index could not be created
+     */
+    public APISearchIndex() throws APIManagementException {
+        try {
+            indexWriter = new IndexWriter(new RAMDirectory(), new IndexWriterConfig(LUCENE_VERSION, analyzer));
+            indexWriter.commit();
+            searcherManager = new SearcherManager(indexWriter, true, new SearcherFactory());
+        } catch (IOException e) {
+            throw new APIManagementException("Error while creating API search index", e,
+                    ExceptionCodes.API_SEARCH_INDEX_ERROR);
+        }
+    }
+
+    /**
+     * Get the search index of the node
+     *
+     * @return {@link APISearchIndex} instance
+     * @throws APIManagementException if the index could not be created
+     */
+    public static APISearchIndex getInstance() throws APIManagementException {
+        if (instance == null) {
+            synchronized (APISearchIndex.class) {
+                if (instance == null) {
+                    instance = new APISearchIndex();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Whether the index has been built, so that it can be used to search APIs
+     *
+     * @return true if the index has been built
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Build the index from the database and schedule it to be rebuilt periodically
+     *
+     * @param apiDAO          DAO to read the APIs from
+     * @param rebuildInterval interval in seconds at which the index is rebuilt, or 0 to build it only once
+     */
+    public synchronized void scheduleRebuild(ApiDAO apiDAO, long rebuildInterval) {
+        if (rebuildExecutor != null) {
+            return;
+        }
+        rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "APISearchIndexBuilder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Runnable rebuildTask = () -> {
+            try {
+                rebuild(apiDAO);
+            } catch (APIManagementException | RuntimeException e) {
+                log.error("Error while building API search index", e);
+            }
+        };
+        if (rebuildInterval > 0) {
+            rebuildExecutor.scheduleWithFixedDelay(rebuildTask, 0, rebuildInterval, TimeUnit.SECONDS);
+        } else {
+            rebuildExecutor.execute(rebuildTask);
+        }
+    }
+
+    /**
+     * Replace the contents of the index with all the APIs in the database
+     *
+     * @param apiDAO DAO to read the APIs from
+     * @throws APIManagementException if the APIs could not be read or the index could not be updated
+     */
+    public void rebuild(ApiDAO apiDAO) throws APIManagementException {
+        long startTime = System.currentTimeMillis();
+        List<API> apis;
+        synchronized (writeLock) {
+            apis = apiDAO.getAllAPIs();
+            try {
+                indexWriter.deleteAll();
+                for (API api : apis) {
+                    indexWriter.addDocument(toDocument(api));
+                }
+                searcherManager.maybeRefresh();
+            } catch (IOException e) {
+                throw new APIManagementException("Error while building API search index", e,
+                        ExceptionCodes.API_SEARCH_INDEX_ERROR);
+            }
+        }
+        ready = true;
+        if (log.isDebugEnabled()) {
+            log.debug("Indexed " + apis.size() + " APIs in " + (System.currentTimeMillis() - startTime) + "ms");
+        }
+    }
+
+    /**
+     * Add an API to the index or replace the indexed API with the same UUID
+     *
+     * @param api API to index
+     * @throws APIManagementException if the index could not be updated
+     */
+    public void index(API api) throws APIManagementException {
+        synchronized (writeLock) {
+            updateDocument(api);
+        }
+    }
+
+    /**
+     * Read an API from the database and add it to the index or replace the indexed API with the same UUID, or remove
+     * the API from the index if it no longer exists
+     *
+     * @param apiId  UUID of the API
+     * @param apiDAO DAO to read the API from
+     * @throws APIManagementException if the API could not be read or the index could not be updated
+     */
+    public void index(String apiId, ApiDAO apiDAO) throws APIManagementException {
+        synchronized (writeLock) {
+            API api;
+            try {
+                api = apiDAO.getAPI(apiId);
+            } catch (APIMgtDAOException e) {
+                if (e.getErrorHandler() != ExceptionCodes.API_NOT_FOUND) {
+                    throw e;
+                }
+                // the API has been deleted since it was changed
+                remove(apiId);
+                return;
+            }
+            updateDocument(api);
+        }
+    }
+
+    private void updateDocument(API api) throws APIManagementException {
+        try {
+            indexWriter.updateDocument(new Term(FIELD_ID, api.getId()), toDocument(api));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new APIManagementException("Error while indexing API: " + api.getId(), e,
+                    ExceptionCodes.API_SEARCH_INDEX_ERROR);
+        }
+    }
+
+    /**
+     * Remove an API from the index
+     *
+     * @param apiId UUID of the API
+     * @throws APIManagementException if the index could not be updated
+     */
+    public void remove(String apiId) throws APIManagementException {
+        synchronized (writeLock) {
+            try {
+                indexWriter.deleteDocuments(new Term(FIELD_ID, apiId));
+                searcherManager.maybeRefresh();
+            } catch (IOException e) {
+                throw new APIManagementException("Error while removing API from search index: " + apiId, e,
+                        ExceptionCodes.API_SEARCH_INDEX_ERROR);
+            }
+        }
+    }
+
+    /**
+     * Search APIs visible to a user. Every word of the search string must match the beginning of a word of one of
+     * the searchable fields of an API.
+     *
+     * @param searchString search string
+     * @param roles        roles of the user
+     * @param user         username of the user
+     * @param offset       starting index of the page of results
+     * @param limit        maximum number of results
+     * @return UUIDs of the matching APIs, in the order of relevance
+     * @throws APIManagementException if the index could not be searched
+     */
+    public List<String> search(String searchString, Set<String> roles, String user, int offset, int limit)
+            throws APIManagementException {
+        int start = Math.max(offset, 0);
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        try {
+            List<String> words = analyze(searchString);
+            if (words.isEmpty()) {
+                return Collections.emptyList();
+            }
+            BooleanQuery query = new BooleanQuery();
+            for (String word : words) {
+                query.add(createWordQuery(word), BooleanClause.Occur.MUST);
+            }
+
+            List<String> apiIds = new ArrayList<>();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] scoreDocs = searcher.search(query, new QueryWrapperFilter(createVisibilityQuery(roles,
+                        user)), start + limit).scoreDocs;
+                for (int i = start; i < scoreDocs.length; i++) {
+                    apiIds.add(searcher.doc(scoreDocs[i].doc).get(FIELD_ID));
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+            return apiIds;
+        } catch (IOException e) {
+            throw new APIManagementException("Error while searching APIs for: " + searchString, e,
+                    ExceptionCodes.API_SEARCH_INDEX_ERROR);
+        }
+    }
+
+    private BooleanQuery createWordQuery(String word) {
+        BooleanQuery wordQuery = new BooleanQuery();
+        TermQuery exactNameQuery = new TermQuery(new Term(FIELD_NAME, word));
+        exactNameQuery.setBoost(EXACT_NAME_MATCH_BOOST);
+        wordQuery.add(exactNameQuery, BooleanClause.Occur.SHOULD);
+        for (int i = 0; i < SEARCH_FIELDS.length; i++) {
+            PrefixQuery prefixQuery = new PrefixQuery(new Term(SEARCH_FIELDS[i], word));
+            prefixQuery.setBoost(SEARCH_FIELD_BOOSTS[i]);
+            wordQuery.add(prefixQuery, BooleanClause.Occur.SHOULD);
+        }
+        return wordQuery;
+    }
+
+    /**
+     * An API is visible to a user if the user is its provider, if one of the roles of the user has read permission
+     * on it or if no permissions are set on it
+     */
+    private static BooleanQuery createVisibilityQuery(Set<String> roles, String user) {
+        BooleanQuery visibilityQuery = new BooleanQuery();
+        visibilityQuery.add(new TermQuery(new Term(FIELD_PUBLIC, Boolean.TRUE.toString())),
+                BooleanClause.Occur.SHOULD);
+        if (user != null) {
+            visibilityQuery.add(new TermQuery(new Term(FIELD_OWNER, user)), BooleanClause.Occur.SHOULD);
+        }
+        for (String role : roles) {
+            visibilityQuery.add(new TermQuery(new Term(FIELD_READ_ROLE, role)), BooleanClause.Occur.SHOULD);
+        }
+        return visibilityQuery;
+    }
+
+    private static Document toDocument(API api) {
+        Document document = new Document();
+        document.add(new Field(FIELD_ID, api.getId(), Field.Store.YES, Field.Index.NOT_ANALYZED));
+        addTextField(document, FIELD_NAME, api.getName());
+        addTextField(document, FIELD_VERSION, api.getVersion());
+        addTextField(document, FIELD_PROVIDER, api.getProvider());
+        addTextField(document, FIELD_CONTEXT, api.getContext());
+        addTextField(document, FIELD_DESCRIPTION, api.getDescription());
+        if (api.getTags() != null) {
+            for (String tag : api.getTags()) {
+                addTextField(document, FIELD_TAG, tag);
+            }
+        }
+        if (api.getUriTemplates() != null) {
+            for (UriTemplate uriTemplate : api.getUriTemplates().values()) {
+                addTextField(document, FIELD_RESOURCE, uriTemplate.getUriTemplate());
+            }
+        }
+
+        if (api.getProvider() != null) {
+            document.add(new Field(FIELD_OWNER, api.getProvider(), Field.Store.NO, Field.Index.NOT_ANALYZED));
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Integer> permissionMap = api.getPermissionMap();
+        boolean hasPermissions = permissionMap != null && !permissionMap.isEmpty();
+        document.add(new Field(FIELD_PUBLIC, Boolean.toString(!hasPermissions), Field.Store.NO,
+                Field.Index.NOT_ANALYZED));
+        if (hasPermissions) {
+            for (Map.Entry<String, Integer> permission : permissionMap.entrySet()) {
+                if (permission.getValue() >= APIMgtConstants.Permission.READ_PERMISSION) {
+                    document.add(new Field(FIELD_READ_ROLE, permission.getKey(), Field.Store.NO,
+                            Field.Index.NOT_ANALYZED));
+                }
+            }
+        }
+        return document;
+    }
+
+    private static void addTextField(Document document, String name, String value) {
+        if (value != null) {
+            document.add(new Field(name, value, Field.Store.NO, Field.Index.ANALYZED));
+        }
+    }
+
+    private List<String> analyze(String text) throws IOException {
+        List<String> words = new ArrayList<>();
+        TokenStream tokenStream = analyzer.tokenStream(FIELD_NAME, new StringReader(text));
+        try {
+            CharTermAttribute termAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                words.add(termAttribute.toString());
+            }
+            tokenStream.end();
+        } finally {
+            tokenStream.close();
+        }
+        return words;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *
+ *   Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 Inc. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.api.EventObserver;
+import org.wso2.carbon.apimgt.core.dao.ApiDAO;
+import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.models.Event;
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+/**
+ * Implementation which observes the API {@link org.wso2.carbon.apimgt.core.models.Event}s of the publisher and
+ * updates the {@link APISearchIndex} accordingly. Since events are delivered asynchronously, the API is always read
+ * from the database, so that the index reflects the latest state of the API regardless of the order of the events.
+ */
+public class APISearchIndexUpdater implements EventObserver {
+
+    private static final Logger log = LoggerFactory.getLogger(APISearchIndexUpdater.class);
+
+    private ApiDAO apiDAO;
+    private APISearchIndex searchIndex;
+
+    /**
+     * Constructor.
+     *
+     * @param apiDAO      To read the APIs to be indexed
+     * @param searchIndex Index to update
+     */
+    public APISearchIndexUpdater(ApiDAO apiDAO, APISearchIndex searchIndex) {
+        if (apiDAO == null) {
+            throw new IllegalArgumentException("ApiDAO param must not be null");
+        }
+        if (searchIndex == null) {
+            throw new IllegalArgumentException("APISearchIndex param must not be null");
+        }
+        this.apiDAO = apiDAO;
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void captureEvent(Event event, String username, ZonedDateTime eventTime, Map<String, String> metadata) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event must not be null");
+        }
+        if (metadata == null) {
+            throw new IllegalArgumentException("Payload must not be null");
+        }
+        String apiId = metadata.get(APIMgtConstants.FunctionsConstants.API_ID);
+        if (apiId == null) {
+            return;
+        }
+
+        try {
+            switch (event) {
+                case API_CREATION:
+                case API_UPDATE:
+                case LIFE_CYCLE_CHANGE:
+                    searchIndex.index(apiId, apiDAO);
+                    break;
+                case API_DELETION:
+                    searchIndex.remove(apiId);
+                    break;
+                default:
+                    break;
+            }
+        } catch (APIManagementException e) {
+            log.error("Error while updating search index for event: " + event.getEventAsString() + " of API: "
+                    + apiId, e);
+        }
+    }
+}
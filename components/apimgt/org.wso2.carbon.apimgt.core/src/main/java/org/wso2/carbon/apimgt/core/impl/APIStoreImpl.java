@@ -58,6 +58,7 @@ import org.wso2.carbon.apimgt.core.exception.APINotFoundException;
 import org.wso2.carbon.apimgt.core.exception.APIRatingException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.exception.GatewayException;
+import org.wso2.carbon.apimgt.core.exception.IdentityProviderException;
 import org.wso2.carbon.apimgt.core.exception.LabelException;
 import org.wso2.carbon.apimgt.core.exception.WorkflowException;
 import org.wso2.carbon.apimgt.core.models.API;
@@ -91,6 +92,7 @@ import org.wso2.carbon.apimgt.core.util.APIMgtConstants.ApplicationStatus;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants.WorkflowConstants;
 import org.wso2.carbon.apimgt.core.util.APIUtils;
 import org.wso2.carbon.apimgt.core.util.KeyManagerConstants;
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
 import org.wso2.carbon.apimgt.core.workflow.ApplicationCreationResponse;
 import org.wso2.carbon.apimgt.core.workflow.ApplicationCreationWorkflow;
 import org.wso2.carbon.apimgt.core.workflow.ApplicationDeletionWorkflow;
@@ -114,6 +116,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -837,7 +840,14 @@ public class APIStoreImpl extends AbstractAPIManager implements APIStore, APIMOb
      * @throws APICommentException if user does not have comment moderator role
      */
     private void checkIfUserIsCommentModerator(String username) throws APICommentException {
-        Set<String> roles = APIUtils.getAllRolesOfUser(username);
+        Set<String> roles;
+        try {
+            roles = getRoleNamesOfUser(username);
+        } catch (IdentityProviderException e) {
+            String errorMsg = "Error occurred while calling SCIM endpoint to retrieve user " + username + "'s roles";
+            log.error(errorMsg, e);
+            throw new APICommentException(errorMsg, e, e.getErrorHandler());
+        }
         if (roles.contains(getConfig().getCommentModeratorRole())) {
             return;
         }
@@ -846,6 +856,22 @@ public class APIStoreImpl extends AbstractAPIManager implements APIStore, APIMOb
         throw new APICommentException(errorMsg, ExceptionCodes.NEED_COMMENT_MODERATOR_PERMISSION);
     }
 
+    /**
+     * Get the names of the roles of a user from the identity provider, which caches the users and their roles
+     *
+     * @param username username of the user
+     * @return role names of the user
+     * @throws IdentityProviderException if the roles of the user could not be retrieved
+     */
+    private Set<String> getRoleNamesOfUser(String username) throws IdentityProviderException {
+        //TODO: Remove the check for admin after IS adds an ID to admin user
+        if ("admin".equals(username)) {
+            return APIUtils.getAllRolesOfUser(username);
+        }
+        String userId = getIdentityProvider().getIdOfUser(username);
+        return new HashSet<>(getIdentityProvider().getRoleNamesOfUser(userId));
+    }
+
     /**
      * Validate whether the rating value provided by user is positive and less than or equal to the max rating in config
      *
@@ -1147,15 +1173,17 @@ public class APIStoreImpl extends AbstractAPIManager implements APIStore, APIMOb
 
         try {
             String updatedSwagger = apiDefinitionFromSwagger20.generateSwaggerFromResources(apiBuilder);
-            InputStream gatewayConfig = getApiDAO().getCompositeAPIGatewayConfig(apiBuilder.getId());
+            String gatewayConfig;
+            try (InputStream gatewayConfigStream = getApiDAO().getCompositeAPIGatewayConfig(apiBuilder.getId())) {
+                gatewayConfig = IOUtils.toString(gatewayConfigStream, StandardCharsets.UTF_8);
+            }
             GatewaySourceGenerator gatewaySourceGenerator = getGatewaySourceGenerator();
             APIConfigContext apiConfigContext = new APIConfigContext(apiBuilder.build(), config
                     .getGatewayPackageName());
 
             gatewaySourceGenerator.setApiConfigContext(apiConfigContext);
-            String updatedGatewayConfig = gatewaySourceGenerator
-                    .getGatewayConfigFromSwagger(IOUtils.toString(gatewayConfig, StandardCharsets.UTF_8),
-                            updatedSwagger);
+            String updatedGatewayConfig = gatewaySourceGenerator.getGatewayConfigFromSwagger(gatewayConfig,
+                    updatedSwagger);
 
             CompositeAPI api = apiBuilder.build();
 
@@ -1319,49 +1347,87 @@ public class APIStoreImpl extends AbstractAPIManager implements APIStore, APIMOb
     @Override
     public String getAPIWSDL(String apiId, String labelName)
             throws APIMgtDAOException, APIMgtWSDLException, APINotFoundException, LabelException {
-        API api = getApiDAO().getAPI(apiId);
-        if (api == null) {
-            throw new APINotFoundException("API with id " + apiId + " not found.", ExceptionCodes.API_NOT_FOUND);
+        byte[] wsdl = getUpdatedWSDL(apiId, labelName);
+        if (wsdl == null) {
+            return null;
         }
-
-        //api.getLabels() should not be null and the labels should contain labelName
-        if ((api.getLabels() == null || !api.getLabels().contains(labelName))) {
-            throw new LabelException("API with id " + apiId + " does not contain label " + labelName,
-                    ExceptionCodes.LABEL_NOT_FOUND_IN_API);
+        try {
+            return new String(wsdl, APIMgtConstants.ENCODING_UTF_8);
+        } catch (UnsupportedEncodingException e) {
+            throw new APIMgtWSDLException("WSDL content is not in utf-8 encoding", e,
+                    ExceptionCodes.CANNOT_PROCESS_WSDL_CONTENT);
         }
+    }
 
-        String wsdl = getApiDAO().getWSDL(apiId);
-        Label label = getLabelDAO().getLabelByName(labelName);
+    @Override
+    public InputStream getAPIWSDLStream(String apiId, String labelName)
+            throws APIMgtDAOException, APIMgtWSDLException, APINotFoundException, LabelException {
+        byte[] wsdl = getUpdatedWSDL(apiId, labelName);
+        //the cached WSDL is only read, hence it is streamed without a copy
+        return wsdl == null ? null : new ByteArrayInputStream(wsdl);
+    }
 
-        if (!StringUtils.isEmpty(wsdl)) {
-            WSDLProcessor processor;
+    /**
+     * Get the WSDL of an API updated with the endpoints of a label, from the WSDL cache if it is already rendered.
+     *
+     * @param apiId     API Id
+     * @param labelName gateway label name
+     * @return updated WSDL content, or null if the API has no WSDL content
+     * @throws APIMgtDAOException   if error occurs while accessing the WSDL from the data layer
+     * @throws APIMgtWSDLException  if error occurs while parsing/manipulating the WSDL
+     * @throws APINotFoundException If API cannot be found
+     * @throws LabelException       If Label related error occurs
+     */
+    private byte[] getUpdatedWSDL(String apiId, String labelName)
+            throws APIMgtDAOException, APIMgtWSDLException, APINotFoundException, LabelException {
+        API api = getAPIWithLabel(apiId, labelName);
+        Label label = getLabelDAO().getLabelByName(labelName);
+        return WSDLCache.getInstance().getUpdatedWSDL(api, label, () -> {
+            String wsdl = getApiDAO().getWSDL(apiId);
+            if (StringUtils.isEmpty(wsdl)) {
+                return null;
+            }
             try {
-                processor = WSDLProcessFactory.getInstance()
-                        .getWSDLProcessor(wsdl.getBytes(APIMgtConstants.ENCODING_UTF_8));
-                return new String(processor.getUpdatedWSDL(api, label), APIMgtConstants.ENCODING_UTF_8);
+                return wsdl.getBytes(APIMgtConstants.ENCODING_UTF_8);
             } catch (UnsupportedEncodingException e) {
-                throw new APIMgtWSDLException("WSDL content is not in utf-8 encoding", e,
+                throw new APIMgtDAOException("WSDL content is not in utf-8 encoding", e,
                         ExceptionCodes.CANNOT_PROCESS_WSDL_CONTENT);
             }
-        }
-        return null;
+        });
     }
 
     @Override
     public WSDLArchiveInfo getAPIWSDLArchive(String apiId, String labelName)
             throws APIMgtDAOException, APIMgtWSDLException, APINotFoundException, LabelException {
-        API api = getApiDAO().getAPI(apiId);
-        if (api == null) {
-            throw new APINotFoundException("API with id " + apiId + " not found.", ExceptionCodes.API_NOT_FOUND);
-        }
+        API api = getAPIWithLabel(apiId, labelName);
+        Label label = getLabelDAO().getLabelByName(labelName);
+        return WSDLCache.getInstance().getUpdatedWSDLArchive(api, label, () -> createWSDLArchive(api, label,
+                labelName));
+    }
 
-        //api.getLabels() should not be null and the labels should contain labelName
-        if ((api.getLabels() == null || !api.getLabels().contains(labelName))) {
-            throw new LabelException("API with id " + apiId + " does not contain label " + labelName,
-                    ExceptionCodes.LABEL_NOT_FOUND_IN_API);
+    @Override
+    public SizedInputStream openAPIWSDLArchive(WSDLArchiveInfo wsdlArchiveInfo) throws APIMgtWSDLException {
+        try {
+            return WSDLCache.getInstance().open(wsdlArchiveInfo);
+        } catch (IOException e) {
+            throw new APIMgtWSDLException("Error while opening WSDL archive " + wsdlArchiveInfo.getAbsoluteFilePath(),
+                    e, ExceptionCodes.INTERNAL_WSDL_EXCEPTION);
         }
+    }
 
-        try (InputStream wsdlZipInputStream = getApiDAO().getWSDLArchive(apiId)) {
+    /**
+     * Extracts the WSDL archive of an API and archives it again with the endpoints of a label.
+     *
+     * @param api       API of the WSDL archive
+     * @param label     gateway label
+     * @param labelName gateway label name
+     * @return WSDL archive information {@link WSDLArchiveInfo}
+     * @throws APIMgtDAOException  if error occurs while accessing the WSDL archive from the data layer
+     * @throws APIMgtWSDLException if error occurs while parsing/manipulating the WSDL archive
+     */
+    private WSDLArchiveInfo createWSDLArchive(API api, Label label, String labelName)
+            throws APIMgtDAOException, APIMgtWSDLException {
+        try (InputStream wsdlZipInputStream = getApiDAO().getWSDLArchive(api.getId())) {
             String rootPath = System.getProperty(APIMgtConstants.JAVA_IO_TMPDIR)
                     + File.separator + APIMgtConstants.WSDLConstants.WSDL_ARCHIVES_FOLDERNAME
                     + File.separator + UUID.randomUUID().toString();
@@ -1371,7 +1437,6 @@ public class APIStoreImpl extends AbstractAPIManager implements APIStore, APIMOb
             if (log.isDebugEnabled()) {
                 log.debug("Successfully extracted WSDL archive in path: " + extractedLocation);
             }
-            Label label = getLabelDAO().getLabelByName(labelName);
             WSDLProcessor processor = WSDLProcessFactory.getInstance().getWSDLProcessorForPath(extractedLocation);
             String wsdlPath = processor.getUpdatedWSDLPath(api, label);
             if (log.isDebugEnabled()) {
@@ -1392,6 +1457,31 @@ public class APIStoreImpl extends AbstractAPIManager implements APIStore, APIMOb
         }
     }
 
+    /**
+     * Get an API which is deployed in a label.
+     *
+     * @param apiId     API Id
+     * @param labelName gateway label name
+     * @return API
+     * @throws APIMgtDAOException   if error occurs while accessing the API from the data layer
+     * @throws APINotFoundException If API cannot be found
+     * @throws LabelException       If the API is not deployed in the label
+     */
+    private API getAPIWithLabel(String apiId, String labelName)
+            throws APIMgtDAOException, APINotFoundException, LabelException {
+        API api = getApiDAO().getAPI(apiId);
+        if (api == null) {
+            throw new APINotFoundException("API with id " + apiId + " not found.", ExceptionCodes.API_NOT_FOUND);
+        }
+
+        //api.getLabels() should not be null and the labels should contain labelName
+        if ((api.getLabels() == null || !api.getLabels().contains(labelName))) {
+            throw new LabelException("API with id " + apiId + " does not contain label " + labelName,
+                    ExceptionCodes.LABEL_NOT_FOUND_IN_API);
+        }
+        return api;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1403,10 +1493,9 @@ public class APIStoreImpl extends AbstractAPIManager implements APIStore, APIMOb
         try {
 
             // TODO: Need to validate users roles against results returned
-            //this should be current logged in user
-            String user = "admin";
+            String user = getUsername();
             //role list of current user
-            Set<String> roles = APIUtils.getAllRolesOfUser(user);
+            Set<String> roles = getRoleNamesOfUser(user);
             if (query != null && !query.isEmpty()) {
                 String[] attributes = query.split(",");
                 Map<String, String> attributeMap = new HashMap<>();
@@ -1422,7 +1511,15 @@ public class APIStoreImpl extends AbstractAPIManager implements APIStore, APIMOb
                 }
 
                 if (isFullTextSearch) {
-                    apiResults = getApiDAO().searchAPIs(roles, user, query, offset, limit);
+                    APISearchIndex searchIndex = APISearchIndex.getInstance();
+                    if (searchIndex.isReady()) {
+                        // permissions are checked again against the database, since changes made on other nodes
+                        // reach the index only when it is rebuilt
+                        apiResults = getApiDAO().getAPISummaries(searchIndex.search(query, roles, user, offset,
+                                limit), roles, user);
+                    } else {
+                        apiResults = getApiDAO().searchAPIs(roles, user, query, offset, limit);
+                    }
                 } else {
                     apiResults = getApiDAO().searchAPIsByAttributeInStore(new ArrayList<>(roles),
                             attributeMap, offset, limit);
@@ -1438,6 +1535,11 @@ public class APIStoreImpl extends AbstractAPIManager implements APIStore, APIMOb
             String errorMsg = "Error occurred while updating searching APIs - " + query;
             log.error(errorMsg, e);
             throw new APIManagementException(errorMsg, e, e.getErrorHandler());
+        } catch (IdentityProviderException e) {
+            String errorMsg = "Error occurred while calling SCIM endpoint to retrieve user " + getUsername()
+                    + "'s information";
+            log.error(errorMsg, e);
+            throw new APIManagementException(errorMsg, e, e.getErrorHandler());
         }
 
         return apiResults;
@@ -1449,9 +1551,9 @@ public class APIStoreImpl extends AbstractAPIManager implements APIStore, APIMOb
 
         //this should be current logged in user
         String user = getUsername();
-        //role list of current user
-        Set<String> roles = APIUtils.getAllRolesOfUser(user);
         try {
+            //role list of current user
+            Set<String> roles = getRoleNamesOfUser(user);
             if (query != null && !query.isEmpty()) {
                 apiResults = getApiDAO().searchCompositeAPIs(roles, user, query, offset, limit);
             } else {
@@ -1461,6 +1563,10 @@ public class APIStoreImpl extends AbstractAPIManager implements APIStore, APIMOb
             String errorMsg = "Error occurred while updating searching APIs - " + query;
             log.error(errorMsg, e);
             throw new APIManagementException(errorMsg, e, e.getErrorHandler());
+        } catch (IdentityProviderException e) {
+            String errorMsg = "Error occurred while calling SCIM endpoint to retrieve user " + user + "'s information";
+            log.error(errorMsg, e);
+            throw new APIManagementException(errorMsg, e, e.getErrorHandler());
         }
 
         return apiResults;
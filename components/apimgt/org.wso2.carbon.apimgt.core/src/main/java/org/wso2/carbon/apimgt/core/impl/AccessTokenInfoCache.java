@@ -0,0 +1,259 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.wso2.carbon.apimgt.core.configuration.models.KeyMgtConfigurations;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.exception.KeyManagementException;
+import org.wso2.carbon.apimgt.core.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.core.models.AccessTokenInfo;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of the metadata of validated access tokens, keyed by a SHA-256 hash of the token so that the tokens
+ * themselves are not held in memory. An entry is kept until the token expires or until the configured maximum cache
+ * time has elapsed, whichever comes first, and the least recently used entry is evicted once the cache is full.
+ * Concurrent validations of a token which is not cached are collapsed into a single introspection call.
+ * <p>
+ * Only active tokens are cached. Tokens revoked through the key manager are invalidated immediately, while tokens
+ * revoked by other means are detected once their entry reaches the maximum cache time.
+ */
+public class AccessTokenInfoCache {
+    private static volatile AccessTokenInfoCache instance;
+
+    private final int maxEntries;
+    private final long maxCacheTimeMillis;
+    private final Map<String, CachedTokenInfo> entries;
+    private final Map<String, CompletableFuture<AccessTokenInfo>> inFlightValidations = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Constructor
+     *
+     * @param maxEntries      maximum number of cached tokens
+     * @param maxCacheTimeSec maximum time in seconds a token is cached
+     */
+    public AccessTokenInfoCache(int maxEntries, long maxCacheTimeSec) {
+        this.maxEntries = maxEntries;
+        this.maxCacheTimeMillis = maxCacheTimeSec * 1000;
+        this.entries = new LinkedHashMap<String, CachedTokenInfo>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedTokenInfo> eldest) {
+                if (size() > AccessTokenInfoCache.this.maxEntries) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the token cache shared by the key manager and identity provider instances, so that a token revoked
+     * through one of them is not served from the cache by another
+     *
+     * @return shared {@link AccessTokenInfoCache} instance
+     */
+    public static AccessTokenInfoCache getInstance() {
+        if (instance == null) {
+            synchronized (AccessTokenInfoCache.class) {
+                if (instance == null) {
+                    KeyMgtConfigurations keyMgtConfigs = ServiceReferenceHolder.getInstance().getAPIMConfiguration()
+                            .getKeyManagerConfigs();
+                    instance = new AccessTokenInfoCache(keyMgtConfigs.getTokenCacheMaxEntries(),
+                            keyMgtConfigs.getTokenCacheExpiryTime());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the metadata of a token from the cache, validating the token with the given validator if it is not cached
+     *
+     * @param accessToken access token
+     * @param validator   retrieves the metadata of the token from the key manager
+     * @return metadata of the token
+     * @throws KeyManagementException if the token could not be validated
+     */
+    public AccessTokenInfo get(String accessToken, TokenValidator validator) throws KeyManagementException {
+        String key = hash(accessToken);
+        AccessTokenInfo cachedTokenInfo = getIfPresent(key);
+        if (cachedTokenInfo != null) {
+            hitCount.incrementAndGet();
+            return cachedTokenInfo;
+        }
+        missCount.incrementAndGet();
+
+        CompletableFuture<AccessTokenInfo> validation = new CompletableFuture<>();
+        CompletableFuture<AccessTokenInfo> inFlightValidation = inFlightValidations.putIfAbsent(key, validation);
+        if (inFlightValidation != null) {
+            return await(inFlightValidation);
+        }
+        try {
+            // the token may have been cached by a validation which completed after the cache was looked up
+            AccessTokenInfo tokenInfo = getIfPresent(key);
+            if (tokenInfo == null) {
+                tokenInfo = validator.validate(accessToken);
+                put(key, tokenInfo);
+            }
+            // the validation is no longer in flight if the token was revoked meanwhile, in which case it is not cached
+            if (!inFlightValidations.remove(key, validation)) {
+                remove(key);
+            }
+            validation.complete(tokenInfo);
+            return tokenInfo;
+        } catch (KeyManagementException | RuntimeException e) {
+            inFlightValidations.remove(key, validation);
+            validation.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Remove a token from the cache
+     *
+     * @param accessToken access token
+     * @throws KeyManagementException if the token could not be hashed
+     */
+    public void invalidate(String accessToken) throws KeyManagementException {
+        String key = hash(accessToken);
+        inFlightValidations.remove(key);
+        remove(key);
+    }
+
+    /**
+     * Remove all the tokens from the cache
+     */
+    public void invalidateAll() {
+        inFlightValidations.clear();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private AccessTokenInfo getIfPresent(String key) {
+        synchronized (entries) {
+            CachedTokenInfo cachedTokenInfo = entries.get(key);
+            if (cachedTokenInfo == null) {
+                return null;
+            }
+            if (cachedTokenInfo.expiryTime <= System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return cachedTokenInfo.tokenInfo;
+        }
+    }
+
+    private void remove(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    private void put(String key, AccessTokenInfo tokenInfo) {
+        if (!tokenInfo.isTokenValid()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        // token expiry time is in seconds since epoch
+        long expiryTime = Math.min(tokenInfo.getExpiryTime() * 1000, now + maxCacheTimeMillis);
+        if (expiryTime <= now) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new CachedTokenInfo(tokenInfo, expiryTime));
+        }
+    }
+
+    private static AccessTokenInfo await(CompletableFuture<AccessTokenInfo> validation)
+            throws KeyManagementException {
+        try {
+            return validation.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KeyManagementException("Interrupted while waiting for access token introspection", e,
+                    ExceptionCodes.TOKEN_INTROSPECTION_FAILED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof KeyManagementException) {
+                throw (KeyManagementException) e.getCause();
+            }
+            throw new KeyManagementException("Error occurred while introspecting access token.", e.getCause(),
+                    ExceptionCodes.TOKEN_INTROSPECTION_FAILED);
+        }
+    }
+
+    private static String hash(String accessToken) throws KeyManagementException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(accessToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new KeyManagementException("Error occurred while hashing access token", e,
+                    ExceptionCodes.TOKEN_INTROSPECTION_FAILED);
+        }
+    }
+
+    /**
+     * Validates an access token against the key manager
+     */
+    @FunctionalInterface
+    public interface TokenValidator {
+        AccessTokenInfo validate(String accessToken) throws KeyManagementException;
+    }
+
+    private static final class CachedTokenInfo {
+        private final AccessTokenInfo tokenInfo;
+        private final long expiryTime;
+
+        private CachedTokenInfo(AccessTokenInfo tokenInfo, long expiryTime) {
+            this.tokenInfo = tokenInfo;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
@@ -25,17 +25,22 @@ import io.swagger.models.Swagger;
 import io.swagger.parser.SwaggerParser;
 import io.swagger.util.Json;
 
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.api.APIStore;
 import org.wso2.carbon.apimgt.core.configuration.APIMConfigurationService;
 import org.wso2.carbon.apimgt.core.configuration.models.SdkLanguageConfigurations;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.exception.ApiStoreSdkGenerationException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.models.API;
+import org.wso2.carbon.apimgt.core.models.SdkGenerationJob;
 import org.wso2.carbon.apimgt.core.util.APIFileUtils;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
 
 import java.io.BufferedWriter;
 import java.io.File;
@@ -43,16 +48,21 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 /**
- * This class is used to generate SDK's for a given API
+ * This class is used to generate SDK's for a given API. SDKs are generated in a bounded pool of threads and the
+ * generated archives are cached, so that an SDK is generated again only when the swagger definition of the API changes.
  */
 public class ApiStoreSdkGenerationManager {
 
@@ -86,20 +96,103 @@ public class ApiStoreSdkGenerationManager {
             throws ApiStoreSdkGenerationException
             , APIManagementException {
 
+        SdkGenerationJob job = submitSdkGeneration(apiId, language, userName);
+        try {
+            return job.getArchivePath();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiStoreSdkGenerationException("Interrupted while generating SDK for API " + apiId, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ApiStoreSdkGenerationException) {
+                throw (ApiStoreSdkGenerationException) e.getCause();
+            }
+            throw new ApiStoreSdkGenerationException("Error while generating SDK for API " + apiId, e.getCause());
+        }
+    }
+
+    /**
+     * Open a generated SDK archive for download. The archive is kept in the SDK cache until the returned stream is
+     * closed, even if it is evicted while it is being downloaded.
+     *
+     * @param archivePath path of the archive returned by {@link #generateSdkForApi(String, String, String)}
+     * @return stream of the archive, or null if the archive was evicted from the SDK cache since it was generated
+     * @throws ApiStoreSdkGenerationException if the archive could not be opened
+     */
+    public SizedInputStream openSdkArchive(String archivePath) throws ApiStoreSdkGenerationException {
+        try {
+            return SdkGenerationService.getInstance().openArchive(archivePath);
+        } catch (IOException e) {
+            throw new ApiStoreSdkGenerationException("Error while opening SDK archive " + archivePath, e);
+        }
+    }
+
+    /**
+     * Submit the generation of the client side SDK for an API, which is done in the background unless the SDK was
+     * already generated for the same swagger definition
+     *
+     * @param apiId    ID for the specific API
+     * @param language preferred language to generate the SDK
+     * @param userName user requesting the SDK
+     * @return job which is completed once the SDK archive is available
+     * @throws ApiStoreSdkGenerationException if too many SDKs are being generated
+     * @throws APIManagementException         if the API could not be retrieved
+     */
+    public SdkGenerationJob submitSdkGeneration(String apiId, String language, String userName)
+            throws ApiStoreSdkGenerationException, APIManagementException {
+        if (StringUtils.isBlank(apiId) || StringUtils.isBlank(language)) {
+            throw new APIManagementException("API ID or language is not valid", ExceptionCodes.PARAMETER_NOT_PROVIDED);
+        }
+
         APIStore apiStore = APIManagerFactory.getInstance().getAPIConsumer(userName);
         API api = apiStore.getAPIbyUUID(apiId);
         if (api == null) {
             String errorMessage = "Cannot find API for specified API ID";
             throw new APIManagementException(errorMessage, ExceptionCodes.API_NOT_FOUND);
         }
-        String apiName = api.getName();
-        String apiVersion = api.getVersion();
         String swaggerDefinitionForApi = null;
         try {
             swaggerDefinitionForApi = apiStore.getApiSwaggerDefinition(apiId);
         } catch (APIManagementException e) {
             handleSdkGenException("Error retrieving swagger definition for API " + apiId + " from database.", e);
         }
+        String swaggerDefinition = swaggerDefinitionForApi;
+        String archiveName = api.getName() + "_" + language + "_" + api.getVersion();
+        return SdkGenerationService.getInstance().submit(getArchiveKey(swaggerDefinition, language, archiveName),
+                apiId, language, userName,
+                archiveDirectory -> generateSdkArchive(swaggerDefinition, language, archiveName, archiveDirectory));
+    }
+
+    /**
+     * Get a submitted SDK generation job of a user
+     *
+     * @param jobId    ID of the job
+     * @param userName user who submitted the job
+     * @return SDK generation job
+     * @throws APIManagementException if the user has not submitted a job with the given ID
+     */
+    public SdkGenerationJob getSdkGenerationJob(String jobId, String userName)
+            throws APIManagementException, ApiStoreSdkGenerationException {
+        SdkGenerationJob job = SdkGenerationService.getInstance().getJob(jobId);
+        if (job == null || !job.getUserName().equals(userName)) {
+            throw new APIManagementException("Cannot find SDK generation job " + jobId,
+                    ExceptionCodes.SDK_GENERATION_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    /*
+    * This method generates the SDK archive for the specified swagger definition, removing the generated sources once
+    * they are archived
+    *
+    * @param swaggerDefinitionForApi swagger definition of the API
+    * @param language Preferred SDK language
+    * @param archiveName name of the archive, without the extension
+    * @param archiveDirectory directory to create the archive in
+    * @return path of the generated archive
+    * @throws ApiStoreSdkGenerationException if failed to generate the SDK
+    * */
+    private Path generateSdkArchive(String swaggerDefinitionForApi, String language, String archiveName,
+                                    Path archiveDirectory) throws ApiStoreSdkGenerationException {
         Swagger swaggerDoc = new SwaggerParser().parse(swaggerDefinitionForApi);
         if (swaggerDoc == null) {
             handleSdkGenException("Error while parsing retrieved swagger definition");
@@ -110,19 +203,17 @@ public class ApiStoreSdkGenerationManager {
         File swaggerDefJsonFile = null;
         try {
             //Create a temporary directory to store the API files
-            tempSdkGenDir = Files.createTempDirectory(apiName + "_" + language + "_" + apiVersion);
+            tempSdkGenDir = Files.createTempDirectory(archiveName);
 
             //Create a temporary file to store the swagger definition
             swaggerDefJsonFile = Files.createTempFile(tempSdkGenDir,
-                    apiId + "_" + language,
+                    archiveName,
                     APIMgtConstants.APIFileUtilConstants.JSON_EXTENSION).toFile();
         } catch (IOException e) {
             handleSdkGenException("Error creating temporary directory or json file for swagger definition!", e);
         }
 
-        String tempZipFilePath = "";
-        if (swaggerDefJsonFile.exists()) {
-
+        try {
             try (Writer swaggerFileWriter = new BufferedWriter(
                     new OutputStreamWriter(
                             new FileOutputStream(swaggerDefJsonFile.getAbsoluteFile()), "UTF-8"))) {
@@ -140,25 +231,44 @@ public class ApiStoreSdkGenerationManager {
             generateSdkForSwaggerDef(language, swaggerDefJsonFile.getAbsolutePath(), tempSdkGenDir.toString());
             log.debug("Generating SDK for the swagger definition {} was successful.",
                     swaggerDefJsonFile.getAbsolutePath());
-            String archiveName = apiName + "_" + language + "_" + apiVersion;
-            tempZipFilePath = tempSdkGenDir + File.separator + archiveName + ".zip";
-            APIFileUtils.archiveDirectory(tempSdkGenDir.toString(),
-                    tempSdkGenDir.toString(),
-                    archiveName);
-                log.debug("Generating the archive was successful for directory {}.", tempSdkGenDir.toString());
-        } else {
-            handleSdkGenException("Swagger definition file not found!");
+            try {
+                APIFileUtils.archiveDirectory(tempSdkGenDir.toString(), archiveDirectory.toString(), archiveName);
+            } catch (APIMgtDAOException e) {
+                handleSdkGenException("Error while archiving generated SDK in " + tempSdkGenDir, e);
+            }
+            log.debug("Generating the archive was successful for directory {}.", tempSdkGenDir.toString());
+            return archiveDirectory.resolve(archiveName + ".zip");
+        } finally {
+            FileUtils.deleteQuietly(tempSdkGenDir.toFile());
         }
+    }
 
+    /**
+     * Digest of the content an SDK archive is generated from, which identifies the archive in the SDK cache
+     *
+     * @param swaggerDefinition swagger definition of the API
+     * @param language          SDK language
+     * @param archiveName       name of the archive
+     * @return hex encoded SHA-256 digest
+     * @throws ApiStoreSdkGenerationException if the digest algorithm is not available
+     */
+    private static String getArchiveKey(String swaggerDefinition, String language, String archiveName)
+            throws ApiStoreSdkGenerationException {
         try {
-            //Set deleteOnExit property to generated SDK directory, all sub directories and files.
-            recursiveDeleteOnExit(tempSdkGenDir);
-        } catch (IOException e) {
-            handleSdkGenException("Error while deleting temporary directory " +
-                    tempSdkGenDir, e);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(language.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(archiveName.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            byte[] hash = digest.digest(swaggerDefinition.getBytes(StandardCharsets.UTF_8));
+            StringBuilder key = new StringBuilder();
+            for (byte b : hash) {
+                key.append(String.format("%02x", b & 0xff));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new ApiStoreSdkGenerationException("Error while hashing swagger definition", e);
         }
-        return tempZipFilePath;
-
     }
 
     /*
@@ -45,16 +45,21 @@ import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * API Manager default implementation of {@link IdentityProvider}
+ * API Manager default implementation of {@link IdentityProvider}. The Ids and roles of users and the Ids and names of
+ * roles are cached in a {@link UserRoleCache}, so that they are not retrieved from the SCIM endpoint on every call.
  */
 public class DefaultIdentityProviderImpl extends DefaultKeyManagerImpl implements IdentityProvider {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultIdentityProviderImpl.class);
 
     private SCIMServiceStub scimServiceStub;
+    private UserRoleCache userRoleCache;
+    private final GsonDecoder gsonDecoder = new GsonDecoder();
     private static final String FILTER_PREFIX_USER = "userName Eq ";
     private static final String FILTER_PREFIX_ROLE = "displayName Eq ";
     private static final String HOME_EMAIL = "home";
@@ -71,12 +76,23 @@ public class DefaultIdentityProviderImpl extends DefaultKeyManagerImpl implement
 
     DefaultIdentityProviderImpl(SCIMServiceStub scimServiceStub, DCRMServiceStub dcrmServiceStub,
                                        OAuth2ServiceStubs oAuth2ServiceStubs) throws APIManagementException {
+        this(scimServiceStub, dcrmServiceStub, oAuth2ServiceStubs, UserRoleCache.getInstance());
+    }
+
+    DefaultIdentityProviderImpl(SCIMServiceStub scimServiceStub, DCRMServiceStub dcrmServiceStub,
+                                OAuth2ServiceStubs oAuth2ServiceStubs, UserRoleCache userRoleCache)
+            throws APIManagementException {
         super(dcrmServiceStub, oAuth2ServiceStubs);
         this.scimServiceStub = scimServiceStub;
+        this.userRoleCache = userRoleCache;
     }
 
     @Override
     public String getIdOfUser(String userName) throws IdentityProviderException {
+        return userRoleCache.getUserId(userName, this::retrieveIdOfUser);
+    }
+
+    private String retrieveIdOfUser(String userName) throws IdentityProviderException {
         Response userResponse = scimServiceStub.searchUsers(FILTER_PREFIX_USER + userName);
         String userId;
         if (userResponse == null) {
@@ -138,51 +154,7 @@ public class DefaultIdentityProviderImpl extends DefaultKeyManagerImpl implement
 
     @Override
     public List<String> getRoleNamesOfUser(String userId) throws IdentityProviderException {
-        List<String> roleNames = new ArrayList<>();
-        Response response = scimServiceStub.getUser(userId);
-        if (response == null) {
-            String errorMessage =
-                    "Error occurred while retrieving user with Id " + userId + ". Error : Response is null.";
-            log.error(errorMessage);
-            throw new IdentityProviderException(errorMessage, ExceptionCodes.RESOURCE_RETRIEVAL_FAILED);
-        }
-        try {
-            if (response.status() == APIMgtConstants.HTTPStatusCodes.SC_200_OK) {
-                SCIMUser scimUser = (SCIMUser) new GsonDecoder().decode(response, SCIMUser.class);
-                if (scimUser != null) {
-                    List<SCIMUser.SCIMUserGroups> roles = scimUser.getGroups();
-                    if (roles != null) {
-                        roles.forEach(role -> roleNames.add(role.getDisplay()));
-                        String message =
-                                "Role names of user " + scimUser.getName() + " are successfully retrieved as " +
-                                        StringUtils.join(roleNames, ", ") + ".";
-                        if (log.isDebugEnabled()) {
-                            log.debug(message);
-                        }
-                    }
-                } else {
-                    String errorMessage =
-                            "Error occurred while retrieving user with user Id " + userId + " from SCIM endpoint. "
-                                    + "Response body is null or empty.";
-                    log.error(errorMessage);
-                    throw new IdentityProviderException(
-                            "Error occurred while retrieving user with user Id " + userId + " from SCIM endpoint. "
-                                    + "Response body is null or empty.", ExceptionCodes.RESOURCE_RETRIEVAL_FAILED);
-                }
-            } else {
-                String errorMessage =
-                        "Error occurred while retrieving role names of user with Id " + userId + ". Error : " +
-                                getErrorMessage(response);
-                log.error(errorMessage);
-                throw new IdentityProviderException(errorMessage, ExceptionCodes.RESOURCE_RETRIEVAL_FAILED);
-            }
-        } catch (IOException e) {
-            String errorMessage = "Error occurred while parsing response from SCIM endpoint.";
-            log.error(errorMessage);
-            throw new IdentityProviderException("Error occurred while parsing response from SCIM endpoint for ", e,
-                    ExceptionCodes.RESOURCE_RETRIEVAL_FAILED);
-        }
-        return roleNames;
+        return userRoleCache.getRoleNamesOfUser(userId, id -> retrieveRolesOfUser(id, "role names"));
     }
 
     @Override
@@ -193,7 +165,20 @@ public class DefaultIdentityProviderImpl extends DefaultKeyManagerImpl implement
 
     @Override
     public List<String> getRoleIdsOfUser(String userId) throws IdentityProviderException {
-        List<String> roleIds = new ArrayList<>();
+        return userRoleCache.getRoleIdsOfUser(userId, id -> retrieveRolesOfUser(id, "role Ids"));
+    }
+
+    /**
+     * Retrieve the roles of a user from the SCIM endpoint, with both the Id and the name of each role
+     *
+     * @param userId         Id of the user
+     * @param rolesAttribute attribute of the roles being retrieved, used in error messages
+     * @return names of the roles of the user, keyed by role Id
+     * @throws IdentityProviderException if error occurred while retrieving the user
+     */
+    private Map<String, String> retrieveRolesOfUser(String userId, String rolesAttribute)
+            throws IdentityProviderException {
+        Map<String, String> roles = new LinkedHashMap<>();
         Response response = scimServiceStub.getUser(userId);
         if (response == null) {
             String errorMessage =
@@ -203,15 +188,14 @@ public class DefaultIdentityProviderImpl extends DefaultKeyManagerImpl implement
         }
         try {
             if (response.status() == APIMgtConstants.HTTPStatusCodes.SC_200_OK) {
-                SCIMUser scimUser = (SCIMUser) new GsonDecoder().decode(response, SCIMUser.class);
+                SCIMUser scimUser = (SCIMUser) gsonDecoder.decode(response, SCIMUser.class);
                 if (scimUser != null) {
-                    List<SCIMUser.SCIMUserGroups> roles = scimUser.getGroups();
-                    if (roles != null) {
-                        roles.forEach(role -> roleIds.add(role.getValue()));
-                        String message = "Role Ids of user " + scimUser.getName() + " are successfully retrieved as " +
-                                StringUtils.join(roleIds, ", ") + ".";
+                    List<SCIMUser.SCIMUserGroups> userGroups = scimUser.getGroups();
+                    if (userGroups != null) {
+                        userGroups.forEach(role -> roles.put(role.getValue(), role.getDisplay()));
                         if (log.isDebugEnabled()) {
-                            log.debug(message);
+                            log.debug("Roles of user " + scimUser.getName() + " are successfully retrieved as "
+                                    + StringUtils.join(roles.values(), ", ") + ".");
                         }
                     }
                 } else {
@@ -225,8 +209,8 @@ public class DefaultIdentityProviderImpl extends DefaultKeyManagerImpl implement
                 }
             } else {
                 String errorMessage =
-                        "Error occurred while retrieving role Ids of user with Id " + userId + ". Error : " +
-                                getErrorMessage(response);
+                        "Error occurred while retrieving " + rolesAttribute + " of user with Id " + userId
+                                + ". Error : " + getErrorMessage(response);
                 log.error(errorMessage);
                 throw new IdentityProviderException(errorMessage, ExceptionCodes.RESOURCE_RETRIEVAL_FAILED);
             }
@@ -236,11 +220,15 @@ public class DefaultIdentityProviderImpl extends DefaultKeyManagerImpl implement
             throw new IdentityProviderException("Error occurred while parsing response from SCIM endpoint for ", e,
                     ExceptionCodes.RESOURCE_RETRIEVAL_FAILED);
         }
-        return roleIds;
+        return roles;
     }
 
     @Override
     public String getRoleId(String roleName) throws IdentityProviderException {
+        return userRoleCache.getRoleId(roleName, this::retrieveRoleId);
+    }
+
+    private String retrieveRoleId(String roleName) throws IdentityProviderException {
         Response roleResponse = scimServiceStub.searchGroups(FILTER_PREFIX_ROLE + roleName);
         String roleId;
         if (roleResponse == null) {
@@ -273,6 +261,10 @@ public class DefaultIdentityProviderImpl extends DefaultKeyManagerImpl implement
 
     @Override
     public String getRoleName(String roleId) throws IdentityProviderException {
+        return userRoleCache.getRoleName(roleId, this::retrieveRoleName);
+    }
+
+    private String retrieveRoleName(String roleId) throws IdentityProviderException {
         Response response = scimServiceStub.getGroup(roleId);
         if (response == null) {
             String errorMessage =
@@ -283,7 +275,7 @@ public class DefaultIdentityProviderImpl extends DefaultKeyManagerImpl implement
         String displayName;
         try {
             if (response.status() == APIMgtConstants.HTTPStatusCodes.SC_200_OK) {
-                SCIMGroup scimGroup = (SCIMGroup) new GsonDecoder().decode(response, SCIMGroup.class);
+                SCIMGroup scimGroup = (SCIMGroup) gsonDecoder.decode(response, SCIMGroup.class);
                 if (scimGroup != null) {
                     displayName = scimGroup.getDisplayName();
                     String message =
@@ -341,6 +333,8 @@ public class DefaultIdentityProviderImpl extends DefaultKeyManagerImpl implement
             if (log.isDebugEnabled()) {
                 log.debug(message);
             }
+            // a removed user with the same name may still be cached
+            userRoleCache.invalidateUser(user.getUsername());
         }
     }
 
@@ -55,6 +55,7 @@ public class DefaultKeyManagerImpl implements KeyManager {
 
     private DCRMServiceStub dcrmServiceStub;
     private OAuth2ServiceStubs oAuth2ServiceStubs;
+    private AccessTokenInfoCache tokenInfoCache;
 
     /**
      * Default Constructor
@@ -74,8 +75,22 @@ public class DefaultKeyManagerImpl implements KeyManager {
      */
     public DefaultKeyManagerImpl(DCRMServiceStub dcrmServiceStub, OAuth2ServiceStubs oAuth2ServiceStubs)
             throws APIManagementException {
+        this(dcrmServiceStub, oAuth2ServiceStubs, AccessTokenInfoCache.getInstance());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param dcrmServiceStub    Service stub for DCR(M) service
+     * @param oAuth2ServiceStubs Service stub for OAuth2 services
+     * @param tokenInfoCache     Cache of validated access tokens
+     * @throws APIManagementException if error occurred while instantiating DefaultKeyManagerImpl
+     */
+    public DefaultKeyManagerImpl(DCRMServiceStub dcrmServiceStub, OAuth2ServiceStubs oAuth2ServiceStubs,
+                                 AccessTokenInfoCache tokenInfoCache) throws APIManagementException {
         this.dcrmServiceStub = dcrmServiceStub;
         this.oAuth2ServiceStubs = oAuth2ServiceStubs;
+        this.tokenInfoCache = tokenInfoCache;
     }
 
     @Override
@@ -327,6 +342,17 @@ public class DefaultKeyManagerImpl implements KeyManager {
 
     @Override
     public AccessTokenInfo getTokenMetaData(String accessToken) throws KeyManagementException {
+        return tokenInfoCache.get(accessToken, this::introspectToken);
+    }
+
+    /**
+     * Introspect an access token using the introspection service of the key manager
+     *
+     * @param accessToken access token
+     * @return metadata of the token
+     * @throws KeyManagementException if the token could not be introspected
+     */
+    private AccessTokenInfo introspectToken(String accessToken) throws KeyManagementException {
         log.debug("Token introspection request is being sent.");
         Response response;
         try {
@@ -391,6 +417,7 @@ public class DefaultKeyManagerImpl implements KeyManager {
                     "Response is null", ExceptionCodes.ACCESS_TOKEN_REVOKE_FAILED);
         }
         if (response.status() == APIMgtConstants.HTTPStatusCodes.SC_200_OK) {
+            tokenInfoCache.invalidate(accessToken);
             if (log.isDebugEnabled()) {
                 log.debug("Successfully revoked access token: " + accessToken);
             }
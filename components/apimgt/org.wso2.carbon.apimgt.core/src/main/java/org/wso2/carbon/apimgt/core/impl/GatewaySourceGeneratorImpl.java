@@ -18,19 +18,10 @@
 */
 package org.wso2.carbon.apimgt.core.impl;
 
-import org.apache.velocity.Template;
-import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
-import org.apache.velocity.exception.ParseErrorException;
-import org.apache.velocity.exception.ResourceNotFoundException;
-import org.apache.velocity.runtime.RuntimeConstants;
-import org.apache.velocity.runtime.log.CommonsLogLogChute;
-import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.api.GatewaySourceGenerator;
 import org.wso2.carbon.apimgt.core.configuration.models.APIMConfigurations;
-import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.core.models.Endpoint;
 import org.wso2.carbon.apimgt.core.template.APIConfigContext;
@@ -39,11 +30,11 @@ import org.wso2.carbon.apimgt.core.template.CompositeAPIConfigContext;
 import org.wso2.carbon.apimgt.core.template.ConfigContext;
 import org.wso2.carbon.apimgt.core.template.EndpointContext;
 import org.wso2.carbon.apimgt.core.template.ResourceConfigContext;
+import org.wso2.carbon.apimgt.core.template.VelocityTemplateCache;
 import org.wso2.carbon.apimgt.core.template.dto.CompositeAPIEndpointDTO;
 import org.wso2.carbon.apimgt.core.template.dto.TemplateBuilderDTO;
 
 import java.io.File;
-import java.io.StringWriter;
 import java.util.List;
 
 /**
@@ -51,6 +42,10 @@ import java.util.List;
  */
 public class GatewaySourceGeneratorImpl implements GatewaySourceGenerator {
     private static final Logger log = LoggerFactory.getLogger(GatewaySourceGeneratorImpl.class);
+    private static final String TEMPLATE_DIRECTORY = "resources" + File.separator + "template" + File.separator;
+    private static final String API_TEMPLATE_PATH = TEMPLATE_DIRECTORY + "template.xml";
+    private static final String ENDPOINT_TEMPLATE_PATH = TEMPLATE_DIRECTORY + "endpoint.xml";
+    private static final String COMPOSITE_API_TEMPLATE_PATH = TEMPLATE_DIRECTORY + "composite_template.xml";
     private APIConfigContext apiConfigContext;
     private String packageName;
 
@@ -61,29 +56,10 @@ public class GatewaySourceGeneratorImpl implements GatewaySourceGenerator {
 
     @Override
     public String getConfigStringFromTemplate(List<TemplateBuilderDTO> apiResources) throws APITemplateException {
-        StringWriter writer = new StringWriter();
-        String templatePath = "resources" + File.separator + "template" + File.separator + "template.xml";
-        try {
-            // build the context for template and apply the necessary decorators
-            apiConfigContext.validate();
-            ConfigContext configContext = new ResourceConfigContext(apiConfigContext, apiResources);
-            VelocityContext context = configContext.getContext();
-            VelocityEngine velocityengine = new VelocityEngine();
-            velocityengine.setProperty(RuntimeConstants.RESOURCE_LOADER, "classpath");
-            velocityengine.setProperty("classpath.resource.loader.class", ClasspathResourceLoader.class.getName());
-            velocityengine.setProperty(VelocityEngine.RUNTIME_LOG_LOGSYSTEM, new CommonsLogLogChute());
-            velocityengine.init();
-            Template template = velocityengine.getTemplate(templatePath);
-            template.merge(context, writer);
-        } catch (ResourceNotFoundException e) {
-            log.error("Template " + templatePath + " not Found", e);
-            throw new APITemplateException("Template " + templatePath + " not Found",
-                    ExceptionCodes.TEMPLATE_EXCEPTION);
-        } catch (ParseErrorException e) {
-            log.error("Syntax error in " + templatePath, e);
-            throw new APITemplateException("Syntax error in " + templatePath, ExceptionCodes.TEMPLATE_EXCEPTION);
-        }
-        return writer.toString();
+        // build the context for template and apply the necessary decorators
+        apiConfigContext.validate();
+        ConfigContext configContext = new ResourceConfigContext(apiConfigContext, apiResources);
+        return VelocityTemplateCache.getInstance().render(API_TEMPLATE_PATH, configContext.getContext());
     }
 
     @Override
@@ -120,56 +96,19 @@ public class GatewaySourceGeneratorImpl implements GatewaySourceGenerator {
 
     @Override
     public String getEndpointConfigStringFromTemplate(Endpoint endpoint) throws APITemplateException {
-        StringWriter writer = new StringWriter();
-        String templatePath = "resources" + File.separator + "template" + File.separator + "endpoint.xml";
-        try {
-            // build the context for template and apply the necessary decorators
-            ConfigContext configcontext = new EndpointContext(endpoint, packageName);
-            VelocityContext context = configcontext.getContext();
-            VelocityEngine velocityengine = new VelocityEngine();
-            velocityengine.setProperty(RuntimeConstants.RESOURCE_LOADER, "classpath");
-            velocityengine.setProperty("classpath.resource.loader.class", ClasspathResourceLoader.class.getName());
-            velocityengine.init();
-            Template template = velocityengine.getTemplate(templatePath);
-            template.merge(context, writer);
-        } catch (ResourceNotFoundException e) {
-            log.error("Template " + templatePath + " not Found", e);
-            throw new APITemplateException("Template " + templatePath + " not Found",
-                    ExceptionCodes.TEMPLATE_EXCEPTION);
-        } catch (ParseErrorException e) {
-            log.error("Syntax error in " + templatePath, e);
-            throw new APITemplateException("Syntax error in " + templatePath, ExceptionCodes.TEMPLATE_EXCEPTION);
-        }
-        return writer.toString();
+        // build the context for template and apply the necessary decorators
+        ConfigContext configcontext = new EndpointContext(endpoint, packageName);
+        return VelocityTemplateCache.getInstance().render(ENDPOINT_TEMPLATE_PATH, configcontext.getContext());
     }
 
     @Override
     public String getCompositeAPIConfigStringFromTemplate(List<TemplateBuilderDTO> apiResources,
                                                           List<CompositeAPIEndpointDTO> compositeApiEndpoints)
                                                           throws APITemplateException {
-        StringWriter writer = new StringWriter();
-        String templatePath = "resources" + File.separator + "template" + File.separator + "composite_template.xml";
-        try {
-            // build the context for template and apply the necessary decorators
-            apiConfigContext.validate();
-            CompositeAPIConfigContext configContext = new CompositeAPIConfigContext(apiConfigContext, apiResources,
-                                                                                    compositeApiEndpoints);
-            VelocityContext context = configContext.getContext();
-            VelocityEngine velocityengine = new VelocityEngine();
-            velocityengine.setProperty(RuntimeConstants.RESOURCE_LOADER, "classpath");
-            velocityengine.setProperty("classpath.resource.loader.class", ClasspathResourceLoader.class.getName());
-            velocityengine.setProperty(VelocityEngine.RUNTIME_LOG_LOGSYSTEM, new CommonsLogLogChute());
-            velocityengine.init();
-            Template template = velocityengine.getTemplate(templatePath);
-            template.merge(context, writer);
-        } catch (ResourceNotFoundException e) {
-            log.error("Template " + templatePath + " not Found", e);
-            throw new APITemplateException("Template " + templatePath + " not Found",
-                    ExceptionCodes.TEMPLATE_EXCEPTION);
-        } catch (ParseErrorException e) {
-            log.error("Syntax error in " + templatePath, e);
-            throw new APITemplateException("Syntax error in " + templatePath, ExceptionCodes.TEMPLATE_EXCEPTION);
-        }
-        return writer.toString();
+        // build the context for template and apply the necessary decorators
+        apiConfigContext.validate();
+        CompositeAPIConfigContext configContext = new CompositeAPIConfigContext(apiConfigContext, apiResources,
+                                                                                compositeApiEndpoints);
+        return VelocityTemplateCache.getInstance().render(COMPOSITE_API_TEMPLATE_PATH, configContext.getContext());
     }
 }
@@ -22,36 +22,52 @@ package org.wso2.carbon.apimgt.core.impl;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.core.api.IdentityProvider;
 import org.wso2.carbon.apimgt.core.configuration.models.MailConfigurations;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.exception.IdentityProviderException;
 import org.wso2.carbon.apimgt.core.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.core.template.dto.NotificationDTO;
 
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
-import javax.mail.Authenticator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.mail.Address;
 import javax.mail.Message;
 import javax.mail.MessagingException;
-import javax.mail.PasswordAuthentication;
+import javax.mail.NoSuchProviderException;
+import javax.mail.SendFailedException;
 import javax.mail.Session;
 import javax.mail.Transport;
+import javax.mail.internet.AddressException;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
 
 
 /**
- * Class to send Email notification.
+ * Class to send Email notification. The mail is rendered once per notification and sent to the subscribers in
+ * batches of blind carbon copy recipients over a single SMTP connection. A batch which fails to be sent is retried
+ * over a new connection.
  */
 public class NewApiVersionMailNotifier extends Notifier {
     private static final Log log = LogFactory.getLog(NewApiVersionMailNotifier.class);
-    static MailConfigurations mailConfigurations = ServiceReferenceHolder.getInstance().getAPIMConfiguration().
-            getNotificationConfigurations().getMailConfigurations();
-    private static final String SMTP_HOST_NAME = mailConfigurations.getSmtpHostname();
-    private static final String SMTP_AUTH_USER = mailConfigurations.getSmtpAuthUser();
-    private static final String SMTP_AUTH_PWD = mailConfigurations.getSmtpAuthPwd();
+    private static final Pattern NEW_API_VERSION_PLACEHOLDER = Pattern.compile("\\$1");
+    private static final Pattern API_NAME_PLACEHOLDER = Pattern.compile("\\$2");
 
+    private final MailConfigurations mailConfigurations;
+
+    public NewApiVersionMailNotifier() {
+        this(ServiceReferenceHolder.getInstance().getAPIMConfiguration().getNotificationConfigurations()
+                .getMailConfigurations());
+    }
+
+    NewApiVersionMailNotifier(MailConfigurations mailConfigurations) {
+        this.mailConfigurations = mailConfigurations;
+    }
 
     @Override
     public void sendNotifications(NotificationDTO notificationDTO) throws
@@ -66,28 +82,131 @@ public class NewApiVersionMailNotifier extends Notifier {
             log.debug("Email Notifier Set is Empty");
             return;
         }
+        List<Address> recipients = new ArrayList<>();
         for (String mail : emailList) {
             try {
-                Authenticator auth = new SMTPAuthenticator();
-                Session mailSession = Session.getDefaultInstance(props, auth);
-                MimeMessage message = new MimeMessage(mailSession);
-                notificationDTO.setTitle((String) notificationDTO.getProperty(NotifierConstants.TITLE_KEY));
-                notificationDTO.setMessage((String) notificationDTO.getProperty(NotifierConstants.TEMPLATE_KEY));
-                notificationDTO = loadMailTemplate(notificationDTO);
-                message.setSubject(notificationDTO.getTitle());
-                message.setContent(notificationDTO.getMessage(), NotifierConstants.TEXT_TYPE);
-                message.setFrom(new InternetAddress(mailConfigurations.getFromUser()));
-                message.addRecipient(Message.RecipientType.TO, new InternetAddress(mail));
-                Transport.send(message);
+                recipients.add(new InternetAddress(mail));
+            } catch (AddressException e) {
+                log.error("Invalid Email address " + mail + " is not notified", e);
+            }
+        }
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        Session mailSession = Session.getInstance(props);
+        Transport transport;
+        MimeMessage message;
+        try {
+            notificationDTO.setTitle((String) notificationDTO.getProperty(NotifierConstants.TITLE_KEY));
+            notificationDTO.setMessage((String) notificationDTO.getProperty(NotifierConstants.TEMPLATE_KEY));
+            notificationDTO = loadMailTemplate(notificationDTO);
+            message = new MimeMessage(mailSession);
+            message.setSubject(notificationDTO.getTitle());
+            message.setContent(notificationDTO.getMessage(), NotifierConstants.TEXT_TYPE);
+            InternetAddress fromAddress = new InternetAddress(mailConfigurations.getFromUser());
+            message.setFrom(fromAddress);
+            // subscribers are not listed in the mail, so that they do not see each other's addresses
+            message.setRecipient(Message.RecipientType.TO, fromAddress);
+            message.saveChanges();
+            transport = getTransport(mailSession);
+        } catch (MessagingException e) {
+            log.error("Exception Occurred during Email notification Sending", e);
+            return;
+        }
+
+        int batchSize = Math.max(1, mailConfigurations.getMaxRecipientsPerMail());
+        try {
+            for (int i = 0; i < recipients.size(); i += batchSize) {
+                List<Address> batch = recipients.subList(i, Math.min(i + batchSize, recipients.size()));
+                sendBatch(transport, message, batch.toArray(new Address[batch.size()]));
+            }
+        } finally {
+            closeTransport(transport);
+        }
+    }
+
+    /**
+     * Get the transport used to send the mails of a notification
+     *
+     * @param mailSession mail session of the notification
+     * @return transport of the protocol configured for the session
+     * @throws NoSuchProviderException if no provider is found for the protocol
+     */
+    Transport getTransport(Session mailSession) throws NoSuchProviderException {
+        return mailSession.getTransport();
+    }
+
+    /**
+     * Send a batch of mails, retrying over a new connection if sending fails. Recipients rejected by the SMTP
+     * server are not retried.
+     */
+    private void sendBatch(Transport transport, MimeMessage message, Address[] recipients) {
+        Address[] unsentRecipients = recipients;
+        int maxAttempts = Math.max(1, mailConfigurations.getMaxSendAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (!transport.isConnected()) {
+                    transport.connect(mailConfigurations.getSmtpAuthUser(), mailConfigurations.getSmtpAuthPwd());
+                }
+                transport.sendMessage(message, unsentRecipients);
+                return;
+            } catch (SendFailedException e) {
+                if (e.getInvalidAddresses() != null && e.getInvalidAddresses().length > 0) {
+                    log.error("Email notification is not sent to invalid addresses", e);
+                }
+                if (e.getValidUnsentAddresses() == null || e.getValidUnsentAddresses().length == 0) {
+                    return;
+                }
+                unsentRecipients = e.getValidUnsentAddresses();
+                if (!retry(transport, attempt, maxAttempts, unsentRecipients.length, e)) {
+                    return;
+                }
             } catch (MessagingException e) {
-                log.error("Exception Occurred during Email notification Sending", e);
+                if (!retry(transport, attempt, maxAttempts, unsentRecipients.length, e)) {
+                    return;
+                }
             }
+        }
+    }
+
+    /**
+     * Prepare to retry sending a batch of mails, by closing the connection and waiting for the retry interval
+     *
+     * @return true if the batch should be retried
+     */
+    private boolean retry(Transport transport, int attempt, int maxAttempts, int recipientCount,
+                          MessagingException e) {
+        if (attempt >= maxAttempts) {
+            log.error("Exception Occurred during Email notification Sending. Email notification is not sent to "
+                    + recipientCount + " recipients after " + attempt + " attempts", e);
+            return false;
+        }
+        log.warn("Exception Occurred during Email notification Sending. Retrying to send Email notification to "
+                + recipientCount + " recipients", e);
+        closeTransport(transport);
+        try {
+            Thread.sleep(mailConfigurations.getRetryInterval());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
 
+    private void closeTransport(Transport transport) {
+        try {
+            if (transport.isConnected()) {
+                transport.close();
+            }
+        } catch (MessagingException e) {
+            log.error("Exception Occurred while closing the mail transport", e);
         }
     }
 
     /**
-     * Get UserNotifier Email Set.
+     * Get UserNotifier Email Set. Subscribers whose Email could not be retrieved are not notified, instead of failing
+     * the notification of all the subscribers.
      */
     private Set<String> getEmailNotifierList(NotificationDTO notificationDTO) throws
             APIManagementException {
@@ -95,11 +214,14 @@ public class NewApiVersionMailNotifier extends Notifier {
         Set<String> subscriberList = (Set<String>) notificationDTO.
                 getProperty(NotifierConstants.SUBSCRIBERS_PER_API);
         if (!subscriberList.isEmpty()) {
-            for (Iterator<String> it = subscriberList.iterator(); it.hasNext(); ) {
-                String userName = it.next();
-                APIManagerFactory apiManagerFactory = APIManagerFactory.getInstance();
-                String userId = apiManagerFactory.getIdentityProvider().getIdOfUser(userName);
-                mailSet.add(apiManagerFactory.getIdentityProvider().getEmailOfUser(userId));
+            IdentityProvider identityProvider = getIdentityProvider();
+            for (String userName : subscriberList) {
+                try {
+                    String userId = identityProvider.getIdOfUser(userName);
+                    mailSet.add(identityProvider.getEmailOfUser(userId));
+                } catch (IdentityProviderException e) {
+                    log.error("Error occurred while retrieving Email of subscriber " + userName, e);
+                }
             }
         } else {
             if (log.isDebugEnabled()) {
@@ -110,14 +232,13 @@ public class NewApiVersionMailNotifier extends Notifier {
     }
 
     /**
-     * Class to Authenticate User.
+     * Get the identity provider from which the Emails of the subscribers are retrieved
+     *
+     * @return identity provider
+     * @throws APIManagementException if the identity provider could not be initialized
      */
-    private static class SMTPAuthenticator extends Authenticator {
-        public PasswordAuthentication getPasswordAuthentication() {
-            String username = SMTP_AUTH_USER;
-            String password = SMTP_AUTH_PWD;
-            return new PasswordAuthentication(username, password);
-        }
+    IdentityProvider getIdentityProvider() throws APIManagementException {
+        return APIManagerFactory.getInstance().getIdentityProvider();
     }
 
     /**
@@ -126,18 +247,28 @@ public class NewApiVersionMailNotifier extends Notifier {
      */
 
     public NotificationDTO loadMailTemplate(NotificationDTO notificationDTO) {
+        String newApiVersion = (String) notificationDTO.getProperty(NotifierConstants.NEW_API_VERSION);
+        String apiName = (String) notificationDTO.getProperty(NotifierConstants.API_NAME);
+
         String title = notificationDTO.getTitle();
-        title = title.replaceAll("\\$1", (String) notificationDTO.getProperty(NotifierConstants.NEW_API_VERSION));
-        title = title.replaceAll("\\$2", (String) notificationDTO.getProperty(NotifierConstants.API_NAME));
+        title = replacePlaceholder(NEW_API_VERSION_PLACEHOLDER, title, newApiVersion);
+        title = replacePlaceholder(API_NAME_PLACEHOLDER, title, apiName);
 
         String content = notificationDTO.getMessage();
         if (content != null && !content.isEmpty()) {
-            content = content.replaceAll("\\$1", (String) notificationDTO.getProperty
-                    (NotifierConstants.NEW_API_VERSION));
-            content = content.replaceAll("\\$2", (String) notificationDTO.getProperty(NotifierConstants.API_NAME));
+            content = replacePlaceholder(NEW_API_VERSION_PLACEHOLDER, content, newApiVersion);
+            content = replacePlaceholder(API_NAME_PLACEHOLDER, content, apiName);
         }
         notificationDTO.setTitle(title);
         notificationDTO.setMessage(content);
         return notificationDTO;
     }
+
+    private static String replacePlaceholder(Pattern placeholder, String text, String value) {
+        if (text == null || value == null) {
+            return text;
+        }
+        // the value is replaced literally, so that names containing '$' or '\' are not read as group references
+        return placeholder.matcher(text).replaceAll(Matcher.quoteReplacement(value));
+    }
 }
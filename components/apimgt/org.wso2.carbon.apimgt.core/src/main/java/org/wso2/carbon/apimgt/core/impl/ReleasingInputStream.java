@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stream of a cached file, which releases the file back to its cache when it is closed, so that the cache does not
+ * delete the file while it is being read
+ */
+final class ReleasingInputStream extends SizedInputStream {
+    private final InputStream inputStream;
+    private final long size;
+    private final Runnable releaser;
+    private boolean closed;
+
+    ReleasingInputStream(InputStream inputStream, long size, Runnable releaser) {
+        this.inputStream = inputStream;
+        this.size = size;
+        this.releaser = releaser;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return inputStream.read();
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        return inputStream.read(buffer, offset, length);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        return inputStream.skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return inputStream.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            inputStream.close();
+        } finally {
+            if (!closed) {
+                closed = true;
+                releaser.run();
+            }
+        }
+    }
+}
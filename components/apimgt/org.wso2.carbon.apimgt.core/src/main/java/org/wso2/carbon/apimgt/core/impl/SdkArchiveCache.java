@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Disk cache of generated SDK archives. Each generated archive is stored in a directory of its own, named by its key,
+ * which is a digest of the content the archive is generated from, and the least recently used archives are removed
+ * once the total size of the archives exceeds the limit.
+ * <p>
+ * Archives are downloaded through the streams returned by {@link #open(Path)}. An archive which is evicted or replaced
+ * while it is being downloaded is deleted once the last of its streams is closed.
+ */
+final class SdkArchiveCache {
+
+    private static final Logger log = LoggerFactory.getLogger(SdkArchiveCache.class);
+    private static final Pattern ARCHIVE_DIRECTORY_PATTERN = Pattern.compile("[0-9a-f]{64}-[0-9]+");
+
+    private final Path cacheDirectory;
+    private final long maxSize;
+    private final Map<String, CachedArchive> archives = new LinkedHashMap<>(16, 0.75f, true);
+    // number of open streams of each archive directory
+    private final Map<Path, Integer> readers = new HashMap<>();
+    // removed archive directories which are deleted once they are no longer read
+    private final Set<Path> removedDirectories = new HashSet<>();
+    private long size;
+
+    SdkArchiveCache(Path cacheDirectory, long maxSize) throws IOException {
+        this.cacheDirectory = cacheDirectory;
+        this.maxSize = maxSize;
+        Files.createDirectories(cacheDirectory);
+        // the cached archives are indexed in memory, so archives left by a previous run are not known
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(cacheDirectory)) {
+            for (Path directory : directories) {
+                if (ARCHIVE_DIRECTORY_PATTERN.matcher(directory.getFileName().toString()).matches()) {
+                    FileUtils.deleteQuietly(directory.toFile());
+                }
+            }
+        }
+    }
+
+    /**
+     * Get a cached archive
+     *
+     * @param key digest of the content the archive is generated from
+     * @return path of the archive, or null if it is not cached
+     */
+    synchronized Path get(String key) {
+        CachedArchive archive = archives.get(key);
+        if (archive == null) {
+            return null;
+        }
+        if (!Files.exists(archive.path)) {
+            archives.remove(key);
+            size -= archive.size;
+            return null;
+        }
+        return archive.path;
+    }
+
+    /**
+     * Get a new empty directory to generate an archive in, before adding it to the cache. Each generation gets a
+     * directory of its own, so that an archive generated again does not overwrite one which is still being read.
+     *
+     * @param key digest of the content the archive is generated from
+     * @return directory of the archive
+     * @throws IOException if the directory could not be created
+     */
+    Path getArchiveDirectory(String key) throws IOException {
+        return Files.createTempDirectory(cacheDirectory, key + "-");
+    }
+
+    /**
+     * Open a cached archive for reading. The archive is not deleted until the returned stream is closed, even if it
+     * is removed from the cache in the meantime.
+     *
+     * @param archive path of the archive
+     * @return stream of the archive, or null if the archive is no longer cached
+     * @throws IOException if the archive could not be opened
+     */
+    SizedInputStream open(Path archive) throws IOException {
+        Path archiveDirectory = archive.getParent();
+        long archiveSize;
+        synchronized (this) {
+            CachedArchive cachedArchive = archives.get(getKey(archiveDirectory));
+            if (cachedArchive == null || !cachedArchive.path.equals(archive)) {
+                return null;
+            }
+            archiveSize = cachedArchive.size;
+            readers.merge(archiveDirectory, 1, Integer::sum);
+        }
+        try {
+            return new ReleasingInputStream(Files.newInputStream(archive), archiveSize,
+                    () -> release(archiveDirectory));
+        } catch (IOException e) {
+            release(archiveDirectory);
+            throw e;
+        }
+    }
+
+    /**
+     * Add an archive generated in the directory of its key, removing the least recently used archives if the cache
+     * exceeds its size
+     *
+     * @param key     digest of the content the archive is generated from
+     * @param archive path of the archive
+     * @return path of the archive
+     * @throws IOException if the size of the archive could not be read
+     */
+    Path put(String key, Path archive) throws IOException {
+        long archiveSize = Files.size(archive);
+        List<Path> evictedDirectories = new ArrayList<>();
+        synchronized (this) {
+            CachedArchive previous = archives.put(key, new CachedArchive(archive, archiveSize));
+            if (previous != null) {
+                size -= previous.size;
+                if (!previous.path.equals(archive)) {
+                    remove(previous.path.getParent(), evictedDirectories);
+                }
+            }
+            size += archiveSize;
+            Iterator<Map.Entry<String, CachedArchive>> iterator = archives.entrySet().iterator();
+            while (size > maxSize && iterator.hasNext()) {
+                Map.Entry<String, CachedArchive> entry = iterator.next();
+                // the new archive is kept even if it is larger than the cache on its own
+                if (!entry.getKey().equals(key)) {
+                    size -= entry.getValue().size;
+                    remove(entry.getValue().path.getParent(), evictedDirectories);
+                    iterator.remove();
+                }
+            }
+        }
+        for (Path evictedDirectory : evictedDirectories) {
+            delete(evictedDirectory);
+        }
+        return archive;
+    }
+
+    /**
+     * Collects a removed archive directory to be deleted, unless it is being read, in which case it is deleted once
+     * it is released by its last reader
+     */
+    private void remove(Path archiveDirectory, List<Path> deletedDirectories) {
+        if (readers.containsKey(archiveDirectory)) {
+            removedDirectories.add(archiveDirectory);
+        } else {
+            deletedDirectories.add(archiveDirectory);
+        }
+    }
+
+    private void release(Path archiveDirectory) {
+        synchronized (this) {
+            if (readers.merge(archiveDirectory, -1, Integer::sum) > 0) {
+                return;
+            }
+            readers.remove(archiveDirectory);
+            if (!removedDirectories.remove(archiveDirectory)) {
+                return;
+            }
+        }
+        delete(archiveDirectory);
+    }
+
+    private static void delete(Path archiveDirectory) {
+        log.debug("Removing SDK archive {} from the cache", archiveDirectory);
+        FileUtils.deleteQuietly(archiveDirectory.toFile());
+    }
+
+    private static String getKey(Path archiveDirectory) {
+        String directoryName = archiveDirectory.getFileName().toString();
+        return directoryName.substring(0, Math.max(directoryName.lastIndexOf('-'), 0));
+    }
+
+    synchronized long getSize() {
+        return size;
+    }
+
+    private static final class CachedArchive {
+        private final Path path;
+        private final long size;
+
+        private CachedArchive(Path path, long size) {
+            this.path = path;
+            this.size = size;
+        }
+    }
+}
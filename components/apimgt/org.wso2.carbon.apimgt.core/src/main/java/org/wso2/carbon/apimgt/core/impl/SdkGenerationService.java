@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.configuration.APIMConfigurationService;
+import org.wso2.carbon.apimgt.core.configuration.models.SdkLanguageConfigurations;
+import org.wso2.carbon.apimgt.core.exception.ApiStoreSdkGenerationException;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.models.SdkGenerationJob;
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates SDK archives in a bounded pool of threads, so that SDK generation does not hold the threads of the
+ * requests. Concurrent requests for the same archive share a single generation, and generated archives are served
+ * from a {@link SdkArchiveCache} until they are evicted.
+ */
+final class SdkGenerationService {
+
+    private static final Logger log = LoggerFactory.getLogger(SdkGenerationService.class);
+
+    // number of jobs remembered for polling, the oldest jobs are forgotten first
+    private static final int MAX_JOBS = 1000;
+    private static final String DEFAULT_CACHE_DIRECTORY_NAME = "apim-sdk-cache";
+
+    private static volatile SdkGenerationService instance;
+
+    private final ThreadPoolExecutor executor;
+    private final SdkArchiveCache archiveCache;
+    private final Map<String, CompletableFuture<String>> generations = new ConcurrentHashMap<>();
+    private final Map<String, SdkGenerationJob> jobs = Collections.synchronizedMap(
+            new LinkedHashMap<String, SdkGenerationJob>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, SdkGenerationJob> eldest) {
+                    return size() > MAX_JOBS;
+                }
+            });
+
+    /**
+     * Generates an SDK archive in the given directory
+     */
+    interface ArchiveGenerator {
+        Path generate(Path archiveDirectory) throws Exception;
+    }
+
+    SdkGenerationService(int threads, int queueSize, SdkArchiveCache archiveCache) {
+        this.archiveCache = archiveCache;
+        executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+            Thread thread = new Thread(runnable, "SdkGenerator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Get the service configured in the SDK language configurations, creating it on first use
+     *
+     * @return SDK generation service
+     * @throws ApiStoreSdkGenerationException if the SDK cache directory could not be created
+     */
+    static SdkGenerationService getInstance() throws ApiStoreSdkGenerationException {
+        if (instance == null) {
+            synchronized (SdkGenerationService.class) {
+                if (instance == null) {
+                    SdkLanguageConfigurations configurations = APIMConfigurationService.getInstance()
+                            .getApimConfigurations().getSdkLanguageConfigurations();
+                    Path cacheDirectory = StringUtils.isEmpty(configurations.getSdkCacheDirectory()) ?
+                            Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_CACHE_DIRECTORY_NAME) :
+                            Paths.get(configurations.getSdkCacheDirectory());
+                    try {
+                        SdkArchiveCache archiveCache = new SdkArchiveCache(cacheDirectory,
+                                configurations.getSdkCacheSizeInMB() * 1024 * 1024);
+                        instance = new SdkGenerationService(configurations.getSdkGenerationThreads(),
+                                configurations.getSdkGenerationQueueSize(), archiveCache);
+                    } catch (IOException e) {
+                        throw new ApiStoreSdkGenerationException("Error creating SDK cache directory " +
+                                cacheDirectory, e);
+                    }
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Submit a request for an SDK archive, which is served from the cache if the archive was already generated
+     *
+     * @param key       digest of the content the archive is generated from
+     * @param apiId     ID of the API
+     * @param language  SDK language
+     * @param userName  user requesting the SDK
+     * @param generator generates the archive if it is not cached or being generated
+     * @return job which is completed once the archive is available
+     * @throws ApiStoreSdkGenerationException if too many SDKs are waiting to be generated
+     */
+    SdkGenerationJob submit(String key, String apiId, String language, String userName, ArchiveGenerator generator)
+            throws ApiStoreSdkGenerationException {
+        CompletableFuture<String> archive;
+        Path cachedArchive = archiveCache.get(key);
+        if (cachedArchive != null) {
+            log.debug("Serving SDK for API {} in {} from the cache", apiId, language);
+            archive = CompletableFuture.completedFuture(cachedArchive.toString());
+        } else {
+            try {
+                archive = generations.computeIfAbsent(key, k -> generate(k, generator));
+            } catch (RejectedExecutionException e) {
+                throw new ApiStoreSdkGenerationException("SDK generation queue is full, cannot generate SDK for API "
+                        + apiId, ExceptionCodes.SDK_GENERATION_QUEUE_FULL);
+            }
+        }
+        SdkGenerationJob job = new SdkGenerationJob(UUID.randomUUID().toString(), apiId, language, userName, archive);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    /**
+     * Open a generated archive for download. The archive is kept on disk until the returned stream is closed.
+     *
+     * @param archivePath path of the archive, as returned by a completed job
+     * @return stream of the archive, or null if the archive was removed from the cache since it was generated
+     * @throws IOException if the archive could not be opened
+     */
+    SizedInputStream openArchive(String archivePath) throws IOException {
+        return archiveCache.open(Paths.get(archivePath));
+    }
+
+    /**
+     * Get a submitted job
+     *
+     * @param jobId ID of the job
+     * @return job, or null if there is no such job or it was forgotten
+     */
+    SdkGenerationJob getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    private CompletableFuture<String> generate(String key, ArchiveGenerator generator) {
+        CompletableFuture<String> archive = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                Path generatedArchive = generator.generate(archiveCache.getArchiveDirectory(key));
+                archive.complete(archiveCache.put(key, generatedArchive).toString());
+            } catch (Exception e) {
+                log.error("Error while generating SDK archive " + key, e);
+                archive.completeExceptionally(e);
+            } finally {
+                // failed generations are not remembered, so that they are attempted again
+                generations.remove(key);
+            }
+        });
+        return archive;
+    }
+}
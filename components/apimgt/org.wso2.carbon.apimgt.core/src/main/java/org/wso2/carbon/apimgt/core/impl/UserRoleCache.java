@@ -0,0 +1,249 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.wso2.carbon.apimgt.core.configuration.models.IdentityProviderConfigurations;
+import org.wso2.carbon.apimgt.core.exception.IdentityProviderException;
+import org.wso2.carbon.apimgt.core.internal.ServiceReferenceHolder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded cache of the users and roles resolved from the identity provider, so that the roles of the logged in user
+ * are not retrieved from the SCIM endpoint on every API listing and search. It maps user names to user Ids, user Ids
+ * to the Ids and names of their roles, and role names and role Ids to each other. The roles of a user are retrieved
+ * with a single request, which also fills the role name and role Id mappings of all the roles of the user.
+ * <p>
+ * An entry is kept until the configured maximum cache time has elapsed, so that role changes made in the identity
+ * provider are picked up within that time, and the least recently used entry is evicted once the cache is full.
+ * Failed lookups are not cached.
+ */
+public class UserRoleCache {
+    private static volatile UserRoleCache instance;
+
+    private final long maxCacheTimeMillis;
+    private final ExpiringMap<String, String> userIds;
+    private final ExpiringMap<String, Map<String, String>> rolesOfUsers;
+    private final ExpiringMap<String, String> roleIds;
+    private final ExpiringMap<String, String> roleNames;
+
+    /**
+     * Constructor
+     *
+     * @param maxEntries      maximum number of cached entries of each mapping
+     * @param maxCacheTimeSec maximum time in seconds an entry is cached
+     */
+    public UserRoleCache(int maxEntries, long maxCacheTimeSec) {
+        this.maxCacheTimeMillis = maxCacheTimeSec * 1000;
+        this.userIds = new ExpiringMap<>(maxEntries);
+        this.rolesOfUsers = new ExpiringMap<>(maxEntries);
+        this.roleIds = new ExpiringMap<>(maxEntries);
+        this.roleNames = new ExpiringMap<>(maxEntries);
+    }
+
+    /**
+     * Get the cache shared by the identity provider instances
+     *
+     * @return shared {@link UserRoleCache} instance
+     */
+    public static UserRoleCache getInstance() {
+        if (instance == null) {
+            synchronized (UserRoleCache.class) {
+                if (instance == null) {
+                    IdentityProviderConfigurations idpConfigs = ServiceReferenceHolder.getInstance()
+                            .getAPIMConfiguration().getIdentityProviderConfigs();
+                    instance = new UserRoleCache(idpConfigs.getRoleCacheMaxEntries(),
+                            idpConfigs.getRoleCacheExpiryTime());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the Id of a user, retrieving it with the given loader if it is not cached
+     *
+     * @param userName name of the user
+     * @param loader   retrieves the Id of the user from the identity provider
+     * @return Id of the user
+     * @throws IdentityProviderException if the Id of the user could not be retrieved
+     */
+    public String getUserId(String userName, Loader<String> loader) throws IdentityProviderException {
+        String userId = userIds.get(userName);
+        if (userId == null) {
+            userId = loader.load(userName);
+            userIds.put(userName, userId, expiryTime());
+        }
+        return userId;
+    }
+
+    /**
+     * Get the Ids of the roles of a user, retrieving the roles with the given loader if they are not cached
+     *
+     * @param userId Id of the user
+     * @param loader retrieves the names of the roles of the user from the identity provider, keyed by role Id
+     * @return Ids of the roles of the user
+     * @throws IdentityProviderException if the roles of the user could not be retrieved
+     */
+    public List<String> getRoleIdsOfUser(String userId, Loader<Map<String, String>> loader)
+            throws IdentityProviderException {
+        return new ArrayList<>(getRolesOfUser(userId, loader).keySet());
+    }
+
+    /**
+     * Get the names of the roles of a user, retrieving the roles with the given loader if they are not cached
+     *
+     * @param userId Id of the user
+     * @param loader retrieves the names of the roles of the user from the identity provider, keyed by role Id
+     * @return names of the roles of the user
+     * @throws IdentityProviderException if the roles of the user could not be retrieved
+     */
+    public List<String> getRoleNamesOfUser(String userId, Loader<Map<String, String>> loader)
+            throws IdentityProviderException {
+        return new ArrayList<>(getRolesOfUser(userId, loader).values());
+    }
+
+    /**
+     * Get the Id of a role, retrieving it with the given loader if it is not cached
+     *
+     * @param roleName name of the role
+     * @param loader   retrieves the Id of the role from the identity provider
+     * @return Id of the role
+     * @throws IdentityProviderException if the Id of the role could not be retrieved
+     */
+    public String getRoleId(String roleName, Loader<String> loader) throws IdentityProviderException {
+        String roleId = roleIds.get(roleName);
+        if (roleId == null) {
+            roleId = loader.load(roleName);
+            roleIds.put(roleName, roleId, expiryTime());
+        }
+        return roleId;
+    }
+
+    /**
+     * Get the name of a role, retrieving it with the given loader if it is not cached
+     *
+     * @param roleId Id of the role
+     * @param loader retrieves the name of the role from the identity provider
+     * @return name of the role
+     * @throws IdentityProviderException if the name of the role could not be retrieved
+     */
+    public String getRoleName(String roleId, Loader<String> loader) throws IdentityProviderException {
+        String roleName = roleNames.get(roleId);
+        if (roleName == null) {
+            roleName = loader.load(roleId);
+            roleNames.put(roleId, roleName, expiryTime());
+        }
+        return roleName;
+    }
+
+    /**
+     * Remove a user from the cache, so that the Id and roles of the user are retrieved again on next use, such as
+     * after the roles of the user are changed in the identity provider
+     *
+     * @param userName name of the user
+     */
+    public void invalidateUser(String userName) {
+        String userId = userIds.remove(userName);
+        if (userId != null) {
+            rolesOfUsers.remove(userId);
+        }
+    }
+
+    private Map<String, String> getRolesOfUser(String userId, Loader<Map<String, String>> loader)
+            throws IdentityProviderException {
+        Map<String, String> roles = rolesOfUsers.get(userId);
+        if (roles == null) {
+            roles = Collections.unmodifiableMap(new LinkedHashMap<>(loader.load(userId)));
+            long expiryTime = expiryTime();
+            rolesOfUsers.put(userId, roles, expiryTime);
+            for (Map.Entry<String, String> role : roles.entrySet()) {
+                roleNames.put(role.getKey(), role.getValue(), expiryTime);
+                roleIds.put(role.getValue(), role.getKey(), expiryTime);
+            }
+        }
+        return roles;
+    }
+
+    private long expiryTime() {
+        return System.currentTimeMillis() + maxCacheTimeMillis;
+    }
+
+    /**
+     * Retrieves a value which is not cached from the identity provider
+     *
+     * @param <V> type of the value
+     */
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load(String key) throws IdentityProviderException;
+    }
+
+    /**
+     * Least recently used map whose entries expire at a given time
+     */
+    private static final class ExpiringMap<K, V> {
+        private final Map<K, CachedValue<V>> entries;
+
+        private ExpiringMap(int maxEntries) {
+            this.entries = new LinkedHashMap<K, CachedValue<V>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        private synchronized V get(K key) {
+            CachedValue<V> cachedValue = entries.get(key);
+            if (cachedValue == null) {
+                return null;
+            }
+            if (cachedValue.expiryTime <= System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return cachedValue.value;
+        }
+
+        private synchronized void put(K key, V value, long expiryTime) {
+            if (key != null && value != null && expiryTime > System.currentTimeMillis()) {
+                entries.put(key, new CachedValue<>(value, expiryTime));
+            }
+        }
+
+        private synchronized V remove(K key) {
+            CachedValue<V> cachedValue = entries.remove(key);
+            return cachedValue != null ? cachedValue.value : null;
+        }
+    }
+
+    private static final class CachedValue<V> {
+        private final V value;
+        private final long expiryTime;
+
+        private CachedValue(V value, long expiryTime) {
+            this.value = value;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
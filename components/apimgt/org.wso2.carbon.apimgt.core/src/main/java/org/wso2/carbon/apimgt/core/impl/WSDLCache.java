@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.api.WSDLProcessor;
+import org.wso2.carbon.apimgt.core.configuration.APIMConfigurationService;
+import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
+import org.wso2.carbon.apimgt.core.exception.APIMgtWSDLException;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.models.API;
+import org.wso2.carbon.apimgt.core.models.Label;
+import org.wso2.carbon.apimgt.core.models.WSDLArchiveInfo;
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the WSDLs of APIs shown in the store. The parsed WSDL of an API and the WSDLs and WSDL archives rendered
+ * with the endpoints of each label are kept until the API is updated, which is detected by its last updated time, or
+ * until the WSDL of the API is updated through {@link #invalidate(String)}. The least recently used APIs are evicted
+ * once the cache is full.
+ * <p>
+ * WSDL archives are sent through the streams returned by {@link #open(WSDLArchiveInfo)}. An archive which is discarded
+ * while it is being sent is deleted once the last of its streams is closed.
+ */
+final class WSDLCache {
+
+    private static final Logger log = LoggerFactory.getLogger(WSDLCache.class);
+    // number of times an archive is created when the entry it is created for keeps being discarded
+    private static final int MAX_ARCHIVE_ATTEMPTS = 3;
+    private static volatile WSDLCache instance;
+
+    private final int maxEntries;
+    private final Map<String, CachedWSDL> wsdls;
+    // number of open streams of each archive location
+    private final Map<String, Integer> readers = new HashMap<>();
+    // discarded archive locations which are deleted once they are no longer read
+    private final Set<String> discardedLocations = new HashSet<>();
+
+    /**
+     * Provides the WSDL content of an API, which is read only if the WSDL is not cached
+     */
+    interface WSDLContentProvider {
+        byte[] getContent() throws APIMgtDAOException;
+    }
+
+    /**
+     * Creates a WSDL archive of an API with the endpoints of a label, if it is not cached
+     */
+    interface WSDLArchiveProvider {
+        WSDLArchiveInfo createArchive() throws APIMgtDAOException, APIMgtWSDLException;
+    }
+
+    WSDLCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.wsdls = new LinkedHashMap<String, CachedWSDL>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedWSDL> eldest) {
+                if (size() > WSDLCache.this.maxEntries) {
+                    discard(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the WSDL cache configured in the API Manager configurations, creating it on first use
+     *
+     * @return shared {@link WSDLCache} instance
+     */
+    static WSDLCache getInstance() {
+        if (instance == null) {
+            synchronized (WSDLCache.class) {
+                if (instance == null) {
+                    instance = new WSDLCache(
+                            APIMConfigurationService.getInstance().getApimConfigurations().getWsdlCacheSize());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the WSDL of an API updated with the endpoints of a label, parsing and rendering it only if it is not cached
+     *
+     * @param api             API of the WSDL
+     * @param label           label whose endpoints are set in the WSDL
+     * @param contentProvider provides the WSDL content of the API if it is not cached
+     * @return updated WSDL content, or null if the API has no WSDL content
+     * @throws APIMgtDAOException  if the WSDL content could not be read
+     * @throws APIMgtWSDLException if the WSDL could not be processed
+     */
+    byte[] getUpdatedWSDL(API api, Label label, WSDLContentProvider contentProvider)
+            throws APIMgtDAOException, APIMgtWSDLException {
+        CachedWSDL cachedWSDL = getCachedWSDL(api);
+        String renderingKey = getRenderingKey(api, label);
+        // the processor updates the parsed WSDL in place, so the WSDL of an API is rendered by one thread at a time
+        synchronized (cachedWSDL) {
+            byte[] updatedWSDL = cachedWSDL.updatedWSDLs.get(renderingKey);
+            if (updatedWSDL == null) {
+                if (cachedWSDL.processor == null) {
+                    byte[] wsdlContent = contentProvider.getContent();
+                    if (wsdlContent == null) {
+                        return null;
+                    }
+                    cachedWSDL.processor = WSDLProcessFactory.getInstance().getWSDLProcessor(wsdlContent);
+                }
+                updatedWSDL = cachedWSDL.processor.getUpdatedWSDL(api, label);
+                cachedWSDL.updatedWSDLs.put(renderingKey, updatedWSDL);
+            } else if (log.isDebugEnabled()) {
+                log.debug("Serving WSDL of API " + api.getId() + " for label " + renderingKey + " from the cache");
+            }
+            return updatedWSDL;
+        }
+    }
+
+    /**
+     * Get the WSDL archive of an API updated with the endpoints of a label, creating it only if it is not cached
+     *
+     * @param api             API of the WSDL archive
+     * @param label           label whose endpoints are set in the WSDLs
+     * @param archiveProvider creates the updated WSDL archive if it is not cached
+     * @return updated WSDL archive
+     * @throws APIMgtDAOException  if the WSDL archive could not be read
+     * @throws APIMgtWSDLException if the WSDL archive could not be processed
+     */
+    WSDLArchiveInfo getUpdatedWSDLArchive(API api, Label label, WSDLArchiveProvider archiveProvider)
+            throws APIMgtDAOException, APIMgtWSDLException {
+        String renderingKey = getRenderingKey(api, label);
+        for (int attempt = 1; attempt <= MAX_ARCHIVE_ATTEMPTS; attempt++) {
+            CachedWSDL cachedWSDL = getCachedWSDL(api);
+            synchronized (cachedWSDL) {
+                WSDLArchiveInfo archiveInfo = cachedWSDL.updatedArchives.get(renderingKey);
+                if (archiveInfo != null && new File(archiveInfo.getAbsoluteFilePath()).exists()) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Serving WSDL archive of API " + api.getId() + " for label " + renderingKey
+                                + " from the cache");
+                    }
+                    return archiveInfo;
+                }
+                archiveInfo = archiveProvider.createArchive();
+                if (attach(cachedWSDL, renderingKey, archiveInfo)) {
+                    return archiveInfo;
+                }
+            }
+            // the entry was invalidated or evicted while the archive was being created
+            if (log.isDebugEnabled()) {
+                log.debug("WSDL archive of API " + api.getId() + " for label " + renderingKey
+                        + " was discarded while it was being created");
+            }
+        }
+        throw new APIMgtWSDLException("WSDL archive of API " + api.getId() + " was discarded while it was created",
+                ExceptionCodes.ERROR_WHILE_CREATING_WSDL_ARCHIVE);
+    }
+
+    /**
+     * Open a WSDL archive returned by {@link #getUpdatedWSDLArchive(API, Label, WSDLArchiveProvider)} for reading.
+     * The archive is not deleted until the returned stream is closed, even if it is discarded in the meantime.
+     *
+     * @param archiveInfo WSDL archive
+     * @return stream of the archive, or null if the archive has already been discarded
+     * @throws IOException if the archive could not be opened
+     */
+    SizedInputStream open(WSDLArchiveInfo archiveInfo) throws IOException {
+        String location = archiveInfo.getLocation();
+        Path archive = Paths.get(archiveInfo.getAbsoluteFilePath());
+        long archiveSize;
+        synchronized (this) {
+            if (discardedLocations.contains(location) || !Files.exists(archive)) {
+                return null;
+            }
+            archiveSize = Files.size(archive);
+            readers.merge(location, 1, Integer::sum);
+        }
+        try {
+            return new ReleasingInputStream(Files.newInputStream(archive), archiveSize, () -> release(location));
+        } catch (IOException e) {
+            release(location);
+            throw e;
+        }
+    }
+
+    /**
+     * Remove the cached WSDL of an API, once the WSDL of the API is updated
+     *
+     * @param apiId UUID of the API
+     */
+    synchronized void invalidate(String apiId) {
+        CachedWSDL cachedWSDL = wsdls.remove(apiId);
+        if (cachedWSDL != null) {
+            discard(cachedWSDL);
+        }
+    }
+
+    /**
+     * Add an updated WSDL archive to a cached WSDL, unless the cached WSDL has already been discarded, in which case
+     * the archive is deleted since nothing else refers to it.
+     *
+     * @return whether the archive was added
+     */
+    private synchronized boolean attach(CachedWSDL cachedWSDL, String renderingKey, WSDLArchiveInfo archiveInfo) {
+        if (cachedWSDL.discarded) {
+            FileUtils.deleteQuietly(new File(archiveInfo.getLocation()));
+            return false;
+        }
+        cachedWSDL.updatedArchives.put(renderingKey, archiveInfo);
+        return true;
+    }
+
+    private synchronized CachedWSDL getCachedWSDL(API api) {
+        String version = String.valueOf(api.getLastUpdatedTime());
+        CachedWSDL cachedWSDL = wsdls.get(api.getId());
+        if (cachedWSDL == null || !cachedWSDL.version.equals(version)) {
+            if (cachedWSDL != null) {
+                discard(cachedWSDL);
+            }
+            cachedWSDL = new CachedWSDL(version);
+            wsdls.put(api.getId(), cachedWSDL);
+        }
+        return cachedWSDL;
+    }
+
+    /**
+     * Remove the updated WSDL archives of a cached WSDL from the disk. An archive which is being read is deleted once
+     * it is released by its last reader.
+     */
+    private synchronized void discard(CachedWSDL cachedWSDL) {
+        cachedWSDL.discarded = true;
+        for (WSDLArchiveInfo archiveInfo : cachedWSDL.updatedArchives.values()) {
+            if (readers.containsKey(archiveInfo.getLocation())) {
+                discardedLocations.add(archiveInfo.getLocation());
+            } else {
+                FileUtils.deleteQuietly(new File(archiveInfo.getLocation()));
+            }
+        }
+        cachedWSDL.updatedArchives.clear();
+    }
+
+    private void release(String location) {
+        synchronized (this) {
+            if (readers.merge(location, -1, Integer::sum) > 0) {
+                return;
+            }
+            readers.remove(location);
+            if (!discardedLocations.remove(location)) {
+                return;
+            }
+        }
+        FileUtils.deleteQuietly(new File(location));
+    }
+
+    private static String getRenderingKey(API api, Label label) {
+        if (label == null) {
+            return "";
+        }
+        return label.getName() + label.getAccessUrls() + api.getContext();
+    }
+
+    private static final class CachedWSDL {
+        private final String version;
+        private final Map<String, byte[]> updatedWSDLs = new HashMap<>();
+        // read without the lock of the entry when discarding, so that an eviction does not wait for a rendering
+        private final Map<String, WSDLArchiveInfo> updatedArchives = new ConcurrentHashMap<>();
+        private WSDLProcessor processor;
+        // set under the lock of the cache, after which no archive is added to the entry
+        private boolean discarded;
+
+        private CachedWSDL(String version) {
+            this.version = version;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import com.zaxxer.hikari.HikariDataSource;
 import org.osgi.framework.BundleContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -31,10 +32,15 @@ import org.osgi.service.jndi.JNDIContextManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.api.Broker;
+import org.wso2.carbon.apimgt.core.configuration.models.APIMConfigurations;
+import org.wso2.carbon.apimgt.core.configuration.models.SearchConfigurations;
+import org.wso2.carbon.apimgt.core.dao.APISubscriptionDAO;
+import org.wso2.carbon.apimgt.core.dao.impl.DAOFactory;
 import org.wso2.carbon.apimgt.core.dao.impl.DAOUtil;
 import org.wso2.carbon.apimgt.core.dao.impl.DataSource;
 import org.wso2.carbon.apimgt.core.dao.impl.DataSourceImpl;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.impl.APISearchIndex;
 import org.wso2.carbon.apimgt.core.impl.BrokerImpl;
 import org.wso2.carbon.apimgt.core.util.BrokerUtil;
 import org.wso2.carbon.apimgt.core.util.ThrottlerUtil;
@@ -42,7 +48,9 @@ import org.wso2.carbon.apimgt.core.workflow.WorkflowExtensionsConfigBuilder;
 import org.wso2.carbon.datasource.core.api.DataSourceService;
 import org.wso2.carbon.kernel.configprovider.ConfigProvider;
 
-
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import javax.naming.Context;
 import javax.naming.NamingException;
 
@@ -60,6 +68,7 @@ public class BundleActivator {
     private static final Logger log = LoggerFactory.getLogger(BundleActivator.class);
     private JNDIContextManager jndiContextManager;
     private ConfigProvider configProvider;
+    private ScheduledExecutorService subscriptionChangePruner;
 
     @Activate
     protected void start(BundleContext bundleContext) {
@@ -93,6 +102,67 @@ public class BundleActivator {
         } catch (APIManagementException e) {
             log.error("Error occurred while deploying default policies", e);
         }
+
+        // building the API search index
+        SearchConfigurations searchConfigs = ServiceReferenceHolder.getInstance().getAPIMConfiguration()
+                .getSearchConfigurations();
+        if (searchConfigs.isIndexEnabled()) {
+            try {
+                APISearchIndex.getInstance().scheduleRebuild(DAOFactory.getApiDAO(),
+                        searchConfigs.getIndexRebuildInterval());
+            } catch (APIManagementException e) {
+                log.error("Error occurred while building API search index", e);
+            }
+        }
+
+        // removing the subscription changes which gateways no longer need
+        APIMConfigurations apimConfigs = ServiceReferenceHolder.getInstance().getAPIMConfiguration();
+        if (apimConfigs.getSubscriptionChangePruneInterval() > 0) {
+            try {
+                scheduleSubscriptionChangePruning(DAOFactory.getAPISubscriptionDAO(),
+                        apimConfigs.getSubscriptionChangeRetention(),
+                        apimConfigs.getSubscriptionChangePruneInterval());
+            } catch (APIManagementException e) {
+                log.error("Error occurred while scheduling removal of subscription changes", e);
+            }
+        }
+    }
+
+    @Deactivate
+    protected void stop() {
+        if (subscriptionChangePruner != null) {
+            subscriptionChangePruner.shutdownNow();
+            subscriptionChangePruner = null;
+        }
+        // publish the pending gateway events and close the broker connection
+        BrokerUtil.shutdown();
+    }
+
+    /**
+     * Periodically remove the subscription changes older than the retention time, so that the change log does not
+     * grow with every subscription ever changed
+     *
+     * @param apiSubscriptionDAO DAO to remove the changes with
+     * @param retentionSeconds   Time in seconds for which changes are kept
+     * @param pruneInterval      Interval in seconds between two removals
+     */
+    private void scheduleSubscriptionChangePruning(APISubscriptionDAO apiSubscriptionDAO, long retentionSeconds,
+                                                   long pruneInterval) {
+        subscriptionChangePruner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "SubscriptionChangePruner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        subscriptionChangePruner.scheduleWithFixedDelay(() -> {
+            try {
+                int prunedChanges = apiSubscriptionDAO.pruneSubscriptionChanges(retentionSeconds);
+                if (log.isDebugEnabled()) {
+                    log.debug("Removed " + prunedChanges + " expired subscription changes");
+                }
+            } catch (APIManagementException | RuntimeException e) {
+                log.error("Error while removing expired subscription changes", e);
+            }
+        }, pruneInterval, pruneInterval, TimeUnit.SECONDS);
     }
 
     @Reference(
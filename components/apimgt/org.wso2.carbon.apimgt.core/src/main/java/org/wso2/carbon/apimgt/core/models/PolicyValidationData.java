@@ -26,11 +26,29 @@ public class PolicyValidationData {
     private String id;
     private String name;
     private boolean stopOnQuotaReach;
+    private long requestCount;
+    private long unitTime;
 
     public PolicyValidationData(String id, String name, boolean stopOnQuotaReach) {
+        this(id, name, stopOnQuotaReach, 0, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param id               UUID of the policy
+     * @param name             name of the policy
+     * @param stopOnQuotaReach whether requests are rejected once the quota is reached
+     * @param requestCount     number of requests allowed within the unit time, or 0 if the policy does not limit the
+     *                         request count
+     * @param unitTime         unit time of the request count in milliseconds
+     */
+    public PolicyValidationData(String id, String name, boolean stopOnQuotaReach, long requestCount, long unitTime) {
         this.id = id;
         this.name = name;
         this.stopOnQuotaReach = stopOnQuotaReach;
+        this.requestCount = requestCount;
+        this.unitTime = unitTime;
     }
 
     public String getId() {
@@ -45,6 +63,14 @@ public class PolicyValidationData {
         return stopOnQuotaReach;
     }
 
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public long getUnitTime() {
+        return unitTime;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -59,6 +85,9 @@ public class PolicyValidationData {
         if (stopOnQuotaReach != that.stopOnQuotaReach) {
             return false;
         }
+        if (requestCount != that.requestCount || unitTime != that.unitTime) {
+            return false;
+        }
         if (id != null ? !id.equals(that.id) : that.id != null) {
             return false;
         }
@@ -70,6 +99,8 @@ public class PolicyValidationData {
         int result = id != null ? id.hashCode() : 0;
         result = 31 * result + (name != null ? name.hashCode() : 0);
         result = 31 * result + (stopOnQuotaReach ? 1 : 0);
+        result = 31 * result + (int) (requestCount ^ (requestCount >>> 32));
+        result = 31 * result + (int) (unitTime ^ (unitTime >>> 32));
         return result;
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.models;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Model representing a request to generate the SDK of an API, which is completed once the SDK archive is generated.
+ * Requests for the same SDK share the generation of the archive.
+ */
+public class SdkGenerationJob {
+
+    /**
+     * Status of an SDK generation job
+     */
+    public enum Status {
+        IN_PROGRESS, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final String apiId;
+    private final String language;
+    private final String userName;
+    private final CompletableFuture<String> archive;
+
+    public SdkGenerationJob(String id, String apiId, String language, String userName,
+                            CompletableFuture<String> archive) {
+        this.id = id;
+        this.apiId = apiId;
+        this.language = language;
+        this.userName = userName;
+        this.archive = archive;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getApiId() {
+        return apiId;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public Status getStatus() {
+        if (!archive.isDone()) {
+            return Status.IN_PROGRESS;
+        }
+        return archive.isCompletedExceptionally() ? Status.FAILED : Status.COMPLETED;
+    }
+
+    /**
+     * Get the generated archive, waiting for it to be generated if it is not yet
+     *
+     * @return path of the generated SDK archive
+     * @throws InterruptedException if interrupted while waiting for the archive
+     * @throws ExecutionException   if the SDK could not be generated
+     */
+    public String getArchivePath() throws InterruptedException, ExecutionException {
+        return archive.get();
+    }
+
+    /**
+     * Get the reason the SDK could not be generated
+     *
+     * @return error message if the job failed, null otherwise
+     */
+    public String getErrorMessage() {
+        if (getStatus() != Status.FAILED) {
+            return null;
+        }
+        try {
+            archive.join();
+            return null;
+        } catch (RuntimeException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return cause.getMessage();
+        }
+    }
+}
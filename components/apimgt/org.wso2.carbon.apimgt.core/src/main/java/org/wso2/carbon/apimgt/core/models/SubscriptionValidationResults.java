@@ -0,0 +1,78 @@
+/*
+ *
+ *   Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 Inc. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.core.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A page of subscription validation data returned to gateways. When retrieving a snapshot of all subscriptions the
+ * {@code nextCursor} points to the next page, while the {@code changeSequence} is the position in the subscription
+ * change log the snapshot is consistent with. When retrieving changes, {@code removedSubscriptionList} holds the
+ * subscriptions deleted since the requested change sequence.
+ */
+public final class SubscriptionValidationResults {
+    private List<SubscriptionValidationData> subscriptionList = new ArrayList<>();
+    private List<SubscriptionValidationData> removedSubscriptionList = new ArrayList<>();
+    private boolean isMoreResultsExist;
+    private String nextCursor;
+    private long changeSequence;
+
+    public List<SubscriptionValidationData> getSubscriptionList() {
+        return subscriptionList;
+    }
+
+    public void setSubscriptionList(List<SubscriptionValidationData> subscriptionList) {
+        this.subscriptionList = subscriptionList;
+    }
+
+    public List<SubscriptionValidationData> getRemovedSubscriptionList() {
+        return removedSubscriptionList;
+    }
+
+    public void setRemovedSubscriptionList(List<SubscriptionValidationData> removedSubscriptionList) {
+        this.removedSubscriptionList = removedSubscriptionList;
+    }
+
+    public boolean isMoreResultsExist() {
+        return isMoreResultsExist;
+    }
+
+    public void setMoreResultsExist(boolean moreResultsExist) {
+        isMoreResultsExist = moreResultsExist;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public long getChangeSequence() {
+        return changeSequence;
+    }
+
+    public void setChangeSequence(long changeSequence) {
+        this.changeSequence = changeSequence;
+    }
+}
@@ -31,6 +31,8 @@ public class BlockEvent extends GatewayEvent {
     private long fixedIp;
     private long startingIP;
     private long endingIP;
+    private String startingIPAddress;
+    private String endingIPAddress;
 
     public boolean isEnabled() {
         return enabled;
@@ -88,6 +90,33 @@ public class BlockEvent extends GatewayEvent {
         this.endingIP = endingIP;
     }
 
+    /**
+     * Get the first address of an IP range condition. Unlike {@link #getStartingIP()}, which is only set for IPv4
+     * ranges, this is an IPv4 or IPv6 address literal.
+     *
+     * @return first address of the range
+     */
+    public String getStartingIPAddress() {
+        return startingIPAddress;
+    }
+
+    public void setStartingIPAddress(String startingIPAddress) {
+        this.startingIPAddress = startingIPAddress;
+    }
+
+    /**
+     * Get the last address of an IP range condition as an IPv4 or IPv6 address literal
+     *
+     * @return last address of the range
+     */
+    public String getEndingIPAddress() {
+        return endingIPAddress;
+    }
+
+    public void setEndingIPAddress(String endingIPAddress) {
+        this.endingIPAddress = endingIPAddress;
+    }
+
     public BlockEvent(String eventType) {
         super(eventType);
     }
@@ -22,15 +22,13 @@ package org.wso2.carbon.apimgt.core.template;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
 import org.wso2.carbon.apimgt.core.models.policy.APIPolicy;
 import org.wso2.carbon.apimgt.core.models.policy.Condition;
 import org.wso2.carbon.apimgt.core.models.policy.Pipeline;
 import org.wso2.carbon.apimgt.core.models.policy.PolicyConstants;
 
-import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -66,13 +64,12 @@ public class APIThrottlePolicyTemplateBuilder extends ThrottlePolicyTemplateBuil
         }
         //get velocity template for API policy pipeline and generate the template
         Map<String, String> policyArray = new HashMap<String, String>();
-        StringWriter writer;
         VelocityContext context;
-        VelocityEngine velocityengine = initVelocityEngine();
-        Template template = velocityengine.getTemplate(getTemplatePathForAPI());
         //Generate template for pipeline conditions if pipelines not null
         if (apiPolicy.getPipelines() != null) {
-            for (Pipeline pipeline : apiPolicy.getPipelines()) {
+            List<Pipeline> pipelines = apiPolicy.getPipelines();
+            List<VelocityContext> contexts = new ArrayList<>(pipelines.size());
+            for (Pipeline pipeline : pipelines) {
                 //set values for velocity context
                 context = new VelocityContext();
                 setConstantContext(context);
@@ -83,15 +80,18 @@ public class APIThrottlePolicyTemplateBuilder extends ThrottlePolicyTemplateBuil
                         CONDITION + UNDERSCORE + pipeline.getId());
                 String conditionString = getPolicyCondition(pipeline.getConditions());
                 context.put(CONDITION, AND + conditionString);
-                writer = new StringWriter();
-                template.merge(context, writer);
+                contexts.add(context);
+            }
+            //all the pipelines are rendered from the same template in one batch
+            List<String> policies = VelocityTemplateCache.getInstance().render(getTemplatePathForAPI(), contexts);
+            for (int i = 0; i < pipelines.size(); i++) {
                 if (log.isDebugEnabled()) {
-                    log.debug("Generated Siddhi App : " + writer.toString());
+                    log.debug("Generated Siddhi App : " + policies.get(i));
                 }
                 String policyName =
                         PolicyConstants.POLICY_LEVEL_RESOURCE + UNDERSCORE + apiPolicy.getPolicyName() + UNDERSCORE
-                                + CONDITION + UNDERSCORE + pipeline.getId();
-                policyArray.put(policyName, writer.toString());
+                                + CONDITION + UNDERSCORE + pipelines.get(i).getId();
+                policyArray.put(policyName, policies.get(i));
             }
         }
 
@@ -112,9 +112,6 @@ public class APIThrottlePolicyTemplateBuilder extends ThrottlePolicyTemplateBuil
         //get velocity template for API policy and generate the template
         Set<String> conditionsSet = new HashSet<String>();
         List<Pipeline> pipelines = apiPolicy.getPipelines();
-        VelocityEngine velocityengine = initVelocityEngine();
-        Template template = velocityengine.getTemplate(getTemplatePathForAPIDefaultPolicy());
-        StringWriter writer;
         VelocityContext context;
         //when APIPolicy contains pipelines, get template as a string
         if (pipelines != null) {
@@ -139,12 +136,11 @@ public class APIThrottlePolicyTemplateBuilder extends ThrottlePolicyTemplateBuil
         } else {
             context.put(CONDITION, EMPTY_STRING);
         }
-        writer = new StringWriter();
-        template.merge(context, writer);
+        String policy = VelocityTemplateCache.getInstance().render(getTemplatePathForAPIDefaultPolicy(), context);
         if (log.isDebugEnabled()) {
-            log.debug("Generated Siddhi App : " + writer.toString());
+            log.debug("Generated Siddhi App : " + policy);
         }
-        return writer.toString();
+        return policy;
     }
 
     /**
@@ -21,13 +21,9 @@ package org.wso2.carbon.apimgt.core.template;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
 import org.wso2.carbon.apimgt.core.models.policy.ApplicationPolicy;
 
-import java.io.StringWriter;
-
 /**
  * Siddhi query builder for application throttle policy.
  */
@@ -54,19 +50,16 @@ public class ApplicationThrottlePolicyTemplateBuilder extends ThrottlePolicyTemp
             log.debug("Generating Siddhi app for appLevel :" + applicationPolicy.toString());
         }
         //get velocity template for Application policy and generate the template
-        StringWriter writer = new StringWriter();
-        VelocityEngine velocityengine = initVelocityEngine();
-        Template template = velocityengine.getTemplate(getTemplatePathForApplication());
         VelocityContext context = new VelocityContext();
         setConstantContext(context);
         //set values for velocity context
         context.put(POLICY, applicationPolicy);
         context.put(QUOTA_POLICY, applicationPolicy.getDefaultQuotaPolicy());
-        template.merge(context, writer);
+        String policy = VelocityTemplateCache.getInstance().render(getTemplatePathForApplication(), context);
         if (log.isDebugEnabled()) {
-            log.debug("Generated Siddhi app for policy : " + writer.toString());
+            log.debug("Generated Siddhi app for policy : " + policy);
         }
-        return writer.toString();
+        return policy;
     }
 
     /**
@@ -20,13 +20,9 @@ package org.wso2.carbon.apimgt.core.template;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
 import org.wso2.carbon.apimgt.core.models.policy.CustomPolicy;
 
-import java.io.StringWriter;
-
 /**
  * Siddhi query template builder for Custom throttle policy.
  */
@@ -53,18 +49,15 @@ public class CustomThrottlePolicyTemplateBuilder extends ThrottlePolicyTemplateB
         }
 
         //get velocity template for custom throttle policy and generate the template
-        StringWriter writer = new StringWriter();
         VelocityContext context = new VelocityContext();
-        VelocityEngine velocityengine = initVelocityEngine();
-        Template template = velocityengine.getTemplate(getTemplatePathForGlobal());
         setConstantContext(context);
         //set values for velocity context
         context.put(POLICY, customPolicy);
-        template.merge(context, writer);
+        String policy = VelocityTemplateCache.getInstance().render(getTemplatePathForGlobal(), context);
         if (log.isDebugEnabled()) {
-            log.debug("Generated Siddhi app for policy : " + writer.toString());
+            log.debug("Generated Siddhi app for policy : " + policy);
         }
-        return writer.toString();
+        return policy;
     }
 
     /**
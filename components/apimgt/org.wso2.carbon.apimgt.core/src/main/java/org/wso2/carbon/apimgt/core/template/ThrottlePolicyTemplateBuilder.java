@@ -85,7 +85,9 @@ abstract class ThrottlePolicyTemplateBuilder {
      * Init velocity engine.
      *
      * @return Velocity engine for each throttle template
+     * @deprecated each engine parses the templates again, use {@link VelocityTemplateCache} instead
      */
+    @Deprecated
     public VelocityEngine initVelocityEngine() {
         VelocityEngine velocityengine = new VelocityEngine();
         velocityengine.setProperty(RuntimeConstants.RESOURCE_LOADER, CLASS_PATH);
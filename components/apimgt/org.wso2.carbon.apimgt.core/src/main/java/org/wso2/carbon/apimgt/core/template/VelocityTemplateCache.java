@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.template;
+
+import org.apache.velocity.Template;
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.exception.ParseErrorException;
+import org.apache.velocity.exception.ResourceNotFoundException;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.log.CommonsLogLogChute;
+import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Velocity engine shared by the gateway configuration and throttle policy generators, which parses each template
+ * once. Parsed templates are thread safe, so they are merged concurrently with different contexts.
+ * Singleton: Bill Pugh implementation has been used.
+ */
+public final class VelocityTemplateCache {
+
+    private static final Logger log = LoggerFactory.getLogger(VelocityTemplateCache.class);
+    private static final String CLASS_PATH = "classpath";
+    private static final String CLASS_PATH_RESOURCE_LOADER = "classpath.resource.loader.class";
+
+    private final VelocityEngine velocityEngine;
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    private VelocityTemplateCache() {
+        velocityEngine = new VelocityEngine();
+        velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADER, CLASS_PATH);
+        velocityEngine.setProperty(CLASS_PATH_RESOURCE_LOADER, ClasspathResourceLoader.class.getName());
+        velocityEngine.setProperty(VelocityEngine.RUNTIME_LOG_LOGSYSTEM, new CommonsLogLogChute());
+        velocityEngine.init();
+    }
+
+    /**
+     * A static class which holds the instance of VelocityTemplateCache class.
+     */
+    private static class SingletonHelper {
+        private static final VelocityTemplateCache instance = new VelocityTemplateCache();
+    }
+
+    /**
+     * To get the instance of VelocityTemplateCache class.
+     *
+     * @return Object of class VelocityTemplateCache
+     */
+    public static VelocityTemplateCache getInstance() {
+        return SingletonHelper.instance;
+    }
+
+    /**
+     * Get a template, parsing it from the classpath on first use
+     *
+     * @param templatePath classpath location of the template
+     * @return parsed template
+     * @throws APITemplateException if the template is not found or has syntax errors
+     */
+    public Template getTemplate(String templatePath) throws APITemplateException {
+        Template template = templates.get(templatePath);
+        if (template != null) {
+            return template;
+        }
+        try {
+            template = velocityEngine.getTemplate(templatePath);
+        } catch (ResourceNotFoundException e) {
+            log.error("Template " + templatePath + " not Found", e);
+            throw new APITemplateException("Template " + templatePath + " not Found",
+                    ExceptionCodes.TEMPLATE_EXCEPTION);
+        } catch (ParseErrorException e) {
+            log.error("Syntax error in " + templatePath, e);
+            throw new APITemplateException("Syntax error in " + templatePath, ExceptionCodes.TEMPLATE_EXCEPTION);
+        }
+        Template parsedTemplate = templates.putIfAbsent(templatePath, template);
+        return parsedTemplate != null ? parsedTemplate : template;
+    }
+
+    /**
+     * Render a template with the given context
+     *
+     * @param templatePath classpath location of the template
+     * @param context      values of the template variables
+     * @return rendered template
+     * @throws APITemplateException if the template is not found or has syntax errors
+     */
+    public String render(String templatePath, VelocityContext context) throws APITemplateException {
+        StringWriter writer = new StringWriter();
+        getTemplate(templatePath).merge(context, writer);
+        return writer.toString();
+    }
+
+    /**
+     * Render a template once for each of the given contexts, such as for many APIs or policies at once
+     *
+     * @param templatePath classpath location of the template
+     * @param contexts     values of the template variables of each rendering
+     * @return rendered templates, in the order of the contexts
+     * @throws APITemplateException if the template is not found or has syntax errors
+     */
+    public List<String> render(String templatePath, List<VelocityContext> contexts) throws APITemplateException {
+        Template template = getTemplate(templatePath);
+        List<String> renderedTemplates = new ArrayList<>(contexts.size());
+        for (VelocityContext context : contexts) {
+            StringWriter writer = new StringWriter();
+            template.merge(context, writer);
+            renderedTemplates.add(writer.toString());
+        }
+        return renderedTemplates;
+    }
+
+    /**
+     * Discard the parsed templates, so that they are parsed again on next use
+     */
+    public void clear() {
+        templates.clear();
+    }
+}
@@ -37,6 +37,9 @@ import org.wso2.carbon.apimgt.core.models.policy.APIPolicy;
 import org.wso2.carbon.apimgt.core.models.policy.Policy;
 import org.wso2.carbon.lcm.core.impl.LifecycleState;
 
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.time.Duration;
 import java.time.temporal.Temporal;
 import java.util.ArrayList;
@@ -48,6 +51,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.regex.Pattern;
 
 /**
  * Class for all utility methods
@@ -55,6 +59,7 @@ import java.util.StringTokenizer;
 public class APIUtils {
 
     private static final Logger log = LoggerFactory.getLogger(APIUtils.class);
+    private static final Pattern IPV4_LITERAL_PATTERN = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
 
     /**
      * Checks if debug log is enabled and logs the message
@@ -555,4 +560,31 @@ public class APIUtils {
         }
         return ipAddressinLong;
     }
+
+    /**
+     * Parse an IPv4 or IPv6 address literal without resolving host names
+     *
+     * @param ip address literal
+     * @return the address, or null if the value is not an IPv4 or IPv6 address literal
+     */
+    public static InetAddress toIpAddress(String ip) {
+        if (ip == null || (ip.indexOf(':') < 0 && !IPV4_LITERAL_PATTERN.matcher(ip).matches())) {
+            return null;
+        }
+        try {
+            return InetAddress.getByName(ip);
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get the numeric value of an IPv4 or IPv6 address, so that the addresses of a range can be compared
+     *
+     * @param address IPv4 or IPv6 address
+     * @return numeric value of the address
+     */
+    public static BigInteger ipToBigInteger(InetAddress address) {
+        return new BigInteger(1, address.getAddress());
+    }
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.exception.BrokerException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.jms.JMSException;
+
+/**
+ * Publishes topic messages from a background thread. Messages enqueued within a short time window are coalesced
+ * and the messages of each topic in the batch are published within a single JMS transaction through a
+ * {@link TopicPublisherPool}.
+ * <p>
+ * A batch which could not be published is retried up to the configured number of attempts. Messages which still
+ * could not be published are logged and counted, since their publishers have already returned.
+ */
+class AsyncTopicPublisher {
+    private static final Logger log = LoggerFactory.getLogger(AsyncTopicPublisher.class);
+
+    private final TopicPublisherPool publisherPool;
+    private final BlockingQueue<TopicMessage> queue;
+    private final long enqueueTimeoutMillis;
+    private final long batchWindowMillis;
+    private final int maxBatchSize;
+    private final int maxPublishAttempts;
+    private final long retryIntervalMillis;
+    private final AtomicLong failedMessageCount = new AtomicLong();
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    AsyncTopicPublisher(TopicPublisherPool publisherPool, int queueSize, long enqueueTimeoutMillis,
+                        long batchWindowMillis, int maxBatchSize, int maxPublishAttempts, long retryIntervalMillis) {
+        this.publisherPool = publisherPool;
+        this.queue = new LinkedBlockingQueue<>(queueSize);
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.batchWindowMillis = batchWindowMillis;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxPublishAttempts = Math.max(1, maxPublishAttempts);
+        this.retryIntervalMillis = retryIntervalMillis;
+        this.drainer = new Thread(this::drain, "BrokerTopicPublisher");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    /**
+     * Enqueue a message to be published, waiting up to the enqueue timeout for space if the queue is full. Messages
+     * are never published out of band, so that they reach the broker in the order they were accepted.
+     *
+     * @param topicName topic to publish to
+     * @param message   text message
+     * @return {@code true} if the message was accepted, {@code false} if the queue stayed full, the calling thread
+     * was interrupted or the publisher is shutting down
+     */
+    boolean offer(String topicName, String message) {
+        if (!running) {
+            return false;
+        }
+        try {
+            return queue.offer(new TopicMessage(topicName, message), enqueueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Get the number of messages which could not be published after all attempts
+     *
+     * @return number of failed messages
+     */
+    long getFailedMessageCount() {
+        return failedMessageCount.get();
+    }
+
+    /**
+     * Stop accepting messages and publish the messages that are already enqueued
+     */
+    void shutdown() {
+        running = false;
+        drainer.interrupt();
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        List<TopicMessage> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                TopicMessage first = running ? queue.take() : queue.poll();
+                if (first == null) {
+                    break;
+                }
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + batchWindowMillis;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    TopicMessage next = remaining > 0 ? queue.poll(remaining, TimeUnit.MILLISECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // shutdown requested, publish whatever has been collected and drain the rest of the queue
+                queue.drainTo(batch);
+            }
+            publishBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void publishBatch(List<TopicMessage> batch) {
+        Map<String, List<String>> messagesByTopic = new LinkedHashMap<>();
+        for (TopicMessage topicMessage : batch) {
+            messagesByTopic.computeIfAbsent(topicMessage.topicName, k -> new ArrayList<>()).add(topicMessage.message);
+        }
+
+        for (Map.Entry<String, List<String>> entry : messagesByTopic.entrySet()) {
+            publishWithRetry(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void publishWithRetry(String topicName, List<String> messages) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                publisherPool.publish(topicName, messages);
+                return;
+            } catch (JMSException | BrokerException e) {
+                if (attempt >= maxPublishAttempts) {
+                    failedMessageCount.addAndGet(messages.size());
+                    log.error("Error occurred while publishing " + messages.size() + " events to JMS topic : "
+                            + topicName + " after " + attempt + " attempts. The events are dropped", e);
+                    return;
+                }
+                log.warn("Error occurred while publishing " + messages.size() + " events to JMS topic : "
+                        + topicName + ". Retrying", e);
+                waitBeforeRetry();
+            }
+        }
+    }
+
+    private void waitBeforeRetry() {
+        if (!running) {
+            // retry immediately while shutting down
+            return;
+        }
+        try {
+            Thread.sleep(retryIntervalMillis);
+        } catch (InterruptedException e) {
+            // shutdown requested, the remaining attempts are made without waiting
+        }
+    }
+
+    /**
+     * A message waiting to be published to a topic
+     */
+    private static final class TopicMessage {
+        private final String topicName;
+        private final String message;
+
+        private TopicMessage(String topicName, String message) {
+            this.topicName = topicName;
+            this.message = message;
+        }
+    }
+}
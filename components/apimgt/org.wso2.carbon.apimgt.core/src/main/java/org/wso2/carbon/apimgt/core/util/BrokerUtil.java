@@ -22,18 +22,15 @@ import com.google.gson.Gson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.api.Broker;
+import org.wso2.carbon.apimgt.core.configuration.models.BrokerConfigurations;
 import org.wso2.carbon.apimgt.core.exception.BrokerException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.exception.GatewayException;
+import org.wso2.carbon.apimgt.core.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.core.models.events.GatewayEvent;
 
+import java.util.Collections;
 import javax.jms.JMSException;
-import javax.jms.Session;
-import javax.jms.TextMessage;
-import javax.jms.Topic;
-import javax.jms.TopicConnection;
-import javax.jms.TopicPublisher;
-import javax.jms.TopicSession;
 
 /**
  * The util class to handle broker related operations
@@ -41,6 +38,8 @@ import javax.jms.TopicSession;
 public class BrokerUtil {
     private static final Logger log = LoggerFactory.getLogger(BrokerUtil.class);
     private static Broker broker;
+    private static volatile TopicPublisherPool publisherPool;
+    private static volatile AsyncTopicPublisher asyncPublisher;
 
     /**
      * Initialize Broker Utils
@@ -48,32 +47,80 @@ public class BrokerUtil {
      * @param broker Broker reference
      */
     public static synchronized void initialize(Broker broker) {
+        initialize(broker, ServiceReferenceHolder.getInstance().getAPIMConfiguration().getBrokerConfigurations());
+    }
+
+    /**
+     * Initialize Broker Utils with the given broker configurations
+     *
+     * @param broker        Broker reference
+     * @param configuration Broker configurations
+     */
+    public static synchronized void initialize(Broker broker, BrokerConfigurations configuration) {
         if (BrokerUtil.broker != null) {
             return;
         }
         BrokerUtil.broker = broker;
+        publisherPool = new TopicPublisherPool(broker, configuration.getMaxIdlePublishersPerTopic());
+        if (configuration.isAsyncPublishingEnabled()) {
+            asyncPublisher = new AsyncTopicPublisher(publisherPool, configuration.getAsyncQueueSize(),
+                    configuration.getAsyncEnqueueTimeoutMillis(), configuration.getBatchWindowMillis(),
+                    configuration.getMaxBatchSize(), configuration.getMaxAsyncPublishAttempts(),
+                    configuration.getAsyncRetryIntervalMillis());
+        }
+    }
+
+    /**
+     * Publish any pending events and close the broker connection
+     */
+    public static synchronized void shutdown() {
+        if (asyncPublisher != null) {
+            asyncPublisher.shutdown();
+            asyncPublisher = null;
+        }
+        if (publisherPool != null) {
+            publisherPool.close();
+            publisherPool = null;
+        }
+        broker = null;
     }
 
     /**
-     * Publish to broker topic
+     * Get the number of asynchronously published events which could not be published after all attempts
+     *
+     * @return number of failed events
+     */
+    public static long getFailedAsyncEventCount() {
+        AsyncTopicPublisher asyncTopicPublisher = asyncPublisher;
+        return asyncTopicPublisher != null ? asyncTopicPublisher.getFailedMessageCount() : 0;
+    }
+
+    /**
+     * Publish to broker topic. When asynchronous publishing is enabled, the event is only enqueued and this method
+     * returns once it is accepted, so a failure to publish it is not reported to the caller. Such an event is retried
+     * up to the configured number of attempts, after which it is logged and counted in
+     * {@link #getFailedAsyncEventCount()}. If the queue stays full for the configured enqueue timeout the event is
+     * rejected rather than published ahead of the queued events.
      *
      * @param topicName     publishing topic name
      * @param gatewayEvent    topic message data object
+     * @throws GatewayException If the event could not be published synchronously or enqueued
      */
     public static void publishToTopic(String topicName, GatewayEvent gatewayEvent) throws GatewayException {
-        TopicSession topicSession = null;
-        Topic topic = null;
-        TopicPublisher topicPublisher = null;
-        TopicConnection topicConnection = null;
-        try {
-            topicConnection = getTopicConnection();
-            topicConnection.start();
-            topicSession = topicConnection.createTopicSession(false, Session.AUTO_ACKNOWLEDGE);
+        String message = new Gson().toJson(gatewayEvent);
+        AsyncTopicPublisher asyncTopicPublisher = asyncPublisher;
+        if (asyncTopicPublisher != null) {
+            if (asyncTopicPublisher.offer(topicName, message)) {
+                return;
+            }
+            String errorMessage = "Asynchronous publishing queue is full. Rejected " + gatewayEvent.getEventType() +
+                    " event to topic : " + topicName;
+            log.error(errorMessage);
+            throw new GatewayException(errorMessage, ExceptionCodes.GATEWAY_EXCEPTION);
+        }
 
-            topic = topicSession.createTopic(topicName);
-            topicPublisher = topicSession.createPublisher(topic);
-            TextMessage textMessage = topicSession.createTextMessage(new Gson().toJson(gatewayEvent));
-            topicPublisher.publish(textMessage);
+        try {
+            getPublisherPool().publish(topicName, Collections.singletonList(message));
         } catch (JMSException e) {
             String errorMessage = "Error occurred while publishing " + gatewayEvent.getEventType() + " event to JMS " +
                     "topic :" + topicName;
@@ -83,47 +130,23 @@ public class BrokerUtil {
             String errorMessage = "Error occurred while obtaining broker topic connection for topic : " + topicName;
             log.error(errorMessage, e);
             throw new GatewayException(errorMessage, ExceptionCodes.GATEWAY_EXCEPTION);
-        } finally {
-            if (topicPublisher != null) {
-
-                try {
-                    topicPublisher.close();
-                } catch (JMSException e) {
-                    log.error("Error occurred while closing topic publisher for topic : " + topicName);
-                }
-            }
-            if (topicSession != null) {
-                try {
-                    topicSession.close();
-                } catch (JMSException e) {
-                    log.error("Error occurred while closing topic session for topic : " + topicName);
-                }
-            }
-            if (topicConnection != null) {
-                try {
-                    topicConnection.close();
-                } catch (JMSException e) {
-                    log.error("Error occurred while closing topic connection for topic : " + topicName);
-                }
-            }
         }
     }
 
     /**
-     * Retrieve a new TopicConnection from broker connection pool
+     * Retrieve the topic publisher pool backed by the broker connection
      *
-     * @return  topicConnection  new topic connection to broker
-     * @throws BrokerException  If there is a failure to init broker connection factory
-     * @throws JMSException     If there is a failure to obtain topic connection
+     * @return  publisherPool  pool of topic publishers
+     * @throws BrokerException  If the broker has not been initialized
      */
-    private static TopicConnection getTopicConnection() throws BrokerException, JMSException {
-        if (broker == null) {
+    private static TopicPublisherPool getPublisherPool() throws BrokerException {
+        TopicPublisherPool pool = publisherPool;
+        if (pool == null) {
             String message = "Error while initializing broker connection factory";
             log.error(message);
             throw new BrokerException(message, ExceptionCodes.BROKER_EXCEPTION);
         }
-        return broker.getTopicConnection();
+        return pool;
     }
 
 }
-
@@ -0,0 +1,156 @@
+/*
+ *
+ *   Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 Inc. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.core.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable table of the scopes required by the resources of a REST API, compiled once from the API definition.
+ * Resources are kept in a trie of path segments, where templated segments such as {apiId} match any segment, so that
+ * the scopes of a request can be looked up either by the path template of the matched resource or by the request
+ * path itself. Literal segments take precedence over templated segments.
+ */
+public final class ScopeRouteTable {
+
+    private static final char VERB_SEPARATOR = '_';
+
+    private final Node root;
+
+    /**
+     * @param resourceScopes scopes of the resources, keyed by the HTTP verb and the path template of the resource in
+     *                       the form VERB_/path/{param}. Multiple scopes are separated by spaces.
+     */
+    public ScopeRouteTable(Map<String, String> resourceScopes) {
+        MutableNode mutableRoot = new MutableNode();
+        for (Map.Entry<String, String> entry : resourceScopes.entrySet()) {
+            String resource = entry.getKey();
+            int separatorIndex = resource.indexOf(VERB_SEPARATOR);
+            if (separatorIndex <= 0 || entry.getValue() == null) {
+                continue;
+            }
+            String verb = resource.substring(0, separatorIndex).toUpperCase(Locale.ENGLISH);
+            MutableNode node = mutableRoot;
+            for (String segment : segmentsOf(resource.substring(separatorIndex + 1))) {
+                node = isTemplate(segment) ? node.getOrCreateWildcard() : node.getOrCreateChild(segment);
+            }
+            node.scopes.put(verb, entry.getValue());
+        }
+        this.root = mutableRoot.toNode();
+    }
+
+    /**
+     * Get the scopes required to invoke a resource
+     *
+     * @param verb HTTP verb of the request
+     * @param path path template of the matched resource or the request path, relative to the base path of the API
+     * @return space separated scopes or null if no scopes are defined for the resource
+     */
+    public String getScopes(String verb, String path) {
+        if (verb == null || path == null) {
+            return null;
+        }
+        return match(root, segmentsOf(path), 0, verb.toUpperCase(Locale.ENGLISH));
+    }
+
+    private static String match(Node node, String[] segments, int index, String verb) {
+        if (index == segments.length) {
+            return node.scopes.get(verb);
+        }
+        Node literal = node.children.get(segments[index]);
+        if (literal != null) {
+            String scopes = match(literal, segments, index + 1, verb);
+            if (scopes != null) {
+                return scopes;
+            }
+        }
+        return node.wildcard != null ? match(node.wildcard, segments, index + 1, verb) : null;
+    }
+
+    private static String[] segmentsOf(String path) {
+        int start = 0;
+        int end = path.length();
+        int queryIndex = path.indexOf('?');
+        if (queryIndex >= 0) {
+            end = queryIndex;
+        }
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        if (start == end) {
+            return new String[0];
+        }
+        return path.substring(start, end).split("/+");
+    }
+
+    private static boolean isTemplate(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    /**
+     * Immutable node of the compiled trie
+     */
+    private static final class Node {
+        private final Map<String, Node> children;
+        private final Node wildcard;
+        private final Map<String, String> scopes;
+
+        private Node(Map<String, Node> children, Node wildcard, Map<String, String> scopes) {
+            this.children = children;
+            this.wildcard = wildcard;
+            this.scopes = scopes;
+        }
+    }
+
+    /**
+     * Node of the trie while the table is being compiled
+     */
+    private static final class MutableNode {
+        private final Map<String, MutableNode> children = new HashMap<>();
+        private final Map<String, String> scopes = new HashMap<>();
+        private MutableNode wildcard;
+
+        private MutableNode getOrCreateChild(String segment) {
+            return children.computeIfAbsent(segment, key -> new MutableNode());
+        }
+
+        private MutableNode getOrCreateWildcard() {
+            if (wildcard == null) {
+                wildcard = new MutableNode();
+            }
+            return wildcard;
+        }
+
+        private Node toNode() {
+            Map<String, Node> compiledChildren = new HashMap<>();
+            for (Map.Entry<String, MutableNode> child : children.entrySet()) {
+                compiledChildren.put(child.getKey(), child.getValue().toNode());
+            }
+            return new Node(Collections.unmodifiableMap(compiledChildren), wildcard != null ? wildcard.toNode() : null,
+                    Collections.unmodifiableMap(new HashMap<>(scopes)));
+        }
+    }
+}
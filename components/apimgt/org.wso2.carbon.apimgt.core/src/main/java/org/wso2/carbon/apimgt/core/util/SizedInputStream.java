@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.core.util;
+
+import java.io.InputStream;
+
+/**
+ * Stream of a resource whose size is known before it is read, such as a resource streamed from the database. The
+ * size allows a byte range of the resource to be served without reading the whole resource.
+ */
+public abstract class SizedInputStream extends InputStream {
+
+    /**
+     * Get the size of the resource
+     *
+     * @return size of the resource in bytes
+     */
+    public abstract long getSize();
+}
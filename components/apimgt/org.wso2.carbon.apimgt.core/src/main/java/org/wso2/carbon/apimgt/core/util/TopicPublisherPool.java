@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.api.Broker;
+import org.wso2.carbon.apimgt.core.exception.BrokerException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.jms.JMSException;
+import javax.jms.Session;
+import javax.jms.TopicConnection;
+import javax.jms.TopicPublisher;
+import javax.jms.TopicSession;
+
+/**
+ * Keeps a single long lived {@link TopicConnection} to the broker and a pool of idle sessions and publishers per
+ * topic, so that publishing an event does not open and tear down a broker connection. A broken connection is
+ * detected either through the connection's exception listener or a failed publish, in which case the connection and
+ * all pooled publishers are discarded and the publish is retried once on a fresh connection. A failure only discards
+ * the connection it happened on, so that a connection which has already been re-established is kept.
+ */
+class TopicPublisherPool {
+    private static final Logger log = LoggerFactory.getLogger(TopicPublisherPool.class);
+
+    private final Broker broker;
+    private final int maxIdlePublishersPerTopic;
+    private final Map<String, BlockingQueue<PooledPublisher>> idlePublishers = new ConcurrentHashMap<>();
+    private final Object connectionLock = new Object();
+    private volatile TopicConnection topicConnection;
+    private final AtomicLong connectionGeneration = new AtomicLong();
+
+    TopicPublisherPool(Broker broker, int maxIdlePublishersPerTopic) {
+        this.broker = broker;
+        this.maxIdlePublishersPerTopic = Math.max(1, maxIdlePublishersPerTopic);
+    }
+
+    /**
+     * Publish the given messages to a topic. When more than one message is given, all of them are published within
+     * a single JMS transaction.
+     *
+     * @param topicName topic to publish to
+     * @param messages  text messages to be published
+     * @throws JMSException    If publishing failed even after reconnecting to the broker
+     * @throws BrokerException If a connection to the broker could not be obtained
+     */
+    void publish(String topicName, List<String> messages) throws JMSException, BrokerException {
+        try {
+            doPublish(topicName, messages);
+        } catch (JMSException e) {
+            log.warn("Error while publishing to topic : " + topicName + ". Reconnecting to the broker", e);
+            doPublish(topicName, messages);
+        }
+    }
+
+    /**
+     * Close the broker connection along with all pooled sessions and publishers
+     */
+    void close() {
+        invalidateConnection(connectionGeneration.get());
+    }
+
+    private void doPublish(String topicName, List<String> messages) throws JMSException, BrokerException {
+        boolean transacted = messages.size() > 1;
+        PooledPublisher pooledPublisher = borrow(topicName, transacted);
+        try {
+            for (String message : messages) {
+                pooledPublisher.publisher.publish(pooledPublisher.session.createTextMessage(message));
+            }
+            if (transacted) {
+                pooledPublisher.session.commit();
+            }
+        } catch (JMSException e) {
+            pooledPublisher.close();
+            invalidateConnection(pooledPublisher.generation);
+            throw e;
+        }
+        release(topicName, transacted, pooledPublisher);
+    }
+
+    private PooledPublisher borrow(String topicName, boolean transacted) throws JMSException, BrokerException {
+        // read before the connection, so that a concurrent reconnect can only make the generation stale, in which
+        // case the publisher is not pooled and a failure on it does not discard the newer connection
+        long generation = connectionGeneration.get();
+        TopicConnection connection = getConnection();
+        BlockingQueue<PooledPublisher> pool = idlePublishers.get(getPoolKey(topicName, transacted));
+        if (pool != null) {
+            PooledPublisher pooledPublisher;
+            while ((pooledPublisher = pool.poll()) != null) {
+                if (pooledPublisher.generation == generation) {
+                    return pooledPublisher;
+                }
+                pooledPublisher.close();
+            }
+        }
+
+        TopicSession session;
+        try {
+            session = connection.createTopicSession(transacted,
+                    transacted ? Session.SESSION_TRANSACTED : Session.AUTO_ACKNOWLEDGE);
+        } catch (JMSException e) {
+            invalidateConnection(generation);
+            throw e;
+        }
+        try {
+            TopicPublisher publisher = session.createPublisher(session.createTopic(topicName));
+            return new PooledPublisher(session, publisher, generation);
+        } catch (JMSException e) {
+            session.close();
+            invalidateConnection(generation);
+            throw e;
+        }
+    }
+
+    private void release(String topicName, boolean transacted, PooledPublisher pooledPublisher) {
+        BlockingQueue<PooledPublisher> pool = idlePublishers.computeIfAbsent(getPoolKey(topicName, transacted),
+                k -> new ArrayBlockingQueue<>(maxIdlePublishersPerTopic));
+        if (pooledPublisher.generation != connectionGeneration.get() || !pool.offer(pooledPublisher)) {
+            pooledPublisher.close();
+        }
+    }
+
+    private TopicConnection getConnection() throws JMSException, BrokerException {
+        TopicConnection connection = topicConnection;
+        if (connection != null) {
+            return connection;
+        }
+
+        synchronized (connectionLock) {
+            if (topicConnection == null) {
+                TopicConnection newConnection = broker.getTopicConnection();
+                long generation = connectionGeneration.get();
+                newConnection.setExceptionListener(e -> {
+                    log.warn("Broker connection failure detected. Connection will be re-established", e);
+                    invalidateConnection(generation);
+                });
+                newConnection.start();
+                topicConnection = newConnection;
+            }
+            return topicConnection;
+        }
+    }
+
+    private void invalidateConnection(long generation) {
+        TopicConnection connection;
+        synchronized (connectionLock) {
+            if (generation != connectionGeneration.get()) {
+                // connection has already been re-established
+                return;
+            }
+            connection = topicConnection;
+            topicConnection = null;
+            connectionGeneration.incrementAndGet();
+        }
+
+        for (BlockingQueue<PooledPublisher> pool : idlePublishers.values()) {
+            PooledPublisher pooledPublisher;
+            while ((pooledPublisher = pool.poll()) != null) {
+                pooledPublisher.close();
+            }
+        }
+
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (JMSException e) {
+                log.error("Error occurred while closing broker topic connection", e);
+            }
+        }
+    }
+
+    private static String getPoolKey(String topicName, boolean transacted) {
+        return transacted ? "transacted:" + topicName : topicName;
+    }
+
+    /**
+     * A session and publisher pair bound to a topic
+     */
+    private static final class PooledPublisher {
+        private final TopicSession session;
+        private final TopicPublisher publisher;
+        private final long generation;
+
+        private PooledPublisher(TopicSession session, TopicPublisher publisher, long generation) {
+            this.session = session;
+            this.publisher = publisher;
+            this.generation = generation;
+        }
+
+        private void close() {
+            try {
+                publisher.close();
+            } catch (JMSException e) {
+                log.error("Error occurred while closing topic publisher", e);
+            }
+            try {
+                session.close();
+            } catch (JMSException e) {
+                log.error("Error occurred while closing topic session", e);
+            }
+        }
+    }
+}
@@ -46,6 +46,7 @@ import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.core.util.APIUtils;
 import org.wso2.carbon.apimgt.core.util.ETagUtils;
 import org.wso2.carbon.apimgt.core.util.EndPointComparator;
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
@@ -407,6 +408,49 @@ public class ApiDAOImplIT extends DAOIntegrationTestBase {
         Assert.assertTrue(api.equals(apiFromDB), TestUtil.printDiff(api, apiFromDB));
     }
 
+    @Test
+    public void testAddGetAPIs() throws Exception {
+        ApiDAO apiDAO = DAOFactory.getApiDAO();
+        API api = SampleTestObjectCreator.createUniqueAPI().build();
+        API otherApi = SampleTestObjectCreator.createUniqueAPI().build();
+        apiDAO.addAPIs(Arrays.asList(api, otherApi));
+
+        API apiFromDB = apiDAO.getAPI(api.getId());
+        Assert.assertEquals(apiFromDB, api, TestUtil.printDiff(apiFromDB, api));
+        API otherApiFromDB = apiDAO.getAPI(otherApi.getId());
+        Assert.assertEquals(otherApiFromDB, otherApi, TestUtil.printDiff(otherApiFromDB, otherApi));
+    }
+
+    @Test
+    public void testAddAPIsWithDuplicateAPI() throws Exception {
+        ApiDAO apiDAO = DAOFactory.getApiDAO();
+        API api = SampleTestObjectCreator.createUniqueAPI().build();
+        apiDAO.addAPI(api);
+
+        API newApi = SampleTestObjectCreator.createUniqueAPI().build();
+        API.APIBuilder duplicateAPIBuilder = SampleTestObjectCreator.createUniqueAPI();
+        duplicateAPIBuilder.provider(api.getProvider());
+        duplicateAPIBuilder.name(api.getName());
+        duplicateAPIBuilder.version(api.getVersion());
+        API duplicateAPI = duplicateAPIBuilder.build();
+        try {
+            apiDAO.addAPIs(Arrays.asList(newApi, duplicateAPI));
+            Assert.fail("Exception not thrown for adding duplicate API");
+        } catch (APIMgtDAOException e) {
+            // Just catch the exception so that we can continue execution
+        }
+
+        // none of the APIs are added, since they are added in a single transaction
+        for (API notAddedAPI : Arrays.asList(newApi, duplicateAPI)) {
+            try {
+                apiDAO.getAPI(notAddedAPI.getId());
+                Assert.fail("API was added although adding another API of the same transaction failed");
+            } catch (APIMgtDAOException e) {
+                Assert.assertEquals(e.getErrorHandler(), ExceptionCodes.API_NOT_FOUND);
+            }
+        }
+    }
+
     @Test
     public void testAddDuplicateProviderNameVersionAPI() throws Exception {
         ApiDAO apiDAO = DAOFactory.getApiDAO();
@@ -507,6 +551,51 @@ public class ApiDAOImplIT extends DAOIntegrationTestBase {
         Assert.assertEquals(apiFromDB, expectedAPI);
     }
 
+    @Test
+    public void testGetAPISummaries() throws Exception {
+        ApiDAO apiDAO = DAOFactory.getApiDAO();
+        testAddGetEndpoint();
+        API api1 = SampleTestObjectCreator.createDefaultAPI().build();
+        apiDAO.addAPI(api1);
+        API api2 = SampleTestObjectCreator.createAlternativeAPI().build();
+        apiDAO.addAPI(api2);
+
+        List<String> apiIDs = Arrays.asList(api2.getId(), UUID.randomUUID().toString(), api1.getId());
+        Set<String> roles = Collections.singleton(SampleTestObjectCreator.DEVELOPER_ROLE_ID);
+        List<API> apiList = apiDAO.getAPISummaries(apiIDs, roles, "john");
+
+        // summaries are returned in the order of the given IDs, skipping the IDs which do not exist
+        Assert.assertEquals(apiList, Arrays.asList(SampleTestObjectCreator.copyAPISummary(api2),
+                SampleTestObjectCreator.copyAPISummary(api1)));
+        Assert.assertTrue(apiDAO.getAPISummaries(new ArrayList<>(), roles, "john").isEmpty());
+
+        // APIs which the user cannot read are skipped, unless the user is their provider
+        Assert.assertTrue(apiDAO.getAPISummaries(apiIDs, Collections.singleton("subscriber"), "john").isEmpty());
+        Assert.assertTrue(apiDAO.getAPISummaries(apiIDs, Collections.emptySet(), "john").isEmpty());
+        Assert.assertEquals(apiDAO.getAPISummaries(apiIDs, Collections.emptySet(), api1.getProvider()).size(), 2);
+    }
+
+    @Test
+    public void testGetAllAPIs() throws Exception {
+        ApiDAO apiDAO = DAOFactory.getApiDAO();
+        Assert.assertTrue(apiDAO.getAllAPIs().isEmpty());
+
+        testAddGetEndpoint();
+        API api1 = SampleTestObjectCreator.createDefaultAPI().build();
+        apiDAO.addAPI(api1);
+        API api2 = SampleTestObjectCreator.createAlternativeAPI().build();
+        apiDAO.addAPI(api2);
+
+        List<API> apiList = apiDAO.getAllAPIs();
+        Assert.assertEquals(apiList.size(), 2);
+        for (API api : apiList) {
+            API expectedAPI = api.getId().equals(api1.getId()) ? api1 : api2;
+            Assert.assertEquals(api.getTags(), expectedAPI.getTags());
+            Assert.assertEquals(api.getPermissionMap(), expectedAPI.getPermissionMap());
+            Assert.assertEquals(api.getUriTemplates().keySet(), expectedAPI.getUriTemplates().keySet());
+        }
+    }
+
     @Test (description = "Tests getting the APIs when the user has no roles assigned")
     public void testGetAPIs() throws Exception {
         ApiDAO apiDAO = DAOFactory.getApiDAO();
@@ -1145,6 +1234,78 @@ public class ApiDAOImplIT extends DAOIntegrationTestBase {
         Assert.assertTrue(apiList.size() > 0);
     }
 
+    @Test(description = "Resources are read with the resource category and API type IDs bound directly")
+    public void testResourceReadsWithoutLookupQueries() throws Exception {
+        ApiDAO apiDAO = DAOFactory.getApiDAO();
+        testAddGetEndpoint();
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        apiDAO.addAPI(api);
+        apiDAO.updateImage(api.getId(), SampleTestObjectCreator.createDefaultThumbnailImage(), "image/jpg", ADMIN);
+
+        QueryCountingDataSource countingDataSource = new QueryCountingDataSource(dataSource);
+        DAOUtil.clearDataSource();
+        DAOUtil.initialize(countingDataSource);
+        try {
+            Assert.assertEquals(apiDAO.getApiSwaggerDefinition(api.getId()), api.getApiDefinition());
+            Assert.assertEquals(countingDataSource.getStatementCount(), 1);
+
+            countingDataSource.reset();
+            try (InputStream image = apiDAO.getImage(api.getId())) {
+                Assert.assertNotNull(image);
+            }
+            Assert.assertEquals(countingDataSource.getStatementCount(), 1);
+        } finally {
+            DAOUtil.clearDataSource();
+            DAOUtil.initialize(dataSource);
+        }
+    }
+
+    @Test(description = "Attribute search validates the attributes without reading the database metadata")
+    public void testAttributeSearchWithoutMetaDataLookups() throws Exception {
+        ApiDAO apiDAO = DAOFactory.getApiDAO();
+        testAddGetEndpoint();
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        apiDAO.addAPI(api);
+
+        QueryCountingDataSource countingDataSource = new QueryCountingDataSource(dataSource);
+        DAOUtil.clearDataSource();
+        DAOUtil.initialize(countingDataSource);
+        try {
+            for (int i = 0; i < 2; i++) {
+                Map<String, String> attributeMap = new HashMap<>();
+                attributeMap.put("name", api.getName());
+                List<API> apiList = apiDAO.attributeSearchAPIs(new HashSet<>(), api.getProvider(), attributeMap,
+                        0, 2);
+                Assert.assertEquals(apiList.size(), 1);
+
+                attributeMap = new HashMap<>();
+                attributeMap.put("tags", "climate");
+                apiDAO.searchAPIsByAttributeInStore(Collections.singletonList(ADMIN), attributeMap, 0, 10);
+            }
+            Assert.assertEquals(countingDataSource.getMetaDataCount(), 0);
+
+            countingDataSource.reset();
+            Map<String, String> attributeMap = new HashMap<>();
+            attributeMap.put("unknown", "a");
+            try {
+                apiDAO.attributeSearchAPIs(new HashSet<>(), api.getProvider(), attributeMap, 0, 2);
+                Assert.fail("Exception was expected, but wasn't thrown");
+            } catch (APIMgtDAOException e) {
+                Assert.assertEquals(e.getErrorHandler(), ExceptionCodes.API_ATTRIBUTE_NOT_FOUND);
+            }
+            try {
+                apiDAO.searchAPIsByAttributeInStore(Collections.singletonList(ADMIN), attributeMap, 0, 10);
+                Assert.fail("Exception was expected, but wasn't thrown");
+            } catch (APIMgtDAOException e) {
+                Assert.assertEquals(e.getErrorHandler(), ExceptionCodes.API_ATTRIBUTE_NOT_FOUND);
+            }
+            Assert.assertEquals(countingDataSource.getStatementCount(), 0);
+        } finally {
+            DAOUtil.clearDataSource();
+            DAOUtil.initialize(dataSource);
+        }
+    }
+
     @Test(description = "Get image from API")
     public void testGetImage() throws Exception {
         ApiDAO apiDAO = DAOFactory.getApiDAO();
@@ -1154,6 +1315,13 @@ public class ApiDAOImplIT extends DAOIntegrationTestBase {
         apiDAO.updateImage(api.getId(), SampleTestObjectCreator.createDefaultThumbnailImage(), "image/jpg", ADMIN);
         InputStream image = apiDAO.getImage(api.getId());
         Assert.assertNotNull(image);
+        byte[] expectedImage = IOUtils.toByteArray(SampleTestObjectCreator.createDefaultThumbnailImage());
+        // the size is known before the image is read, and the image is streamed from the database when read
+        Assert.assertEquals(((SizedInputStream) image).getSize(), expectedImage.length);
+        try (InputStream imageStream = image) {
+            Assert.assertEquals(IOUtils.toByteArray(imageStream), expectedImage);
+        }
+        Assert.assertNull(apiDAO.getImage(UUID.randomUUID().toString()));
     }
 
     @Test
@@ -1191,6 +1359,45 @@ public class ApiDAOImplIT extends DAOIntegrationTestBase {
         Assert.assertEquals(apiFromDB, expectedAPI, TestUtil.printDiff(apiFromDB, expectedAPI));
     }
 
+    @Test
+    public void testUpdateAPIWritesOnlyChangedRows() throws Exception {
+        ApiDAO apiDAO = DAOFactory.getApiDAO();
+        API.APIBuilder builder = SampleTestObjectCreator.createDefaultAPI();
+        API api = builder.build();
+        testAddGetEndpoint();
+        apiDAO.addAPI(api);
+
+        QueryCountingDataSource countingDataSource = new QueryCountingDataSource(dataSource);
+        DAOUtil.clearDataSource();
+        DAOUtil.initialize(countingDataSource);
+        try {
+            API substituteAPI = builder.description("Get Weather Info Updated").build();
+            apiDAO.updateAPI(api.getId(), substituteAPI);
+            int unchangedChildQueryCount = countingDataSource.getStatementCount();
+            // 1 query updating the API row and 1 query reading each child table
+            Assert.assertEquals(unchangedChildQueryCount, 11);
+
+            countingDataSource.reset();
+            substituteAPI = builder.transport(Collections.singleton("https")).build();
+            apiDAO.updateAPI(api.getId(), substituteAPI);
+            // 1 batch deleting the removed transport
+            Assert.assertEquals(countingDataSource.getStatementCount(), unchangedChildQueryCount + 1);
+
+            countingDataSource.reset();
+            substituteAPI = builder.uriTemplates(new HashMap<>()).build();
+            apiDAO.updateAPI(api.getId(), substituteAPI);
+            // 1 batch deleting the removed operation
+            Assert.assertEquals(countingDataSource.getStatementCount(), unchangedChildQueryCount + 1);
+        } finally {
+            DAOUtil.clearDataSource();
+            DAOUtil.initialize(dataSource);
+        }
+
+        API apiFromDB = apiDAO.getAPI(api.getId());
+        API expectedAPI = SampleTestObjectCreator.copyAPIIgnoringNonEditableFields(api, builder.build());
+        Assert.assertEquals(apiFromDB, expectedAPI, TestUtil.printDiff(apiFromDB, expectedAPI));
+    }
+
     @Test
     public void testFingerprintAfterUpdatingAPI() throws Exception {
         ApiDAO apiDAO = DAOFactory.getApiDAO();
@@ -1415,6 +1622,81 @@ public class ApiDAOImplIT extends DAOIntegrationTestBase {
         Assert.assertFalse(TestUtil.testAPIEqualsLazy(apiListPrivate.get(0), apiWithPublicLabel));
     }
 
+    @Test
+    public void testGetAPIsQueryCountIsIndependentOfApiCount() throws Exception {
+        LabelDAO labelDAO = DAOFactory.getLabelDAO();
+        Label label = SampleTestObjectCreator.createLabel("public").build();
+        labelDAO.addLabels(Collections.singletonList(label));
+
+        ApiDAO apiDAO = DAOFactory.getApiDAO();
+        Set<String> labelNames = Collections.singleton(label.getName());
+        testAddGetEndpoint();
+        API api = SampleTestObjectCreator.createDefaultAPI().labels(labelNames).build();
+        apiDAO.addAPI(api);
+        apiDAO.addAPI(SampleTestObjectCreator.createAlternativeAPI().labels(labelNames).build());
+        for (int i = 0; i < 5; i++) {
+            apiDAO.addAPI(SampleTestObjectCreator.createUniqueAPI().labels(labelNames).build());
+        }
+
+        QueryCountingDataSource countingDataSource = new QueryCountingDataSource(dataSource);
+        DAOUtil.clearDataSource();
+        DAOUtil.initialize(countingDataSource);
+        try {
+            API apiFromDB = apiDAO.getAPI(api.getId());
+            int singleApiQueryCount = countingDataSource.getStatementCount();
+            Assert.assertTrue(api.equals(apiFromDB), TestUtil.printDiff(api, apiFromDB));
+            // 1 query for the API row and 1 query per child table
+            Assert.assertEquals(singleApiQueryCount, 12);
+
+            countingDataSource.reset();
+            List<API> apisByLabel = apiDAO.getAPIsByGatewayLabel(Collections.singletonList(label.getName()));
+            Assert.assertEquals(apisByLabel.size(), 7);
+            Assert.assertEquals(countingDataSource.getStatementCount(), singleApiQueryCount);
+
+            countingDataSource.reset();
+            List<API> apisByStatus = apiDAO.getAPIsByStatus(Collections.singletonList(label.getName()),
+                    api.getLifeCycleStatus());
+            Assert.assertFalse(apisByStatus.isEmpty());
+            Assert.assertEquals(countingDataSource.getStatementCount(), singleApiQueryCount);
+        } finally {
+            DAOUtil.clearDataSource();
+            DAOUtil.initialize(dataSource);
+        }
+    }
+
+    @Test
+    public void testReadAPISummariesByGatewayLabel() throws Exception {
+        LabelDAO labelDAO = DAOFactory.getLabelDAO();
+        Label label = SampleTestObjectCreator.createLabel("public").build();
+        labelDAO.addLabels(Collections.singletonList(label));
+
+        ApiDAO apiDAO = DAOFactory.getApiDAO();
+        Set<String> labelNames = Collections.singleton(label.getName());
+        testAddGetEndpoint();
+        API api = SampleTestObjectCreator.createDefaultAPI().labels(labelNames).build();
+        apiDAO.addAPI(api);
+        API alternativeApi = SampleTestObjectCreator.createAlternativeAPI().labels(labelNames)
+                .lifeCycleStatus(APIStatus.PUBLISHED.getStatus()).build();
+        apiDAO.addAPI(alternativeApi);
+        apiDAO.addAPI(SampleTestObjectCreator.createUniqueAPI().build());
+
+        List<API> apiSummaries = new ArrayList<>();
+        apiDAO.getAPISummariesByGatewayLabel(Collections.singletonList(label.getName()), null, apiSummaries::add);
+        Assert.assertEquals(apiSummaries.size(), 2);
+
+        apiSummaries.clear();
+        apiDAO.getAPISummariesByGatewayLabel(Collections.singletonList(label.getName()), api.getLifeCycleStatus(),
+                apiSummaries::add);
+        Assert.assertEquals(apiSummaries.size(), 1);
+        API apiSummary = apiSummaries.get(0);
+        Assert.assertEquals(apiSummary.getId(), api.getId());
+        Assert.assertEquals(apiSummary.getName(), api.getName());
+        Assert.assertEquals(apiSummary.getContext(), api.getContext());
+        Assert.assertEquals(apiSummary.getVersion(), api.getVersion());
+        Assert.assertEquals(apiSummary.getLifeCycleStatus(), api.getLifeCycleStatus());
+        Assert.assertEquals(apiSummary.getSecurityScheme(), api.getSecurityScheme());
+    }
+
     @Test
     public void testAddAPIWithoutAddingLabels() throws Exception {
 
@@ -1619,6 +1901,41 @@ public class ApiDAOImplIT extends DAOIntegrationTestBase {
         Assert.assertEquals(endpointToInsert, retrievedGlobal);
     }
 
+    @Test
+    public void testUpdateAPIWithEditedInlineOperationEndpoint() throws Exception {
+        Endpoint inlineEndpoint = new Endpoint.Builder(SampleTestObjectCreator.createMockEndpoint()).id(UUID
+                .randomUUID().toString()).applicableLevel(APIMgtConstants.API_SPECIFIC_ENDPOINT).name("URI1")
+                .build();
+        Map<String, UriTemplate> uriTemplateMap = SampleTestObjectCreator.getMockUriTemplates();
+        uriTemplateMap.replaceAll((k, v) -> new UriTemplate.UriTemplateBuilder(v)
+                .endpoint(Collections.singletonMap(APIMgtConstants.PRODUCTION_ENDPOINT, inlineEndpoint)).build());
+        ApiDAO apiDAO = DAOFactory.getApiDAO();
+        testAddGetEndpoint();
+        API.APIBuilder builder = SampleTestObjectCreator.createDefaultAPI().uriTemplates(uriTemplateMap);
+        API api = builder.build();
+        apiDAO.addAPI(api);
+
+        // the inline endpoint is edited under the same ID
+        Endpoint editedEndpoint = new Endpoint.Builder(inlineEndpoint)
+                .endpointConfig("{'type':'http','url':'http://localhost:8281'}").maxTps(500L).build();
+        Map<String, UriTemplate> editedUriTemplateMap = new HashMap<>();
+        uriTemplateMap.forEach((k, v) -> editedUriTemplateMap.put(k, new UriTemplate.UriTemplateBuilder(v)
+                .endpoint(Collections.singletonMap(APIMgtConstants.PRODUCTION_ENDPOINT, editedEndpoint)).build()));
+        apiDAO.updateAPI(api.getId(), builder.uriTemplates(editedUriTemplateMap).build());
+
+        Assert.assertEquals(apiDAO.getEndpoint(inlineEndpoint.getId()), editedEndpoint);
+
+        // an endpoint which only refers to the inline endpoint by ID does not change it
+        Endpoint endpointReference = new Endpoint.Builder().id(inlineEndpoint.getId())
+                .applicableLevel(APIMgtConstants.API_SPECIFIC_ENDPOINT).build();
+        Map<String, UriTemplate> referringUriTemplateMap = new HashMap<>();
+        uriTemplateMap.forEach((k, v) -> referringUriTemplateMap.put(k, new UriTemplate.UriTemplateBuilder(v)
+                .endpoint(Collections.singletonMap(APIMgtConstants.PRODUCTION_ENDPOINT, endpointReference)).build()));
+        apiDAO.updateAPI(api.getId(), builder.uriTemplates(referringUriTemplateMap).build());
+
+        Assert.assertEquals(apiDAO.getEndpoint(inlineEndpoint.getId()), editedEndpoint);
+    }
+
     @Test
     public void testAddGetComment() throws Exception {
         ApiDAO apiDAO = DAOFactory.getApiDAO();
@@ -1958,6 +2275,29 @@ public class ApiDAOImplIT extends DAOIntegrationTestBase {
         Assert.assertFalse(isWSDLArchiveExists);
     }
 
+    @Test
+    public void testUpdateWSDLUpdatesAPI() throws Exception {
+        ApiDAO apiDAO = DAOFactory.getApiDAO();
+        API api = SampleTestObjectCreator.createDefaultAPI().apiDefinition(SampleTestObjectCreator.apiDefinition)
+                .build();
+        testAddGetEndpoint();
+        apiDAO.addAPI(api);
+        final String wsdlUpdater = "wsdlUpdater";
+        final String archiveUpdater = "wsdlArchiveUpdater";
+
+        //the API is marked as updated along with its WSDL, so that nodes caching the WSDL of the API reload it
+        apiDAO.addOrUpdateWSDL(api.getId(), SampleTestObjectCreator.createDefaultWSDL11Content(), wsdlUpdater);
+        API updatedAPI = apiDAO.getAPI(api.getId());
+        Assert.assertEquals(updatedAPI.getUpdatedBy(), wsdlUpdater);
+        Assert.assertFalse(updatedAPI.getLastUpdatedTime().isBefore(api.getLastUpdatedTime()));
+
+        apiDAO.addOrUpdateWSDLArchive(api.getId(), SampleTestObjectCreator.createDefaultWSDL11ArchiveInputStream(),
+                archiveUpdater);
+        API archiveUpdatedAPI = apiDAO.getAPI(api.getId());
+        Assert.assertEquals(archiveUpdatedAPI.getUpdatedBy(), archiveUpdater);
+        Assert.assertFalse(archiveUpdatedAPI.getLastUpdatedTime().isBefore(updatedAPI.getLastUpdatedTime()));
+    }
+
     @Test
     public void testWSDLArchiveForAPI() throws Exception {
         ApiDAO apiDAO = DAOFactory.getApiDAO();
@@ -0,0 +1,62 @@
+/*
+ *
+ *   Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 Inc. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.core.dao.impl;
+
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+public class DAOUtilTestCase {
+    private static final String QUERY = "SELECT UUID FROM AM_API";
+
+    @Test
+    public void testPrepareStreamingStatement() throws Exception {
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        Connection connection = mockConnection("H2", statement);
+        DAOUtil.prepareStreamingStatement(connection, QUERY);
+        Mockito.verify(connection).prepareStatement(QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        Mockito.verify(statement).setFetchSize(DAOUtil.STREAMING_FETCH_SIZE);
+    }
+
+    @Test
+    public void testPrepareStreamingStatementForMySQL() throws Exception {
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        Connection connection = mockConnection("MySQL", statement);
+        DAOUtil.prepareStreamingStatement(connection, QUERY);
+        Mockito.verify(connection).prepareStatement(QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        //Connector/J only streams rows with this fetch size
+        Mockito.verify(statement).setFetchSize(Integer.MIN_VALUE);
+    }
+
+    private Connection mockConnection(String databaseProductName, PreparedStatement statement) throws Exception {
+        Connection connection = Mockito.mock(Connection.class);
+        DatabaseMetaData metaData = Mockito.mock(DatabaseMetaData.class);
+        Mockito.when(metaData.getDatabaseProductName()).thenReturn(databaseProductName);
+        Mockito.when(connection.getMetaData()).thenReturn(metaData);
+        Mockito.when(connection.prepareStatement(QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY))
+                .thenReturn(statement);
+        return connection;
+    }
+}
@@ -524,6 +524,14 @@ public class PolicyDAOImplIT extends DAOIntegrationTestBase {
         policyDAO.addSubscriptionPolicy(subscriptionPolicy);
         Set<PolicyValidationData> policyValidationData = policyDAO.getAllPolicies();
         Assert.assertTrue(policyValidationData.size() == size + 3);
+        for (PolicyValidationData policy : policyValidationData) {
+            if (subscriptionPolicy.getUuid().equals(policy.getId())) {
+                //1000 requests per 10000 seconds
+                Assert.assertTrue(policy.isStopOnQuotaReach());
+                Assert.assertEquals(policy.getRequestCount(), 1000);
+                Assert.assertEquals(policy.getUnitTime(), 10000000);
+            }
+        }
     }
 
 
@@ -603,6 +611,26 @@ public class PolicyDAOImplIT extends DAOIntegrationTestBase {
                 .getPolicyName(), subscriptionPolicy.getPolicyName());
     }
 
+    @Test
+    public void testAddIPv6RangeBlockCondition() throws Exception {
+        PolicyDAO policyDAO = DAOFactory.getPolicyDAO();
+        BlockConditions blockConditionIPRange = SampleTestObjectCreator
+                .createDefaultBlockCondition(APIMgtConstants.ThrottlePolicyConstants.BLOCKING_CONDITION_IP_RANGE);
+        blockConditionIPRange.setStartingIP("2001:db8::");
+        blockConditionIPRange.setEndingIP("2001:db8::ffff:ffff");
+        String uuid = policyDAO.addBlockConditions(blockConditionIPRange);
+        BlockConditions addedBlockCondition = policyDAO.getBlockConditionByUUID(uuid);
+        Assert.assertEquals(addedBlockCondition.getStartingIP(), "2001:db8::");
+        Assert.assertEquals(addedBlockCondition.getEndingIP(), "2001:db8::ffff:ffff");
+
+        //ranges mixing IPv4 and IPv6 addresses are not valid
+        BlockConditions mixedIPRange = SampleTestObjectCreator
+                .createDefaultBlockCondition(APIMgtConstants.ThrottlePolicyConstants.BLOCKING_CONDITION_IP_RANGE);
+        mixedIPRange.setStartingIP("10.0.0.1");
+        mixedIPRange.setEndingIP("2001:db8::");
+        Assert.assertNull(policyDAO.addBlockConditions(mixedIPRange));
+    }
+
     @Test
     public void testValidityOfBlockCondition() throws Exception {
         PolicyDAO policyDAO = DAOFactory.getPolicyDAO();
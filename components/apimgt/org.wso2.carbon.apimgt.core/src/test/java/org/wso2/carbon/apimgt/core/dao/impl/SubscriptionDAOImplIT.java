@@ -25,16 +25,24 @@ import org.wso2.carbon.apimgt.core.dao.APISubscriptionDAO;
 import org.wso2.carbon.apimgt.core.dao.ApiType;
 import org.wso2.carbon.apimgt.core.dao.ApplicationDAO;
 import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.models.API;
 import org.wso2.carbon.apimgt.core.models.Application;
 import org.wso2.carbon.apimgt.core.models.Subscription;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
+import org.wso2.carbon.apimgt.core.models.SubscriptionValidationResults;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.core.util.ETagUtils;
 import org.wso2.carbon.apimgt.core.util.KeyManagerConstants;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.wso2.carbon.apimgt.core.SampleTestObjectCreator.goldSubscriptionPolicy;
@@ -227,6 +235,181 @@ public class SubscriptionDAOImplIT extends DAOIntegrationTestBase {
         }
     }
 
+    @Test
+    public void testGetSubscriptionsForValidationInPages() throws Exception {
+        createApisAppsAndSubscriptions();
+        APISubscriptionDAO subscriptionDAO = DAOFactory.getAPISubscriptionDAO();
+        ApplicationDAO applicationDAO = DAOFactory.getApplicationDAO();
+        for (Application app : applicationDAO.getApplications(ADMIN)) {
+            registerOAuthAppForApplication(applicationDAO, "client-key-for-" + app.getName(), app.getId());
+        }
+
+        List<SubscriptionValidationData> allSubscriptions = subscriptionDAO.getAPISubscriptionsOfAPIForValidation(-1);
+        Assert.assertEquals(allSubscriptions.size(), 9);
+
+        Set<String> pagedSubscriptions = new HashSet<>();
+        SubscriptionValidationResults page = subscriptionDAO.getAPISubscriptionsForValidation(null, 4);
+        long changeSequence = page.getChangeSequence();
+        int pageCount = 1;
+        while (true) {
+            Assert.assertTrue(page.getSubscriptionList().size() <= 4);
+            Assert.assertEquals(page.getChangeSequence(), changeSequence);
+            for (SubscriptionValidationData subscription : page.getSubscriptionList()) {
+                Assert.assertTrue(pagedSubscriptions.add(subscription.getApiContext() + ":" +
+                        subscription.getConsumerKey()), "Subscription returned in more than one page");
+            }
+            if (!page.isMoreResultsExist()) {
+                Assert.assertNull(page.getNextCursor());
+                break;
+            }
+            page = subscriptionDAO.getAPISubscriptionsForValidation(page.getNextCursor(), 4);
+            pageCount++;
+        }
+        Assert.assertEquals(pageCount, 3);
+        Assert.assertEquals(pagedSubscriptions.size(), allSubscriptions.size());
+        Assert.assertEquals(subscriptionDAO.getAPISubscriptionsOfAPIForValidation(5).size(), 5);
+    }
+
+    @Test(expectedExceptions = APIMgtDAOException.class)
+    public void testGetSubscriptionsForValidationWithInvalidCursor() throws Exception {
+        DAOFactory.getAPISubscriptionDAO().getAPISubscriptionsForValidation("invalid-cursor", 10);
+    }
+
+    @Test
+    public void testGetSubscriptionChangesForValidation() throws Exception {
+        ApplicationDAO applicationDAO = DAOFactory.getApplicationDAO();
+        APISubscriptionDAO subscriptionDAO = DAOFactory.getAPISubscriptionDAO();
+        Application app1 = TestUtil.addCustomApplication(APP_1, ADMIN);
+        Application app2 = TestUtil.addCustomApplication(APP_2, ADMIN);
+        API api1 = TestUtil.addCustomAPI(API_1, API_VERSION, API1_CONTEXT);
+        API api2 = TestUtil.addCustomAPI(API_2, API_VERSION, API2_CONTEXT);
+        registerOAuthAppForApplication(applicationDAO, "client-key-for-app-1", app1.getId());
+        registerOAuthAppForApplication(applicationDAO, "client-key-for-app-2", app2.getId());
+        String subscription1 = UUID.randomUUID().toString();
+        String subscription2 = UUID.randomUUID().toString();
+        subscriptionDAO.addAPISubscription(subscription1, api1.getId(), app1.getId(),
+                goldSubscriptionPolicy.getUuid(), APIMgtConstants.SubscriptionStatus.ACTIVE);
+        subscriptionDAO.addAPISubscription(subscription2, api2.getId(), app1.getId(),
+                goldSubscriptionPolicy.getUuid(), APIMgtConstants.SubscriptionStatus.ACTIVE);
+
+        SubscriptionValidationResults snapshot = subscriptionDAO.getAPISubscriptionsForValidation(null, -1);
+        Assert.assertEquals(snapshot.getSubscriptionList().size(), 2);
+
+        subscriptionDAO.addAPISubscription(UUID.randomUUID().toString(), api1.getId(), app2.getId(),
+                goldSubscriptionPolicy.getUuid(), APIMgtConstants.SubscriptionStatus.ACTIVE);
+        subscriptionDAO.updateSubscriptionStatus(subscription1, APIMgtConstants.SubscriptionStatus.BLOCKED);
+        subscriptionDAO.deleteAPISubscription(subscription2);
+
+        SubscriptionValidationResults changes = subscriptionDAO
+                .getAPISubscriptionChangesForValidation(snapshot.getChangeSequence(), -1);
+        Assert.assertFalse(changes.isMoreResultsExist());
+        Assert.assertTrue(changes.getChangeSequence() > snapshot.getChangeSequence());
+        Assert.assertEquals(changes.getSubscriptionList().size(), 2);
+        for (SubscriptionValidationData subscription : changes.getSubscriptionList()) {
+            if (subscription.getApplicationId().equals(app1.getId())) {
+                validateSubscriptionsOfApi(subscription, api1, app1);
+                Assert.assertEquals(subscription.getStatus(), APIMgtConstants.SubscriptionStatus.BLOCKED.name());
+            } else {
+                validateSubscriptionsOfApi(subscription, api1, app2);
+            }
+        }
+        Assert.assertEquals(changes.getRemovedSubscriptionList().size(), 1);
+        SubscriptionValidationData removed = changes.getRemovedSubscriptionList().get(0);
+        Assert.assertEquals(removed.getApiContext(), api2.getContext());
+        Assert.assertEquals(removed.getApiVersion(), api2.getVersion());
+        Assert.assertEquals(removed.getConsumerKey(), "client-key-for-app-1");
+
+        //changes can be read in batches
+        SubscriptionValidationResults firstBatch = subscriptionDAO
+                .getAPISubscriptionChangesForValidation(snapshot.getChangeSequence(), 1);
+        Assert.assertTrue(firstBatch.isMoreResultsExist());
+        Assert.assertEquals(firstBatch.getSubscriptionList().size(), 1);
+
+        //no changes after the latest change sequence
+        SubscriptionValidationResults noChanges = subscriptionDAO
+                .getAPISubscriptionChangesForValidation(changes.getChangeSequence(), -1);
+        Assert.assertTrue(noChanges.getSubscriptionList().isEmpty());
+        Assert.assertTrue(noChanges.getRemovedSubscriptionList().isEmpty());
+        Assert.assertEquals(noChanges.getChangeSequence(), changes.getChangeSequence());
+    }
+
+    @Test
+    public void testSubscriptionChangeCommittedOutOfOrderIsNotSkipped() throws Exception {
+        ApplicationDAO applicationDAO = DAOFactory.getApplicationDAO();
+        APISubscriptionDAO subscriptionDAO = DAOFactory.getAPISubscriptionDAO();
+        Application app1 = TestUtil.addCustomApplication(APP_1, ADMIN);
+        API api1 = TestUtil.addCustomAPI(API_1, API_VERSION, API1_CONTEXT);
+        API api2 = TestUtil.addCustomAPI(API_2, API_VERSION, API2_CONTEXT);
+        registerOAuthAppForApplication(applicationDAO, "client-key-for-app-1", app1.getId());
+        String subscription1 = UUID.randomUUID().toString();
+        subscriptionDAO.addAPISubscription(subscription1, api1.getId(), app1.getId(),
+                goldSubscriptionPolicy.getUuid(), APIMgtConstants.SubscriptionStatus.ACTIVE);
+        SubscriptionValidationResults changes = subscriptionDAO.getAPISubscriptionChangesForValidation(0, -1);
+        Assert.assertEquals(changes.getSubscriptionList().size(), 1);
+
+        SubscriptionValidationResults changesBeforeCommit;
+        try (Connection connection = DAOUtil.getConnection()) {
+            connection.setAutoCommit(false);
+            //a change which takes a sequence ID before a change which is committed first
+            SubscriptionChangeLogDAO.recordChange(connection, subscription1,
+                    SubscriptionChangeLogDAO.CHANGE_TYPE_UPDATE);
+            subscriptionDAO.addAPISubscription(UUID.randomUUID().toString(), api2.getId(), app1.getId(),
+                    goldSubscriptionPolicy.getUuid(), APIMgtConstants.SubscriptionStatus.ACTIVE);
+
+            changesBeforeCommit = subscriptionDAO
+                    .getAPISubscriptionChangesForValidation(changes.getChangeSequence(), -1);
+            Assert.assertEquals(changesBeforeCommit.getSubscriptionList().size(), 1);
+            Assert.assertEquals(changesBeforeCommit.getSubscriptionList().get(0).getApiContext(), api2.getContext());
+            //the change sequence is not advanced past the uncommitted change
+            Assert.assertEquals(changesBeforeCommit.getChangeSequence(), changes.getChangeSequence());
+            connection.commit();
+        }
+
+        SubscriptionValidationResults changesAfterCommit = subscriptionDAO
+                .getAPISubscriptionChangesForValidation(changesBeforeCommit.getChangeSequence(), -1);
+        Assert.assertEquals(changesAfterCommit.getSubscriptionList().size(), 2);
+        Assert.assertTrue(changesAfterCommit.getChangeSequence() > changesBeforeCommit.getChangeSequence());
+    }
+
+    @Test
+    public void testPruneSubscriptionChanges() throws Exception {
+        ApplicationDAO applicationDAO = DAOFactory.getApplicationDAO();
+        APISubscriptionDAO subscriptionDAO = DAOFactory.getAPISubscriptionDAO();
+        Application app1 = TestUtil.addCustomApplication(APP_1, ADMIN);
+        API api1 = TestUtil.addCustomAPI(API_1, API_VERSION, API1_CONTEXT);
+        API api2 = TestUtil.addCustomAPI(API_2, API_VERSION, API2_CONTEXT);
+        registerOAuthAppForApplication(applicationDAO, "client-key-for-app-1", app1.getId());
+        String subscription1 = UUID.randomUUID().toString();
+        subscriptionDAO.addAPISubscription(subscription1, api1.getId(), app1.getId(),
+                goldSubscriptionPolicy.getUuid(), APIMgtConstants.SubscriptionStatus.ACTIVE);
+        subscriptionDAO.updateSubscriptionStatus(subscription1, APIMgtConstants.SubscriptionStatus.BLOCKED);
+        subscriptionDAO.addAPISubscription(UUID.randomUUID().toString(), api2.getId(), app1.getId(),
+                goldSubscriptionPolicy.getUuid(), APIMgtConstants.SubscriptionStatus.ACTIVE);
+        //nothing is removed while the changes are within the retention time
+        Assert.assertEquals(subscriptionDAO.pruneSubscriptionChanges(3600), 0);
+        Assert.assertEquals(subscriptionDAO.getAPISubscriptionChangesForValidation(0, -1)
+                .getSubscriptionList().size(), 2);
+
+        try (Connection connection = DAOUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "UPDATE AM_SUBSCRIPTION_CHANGES SET CHANGED_TIME = ?")) {
+            statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now().minusHours(2)));
+            statement.execute();
+        }
+        //the latest expired change is kept to tell which change sequences are still valid
+        Assert.assertEquals(subscriptionDAO.pruneSubscriptionChanges(3600), 2);
+        SubscriptionValidationResults snapshot = subscriptionDAO.getAPISubscriptionsForValidation(null, -1);
+        SubscriptionValidationResults noChanges = subscriptionDAO
+                .getAPISubscriptionChangesForValidation(snapshot.getChangeSequence(), -1);
+        Assert.assertTrue(noChanges.getSubscriptionList().isEmpty());
+        try {
+            subscriptionDAO.getAPISubscriptionChangesForValidation(0, -1);
+            Assert.fail("Changes after a removed change sequence should not be returned");
+        } catch (APIMgtDAOException e) {
+            Assert.assertEquals(e.getErrorHandler(), ExceptionCodes.SUBSCRIPTION_CHANGES_PRUNED);
+        }
+    }
+
     private void registerOAuthAppForApplication(ApplicationDAO applicationDAO, String clientKey, String appId)
             throws APIMgtDAOException {
         applicationDAO.addApplicationKeys(appId, KeyManagerConstants.OAUTH_CLIENT_PRODUCTION, clientKey);
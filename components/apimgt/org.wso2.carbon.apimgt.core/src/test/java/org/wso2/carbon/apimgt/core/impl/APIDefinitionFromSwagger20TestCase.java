@@ -23,6 +23,7 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.apimgt.core.SampleTestObjectCreator;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
 import org.wso2.carbon.apimgt.core.models.API;
+import org.wso2.carbon.apimgt.core.util.ScopeRouteTable;
 
 import java.io.IOException;
 
@@ -37,5 +38,27 @@ public class APIDefinitionFromSwagger20TestCase {
         API api = apiBuilder.build();
         Assert.assertNotNull(api);
     }
-}
 
+    @Test
+    public void testScopeRouteTableFromSwagger() throws APIManagementException {
+        String restAPIDefinition = "swagger: '2.0'\n"
+                + "basePath: /api/am/store/v1.0\n"
+                + "paths:\n"
+                + "  /apis/{apiId}/sdks/{language}:\n"
+                + "    get:\n"
+                + "      x-scope: apim:subscribe\n"
+                + "      responses:\n"
+                + "        200:\n"
+                + "          description: OK\n"
+                + "  /apis:\n"
+                + "    get:\n"
+                + "      responses:\n"
+                + "        200:\n"
+                + "          description: OK\n";
+        ScopeRouteTable scopeRouteTable = new APIDefinitionFromSwagger20().getScopeRouteTable(restAPIDefinition);
+        Assert.assertEquals(scopeRouteTable.getScopes("GET", "/apis/{apiId}/sdks/{language}"), "apim:subscribe");
+        Assert.assertEquals(scopeRouteTable.getScopes("GET", "/apis/123/sdks/java"), "apim:subscribe");
+        Assert.assertNull(scopeRouteTable.getScopes("POST", "/apis/123/sdks/java"));
+        Assert.assertNull(scopeRouteTable.getScopes("GET", "/apis"));
+    }
+}
@@ -84,6 +84,7 @@ import java.sql.SQLException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -202,6 +203,75 @@ public class APIPublisherImplTestCase {
         }
     }
 
+    @Test(description = "Test add several APIs in a single transaction")
+    public void testAddApis() throws APIManagementException, LifecycleException {
+        API.APIBuilder apiBuilder = SampleTestObjectCreator.createDefaultAPI().id("")
+                .endpoint(SampleTestObjectCreator.getMockEndpointMap());
+        API.APIBuilder otherApiBuilder = SampleTestObjectCreator.createDefaultAPI().id("").name("PizzaShackAPI")
+                .context("pizzashack").endpoint(SampleTestObjectCreator.getMockEndpointMap());
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        GatewaySourceGenerator gatewaySourceGenerator = Mockito.mock(GatewaySourceGenerator.class);
+        APILifecycleManager apiLifecycleManager = Mockito.mock(APILifecycleManager.class);
+        Mockito.when(apiLifecycleManager.addLifecycle(APIMgtConstants.API_LIFECYCLE, USER))
+                .thenReturn(new LifecycleState());
+        APIGateway gateway = Mockito.mock(APIGateway.class);
+        PolicyDAO policyDAO = Mockito.mock(PolicyDAO.class);
+        Mockito.when(policyDAO.getSimplifiedPolicyByLevelAndName(APIMgtAdminService.PolicyLevel.api,
+                APIMgtConstants.DEFAULT_API_POLICY)).thenReturn(new APIPolicy(APIMgtConstants.DEFAULT_API_POLICY));
+        for (String tier : new String[]{GOLD_TIER, SILVER_TIER, BRONZE_TIER}) {
+            Mockito.when(policyDAO.getSimplifiedPolicyByLevelAndName(APIMgtAdminService.PolicyLevel.subscription,
+                    tier)).thenReturn(new SubscriptionPolicy(tier));
+        }
+        for (API.APIBuilder builder : Arrays.asList(apiBuilder, otherApiBuilder)) {
+            String endpointId = builder.getEndpoint().get("production").getId();
+            Mockito.when(apiDAO.getEndpoint(endpointId))
+                    .thenReturn(new Endpoint.Builder().id(endpointId).name("testEndpoint").build());
+        }
+        APIPublisherImpl apiPublisher = getApiPublisherImpl(apiDAO, apiLifecycleManager, gatewaySourceGenerator,
+                gateway, policyDAO);
+
+        List<String> apiIds = apiPublisher.addAPIs(Arrays.asList(apiBuilder, otherApiBuilder));
+        Assert.assertEquals(apiIds, Arrays.asList(apiBuilder.getId(), otherApiBuilder.getId()));
+        Mockito.verify(apiDAO, Mockito.times(1)).addAPIs(Arrays.asList(apiBuilder.build(), otherApiBuilder.build()));
+        Mockito.verify(apiDAO, Mockito.never()).addAPI(Mockito.any(API.class));
+        Mockito.verify(gateway, Mockito.times(1)).addAPI(apiBuilder.build());
+        Mockito.verify(gateway, Mockito.times(1)).addAPI(otherApiBuilder.build());
+
+        //Error path
+        //When the APIs to be added have the same context
+        API.APIBuilder duplicateApiBuilder = SampleTestObjectCreator.createDefaultAPI().id("").name("WeatherAPI2")
+                .endpoint(SampleTestObjectCreator.getMockEndpointMap());
+        try {
+            apiPublisher.addAPIs(Arrays.asList(SampleTestObjectCreator.createDefaultAPI().id("")
+                    .endpoint(SampleTestObjectCreator.getMockEndpointMap()), duplicateApiBuilder));
+            Assert.fail("Exception was expected, but wasn't thrown");
+        } catch (APIManagementException e) {
+            Assert.assertEquals(e.getErrorHandler(), ExceptionCodes.API_ALREADY_EXISTS);
+        }
+        Mockito.verify(apiDAO, Mockito.times(1)).addAPIs(Mockito.any());
+
+        //Error path
+        //When an APIMgtDAOException is being thrown when the APIs are created
+        Mockito.doThrow(APIMgtDAOException.class).when(apiDAO).addAPIs(Mockito.any());
+        try {
+            apiPublisher.addAPIs(Arrays.asList(apiBuilder, otherApiBuilder));
+            Assert.fail("Exception was expected, but wasn't thrown");
+        } catch (APIManagementException e) {
+            Assert.assertEquals(e.getMessage(), "Error occurred while creating 2 APIs");
+        }
+        //the lifecycles of the APIs which were not added are removed
+        Mockito.verify(apiLifecycleManager, Mockito.times(3)).removeLifecycle(Mockito.anyString());
+
+        //Error path
+        //When the APIs could not be added to the gateway, they are removed and not reported as added
+        Mockito.doNothing().when(apiDAO).addAPIs(Mockito.any());
+        Mockito.doThrow(GatewayException.class).when(gateway).addAPI(Mockito.any(API.class));
+        Assert.assertTrue(apiPublisher.addAPIs(Arrays.asList(apiBuilder, otherApiBuilder)).isEmpty());
+        Mockito.verify(apiDAO, Mockito.times(1)).deleteAPI(apiBuilder.getId());
+        Mockito.verify(apiDAO, Mockito.times(1)).deleteAPI(otherApiBuilder.getId());
+        Mockito.verify(apiLifecycleManager, Mockito.times(5)).removeLifecycle(Mockito.anyString());
+    }
+
     @Test(description = "Test add api with sandbox endpoint")
     public void testAddApiSandboxEndpoint() throws APIManagementException, LifecycleException {
         Map<String, Endpoint> endpointMap = new HashMap<>();
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.SampleTestObjectCreator;
+import org.wso2.carbon.apimgt.core.dao.ApiDAO;
+import org.wso2.carbon.apimgt.core.models.API;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class APISearchIndexTestCase {
+
+    private static final Set<String> DEVELOPER_ROLES = Collections.singleton(SampleTestObjectCreator.DEVELOPER_ROLE_ID);
+
+    @Test
+    public void testSearchByFields() throws Exception {
+        APISearchIndex searchIndex = new APISearchIndex();
+        API weatherAPI = SampleTestObjectCreator.createDefaultAPI().build();
+        API pizzaAPI = createPublicAPI("PizzaShackAPI", "pizzashack", "Pizza ordering", "food");
+        rebuild(searchIndex, Arrays.asList(weatherAPI, pizzaAPI));
+        Assert.assertTrue(searchIndex.isReady());
+
+        // name prefix, context, tag, description and resource URL pattern
+        Assert.assertEquals(search(searchIndex, "weath"), Collections.singletonList(weatherAPI.getId()));
+        Assert.assertEquals(search(searchIndex, "PIZZA"), Collections.singletonList(pizzaAPI.getId()));
+        Assert.assertEquals(search(searchIndex, "climate"), Collections.singletonList(weatherAPI.getId()));
+        Assert.assertEquals(search(searchIndex, "food"), Collections.singletonList(pizzaAPI.getId()));
+        Assert.assertEquals(search(searchIndex, "ordering"), Collections.singletonList(pizzaAPI.getId()));
+        Assert.assertEquals(search(searchIndex, "apis"), Collections.singletonList(weatherAPI.getId()));
+
+        // every word must match
+        Assert.assertEquals(search(searchIndex, "weather info"), Collections.singletonList(weatherAPI.getId()));
+        Assert.assertTrue(search(searchIndex, "weather pizza").isEmpty());
+        Assert.assertTrue(search(searchIndex, "%$#").isEmpty());
+    }
+
+    @Test
+    public void testSearchFiltersByPermissions() throws Exception {
+        APISearchIndex searchIndex = new APISearchIndex();
+        // readable by the developer and admin roles, provided by admin
+        API weatherAPI = SampleTestObjectCreator.createDefaultAPI().build();
+        rebuild(searchIndex, Collections.singletonList(weatherAPI));
+
+        Assert.assertEquals(searchIndex.search("weather", DEVELOPER_ROLES, "john", 0, 10),
+                Collections.singletonList(weatherAPI.getId()));
+        Assert.assertEquals(searchIndex.search("weather", Collections.singleton(
+                SampleTestObjectCreator.ADMIN_ROLE_ID), "john", 0, 10),
+                Collections.singletonList(weatherAPI.getId()));
+        Assert.assertEquals(searchIndex.search("weather", Collections.emptySet(), "admin", 0, 10),
+                Collections.singletonList(weatherAPI.getId()));
+        Assert.assertTrue(searchIndex.search("weather", Collections.singleton("subscriber"), "john", 0, 10)
+                .isEmpty());
+
+        // no permissions on the API
+        API publicAPI = createPublicAPI("WeatherForecastAPI", "forecast", "Weather forecasts", "climate");
+        searchIndex.index(publicAPI);
+        Assert.assertEquals(searchIndex.search("weather", Collections.emptySet(), "john", 0, 10),
+                Collections.singletonList(publicAPI.getId()));
+    }
+
+    @Test
+    public void testResultsAreRankedAndPaginated() throws Exception {
+        APISearchIndex searchIndex = new APISearchIndex();
+        List<API> apis = new ArrayList<>();
+        API descriptionMatch = createPublicAPI("ForecastAPI", "forecast", "Forecasts of the storm season", "news");
+        apis.add(descriptionMatch);
+        API nameMatch = createPublicAPI("Storm", "storm", "Get warnings", "news");
+        apis.add(nameMatch);
+        for (int i = 0; i < 3; i++) {
+            apis.add(createPublicAPI("StormTracker" + i, "tracker" + i, "Track storms", "news"));
+        }
+        rebuild(searchIndex, apis);
+
+        List<String> results = search(searchIndex, "storm");
+        Assert.assertEquals(results.size(), 5);
+        Assert.assertEquals(results.get(0), nameMatch.getId());
+        Assert.assertEquals(results.get(4), descriptionMatch.getId());
+
+        Assert.assertEquals(searchIndex.search("storm", DEVELOPER_ROLES, "john", 1, 2), results.subList(1, 3));
+        Assert.assertEquals(searchIndex.search("storm", DEVELOPER_ROLES, "john", 4, 2), results.subList(4, 5));
+        Assert.assertTrue(searchIndex.search("storm", DEVELOPER_ROLES, "john", 5, 2).isEmpty());
+        Assert.assertTrue(searchIndex.search("storm", DEVELOPER_ROLES, "john", 0, 0).isEmpty());
+    }
+
+    @Test
+    public void testIncrementalUpdates() throws Exception {
+        APISearchIndex searchIndex = new APISearchIndex();
+        API api = createPublicAPI("PizzaShackAPI", "pizzashack", "Pizza ordering", "food");
+        searchIndex.index(api);
+        Assert.assertEquals(search(searchIndex, "pizza"), Collections.singletonList(api.getId()));
+
+        API updatedAPI = new API.APIBuilder(api).name("BurgerShackAPI").context("burgershack")
+                .description("Burger ordering").build();
+        searchIndex.index(updatedAPI);
+        Assert.assertTrue(search(searchIndex, "pizza").isEmpty());
+        Assert.assertEquals(search(searchIndex, "burger"), Collections.singletonList(api.getId()));
+
+        searchIndex.remove(api.getId());
+        Assert.assertTrue(search(searchIndex, "burger").isEmpty());
+
+        rebuild(searchIndex, Collections.singletonList(api));
+        Assert.assertEquals(search(searchIndex, "pizza"), Collections.singletonList(api.getId()));
+    }
+
+    private static void rebuild(APISearchIndex searchIndex, List<API> apis) throws Exception {
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        Mockito.when(apiDAO.getAllAPIs()).thenReturn(apis);
+        searchIndex.rebuild(apiDAO);
+    }
+
+    private static List<String> search(APISearchIndex searchIndex, String query) throws Exception {
+        return searchIndex.search(query, DEVELOPER_ROLES, "john", 0, 10);
+    }
+
+    private static API createPublicAPI(String name, String context, String description, String tag) {
+        return SampleTestObjectCreator.createCustomAPI(name, "1.0.0", context).
+                description(description).
+                tags(new HashSet<>(Collections.singletonList(tag))).
+                uriTemplates(new HashMap<>()).
+                permissionMap(new HashMap()).build();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *
+ *   Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 Inc. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.SampleTestObjectCreator;
+import org.wso2.carbon.apimgt.core.dao.ApiDAO;
+import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.models.API;
+import org.wso2.carbon.apimgt.core.models.Event;
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Test class for APISearchIndexUpdater
+ */
+public class APISearchIndexUpdaterTestCase {
+
+    private static final Set<String> ROLES = Collections.singleton(SampleTestObjectCreator.DEVELOPER_ROLE_ID);
+
+    @Test(description = "Test index updates on API events")
+    public void testCaptureEvent() throws Exception {
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        APISearchIndex searchIndex = new APISearchIndex();
+        APISearchIndexUpdater indexUpdater = new APISearchIndexUpdater(apiDAO, searchIndex);
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        Mockito.when(apiDAO.getAPI(api.getId())).thenReturn(api);
+
+        indexUpdater.captureEvent(Event.API_CREATION, "admin", ZonedDateTime.now(), createPayload(api.getId()));
+        Assert.assertEquals(searchIndex.search("weather", ROLES, "john", 0, 10),
+                Collections.singletonList(api.getId()));
+
+        API updatedAPI = new API.APIBuilder(api).name("StormAPI").description("Storm warnings").build();
+        Mockito.when(apiDAO.getAPI(api.getId())).thenReturn(updatedAPI);
+        indexUpdater.captureEvent(Event.API_UPDATE, "admin", ZonedDateTime.now(), createPayload(api.getId()));
+        List<String> results = searchIndex.search("storm", ROLES, "john", 0, 10);
+        Assert.assertEquals(results, Collections.singletonList(api.getId()));
+
+        // events not related to APIs are ignored
+        indexUpdater.captureEvent(Event.APP_CREATION, "admin", ZonedDateTime.now(), new HashMap<>());
+
+        indexUpdater.captureEvent(Event.API_DELETION, "admin", ZonedDateTime.now(), createPayload(api.getId()));
+        Assert.assertTrue(searchIndex.search("storm", ROLES, "john", 0, 10).isEmpty());
+    }
+
+    @Test(description = "Test update event of an API deleted before the event was delivered")
+    public void testCaptureUpdateEventOfDeletedAPI() throws Exception {
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        APISearchIndex searchIndex = new APISearchIndex();
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        searchIndex.index(api);
+        Mockito.when(apiDAO.getAPI(api.getId())).thenThrow(new APIMgtDAOException("API with ID " + api.getId() +
+                " does not exist", ExceptionCodes.API_NOT_FOUND));
+
+        new APISearchIndexUpdater(apiDAO, searchIndex).captureEvent(Event.API_UPDATE, "admin", ZonedDateTime.now(),
+                createPayload(api.getId()));
+        Assert.assertTrue(searchIndex.search("weather", ROLES, "john", 0, 10).isEmpty());
+    }
+
+    @Test(description = "Test capture event when event is null", expectedExceptions = IllegalArgumentException.class)
+    public void testCaptureEventWhenEventNull() throws Exception {
+        new APISearchIndexUpdater(Mockito.mock(ApiDAO.class), new APISearchIndex()).captureEvent(null, "user1",
+                null, new HashMap<>());
+    }
+
+    private static Map<String, String> createPayload(String apiId) {
+        Map<String, String> payload = new HashMap<>();
+        payload.put(APIMgtConstants.FunctionsConstants.API_ID, apiId);
+        return payload;
+    }
+}
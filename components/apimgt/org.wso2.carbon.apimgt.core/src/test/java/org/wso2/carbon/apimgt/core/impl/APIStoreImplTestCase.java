@@ -20,6 +20,7 @@
 
 package org.wso2.carbon.apimgt.core.impl;
 
+import org.apache.commons.io.IOUtils;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Matchers;
 import org.mockito.Mockito;
@@ -44,10 +45,12 @@ import org.wso2.carbon.apimgt.core.dao.LabelDAO;
 import org.wso2.carbon.apimgt.core.dao.PolicyDAO;
 import org.wso2.carbon.apimgt.core.dao.TagDAO;
 import org.wso2.carbon.apimgt.core.dao.WorkflowDAO;
+import org.wso2.carbon.apimgt.core.exception.APICommentException;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
 import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.exception.APIMgtResourceAlreadyExistsException;
 import org.wso2.carbon.apimgt.core.exception.APIMgtResourceNotFoundException;
+import org.wso2.carbon.apimgt.core.exception.APIMgtWSDLException;
 import org.wso2.carbon.apimgt.core.exception.APIRatingException;
 import org.wso2.carbon.apimgt.core.exception.IdentityProviderException;
 import org.wso2.carbon.apimgt.core.exception.LabelException;
@@ -75,6 +78,7 @@ import org.wso2.carbon.apimgt.core.util.APIMgtConstants.ApplicationStatus;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants.SubscriptionStatus;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants.WorkflowConstants;
 import org.wso2.carbon.apimgt.core.util.APIUtils;
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
 import org.wso2.carbon.apimgt.core.workflow.ApplicationCreationResponse;
 import org.wso2.carbon.apimgt.core.workflow.ApplicationCreationWorkflow;
 import org.wso2.carbon.apimgt.core.workflow.ApplicationUpdateWorkflow;
@@ -87,8 +91,10 @@ import org.wso2.carbon.kernel.configprovider.CarbonConfigurationException;
 import org.wso2.carbon.kernel.configprovider.ConfigProvider;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.sql.SQLException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -233,6 +239,32 @@ public class APIStoreImplTestCase {
         Assert.assertTrue(updatedWSDL.contains(expectedEndpoint));
     }
 
+    @Test(description = "Retrieve a cached WSDL of an API")
+    public void testGetCachedAPIWSDL() throws APIManagementException, IOException {
+        final String labelName = "SampleLabel";
+
+        Label label = SampleTestObjectCreator.createLabel(labelName).build();
+        Set<String> labels = new HashSet<>();
+        labels.add(label.getName());
+        API api = SampleTestObjectCreator.createDefaultAPI().labels(labels).build();
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        LabelDAO labelDAO = Mockito.mock(LabelDAO.class);
+        APIStore apiStore = getApiStoreImpl(apiDAO, labelDAO);
+        Mockito.when(apiDAO.getAPI(api.getId())).thenReturn(api);
+        Mockito.when(labelDAO.getLabelByName(labelName)).thenReturn(label);
+        Mockito.when(apiDAO.getWSDL(api.getId()))
+                .thenReturn(new String(SampleTestObjectCreator.createDefaultWSDL11Content()));
+        String updatedWSDL = apiStore.getAPIWSDL(api.getId(), label.getName());
+        Assert.assertEquals(IOUtils.toString(apiStore.getAPIWSDLStream(api.getId(), label.getName()),
+                APIMgtConstants.ENCODING_UTF_8), updatedWSDL);
+        Mockito.verify(apiDAO, Mockito.times(1)).getWSDL(api.getId());
+
+        //the WSDL is read again once it is updated
+        WSDLCache.getInstance().invalidate(api.getId());
+        Assert.assertEquals(apiStore.getAPIWSDL(api.getId(), label.getName()), updatedWSDL);
+        Mockito.verify(apiDAO, Mockito.times(2)).getWSDL(api.getId());
+    }
+
     @Test(description = "Retrieve a WSDL archive of an API")
     public void testGetAPIWSDLArchive() throws APIManagementException, IOException {
         final String labelName = "SampleLabel";
@@ -260,6 +292,70 @@ public class APIStoreImplTestCase {
         Assert.assertFalse(endpoints.containsValue(SampleTestObjectCreator.ORIGINAL_ENDPOINT_WEATHER));
     }
 
+    @Test(description = "Keep a WSDL archive which is being read when the WSDL of the API is updated")
+    public void testOpenAPIWSDLArchive() throws APIManagementException, IOException {
+        final String labelName = "SampleLabel";
+
+        Label label = SampleTestObjectCreator.createLabel(labelName).build();
+        Set<String> labels = new HashSet<>();
+        labels.add(label.getName());
+        API api = SampleTestObjectCreator.createDefaultAPI().labels(labels).build();
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        LabelDAO labelDAO = Mockito.mock(LabelDAO.class);
+        APIStore apiStore = getApiStoreImpl(apiDAO, labelDAO);
+        Mockito.when(apiDAO.getAPI(api.getId())).thenReturn(api);
+        Mockito.when(labelDAO.getLabelByName(labelName)).thenReturn(label);
+        Mockito.when(apiDAO.getWSDLArchive(api.getId()))
+                .thenReturn(SampleTestObjectCreator.createDefaultWSDL11ArchiveInputStream());
+        WSDLArchiveInfo archiveInfo = apiStore.getAPIWSDLArchive(api.getId(), label.getName());
+        File archive = new File(archiveInfo.getAbsoluteFilePath());
+
+        try (SizedInputStream archiveStream = apiStore.openAPIWSDLArchive(archiveInfo)) {
+            Assert.assertNotNull(archiveStream);
+            Assert.assertEquals(archiveStream.getSize(), archive.length());
+            //the archive is not deleted while it is being read
+            WSDLCache.getInstance().invalidate(api.getId());
+            Assert.assertTrue(archive.exists());
+            Assert.assertNull(apiStore.openAPIWSDLArchive(archiveInfo));
+            Assert.assertEquals(IOUtils.toByteArray(archiveStream).length, archive.length());
+        }
+        Assert.assertFalse(new File(archiveInfo.getLocation()).exists());
+    }
+
+    @Test(description = "Delete a WSDL archive created for a cached WSDL which is discarded in the meantime")
+    public void testWSDLArchiveOfDiscardedWSDL() throws APIManagementException, IOException {
+        Label label = SampleTestObjectCreator.createLabel("SampleLabel").build();
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        WSDLCache wsdlCache = new WSDLCache(10);
+        List<File> createdArchives = new ArrayList<>();
+        WSDLArchiveInfo archiveInfo = wsdlCache.getUpdatedWSDLArchive(api, label, () -> {
+            File location;
+            File archive;
+            try {
+                location = Files.createTempDirectory("wsdl-archive").toFile();
+                archive = new File(location, "archive.zip");
+                Files.write(archive.toPath(), new byte[]{1, 2, 3});
+            } catch (IOException e) {
+                throw new APIMgtWSDLException(e);
+            }
+            if (createdArchives.isEmpty()) {
+                //the WSDL of the API is updated while the first archive is being created
+                wsdlCache.invalidate(api.getId());
+            }
+            createdArchives.add(location);
+            return new WSDLArchiveInfo(location.getAbsolutePath(), archive.getName());
+        });
+
+        Assert.assertEquals(createdArchives.size(), 2);
+        Assert.assertFalse(createdArchives.get(0).exists());
+        Assert.assertEquals(archiveInfo.getLocation(), createdArchives.get(1).getAbsolutePath());
+        try (SizedInputStream archiveStream = wsdlCache.open(archiveInfo)) {
+            Assert.assertNotNull(archiveStream);
+        }
+        wsdlCache.invalidate(api.getId());
+        Assert.assertFalse(createdArchives.get(1).exists());
+    }
+
     @Test(description = "Add Composite API")
     public void testAddCompositeApi() throws APIManagementException {
         CompositeAPI.Builder apiBuilder = SampleTestObjectCreator.createUniqueCompositeAPI();
@@ -824,6 +920,37 @@ public class APIStoreImplTestCase {
         Mockito.verify(apiDAO, Mockito.times(1)).deleteComment(comment.getUuid(), api.getId());
     }
 
+    @Test(description = "Delete comment of another user by a comment moderator")
+    public void testDeleteCommentByCommentModerator() throws APIManagementException {
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        IdentityProvider identityProvider = Mockito.mock(IdentityProvider.class);
+        APIStore apiStore = getApiStoreImpl(identityProvider, null, apiDAO, null, null, null);
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        Mockito.when(apiDAO.isAPIExists(api.getId())).thenReturn(true);
+        Comment comment = SampleTestObjectCreator.createDefaultComment(api.getId());
+        Mockito.when(apiDAO.getCommentByUUID(comment.getUuid(), api.getId())).thenReturn(comment);
+        Mockito.when(identityProvider.getIdOfUser("john")).thenReturn("john-id");
+        Mockito.when(identityProvider.getRoleNamesOfUser("john-id"))
+                .thenReturn(Arrays.asList("subscriber", "comment-moderator"));
+        apiStore.deleteComment(comment.getUuid(), api.getId(), "john");
+        Mockito.verify(apiDAO, Mockito.times(1)).deleteComment(comment.getUuid(), api.getId());
+    }
+
+    @Test(description = "Delete comment of another user by a user who isn't a comment moderator",
+            expectedExceptions = APICommentException.class)
+    public void testDeleteCommentByUserWithoutModeratorRole() throws APIManagementException {
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        IdentityProvider identityProvider = Mockito.mock(IdentityProvider.class);
+        APIStore apiStore = getApiStoreImpl(identityProvider, null, apiDAO, null, null, null);
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        Mockito.when(apiDAO.isAPIExists(api.getId())).thenReturn(true);
+        Comment comment = SampleTestObjectCreator.createDefaultComment(api.getId());
+        Mockito.when(apiDAO.getCommentByUUID(comment.getUuid(), api.getId())).thenReturn(comment);
+        Mockito.when(identityProvider.getIdOfUser("john")).thenReturn("john-id");
+        Mockito.when(identityProvider.getRoleNamesOfUser("john-id")).thenReturn(Arrays.asList("subscriber"));
+        apiStore.deleteComment(comment.getUuid(), api.getId(), "john");
+    }
+
     @Test(description = "Update comment")
     public void testUpdateComment() throws APIManagementException {
         ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
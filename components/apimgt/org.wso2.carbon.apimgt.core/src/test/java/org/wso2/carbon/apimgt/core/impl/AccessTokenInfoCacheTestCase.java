@@ -0,0 +1,198 @@
+/*
+ *   Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 Inc. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.exception.KeyManagementException;
+import org.wso2.carbon.apimgt.core.models.AccessTokenInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AccessTokenInfoCacheTestCase {
+
+    @Test
+    public void testValidTokenIsCached() throws Exception {
+        AccessTokenInfoCache cache = new AccessTokenInfoCache(10, 300);
+        AtomicInteger validations = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            AccessTokenInfo tokenInfo = cache.get("aaa-aaa-aaa-aaa", accessToken -> {
+                validations.incrementAndGet();
+                return createTokenInfo(accessToken, true, 3600);
+            });
+            Assert.assertEquals(tokenInfo.getAccessToken(), "aaa-aaa-aaa-aaa");
+        }
+
+        Assert.assertEquals(validations.get(), 1);
+        Assert.assertEquals(cache.getHitCount(), 2);
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(cache.getSize(), 1);
+    }
+
+    @Test
+    public void testInvalidOrExpiredTokenIsNotCached() throws Exception {
+        AccessTokenInfoCache cache = new AccessTokenInfoCache(10, 300);
+        AtomicInteger validations = new AtomicInteger();
+
+        cache.get("aaa-aaa-aaa-aaa", accessToken -> {
+            validations.incrementAndGet();
+            return createTokenInfo(accessToken, false, 3600);
+        });
+        cache.get("aaa-aaa-aaa-aaa", accessToken -> {
+            validations.incrementAndGet();
+            return createTokenInfo(accessToken, true, -1);
+        });
+        cache.get("aaa-aaa-aaa-aaa", accessToken -> {
+            validations.incrementAndGet();
+            return createTokenInfo(accessToken, true, 3600);
+        });
+
+        Assert.assertEquals(validations.get(), 3);
+        Assert.assertEquals(cache.getHitCount(), 0);
+    }
+
+    @Test
+    public void testCacheTimeIsCappedAtMaximum() throws Exception {
+        AccessTokenInfoCache cache = new AccessTokenInfoCache(10, 0);
+        AtomicInteger validations = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            cache.get("aaa-aaa-aaa-aaa", accessToken -> {
+                validations.incrementAndGet();
+                return createTokenInfo(accessToken, true, 3600);
+            });
+        }
+
+        Assert.assertEquals(validations.get(), 2);
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        AccessTokenInfoCache cache = new AccessTokenInfoCache(10, 300);
+        AtomicInteger validations = new AtomicInteger();
+        AccessTokenInfoCache.TokenValidator validator = accessToken -> {
+            validations.incrementAndGet();
+            return createTokenInfo(accessToken, true, 3600);
+        };
+
+        cache.get("aaa-aaa-aaa-aaa", validator);
+        cache.get("bbb-bbb-bbb-bbb", validator);
+        cache.invalidate("aaa-aaa-aaa-aaa");
+        cache.get("aaa-aaa-aaa-aaa", validator);
+        cache.get("bbb-bbb-bbb-bbb", validator);
+
+        Assert.assertEquals(validations.get(), 3);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedTokenIsEvicted() throws Exception {
+        AccessTokenInfoCache cache = new AccessTokenInfoCache(2, 300);
+        AtomicInteger validations = new AtomicInteger();
+        AccessTokenInfoCache.TokenValidator validator = accessToken -> {
+            validations.incrementAndGet();
+            return createTokenInfo(accessToken, true, 3600);
+        };
+
+        cache.get("aaa-aaa-aaa-aaa", validator);
+        cache.get("bbb-bbb-bbb-bbb", validator);
+        cache.get("aaa-aaa-aaa-aaa", validator);
+        cache.get("ccc-ccc-ccc-ccc", validator);
+        Assert.assertEquals(cache.getSize(), 2);
+        Assert.assertEquals(cache.getEvictionCount(), 1);
+
+        cache.get("aaa-aaa-aaa-aaa", validator);
+        Assert.assertEquals(validations.get(), 3);
+        cache.get("bbb-bbb-bbb-bbb", validator);
+        Assert.assertEquals(validations.get(), 4);
+    }
+
+    @Test
+    public void testValidationFailureIsNotCached() throws Exception {
+        AccessTokenInfoCache cache = new AccessTokenInfoCache(10, 300);
+        try {
+            cache.get("aaa-aaa-aaa-aaa", accessToken -> {
+                throw new KeyManagementException("Error occurred while introspecting access token.",
+                        ExceptionCodes.TOKEN_INTROSPECTION_FAILED);
+            });
+            Assert.fail("Exception was expected, but wasn't thrown");
+        } catch (KeyManagementException e) {
+            Assert.assertEquals(e.getErrorHandler(), ExceptionCodes.TOKEN_INTROSPECTION_FAILED);
+        }
+
+        AccessTokenInfo tokenInfo = cache.get("aaa-aaa-aaa-aaa",
+                accessToken -> createTokenInfo(accessToken, true, 3600));
+        Assert.assertTrue(tokenInfo.isTokenValid());
+    }
+
+    @Test
+    public void testConcurrentValidationsAreCollapsed() throws Exception {
+        final int threadCount = 8;
+        AccessTokenInfoCache cache = new AccessTokenInfoCache(10, 300);
+        AtomicInteger validations = new AtomicInteger();
+        CountDownLatch validationStarted = new CountDownLatch(1);
+        CountDownLatch releaseValidation = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<AccessTokenInfo>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get("aaa-aaa-aaa-aaa", accessToken -> {
+                validations.incrementAndGet();
+                validationStarted.countDown();
+                try {
+                    releaseValidation.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return createTokenInfo(accessToken, true, 3600);
+            })));
+            Assert.assertTrue(validationStarted.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i < threadCount; i++) {
+                results.add(executor.submit(() -> cache.get("aaa-aaa-aaa-aaa", accessToken -> {
+                    validations.incrementAndGet();
+                    return createTokenInfo(accessToken, true, 3600);
+                })));
+            }
+            releaseValidation.countDown();
+
+            for (Future<AccessTokenInfo> result : results) {
+                Assert.assertTrue(result.get(10, TimeUnit.SECONDS).isTokenValid());
+            }
+            Assert.assertEquals(validations.get(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static AccessTokenInfo createTokenInfo(String accessToken, boolean valid, long expiresInSec) {
+        AccessTokenInfo tokenInfo = new AccessTokenInfo();
+        tokenInfo.setAccessToken(accessToken);
+        tokenInfo.setTokenValid(valid);
+        tokenInfo.setExpiryTime(System.currentTimeMillis() / 1000 + expiresInSec);
+        return tokenInfo;
+    }
+}
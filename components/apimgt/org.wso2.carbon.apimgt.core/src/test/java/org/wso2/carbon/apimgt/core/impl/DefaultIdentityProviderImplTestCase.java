@@ -476,4 +476,60 @@ public class DefaultIdentityProviderImplTestCase {
         }
     }
 
+    @Test
+    public void testUserAndRolesAreCached() throws Exception {
+        SCIMServiceStub scimServiceStub = Mockito.mock(SCIMServiceStub.class);
+        DCRMServiceStub dcrmServiceStub = Mockito.mock(DCRMServiceStub.class);
+        OAuth2ServiceStubs oAuth2ServiceStub = Mockito.mock(OAuth2ServiceStubs.class);
+        UserRoleCache userRoleCache = new UserRoleCache(10, 300);
+        DefaultIdentityProviderImpl idpImpl = new DefaultIdentityProviderImpl(scimServiceStub, dcrmServiceStub,
+                oAuth2ServiceStub, userRoleCache);
+
+        String userName = "John";
+        String userId = "cfbde56e-8422-498e-b6dc-85a6f1f8b058";
+        String roleName1 = "subscriber";
+        String roleId1 = "fb5aaf9c-1fdf-4b2d-86bc-6e3203b99618";
+        String roleName2 = "manager";
+        String roleId2 = "097435bc-c460-402b-9137-8ab65fd28c3e";
+
+        String searchResponseBody = "{\"totalResults\":1,\"schemas\":[\"urn:scim:schemas:core:1.0\"],\"Resources\":"
+                + "[{\"id\":\"" + userId + "\",\"userName\":\"" + userName + "\"}]}";
+        Response searchResponse = Response.builder().status(APIMgtConstants.HTTPStatusCodes.SC_200_OK)
+                .headers(new HashMap<>()).body(searchResponseBody.getBytes()).build();
+        Mockito.when(scimServiceStub.searchUsers("userName Eq " + userName)).thenReturn(searchResponse);
+
+        String userResponseBody = "{\"schemas\":[\"urn:scim:schemas:core:1.0\"],\"groups\":[{\"display\":\""
+                + roleName1 + "\",\"value\":\"" + roleId1 + "\"},{\"display\":\"" + roleName2 + "\",\"value\":\""
+                + roleId2 + "\"}],\"id\":\"" + userId + "\",\"userName\":\"" + userName + "\"}";
+        Response userResponse = Response.builder().status(APIMgtConstants.HTTPStatusCodes.SC_200_OK)
+                .headers(new HashMap<>()).body(userResponseBody.getBytes()).build();
+        Mockito.when(scimServiceStub.getUser(userId)).thenReturn(userResponse);
+
+        Assert.assertEquals(idpImpl.getIdOfUser(userName), userId);
+        Assert.assertEquals(idpImpl.getIdOfUser(userName), userId);
+        Mockito.verify(scimServiceStub, Mockito.times(1)).searchUsers("userName Eq " + userName);
+
+        //roles of the user are retrieved once, along with the Ids and names of the roles
+        List<String> roleIds = idpImpl.getRoleIdsOfUser(userId);
+        Assert.assertEquals(roleIds.size(), 2);
+        Assert.assertTrue(roleIds.contains(roleId1) && roleIds.contains(roleId2));
+        //the returned list is not backed by the cache
+        roleIds.clear();
+        Assert.assertEquals(idpImpl.getRoleIdsOfUser(userId).size(), 2);
+        List<String> roleNames = idpImpl.getRoleNamesOfUser(userId);
+        Assert.assertTrue(roleNames.contains(roleName1) && roleNames.contains(roleName2));
+        Assert.assertEquals(idpImpl.getRoleName(roleId1), roleName1);
+        Assert.assertEquals(idpImpl.getRoleId(roleName2), roleId2);
+        Mockito.verify(scimServiceStub, Mockito.times(1)).getUser(userId);
+        Mockito.verify(scimServiceStub, Mockito.never()).getGroup(any(String.class));
+        Mockito.verify(scimServiceStub, Mockito.never()).searchGroups(any(String.class));
+
+        //invalidated user is retrieved again
+        userRoleCache.invalidateUser(userName);
+        Assert.assertEquals(idpImpl.getIdOfUser(userName), userId);
+        Assert.assertEquals(idpImpl.getRoleIdsOfUser(userId).size(), 2);
+        Mockito.verify(scimServiceStub, Mockito.times(2)).searchUsers("userName Eq " + userName);
+        Mockito.verify(scimServiceStub, Mockito.times(2)).getUser(userId);
+    }
+
 }
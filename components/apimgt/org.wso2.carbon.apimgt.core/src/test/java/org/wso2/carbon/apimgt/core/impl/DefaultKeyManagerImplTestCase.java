@@ -734,6 +734,43 @@ public class DefaultKeyManagerImplTestCase {
         }
     }
 
+    @Test
+    public void testTokenMetaDataIsCachedUntilRevoked() throws Exception {
+        DCRMServiceStub dcrmServiceStub = Mockito.mock(DCRMServiceStub.class);
+        OAuth2ServiceStubs oAuth2ServiceStub = Mockito.mock(OAuth2ServiceStubs.class);
+        OAuth2ServiceStubs.IntrospectionServiceStub introspectionStub = Mockito.mock(
+                OAuth2ServiceStubs.IntrospectionServiceStub.class);
+        OAuth2ServiceStubs.RevokeServiceStub revokeStub = Mockito.mock(OAuth2ServiceStubs.RevokeServiceStub.class);
+        Mockito.when(oAuth2ServiceStub.getIntrospectionServiceStub()).thenReturn(introspectionStub);
+        Mockito.when(oAuth2ServiceStub.getRevokeServiceStub()).thenReturn(revokeStub);
+        AccessTokenInfoCache tokenInfoCache = new AccessTokenInfoCache(10, 300);
+        DefaultKeyManagerImpl kmImpl = new DefaultKeyManagerImpl(dcrmServiceStub, oAuth2ServiceStub, tokenInfoCache);
+        final String accessToken = "aaa-aaa-aaa-aaa";
+
+        OAuth2IntrospectionResponse introspectionResponse = new OAuth2IntrospectionResponse();
+        introspectionResponse.setActive(true);
+        introspectionResponse.setClientId(consumerKey);
+        introspectionResponse.setIat(System.currentTimeMillis() / 1000);
+        introspectionResponse.setExp(System.currentTimeMillis() / 1000 + 3600);
+        Mockito.when(introspectionStub.introspectToken(accessToken)).thenAnswer(invocation -> Response.builder()
+                .status(200)
+                .headers(new HashMap<>())
+                .body(new Gson().toJson(introspectionResponse), feign.Util.UTF_8)
+                .build());
+        Mockito.when(revokeStub.revokeAccessToken(accessToken, consumerKey, consumerSecret))
+                .thenReturn(Response.builder().status(200).headers(new HashMap<>()).build());
+
+        Assert.assertTrue(kmImpl.getTokenMetaData(accessToken).isTokenValid());
+        Assert.assertTrue(kmImpl.getTokenMetaData(accessToken).isTokenValid());
+        Mockito.verify(introspectionStub, Mockito.times(1)).introspectToken(accessToken);
+        Assert.assertEquals(tokenInfoCache.getHitCount(), 1);
+
+        kmImpl.revokeAccessToken(accessToken, consumerKey, consumerSecret);
+        introspectionResponse.setActive(false);
+        Assert.assertFalse(kmImpl.getTokenMetaData(accessToken).isTokenValid());
+        Mockito.verify(introspectionStub, Mockito.times(2)).introspectToken(accessToken);
+    }
+
     private AccessTokenInfo createExpectedKeyManagerResponse(OAuth2TokenInfo oAuth2TokenInfo) {
         AccessTokenInfo accessTokenInfo = new AccessTokenInfo();
         accessTokenInfo.setAccessToken(oAuth2TokenInfo.getAccessToken());
@@ -0,0 +1,170 @@
+/*
+ *   Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 Inc. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.api.IdentityProvider;
+import org.wso2.carbon.apimgt.core.configuration.models.MailConfigurations;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.exception.IdentityProviderException;
+import org.wso2.carbon.apimgt.core.template.dto.NotificationDTO;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.mail.Address;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+
+public class NewApiVersionMailNotifierTestCase {
+
+    @Test
+    public void testMailsAreSentInBatchesOverOneConnection() throws Exception {
+        MailConfigurations mailConfigurations = new MailConfigurations();
+        mailConfigurations.setMaxRecipientsPerMail(2);
+        Transport transport = createTransport();
+        NewApiVersionMailNotifier notifier = createNotifier(mailConfigurations, transport);
+
+        Set<String> subscribers = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            subscribers.add("user" + i);
+        }
+        subscribers.add("unknown");
+        notifier.sendNotifications(createNotificationDTO(subscribers));
+
+        ArgumentCaptor<Message> messages = ArgumentCaptor.forClass(Message.class);
+        ArgumentCaptor<Address[]> recipients = ArgumentCaptor.forClass(Address[].class);
+        Mockito.verify(transport, Mockito.times(3)).sendMessage(messages.capture(), recipients.capture());
+        Mockito.verify(transport, Mockito.times(1)).connect(anyString(), anyString());
+        Mockito.verify(transport, Mockito.times(1)).close();
+
+        Set<String> notifiedAddresses = new HashSet<>();
+        for (Address[] batch : recipients.getAllValues()) {
+            Assert.assertTrue(batch.length <= 2);
+            for (Address address : batch) {
+                notifiedAddresses.add(address.toString());
+            }
+        }
+        Assert.assertEquals(notifiedAddresses.size(), 5);
+        Assert.assertTrue(notifiedAddresses.contains("user0@wso2.com"));
+
+        List<Message> sentMessages = messages.getAllValues();
+        Assert.assertTrue(sentMessages.get(0) == sentMessages.get(2));
+        Assert.assertEquals(sentMessages.get(0).getSubject(), "Pizza$Shack 2.0.0 Released");
+        // subscribers are not listed in the mail
+        Assert.assertEquals(sentMessages.get(0).getAllRecipients().length, 1);
+    }
+
+    @Test
+    public void testFailedBatchIsRetried() throws Exception {
+        MailConfigurations mailConfigurations = new MailConfigurations();
+        mailConfigurations.setRetryInterval(0);
+        Transport transport = createTransport();
+        Mockito.doThrow(new MessagingException("Connection reset")).doNothing().when(transport)
+                .sendMessage(any(Message.class), any(Address[].class));
+        NewApiVersionMailNotifier notifier = createNotifier(mailConfigurations, transport);
+
+        Set<String> subscribers = new HashSet<>();
+        subscribers.add("user0");
+        notifier.sendNotifications(createNotificationDTO(subscribers));
+
+        Mockito.verify(transport, Mockito.times(2)).sendMessage(any(Message.class), any(Address[].class));
+        // the connection is reopened for the retry
+        Mockito.verify(transport, Mockito.times(2)).connect(anyString(), anyString());
+    }
+
+    @Test
+    public void testBatchIsNotRetriedAfterMaxAttempts() throws Exception {
+        MailConfigurations mailConfigurations = new MailConfigurations();
+        mailConfigurations.setMaxRecipientsPerMail(1);
+        mailConfigurations.setMaxSendAttempts(2);
+        mailConfigurations.setRetryInterval(0);
+        Transport transport = createTransport();
+        Mockito.doThrow(new MessagingException("Connection reset")).when(transport)
+                .sendMessage(any(Message.class), any(Address[].class));
+        NewApiVersionMailNotifier notifier = createNotifier(mailConfigurations, transport);
+
+        Set<String> subscribers = new HashSet<>();
+        subscribers.add("user0");
+        subscribers.add("user1");
+        notifier.sendNotifications(createNotificationDTO(subscribers));
+
+        // each of the two batches is attempted twice
+        Mockito.verify(transport, Mockito.times(4)).sendMessage(any(Message.class), any(Address[].class));
+    }
+
+    private static NewApiVersionMailNotifier createNotifier(MailConfigurations mailConfigurations,
+                                                            Transport transport) throws Exception {
+        IdentityProvider identityProvider = Mockito.mock(IdentityProvider.class);
+        for (int i = 0; i < 5; i++) {
+            Mockito.when(identityProvider.getIdOfUser("user" + i)).thenReturn("id" + i);
+            Mockito.when(identityProvider.getEmailOfUser("id" + i)).thenReturn("user" + i + "@wso2.com");
+        }
+        Mockito.when(identityProvider.getIdOfUser("unknown")).thenThrow(
+                new IdentityProviderException("User not found", ExceptionCodes.RESOURCE_RETRIEVAL_FAILED));
+
+        return new NewApiVersionMailNotifier(mailConfigurations) {
+            @Override
+            Transport getTransport(Session mailSession) {
+                return transport;
+            }
+
+            @Override
+            IdentityProvider getIdentityProvider() {
+                return identityProvider;
+            }
+        };
+    }
+
+    private static Transport createTransport() throws Exception {
+        Transport transport = Mockito.mock(Transport.class);
+        AtomicBoolean connected = new AtomicBoolean();
+        Mockito.doAnswer(invocation -> {
+            connected.set(true);
+            return null;
+        }).when(transport).connect(anyString(), anyString());
+        Mockito.doAnswer(invocation -> {
+            connected.set(false);
+            return null;
+        }).when(transport).close();
+        Mockito.when(transport.isConnected()).thenAnswer(invocation -> connected.get());
+        return transport;
+    }
+
+    private static NotificationDTO createNotificationDTO(Set<String> subscribers) {
+        Properties properties = new Properties();
+        properties.put(NotifierConstants.NEW_API_VERSION, "2.0.0");
+        properties.put(NotifierConstants.API_NAME, "Pizza$Shack");
+        properties.put(NotifierConstants.SUBSCRIBERS_PER_API, subscribers);
+        properties.put(NotifierConstants.TITLE_KEY, "$2 $1 Released");
+        properties.put(NotifierConstants.TEMPLATE_KEY, "<html><body>Version $1 of $2 is available.</body></html>");
+        return new NotificationDTO(properties, NotifierConstants.NOTIFICATION_TYPE_NEW_VERSION);
+    }
+}
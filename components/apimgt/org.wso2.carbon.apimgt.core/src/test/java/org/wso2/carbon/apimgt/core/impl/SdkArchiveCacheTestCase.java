@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.models.SdkGenerationJob;
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SdkArchiveCacheTestCase {
+
+    private static final String KEY_1 = repeat('1');
+    private static final String KEY_2 = repeat('2');
+    private static final String KEY_3 = repeat('3');
+
+    private Path cacheDirectory;
+
+    @BeforeMethod
+    public void createCacheDirectory() throws Exception {
+        cacheDirectory = Files.createTempDirectory("sdk-cache");
+    }
+
+    @AfterMethod
+    public void deleteCacheDirectory() {
+        FileUtils.deleteQuietly(cacheDirectory.toFile());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedArchivesAreEvicted() throws Exception {
+        SdkArchiveCache archiveCache = new SdkArchiveCache(cacheDirectory, 25);
+        Path archive1 = archiveCache.put(KEY_1, createArchive(archiveCache, KEY_1, 10));
+        Path archive2 = archiveCache.put(KEY_2, createArchive(archiveCache, KEY_2, 10));
+        Assert.assertEquals(archiveCache.getSize(), 20);
+
+        // the first archive is used more recently than the second one
+        Assert.assertEquals(archiveCache.get(KEY_1), archive1);
+        Path archive3 = archiveCache.put(KEY_3, createArchive(archiveCache, KEY_3, 10));
+
+        Assert.assertEquals(archiveCache.getSize(), 20);
+        Assert.assertNull(archiveCache.get(KEY_2));
+        Assert.assertFalse(Files.exists(archive2));
+        Assert.assertEquals(archiveCache.get(KEY_1), archive1);
+        Assert.assertEquals(archiveCache.get(KEY_3), archive3);
+    }
+
+    @Test
+    public void testArchiveLargerThanCacheIsKept() throws Exception {
+        SdkArchiveCache archiveCache = new SdkArchiveCache(cacheDirectory, 5);
+        archiveCache.put(KEY_1, createArchive(archiveCache, KEY_1, 4));
+        Path archive2 = archiveCache.put(KEY_2, createArchive(archiveCache, KEY_2, 10));
+
+        Assert.assertNull(archiveCache.get(KEY_1));
+        Assert.assertEquals(archiveCache.get(KEY_2), archive2);
+    }
+
+    @Test
+    public void testEvictedArchiveIsDeletedOnceReleased() throws Exception {
+        SdkArchiveCache archiveCache = new SdkArchiveCache(cacheDirectory, 15);
+        Path archive1 = archiveCache.put(KEY_1, createArchive(archiveCache, KEY_1, 10));
+        SizedInputStream archiveStream = archiveCache.open(archive1);
+        Assert.assertEquals(archiveStream.getSize(), 10);
+
+        archiveCache.put(KEY_2, createArchive(archiveCache, KEY_2, 10));
+        Assert.assertNull(archiveCache.get(KEY_1));
+        Assert.assertNull(archiveCache.open(archive1));
+        // the evicted archive is still being read
+        Assert.assertTrue(Files.exists(archive1));
+        Assert.assertEquals(IOUtils.toByteArray(archiveStream).length, 10);
+
+        archiveStream.close();
+        Assert.assertFalse(Files.exists(archive1));
+    }
+
+    @Test
+    public void testArchiveGeneratedAgainDoesNotReplaceArchiveBeingRead() throws Exception {
+        SdkArchiveCache archiveCache = new SdkArchiveCache(cacheDirectory, 100);
+        Path archive = archiveCache.put(KEY_1, createArchive(archiveCache, KEY_1, 10));
+        try (SizedInputStream archiveStream = archiveCache.open(archive)) {
+            Path newArchive = archiveCache.put(KEY_1, createArchive(archiveCache, KEY_1, 5));
+
+            Assert.assertNotEquals(newArchive, archive);
+            Assert.assertEquals(archiveCache.get(KEY_1), newArchive);
+            Assert.assertEquals(archiveCache.getSize(), 5);
+            Assert.assertEquals(IOUtils.toByteArray(archiveStream).length, 10);
+        }
+        Assert.assertFalse(Files.exists(archive));
+    }
+
+    @Test
+    public void testArchivesOfPreviousRunAreRemoved() throws Exception {
+        SdkArchiveCache archiveCache = new SdkArchiveCache(cacheDirectory, 100);
+        Path archive = archiveCache.put(KEY_1, createArchive(archiveCache, KEY_1, 10));
+        Path otherFile = Files.write(cacheDirectory.resolve("other"), new byte[1]);
+
+        archiveCache = new SdkArchiveCache(cacheDirectory, 100);
+        Assert.assertNull(archiveCache.get(KEY_1));
+        Assert.assertFalse(Files.exists(archive));
+        Assert.assertTrue(Files.exists(otherFile));
+    }
+
+    @Test
+    public void testConcurrentRequestsShareGeneration() throws Exception {
+        SdkGenerationService generationService = new SdkGenerationService(1, 1,
+                new SdkArchiveCache(cacheDirectory, 100));
+        CountDownLatch generationLatch = new CountDownLatch(1);
+        AtomicInteger generations = new AtomicInteger();
+        SdkGenerationService.ArchiveGenerator generator = archiveDirectory -> {
+            generations.incrementAndGet();
+            generationLatch.await();
+            return Files.write(archiveDirectory.resolve("sdk.zip"), new byte[10]);
+        };
+
+        SdkGenerationJob job1 = generationService.submit(KEY_1, "api", "java", "admin", generator);
+        SdkGenerationJob job2 = generationService.submit(KEY_1, "api", "java", "admin", generator);
+        Assert.assertEquals(job1.getStatus(), SdkGenerationJob.Status.IN_PROGRESS);
+        generationLatch.countDown();
+        Assert.assertEquals(job1.getArchivePath(), job2.getArchivePath());
+        Assert.assertEquals(job2.getStatus(), SdkGenerationJob.Status.COMPLETED);
+        Assert.assertSame(generationService.getJob(job1.getId()), job1);
+
+        // served from the cache once generated
+        SdkGenerationJob job3 = generationService.submit(KEY_1, "api", "java", "admin", generator);
+        Assert.assertEquals(job3.getStatus(), SdkGenerationJob.Status.COMPLETED);
+        Assert.assertEquals(job3.getArchivePath(), job1.getArchivePath());
+        Assert.assertEquals(generations.get(), 1);
+    }
+
+    @Test
+    public void testFailedGenerationIsAttemptedAgain() throws Exception {
+        SdkGenerationService generationService = new SdkGenerationService(1, 1,
+                new SdkArchiveCache(cacheDirectory, 100));
+        SdkGenerationJob failedJob = generationService.submit(KEY_1, "api", "java", "admin", archiveDirectory -> {
+            throw new IllegalStateException("Generation failed");
+        });
+        try {
+            failedJob.getArchivePath();
+            Assert.fail("Exception was expected, but wasn't thrown");
+        } catch (ExecutionException e) {
+            Assert.assertEquals(failedJob.getStatus(), SdkGenerationJob.Status.FAILED);
+            Assert.assertEquals(failedJob.getErrorMessage(), "Generation failed");
+        }
+
+        // the failed generation may not be forgotten until its task is done, so wait for it
+        SdkGenerationJob job = null;
+        for (int i = 0; i < 100 && job == null; i++) {
+            SdkGenerationJob submittedJob = generationService.submit(KEY_1, "api", "java", "admin",
+                    archiveDirectory -> Files.write(archiveDirectory.resolve("sdk.zip"), new byte[10]));
+            try {
+                submittedJob.getArchivePath();
+                job = submittedJob;
+            } catch (ExecutionException e) {
+                Thread.sleep(10);
+            }
+        }
+        Assert.assertNotNull(job);
+        Assert.assertEquals(job.getStatus(), SdkGenerationJob.Status.COMPLETED);
+    }
+
+    private static Path createArchive(SdkArchiveCache archiveCache, String key, int size) throws Exception {
+        return Files.write(archiveCache.getArchiveDirectory(key).resolve("sdk.zip"), new byte[size]);
+    }
+
+    private static String repeat(char character) {
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < 64; i++) {
+            key.append(character);
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *   Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 Inc. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.exception.IdentityProviderException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class UserRoleCacheTestCase {
+
+    @Test
+    public void testExpiredEntryIsRetrievedAgain() throws Exception {
+        UserRoleCache cache = new UserRoleCache(10, 0);
+        AtomicInteger retrievals = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            String userId = cache.getUserId("John", userName -> {
+                retrievals.incrementAndGet();
+                return "john-id";
+            });
+            Assert.assertEquals(userId, "john-id");
+        }
+
+        Assert.assertEquals(retrievals.get(), 3);
+    }
+
+    @Test
+    public void testFailedRetrievalIsNotCached() throws Exception {
+        UserRoleCache cache = new UserRoleCache(10, 300);
+        AtomicInteger retrievals = new AtomicInteger();
+
+        try {
+            cache.getRoleId("manager", roleName -> {
+                retrievals.incrementAndGet();
+                throw new IdentityProviderException("Role not found", ExceptionCodes.RESOURCE_RETRIEVAL_FAILED);
+            });
+            Assert.fail("Exception was expected, but wasn't thrown");
+        } catch (IdentityProviderException e) {
+            Assert.assertEquals(e.getMessage(), "Role not found");
+        }
+        String roleId = cache.getRoleId("manager", roleName -> {
+            retrievals.incrementAndGet();
+            return "manager-id";
+        });
+
+        Assert.assertEquals(roleId, "manager-id");
+        Assert.assertEquals(retrievals.get(), 2);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() throws Exception {
+        UserRoleCache cache = new UserRoleCache(2, 300);
+        AtomicInteger retrievals = new AtomicInteger();
+        UserRoleCache.Loader<String> loader = roleId -> {
+            retrievals.incrementAndGet();
+            return roleId + "-name";
+        };
+
+        cache.getRoleName("role1", loader);
+        cache.getRoleName("role2", loader);
+        cache.getRoleName("role1", loader);
+        cache.getRoleName("role3", loader);
+        Assert.assertEquals(retrievals.get(), 3);
+
+        // role2 was the least recently used role when role3 was cached
+        cache.getRoleName("role1", loader);
+        cache.getRoleName("role2", loader);
+        Assert.assertEquals(retrievals.get(), 4);
+    }
+
+    @Test
+    public void testInvalidateUser() throws Exception {
+        UserRoleCache cache = new UserRoleCache(10, 300);
+        AtomicInteger retrievals = new AtomicInteger();
+        UserRoleCache.Loader<Map<String, String>> loader = userId -> {
+            retrievals.incrementAndGet();
+            Map<String, String> roles = new LinkedHashMap<>();
+            roles.put("role1", "manager");
+            return roles;
+        };
+
+        Assert.assertEquals(cache.getUserId("John", userName -> "john-id"), "john-id");
+        Assert.assertEquals(cache.getRoleIdsOfUser("john-id", loader).get(0), "role1");
+        Assert.assertEquals(cache.getRoleNamesOfUser("john-id", loader).get(0), "manager");
+        Assert.assertEquals(cache.getRoleId("manager", roleName -> "other-id"), "role1");
+        Assert.assertEquals(retrievals.get(), 1);
+
+        cache.invalidateUser("John");
+        Assert.assertEquals(cache.getUserId("John", userName -> "new-john-id"), "new-john-id");
+        cache.getRoleIdsOfUser("john-id", loader);
+        Assert.assertEquals(retrievals.get(), 2);
+        // roles are shared between users and are not invalidated along with a user
+        Assert.assertEquals(cache.getRoleId("manager", roleName -> "other-id"), "role1");
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.core.template;
+
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.app.VelocityEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.wso2.carbon.apimgt.core.SampleTestObjectCreator;
+import org.wso2.carbon.apimgt.core.models.policy.ApplicationPolicy;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the renders per second of an application throttle policy when a Velocity engine is initialized and the
+ * template is parsed for each render, as done before {@link VelocityTemplateCache}, with rendering the template
+ * parsed once by the cache. Run the main method from the test classpath of this module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateRenderBenchmark {
+
+    private ApplicationThrottlePolicyTemplateBuilder templateBuilder;
+    private String templatePath;
+    private VelocityContext context;
+
+    @Setup
+    public void setup() {
+        ApplicationPolicy policy = SampleTestObjectCreator.createDefaultApplicationPolicy();
+        templateBuilder = new ApplicationThrottlePolicyTemplateBuilder(policy);
+        templatePath = templateBuilder.policyTemplateLocation + "throttle_policy_template_app"
+                + ThrottlePolicyTemplateBuilder.XML_EXTENSION;
+        context = new VelocityContext();
+        ThrottlePolicyTemplateBuilder.setConstantContext(context);
+        context.put(ThrottlePolicyTemplateBuilder.POLICY, policy);
+        context.put(ThrottlePolicyTemplateBuilder.QUOTA_POLICY, policy.getDefaultQuotaPolicy());
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public String enginePerRender() {
+        VelocityEngine velocityEngine = templateBuilder.initVelocityEngine();
+        StringWriter writer = new StringWriter();
+        velocityEngine.getTemplate(templatePath).merge(context, writer);
+        return writer.toString();
+    }
+
+    @Benchmark
+    public String cachedTemplate() throws APITemplateException {
+        return VelocityTemplateCache.getInstance().render(templatePath, context);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TemplateRenderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.core.template;
+
+import org.apache.velocity.VelocityContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.SampleTestObjectCreator;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.models.policy.ApplicationPolicy;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for the shared Velocity template cache.
+ */
+public class VelocityTemplateCacheTestCase {
+
+    private static final String APP_POLICY_TEMPLATE = "resources" + File.separator + "template" + File.separator
+            + "policy_templates" + File.separator + "throttle_policy_template_app.xml";
+
+    @Test
+    public void testTemplateIsParsedOnce() throws APITemplateException {
+        VelocityTemplateCache templateCache = VelocityTemplateCache.getInstance();
+        Assert.assertSame(templateCache.getTemplate(APP_POLICY_TEMPLATE),
+                templateCache.getTemplate(APP_POLICY_TEMPLATE));
+    }
+
+    @Test
+    public void testBatchRender() throws APITemplateException {
+        List<VelocityContext> contexts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ApplicationPolicy policy = SampleTestObjectCreator.createDefaultApplicationPolicy();
+            policy.setPolicyName("policy" + i);
+            VelocityContext context = new VelocityContext();
+            ThrottlePolicyTemplateBuilder.setConstantContext(context);
+            context.put(ThrottlePolicyTemplateBuilder.POLICY, policy);
+            context.put(ThrottlePolicyTemplateBuilder.QUOTA_POLICY, policy.getDefaultQuotaPolicy());
+            contexts.add(context);
+        }
+        VelocityTemplateCache templateCache = VelocityTemplateCache.getInstance();
+        List<String> policies = templateCache.render(APP_POLICY_TEMPLATE, contexts);
+
+        Assert.assertEquals(policies.size(), 3);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(policies.get(i), templateCache.render(APP_POLICY_TEMPLATE, contexts.get(i)));
+            Assert.assertTrue(policies.get(i).contains("policy" + i));
+        }
+    }
+
+    @Test
+    public void testMissingTemplate() {
+        try {
+            VelocityTemplateCache.getInstance().getTemplate("resources/template/missing.xml");
+            Assert.fail("Exception was expected, but wasn't thrown");
+        } catch (APITemplateException e) {
+            Assert.assertEquals(e.getErrorHandler(), ExceptionCodes.TEMPLATE_EXCEPTION);
+        }
+    }
+}
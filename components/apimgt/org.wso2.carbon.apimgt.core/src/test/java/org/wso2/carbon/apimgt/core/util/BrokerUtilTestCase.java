@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.core.util;
+
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.api.Broker;
+import org.wso2.carbon.apimgt.core.configuration.models.BrokerConfigurations;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.exception.GatewayException;
+import org.wso2.carbon.apimgt.core.models.events.GatewayEvent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.jms.JMSException;
+import javax.jms.TextMessage;
+import javax.jms.Topic;
+import javax.jms.TopicConnection;
+import javax.jms.TopicPublisher;
+import javax.jms.TopicSession;
+
+/**
+ * Test cases for publishing gateway events through BrokerUtil
+ */
+public class BrokerUtilTestCase {
+    private static final String TOPIC = "PublisherTopic";
+
+    private Broker broker;
+    private TopicConnection topicConnection;
+    private TopicSession topicSession;
+    private TopicPublisher topicPublisher;
+
+    @BeforeMethod
+    public void setup() throws Exception {
+        broker = Mockito.mock(Broker.class);
+        topicConnection = Mockito.mock(TopicConnection.class);
+        topicSession = Mockito.mock(TopicSession.class);
+        topicPublisher = Mockito.mock(TopicPublisher.class);
+        Mockito.when(broker.getTopicConnection()).thenReturn(topicConnection);
+        Mockito.when(topicConnection.createTopicSession(Mockito.anyBoolean(), Mockito.anyInt()))
+                .thenReturn(topicSession);
+        Mockito.when(topicSession.createTopic(TOPIC)).thenReturn(Mockito.mock(Topic.class));
+        Mockito.when(topicSession.createPublisher(Mockito.any(Topic.class))).thenReturn(topicPublisher);
+        Mockito.when(topicSession.createTextMessage(Mockito.anyString())).thenReturn(Mockito.mock(TextMessage.class));
+    }
+
+    @AfterMethod
+    public void cleanup() {
+        BrokerUtil.shutdown();
+    }
+
+    @Test
+    public void testConnectionAndPublisherAreReused() throws Exception {
+        BrokerUtil.initialize(broker, new BrokerConfigurations());
+
+        for (int i = 0; i < 100; i++) {
+            BrokerUtil.publishToTopic(TOPIC, new GatewayEvent("TEST_EVENT"));
+        }
+
+        Mockito.verify(broker, Mockito.times(1)).getTopicConnection();
+        Mockito.verify(topicConnection, Mockito.times(1)).start();
+        Mockito.verify(topicConnection, Mockito.times(1)).createTopicSession(Mockito.anyBoolean(), Mockito.anyInt());
+        Mockito.verify(topicPublisher, Mockito.times(100)).publish(Mockito.any(TextMessage.class));
+        Mockito.verify(topicConnection, Mockito.never()).close();
+    }
+
+    @Test
+    public void testReconnectOnPublishFailure() throws Exception {
+        BrokerUtil.initialize(broker, new BrokerConfigurations());
+        Mockito.doThrow(new JMSException("connection lost")).doNothing().when(topicPublisher)
+                .publish(Mockito.any(TextMessage.class));
+
+        BrokerUtil.publishToTopic(TOPIC, new GatewayEvent("TEST_EVENT"));
+
+        Mockito.verify(broker, Mockito.times(2)).getTopicConnection();
+        Mockito.verify(topicConnection, Mockito.times(1)).close();
+        Mockito.verify(topicPublisher, Mockito.times(2)).publish(Mockito.any(TextMessage.class));
+    }
+
+    @Test
+    public void testAsyncPublishingBatchesEventsInTransaction() throws Exception {
+        BrokerConfigurations configurations = new BrokerConfigurations();
+        configurations.setAsyncPublishingEnabled(true);
+        // the batch is published as soon as it is full, well before the window closes
+        configurations.setBatchWindowMillis(TimeUnit.MINUTES.toMillis(10));
+        configurations.setMaxBatchSize(500);
+        BrokerUtil.initialize(broker, configurations);
+        CountDownLatch committed = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            committed.countDown();
+            return null;
+        }).when(topicSession).commit();
+
+        for (int i = 0; i < 500; i++) {
+            BrokerUtil.publishToTopic(TOPIC, new GatewayEvent("TEST_EVENT"));
+        }
+
+        Assert.assertTrue(committed.await(10, TimeUnit.SECONDS), "Batch of events was not published");
+        Mockito.verify(topicPublisher, Mockito.times(500)).publish(Mockito.any(TextMessage.class));
+        Mockito.verify(topicConnection, Mockito.times(1)).createTopicSession(true, TopicSession.SESSION_TRANSACTED);
+        Mockito.verify(topicSession, Mockito.times(1)).commit();
+        Mockito.verify(broker, Mockito.times(1)).getTopicConnection();
+    }
+
+    @Test
+    public void testAsyncPublishingRejectsEventsWhenQueueIsFull() throws Exception {
+        BrokerConfigurations configurations = new BrokerConfigurations();
+        configurations.setAsyncPublishingEnabled(true);
+        configurations.setBatchWindowMillis(0);
+        configurations.setMaxBatchSize(1);
+        configurations.setAsyncQueueSize(1);
+        configurations.setAsyncEnqueueTimeoutMillis(0);
+        BrokerUtil.initialize(broker, configurations);
+        CountDownLatch publishing = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            publishing.countDown();
+            resume.await();
+            return null;
+        }).when(topicPublisher).publish(Mockito.any(TextMessage.class));
+
+        // the first event holds the publishing thread, the second one fills the queue
+        BrokerUtil.publishToTopic(TOPIC, new GatewayEvent("TEST_EVENT"));
+        Assert.assertTrue(publishing.await(10, TimeUnit.SECONDS), "Event was not published");
+        BrokerUtil.publishToTopic(TOPIC, new GatewayEvent("TEST_EVENT"));
+        try {
+            BrokerUtil.publishToTopic(TOPIC, new GatewayEvent("TEST_EVENT"));
+            Assert.fail("Event was accepted while the publishing queue is full");
+        } catch (GatewayException e) {
+            Assert.assertEquals(e.getErrorHandler(), ExceptionCodes.GATEWAY_EXCEPTION);
+        } finally {
+            resume.countDown();
+        }
+
+        BrokerUtil.shutdown();
+        // the rejected event is not published out of order on the calling thread
+        Mockito.verify(topicPublisher, Mockito.times(2)).publish(Mockito.any(TextMessage.class));
+    }
+
+    @Test
+    public void testFailedAsyncPublishIsRetriedAndCounted() throws Exception {
+        BrokerConfigurations configurations = new BrokerConfigurations();
+        configurations.setAsyncPublishingEnabled(true);
+        configurations.setBatchWindowMillis(0);
+        configurations.setMaxAsyncPublishAttempts(2);
+        configurations.setAsyncRetryIntervalMillis(0);
+        BrokerUtil.initialize(broker, configurations);
+        Mockito.doThrow(new JMSException("connection lost")).when(topicPublisher)
+                .publish(Mockito.any(TextMessage.class));
+
+        BrokerUtil.publishToTopic(TOPIC, new GatewayEvent("TEST_EVENT"));
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (BrokerUtil.getFailedAsyncEventCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(BrokerUtil.getFailedAsyncEventCount(), 1);
+        // each attempt publishes once more on a fresh connection
+        Mockito.verify(topicPublisher, Mockito.times(4)).publish(Mockito.any(TextMessage.class));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.core.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases for the scope route table of REST APIs
+ */
+public class ScopeRouteTableTestCase {
+
+    @Test
+    public void testLookupByTemplateAndRequestPath() {
+        Map<String, String> resourceScopes = new HashMap<>();
+        resourceScopes.put("GET_/apis", "apim:api_view");
+        resourceScopes.put("POST_/apis", "apim:api_create");
+        resourceScopes.put("GET_/apis/{apiId}", "apim:api_view");
+        resourceScopes.put("DELETE_/apis/{apiId}", "apim:api_delete");
+        resourceScopes.put("GET_/apis/{apiId}/documents/{documentId}/content", "apim:api_view apim:api_create");
+        ScopeRouteTable scopeRouteTable = new ScopeRouteTable(resourceScopes);
+
+        Assert.assertEquals(scopeRouteTable.getScopes("GET", "/apis"), "apim:api_view");
+        Assert.assertEquals(scopeRouteTable.getScopes("POST", "/apis/"), "apim:api_create");
+        Assert.assertEquals(scopeRouteTable.getScopes("DELETE", "/apis/{apiId}"), "apim:api_delete");
+        Assert.assertEquals(scopeRouteTable.getScopes("delete", "/apis/7a2298c4-c905-403f-8fac-38c73301631f"),
+                "apim:api_delete");
+        Assert.assertEquals(scopeRouteTable.getScopes("GET", "/apis/{apiId}/documents/{documentId}/content"),
+                "apim:api_view apim:api_create");
+        Assert.assertEquals(scopeRouteTable.getScopes("GET", "/apis/123/documents/456/content?limit=1"),
+                "apim:api_view apim:api_create");
+    }
+
+    @Test
+    public void testUndefinedResources() {
+        Map<String, String> resourceScopes = new HashMap<>();
+        resourceScopes.put("GET_/apis/{apiId}", "apim:api_view");
+        ScopeRouteTable scopeRouteTable = new ScopeRouteTable(resourceScopes);
+
+        Assert.assertNull(scopeRouteTable.getScopes("PUT", "/apis/{apiId}"));
+        Assert.assertNull(scopeRouteTable.getScopes("GET", "/apis"));
+        Assert.assertNull(scopeRouteTable.getScopes("GET", "/apis/123/documents"));
+        Assert.assertNull(scopeRouteTable.getScopes("GET", "/applications/123"));
+        Assert.assertNull(scopeRouteTable.getScopes(null, "/apis/123"));
+    }
+
+    @Test
+    public void testLiteralSegmentsTakePrecedence() {
+        Map<String, String> resourceScopes = new HashMap<>();
+        resourceScopes.put("POST_/apis/{apiId}", "apim:api_update");
+        resourceScopes.put("POST_/apis/copy-api", "apim:api_create");
+        resourceScopes.put("GET_/apis/{apiId}/lifecycle", "apim:api_view");
+        resourceScopes.put("GET_/apis/{apiId}/swagger", "apim:api_view");
+        resourceScopes.put("GET_/apis/import/{fileName}/content", "apim:api_import");
+        ScopeRouteTable scopeRouteTable = new ScopeRouteTable(resourceScopes);
+
+        Assert.assertEquals(scopeRouteTable.getScopes("POST", "/apis/copy-api"), "apim:api_create");
+        Assert.assertEquals(scopeRouteTable.getScopes("POST", "/apis/{apiId}"), "apim:api_update");
+        Assert.assertEquals(scopeRouteTable.getScopes("POST", "/apis/123"), "apim:api_update");
+        Assert.assertEquals(scopeRouteTable.getScopes("GET", "/apis/import/x/content"), "apim:api_import");
+        // falls back to the templated segment when the literal branch does not match the rest of the path
+        Assert.assertEquals(scopeRouteTable.getScopes("GET", "/apis/import/lifecycle"), "apim:api_view");
+        Assert.assertEquals(scopeRouteTable.getScopes("GET", "/apis/copy-api/swagger"), "apim:api_view");
+        Assert.assertNull(scopeRouteTable.getScopes("GET", "/apis/copy-api"));
+    }
+}
@@ -62,6 +62,10 @@ public class RestApiConstants {
     public static final String APPLICATION_JSON = "application/json";
     public static final String DEFAULT_RESPONSE_CONTENT_TYPE = APPLICATION_JSON;
     public static final String HEADER_CONTENT_TYPE = "Content-Type";
+    public static final String HEADER_RANGE = "Range";
+    public static final String HEADER_CONTENT_RANGE = "Content-Range";
+    public static final String HEADER_ACCEPT_RANGES = "Accept-Ranges";
+    public static final String BYTE_RANGE_UNIT = "bytes";
 
     public static final String RESOURCE_PATH_APIS = "/apis";
     public static final String RESOURCE_PATH_COMPOSITE_APIS = "/composite-apis";
@@ -23,13 +23,13 @@ import com.google.gson.reflect.TypeToken;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.wso2.carbon.apimgt.core.api.APIDefinition;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
 import org.wso2.carbon.apimgt.core.exception.ErrorHandler;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.impl.APIDefinitionFromSwagger20;
 import org.wso2.carbon.apimgt.core.impl.APIManagerFactory;
 import org.wso2.carbon.apimgt.core.models.AccessTokenInfo;
+import org.wso2.carbon.apimgt.core.util.ScopeRouteTable;
 import org.wso2.carbon.apimgt.rest.api.common.APIConstants;
 import org.wso2.carbon.apimgt.rest.api.common.RestApiConstants;
 import org.wso2.carbon.apimgt.rest.api.common.api.RESTAPIAuthenticator;
@@ -42,10 +42,15 @@ import org.wso2.msf4j.Response;
 import org.wso2.msf4j.ServiceMethodInfo;
 import org.wso2.msf4j.util.SystemVariableUtil;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.Path;
 
 /**
  * OAuth2 implementation class
@@ -54,6 +59,7 @@ public class OAuth2Authenticator implements RESTAPIAuthenticator {
     private static final Logger log = LoggerFactory.getLogger(OAuth2Authenticator.class);
     private static final String LOGGED_IN_USER = "LOGGED_IN_USER";
     private static String authServerURL;
+    private static final Map<String, ScopeRouteTable> scopeRouteTables = new ConcurrentHashMap<>();
 
     static {
         authServerURL = SystemVariableUtil.getValue(RestApiConstants.AUTH_SERVER_URL_KEY,
@@ -229,6 +235,31 @@ public class OAuth2Authenticator implements RESTAPIAuthenticator {
 
     }
 
+    /*
+    * This method returns the table of resource scopes of a rest api, compiling the api definition only the first
+    * time the rest api is accessed.
+    * @param restAPIResource api definition of the rest api
+    * @return ScopeRouteTable : scopes of the resources of the rest api
+    * @throws APIMgtSecurityException if the api definition could not be compiled.
+    * */
+    private ScopeRouteTable getScopeRouteTable(String restAPIResource) throws APIMgtSecurityException {
+        ScopeRouteTable scopeRouteTable = scopeRouteTables.get(restAPIResource);
+        if (scopeRouteTable == null) {
+            try {
+                scopeRouteTable = new APIDefinitionFromSwagger20().getScopeRouteTable(restAPIResource);
+            } catch (APIManagementException e) {
+                String message = "Error while compiling the scopes of rest api resources";
+                log.error(message, e);
+                throw new APIMgtSecurityException(message, ExceptionCodes.INVALID_SCOPE);
+            }
+            ScopeRouteTable existingTable = scopeRouteTables.putIfAbsent(restAPIResource, scopeRouteTable);
+            if (existingTable != null) {
+                scopeRouteTable = existingTable;
+            }
+        }
+        return scopeRouteTable;
+    }
+
     /*
     * This method validates the given scope against scopes defined in the api resource
     * @param Request
@@ -254,34 +285,26 @@ public class OAuth2Authenticator implements RESTAPIAuthenticator {
         if (scopesToValidate != null && scopesArr.length > 0) {
             final List<String> scopes = Arrays.asList(scopesArr);
             if (restAPIResource != null) {
-                APIDefinition apiDefinition = new APIDefinitionFromSwagger20();
-                try {
-                    String apiResourceDefinitionScopes = apiDefinition.getScopeOfResourcePath(restAPIResource, request,
-                            serviceMethodInfo);
-                    if (apiResourceDefinitionScopes == null) {
-                        if (log.isDebugEnabled()) {
-                            log.debug("Scope not defined in swagger for matching resource " + path + " and verb "
-                                    + verb + " . Hence consider as anonymous permission and let request to continue.");
-                        }
-                        // scope validation gets through if no scopes found in the api definition
-                        authorized[0] = true;
-                    } else {
-                        Arrays.stream(apiResourceDefinitionScopes.split(" "))
-                                .forEach(scopeKey -> {
-                                    Optional<String> key = scopes.stream().filter(scp -> {
-                                        return scp.equalsIgnoreCase(scopeKey);
-                                    }).findAny();
-                                    if (key.isPresent()) {
-                                        authorized[0] = true;  //scope validation success if one of the
-                                        // apiResourceDefinitionScopes found.
-                                    }
-                                });
+                String apiResourceDefinitionScopes = getScopeRouteTable(restAPIResource)
+                        .getScopes(verb, getResourceTemplate(serviceMethodInfo, verb));
+                if (apiResourceDefinitionScopes == null) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Scope not defined in swagger for matching resource " + path + " and verb "
+                                + verb + " . Hence consider as anonymous permission and let request to continue.");
                     }
-
-                } catch (APIManagementException e) {
-                    String message = "Error while validating scopes";
-                    log.error(message, e);
-                    throw new APIMgtSecurityException(message, ExceptionCodes.INVALID_SCOPE);
+                    // scope validation gets through if no scopes found in the api definition
+                    authorized[0] = true;
+                } else {
+                    Arrays.stream(apiResourceDefinitionScopes.split(" "))
+                            .forEach(scopeKey -> {
+                                Optional<String> key = scopes.stream().filter(scp -> {
+                                    return scp.equalsIgnoreCase(scopeKey);
+                                }).findAny();
+                                if (key.isPresent()) {
+                                    authorized[0] = true;  //scope validation success if one of the
+                                    // apiResourceDefinitionScopes found.
+                                }
+                            });
                 }
             } else {
                 if (log.isDebugEnabled()) {
@@ -300,6 +323,30 @@ public class OAuth2Authenticator implements RESTAPIAuthenticator {
         return authorized[0];
     }
 
+    /*
+    * This method returns the path template of the resource matched for the request, relative to the base path of
+    * the rest api
+    * @param ServiceMethodInfo
+    * @param verb http verb of the request
+    * @return String : path template of the resource
+    * @throws APIMgtSecurityException if the matched resource could not be read.
+    * */
+    private String getResourceTemplate(ServiceMethodInfo serviceMethodInfo, String verb)
+            throws APIMgtSecurityException {
+        //TODO change to this if msf4j2.3.0-m2 or higher
+        //Method resourceMethod = (Method) request.getProperty("method");
+        Method resourceMethod = serviceMethodInfo.getMethod();
+        if (resourceMethod == null || verb == null) {
+            String message = "Could not read required properties from HTTP Request. HTTP_METHOD=" + verb +
+                    " resourceTemplate=" + resourceMethod;
+            log.error(message);
+            throw new APIMgtSecurityException("Error while validating scopes", ExceptionCodes.INVALID_SCOPE);
+        }
+        String apiPrefix = resourceMethod.getDeclaringClass().getAnnotation(ApplicationPath.class).value();
+        Path pathAnnotation = resourceMethod.getAnnotation(Path.class);
+        return pathAnnotation != null ? apiPrefix + pathAnnotation.value() : apiPrefix;
+    }
+
     /**
      * @param authHeader Authorization Bearer header which contains the access token
      * @return access token
@@ -0,0 +1,116 @@
+/*
+* Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+package org.wso2.carbon.apimgt.rest.api.common.util;
+
+import org.wso2.carbon.apimgt.rest.api.common.RestApiConstants;
+
+/**
+ * Byte range of a resource requested with the Range header, such as "bytes=0-499", "bytes=500-" or "bytes=-500".
+ * Only a single range is supported; a request for several ranges is served with the whole resource.
+ */
+public final class ByteRange {
+
+    private static final String RANGE_PREFIX = RestApiConstants.BYTE_RANGE_UNIT + "=";
+
+    private final long first;
+    private final long last;
+
+    private ByteRange(long first, long last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Parse the range requested from a resource of the given size
+     *
+     * @param rangeHeader value of the Range header
+     * @param size        size of the resource in bytes
+     * @return requested range, which is not satisfiable if it starts after the end of the resource, or null if the
+     * whole resource should be served since no valid single range is requested
+     */
+    public static ByteRange parse(String rangeHeader, long size) {
+        if (rangeHeader == null || !rangeHeader.startsWith(RANGE_PREFIX)) {
+            return null;
+        }
+        String range = rangeHeader.substring(RANGE_PREFIX.length()).trim();
+        int separatorIndex = range.indexOf('-');
+        if (separatorIndex < 0 || range.indexOf(',') >= 0) {
+            return null;
+        }
+        try {
+            String firstValue = range.substring(0, separatorIndex).trim();
+            String lastValue = range.substring(separatorIndex + 1).trim();
+            if (firstValue.isEmpty()) {
+                // suffix range, which requests the last bytes of the resource
+                long suffixLength = Long.parseLong(lastValue);
+                if (suffixLength < 0) {
+                    return null;
+                }
+                return new ByteRange(Math.max(0, size - suffixLength), size - 1);
+            }
+            long first = Long.parseLong(firstValue);
+            if (first < 0) {
+                return null;
+            }
+            if (first >= size) {
+                // the range starts after the end of the resource
+                return new ByteRange(first, first - 1);
+            }
+            if (lastValue.isEmpty()) {
+                return new ByteRange(first, size - 1);
+            }
+            long last = Long.parseLong(lastValue);
+            if (last < first) {
+                return null;
+            }
+            return new ByteRange(first, Math.min(last, size - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Check whether the range overlaps the resource, so that it can be served
+     *
+     * @return true if the range can be served
+     */
+    public boolean isSatisfiable() {
+        return first <= last;
+    }
+
+    public long getFirst() {
+        return first;
+    }
+
+    public long getLast() {
+        return last;
+    }
+
+    public long getLength() {
+        return last - first + 1;
+    }
+
+    /**
+     * Get the value of the Content-Range header for the range
+     *
+     * @param size size of the resource in bytes
+     * @return Content-Range header value
+     */
+    public String getContentRange(long size) {
+        String range = isSatisfiable() ? first + "-" + last : "*";
+        return RestApiConstants.BYTE_RANGE_UNIT + " " + range + "/" + size;
+    }
+}
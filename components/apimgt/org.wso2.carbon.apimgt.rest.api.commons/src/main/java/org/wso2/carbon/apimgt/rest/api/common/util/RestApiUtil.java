@@ -29,6 +29,7 @@ import org.wso2.carbon.apimgt.core.exception.ErrorHandler;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.impl.APIManagerFactory;
 import org.wso2.carbon.apimgt.core.models.policy.Policy;
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
 import org.wso2.carbon.apimgt.rest.api.common.RestApiConstants;
 import org.wso2.carbon.apimgt.rest.api.common.dto.ErrorDTO;
 import org.wso2.carbon.apimgt.rest.api.common.exception.APIMgtSecurityException;
@@ -40,6 +41,7 @@ import org.wso2.msf4j.Request;
 import org.yaml.snakeyaml.Yaml;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -51,6 +53,9 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 
 /**
@@ -513,4 +518,43 @@ public class RestApiUtil {
         return ZonedDateTime.parse(timestamp).getZone();
     }
 
+    /**
+     * Build a response streaming the given content. If the size of the content is known, only the byte range
+     * requested by the Range header is streamed, so that large content can be downloaded in parts. The content is
+     * closed once it is streamed.
+     *
+     * @param content     content to stream
+     * @param rangeHeader value of the Range header of the request, or null if there is none
+     * @return response builder with the content as the entity, to which headers such as the content type can be added
+     */
+    public static Response.ResponseBuilder getStreamingResponseBuilder(InputStream content, String rangeHeader) {
+        if (!(content instanceof SizedInputStream)) {
+            return Response.ok(content);
+        }
+        long size = ((SizedInputStream) content).getSize();
+        ByteRange range = ByteRange.parse(rangeHeader, size);
+        if (range == null) {
+            return Response.ok(getStreamingOutput(content, 0, size))
+                    .header(RestApiConstants.HEADER_ACCEPT_RANGES, RestApiConstants.BYTE_RANGE_UNIT)
+                    .header(HttpHeaders.CONTENT_LENGTH, size);
+        }
+        if (!range.isSatisfiable()) {
+            IOUtils.closeQuietly(content);
+            return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(RestApiConstants.HEADER_CONTENT_RANGE, range.getContentRange(size));
+        }
+        return Response.status(Response.Status.PARTIAL_CONTENT)
+                .entity(getStreamingOutput(content, range.getFirst(), range.getLength()))
+                .header(RestApiConstants.HEADER_ACCEPT_RANGES, RestApiConstants.BYTE_RANGE_UNIT)
+                .header(RestApiConstants.HEADER_CONTENT_RANGE, range.getContentRange(size))
+                .header(HttpHeaders.CONTENT_LENGTH, range.getLength());
+    }
+
+    private static StreamingOutput getStreamingOutput(InputStream content, long offset, long length) {
+        return outputStream -> {
+            try (InputStream inputStream = content) {
+                IOUtils.copyLarge(inputStream, outputStream, offset, length);
+            }
+        };
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ *   Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 Inc. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.wso2.carbon.apimgt.rest.api.commons.impl;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.impl.APIDefinitionFromSwagger20;
+import org.wso2.carbon.apimgt.core.util.ScopeRouteTable;
+import org.wso2.carbon.apimgt.rest.api.common.APIConstants;
+import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
+import org.wso2.carbon.messaging.CarbonMessage;
+import org.wso2.msf4j.Request;
+import org.wso2.msf4j.ServiceMethodInfo;
+
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+/**
+ * Compares resolving the scope of a REST API resource by parsing the REST API definition on each request, as done
+ * by {@link APIDefinitionFromSwagger20#getScopeOfResourcePath}, with looking it up from a {@link ScopeRouteTable}
+ * compiled once. Run the main method from the test classpath of this module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScopeValidationBenchmark {
+    private static final String VERB = "GET";
+
+    private String restAPIResource;
+    private Request request;
+    private ServiceMethodInfo serviceMethodInfo;
+    private ScopeRouteTable scopeRouteTable;
+    private String resourceTemplate;
+
+    @Setup
+    public void setup() throws Exception {
+        restAPIResource = RestApiUtil.getStoreRestAPIResource();
+        CarbonMessage carbonMessage = Mockito.mock(CarbonMessage.class);
+        Mockito.when(carbonMessage.getProperty(APIConstants.HTTP_METHOD)).thenReturn(VERB);
+        request = new Request(carbonMessage);
+        serviceMethodInfo = Mockito.mock(ServiceMethodInfo.class);
+        Mockito.when(serviceMethodInfo.getMethod()).thenReturn(SdksResource.class.getMethod("getSdk"));
+        scopeRouteTable = new APIDefinitionFromSwagger20().getScopeRouteTable(restAPIResource);
+        resourceTemplate = "/apis" + SdksResource.class.getMethod("getSdk").getAnnotation(Path.class).value();
+    }
+
+    @Benchmark
+    public String parseDefinitionPerRequest() throws APIManagementException {
+        return new APIDefinitionFromSwagger20().getScopeOfResourcePath(restAPIResource, request, serviceMethodInfo);
+    }
+
+    @Benchmark
+    public String lookupCompiledRouteTable() {
+        return scopeRouteTable.getScopes(VERB, resourceTemplate);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ScopeValidationBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Resource of the store REST API used for the benchmark
+     */
+    @ApplicationPath("/apis")
+    public static class SdksResource {
+        @GET
+        @Path("/{apiId}/sdks/{language}")
+        public void getSdk() {
+        }
+    }
+}
@@ -29,17 +29,25 @@ import org.wso2.carbon.apimgt.core.configuration.models.APIMConfigurations;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
 import org.wso2.carbon.apimgt.core.exception.ErrorHandler;
 import org.wso2.carbon.apimgt.core.models.policy.Policy;
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
 import org.wso2.carbon.apimgt.rest.api.common.RestApiConstants;
 import org.wso2.carbon.apimgt.rest.api.common.dto.ErrorDTO;
 import org.wso2.carbon.apimgt.rest.api.common.exception.APIMgtSecurityException;
 import org.wso2.carbon.apimgt.rest.api.common.exception.BadRequestException;
 import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.mockito.Mockito.when;
 
@@ -352,4 +360,67 @@ public class RestApiUtilTestCase {
         }
 
     }
+
+    @Test(description = "Test streaming a byte range of content of known size")
+    public void testGetStreamingResponseBuilderWithRange() throws Exception {
+        byte[] content = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+        Response response = RestApiUtil.getStreamingResponseBuilder(getSizedStream(content), null).build();
+        Assert.assertEquals(response.getStatus(), 200);
+        Assert.assertEquals(response.getStringHeaders().getFirst(RestApiConstants.HEADER_ACCEPT_RANGES), "bytes");
+        Assert.assertEquals(getStreamedContent(response), "0123456789");
+
+        response = RestApiUtil.getStreamingResponseBuilder(getSizedStream(content), "bytes=2-4").build();
+        Assert.assertEquals(response.getStatus(), 206);
+        Assert.assertEquals(response.getStringHeaders().getFirst(RestApiConstants.HEADER_CONTENT_RANGE),
+                "bytes 2-4/10");
+        Assert.assertEquals(getStreamedContent(response), "234");
+
+        response = RestApiUtil.getStreamingResponseBuilder(getSizedStream(content), "bytes=7-").build();
+        Assert.assertEquals(getStreamedContent(response), "789");
+
+        response = RestApiUtil.getStreamingResponseBuilder(getSizedStream(content), "bytes=-3").build();
+        Assert.assertEquals(response.getStringHeaders().getFirst(RestApiConstants.HEADER_CONTENT_RANGE),
+                "bytes 7-9/10");
+        Assert.assertEquals(getStreamedContent(response), "789");
+
+        // several ranges are not supported, so the whole content is streamed
+        response = RestApiUtil.getStreamingResponseBuilder(getSizedStream(content), "bytes=0-1,4-5").build();
+        Assert.assertEquals(response.getStatus(), 200);
+        Assert.assertEquals(getStreamedContent(response), "0123456789");
+
+        response = RestApiUtil.getStreamingResponseBuilder(getSizedStream(content), "bytes=10-").build();
+        Assert.assertEquals(response.getStatus(), 416);
+        Assert.assertEquals(response.getStringHeaders().getFirst(RestApiConstants.HEADER_CONTENT_RANGE), "bytes */10");
+        Assert.assertNull(response.getEntity());
+    }
+
+    @Test(description = "Test streaming content of unknown size")
+    public void testGetStreamingResponseBuilderWithoutSize() throws Exception {
+        InputStream content = new ByteArrayInputStream(new byte[10]);
+        Response response = RestApiUtil.getStreamingResponseBuilder(content, "bytes=2-4").build();
+        Assert.assertEquals(response.getStatus(), 200);
+        Assert.assertSame(response.getEntity(), content);
+    }
+
+    private static SizedInputStream getSizedStream(byte[] content) {
+        InputStream inputStream = new ByteArrayInputStream(content);
+        return new SizedInputStream() {
+            @Override
+            public long getSize() {
+                return content.length;
+            }
+
+            @Override
+            public int read() throws IOException {
+                return inputStream.read();
+            }
+        };
+    }
+
+    private static String getStreamedContent(Response response) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(outputStream);
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
 }
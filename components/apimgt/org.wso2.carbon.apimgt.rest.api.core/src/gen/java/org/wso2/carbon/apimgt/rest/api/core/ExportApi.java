@@ -56,9 +56,10 @@ public class ExportApi implements Microservice  {
         @io.swagger.annotations.ApiResponse(code = 404, message = "Not Found. Requested Policies does not exist. ", response = File.class),
         
         @io.swagger.annotations.ApiResponse(code = 406, message = "Not Acceptable. The requested media type is not supported ", response = File.class) })
-    public Response exportPoliciesThrottleGet(@ApiParam(value = "Media types acceptable for the response. Default is application/json. " , defaultValue="application/json")@HeaderParam("Accept") String accept
+    public Response exportPoliciesThrottleGet(@ApiParam(value = "Manifest version of a previous export. Only the Siddhi apps changed since that export are returned. ") @QueryParam("manifestVersion") String manifestVersion
+,@ApiParam(value = "Media types acceptable for the response. Default is application/json. " , defaultValue="application/json")@HeaderParam("Accept") String accept
 , @Context Request request)
     throws NotFoundException {
-        return delegate.exportPoliciesThrottleGet(accept, request);
+        return delegate.exportPoliciesThrottleGet(manifestVersion,accept, request);
     }
 }
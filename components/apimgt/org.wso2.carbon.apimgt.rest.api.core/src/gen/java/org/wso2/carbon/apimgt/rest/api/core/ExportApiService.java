@@ -19,6 +19,7 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 
 public abstract class ExportApiService {
-    public abstract Response exportPoliciesThrottleGet(String accept
+    public abstract Response exportPoliciesThrottleGet(String manifestVersion
+ ,String accept
  , Request request) throws NotFoundException;
 }
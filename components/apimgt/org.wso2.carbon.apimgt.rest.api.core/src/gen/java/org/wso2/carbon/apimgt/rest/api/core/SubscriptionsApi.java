@@ -47,7 +47,7 @@ public class SubscriptionsApi implements Microservice  {
     
     @Consumes({ "application/json" })
     @Produces({ "application/json" })
-    @io.swagger.annotations.ApiOperation(value = "Return the list of subscriptions of an API ", notes = "Return the list of subscriptions of an API, by proving API context and version. Response consist of API Context, API version, Consumer Key and Subscription Policy ", response = SubscriptionListDTO.class, tags={ "Subscriptions of API", })
+    @io.swagger.annotations.ApiOperation(value = "Return the list of subscriptions of an API ", notes = "Return the list of subscriptions of an API, by proving API context and version. Response consist of API Context, API version, Consumer Key and Subscription Policy. When API context and version are not provided, subscriptions of all APIs are returned in pages of `limit` entries. The `nextCursor` of a page is passed as `after` to retrieve the next page. The `changeSequence` of the first page can later be passed as `since` to retrieve only the subscriptions added, updated or removed after the snapshot was taken. ", response = SubscriptionListDTO.class, tags={ "Subscriptions of API", })
     @io.swagger.annotations.ApiResponses(value = { 
         @io.swagger.annotations.ApiResponse(code = 200, message = "OK. The list of Subscriptions. ", response = SubscriptionListDTO.class),
         
@@ -59,9 +59,11 @@ public class SubscriptionsApi implements Microservice  {
     public Response subscriptionsGet(@ApiParam(value = "Context of the API. ") @QueryParam("apiContext") String apiContext
 ,@ApiParam(value = "Version of the API. ") @QueryParam("apiVersion") String apiVersion
 ,@ApiParam(value = "Number of entities that should be retrieved. ") @QueryParam("limit") Integer limit
+,@ApiParam(value = "Cursor of the page to be retrieved, as returned in the `nextCursor` of the previous page. ") @QueryParam("after") String after
+,@ApiParam(value = "Change sequence returned by a previous request. Only the changes made after it are returned. ") @QueryParam("since") Long since
 ,@ApiParam(value = "Media types acceptable for the response. Default is application/json. " , defaultValue="application/json")@HeaderParam("Accept") String accept
 , @Context Request request)
     throws NotFoundException {
-        return delegate.subscriptionsGet(apiContext,apiVersion,limit,accept, request);
+        return delegate.subscriptionsGet(apiContext,apiVersion,limit,after,since,accept, request);
     }
 }
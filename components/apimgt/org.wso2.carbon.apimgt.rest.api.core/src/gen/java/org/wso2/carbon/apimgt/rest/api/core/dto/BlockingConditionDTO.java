@@ -33,6 +33,12 @@ public class BlockingConditionDTO   {
   @JsonProperty("endingIP")
   private Long endingIP = null;
 
+  @JsonProperty("startingIPAddress")
+  private String startingIPAddress = null;
+
+  @JsonProperty("endingIPAddress")
+  private String endingIPAddress = null;
+
   public BlockingConditionDTO uuid(String uuid) {
     this.uuid = uuid;
     return this;
@@ -159,6 +165,42 @@ public class BlockingConditionDTO   {
     this.endingIP = endingIP;
   }
 
+  public BlockingConditionDTO startingIPAddress(String startingIPAddress) {
+    this.startingIPAddress = startingIPAddress;
+    return this;
+  }
+
+   /**
+   * First address of an IP range condition as an IPv4 or IPv6 address. &#x60;startingIP&#x60; is only set for IPv4 ranges. 
+   * @return startingIPAddress
+  **/
+  @ApiModelProperty(value = "First address of an IP range condition as an IPv4 or IPv6 address. `startingIP` is only set for IPv4 ranges. ")
+  public String getStartingIPAddress() {
+    return startingIPAddress;
+  }
+
+  public void setStartingIPAddress(String startingIPAddress) {
+    this.startingIPAddress = startingIPAddress;
+  }
+
+  public BlockingConditionDTO endingIPAddress(String endingIPAddress) {
+    this.endingIPAddress = endingIPAddress;
+    return this;
+  }
+
+   /**
+   * Last address of an IP range condition as an IPv4 or IPv6 address. &#x60;endingIP&#x60; is only set for IPv4 ranges. 
+   * @return endingIPAddress
+  **/
+  @ApiModelProperty(value = "Last address of an IP range condition as an IPv4 or IPv6 address. `endingIP` is only set for IPv4 ranges. ")
+  public String getEndingIPAddress() {
+    return endingIPAddress;
+  }
+
+  public void setEndingIPAddress(String endingIPAddress) {
+    this.endingIPAddress = endingIPAddress;
+  }
+
 
   @Override
   public boolean equals(java.lang.Object o) {
@@ -175,12 +217,14 @@ public class BlockingConditionDTO   {
         Objects.equals(this.enabled, blockingCondition.enabled) &&
         Objects.equals(this.fixedIp, blockingCondition.fixedIp) &&
         Objects.equals(this.startingIP, blockingCondition.startingIP) &&
-        Objects.equals(this.endingIP, blockingCondition.endingIP);
+        Objects.equals(this.endingIP, blockingCondition.endingIP) &&
+        Objects.equals(this.startingIPAddress, blockingCondition.startingIPAddress) &&
+        Objects.equals(this.endingIPAddress, blockingCondition.endingIPAddress);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(uuid, conditionType, conditionValue, enabled, fixedIp, startingIP, endingIP);
+    return Objects.hash(uuid, conditionType, conditionValue, enabled, fixedIp, startingIP, endingIP, startingIPAddress, endingIPAddress);
   }
 
   @Override
@@ -195,6 +239,8 @@ public class BlockingConditionDTO   {
     sb.append("    fixedIp: ").append(toIndentedString(fixedIp)).append("\n");
     sb.append("    startingIP: ").append(toIndentedString(startingIP)).append("\n");
     sb.append("    endingIP: ").append(toIndentedString(endingIP)).append("\n");
+    sb.append("    startingIPAddress: ").append(toIndentedString(startingIPAddress)).append("\n");
+    sb.append("    endingIPAddress: ").append(toIndentedString(endingIPAddress)).append("\n");
     sb.append("}");
     return sb.toString();
   }
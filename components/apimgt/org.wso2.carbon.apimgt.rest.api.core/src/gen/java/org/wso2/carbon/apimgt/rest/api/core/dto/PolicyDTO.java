@@ -20,6 +20,12 @@ public class PolicyDTO   {
   @JsonProperty("stopOnQuotaReach")
   private Boolean stopOnQuotaReach = null;
 
+  @JsonProperty("requestCount")
+  private Long requestCount = null;
+
+  @JsonProperty("unitTime")
+  private Long unitTime = null;
+
   public PolicyDTO id(String id) {
     this.id = id;
     return this;
@@ -74,6 +80,42 @@ public class PolicyDTO   {
     this.stopOnQuotaReach = stopOnQuotaReach;
   }
 
+  public PolicyDTO requestCount(Long requestCount) {
+    this.requestCount = requestCount;
+    return this;
+  }
+
+   /**
+   * Number of requests allowed within the unit time, or 0 if the request count is not limited
+   * @return requestCount
+  **/
+  @ApiModelProperty(example = "1000", value = "Number of requests allowed within the unit time, or 0 if the request count is not limited")
+  public Long getRequestCount() {
+    return requestCount;
+  }
+
+  public void setRequestCount(Long requestCount) {
+    this.requestCount = requestCount;
+  }
+
+  public PolicyDTO unitTime(Long unitTime) {
+    this.unitTime = unitTime;
+    return this;
+  }
+
+   /**
+   * Unit time of the request count in milliseconds
+   * @return unitTime
+  **/
+  @ApiModelProperty(example = "60000", value = "Unit time of the request count in milliseconds")
+  public Long getUnitTime() {
+    return unitTime;
+  }
+
+  public void setUnitTime(Long unitTime) {
+    this.unitTime = unitTime;
+  }
+
 
   @Override
   public boolean equals(java.lang.Object o) {
@@ -86,12 +128,14 @@ public class PolicyDTO   {
     PolicyDTO policy = (PolicyDTO) o;
     return Objects.equals(this.id, policy.id) &&
         Objects.equals(this.name, policy.name) &&
-        Objects.equals(this.stopOnQuotaReach, policy.stopOnQuotaReach);
+        Objects.equals(this.stopOnQuotaReach, policy.stopOnQuotaReach) &&
+        Objects.equals(this.requestCount, policy.requestCount) &&
+        Objects.equals(this.unitTime, policy.unitTime);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(id, name, stopOnQuotaReach);
+    return Objects.hash(id, name, stopOnQuotaReach, requestCount, unitTime);
   }
 
   @Override
@@ -102,6 +146,8 @@ public class PolicyDTO   {
     sb.append("    id: ").append(toIndentedString(id)).append("\n");
     sb.append("    name: ").append(toIndentedString(name)).append("\n");
     sb.append("    stopOnQuotaReach: ").append(toIndentedString(stopOnQuotaReach)).append("\n");
+    sb.append("    requestCount: ").append(toIndentedString(requestCount)).append("\n");
+    sb.append("    unitTime: ").append(toIndentedString(unitTime)).append("\n");
     sb.append("}");
     return sb.toString();
   }
@@ -17,6 +17,15 @@ public class SubscriptionListDTO   {
   @JsonProperty("list")
   private List<SubscriptionDTO> list = new ArrayList<SubscriptionDTO>();
 
+  @JsonProperty("removedList")
+  private List<SubscriptionDTO> removedList = new ArrayList<SubscriptionDTO>();
+
+  @JsonProperty("nextCursor")
+  private String nextCursor = null;
+
+  @JsonProperty("changeSequence")
+  private Long changeSequence = null;
+
   public SubscriptionListDTO list(List<SubscriptionDTO> list) {
     this.list = list;
     return this;
@@ -40,6 +49,65 @@ public class SubscriptionListDTO   {
     this.list = list;
   }
 
+  public SubscriptionListDTO removedList(List<SubscriptionDTO> removedList) {
+    this.removedList = removedList;
+    return this;
+  }
+
+  public SubscriptionListDTO addRemovedListItem(SubscriptionDTO removedListItem) {
+    this.removedList.add(removedListItem);
+    return this;
+  }
+
+   /**
+   * Subscriptions removed after the requested change sequence. 
+   * @return removedList
+  **/
+  @ApiModelProperty(value = "Subscriptions removed after the requested change sequence. ")
+  public List<SubscriptionDTO> getRemovedList() {
+    return removedList;
+  }
+
+  public void setRemovedList(List<SubscriptionDTO> removedList) {
+    this.removedList = removedList;
+  }
+
+  public SubscriptionListDTO nextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+    return this;
+  }
+
+   /**
+   * Cursor of the next page. Not present on the last page. 
+   * @return nextCursor
+  **/
+  @ApiModelProperty(value = "Cursor of the next page. Not present on the last page. ")
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+
+  public SubscriptionListDTO changeSequence(Long changeSequence) {
+    this.changeSequence = changeSequence;
+    return this;
+  }
+
+   /**
+   * Position in the subscription change log the returned subscriptions are consistent with. 
+   * @return changeSequence
+  **/
+  @ApiModelProperty(value = "Position in the subscription change log the returned subscriptions are consistent with. ")
+  public Long getChangeSequence() {
+    return changeSequence;
+  }
+
+  public void setChangeSequence(Long changeSequence) {
+    this.changeSequence = changeSequence;
+  }
+
 
   @Override
   public boolean equals(java.lang.Object o) {
@@ -50,12 +118,15 @@ public class SubscriptionListDTO   {
       return false;
     }
     SubscriptionListDTO subscriptionList = (SubscriptionListDTO) o;
-    return Objects.equals(this.list, subscriptionList.list);
+    return Objects.equals(this.list, subscriptionList.list) &&
+        Objects.equals(this.removedList, subscriptionList.removedList) &&
+        Objects.equals(this.nextCursor, subscriptionList.nextCursor) &&
+        Objects.equals(this.changeSequence, subscriptionList.changeSequence);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(list);
+    return Objects.hash(list, removedList, nextCursor, changeSequence);
   }
 
   @Override
@@ -64,6 +135,9 @@ public class SubscriptionListDTO   {
     sb.append("class SubscriptionListDTO {\n");
     
     sb.append("    list: ").append(toIndentedString(list)).append("\n");
+    sb.append("    removedList: ").append(toIndentedString(removedList)).append("\n");
+    sb.append("    nextCursor: ").append(toIndentedString(nextCursor)).append("\n");
+    sb.append("    changeSequence: ").append(toIndentedString(changeSequence)).append("\n");
     sb.append("}");
     return sb.toString();
   }
@@ -5,6 +5,7 @@ import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.api.APIMgtAdminService;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
 import org.wso2.carbon.apimgt.core.impl.APIManagerFactory;
+import org.wso2.carbon.apimgt.core.models.API;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.rest.api.common.dto.ErrorDTO;
 import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
@@ -12,6 +13,7 @@ import org.wso2.carbon.apimgt.rest.api.core.ApisApiService;
 import org.wso2.carbon.apimgt.rest.api.core.NotFoundException;
 import org.wso2.carbon.apimgt.rest.api.core.dto.APIListDTO;
 import org.wso2.carbon.apimgt.rest.api.core.utils.MappingUtil;
+import org.wso2.carbon.apimgt.rest.api.core.utils.StreamingListOutput;
 import org.wso2.msf4j.Request;
 
 import javax.ws.rs.core.HttpHeaders;
@@ -82,13 +84,11 @@ public class ApisApiServiceImpl extends ApisApiService {
                 String[] gatewayLabels = labels.split(",");
                 List<String> labelList = new ArrayList<String>(Arrays.asList(gatewayLabels));
 
-                if (status != null && !status.isEmpty()) {
-                    apiListDTO = MappingUtil.toAPIListDTO(adminService.getAPIsByStatus(labelList, status));
-                    return Response.ok().entity(apiListDTO).build();
-                } else {
-                    apiListDTO = MappingUtil.toAPIListDTO(adminService.getAPIsByGatewayLabel(labelList));
-                    return Response.ok().entity(apiListDTO).build();
-                }
+                String lifecycleStatus = status != null && !status.isEmpty() ? status : null;
+                StreamingListOutput<API> apiListOutput = new StreamingListOutput<>(
+                        consumer -> adminService.getAPIsByGatewayLabel(labelList, lifecycleStatus, consumer),
+                        MappingUtil::toAPIInfoDTO, "Error while retrieving APIs");
+                return Response.ok(apiListOutput, MediaType.APPLICATION_JSON).build();
             } else {
                 apiListDTO = new APIListDTO();
                 return Response.ok().entity(apiListDTO).build();
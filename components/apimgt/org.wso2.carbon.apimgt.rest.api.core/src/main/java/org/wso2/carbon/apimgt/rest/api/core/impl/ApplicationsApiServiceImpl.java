@@ -29,12 +29,12 @@ import org.wso2.carbon.apimgt.core.models.Application;
 import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
 import org.wso2.carbon.apimgt.rest.api.core.ApplicationsApiService;
 import org.wso2.carbon.apimgt.rest.api.core.NotFoundException;
-import org.wso2.carbon.apimgt.rest.api.core.dto.ApplicationListDTO;
 import org.wso2.carbon.apimgt.rest.api.core.utils.MappingUtil;
+import org.wso2.carbon.apimgt.rest.api.core.utils.StreamingListOutput;
 import org.wso2.msf4j.Request;
 
 import java.util.HashMap;
-import java.util.List;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 public class ApplicationsApiServiceImpl extends ApplicationsApiService {
@@ -45,10 +45,10 @@ public class ApplicationsApiServiceImpl extends ApplicationsApiService {
             , Request request) throws NotFoundException {
         try {
             APIMgtAdminService apiMgtAdminService = APIManagerFactory.getInstance().getAPIMgtAdminService();
-            List<Application> applicationList = apiMgtAdminService.getAllApplications();
-            ApplicationListDTO applicationListDTO = new ApplicationListDTO();
-            applicationListDTO.setList(MappingUtil.convertToApplicationDtoList(applicationList));
-            return Response.ok(applicationListDTO).build();
+            StreamingListOutput<Application> applicationListOutput = new StreamingListOutput<>(
+                    apiMgtAdminService::getAllApplications, MappingUtil::toApplicationDTO,
+                    "Error while retrieving Applications.");
+            return Response.ok(applicationListOutput, MediaType.APPLICATION_JSON).build();
         } catch (APIManagementException e) {
             String errorMessage = "Error while retrieving Applications.";
             HashMap<String, String> paramList = new HashMap<String, String>();
@@ -10,11 +10,10 @@ import org.wso2.carbon.apimgt.rest.api.common.dto.ErrorDTO;
 import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
 import org.wso2.carbon.apimgt.rest.api.core.BlacklistApiService;
 import org.wso2.carbon.apimgt.rest.api.core.NotFoundException;
-import org.wso2.carbon.apimgt.rest.api.core.dto.BlockingConditionListDTO;
 import org.wso2.carbon.apimgt.rest.api.core.utils.MappingUtil;
+import org.wso2.carbon.apimgt.rest.api.core.utils.StreamingListOutput;
 import org.wso2.msf4j.Request;
 
-import java.util.List;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -30,10 +29,10 @@ public class BlacklistApiServiceImpl extends BlacklistApiService {
     public Response blacklistGet(String accept, Request request) throws NotFoundException {
         try {
             APIMgtAdminService apiMgtAdminService = APIManagerFactory.getInstance().getAPIMgtAdminService();
-            List<BlockConditions> blockConditionsList = apiMgtAdminService.getBlockConditions();
-            BlockingConditionListDTO blockingConditionListDTO = MappingUtil.fromBlockConditionListToListDTO
-                    (blockConditionsList);
-            return Response.ok(blockingConditionListDTO).build();
+            StreamingListOutput<BlockConditions> blockConditionListOutput = new StreamingListOutput<>(
+                    apiMgtAdminService::getBlockConditions, MappingUtil::fromBlockingConditionToDTO,
+                    "Error while retrieving block conditions");
+            return Response.ok(blockConditionListOutput, MediaType.APPLICATION_JSON).build();
         } catch (APIManagementException e) {
             String errorMessage = "Error while retrieving block conditions";
             ErrorDTO errorDTO = RestApiUtil.getErrorDTO(e.getErrorHandler());
@@ -30,12 +30,11 @@ import org.wso2.carbon.apimgt.rest.api.common.dto.ErrorDTO;
 import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
 import org.wso2.carbon.apimgt.rest.api.core.EndpointsApiService;
 import org.wso2.carbon.apimgt.rest.api.core.NotFoundException;
-import org.wso2.carbon.apimgt.rest.api.core.dto.EndpointListDTO;
 import org.wso2.carbon.apimgt.rest.api.core.utils.MappingUtil;
+import org.wso2.carbon.apimgt.rest.api.core.utils.StreamingListOutput;
 import org.wso2.msf4j.Request;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
@@ -79,13 +78,11 @@ public class EndpointsApiServiceImpl extends EndpointsApiService {
     public Response endpointsGet(Integer limit
             , String accept
             , Request request) throws NotFoundException {
-        EndpointListDTO endpointListDTO = new EndpointListDTO();
         try {
             APIMgtAdminService adminService = RestApiUtil.getAPIMgtAdminService();
-            List<Endpoint> endpointList = adminService.getAllEndpoints();
-            endpointListDTO.setList(MappingUtil.toEndpointListDto(endpointList));
-            endpointListDTO.setCount(endpointList.size());
-            return Response.ok().entity(endpointListDTO).build();
+            StreamingListOutput<Endpoint> endpointListOutput = new StreamingListOutput<>(
+                    adminService::getAllEndpoints, MappingUtil::toEndPointDTO, "Error while retrieving Endpoints");
+            return Response.ok(endpointListOutput, MediaType.APPLICATION_JSON).build();
         } catch (APIManagementException e) {
             String errorMessage = "Error while retrieving APIs";
             ErrorDTO errorDTO = RestApiUtil.getErrorDTO(e.getErrorHandler());
@@ -27,13 +27,15 @@ public class ExportApiServiceImpl extends ExportApiService {
     /**
      * Export throttle policies containing zip.
      *
+     * @param manifestVersion manifest version of a previous export, to export only the policies changed since it
      * @param accept  Accept header value
      * @param request msf4j request object
      * @return Response object
      * @throws NotFoundException if an error occurred when particular resource does not exits in the system.
      */
     @Override
-    public Response exportPoliciesThrottleGet(String accept, Request request) throws NotFoundException {
+    public Response exportPoliciesThrottleGet(String manifestVersion, String accept, Request request)
+            throws NotFoundException {
 
         String archiveName = "exported-policies";
         //files will be written to following directory
@@ -49,7 +51,8 @@ public class ExportApiServiceImpl extends ExportApiService {
             PolicyExportManager policyExportManager = new PolicyExportManager(apiMgtAdminService);
             //create archive and get the archive location
             String zippedFilePath = policyExportManager
-                    .createArchiveFromExecutionPlans(exportedPoliciesDirName, archiveDir, archiveName);
+                    .createArchiveFromExecutionPlans(exportedPoliciesDirName, archiveDir, archiveName,
+                            manifestVersion);
             APIFileUtils.deleteDirectory(exportedPoliciesDirName);
             File exportedApiArchiveFile = new File(zippedFilePath);
             Response.ResponseBuilder responseBuilder = Response.status(Response.Status.OK).entity(exportedApiArchiveFile);
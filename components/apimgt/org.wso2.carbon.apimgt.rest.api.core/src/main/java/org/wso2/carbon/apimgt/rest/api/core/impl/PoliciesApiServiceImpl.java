@@ -23,16 +23,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.api.APIMgtAdminService;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.models.PolicyValidationData;
 import org.wso2.carbon.apimgt.rest.api.common.dto.ErrorDTO;
 import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
 import org.wso2.carbon.apimgt.rest.api.core.NotFoundException;
 import org.wso2.carbon.apimgt.rest.api.core.PoliciesApiService;
-import org.wso2.carbon.apimgt.rest.api.core.dto.PolicyDTO;
-import org.wso2.carbon.apimgt.rest.api.core.dto.PolicyListDTO;
 import org.wso2.carbon.apimgt.rest.api.core.utils.MappingUtil;
+import org.wso2.carbon.apimgt.rest.api.core.utils.StreamingListOutput;
 import org.wso2.msf4j.Request;
 
-import java.util.List;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 /**
@@ -43,13 +43,11 @@ public class PoliciesApiServiceImpl extends PoliciesApiService {
 
     @Override
     public Response policiesGet(String accept, Request request) throws NotFoundException {
-        PolicyListDTO policyListDTO = new PolicyListDTO();
         try {
             APIMgtAdminService adminService = RestApiUtil.getAPIMgtAdminService();
-            List<PolicyDTO> policyDTOList = MappingUtil.convertToPolicyDtoList(adminService.getAllPolicies());
-            policyListDTO.setList(policyDTOList);
-            policyListDTO.setCount(policyDTOList.size());
-            return Response.ok().entity(policyListDTO).build();
+            StreamingListOutput<PolicyValidationData> policyListOutput = new StreamingListOutput<>(
+                    adminService::getAllPolicies, MappingUtil::toPolicyDTO, "Error while retrieving Policies");
+            return Response.ok(policyListOutput, MediaType.APPLICATION_JSON).build();
         } catch (APIManagementException e) {
             String errorMessage = "Error while retrieving Policies";
             ErrorDTO errorDTO = RestApiUtil.getErrorDTO(e.getErrorHandler());
@@ -7,6 +7,7 @@ import org.wso2.carbon.apimgt.core.api.APIMgtAdminService;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
 import org.wso2.carbon.apimgt.core.impl.APIManagerFactory;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
+import org.wso2.carbon.apimgt.core.models.SubscriptionValidationResults;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.core.util.APIUtils;
 import org.wso2.carbon.apimgt.rest.api.common.dto.ErrorDTO;
@@ -27,29 +28,43 @@ public class SubscriptionsApiServiceImpl extends SubscriptionsApiService {
     private static final Logger log = LoggerFactory.getLogger(SubscriptionsApiServiceImpl.class);
 
     /**
-     * Retrieve subscriptions
+     * Retrieve subscriptions. When API context and version are not provided subscriptions of all APIs are returned,
+     * either as pages of a snapshot or as the changes made after a given change sequence.
      *
      * @param apiContext Context of the API
      * @param apiVersion API version
      * @param limit      Limit value
+     * @param after      Cursor of the page to be retrieved
+     * @param since      Change sequence after which the changes should be retrieved
      * @return Subscriptions of the API
      * @throws NotFoundException If failed to retrieve subscriptions
      */
     @Override
     public Response subscriptionsGet(String apiContext, String apiVersion,
-                                     Integer limit, String accept,
+                                     Integer limit, String after, Long since, String accept,
                                      Request request) throws NotFoundException {
         try {
             APIMgtAdminService apiMgtAdminService = APIManagerFactory.getInstance().getAPIMgtAdminService();
-            List<SubscriptionValidationData> subscriptionsOfApi;
+            SubscriptionListDTO subscriptionsList = new SubscriptionListDTO();
             if (StringUtils.isEmpty(apiContext) || StringUtils.isEmpty(apiVersion)) {
                 APIUtils.logDebug("API Context or version is null or empty. Retrieving subscriptions of all APIs", log);
-                subscriptionsOfApi = apiMgtAdminService.getAPISubscriptions(limit);
+                int pageSize = limit == null ? -1 : limit;
+                SubscriptionValidationResults results;
+                if (since != null) {
+                    results = apiMgtAdminService.getAPISubscriptionChanges(since, pageSize);
+                } else {
+                    results = apiMgtAdminService.getAPISubscriptions(after, pageSize);
+                }
+                subscriptionsList.setList(MappingUtil.convertToSubscriptionListDto(results.getSubscriptionList()));
+                subscriptionsList.setRemovedList(
+                        MappingUtil.convertToSubscriptionListDto(results.getRemovedSubscriptionList()));
+                subscriptionsList.setNextCursor(results.getNextCursor());
+                subscriptionsList.setChangeSequence(results.getChangeSequence());
             } else {
-                subscriptionsOfApi = apiMgtAdminService.getAPISubscriptionsOfApi(apiContext, apiVersion);
+                List<SubscriptionValidationData> subscriptionsOfApi = apiMgtAdminService
+                        .getAPISubscriptionsOfApi(apiContext, apiVersion);
+                subscriptionsList.setList(MappingUtil.convertToSubscriptionListDto(subscriptionsOfApi));
             }
-            SubscriptionListDTO subscriptionsList = new SubscriptionListDTO();
-            subscriptionsList.setList(MappingUtil.convertToSubscriptionListDto(subscriptionsOfApi));
             return Response.ok(subscriptionsList).build();
         } catch (APIManagementException e) {
             String errorMessage = "Error while retrieving subscriptions.";
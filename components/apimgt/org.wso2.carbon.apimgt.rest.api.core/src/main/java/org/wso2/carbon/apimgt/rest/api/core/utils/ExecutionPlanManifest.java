@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.rest.api.core.utils;
+
+import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Content hashes of a set of execution plans/ siddhi apps. The version of a manifest is a hash of the names and
+ * hashes of all of its execution plans, so that the same set of execution plans always has the same version.
+ */
+public final class ExecutionPlanManifest {
+
+    private final String version;
+    private final Map<String, String> executionPlans;
+
+    private ExecutionPlanManifest(String version, Map<String, String> executionPlans) {
+        this.version = version;
+        this.executionPlans = Collections.unmodifiableMap(executionPlans);
+    }
+
+    /**
+     * Create the manifest of the given execution plans.
+     *
+     * @param executionPlans Map of execution plan names and execution plans
+     * @return manifest of the execution plans
+     * @throws APIManagementException if the hash algorithm is not available
+     */
+    public static ExecutionPlanManifest fromExecutionPlans(Map<String, String> executionPlans)
+            throws APIManagementException {
+        Map<String, String> hashes = new TreeMap<>();
+        for (Map.Entry<String, String> entry : executionPlans.entrySet()) {
+            hashes.put(entry.getKey(), hash(entry.getValue()));
+        }
+        StringBuilder manifest = new StringBuilder();
+        for (Map.Entry<String, String> entry : hashes.entrySet()) {
+            manifest.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        return new ExecutionPlanManifest(hash(manifest.toString()), hashes);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the hashes of the execution plans.
+     *
+     * @return Map of execution plan names and hex encoded SHA-256 hashes of the execution plans
+     */
+    public Map<String, String> getExecutionPlans() {
+        return executionPlans;
+    }
+
+    /**
+     * Get the execution plans which are added or changed since the given manifest.
+     *
+     * @param previous manifest of the previously deployed execution plans
+     * @return names of the added or changed execution plans
+     */
+    public Set<String> getChangedExecutionPlans(ExecutionPlanManifest previous) {
+        Set<String> changedExecutionPlans = new TreeSet<>();
+        for (Map.Entry<String, String> entry : executionPlans.entrySet()) {
+            if (!entry.getValue().equals(previous.executionPlans.get(entry.getKey()))) {
+                changedExecutionPlans.add(entry.getKey());
+            }
+        }
+        return changedExecutionPlans;
+    }
+
+    /**
+     * Get the execution plans which are removed since the given manifest.
+     *
+     * @param previous manifest of the previously deployed execution plans
+     * @return names of the removed execution plans
+     */
+    public Set<String> getRemovedExecutionPlans(ExecutionPlanManifest previous) {
+        Set<String> removedExecutionPlans = new TreeSet<>(previous.executionPlans.keySet());
+        removedExecutionPlans.removeAll(executionPlans.keySet());
+        return removedExecutionPlans;
+    }
+
+    private static String hash(String content) throws APIManagementException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hexHash = new StringBuilder();
+            for (byte b : hash) {
+                hexHash.append(String.format("%02x", b & 0xff));
+            }
+            return hexHash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new APIManagementException("Error while hashing execution plans", e,
+                    ExceptionCodes.INTERNAL_ERROR);
+        }
+    }
+}
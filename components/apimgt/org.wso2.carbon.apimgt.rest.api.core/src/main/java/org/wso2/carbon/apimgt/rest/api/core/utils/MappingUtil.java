@@ -49,6 +49,8 @@ import org.wso2.carbon.apimgt.rest.api.core.dto.SubscriptionDTO;
 import org.wso2.carbon.apimgt.rest.api.core.dto.ThrottlingInfoDTO;
 import org.wso2.carbon.apimgt.rest.api.core.dto.UriTemplateDTO;
 
+import java.net.Inet4Address;
+import java.net.InetAddress;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -143,18 +145,28 @@ public class MappingUtil {
     private static List<APIInfoDTO> toAPIInfo(List<API> apiList) {
         List<APIInfoDTO> apiInfoList = new ArrayList<APIInfoDTO>();
         for (API api : apiList) {
-            APIInfoDTO apiInfo = new APIInfoDTO();
-            apiInfo.setId(api.getId());
-            apiInfo.setContext(api.getContext());
-            apiInfo.setName(api.getName());
-            apiInfo.setLifeCycleStatus(api.getLifeCycleStatus());
-            apiInfo.setVersion(api.getVersion());
-            apiInfo.setSecurityScheme(api.getSecurityScheme());
-            apiInfoList.add(apiInfo);
+            apiInfoList.add(toAPIInfoDTO(api));
         }
         return apiInfoList;
     }
 
+    /**
+     * Converts {@link API} to an {@link APIInfoDTO}.
+     *
+     * @param api API
+     * @return APIInfoDTO
+     */
+    public static APIInfoDTO toAPIInfoDTO(API api) {
+        APIInfoDTO apiInfo = new APIInfoDTO();
+        apiInfo.setId(api.getId());
+        apiInfo.setContext(api.getContext());
+        apiInfo.setName(api.getName());
+        apiInfo.setLifeCycleStatus(api.getLifeCycleStatus());
+        apiInfo.setVersion(api.getVersion());
+        apiInfo.setSecurityScheme(api.getSecurityScheme());
+        return apiInfo;
+    }
+
     /**
      * convert {@link ApplicationDTO} to {@link Application}
      *
@@ -164,16 +176,26 @@ public class MappingUtil {
     public static List<ApplicationDTO> convertToApplicationDtoList(List<Application> applicationList) {
         List<ApplicationDTO> applicationDTOList = new ArrayList<>();
         for (Application application : applicationList) {
-            ApplicationDTO applicationDTO = new ApplicationDTO();
-            applicationDTO.setName(application.getName());
-            applicationDTO.setApplicationId(application.getId());
-            applicationDTO.setThrottlingTier(application.getPolicy().getUuid());
-            applicationDTO.setSubscriber(application.getCreatedUser());
-            applicationDTOList.add(applicationDTO);
+            applicationDTOList.add(toApplicationDTO(application));
         }
         return applicationDTOList;
     }
 
+    /**
+     * convert {@link Application} to {@link ApplicationDTO}
+     *
+     * @param application {@link Application}
+     * @return ApplicationDTO
+     */
+    public static ApplicationDTO toApplicationDTO(Application application) {
+        ApplicationDTO applicationDTO = new ApplicationDTO();
+        applicationDTO.setName(application.getName());
+        applicationDTO.setApplicationId(application.getId());
+        applicationDTO.setThrottlingTier(application.getPolicy().getUuid());
+        applicationDTO.setSubscriber(application.getCreatedUser());
+        return applicationDTO;
+    }
+
     /**
      * Converts the Gateway registration summary into RegistrationSummaryDTO
      *
@@ -277,16 +299,26 @@ public class MappingUtil {
      */
     public static List<PolicyDTO> convertToPolicyDtoList(Set<PolicyValidationData> allPolicies) {
         List<PolicyDTO> policyDTOList = new ArrayList<>();
-        allPolicies.forEach(v -> {
-            PolicyDTO policyDTO = new PolicyDTO();
-            policyDTO.setId(v.getId());
-            policyDTO.setName(v.getName());
-            policyDTO.setStopOnQuotaReach(v.isStopOnQuotaReach());
-            policyDTOList.add(policyDTO);
-        });
+        allPolicies.forEach(v -> policyDTOList.add(toPolicyDTO(v)));
         return policyDTOList;
     }
 
+    /**
+     * Convert policy validation data to policy dto
+     *
+     * @param policyValidationData policy validation data
+     * @return PolicyDTO
+     */
+    public static PolicyDTO toPolicyDTO(PolicyValidationData policyValidationData) {
+        PolicyDTO policyDTO = new PolicyDTO();
+        policyDTO.setId(policyValidationData.getId());
+        policyDTO.setName(policyValidationData.getName());
+        policyDTO.setStopOnQuotaReach(policyValidationData.isStopOnQuotaReach());
+        policyDTO.setRequestCount(policyValidationData.getRequestCount());
+        policyDTO.setUnitTime(policyValidationData.getUnitTime());
+        return policyDTO;
+    }
+
     /**
      * Converts {@link Endpoint} list to {@link EndPointDTO} list
      *
@@ -295,12 +327,21 @@ public class MappingUtil {
      */
     public static List<EndPointDTO> toEndpointListDto(List<Endpoint> endpointList) {
         List<EndPointDTO> endPointDTOList = new ArrayList<>();
-        endpointList.forEach(endpoint -> endPointDTOList.add(new EndPointDTO().endpointConfig(endpoint
-                .getEndpointConfig()).id(endpoint.getId()).type(endpoint.getType()).name(endpoint.getName()).security
-                (endpoint.getSecurity())));
+        endpointList.forEach(endpoint -> endPointDTOList.add(toEndPointDTO(endpoint)));
         return endPointDTOList;
     }
 
+    /**
+     * Converts {@link Endpoint} to {@link EndPointDTO}
+     *
+     * @param endpoint {@link Endpoint}
+     * @return EndPointDTO
+     */
+    public static EndPointDTO toEndPointDTO(Endpoint endpoint) {
+        return new EndPointDTO().endpointConfig(endpoint.getEndpointConfig()).id(endpoint.getId())
+                .type(endpoint.getType()).name(endpoint.getName()).security(endpoint.getSecurity());
+    }
+
     /**
      * Converts a List of Block Condition in to REST API LIST DTO Object.
      *
@@ -337,8 +378,15 @@ public class MappingUtil {
         dto.setEnabled(blockCondition.isEnabled());
         if (blockCondition.getConditionType().equals(APIMgtConstants.ThrottlePolicyConstants
                 .BLOCKING_CONDITION_IP_RANGE)) {
-            dto.setStartingIP(APIUtils.ipToLong(blockCondition.getStartingIP()));
-            dto.setEndingIP(APIUtils.ipToLong(blockCondition.getEndingIP()));
+            dto.setStartingIPAddress(blockCondition.getStartingIP());
+            dto.setEndingIPAddress(blockCondition.getEndingIP());
+            // the numeric values of the addresses are only meaningful for IPv4 ranges
+            InetAddress startingIP = APIUtils.toIpAddress(blockCondition.getStartingIP());
+            InetAddress endingIP = APIUtils.toIpAddress(blockCondition.getEndingIP());
+            if (startingIP instanceof Inet4Address && endingIP instanceof Inet4Address) {
+                dto.setStartingIP(APIUtils.ipToBigInteger(startingIP).longValue());
+                dto.setEndingIP(APIUtils.ipToBigInteger(endingIP).longValue());
+            }
         }
         String conditionValue = blockCondition.getConditionValue();
         if (APIMgtConstants.ThrottlePolicyConstants.BLOCKING_CONDITIONS_IP.equals(blockCondition.getConditionType())) {
@@ -37,9 +37,12 @@ import org.wso2.carbon.apimgt.core.util.APIFileUtils;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Policy export manager handles creating execution plans and creating and archive.
@@ -55,38 +58,81 @@ public class PolicyExportManager {
     private static final String ZIP = ".zip";
     private static final String EXPORT_POLICIES = "ExportPolicies";
     private static final String SIDDHI_EXTENSION = ".siddhi";
+    private static final String MANIFEST = "manifest.json";
+    private static final String VERSION = "version";
+    private static final String BASE_VERSION = "baseVersion";
+    private static final String EXECUTION_PLANS = "executionPlans";
+    private static final String REMOVED_EXECUTION_PLANS = "removedExecutionPlans";
+    // number of exported manifests remembered as base versions, the oldest manifests are forgotten first
+    private static final int MAX_MANIFESTS = 100;
+    private static final Map<String, ExecutionPlanManifest> EXPORTED_MANIFESTS = Collections.synchronizedMap(
+            new LinkedHashMap<String, ExecutionPlanManifest>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ExecutionPlanManifest> eldest) {
+                    return size() > MAX_MANIFESTS;
+                }
+            });
     private APIMgtAdminService apiMgtAdminService;
 
     public PolicyExportManager(APIMgtAdminService adminService) {
         apiMgtAdminService = adminService;
     }
 
+    /**
+     * Create an archive of the execution plans/ siddhi apps of all the policies.
+     *
+     * @param exportedPoliciesDirName directory the execution plans are written to
+     * @param archiveDir              Archive containing directory
+     * @param archiveName             name of the archive
+     * @return path of the archive
+     * @throws APIManagementException if the execution plans could not be generated or archived
+     */
     public String createArchiveFromExecutionPlans(String exportedPoliciesDirName, String archiveDir, String archiveName)
             throws APIManagementException {
+        return createArchiveFromExecutionPlans(exportedPoliciesDirName, archiveDir, archiveName, null);
+    }
+
+    /**
+     * Create an archive of the execution plans/ siddhi apps which have changed since a previous export. The archive
+     * contains a manifest with the version of the exported execution plans, which is given as the base version of the
+     * next export. If the base version is not given or is not known, all the execution plans are archived.
+     *
+     * @param exportedPoliciesDirName directory the execution plans are written to
+     * @param archiveDir              Archive containing directory
+     * @param archiveName             name of the archive
+     * @param baseVersion             manifest version of the previous export, or null to archive all execution plans
+     * @return path of the archive
+     * @throws APIManagementException if the execution plans could not be generated or archived
+     */
+    public String createArchiveFromExecutionPlans(String exportedPoliciesDirName, String archiveDir, String archiveName,
+                                                  String baseVersion) throws APIManagementException {
 
         try {
-            //retrieve all policies under each policy level
-            List<APIPolicy> apiPolicies = apiMgtAdminService.getApiPolicies();
-            List<ApplicationPolicy> applicationPolicies = apiMgtAdminService.getApplicationPolicies();
-            List<SubscriptionPolicy> subscriptionPolicies = apiMgtAdminService.getSubscriptionPolicies();
-            List<CustomPolicy> customPolicies = apiMgtAdminService.getCustomRules();
-            //write all execution Plans/Siddhi Apps to exportPoliciesDirName directory
-            String dirLocation = exportedPoliciesDirName + File.separator + EXPORT_POLICIES;
-            APIFileUtils.createDirectory(dirLocation);
-            if (!apiPolicies.isEmpty()) {
-                for (Map<String, String> map : getApiPolicySiddhiApps(apiPolicies)) {
-                    prepareFile(dirLocation, map);
+            Map<String, String> executionPlans = getExecutionPlans();
+            ExecutionPlanManifest manifest = ExecutionPlanManifest.fromExecutionPlans(executionPlans);
+            EXPORTED_MANIFESTS.put(manifest.getVersion(), manifest);
+            ExecutionPlanManifest baseManifest = baseVersion == null ? null : EXPORTED_MANIFESTS.get(baseVersion);
+
+            Map<String, Object> manifestContent = new LinkedHashMap<>();
+            manifestContent.put(VERSION, manifest.getVersion());
+            manifestContent.put(EXECUTION_PLANS, manifest.getExecutionPlans());
+            if (baseManifest != null) {
+                //only the execution plans changed since the base version need to be deployed again
+                executionPlans.keySet().retainAll(manifest.getChangedExecutionPlans(baseManifest));
+                manifestContent.put(BASE_VERSION, baseVersion);
+                manifestContent.put(REMOVED_EXECUTION_PLANS, manifest.getRemovedExecutionPlans(baseManifest));
+                if (log.isDebugEnabled()) {
+                    log.debug(executionPlans.size() + " execution plans changed since manifest " + baseVersion);
                 }
+            } else if (baseVersion != null) {
+                log.info("Manifest " + baseVersion + " is not known, hence exporting all execution plans");
             }
-            if (!applicationPolicies.isEmpty()) {
-                prepareFile(dirLocation, getAppPolicySiddhiApps(applicationPolicies));
-            }
-            if (!subscriptionPolicies.isEmpty()) {
-                prepareFile(dirLocation, getSubscriptionPolicySiddhiApps(subscriptionPolicies));
-            }
-            if (!customPolicies.isEmpty()) {
-                prepareFile(dirLocation, getCustomPolicySiddhiApps(customPolicies));
-            }
+
+            //write the execution Plans/Siddhi Apps to exportPoliciesDirName directory
+            String dirLocation = exportedPoliciesDirName + File.separator + EXPORT_POLICIES;
+            APIFileUtils.createDirectory(dirLocation);
+            prepareFile(dirLocation, executionPlans);
+            APIFileUtils.writeObjectAsJsonToFile(manifestContent, dirLocation + File.separator + MANIFEST);
             //create archive and get the archive location
             String zippedFilePath = createArchiveFromPolicies(exportedPoliciesDirName, archiveDir, archiveName);
             APIFileUtils.deleteDirectory(exportedPoliciesDirName);
@@ -98,6 +144,36 @@ public class PolicyExportManager {
         }
     }
 
+    /**
+     * Generate the execution plans/ siddhi apps of all the policies.
+     *
+     * @return Map of execution plan names and execution plans
+     * @throws APIManagementException if the policies could not be retrieved or the execution plans generated
+     */
+    private Map<String, String> getExecutionPlans() throws APIManagementException {
+        //retrieve all policies under each policy level
+        List<APIPolicy> apiPolicies = apiMgtAdminService.getApiPolicies();
+        List<ApplicationPolicy> applicationPolicies = apiMgtAdminService.getApplicationPolicies();
+        List<SubscriptionPolicy> subscriptionPolicies = apiMgtAdminService.getSubscriptionPolicies();
+        List<CustomPolicy> customPolicies = apiMgtAdminService.getCustomRules();
+        Map<String, String> executionPlans = new TreeMap<>();
+        if (!apiPolicies.isEmpty()) {
+            for (Map<String, String> map : getApiPolicySiddhiApps(apiPolicies)) {
+                executionPlans.putAll(map);
+            }
+        }
+        if (!applicationPolicies.isEmpty()) {
+            executionPlans.putAll(getAppPolicySiddhiApps(applicationPolicies));
+        }
+        if (!subscriptionPolicies.isEmpty()) {
+            executionPlans.putAll(getSubscriptionPolicySiddhiApps(subscriptionPolicies));
+        }
+        if (!customPolicies.isEmpty()) {
+            executionPlans.putAll(getCustomPolicySiddhiApps(customPolicies));
+        }
+        return executionPlans;
+    }
+
     /**
      * Create Archive from policies.
      *
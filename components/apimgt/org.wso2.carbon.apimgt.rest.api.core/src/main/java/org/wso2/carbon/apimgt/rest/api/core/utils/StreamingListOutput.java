@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.rest.api.core.utils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.api.ResultConsumer;
+import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Writes a list response of the form {@code {"list": [...], "count": n}} while the entries are being read from the
+ * data layer, so that the response is sent with chunked transfer encoding and the full list is never held in memory.
+ * The count is written after the list since it is only known once all the entries have been read.
+ * <p>
+ * Since the response status has already been sent when the entries are read, a failure while reading aborts the
+ * response without closing the JSON document, so that clients cannot mistake a partial list for a complete one.
+ *
+ * @param <T> type of the entries read from the data layer
+ */
+public class StreamingListOutput<T> implements StreamingOutput {
+    private static final Logger log = LoggerFactory.getLogger(StreamingListOutput.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT, false);
+
+    private final ListReader<T> listReader;
+    private final Function<T, ?> dtoMapper;
+    private final String errorMessage;
+
+    /**
+     * @param listReader   reads the entries from the data layer
+     * @param dtoMapper    converts each entry to the DTO written in the response
+     * @param errorMessage message logged if reading the entries fails
+     */
+    public StreamingListOutput(ListReader<T> listReader, Function<T, ?> dtoMapper, String errorMessage) {
+        this.listReader = listReader;
+        this.dtoMapper = dtoMapper;
+        this.errorMessage = errorMessage;
+    }
+
+    @Override
+    public void write(OutputStream outputStream) throws IOException {
+        AtomicInteger count = new AtomicInteger();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("list");
+            listReader.read(entry -> {
+                generator.writeObject(dtoMapper.apply(entry));
+                count.incrementAndGet();
+            });
+            generator.writeEndArray();
+            generator.writeNumberField("count", count.get());
+            generator.writeEndObject();
+        } catch (APIManagementException e) {
+            log.error(errorMessage + ", aborted after writing " + count.get() + " entries", e);
+            throw new IOException(errorMessage, e);
+        }
+    }
+
+    /**
+     * Reads entries from the data layer, passing each of them to a consumer
+     *
+     * @param <T> type of the entries
+     */
+    @FunctionalInterface
+    public interface ListReader<T> {
+        void read(ResultConsumer<T> consumer) throws APIManagementException;
+    }
+}
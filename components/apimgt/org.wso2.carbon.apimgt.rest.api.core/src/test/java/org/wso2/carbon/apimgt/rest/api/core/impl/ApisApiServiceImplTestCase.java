@@ -19,6 +19,8 @@
 
 package org.wso2.carbon.apimgt.rest.api.core.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -26,18 +28,20 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.testng.Assert;
+import org.wso2.carbon.apimgt.core.api.ResultConsumer;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.impl.APIManagerFactory;
 import org.wso2.carbon.apimgt.core.impl.APIMgtAdminServiceImpl;
 import org.wso2.carbon.apimgt.core.models.API;
 import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
-import org.wso2.carbon.apimgt.rest.api.core.dto.APIListDTO;
 import org.wso2.carbon.apimgt.rest.api.core.utils.SampleTestObjectCreator;
 import org.wso2.carbon.messaging.CarbonMessage;
 import org.wso2.msf4j.Request;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -141,16 +145,27 @@ public class ApisApiServiceImplTestCase {
         apiList.add(SampleTestObjectCreator.createUniqueAPI().build());
         apiList.add(SampleTestObjectCreator.createUniqueAPI().build());
 
-        Mockito.when(apiMgtAdminService.getAPIsByStatus(labelList, "Published")).thenReturn(apiList);
+        Mockito.doAnswer(invocation -> {
+            ResultConsumer<API> consumer = (ResultConsumer<API>) invocation.getArguments()[2];
+            for (API entry : apiList) {
+                consumer.accept(entry);
+            }
+            return null;
+        }).when(apiMgtAdminService).getAPIsByGatewayLabel(Mockito.eq(labelList),
+                Mockito.eq("Published"), Mockito.any(ResultConsumer.class));
 
         ApisApiServiceImpl apisApiService = new ApisApiServiceImpl();
         Response response = apisApiService.apisGet(labels, "Published", getRequest());
 
         Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
 
-        Integer count = ((APIListDTO) response.getEntity()).getCount();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(outputStream);
+        JsonNode apiListJson = new ObjectMapper().readTree(outputStream.toByteArray());
 
-        Assert.assertEquals(count.intValue(), 3);
+        Assert.assertEquals(apiListJson.get("count").asInt(), 3);
+        Assert.assertEquals(apiListJson.get("list").size(), 3);
+        Assert.assertEquals(apiListJson.get("list").get(0).get("id").asText(), apiList.get(0).getId());
     }
 
     @Test
@@ -19,6 +19,8 @@
 
 package org.wso2.carbon.apimgt.rest.api.core.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -26,17 +28,19 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.testng.Assert;
+import org.wso2.carbon.apimgt.core.api.ResultConsumer;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.impl.APIManagerFactory;
 import org.wso2.carbon.apimgt.core.impl.APIMgtAdminServiceImpl;
 import org.wso2.carbon.apimgt.core.models.Application;
-import org.wso2.carbon.apimgt.rest.api.core.dto.ApplicationListDTO;
 import org.wso2.carbon.apimgt.rest.api.core.utils.SampleTestObjectCreator;
 import org.wso2.carbon.messaging.CarbonMessage;
 import org.wso2.msf4j.Request;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -64,11 +68,20 @@ public class ApplicationsApiServiceImplTestCase {
         applicationList.add(applicationTwo);
         applicationList.add(applicationThree);
 
-        Mockito.when(adminService.getAllApplications()).thenReturn(applicationList);
+        Mockito.doAnswer(invocation -> {
+            ResultConsumer<Application> consumer = (ResultConsumer<Application>) invocation.getArguments()[0];
+            for (Application entry : applicationList) {
+                consumer.accept(entry);
+            }
+            return null;
+        }).when(adminService).getAllApplications(Mockito.any(ResultConsumer.class));
 
         Response response = applicationsApiService.applicationsGet(null, getRequest());
         Assert.assertEquals(response.getStatus(), 200);
-        Assert.assertEquals(((ApplicationListDTO) response.getEntity()).getList().size(), 3);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(outputStream);
+        JsonNode applicationListJson = new ObjectMapper().readTree(outputStream.toByteArray());
+        Assert.assertEquals(applicationListJson.get("list").size(), 3);
     }
 
     @Test
@@ -20,6 +20,8 @@
 
 package org.wso2.carbon.apimgt.rest.api.core.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -27,17 +29,19 @@ import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.core.api.ResultConsumer;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.impl.APIManagerFactory;
 import org.wso2.carbon.apimgt.core.impl.APIMgtAdminServiceImpl;
 import org.wso2.carbon.apimgt.core.models.BlockConditions;
-import org.wso2.carbon.apimgt.rest.api.core.dto.BlockingConditionListDTO;
 import org.wso2.carbon.apimgt.rest.api.core.utils.SampleTestObjectCreator;
 import org.wso2.carbon.messaging.CarbonMessage;
 import org.wso2.msf4j.Request;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -65,11 +69,21 @@ public class BlacklistApiServiceImplTestCase {
         blockConditions.add(blockConditionTwo);
         blockConditions.add(blockConditionThree);
 
-        Mockito.when(adminService.getBlockConditions()).thenReturn(blockConditions);
+        Mockito.doAnswer(invocation -> {
+            ResultConsumer<BlockConditions> consumer = (ResultConsumer<BlockConditions>) invocation.getArguments()[0];
+            for (BlockConditions entry : blockConditions) {
+                consumer.accept(entry);
+            }
+            return null;
+        }).when(adminService).getBlockConditions(Mockito.any(ResultConsumer.class));
 
         Response response = blacklistApiService.blacklistGet(null, getRequest());
         Assert.assertEquals(response.getStatus(), 200);
-        Assert.assertEquals(((BlockingConditionListDTO) response.getEntity()).getList().size(), 3);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(outputStream);
+        JsonNode blockConditionListJson = new ObjectMapper().readTree(outputStream.toByteArray());
+        Assert.assertEquals(blockConditionListJson.get("count").asInt(), 3);
+        Assert.assertEquals(blockConditionListJson.get("list").size(), 3);
     }
 
     @Test
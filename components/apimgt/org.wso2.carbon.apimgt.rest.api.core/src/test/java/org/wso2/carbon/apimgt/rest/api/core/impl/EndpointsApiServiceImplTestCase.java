@@ -20,6 +20,8 @@
 
 package org.wso2.carbon.apimgt.rest.api.core.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -27,18 +29,20 @@ import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.core.api.ResultConsumer;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.impl.APIManagerFactory;
 import org.wso2.carbon.apimgt.core.impl.APIMgtAdminServiceImpl;
 import org.wso2.carbon.apimgt.core.models.Endpoint;
 import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
-import org.wso2.carbon.apimgt.rest.api.core.dto.EndpointListDTO;
 import org.wso2.carbon.apimgt.rest.api.core.utils.SampleTestObjectCreator;
 import org.wso2.carbon.messaging.CarbonMessage;
 import org.wso2.msf4j.Request;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -134,13 +138,23 @@ public class EndpointsApiServiceImplTestCase {
         endpointList.add(endpointTwo);
         endpointList.add(endpointThree);
 
-        Mockito.when(apiMgtAdminService.getAllEndpoints()).thenReturn(endpointList);
+        Mockito.doAnswer(invocation -> {
+            ResultConsumer<Endpoint> consumer = (ResultConsumer<Endpoint>) invocation.getArguments()[0];
+            for (Endpoint entry : endpointList) {
+                consumer.accept(entry);
+            }
+            return null;
+        }).when(apiMgtAdminService).getAllEndpoints(Mockito.any(ResultConsumer.class));
 
         EndpointsApiServiceImpl endpointsApiService = new EndpointsApiServiceImpl();
         Response response = endpointsApiService.endpointsGet(null, null, getRequest());
 
         Assert.assertEquals(response.getStatus(), 200);
-        Assert.assertEquals(((EndpointListDTO) response.getEntity()).getList().size(), 3);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(outputStream);
+        JsonNode endpointListJson = new ObjectMapper().readTree(outputStream.toByteArray());
+        Assert.assertEquals(endpointListJson.get("count").asInt(), 3);
+        Assert.assertEquals(endpointListJson.get("list").size(), 3);
     }
 
     @Test
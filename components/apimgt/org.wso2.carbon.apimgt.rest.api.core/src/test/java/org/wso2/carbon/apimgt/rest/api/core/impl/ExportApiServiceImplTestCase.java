@@ -51,7 +51,7 @@ public class ExportApiServiceImplTestCase {
 
         LogManager.getRootLogger().setLevel(Level.DEBUG);
 
-        Response response = exportApiService.exportPoliciesThrottleGet(null, getRequest());
+        Response response = exportApiService.exportPoliciesThrottleGet(null, null, getRequest());
         Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
 
     }
@@ -60,7 +60,7 @@ public class ExportApiServiceImplTestCase {
     public void exportPoliciesThrottleGetExceptionTest() throws Exception {
         LogManager.getRootLogger().setLevel(Level.INFO);
         ExportApiServiceImpl exportApiService = new ExportApiServiceImpl();
-        Response response = exportApiService.exportPoliciesThrottleGet(null, getRequest());
+        Response response = exportApiService.exportPoliciesThrottleGet(null, null, getRequest());
         Assert.assertEquals(response.getStatus(), Response.Status.INTERNAL_SERVER_ERROR.getStatusCode());
     }
 
@@ -19,6 +19,8 @@
 
 package org.wso2.carbon.apimgt.rest.api.core.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -26,14 +28,16 @@ import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.core.api.ResultConsumer;
 import org.wso2.carbon.apimgt.core.impl.APIManagerFactory;
 import org.wso2.carbon.apimgt.core.impl.APIMgtAdminServiceImpl;
 import org.wso2.carbon.apimgt.core.models.PolicyValidationData;
-import org.wso2.carbon.apimgt.rest.api.core.dto.PolicyListDTO;
 import org.wso2.carbon.messaging.CarbonMessage;
 import org.wso2.msf4j.Request;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -64,11 +68,22 @@ public class PoliciesApiServiceImplTestCase {
         policyValidationDataHashSet.add(policyValidationDataTwo);
         policyValidationDataHashSet.add(policyValidationDataThree);
 
-        Mockito.when(apiMgtAdminService.getAllPolicies()).thenReturn(policyValidationDataHashSet);
+        Mockito.doAnswer(invocation -> {
+            ResultConsumer<PolicyValidationData> consumer =
+                    (ResultConsumer<PolicyValidationData>) invocation.getArguments()[0];
+            for (PolicyValidationData entry : policyValidationDataHashSet) {
+                consumer.accept(entry);
+            }
+            return null;
+        }).when(apiMgtAdminService).getAllPolicies(Mockito.any(ResultConsumer.class));
 
         Response response = policiesApiService.policiesGet(null, getRequest());
         Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
-        Assert.assertEquals(((PolicyListDTO) response.getEntity()).getList().size(), 3);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(outputStream);
+        JsonNode policyListJson = new ObjectMapper().readTree(outputStream.toByteArray());
+        Assert.assertEquals(policyListJson.get("count").asInt(), 3);
+        Assert.assertEquals(policyListJson.get("list").size(), 3);
 
     }
 
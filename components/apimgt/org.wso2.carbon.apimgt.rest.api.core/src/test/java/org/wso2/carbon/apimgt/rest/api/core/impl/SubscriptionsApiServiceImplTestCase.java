@@ -29,6 +29,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import org.wso2.carbon.apimgt.core.impl.APIManagerFactory;
 import org.wso2.carbon.apimgt.core.impl.APIMgtAdminServiceImpl;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
+import org.wso2.carbon.apimgt.core.models.SubscriptionValidationResults;
 import org.wso2.carbon.apimgt.rest.api.core.dto.SubscriptionListDTO;
 import org.wso2.carbon.apimgt.rest.api.core.utils.SampleTestObjectCreator;
 import org.wso2.carbon.messaging.CarbonMessage;
@@ -59,7 +60,7 @@ public class SubscriptionsApiServiceImplTestCase {
         Mockito.when(apiMgtAdminService.getAPISubscriptionsOfApi(API_CONTEXT, API_VERSION))
                 .thenReturn(createSubscriptionValidationDataList());
         Response response = subscriptionsApiService
-                .subscriptionsGet(API_CONTEXT, API_VERSION, LIMIT, null, getRequest());
+                .subscriptionsGet(API_CONTEXT, API_VERSION, LIMIT, null, null, null, getRequest());
 
         Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
         Assert.assertEquals(((SubscriptionListDTO) response.getEntity()).getList().size(), 2);
@@ -79,25 +80,79 @@ public class SubscriptionsApiServiceImplTestCase {
         Assert.assertEquals(((SubscriptionListDTO) response.getEntity()).getList().size(), 2);
     }
 
+    @Test
+    public void subscriptionsGetNextPageTest() throws Exception {
+        APIMgtAdminServiceImpl apiMgtAdminService = Mockito.mock(APIMgtAdminServiceImpl.class);
+        APIManagerFactory instance = Mockito.mock(APIManagerFactory.class);
+        PowerMockito.mockStatic(APIManagerFactory.class);
+        PowerMockito.when(APIManagerFactory.getInstance()).thenReturn(instance);
+        Mockito.when(instance.getAPIMgtAdminService()).thenReturn(apiMgtAdminService);
+
+        SubscriptionValidationResults results = new SubscriptionValidationResults();
+        results.setSubscriptionList(createSubscriptionValidationDataList());
+        results.setMoreResultsExist(true);
+        results.setNextCursor("next");
+        results.setChangeSequence(10L);
+        Mockito.when(apiMgtAdminService.getAPISubscriptions("current", LIMIT)).thenReturn(results);
+
+        SubscriptionsApiServiceImpl subscriptionsApiService = new SubscriptionsApiServiceImpl();
+        Response response = subscriptionsApiService.subscriptionsGet(null, null, LIMIT, "current", null, null,
+                getRequest());
+
+        Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        SubscriptionListDTO subscriptionListDTO = (SubscriptionListDTO) response.getEntity();
+        Assert.assertEquals(subscriptionListDTO.getList().size(), 2);
+        Assert.assertEquals(subscriptionListDTO.getNextCursor(), "next");
+        Assert.assertEquals(subscriptionListDTO.getChangeSequence(), Long.valueOf(10L));
+    }
+
+    @Test
+    public void subscriptionChangesGetTest() throws Exception {
+        APIMgtAdminServiceImpl apiMgtAdminService = Mockito.mock(APIMgtAdminServiceImpl.class);
+        APIManagerFactory instance = Mockito.mock(APIManagerFactory.class);
+        PowerMockito.mockStatic(APIManagerFactory.class);
+        PowerMockito.when(APIManagerFactory.getInstance()).thenReturn(instance);
+        Mockito.when(instance.getAPIMgtAdminService()).thenReturn(apiMgtAdminService);
+
+        SubscriptionValidationResults results = new SubscriptionValidationResults();
+        List<SubscriptionValidationData> changed = createSubscriptionValidationDataList();
+        results.setSubscriptionList(changed.subList(0, 1));
+        results.setRemovedSubscriptionList(changed.subList(1, 2));
+        results.setChangeSequence(15L);
+        Mockito.when(apiMgtAdminService.getAPISubscriptionChanges(10L, -1)).thenReturn(results);
+
+        SubscriptionsApiServiceImpl subscriptionsApiService = new SubscriptionsApiServiceImpl();
+        Response response = subscriptionsApiService.subscriptionsGet(null, null, null, null, 10L, null, getRequest());
+
+        Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        SubscriptionListDTO subscriptionListDTO = (SubscriptionListDTO) response.getEntity();
+        Assert.assertEquals(subscriptionListDTO.getList().size(), 1);
+        Assert.assertEquals(subscriptionListDTO.getRemovedList().size(), 1);
+        Assert.assertNull(subscriptionListDTO.getNextCursor());
+        Assert.assertEquals(subscriptionListDTO.getChangeSequence(), Long.valueOf(15L));
+    }
+
     @Test
     public void policiesGetExceptionTest() throws Exception {
         SubscriptionsApiServiceImpl subscriptionsApiService = new SubscriptionsApiServiceImpl();
         Response response = subscriptionsApiService
-                .subscriptionsGet(API_CONTEXT, API_VERSION, LIMIT, null, getRequest());
+                .subscriptionsGet(API_CONTEXT, API_VERSION, LIMIT, null, null, null, getRequest());
         Assert.assertEquals(response.getStatus(), Response.Status.INTERNAL_SERVER_ERROR.getStatusCode());
     }
 
     @Test
     public void policiesGetApiContextEmptyExceptionTest() throws Exception {
         SubscriptionsApiServiceImpl subscriptionsApiService = new SubscriptionsApiServiceImpl();
-        Response response = subscriptionsApiService.subscriptionsGet(null, API_VERSION, LIMIT, null, getRequest());
+        Response response = subscriptionsApiService
+                .subscriptionsGet(null, API_VERSION, LIMIT, null, null, null, getRequest());
         Assert.assertEquals(response.getStatus(), Response.Status.INTERNAL_SERVER_ERROR.getStatusCode());
     }
 
     @Test
     public void policiesGetApiVersionEmptyExceptionTest() throws Exception {
         SubscriptionsApiServiceImpl subscriptionsApiService = new SubscriptionsApiServiceImpl();
-        Response response = subscriptionsApiService.subscriptionsGet(API_CONTEXT, null, LIMIT, null, getRequest());
+        Response response = subscriptionsApiService
+                .subscriptionsGet(API_CONTEXT, null, LIMIT, null, null, null, getRequest());
         Assert.assertEquals(response.getStatus(), Response.Status.INTERNAL_SERVER_ERROR.getStatusCode());
     }
 
@@ -110,8 +165,10 @@ public class SubscriptionsApiServiceImplTestCase {
 
         SubscriptionsApiServiceImpl subscriptionsApiService = new SubscriptionsApiServiceImpl();
 
-        Mockito.when(apiMgtAdminService.getAPISubscriptions(LIMIT)).thenReturn(createSubscriptionValidationDataList());
-        return subscriptionsApiService.subscriptionsGet(apiContext, apiVersion, LIMIT, null, getRequest());
+        SubscriptionValidationResults results = new SubscriptionValidationResults();
+        results.setSubscriptionList(createSubscriptionValidationDataList());
+        Mockito.when(apiMgtAdminService.getAPISubscriptions(null, LIMIT)).thenReturn(results);
+        return subscriptionsApiService.subscriptionsGet(apiContext, apiVersion, LIMIT, null, null, null, getRequest());
     }
 
     private List<SubscriptionValidationData> createSubscriptionValidationDataList() throws Exception {
@@ -240,9 +240,24 @@ public class MappingUtilTestCase {
                 Long.valueOf(blockingConditionDTo.getEndingIP()));
         Assert.assertEquals(Long.valueOf(APIUtils.ipToLong(blockConditionIPRANGE.getStartingIP())),
                 Long.valueOf(blockingConditionDTo.getStartingIP()));
+        Assert.assertEquals(blockingConditionDTo.getStartingIPAddress(), blockConditionIPRANGE.getStartingIP());
+        Assert.assertEquals(blockingConditionDTo.getEndingIPAddress(), blockConditionIPRANGE.getEndingIP());
 
         //Test for null handling
         blockConditionIPRANGE.setUuid(null);
         Assert.assertNull(MappingUtil.fromBlockingConditionToDTO(blockConditionIPRANGE));
     }
+
+    @Test
+    public void fromBlockingConditionToDTOIPv6RangeTest() {
+        BlockConditions blockConditionIPRANGE = SampleTestObjectCreator.
+                createUniqueBlockConditions(APIMgtConstants.ThrottlePolicyConstants.BLOCKING_CONDITION_IP_RANGE);
+        blockConditionIPRANGE.setStartingIP("2001:db8::");
+        blockConditionIPRANGE.setEndingIP("2001:db8::ffff");
+        BlockingConditionDTO blockingConditionDTo = MappingUtil.fromBlockingConditionToDTO(blockConditionIPRANGE);
+        Assert.assertEquals(blockingConditionDTo.getStartingIPAddress(), "2001:db8::");
+        Assert.assertEquals(blockingConditionDTo.getEndingIPAddress(), "2001:db8::ffff");
+        Assert.assertNull(blockingConditionDTo.getStartingIP());
+        Assert.assertNull(blockingConditionDTo.getEndingIP());
+    }
 }
@@ -23,6 +23,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.google.common.io.Files;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -40,6 +42,7 @@ import org.wso2.carbon.apimgt.core.util.APIFileUtils;
  */
 public class PolicyExportManagerTest {
 
+    private static final String SIDDHI_EXTENSION = ".siddhi";
     private static String exportRootDirectory = System.getProperty("java.io.tmpdir") + File.separator + "export-policies";
 
     @BeforeClass
@@ -77,8 +80,67 @@ public class PolicyExportManagerTest {
                 .createArchiveFromExecutionPlans("exportDir", exportRootDirectory, "policies");
         String unzippedPath = exportRootDirectory + File.separator + "export-policies";
         APIFileUtils.extractArchive(path, unzippedPath);
-        Assert.assertEquals(
-                new File(APIFileUtils.getDirectoryList(unzippedPath).iterator().next()).listFiles().length == 6, true,
-                "Exported policy count is not equal to ");
+        File exportedPoliciesDir = new File(APIFileUtils.getDirectoryList(unzippedPath).iterator().next());
+        Assert.assertEquals(exportedPoliciesDir.listFiles((dir, name) -> name.endsWith(SIDDHI_EXTENSION)).length == 6,
+                true, "Exported policy count is not equal to ");
+        Assert.assertEquals(readManifest(exportedPoliciesDir).getAsJsonObject("executionPlans").size(), 6);
+        APIFileUtils.deleteDirectory(unzippedPath);
+    }
+
+    @Test(description = "testing creating archive of execution plans changed since a previous export")
+    public void testCreateArchiveFromChangedExecutionPlans() throws APIManagementException {
+
+        APIMgtAdminService apiMgtAdminService = Mockito.mock(APIMgtAdminService.class);
+        List<SubscriptionPolicy> subscriptionPolicies = new ArrayList<>();
+        List<CustomPolicy> customPolicies = new ArrayList<>();
+        subscriptionPolicies.add(SampleTestObjectCreator.createDefaultSubscriptionPolicy());
+        CustomPolicy customPolicy = SampleTestObjectCreator.createDefaultCustomPolicy();
+        customPolicies.add(customPolicy);
+        Mockito.when(apiMgtAdminService.getApiPolicies()).thenReturn(new ArrayList<>());
+        Mockito.when(apiMgtAdminService.getApplicationPolicies()).thenReturn(new ArrayList<>());
+        Mockito.when(apiMgtAdminService.getCustomRules()).thenReturn(customPolicies);
+        Mockito.when(apiMgtAdminService.getSubscriptionPolicies()).thenReturn(subscriptionPolicies);
+
+        PolicyExportManager policyExportManager = new PolicyExportManager(apiMgtAdminService);
+        String unzippedPath = exportRootDirectory + File.separator + "changed-policies";
+        APIFileUtils.extractArchive(policyExportManager
+                .createArchiveFromExecutionPlans("exportDir", exportRootDirectory, "policies"), unzippedPath);
+        String version = readManifest(new File(unzippedPath, "ExportPolicies")).get("version").getAsString();
+        APIFileUtils.deleteDirectory(unzippedPath);
+
+        //add a subscription policy and remove the custom policy
+        SubscriptionPolicy addedPolicy = SampleTestObjectCreator.createDefaultSubscriptionPolicy();
+        addedPolicy.setPolicyName("Bronze");
+        subscriptionPolicies.add(addedPolicy);
+        customPolicies.clear();
+        APIFileUtils.extractArchive(policyExportManager
+                .createArchiveFromExecutionPlans("exportDir", exportRootDirectory, "policies", version), unzippedPath);
+
+        File exportedPoliciesDir = new File(unzippedPath, "ExportPolicies");
+        File[] exportedPolicies = exportedPoliciesDir.listFiles((dir, name) -> name.endsWith(SIDDHI_EXTENSION));
+        Assert.assertEquals(exportedPolicies.length, 1);
+        Assert.assertEquals(exportedPolicies[0].getName(), "subscription_Bronze" + SIDDHI_EXTENSION);
+        JsonObject manifest = readManifest(exportedPoliciesDir);
+        Assert.assertEquals(manifest.get("baseVersion").getAsString(), version);
+        Assert.assertNotEquals(manifest.get("version").getAsString(), version);
+        Assert.assertEquals(manifest.getAsJsonObject("executionPlans").size(), 2);
+        Assert.assertEquals(manifest.getAsJsonArray("removedExecutionPlans").size(), 1);
+        Assert.assertEquals(manifest.getAsJsonArray("removedExecutionPlans").get(0).getAsString(),
+                "custom_" + customPolicy.getPolicyName());
+        APIFileUtils.deleteDirectory(unzippedPath);
+
+        //all the execution plans are exported if the base version is not known
+        APIFileUtils.extractArchive(policyExportManager
+                .createArchiveFromExecutionPlans("exportDir", exportRootDirectory, "policies", "unknown"),
+                unzippedPath);
+        Assert.assertEquals(exportedPoliciesDir.listFiles((dir, name) -> name.endsWith(SIDDHI_EXTENSION)).length,
+                2);
+        Assert.assertNull(readManifest(exportedPoliciesDir).get("baseVersion"));
+        APIFileUtils.deleteDirectory(unzippedPath);
+    }
+
+    private static JsonObject readManifest(File exportedPoliciesDir) throws APIManagementException {
+        String manifest = APIFileUtils.readFileContentAsText(exportedPoliciesDir + File.separator + "manifest.json");
+        return new JsonParser().parse(manifest).getAsJsonObject();
     }
 }
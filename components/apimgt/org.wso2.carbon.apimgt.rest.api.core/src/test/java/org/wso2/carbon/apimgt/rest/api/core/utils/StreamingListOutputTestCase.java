@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.rest.api.core.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.models.PolicyValidationData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Test cases for StreamingListOutput class.
+ */
+public class StreamingListOutputTestCase {
+
+    @Test
+    public void writeListTest() throws Exception {
+        StreamingListOutput<PolicyValidationData> output = new StreamingListOutput<>(consumer -> {
+            for (int i = 0; i < 3; i++) {
+                consumer.accept(new PolicyValidationData(UUID.randomUUID().toString(), "Gold", i % 2 == 0));
+            }
+        }, MappingUtil::toPolicyDTO, "Error while retrieving Policies");
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        output.write(outputStream);
+        JsonNode policyListJson = new ObjectMapper().readTree(outputStream.toByteArray());
+
+        Assert.assertEquals(policyListJson.get("count").asInt(), 3);
+        Assert.assertEquals(policyListJson.get("list").size(), 3);
+        Assert.assertEquals(policyListJson.get("list").get(0).get("name").asText(), "Gold");
+        Assert.assertTrue(policyListJson.get("list").get(0).get("stopOnQuotaReach").asBoolean());
+    }
+
+    @Test
+    public void writeEmptyListTest() throws Exception {
+        StreamingListOutput<PolicyValidationData> output = new StreamingListOutput<>(consumer -> {
+        }, MappingUtil::toPolicyDTO, "Error while retrieving Policies");
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        output.write(outputStream);
+
+        Assert.assertEquals(outputStream.toString("UTF-8"), "{\"list\":[],\"count\":0}");
+    }
+
+    @Test
+    public void entriesAreWrittenBeforeReadingCompletesTest() throws Exception {
+        final int entryCount = 20000;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        int[] bytesWrittenAtLastEntry = new int[1];
+        StreamingListOutput<PolicyValidationData> output = new StreamingListOutput<>(consumer -> {
+            for (int i = 0; i < entryCount; i++) {
+                if (i == entryCount - 1) {
+                    bytesWrittenAtLastEntry[0] = outputStream.size();
+                }
+                consumer.accept(new PolicyValidationData(UUID.randomUUID().toString(), "Gold", false));
+            }
+        }, MappingUtil::toPolicyDTO, "Error while retrieving Policies");
+
+        output.write(outputStream);
+
+        // the response must have been flushed to the stream while the entries were still being read
+        Assert.assertTrue(bytesWrittenAtLastEntry[0] > outputStream.size() / 2);
+        Assert.assertEquals(new ObjectMapper().readTree(outputStream.toByteArray()).get("count").asInt(),
+                entryCount);
+    }
+
+    @Test
+    public void readFailureAbortsResponseTest() throws Exception {
+        StreamingListOutput<PolicyValidationData> output = new StreamingListOutput<>(consumer -> {
+            consumer.accept(new PolicyValidationData(UUID.randomUUID().toString(), "Gold", false));
+            throw new APIManagementException("Error occurred while reading policies",
+                    ExceptionCodes.APIMGT_DAO_EXCEPTION);
+        }, MappingUtil::toPolicyDTO, "Error while retrieving Policies");
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            output.write(outputStream);
+            Assert.fail("Expected the failure to be propagated");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getCause() instanceof APIManagementException);
+        }
+
+        // a partially written list must not be a valid document
+        try {
+            new ObjectMapper().readTree(outputStream.toByteArray());
+            Assert.fail("Expected an incomplete JSON document");
+        } catch (JsonProcessingException e) {
+            Assert.assertTrue(outputStream.toString("UTF-8").startsWith("{\"list\":["));
+        }
+    }
+}
@@ -122,7 +122,8 @@ public class ApisApiServiceImpl extends ApisApiService {
             DocumentInfo documentInfo = documentationContent.getDocumentInfo();
             if (DocumentInfo.SourceType.FILE.equals(documentInfo.getSourceType())) {
                 String filename = documentInfo.getFileName();
-                return Response.ok(documentationContent.getFileContent())
+                return RestApiUtil.getStreamingResponseBuilder(documentationContent.getFileContent(),
+                        request.getHeader(RestApiConstants.HEADER_RANGE))
                         .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_TYPE)
                         .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
                         .header(HttpHeaders.ETAG, "\"" + existingFingerprint + "\"")
@@ -957,7 +958,9 @@ public class ApisApiServiceImpl extends ApisApiService {
 
             InputStream imageInputStream = apiPublisher.getThumbnailImage(apiId);
             if (imageInputStream != null) {
-                return Response.ok(imageInputStream, MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                return RestApiUtil.getStreamingResponseBuilder(imageInputStream,
+                        request.getHeader(RestApiConstants.HEADER_RANGE))
+                        .type(MediaType.APPLICATION_OCTET_STREAM_TYPE)
                         .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"icon\"")
                         .header(HttpHeaders.ETAG, "\"" + existingFingerprint + "\"").build();
             } else {
@@ -1070,11 +1073,12 @@ public class ApisApiServiceImpl extends ApisApiService {
                 log.debug("API has WSDL archive?: " + isWSDLArchiveExists);
             }
             if (isWSDLArchiveExists) {
-                wsdlStream = apiPublisher.getAPIWSDLArchive(apiId);
                 API api = apiPublisher.getAPIbyUUID(apiId);
                 String wsdlFileName =
                         api.getProvider() + "-" + api.getName() + "-" + api.getVersion() + "-wsdl-archive.zip";
-                return Response.ok(wsdlStream)
+                wsdlStream = apiPublisher.getAPIWSDLArchive(apiId);
+                return RestApiUtil.getStreamingResponseBuilder(wsdlStream,
+                        request.getHeader(RestApiConstants.HEADER_RANGE))
                         .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_TYPE)
                         .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + wsdlFileName + "\"")
                         .build();
@@ -5,26 +5,27 @@ import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.api.APIPublisher;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
-import org.wso2.carbon.apimgt.core.models.APIDetails;
+import org.wso2.carbon.apimgt.core.models.API;
 import org.wso2.carbon.apimgt.rest.api.common.dto.ErrorDTO;
 import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
 import org.wso2.carbon.apimgt.rest.api.publisher.ExportApiService;
 import org.wso2.carbon.apimgt.rest.api.publisher.NotFoundException;
-import org.wso2.carbon.apimgt.rest.api.publisher.utils.FileBasedApiImportExportManager;
 import org.wso2.carbon.apimgt.rest.api.publisher.utils.RestAPIPublisherUtil;
+import org.wso2.carbon.apimgt.rest.api.publisher.utils.StreamingApiImportExportManager;
 import org.wso2.msf4j.Request;
 
 import javax.ws.rs.core.Response;
-import java.io.File;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
 import java.util.HashMap;
-import java.util.Set;
-import java.util.UUID;
+import java.util.List;
 
 @javax.annotation.Generated(value = "class org.wso2.maven.plugins.JavaMSF4JServerCodegen", date =
         "2017-01-13T09:50:10.416+05:30")
 public class ExportApiServiceImpl extends ExportApiService {
 
     private static final Logger log = LoggerFactory.getLogger(ExportApiServiceImpl.class);
+    private static final String EXPORTED_API_ARCHIVE_NAME = "exported-apis.zip";
 
     /**
      * Exports an existing API
@@ -42,17 +43,13 @@ public class ExportApiServiceImpl extends ExportApiService {
             throws NotFoundException {
 
         APIPublisher publisher = null;
-        String exportedFilePath, zippedFilePath = null;
-        Set<APIDetails> apiDetails;
-        String exportedApiDirName = "exported-apis";
-        String pathToExportDir = System.getProperty("java.io.tmpdir") + File.separator + "exported-api-archives-" +
-                UUID.randomUUID().toString();
+        List<API> apis;
+        StreamingApiImportExportManager importExportManager;
         try {
             publisher = RestAPIPublisherUtil.getApiPublisher(RestApiUtil.getLoggedInUsername(request));
-            FileBasedApiImportExportManager importExportManager = new FileBasedApiImportExportManager(publisher,
-                    pathToExportDir);
-            apiDetails = importExportManager.getAPIDetails(limit, offset, query);
-            if (apiDetails.isEmpty()) {
+            importExportManager = new StreamingApiImportExportManager(publisher);
+            apis = publisher.searchAPIs(limit, offset, query);
+            if (apis == null || apis.isEmpty()) {
                 // 404
                 String errorMsg = "No APIs found for query " + query;
                 log.error(errorMsg);
@@ -61,11 +58,6 @@ public class ExportApiServiceImpl extends ExportApiService {
                 ErrorDTO errorDTO = RestApiUtil.getErrorDTO(ExceptionCodes.API_NOT_FOUND, paramList);
                 return Response.status(Response.Status.NOT_FOUND).entity(errorDTO).build();
             }
-
-            exportedFilePath = importExportManager.exportAPIs(apiDetails, exportedApiDirName);
-            zippedFilePath = importExportManager.createArchiveFromExportedApiArtifacts(exportedFilePath,
-                    pathToExportDir, exportedApiDirName);
-
         } catch (APIManagementException e) {
             String errorMessage = "Error while exporting APIs";
             log.error(errorMessage, e);
@@ -73,21 +65,19 @@ public class ExportApiServiceImpl extends ExportApiService {
             return Response.status(e.getErrorHandler().getHttpStatusCode()).entity(errorDTO).build();
         }
 
-        File exportedApiArchiveFile = new File(zippedFilePath);
-        Response.ResponseBuilder responseBuilder = Response.status(Response.Status.OK).entity(exportedApiArchiveFile);
-        responseBuilder
-                .header("Content-Disposition", "attachment; filename=\"" + exportedApiArchiveFile.getName() + "\"");
-        Response response = responseBuilder.build();
-
-        //
-        // TODO: remove the local directory to which api info. was imported
-        //        try {
-        //            ImportExportUtils.deleteDirectory(apiUniqueDirectory);
-        //        } catch (APIManagementException e) {
-        //            // no need to throw, log and continue
-        //            log.error("Error while deleteing directory " + apiUniqueDirectory, e);
-        //        }
-
-        return response;
+        // the archive is written to the response as the API details are retrieved, so an error after the response
+        // has started can only abort the response
+        StreamingOutput exportedApiArchive = outputStream -> {
+            try {
+                importExportManager.exportAPIs(apis, outputStream);
+            } catch (APIManagementException e) {
+                String errorMessage = "Error while exporting APIs";
+                log.error(errorMessage, e);
+                throw new IOException(errorMessage, e);
+            }
+        };
+        return Response.status(Response.Status.OK).entity(exportedApiArchive)
+                .header("Content-Disposition", "attachment; filename=\"" + EXPORTED_API_ARCHIVE_NAME + "\"")
+                .build();
     }
 }
@@ -9,14 +9,12 @@ import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
 import org.wso2.carbon.apimgt.rest.api.publisher.ImportApiService;
 import org.wso2.carbon.apimgt.rest.api.publisher.NotFoundException;
 import org.wso2.carbon.apimgt.rest.api.publisher.dto.APIListDTO;
-import org.wso2.carbon.apimgt.rest.api.publisher.utils.FileBasedApiImportExportManager;
 import org.wso2.carbon.apimgt.rest.api.publisher.utils.RestAPIPublisherUtil;
+import org.wso2.carbon.apimgt.rest.api.publisher.utils.StreamingApiImportExportManager;
 import org.wso2.msf4j.Request;
 import org.wso2.msf4j.formparam.FileInfo;
 
-import java.io.File;
 import java.io.InputStream;
-import java.util.UUID;
 import javax.ws.rs.core.Response;
 
 @javax.annotation.Generated(value = "class org.wso2.maven.plugins.JavaMSF4JServerCodegen", date =
@@ -44,9 +42,7 @@ public class ImportApiServiceImpl extends ImportApiService {
         try {
             publisher = RestAPIPublisherUtil.getApiPublisher(RestApiUtil.getLoggedInUsername(request));
 
-            FileBasedApiImportExportManager importManager = new FileBasedApiImportExportManager(publisher,
-                    System.getProperty("java.io.tmpdir") + File.separator + "imported-api-archives-" +
-                            UUID.randomUUID().toString());
+            StreamingApiImportExportManager importManager = new StreamingApiImportExportManager(publisher);
             APIListDTO apiList = importManager.importAndCreateAPIs(fileInputStream, provider);
             return Response.status(Response.Status.OK).entity(apiList).build();
 
@@ -77,9 +73,7 @@ public class ImportApiServiceImpl extends ImportApiService {
         try {
             publisher = RestAPIPublisherUtil.getApiPublisher(RestApiUtil.getLoggedInUsername(request));
 
-            FileBasedApiImportExportManager importManager = new FileBasedApiImportExportManager(publisher,
-                    System.getProperty("java.io.tmpdir") + File.separator + "imported-api-archives-" +
-                            UUID.randomUUID().toString());
+            StreamingApiImportExportManager importManager = new StreamingApiImportExportManager(publisher);
             APIListDTO apiList = importManager.importAPIs(fileInputStream, provider);
             return Response.status(Response.Status.OK).entity(apiList).build();
 
@@ -35,6 +35,7 @@ import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLConnection;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -51,6 +52,8 @@ public class ApiImportExportManager {
 
     APIPublisher apiPublisher;
 
+    private final Object endpointLock = new Object();
+
     public ApiImportExportManager(APIPublisher apiPublisher) {
         this.apiPublisher = apiPublisher;
     }
@@ -82,118 +85,133 @@ public class ApiImportExportManager {
 
         // iterate and collect all information
         for (API api : apis) {
-            api = apiPublisher.getAPIbyUUID(api.getId());
-            // get endpoints at API Level
-            Map<String, Endpoint> endpoints = api.getEndpoint();
-            if (endpoints.isEmpty()) {
-                log.error("No Endpoints found for api: " + api.getName() + ", version: " + api.getVersion());
-                // skip this API
-                // continue;
-            }
-            Set<Endpoint> endpointSet = new HashSet<>();
-            for (Map.Entry<String, Endpoint> endpointEntry : endpoints.entrySet()) {
-                if (APIMgtConstants.GLOBAL_ENDPOINT.equals(endpointEntry.getValue().getApplicableLevel())) {
-                    Endpoint endpoint = new Endpoint.Builder(apiPublisher.getEndpoint(endpointEntry.getValue().getId
-                            ())).id("").build();
-                    endpoints.replace(endpointEntry.getKey(),endpoint);
-                    endpointSet.add(endpoint);
-                }
-            }
-            // get Endpoints at Resource Level
-            Map<String,UriTemplate> uriTemplateMap = api.getUriTemplates();
-            uriTemplateMap.forEach((k, v) -> {
-                UriTemplate.UriTemplateBuilder uriTemplateBuilder = new UriTemplate.UriTemplateBuilder(v);
-                Map<String,Endpoint> resourceEndpoints = uriTemplateBuilder.getEndpoint();
-                resourceEndpoints.forEach((type, value) -> {
-                    Endpoint endpoint = null;
-                    if (APIMgtConstants.GLOBAL_ENDPOINT.equals(value.getApplicableLevel())) {
-                        try {
-                            endpoint = new Endpoint.Builder(apiPublisher.getEndpoint(value.getId())).id("")
-                                    .build();
-                            endpointSet.add(endpoint);
-                        } catch (APIManagementException e) {
-                            log.error("Error in getting endpoints for Resource: " + v.getTemplateId(), e);
-                        }
-                    }else{
-                        endpoint = new Endpoint.Builder(value).id("").build();
-                    }
-                    resourceEndpoints.replace(type,endpoint);
-                });
-                uriTemplateMap.replace(k, uriTemplateBuilder.endpoint(resourceEndpoints).build());
-            });
-            api = new API.APIBuilder(api).endpoint(endpoints).uriTemplates(uriTemplateMap).build();
-            // get swagger definition
-            String swaggerDefinition;
-            try {
-                swaggerDefinition = apiPublisher.getApiSwaggerDefinition(api.getId());
-            } catch (APIManagementException e) {
-                log.error("Error in getting Swagger configuration for api: " + api.getName() + ", version: " +
-                        api.getVersion(), e);
-                // skip this API
-                continue;
+            APIDetails apiDetails = getAPIDetails(api);
+            if (apiDetails != null) {
+                apiDetailSet.add(apiDetails);
             }
+        }
 
-            // get gateway configuration
-            String gatewayConfig;
-            try {
-                gatewayConfig = apiPublisher.getApiGatewayConfig(api.getId());
-            } catch (APIManagementException e) {
-                log.error("Error in getting gateway configuration for api: " + api.getName() + ", version: " +
-                        api.getVersion(), e);
-                // skip this API
-                continue;
-            }
+        return apiDetailSet;
+    }
 
-            // get doc information
-            List<DocumentInfo> documentInfo = null;
-            try {
-                documentInfo = apiPublisher.getAllDocumentation(api.getId(), 0, Integer.MAX_VALUE);
-            } catch (APIManagementException e) {
-                log.error("Error in getting documentation content for api: " + api.getName() + ", version: " +
-                        api.getVersion(), e);
-                // no need to skip the API as docs don't affect API functionality
+    /**
+     * Retrieves all details of the given API, which may be a summary returned by a search
+     *
+     * @param api API to retrieve details of
+     * @return {@link APIDetails} instance, or null if the API can't be exported as its swagger definition or gateway
+     * configuration could not be retrieved
+     * @throws APIManagementException if an error occurs while retrieving the API
+     */
+    public APIDetails getAPIDetails(API api) throws APIManagementException {
+        api = apiPublisher.getAPIbyUUID(api.getId());
+        // get endpoints at API Level
+        Map<String, Endpoint> endpoints = api.getEndpoint();
+        if (endpoints.isEmpty()) {
+            log.error("No Endpoints found for api: " + api.getName() + ", version: " + api.getVersion());
+            // skip this API
+            // continue;
+        }
+        Set<Endpoint> endpointSet = new HashSet<>();
+        for (Map.Entry<String, Endpoint> endpointEntry : endpoints.entrySet()) {
+            if (APIMgtConstants.GLOBAL_ENDPOINT.equals(endpointEntry.getValue().getApplicableLevel())) {
+                Endpoint endpoint = new Endpoint.Builder(apiPublisher.getEndpoint(endpointEntry.getValue().getId
+                        ())).id("").build();
+                endpoints.replace(endpointEntry.getKey(),endpoint);
+                endpointSet.add(endpoint);
             }
-            Set<DocumentContent> documentContents = new HashSet<>();
-            if (documentInfo != null && !documentInfo.isEmpty()) {
-                // iterate and collect document content
-                for (DocumentInfo aDocumentInfo : documentInfo) {
+        }
+        // get Endpoints at Resource Level
+        Map<String,UriTemplate> uriTemplateMap = api.getUriTemplates();
+        uriTemplateMap.forEach((k, v) -> {
+            UriTemplate.UriTemplateBuilder uriTemplateBuilder = new UriTemplate.UriTemplateBuilder(v);
+            Map<String,Endpoint> resourceEndpoints = uriTemplateBuilder.getEndpoint();
+            resourceEndpoints.forEach((type, value) -> {
+                Endpoint endpoint = null;
+                if (APIMgtConstants.GLOBAL_ENDPOINT.equals(value.getApplicableLevel())) {
                     try {
-                        documentContents.add(apiPublisher.getDocumentationContent(aDocumentInfo.getId()));
+                        endpoint = new Endpoint.Builder(apiPublisher.getEndpoint(value.getId())).id("")
+                                .build();
+                        endpointSet.add(endpoint);
                     } catch (APIManagementException e) {
-                        log.error("Error in getting documentation content for api: " + api.getName() +
-                                ", version: " + api.getVersion() + ", doc id: " + aDocumentInfo.getId(), e);
-                        // no need to skip the API as docs don't affect API functionality
+                        log.error("Error in getting endpoints for Resource: " + v.getTemplateId(), e);
                     }
+                }else{
+                    endpoint = new Endpoint.Builder(value).id("").build();
                 }
-            }
-
-            // get thumbnail
-            InputStream thumbnailStream = null;
-            try {
-                thumbnailStream = apiPublisher.getThumbnailImage(api.getId());
-            } catch (APIManagementException e) {
-                log.error("Error in getting thumbnail for api: " + api.getName() + ", version: " + api.getVersion(), e);
-                // no need to skip the API as thumbnail don't affect API functionality
-            }
+                resourceEndpoints.replace(type,endpoint);
+            });
+            uriTemplateMap.replace(k, uriTemplateBuilder.endpoint(resourceEndpoints).build());
+        });
+        api = new API.APIBuilder(api).endpoint(endpoints).uriTemplates(uriTemplateMap).build();
+        // get swagger definition
+        String swaggerDefinition;
+        try {
+            swaggerDefinition = apiPublisher.getApiSwaggerDefinition(api.getId());
+        } catch (APIManagementException e) {
+            log.error("Error in getting Swagger configuration for api: " + api.getName() + ", version: " +
+                    api.getVersion(), e);
+            // skip this API
+            return null;
+        }
 
-            // search operation returns a summary of APIs, need to get all details of APIs
-            APIDetails apiDetails = new APIDetails(api, swaggerDefinition);
-            apiDetails.setGatewayConfiguration(gatewayConfig);
-            apiDetails.setEndpoints(endpointSet);
+        // get gateway configuration
+        String gatewayConfig;
+        try {
+            gatewayConfig = apiPublisher.getApiGatewayConfig(api.getId());
+        } catch (APIManagementException e) {
+            log.error("Error in getting gateway configuration for api: " + api.getName() + ", version: " +
+                    api.getVersion(), e);
+            // skip this API
+            return null;
+        }
 
-            if (documentInfo != null && !documentInfo.isEmpty()) {
-                apiDetails.addDocumentInformation(documentInfo);
-            }
-            if (!documentContents.isEmpty()) {
-                apiDetails.addDocumentContents(documentContents);
-            }
-            if (thumbnailStream != null) {
-                apiDetails.setThumbnailStream(thumbnailStream);
+        // get doc information
+        List<DocumentInfo> documentInfo = null;
+        try {
+            documentInfo = apiPublisher.getAllDocumentation(api.getId(), 0, Integer.MAX_VALUE);
+        } catch (APIManagementException e) {
+            log.error("Error in getting documentation content for api: " + api.getName() + ", version: " +
+                    api.getVersion(), e);
+            // no need to skip the API as docs don't affect API functionality
+        }
+        Set<DocumentContent> documentContents = new HashSet<>();
+        if (documentInfo != null && !documentInfo.isEmpty()) {
+            // iterate and collect document content
+            for (DocumentInfo aDocumentInfo : documentInfo) {
+                try {
+                    documentContents.add(apiPublisher.getDocumentationContent(aDocumentInfo.getId()));
+                } catch (APIManagementException e) {
+                    log.error("Error in getting documentation content for api: " + api.getName() +
+                            ", version: " + api.getVersion() + ", doc id: " + aDocumentInfo.getId(), e);
+                    // no need to skip the API as docs don't affect API functionality
+                }
             }
-            apiDetailSet.add(apiDetails);
         }
 
-        return apiDetailSet;
+        // get thumbnail
+        InputStream thumbnailStream = null;
+        try {
+            thumbnailStream = apiPublisher.getThumbnailImage(api.getId());
+        } catch (APIManagementException e) {
+            log.error("Error in getting thumbnail for api: " + api.getName() + ", version: " + api.getVersion(), e);
+            // no need to skip the API as thumbnail don't affect API functionality
+        }
+
+        // search operation returns a summary of APIs, need to get all details of APIs
+        APIDetails apiDetails = new APIDetails(api, swaggerDefinition);
+        apiDetails.setGatewayConfiguration(gatewayConfig);
+        apiDetails.setEndpoints(endpointSet);
+
+        if (documentInfo != null && !documentInfo.isEmpty()) {
+            apiDetails.addDocumentInformation(documentInfo);
+        }
+        if (!documentContents.isEmpty()) {
+            apiDetails.addDocumentContents(documentContents);
+        }
+        if (thumbnailStream != null) {
+            apiDetails.setThumbnailStream(thumbnailStream);
+        }
+        return apiDetails;
     }
 
     /**
@@ -203,6 +221,43 @@ public class ApiImportExportManager {
      * @throws APIManagementException if an error occurs while adding API details
      */
     public void addAPIDetails(APIDetails apiDetails) throws APIManagementException {
+        apiPublisher.addAPI(resolveEndpoints(apiDetails));
+        addDocumentsAndThumbnail(apiDetails);
+    }
+
+    /**
+     * Adds the details of a set of APIs, adding the APIs in a single transaction. Documents and thumbnails are added
+     * once the APIs are added. APIs which are not added, for instance because they could not be added to the
+     * gateway, are left out of the returned UUIDs.
+     *
+     * @param apiDetailsList {@link APIDetails} instances
+     * @return UUIDs of the added APIs
+     * @throws APIManagementException if an error occurs while adding the APIs, in which case none of them is added
+     */
+    public List<String> addAPIDetails(List<APIDetails> apiDetailsList) throws APIManagementException {
+        List<API.APIBuilder> apiBuilders = new ArrayList<>();
+        for (APIDetails apiDetails : apiDetailsList) {
+            apiBuilders.add(resolveEndpoints(apiDetails));
+        }
+        List<String> apiIds = apiPublisher.addAPIs(apiBuilders);
+        for (APIDetails apiDetails : apiDetailsList) {
+            if (apiIds.contains(apiDetails.getApi().getId())) {
+                addDocumentsAndThumbnail(apiDetails);
+            } else {
+                log.error("API: " + apiDetails.getApi().getName() + ", version: " + apiDetails.getApi().getVersion()
+                        + " was not added");
+            }
+        }
+        return apiIds;
+    }
+
+    /**
+     * Adds the endpoints of an API which don't exist yet, and refers to the existing endpoints by their IDs
+     *
+     * @param apiDetails {@link APIDetails} instance
+     * @return {@link API.APIBuilder} of the API to be added
+     */
+    private API.APIBuilder resolveEndpoints(APIDetails apiDetails) {
 
         // update everything
         String swaggerDefinition = apiDetails.getSwaggerDefinition();
@@ -212,19 +267,22 @@ public class ApiImportExportManager {
         // endpoints
         for (Endpoint endpoint : apiDetails.getEndpoints()) {
             try {
-                Endpoint existingEndpoint = apiPublisher.getEndpointByName(endpoint.getName());
                 String endpointId;
-                if (existingEndpoint == null) {
-                    // no endpoint by that name, add it
-                    endpointId = apiPublisher.addEndpoint(endpoint);
-
-                } else {
-                    endpointId = existingEndpoint.getId();
-                    if (log.isDebugEnabled()) {
-                        log.debug("Endpoint with id " + endpoint.getId() + " already exists, not adding again");
+                // APIs sharing an endpoint may be added concurrently, which must not add the endpoint twice
+                synchronized (endpointLock) {
+                    Endpoint existingEndpoint = apiPublisher.getEndpointByName(endpoint.getName());
+                    if (existingEndpoint == null) {
+                        // no endpoint by that name, add it
+                        endpointId = apiPublisher.addEndpoint(endpoint);
+
+                    } else {
+                        endpointId = existingEndpoint.getId();
+                        if (log.isDebugEnabled()) {
+                            log.debug("Endpoint with id " + endpoint.getId() + " already exists, not adding again");
+                        }
+                        // endpoint with same name exists, add to endpointTypeToIdMap
+                        //     endpointTypeToIdMap.put(endpoint.getType(), existingEndpoint.getId());
                     }
-                    // endpoint with same name exists, add to endpointTypeToIdMap
-                    //     endpointTypeToIdMap.put(endpoint.getType(), existingEndpoint.getId());
                 }
                 endpointTypeToIdMap.forEach((String k, Endpoint v) ->{
                     if (endpoint.getName().equals(v.getName())){
@@ -253,9 +311,17 @@ public class ApiImportExportManager {
         }
 
         API.APIBuilder apiBuilder = new API.APIBuilder(apiDetails.getApi());
-        apiPublisher.addAPI(apiBuilder.apiDefinition(swaggerDefinition).gatewayConfig(gatewayConfig).
-                endpoint(endpointTypeToIdMap).uriTemplates(uriTemplateMap));
+        return apiBuilder.apiDefinition(swaggerDefinition).gatewayConfig(gatewayConfig).
+                endpoint(endpointTypeToIdMap).uriTemplates(uriTemplateMap);
+    }
 
+    /**
+     * Adds the documents and the thumbnail of an added API. These are non critical, so errors are logged without
+     * failing the import of the API.
+     *
+     * @param apiDetails {@link APIDetails} instance
+     */
+    private void addDocumentsAndThumbnail(APIDetails apiDetails) {
         // docs
         try {
             Set<DocumentInfo> documentInfo = apiDetails.getAllDocumentInformation();
@@ -364,4 +430,42 @@ public class ApiImportExportManager {
                     apiDetails.getApi().getVersion(), e);
         }
     }
+
+    /**
+     * Imports the given API instance to this API Manager - will create if not exists and update if the api is
+     * already there
+     *
+     * @param apiDetails {@link org.wso2.carbon.apimgt.core.models.APIDetails} instance to be imported
+     * @return {@link API} instance that was imported
+     * @throws APIManagementException if an error occurs while importing the API
+     */
+    API importApi(APIDetails apiDetails) throws APIManagementException {
+        // if the API already exists, can't import again
+        if (apiPublisher.isAPIExists(apiDetails.getApi().getId())) {
+            updateAPIDetails(apiDetails);
+        } else {
+            addAPIDetails(apiDetails);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Successfully imported API definition for: " + apiDetails.getApi().getName() + ", version: " +
+                    apiDetails.getApi().getVersion());
+        }
+        return apiPublisher.getAPIbyUUID(apiDetails.getApi().getId());
+    }
+
+    /**
+     * Imports the given API instance to this API Manager. Operation will fail if the API already exists.
+     *
+     * @param apiDetails {@link org.wso2.carbon.apimgt.core.models.APIDetails} instance to be imported
+     * @return {@link API} instance that was imported
+     * @throws APIManagementException if an error occurs while importing the API
+     */
+    API importAndCreateApi(APIDetails apiDetails) throws APIManagementException {
+        addAPIDetails(apiDetails);
+        if (log.isDebugEnabled()) {
+            log.debug("Successfully imported API definition for: " + apiDetails.getApi().getName() + ", version: " +
+                    apiDetails.getApi().getVersion());
+        }
+        return apiPublisher.getAPIbyUUID(apiDetails.getApi().getId());
+    }
 }
@@ -625,46 +625,6 @@ public class FileBasedApiImportExportManager extends ApiImportExportManager {
     }
 
 
-    /**
-     * Imports the given API instance to this API Manager - will create if not exists and update if the api is
-     * already there
-     *
-     * @param apiDetails {@link org.wso2.carbon.apimgt.core.models.APIDetails} instance to be imported
-     * @return {@link API} instance that was imported
-     * @throws APIMgtEntityImportExportException if an error occurs while importing the API
-     */
-    private API importApi(APIDetails apiDetails) throws APIManagementException {
-        // if the API already exists, can't import again
-        if (apiPublisher.isAPIExists(apiDetails.getApi().getId())) {
-            updateAPIDetails(apiDetails);
-        } else {
-            addAPIDetails(apiDetails);
-        }
-
-        if (log.isDebugEnabled()) {
-            log.debug("Successfully imported API definition for: " + apiDetails.getApi().getName() + ", version: " +
-                    apiDetails.getApi().getVersion());
-        }
-        return apiPublisher.getAPIbyUUID(apiDetails.getApi().getId());
-    }
-
-    /**
-     * Imports the given API instance to this API Manager. Operation will fail if the API already exists.
-     *
-     * @param apiDetails {@link org.wso2.carbon.apimgt.core.models.APIDetails} instance to be imported
-     * @return {@link API} instance that was imported
-     * @throws APIManagementException if an error occurs while importing the API
-     */
-    private API importAndCreateApi(APIDetails apiDetails) throws APIManagementException {
-        addAPIDetails(apiDetails);
-
-        if (log.isDebugEnabled()) {
-            log.debug("Successfully imported API definition for: " + apiDetails.getApi().getName() + ", version: " +
-                    apiDetails.getApi().getVersion());
-        }
-        return apiPublisher.getAPIbyUUID(apiDetails.getApi().getId());
-    }
-
     private Set<Endpoint> getEndpointsFromExtractedArchive(String endpointLocation, String apiName, String version)
             throws APIMgtEntityImportExportException {
         File endpointsRootDirectory = new File(endpointLocation);
@@ -0,0 +1,609 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.rest.api.publisher.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.api.APIPublisher;
+import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.exception.APIMgtEntityImportExportException;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.models.API;
+import org.wso2.carbon.apimgt.core.models.APIDetails;
+import org.wso2.carbon.apimgt.core.models.DocumentContent;
+import org.wso2.carbon.apimgt.core.models.DocumentInfo;
+import org.wso2.carbon.apimgt.core.models.Endpoint;
+import org.wso2.carbon.apimgt.core.models.FileApi;
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+import org.wso2.carbon.apimgt.rest.api.publisher.dto.APIListDTO;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Manager class for API Import and Export handling which streams the API archive directly to and from the client,
+ * without writing the APIs to the file system. The archive layout is the same as that of
+ * {@link FileBasedApiImportExportManager}, so archives exported by either manager can be imported by the other.
+ * <p>
+ * The details of several APIs are retrieved or imported in parallel, while the number of APIs held in memory at a
+ * time is bounded by the parallelism, regardless of the number of APIs in the archive. New APIs are imported in
+ * chunks which are each added to the database in a single transaction.
+ */
+public class StreamingApiImportExportManager extends ApiImportExportManager {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingApiImportExportManager.class);
+
+    private static final String DOCUMENTATION_DEFINITION_FILE = "doc.json";
+    private static final String DOCUMENTS_ROOT_DIRECTORY = "Documents";
+    private static final String ENTRY_SEPARATOR = "/";
+    private static final int DEFAULT_PARALLELISM = 4;
+    private static final int DEFAULT_BULK_IMPORT_CHUNK_SIZE = 50;
+    private static final int PROGRESS_LOG_INTERVAL = 100;
+
+    private final int parallelism;
+    private int bulkImportChunkSize = DEFAULT_BULK_IMPORT_CHUNK_SIZE;
+    private ProgressListener progressListener = StreamingApiImportExportManager::logProgress;
+
+    public StreamingApiImportExportManager(APIPublisher apiPublisher) {
+        this(apiPublisher, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param apiPublisher {@link APIPublisher} of the user
+     * @param parallelism  number of APIs retrieved or imported at a time
+     */
+    public StreamingApiImportExportManager(APIPublisher apiPublisher, int parallelism) {
+        super(apiPublisher);
+        this.parallelism = parallelism;
+    }
+
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Set the number of new APIs which are added together in a single transaction
+     *
+     * @param bulkImportChunkSize number of APIs
+     */
+    public void setBulkImportChunkSize(int bulkImportChunkSize) {
+        this.bulkImportChunkSize = bulkImportChunkSize;
+    }
+
+    /**
+     * Export the given APIs as a zip archive written to the given stream. The details of each API are retrieved
+     * while the previous APIs are written, and an API is skipped if its details could not be retrieved.
+     * The output stream is not closed.
+     *
+     * @param apis         APIs to be exported, which may be summaries returned by a search
+     * @param outputStream stream the archive is written to
+     * @return number of exported APIs
+     * @throws APIMgtEntityImportExportException if an error occurred while writing the archive or no APIs are
+     *                                           exported successfully
+     */
+    public int exportAPIs(List<API> apis, OutputStream outputStream) throws APIMgtEntityImportExportException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        CompletionService<APIDetails> completionService = new ExecutorCompletionService<>(executor);
+        // bounds the number of retrieved APIs which are waiting to be written
+        int window = parallelism * 2;
+        Iterator<API> apiIterator = apis.iterator();
+        int submitted = 0;
+        int completed = 0;
+        int exported = 0;
+        try {
+            ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+            for (; submitted < window && apiIterator.hasNext(); submitted++) {
+                submitGetAPIDetails(completionService, apiIterator.next());
+            }
+            while (completed < submitted) {
+                APIDetails apiDetails = takeAPIDetails(completionService);
+                completed++;
+                if (apiIterator.hasNext()) {
+                    submitGetAPIDetails(completionService, apiIterator.next());
+                    submitted++;
+                }
+                if (apiDetails != null && writeApiToArchive(apiDetails, zipOutputStream)) {
+                    exported++;
+                }
+                progressListener.onProgress(completed, apis.size());
+            }
+            zipOutputStream.finish();
+            zipOutputStream.flush();
+        } catch (IOException e) {
+            String errorMsg = "Error while writing the API archive, aborted after exporting " + exported + " APIs";
+            throw new APIMgtEntityImportExportException(errorMsg, e, ExceptionCodes.API_EXPORT_ERROR);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // if no APIs are exported, the archive is empty
+        if (exported == 0) {
+            String errorMsg = "No APIs exported successfully";
+            throw new APIMgtEntityImportExportException(errorMsg, ExceptionCodes.API_EXPORT_ERROR);
+        }
+        return exported;
+    }
+
+    /**
+     * Imports and creates a set of new APIs to API Manager by reading and decoding the
+     * input stream. Will fail if the APIs already exists
+     *
+     * @param apiArchiveInputStream zip archive stream to be read and decoded to a set of APIs
+     * @param provider              API provider, if needs to be updated
+     * @return {@link APIListDTO} object comprising of successfully imported APIs
+     * @throws APIMgtEntityImportExportException if any error occurs while importing or no APIs are imported
+     *                                           successfully
+     */
+    public APIListDTO importAndCreateAPIs(InputStream apiArchiveInputStream, String provider)
+            throws APIMgtEntityImportExportException {
+        return MappingUtil.toAPIListDTO(importAPIs(apiArchiveInputStream, provider, false));
+    }
+
+    /**
+     * Imports a set of APIs to API Manager by reading and decoding the input stream
+     *
+     * @param apiArchiveInputStream zip archive stream to be read and decoded to a set of APIs
+     * @param provider              API provider, if needs to be updated
+     * @return {@link APIListDTO} object comprising of successfully imported APIs
+     * @throws APIMgtEntityImportExportException if any error occurs while importing or no APIs are imported
+     *                                           successfully
+     */
+    public APIListDTO importAPIs(InputStream apiArchiveInputStream, String provider)
+            throws APIMgtEntityImportExportException {
+        return MappingUtil.toAPIListDTO(importAPIs(apiArchiveInputStream, provider, true));
+    }
+
+    /**
+     * Reads the APIs from the archive in chunks, importing each chunk while the following APIs are read. The entries
+     * of an API have to be contiguous in the archive, as they are when it is created by an export.
+     * <p>
+     * New APIs of a chunk are added in a single transaction. If that fails, for instance because one of the APIs
+     * already exists, the APIs of the chunk are imported one at a time so that the valid ones are still imported.
+     *
+     * @param apiArchiveInputStream zip archive stream
+     * @param provider              API provider, if needs to be updated
+     * @param updateExisting        whether existing APIs are updated, instead of failing to import them
+     * @return successfully imported APIs
+     * @throws APIMgtEntityImportExportException if the archive could not be read or no APIs are imported successfully
+     */
+    private List<API> importAPIs(InputStream apiArchiveInputStream, String provider, boolean updateExisting)
+            throws APIMgtEntityImportExportException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        // bounds the number of decoded chunks which are waiting to be imported
+        Semaphore pendingChunks = new Semaphore(parallelism * 2);
+        // existing APIs are updated one at a time
+        int chunkSize = updateExisting ? 1 : bulkImportChunkSize;
+        AtomicInteger processed = new AtomicInteger();
+        Set<String> apiDirectories = new HashSet<>();
+        List<Future<List<API>>> results = new ArrayList<>();
+        try {
+            ZipInputStream zipInputStream = new ZipInputStream(apiArchiveInputStream);
+            List<ArchivedApi> chunk = new ArrayList<>();
+            ArchivedApi archivedApi = null;
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                String entryName = entry.getName();
+                int separatorIndex = entryName.indexOf(ENTRY_SEPARATOR);
+                if (separatorIndex < 0) {
+                    log.warn("Ignoring archive entry " + entryName + " which is not in an API directory");
+                    continue;
+                }
+                String apiDirectory = entryName.substring(0, separatorIndex);
+                if (archivedApi == null || !archivedApi.directory.equals(apiDirectory)) {
+                    if (!apiDirectories.add(apiDirectory)) {
+                        String errorMsg = "Entries of the API directory " + apiDirectory + " are not contiguous in "
+                                + "the archive";
+                        throw new APIMgtEntityImportExportException(errorMsg, ExceptionCodes.API_IMPORT_ERROR);
+                    }
+                    if (chunk.size() == chunkSize) {
+                        results.add(submitImport(executor, pendingChunks, processed, chunk, provider,
+                                updateExisting));
+                        chunk = new ArrayList<>();
+                    }
+                    archivedApi = new ArchivedApi(apiDirectory);
+                    chunk.add(archivedApi);
+                }
+                archivedApi.entries.put(entryName.substring(separatorIndex + 1), IOUtils.toByteArray(zipInputStream));
+            }
+            if (!chunk.isEmpty()) {
+                results.add(submitImport(executor, pendingChunks, processed, chunk, provider, updateExisting));
+            }
+
+            List<API> apis = new ArrayList<>();
+            for (Future<List<API>> result : results) {
+                try {
+                    apis.addAll(result.get());
+                } catch (ExecutionException e) {
+                    // skip importing the chunk
+                    log.error("Error while importing APIs", e.getCause());
+                }
+            }
+            // if no APIs are imported, throw an error
+            if (apis.isEmpty()) {
+                String errorMsg = "No APIs imported successfully";
+                throw new APIMgtEntityImportExportException(errorMsg, ExceptionCodes.API_IMPORT_ERROR);
+            }
+            return apis;
+        } catch (IOException e) {
+            String errorMsg = "Error in reading uploaded API archive";
+            throw new APIMgtEntityImportExportException(errorMsg, e, ExceptionCodes.API_IMPORT_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            String errorMsg = "Interrupted while importing APIs";
+            throw new APIMgtEntityImportExportException(errorMsg, e, ExceptionCodes.API_IMPORT_ERROR);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Future<List<API>> submitImport(ExecutorService executor, Semaphore pendingChunks,
+                                           AtomicInteger processed, List<ArchivedApi> chunk, String provider,
+                                           boolean updateExisting) throws InterruptedException {
+        pendingChunks.acquire();
+        return executor.submit(() -> {
+            try {
+                return importChunk(chunk, provider, updateExisting);
+            } finally {
+                pendingChunks.release();
+                // total number of APIs is not known until the archive is read completely
+                progressListener.onProgress(processed.addAndGet(chunk.size()), -1);
+            }
+        });
+    }
+
+    private List<API> importChunk(List<ArchivedApi> chunk, String provider, boolean updateExisting) {
+        List<APIDetails> apiDetailsList = new ArrayList<>();
+        for (ArchivedApi archivedApi : chunk) {
+            try {
+                apiDetailsList.add(archivedApi.decode(provider));
+            } catch (APIManagementException | RuntimeException e) {
+                // skip importing the API
+                log.error("Error occurred while importing api from directory: " + archivedApi.directory, e);
+            }
+        }
+
+        List<API> apis = new ArrayList<>();
+        if (!updateExisting && apiDetailsList.size() > 1) {
+            try {
+                for (String apiId : addAPIDetails(apiDetailsList)) {
+                    apis.add(apiPublisher.getAPIbyUUID(apiId));
+                }
+                log.info("Successfully imported " + apis.size() + " APIs");
+                return apis;
+            } catch (APIManagementException e) {
+                log.warn("Error while importing " + apiDetailsList.size() + " APIs together, importing them one at "
+                        + "a time", e);
+            }
+        }
+        for (APIDetails apiDetails : apiDetailsList) {
+            try {
+                apis.add(updateExisting ? importApi(apiDetails) : importAndCreateApi(apiDetails));
+            } catch (APIManagementException e) {
+                log.error("Error while importing API: " + apiDetails.getApi().getName() + ", version: " +
+                        apiDetails.getApi().getVersion(), e);
+                // skip importing the API
+                continue;
+            }
+            log.info("Successfully imported API: " + apiDetails.getApi().getName() + ", version: " +
+                    apiDetails.getApi().getVersion());
+        }
+        return apis;
+    }
+
+    private void submitGetAPIDetails(CompletionService<APIDetails> completionService, API api) {
+        completionService.submit(() -> {
+            try {
+                return getAPIDetails(api);
+            } catch (APIManagementException e) {
+                log.error("Error in getting details of api: " + api.getName() + ", version: " + api.getVersion(), e);
+                // skip this API
+                return null;
+            }
+        });
+    }
+
+    private static APIDetails takeAPIDetails(CompletionService<APIDetails> completionService)
+            throws APIMgtEntityImportExportException {
+        try {
+            return completionService.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new APIMgtEntityImportExportException("Interrupted while exporting APIs", e,
+                    ExceptionCodes.API_EXPORT_ERROR);
+        } catch (ExecutionException e) {
+            log.error("Error in getting API details for export", e.getCause());
+            // skip this API
+            return null;
+        }
+    }
+
+    /**
+     * Writes the entries of an API to the archive. The definitions are serialized before any entry is written, so
+     * that an API which can't be serialized is skipped without leaving a partially written directory.
+     *
+     * @param apiDetails      {@link APIDetails} of the API
+     * @param zipOutputStream archive stream
+     * @return true if the API is written, false if it is skipped
+     * @throws IOException if an error occurs while writing to the archive
+     */
+    private boolean writeApiToArchive(APIDetails apiDetails, ZipOutputStream zipOutputStream) throws IOException {
+        API api = apiDetails.getApi();
+        FileApi fileApi = new FileApi(api);
+        String apiDirectory = fileApi.getProvider() + "-" + fileApi.getName() + "-" + fileApi.getVersion() +
+                ENTRY_SEPARATOR;
+        Map<String, String> definitions = new LinkedHashMap<>();
+        try {
+            definitions.put(APIMgtConstants.APIFileUtilConstants.API_DEFINITION_FILE_PREFIX + api.getId() +
+                    APIMgtConstants.APIFileUtilConstants.JSON_EXTENSION, new Gson().toJson(fileApi));
+            Gson prettyGson = new GsonBuilder().setPrettyPrinting().create();
+            definitions.put(APIMgtConstants.APIFileUtilConstants.SWAGGER_DEFINITION_FILE_PREFIX + api.getId() +
+                    APIMgtConstants.APIFileUtilConstants.JSON_EXTENSION, prettyGson.toJson(new JsonParser()
+                    .parse(apiDetails.getSwaggerDefinition()).getAsJsonObject()));
+            if (apiDetails.getGatewayConfiguration() != null) {
+                definitions.put(APIMgtConstants.APIFileUtilConstants.GATEWAY_CONFIGURATION_DEFINITION_FILE,
+                        apiDetails.getGatewayConfiguration());
+            } else {
+                log.warn("No gateway configuration found for API with api: " + api.getName() + ", version: " +
+                        api.getVersion());
+            }
+            for (Endpoint endpoint : apiDetails.getEndpoints()) {
+                definitions.put(APIMgtConstants.APIFileUtilConstants.ENDPOINTS_ROOT_DIRECTORY + ENTRY_SEPARATOR +
+                        endpoint.getName() + APIMgtConstants.APIFileUtilConstants.JSON_EXTENSION,
+                        new Gson().toJson(endpoint));
+            }
+        } catch (RuntimeException e) {
+            // no need to throw, log
+            log.error("Error in exporting API: " + api.getName() + ", version: " + api.getVersion(), e);
+            // skip this API
+            return false;
+        }
+
+        for (Map.Entry<String, String> definition : definitions.entrySet()) {
+            writeEntry(zipOutputStream, apiDirectory + definition.getKey(),
+                    definition.getValue().getBytes(StandardCharsets.UTF_8));
+        }
+        // export docs and thumbnail - these are non critical; even if they fail the API is considered
+        // as exported correctly.
+        if (apiDetails.getThumbnailStream() != null) {
+            // thumbnails are small, read before writing so that a read failure does not abort the archive
+            byte[] thumbnail = null;
+            try (InputStream thumbnailStream = apiDetails.getThumbnailStream()) {
+                thumbnail = IOUtils.toByteArray(thumbnailStream);
+            } catch (IOException warn) {
+                // log the warning without throwing
+                log.warn("Error in exporting thumbnail for api: " + api.getName() + ", version: " +
+                        api.getVersion());
+            }
+            if (thumbnail != null) {
+                writeEntry(zipOutputStream, apiDirectory + APIMgtConstants.APIFileUtilConstants.THUMBNAIL_FILE_NAME,
+                        thumbnail);
+            }
+        }
+        writeDocumentationToArchive(apiDetails, apiDirectory + DOCUMENTS_ROOT_DIRECTORY + ENTRY_SEPARATOR,
+                zipOutputStream);
+        log.info("Successfully exported API: " + api.getName() + ", version: " + api.getVersion());
+        return true;
+    }
+
+    private void writeDocumentationToArchive(APIDetails apiDetails, String documentsDirectory,
+                                             ZipOutputStream zipOutputStream) throws IOException {
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        for (DocumentInfo aDocumentInfo : apiDetails.getAllDocumentInformation()) {
+            String documentDirectory = documentsDirectory + aDocumentInfo.getId() + ENTRY_SEPARATOR;
+            DocumentInfo exportedDocInfo = aDocumentInfo;
+            DocumentContent content = apiDetails.getDocumentContent(aDocumentInfo.getId());
+            if (content != null && aDocumentInfo.getSourceType().equals(DocumentInfo.SourceType.FILE)
+                    && content.getFileContent() != null) {
+                // modify the document metadata to contain the file name
+                exportedDocInfo = new DocumentInfo.Builder(aDocumentInfo).fileName(content.getDocumentInfo()
+                        .getFileName()).build();
+                writeEntry(zipOutputStream, documentDirectory + DOCUMENTATION_DEFINITION_FILE,
+                        gson.toJson(exportedDocInfo).getBytes(StandardCharsets.UTF_8));
+                try (InputStream fileContent = content.getFileContent()) {
+                    zipOutputStream.putNextEntry(new ZipEntry(documentDirectory + exportedDocInfo.getFileName()));
+                    IOUtils.copy(fileContent, zipOutputStream);
+                    zipOutputStream.closeEntry();
+                }
+            } else if (content != null && aDocumentInfo.getSourceType().equals(DocumentInfo.SourceType.INLINE)
+                    && content.getInlineContent() != null) {
+                // modify the document metadata to contain the inline content name
+                exportedDocInfo = new DocumentInfo.Builder(aDocumentInfo).name(content.getDocumentInfo().getName())
+                        .build();
+                writeEntry(zipOutputStream, documentDirectory + DOCUMENTATION_DEFINITION_FILE,
+                        gson.toJson(exportedDocInfo).getBytes(StandardCharsets.UTF_8));
+                writeEntry(zipOutputStream, documentDirectory + exportedDocInfo.getName(),
+                        content.getInlineContent().getBytes(StandardCharsets.UTF_8));
+            } else {
+                writeEntry(zipOutputStream, documentDirectory + DOCUMENTATION_DEFINITION_FILE,
+                        gson.toJson(exportedDocInfo).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private static void writeEntry(ZipOutputStream zipOutputStream, String name, byte[] content)
+            throws IOException {
+        zipOutputStream.putNextEntry(new ZipEntry(name));
+        zipOutputStream.write(content);
+        zipOutputStream.closeEntry();
+    }
+
+    private static void logProgress(int processed, int total) {
+        if (processed % PROGRESS_LOG_INTERVAL == 0 || processed == total) {
+            log.info("Processed " + processed + (total < 0 ? "" : " of " + total) + " APIs");
+        }
+    }
+
+    /**
+     * Receives the progress of an import or export. Progress of an import is reported from the threads which import
+     * the APIs.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * @param processed number of APIs processed so far, including the skipped APIs
+         * @param total     total number of APIs, or -1 if it is not known yet
+         */
+        void onProgress(int processed, int total);
+    }
+
+    /**
+     * Entries of an API directory read from an archive, keyed by their path relative to the directory
+     */
+    private static final class ArchivedApi {
+        private final String directory;
+        private final Map<String, byte[]> entries = new LinkedHashMap<>();
+
+        private ArchivedApi(String directory) {
+            this.directory = directory;
+        }
+
+        private APIDetails decode(String newApiProvider) throws APIMgtEntityImportExportException {
+            Gson gson = new GsonBuilder().create();
+            API api;
+            try {
+                api = new API.APIBuilder(gson.fromJson(getTextWithPrefix(APIMgtConstants.APIFileUtilConstants
+                        .API_DEFINITION_FILE_PREFIX), FileApi.class)).build();
+            } catch (RuntimeException e) {
+                String errorMsg = "Error in building API from api definition read from directory: " + directory;
+                throw new APIMgtEntityImportExportException(errorMsg, e);
+            }
+            if (newApiProvider != null && !newApiProvider.isEmpty()) {
+                // update the newApiProvider
+                api = new API.APIBuilder(api).provider(newApiProvider).build();
+            }
+            String swaggerDefinition = getTextWithPrefix(APIMgtConstants.APIFileUtilConstants
+                    .SWAGGER_DEFINITION_FILE_PREFIX);
+
+            String endpointsDirectory = APIMgtConstants.APIFileUtilConstants.ENDPOINTS_ROOT_DIRECTORY +
+                    ENTRY_SEPARATOR;
+            String documentsDirectory = DOCUMENTS_ROOT_DIRECTORY + ENTRY_SEPARATOR;
+            Set<Endpoint> endpoints = new HashSet<>();
+            Set<DocumentInfo> documentInfoSet = new HashSet<>();
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                String path = entry.getKey();
+                if (path.startsWith(endpointsDirectory)) {
+                    endpoints.add(gson.fromJson(toText(entry.getValue()), Endpoint.class));
+                } else if (path.startsWith(documentsDirectory) && path.endsWith(ENTRY_SEPARATOR +
+                        DOCUMENTATION_DEFINITION_FILE)) {
+                    try {
+                        documentInfoSet.add(gson.fromJson(toText(entry.getValue()), DocumentInfo.class));
+                    } catch (RuntimeException e) {
+                        // no need to throw, log and continue
+                        log.error("Error in importing documentation from file: " + path + " for API: " +
+                                api.getName() + ", version: " + api.getVersion());
+                    }
+                }
+            }
+
+            Set<DocumentContent> documentContents = new HashSet<>();
+            for (DocumentInfo aDocumentInfo : documentInfoSet) {
+                String documentDirectory = documentsDirectory + aDocumentInfo.getId() + ENTRY_SEPARATOR;
+                DocumentContent.Builder documentContentBuilder = new DocumentContent.Builder()
+                        .documentInfo(aDocumentInfo);
+                if (aDocumentInfo.getSourceType().equals(DocumentInfo.SourceType.FILE)) {
+                    byte[] fileContent = entries.get(documentDirectory + aDocumentInfo.getFileName());
+                    if (fileContent != null) {
+                        documentContents.add(documentContentBuilder.fileContent(new ByteArrayInputStream(
+                                fileContent)).build());
+                    }
+                } else if (aDocumentInfo.getSourceType().equals(DocumentInfo.SourceType.INLINE)) {
+                    byte[] inlineContent = entries.get(documentDirectory + aDocumentInfo.getName());
+                    if (inlineContent != null) {
+                        documentContents.add(documentContentBuilder.inlineContent(toText(inlineContent)).build());
+                    }
+                }
+            }
+
+            APIDetails apiDetails = new APIDetails(api, swaggerDefinition);
+            byte[] gatewayConfiguration = entries.get(APIMgtConstants.APIFileUtilConstants
+                    .GATEWAY_CONFIGURATION_DEFINITION_FILE);
+            if (gatewayConfiguration != null) {
+                apiDetails.setGatewayConfiguration(toText(gatewayConfiguration));
+            }
+            apiDetails.setEndpoints(endpoints);
+            if (!documentInfoSet.isEmpty()) {
+                apiDetails.addDocumentInformation(documentInfoSet);
+            }
+            if (!documentContents.isEmpty()) {
+                apiDetails.addDocumentContents(documentContents);
+            }
+            byte[] thumbnail = entries.get(APIMgtConstants.APIFileUtilConstants.THUMBNAIL_FILE_NAME);
+            if (thumbnail != null) {
+                apiDetails.setThumbnailStream(new ByteArrayInputStream(thumbnail));
+            }
+            return apiDetails;
+        }
+
+        /**
+         * Return the content of the single file at the root of the API directory with the given prefix
+         */
+        private String getTextWithPrefix(String prefix) throws APIMgtEntityImportExportException {
+            byte[] content = null;
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                if (!entry.getKey().contains(ENTRY_SEPARATOR) && entry.getKey().startsWith(prefix)) {
+                    if (content != null) {
+                        String errorMsg = "More than one file with prefix: " + prefix + " found at path: " +
+                                directory;
+                        throw new APIMgtEntityImportExportException(errorMsg);
+                    }
+                    content = entry.getValue();
+                }
+            }
+            if (content == null) {
+                String errorMsg = "Unable find file with prefix: " + prefix + " at path: " + directory;
+                throw new APIMgtEntityImportExportException(errorMsg);
+            }
+            return toText(content);
+        }
+
+        private static String toText(byte[] content) {
+            return new String(content, StandardCharsets.UTF_8);
+        }
+    }
+}
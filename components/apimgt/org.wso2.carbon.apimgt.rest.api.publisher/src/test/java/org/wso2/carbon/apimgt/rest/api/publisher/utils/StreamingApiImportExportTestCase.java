@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.rest.api.publisher.utils;
+
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.api.APIPublisher;
+import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.exception.APIMgtEntityImportExportException;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.models.API;
+import org.wso2.carbon.apimgt.core.models.DocumentContent;
+import org.wso2.carbon.apimgt.core.models.DocumentInfo;
+import org.wso2.carbon.apimgt.rest.api.publisher.common.SampleTestObjectCreator;
+import org.wso2.carbon.apimgt.rest.api.publisher.dto.APIListDTO;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+public class StreamingApiImportExportTestCase {
+
+    @Test(description = "Export APIs to a stream and import them back")
+    public void testExportAndImport() throws Exception {
+        APIPublisher apiPublisher = Mockito.mock(APIPublisher.class);
+        API api1 = mockApi(apiPublisher, "WeatherAPI", "weather");
+        API api2 = mockApi(apiPublisher, "PizzaShackAPI", "pizzashack");
+
+        StreamingApiImportExportManager exportManager = new StreamingApiImportExportManager(apiPublisher, 2);
+        List<Integer> progress = new ArrayList<>();
+        exportManager.setProgressListener((processed, total) -> {
+            Assert.assertEquals(total, 2);
+            progress.add(processed);
+        });
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        Assert.assertEquals(exportManager.exportAPIs(Arrays.asList(api1, api2), archive), 2);
+        Assert.assertEquals(progress, Arrays.asList(1, 2));
+
+        Set<String> apiDirectories = new HashSet<>();
+        Set<String> entries = new HashSet<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(archive.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entries.add(entry.getName());
+                apiDirectories.add(entry.getName().substring(0, entry.getName().indexOf('/')));
+            }
+        }
+        Assert.assertEquals(apiDirectories, new HashSet<>(Arrays.asList(
+                api1.getProvider() + "-WeatherAPI-" + api1.getVersion(),
+                api2.getProvider() + "-PizzaShackAPI-" + api2.getVersion())));
+        String api1Directory = api1.getProvider() + "-WeatherAPI-" + api1.getVersion() + "/";
+        Assert.assertTrue(entries.contains(api1Directory + "api-" + api1.getId() + ".json"));
+        Assert.assertTrue(entries.contains(api1Directory + "swagger-" + api1.getId() + ".json"));
+        Assert.assertTrue(entries.contains(api1Directory + "gateway-configuration"));
+        Assert.assertTrue(entries.contains(api1Directory + "thumbnail"));
+
+        APIPublisher importPublisher = Mockito.mock(APIPublisher.class);
+        Mockito.when(importPublisher.getAPIbyUUID(api1.getId())).thenReturn(api1);
+        Mockito.when(importPublisher.getAPIbyUUID(api2.getId())).thenReturn(api2);
+        Mockito.when(importPublisher.addAPIs(Mockito.anyList())).thenReturn(Arrays.asList(api1.getId(),
+                api2.getId()));
+        StreamingApiImportExportManager importManager = new StreamingApiImportExportManager(importPublisher, 2);
+        APIListDTO apiList = importManager.importAndCreateAPIs(new ByteArrayInputStream(archive.toByteArray()),
+                "newProvider");
+        Assert.assertEquals(apiList.getCount().intValue(), 2);
+        // both APIs are added in a single chunk
+        Mockito.verify(importPublisher, Mockito.times(1)).addAPIs(Mockito.anyList());
+        Mockito.verify(importPublisher, Mockito.never()).addAPI(Mockito.any(API.APIBuilder.class));
+        Mockito.verify(importPublisher, Mockito.times(2)).addDocumentationContent(Mockito.anyString(),
+                Mockito.eq("Inline documentation"));
+        Mockito.verify(importPublisher, Mockito.times(2)).saveThumbnailImage(Mockito.anyString(),
+                Mockito.any(), Mockito.eq("thumbnail"));
+    }
+
+    @Test(description = "Import the APIs of a chunk one by one when they could not be added together")
+    public void testImportFallsBackToSingleApis() throws Exception {
+        APIPublisher apiPublisher = Mockito.mock(APIPublisher.class);
+        API api1 = mockApi(apiPublisher, "WeatherAPI", "weather");
+        API api2 = mockApi(apiPublisher, "PizzaShackAPI", "pizzashack");
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        new StreamingApiImportExportManager(apiPublisher).exportAPIs(Arrays.asList(api1, api2), archive);
+
+        APIPublisher importPublisher = Mockito.mock(APIPublisher.class);
+        Mockito.when(importPublisher.getAPIbyUUID(api1.getId())).thenReturn(api1);
+        Mockito.when(importPublisher.getAPIbyUUID(api2.getId())).thenReturn(api2);
+        Mockito.when(importPublisher.addAPIs(Mockito.anyList())).thenThrow(APIManagementException.class);
+        StreamingApiImportExportManager importManager = new StreamingApiImportExportManager(importPublisher, 2);
+        APIListDTO apiList = importManager.importAndCreateAPIs(new ByteArrayInputStream(archive.toByteArray()),
+                "newProvider");
+        Assert.assertEquals(apiList.getCount().intValue(), 2);
+        Mockito.verify(importPublisher, Mockito.times(2)).addAPI(Mockito.any(API.APIBuilder.class));
+    }
+
+    @Test(description = "Leave out the APIs of a chunk which could not be added to the gateway")
+    public void testImportLeavesOutApisNotAddedToGateway() throws Exception {
+        APIPublisher apiPublisher = Mockito.mock(APIPublisher.class);
+        API api1 = mockApi(apiPublisher, "WeatherAPI", "weather");
+        API api2 = mockApi(apiPublisher, "PizzaShackAPI", "pizzashack");
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        new StreamingApiImportExportManager(apiPublisher).exportAPIs(Arrays.asList(api1, api2), archive);
+
+        APIPublisher importPublisher = Mockito.mock(APIPublisher.class);
+        Mockito.when(importPublisher.getAPIbyUUID(api1.getId())).thenReturn(api1);
+        Mockito.when(importPublisher.addAPIs(Mockito.anyList())).thenReturn(Collections.singletonList(api1.getId()));
+        StreamingApiImportExportManager importManager = new StreamingApiImportExportManager(importPublisher, 2);
+        APIListDTO apiList = importManager.importAndCreateAPIs(new ByteArrayInputStream(archive.toByteArray()),
+                "newProvider");
+        Assert.assertEquals(apiList.getCount().intValue(), 1);
+        Assert.assertEquals(apiList.getList().get(0).getId(), api1.getId());
+        // the API which was not added is not imported again one at a time
+        Mockito.verify(importPublisher, Mockito.never()).addAPI(Mockito.any(API.APIBuilder.class));
+        Mockito.verify(importPublisher, Mockito.times(1)).saveThumbnailImage(Mockito.anyString(),
+                Mockito.any(), Mockito.eq("thumbnail"));
+    }
+
+    @Test(description = "Skip APIs whose details could not be retrieved")
+    public void testExportSkipsFailedApi() throws Exception {
+        APIPublisher apiPublisher = Mockito.mock(APIPublisher.class);
+        API api1 = mockApi(apiPublisher, "WeatherAPI", "weather");
+        API api2 = mockApi(apiPublisher, "PizzaShackAPI", "pizzashack");
+        Mockito.when(apiPublisher.getApiSwaggerDefinition(api2.getId())).thenThrow(APIManagementException.class);
+
+        StreamingApiImportExportManager exportManager = new StreamingApiImportExportManager(apiPublisher);
+        Assert.assertEquals(exportManager.exportAPIs(Arrays.asList(api1, api2), new ByteArrayOutputStream()), 1);
+
+        try {
+            exportManager.exportAPIs(Collections.singletonList(api2), new ByteArrayOutputStream());
+            Assert.fail("Exception was expected, but wasn't thrown");
+        } catch (APIMgtEntityImportExportException e) {
+            Assert.assertEquals(e.getErrorHandler(), ExceptionCodes.API_EXPORT_ERROR);
+        }
+    }
+
+    @Test(description = "Import an upload which is not an API archive")
+    public void testImportInvalidArchive() throws Exception {
+        StreamingApiImportExportManager importManager = new StreamingApiImportExportManager(
+                Mockito.mock(APIPublisher.class));
+        try {
+            importManager.importAPIs(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)), null);
+            Assert.fail("Exception was expected, but wasn't thrown");
+        } catch (APIMgtEntityImportExportException e) {
+            Assert.assertEquals(e.getErrorHandler(), ExceptionCodes.API_IMPORT_ERROR);
+        }
+    }
+
+    private static API mockApi(APIPublisher apiPublisher, String name, String context) throws Exception {
+        API api = SampleTestObjectCreator.createDefaultAPI().id(UUID.randomUUID().toString()).name(name)
+                .context(context).endpoint(new HashMap<>()).build();
+        DocumentInfo documentInfo = SampleTestObjectCreator.createDefaultDocumentationInfo()
+                .sourceType(DocumentInfo.SourceType.INLINE).build();
+        Mockito.when(apiPublisher.getAPIbyUUID(api.getId())).thenReturn(api);
+        Mockito.when(apiPublisher.getApiSwaggerDefinition(api.getId())).thenReturn(
+                SampleTestObjectCreator.apiDefinition);
+        Mockito.when(apiPublisher.getApiGatewayConfig(api.getId())).thenReturn("gateway config of " + name);
+        Mockito.when(apiPublisher.getAllDocumentation(api.getId(), 0, Integer.MAX_VALUE))
+                .thenReturn(Collections.singletonList(documentInfo));
+        Mockito.when(apiPublisher.getDocumentationContent(documentInfo.getId())).thenReturn(
+                new DocumentContent.Builder().documentInfo(documentInfo).inlineContent("Inline documentation")
+                        .build());
+        Mockito.when(apiPublisher.getThumbnailImage(api.getId())).thenReturn(
+                new ByteArrayInputStream(new byte[]{1, 2, 3}));
+        return api;
+    }
+}
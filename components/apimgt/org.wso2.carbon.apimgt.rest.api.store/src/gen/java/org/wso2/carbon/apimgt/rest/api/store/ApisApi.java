@@ -12,6 +12,7 @@ import org.wso2.carbon.apimgt.rest.api.store.dto.DocumentListDTO;
 import org.wso2.carbon.apimgt.rest.api.store.dto.ErrorDTO;
 import org.wso2.carbon.apimgt.rest.api.store.dto.RatingDTO;
 import org.wso2.carbon.apimgt.rest.api.store.dto.RatingListDTO;
+import org.wso2.carbon.apimgt.rest.api.store.dto.SdkGenerationJobDTO;
 import org.wso2.carbon.apimgt.rest.api.store.factories.ApisApiServiceFactory;
 
 import org.wso2.msf4j.Microservice;
@@ -349,6 +350,50 @@ public class ApisApi implements Microservice  {
     }
     @OPTIONS
     @GET
+    @Path("/{apiId}/sdks/{language}/jobs/{jobId}")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @io.swagger.annotations.ApiOperation(value = "Get the status of a SDK generation ", notes = "This operation can be used to poll a SDK generation started for an API. Once the job is completed, the SDK can be downloaded without waiting. ", response = SdkGenerationJobDTO.class, authorizations = {
+        @io.swagger.annotations.Authorization(value = "OAuth2Security", scopes = {
+            @io.swagger.annotations.AuthorizationScope(scope = "apim:subscribe", description = "Subscribe API")
+        })
+    }, tags={ "API (Individual)", })
+    @io.swagger.annotations.ApiResponses(value = { 
+        @io.swagger.annotations.ApiResponse(code = 200, message = "OK. Status of the SDK generation returned. ", response = SdkGenerationJobDTO.class),
+        
+        @io.swagger.annotations.ApiResponse(code = 404, message = "Not found. Requested SDK generation job does not exist. ", response = SdkGenerationJobDTO.class) })
+    public Response apisApiIdSdksLanguageJobsJobIdGet(@ApiParam(value = "ID of the specific API for which the SDK is required. ",required=true) @PathParam("apiId") String apiId
+,@ApiParam(value = "Programming language of the SDK that is required. ",required=true) @PathParam("language") String language
+,@ApiParam(value = "ID of the SDK generation job. ",required=true) @PathParam("jobId") String jobId
+ ,@Context Request request)
+    throws NotFoundException {
+        return delegate.apisApiIdSdksLanguageJobsJobIdGet(apiId,language,jobId,request);
+    }
+    @POST
+    @Path("/{apiId}/sdks/{language}")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @io.swagger.annotations.ApiOperation(value = "Start generating a SDK for an API ", notes = "This operation can be used to start generating the SDK of an API in a requested development language, without waiting for it. The status of the returned job can be polled, and the SDK can be downloaded once the job is completed. ", response = SdkGenerationJobDTO.class, authorizations = {
+        @io.swagger.annotations.Authorization(value = "OAuth2Security", scopes = {
+            @io.swagger.annotations.AuthorizationScope(scope = "apim:subscribe", description = "Subscribe API")
+        })
+    }, tags={ "API (Individual)", })
+    @io.swagger.annotations.ApiResponses(value = { 
+        @io.swagger.annotations.ApiResponse(code = 202, message = "Accepted. SDK generation started, or the SDK is already available. ", response = SdkGenerationJobDTO.class),
+        
+        @io.swagger.annotations.ApiResponse(code = 400, message = "Bad Request. Requested SDK Language is not supported. ", response = SdkGenerationJobDTO.class),
+        
+        @io.swagger.annotations.ApiResponse(code = 404, message = "Not found. Requested API does not exist. ", response = SdkGenerationJobDTO.class),
+        
+        @io.swagger.annotations.ApiResponse(code = 503, message = "Service Unavailable. Too many SDKs are being generated. ", response = SdkGenerationJobDTO.class) })
+    public Response apisApiIdSdksLanguagePost(@ApiParam(value = "ID of the specific API for which the SDK is required. ",required=true) @PathParam("apiId") String apiId
+,@ApiParam(value = "Programming language of the SDK that is required. ",required=true) @PathParam("language") String language
+ ,@Context Request request)
+    throws NotFoundException {
+        return delegate.apisApiIdSdksLanguagePost(apiId,language,request);
+    }
+    @OPTIONS
+    @GET
     @Path("/{apiId}/swagger")
     @Consumes({ "application/json" })
     @Produces({ "application/json" })
@@ -16,6 +16,7 @@ import org.wso2.carbon.apimgt.rest.api.store.dto.DocumentListDTO;
 import org.wso2.carbon.apimgt.rest.api.store.dto.ErrorDTO;
 import org.wso2.carbon.apimgt.rest.api.store.dto.RatingDTO;
 import org.wso2.carbon.apimgt.rest.api.store.dto.RatingListDTO;
+import org.wso2.carbon.apimgt.rest.api.store.dto.SdkGenerationJobDTO;
 
 import java.util.List;
 import org.wso2.carbon.apimgt.rest.api.store.NotFoundException;
@@ -78,6 +79,13 @@ public abstract class ApisApiService {
  ,String ifModifiedSince
   ,Request request) throws NotFoundException;
     public abstract Response apisApiIdSdksLanguageGet(String apiId
+ ,String language
+  ,Request request) throws NotFoundException;
+    public abstract Response apisApiIdSdksLanguageJobsJobIdGet(String apiId
+ ,String language
+ ,String jobId
+  ,Request request) throws NotFoundException;
+    public abstract Response apisApiIdSdksLanguagePost(String apiId
  ,String language
   ,Request request) throws NotFoundException;
     public abstract Response apisApiIdSwaggerGet(String apiId
@@ -0,0 +1,154 @@
+package org.wso2.carbon.apimgt.rest.api.store.dto;
+
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.Objects;
+
+/**
+ * SdkGenerationJobDTO
+ */
+public class SdkGenerationJobDTO   {
+  @JsonProperty("jobId")
+  private String jobId = null;
+
+  /**
+   * Status of the SDK generation. The SDK can be downloaded once it is COMPLETED.
+   */
+  public enum StatusEnum {
+    IN_PROGRESS("IN_PROGRESS"),
+
+    COMPLETED("COMPLETED"),
+
+    FAILED("FAILED");
+
+    private String value;
+
+    StatusEnum(String value) {
+      this.value = value;
+    }
+
+    @Override
+    @JsonValue
+    public String toString() {
+      return String.valueOf(value);
+    }
+
+    @JsonCreator
+    public static StatusEnum fromValue(String text) {
+      for (StatusEnum b : StatusEnum.values()) {
+        if (String.valueOf(b.value).equals(text)) {
+          return b;
+        }
+      }
+      return null;
+    }
+  }
+
+  @JsonProperty("status")
+  private StatusEnum status = null;
+
+  @JsonProperty("message")
+  private String message = null;
+
+  public SdkGenerationJobDTO jobId(String jobId) {
+    this.jobId = jobId;
+    return this;
+  }
+
+   /**
+   * Get jobId
+   * @return jobId
+  **/
+  @ApiModelProperty(example = "01234567-0123-0123-0123-012345678901", required = true, value = "")
+  public String getJobId() {
+    return jobId;
+  }
+
+  public void setJobId(String jobId) {
+    this.jobId = jobId;
+  }
+
+  public SdkGenerationJobDTO status(StatusEnum status) {
+    this.status = status;
+    return this;
+  }
+
+   /**
+   * Status of the SDK generation. The SDK can be downloaded once it is COMPLETED.
+   * @return status
+  **/
+  @ApiModelProperty(example = "IN_PROGRESS", required = true, value = "Status of the SDK generation. The SDK can be downloaded once it is COMPLETED. ")
+  public StatusEnum getStatus() {
+    return status;
+  }
+
+  public void setStatus(StatusEnum status) {
+    this.status = status;
+  }
+
+  public SdkGenerationJobDTO message(String message) {
+    this.message = message;
+    return this;
+  }
+
+   /**
+   * Reason the SDK could not be generated, if the SDK generation FAILED.
+   * @return message
+  **/
+  @ApiModelProperty(value = "Reason the SDK could not be generated, if the SDK generation FAILED. ")
+  public String getMessage() {
+    return message;
+  }
+
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+
+  @Override
+  public boolean equals(java.lang.Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    SdkGenerationJobDTO sdkGenerationJob = (SdkGenerationJobDTO) o;
+    return Objects.equals(this.jobId, sdkGenerationJob.jobId) &&
+        Objects.equals(this.status, sdkGenerationJob.status) &&
+        Objects.equals(this.message, sdkGenerationJob.message);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(jobId, status, message);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class SdkGenerationJobDTO {\n");
+
+    sb.append("    jobId: ").append(toIndentedString(jobId)).append("\n");
+    sb.append("    status: ").append(toIndentedString(status)).append("\n");
+    sb.append("    message: ").append(toIndentedString(message)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(java.lang.Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
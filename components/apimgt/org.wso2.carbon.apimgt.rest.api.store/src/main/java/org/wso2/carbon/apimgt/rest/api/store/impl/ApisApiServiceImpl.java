@@ -1,6 +1,7 @@
 package org.wso2.carbon.apimgt.rest.api.store.impl;
 
 import java.io.File;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.HashMap;
@@ -24,9 +25,11 @@ import org.wso2.carbon.apimgt.core.models.Comment;
 import org.wso2.carbon.apimgt.core.models.DocumentContent;
 import org.wso2.carbon.apimgt.core.models.DocumentInfo;
 import org.wso2.carbon.apimgt.core.models.Rating;
+import org.wso2.carbon.apimgt.core.models.SdkGenerationJob;
 import org.wso2.carbon.apimgt.core.models.WSDLArchiveInfo;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.core.util.ETagUtils;
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
 import org.wso2.carbon.apimgt.rest.api.common.RestApiConstants;
 import org.wso2.carbon.apimgt.rest.api.common.dto.ErrorDTO;
 import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
@@ -43,6 +46,7 @@ import org.wso2.carbon.apimgt.rest.api.store.dto.RatingListDTO;
 import org.wso2.carbon.apimgt.rest.api.store.mappings.APIMappingUtil;
 import org.wso2.carbon.apimgt.rest.api.store.mappings.CommentMappingUtil;
 import org.wso2.carbon.apimgt.rest.api.store.mappings.DocumentationMappingUtil;
+import org.wso2.carbon.apimgt.rest.api.store.mappings.MiscMappingUtil;
 import org.wso2.carbon.apimgt.rest.api.store.mappings.RatingMappingUtil;
 import org.wso2.msf4j.Request;
 
@@ -340,7 +344,8 @@ public class ApisApiServiceImpl extends ApisApiService {
             DocumentInfo documentInfo = documentationContent.getDocumentInfo();
             if (DocumentInfo.SourceType.FILE.equals(documentInfo.getSourceType())) {
                 String filename = documentInfo.getFileName();
-                return Response.ok(documentationContent.getFileContent())
+                return RestApiUtil.getStreamingResponseBuilder(documentationContent.getFileContent(),
+                        request.getHeader(RestApiConstants.HEADER_RANGE))
                         .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_TYPE)
                         .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
                         .header(HttpHeaders.ETAG, "\"" + existingFingerprint + "\"")
@@ -607,7 +612,7 @@ public class ApisApiServiceImpl extends ApisApiService {
         }
     }
     /**
-     * Generates an SDK for a API with provided ID and language
+     * Generates an SDK for a API with provided ID and language, or returns the SDK generated for an earlier request
      *
      * @param apiId   API ID
      * @param language   SDK language
@@ -635,9 +640,14 @@ public class ApisApiServiceImpl extends ApisApiService {
                     .entity(errorDTO)
                     .build();
         }
-        String tempZipFilePath;
+        String tempZipFilePath = null;
+        SizedInputStream sdkArchive = null;
         try {
-            tempZipFilePath = sdkGenerationManager.generateSdkForApi(apiId, language, userName);
+            // the archive is generated again if it is evicted from the SDK cache before it is opened
+            for (int attempt = 0; attempt < 2 && sdkArchive == null; attempt++) {
+                tempZipFilePath = sdkGenerationManager.generateSdkForApi(apiId, language, userName);
+                sdkArchive = sdkGenerationManager.openSdkArchive(tempZipFilePath);
+            }
         } catch (ApiStoreSdkGenerationException e) {
             String errorMessage = "Error while generating SDK for requested language";
             HashMap<String, String> paramList = new HashMap<String, String>();
@@ -653,14 +663,102 @@ public class ApisApiServiceImpl extends ApisApiService {
             log.error(errorMessage, e);
             return Response.status(e.getErrorHandler().getHttpStatusCode()).entity(errorDTO).build();
         }
+        if (sdkArchive == null) {
+            String errorMessage = "Generated SDK archive was removed before it could be downloaded";
+            log.error(errorMessage + " for API " + apiId);
+            ErrorDTO errorDTO = RestApiUtil.getErrorDTO(errorMessage, 500L, errorMessage);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(errorDTO).build();
+        }
         File sdkZipFile = new File(tempZipFilePath);
 
-        return Response.ok()
-                .entity(sdkZipFile)
+        // the archive is kept in the SDK cache until the stream is closed once the response is written
+        return RestApiUtil.getStreamingResponseBuilder(sdkArchive, request.getHeader(RestApiConstants.HEADER_RANGE))
                 .header("Content-Disposition", "attachment; filename=\"" + sdkZipFile.getName() + "\"")
                 .build();
     }
 
+    /**
+     * Starts generating an SDK for a API with provided ID and language in the background
+     *
+     * @param apiId    API ID
+     * @param language SDK language
+     * @param request  msf4j request object
+     * @return 202 response with the SDK generation job
+     * @throws NotFoundException if failed to find method implementation
+     */
+    @Override
+    public Response apisApiIdSdksLanguagePost(String apiId, String language, Request request)
+            throws NotFoundException {
+        ApiStoreSdkGenerationManager sdkGenerationManager = new ApiStoreSdkGenerationManager();
+        if (StringUtils.isBlank(apiId) || !sdkGenerationManager.getSdkGenLanguages().containsKey(language)) {
+            String errorMessage = "API ID or language is not valid";
+            log.error(errorMessage);
+            ErrorDTO errorDTO = RestApiUtil.getErrorDTO(errorMessage, 400L, errorMessage);
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(errorDTO)
+                    .build();
+        }
+        String userName = RestApiUtil.getLoggedInUsername(request);
+        try {
+            SdkGenerationJob job = sdkGenerationManager.submitSdkGeneration(apiId, language, userName);
+            return Response.status(Response.Status.ACCEPTED)
+                    .entity(MiscMappingUtil.fromSdkGenerationJobToDTO(job))
+                    .build();
+        } catch (ApiStoreSdkGenerationException e) {
+            String errorMessage = "Error while starting SDK generation for requested language";
+            HashMap<String, String> paramList = new HashMap<String, String>();
+            paramList.put(APIMgtConstants.ExceptionsConstants.API_ID, apiId);
+            ErrorDTO errorDTO = RestApiUtil.getErrorDTO(e.getErrorHandler(), paramList);
+            log.error(errorMessage, e);
+            return Response.status(e.getErrorHandler().getHttpStatusCode()).entity(errorDTO).build();
+        } catch (APIManagementException e) {
+            String errorMessage = "Error while retrieving API for SDK generation " + apiId;
+            HashMap<String, String> paramList = new HashMap<String, String>();
+            paramList.put(APIMgtConstants.ExceptionsConstants.API_ID, apiId);
+            ErrorDTO errorDTO = RestApiUtil.getErrorDTO(e.getErrorHandler(), paramList);
+            log.error(errorMessage, e);
+            return Response.status(e.getErrorHandler().getHttpStatusCode()).entity(errorDTO).build();
+        }
+    }
+
+    /**
+     * Retrieves the status of an SDK generation started for an API
+     *
+     * @param apiId    API ID
+     * @param language SDK language
+     * @param jobId    SDK generation job ID
+     * @param request  msf4j request object
+     * @return SDK generation job
+     * @throws NotFoundException if failed to find method implementation
+     */
+    @Override
+    public Response apisApiIdSdksLanguageJobsJobIdGet(String apiId, String language, String jobId, Request request)
+            throws NotFoundException {
+        String userName = RestApiUtil.getLoggedInUsername(request);
+        try {
+            SdkGenerationJob job = new ApiStoreSdkGenerationManager().getSdkGenerationJob(jobId, userName);
+            if (!job.getApiId().equals(apiId) || !job.getLanguage().equals(language)) {
+                throw new APIManagementException("SDK generation job " + jobId + " is not for API " + apiId +
+                        " in " + language, ExceptionCodes.SDK_GENERATION_JOB_NOT_FOUND);
+            }
+            return Response.ok().entity(MiscMappingUtil.fromSdkGenerationJobToDTO(job)).build();
+        } catch (ApiStoreSdkGenerationException e) {
+            String errorMessage = "Error while retrieving SDK generation job " + jobId;
+            HashMap<String, String> paramList = new HashMap<String, String>();
+            paramList.put(APIMgtConstants.ExceptionsConstants.API_ID, apiId);
+            ErrorDTO errorDTO = RestApiUtil.getErrorDTO(e.getErrorHandler(), paramList);
+            log.error(errorMessage, e);
+            return Response.status(e.getErrorHandler().getHttpStatusCode()).entity(errorDTO).build();
+        } catch (APIManagementException e) {
+            String errorMessage = "Error while retrieving SDK generation job " + jobId;
+            HashMap<String, String> paramList = new HashMap<String, String>();
+            paramList.put(APIMgtConstants.ExceptionsConstants.API_ID, apiId);
+            ErrorDTO errorDTO = RestApiUtil.getErrorDTO(e.getErrorHandler(), paramList);
+            log.error(errorMessage, e);
+            return Response.status(e.getErrorHandler().getHttpStatusCode()).entity(errorDTO).build();
+        }
+    }
+
     /**
      * Add or update raating to an API
      *
@@ -730,10 +828,8 @@ public class ApisApiServiceImpl extends ApisApiService {
     public Response apisApiIdWsdlGet(String apiId, String labelName, String ifNoneMatch,
                                      String ifModifiedSince, Request request) throws NotFoundException {
         String username = RestApiUtil.getLoggedInUsername(request);
-        WSDLArchiveInfo wsdlArchiveInfo = null;
         try {
             APIStore apiStore = RestApiUtil.getConsumer(username);
-            String wsdlString;
             if (!apiStore.isWSDLExists(apiId)) {
                 if (log.isDebugEnabled()) {
                     log.debug("WSDL has no content for API: " + apiId);
@@ -752,23 +848,35 @@ public class ApisApiServiceImpl extends ApisApiService {
                 log.debug("API has WSDL archive?: " + isWSDLArchiveExists);
             }
             if (isWSDLArchiveExists) {
-                wsdlArchiveInfo = apiStore.getAPIWSDLArchive(apiId, labelName);
+                WSDLArchiveInfo wsdlArchiveInfo = null;
+                SizedInputStream wsdlArchive = null;
+                // the archive is created again if the WSDL of the API is updated before the archive is opened
+                for (int attempt = 0; attempt < 2 && wsdlArchive == null; attempt++) {
+                    wsdlArchiveInfo = apiStore.getAPIWSDLArchive(apiId, labelName);
+                    wsdlArchive = apiStore.openAPIWSDLArchive(wsdlArchiveInfo);
+                }
+                if (wsdlArchive == null) {
+                    String errorMessage = "WSDL archive was removed before it could be downloaded";
+                    log.error(errorMessage + " for API " + apiId);
+                    ErrorDTO errorDTO = RestApiUtil.getErrorDTO(errorMessage, 500L, errorMessage);
+                    return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(errorDTO).build();
+                }
                 if (log.isDebugEnabled()) {
                     log.debug("Successfully retrieved WSDL archive for API: " + apiId);
                 }
-                //wsdlArchiveInfo will not be null all the time so no need null check
-                File archive = new File(wsdlArchiveInfo.getAbsoluteFilePath());
-                return Response.ok(archive)
+                // the archive is kept on the disk until the stream is closed once the response is written
+                return RestApiUtil.getStreamingResponseBuilder(wsdlArchive,
+                        request.getHeader(RestApiConstants.HEADER_RANGE))
                         .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_TYPE)
                         .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\""
                                 + wsdlArchiveInfo.getFileName() + "\"")
                         .build();
             } else {
-                wsdlString = apiStore.getAPIWSDL(apiId, labelName);
+                InputStream wsdlStream = apiStore.getAPIWSDLStream(apiId, labelName);
                 if (log.isDebugEnabled()) {
                     log.debug("Successfully retrieved WSDL for API: " + apiId);
                 }
-                return Response.ok(wsdlString)
+                return Response.ok(wsdlStream)
                         .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN)
                         .build();
             }
@@ -778,18 +886,6 @@ public class ApisApiServiceImpl extends ApisApiService {
             ErrorDTO errorDTO = RestApiUtil.getErrorDTO(e.getErrorHandler(), paramList);
             log.error("Error while getting WSDL for API:" + apiId + " and label:" + labelName, e);
             return Response.status(e.getErrorHandler().getHttpStatusCode()).entity(errorDTO).build();
-        } finally {
-            //Commented below since MSFJ fails to reply when the files are already deleted. Need to fix this properly
-            /*
-            if (wsdlArchiveInfo != null) {
-                try {
-                    APIFileUtils.deleteDirectory(wsdlArchiveInfo.getLocation());
-                } catch (APIMgtDAOException e) {
-                    //This is not a blocker. Give a warning and continue
-                    log.warn("Error occured while deleting processed WSDL artifacts folder : " + wsdlArchiveInfo
-                            .getLocation());
-                }
-            }*/
         }
     }
 
@@ -128,8 +128,9 @@ public class CompositeApisApiServiceImpl extends CompositeApisApiService {
                 return Response.notModified().build();
             }
             InputStream implementation = apiStore.getCompositeApiImplementation(apiId);
-            return Response.ok().header(HttpHeaders.ETAG, "\"" + existingFingerprint + "\"").
-                                entity(implementation).build();
+            return RestApiUtil.getStreamingResponseBuilder(implementation,
+                    request.getHeader(RestApiConstants.HEADER_RANGE))
+                    .header(HttpHeaders.ETAG, "\"" + existingFingerprint + "\"").build();
         } catch (APIManagementException e) {
             HashMap<String, String> paramList = new HashMap<String, String>();
             paramList.put(APIMgtConstants.ExceptionsConstants.API_ID, apiId);
@@ -16,7 +16,9 @@
 package org.wso2.carbon.apimgt.rest.api.store.mappings;
 
 import org.wso2.carbon.apimgt.core.api.WorkflowResponse;
+import org.wso2.carbon.apimgt.core.models.SdkGenerationJob;
 import org.wso2.carbon.apimgt.core.models.User;
+import org.wso2.carbon.apimgt.rest.api.store.dto.SdkGenerationJobDTO;
 import org.wso2.carbon.apimgt.rest.api.store.dto.UserDTO;
 import org.wso2.carbon.apimgt.rest.api.store.dto.WorkflowResponseDTO;
 import org.wso2.carbon.apimgt.rest.api.store.dto.WorkflowResponseDTO.WorkflowStatusEnum;
@@ -39,6 +41,20 @@ public class MiscMappingUtil {
         return responseDTO;
     }
 
+    /**
+     * Map SdkGenerationJob to SdkGenerationJobDTO
+     *
+     * @param job SdkGenerationJob object
+     * @return SdkGenerationJobDTO mapped SdkGenerationJobDTO
+     */
+    public static SdkGenerationJobDTO fromSdkGenerationJobToDTO(SdkGenerationJob job) {
+        SdkGenerationJobDTO jobDTO = new SdkGenerationJobDTO();
+        jobDTO.setJobId(job.getId());
+        jobDTO.setStatus(SdkGenerationJobDTO.StatusEnum.valueOf(job.getStatus().toString()));
+        jobDTO.setMessage(job.getErrorMessage());
+        return jobDTO;
+    }
+
     public static User fromUserDTOToUser(UserDTO userDTO) {
         User user = new User();
         user.setUsername(userDTO.getUsername());
@@ -45,18 +45,21 @@ import org.wso2.carbon.apimgt.core.models.Endpoint;
 import org.wso2.carbon.apimgt.core.models.Rating;
 import org.wso2.carbon.apimgt.core.models.WSDLArchiveInfo;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+import org.wso2.carbon.apimgt.core.util.SizedInputStream;
 import org.wso2.carbon.apimgt.rest.api.common.dto.ErrorDTO;
 import org.wso2.carbon.apimgt.rest.api.common.exception.APIMgtSecurityException;
 import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
 import org.wso2.carbon.apimgt.rest.api.store.NotFoundException;
 import org.wso2.carbon.apimgt.rest.api.store.dto.CommentDTO;
 import org.wso2.carbon.apimgt.rest.api.store.dto.RatingDTO;
+import org.wso2.carbon.apimgt.rest.api.store.dto.SdkGenerationJobDTO;
 import org.wso2.carbon.apimgt.rest.api.store.mappings.RatingMappingUtil;
 import org.wso2.carbon.messaging.CarbonMessage;
 import org.wso2.carbon.transport.http.netty.message.HTTPCarbonMessage;
 import org.wso2.msf4j.Request;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -845,10 +848,10 @@ public class ApisApiServiceImplTestCase {
         PowerMockito.when(RestApiUtil.getLoggedInUsername(request)).thenReturn(USER);
         Mockito.doReturn(true).when(apiStore).isWSDLExists(uuid);
         Mockito.doReturn(false).when(apiStore).isWSDLArchiveExists(uuid);
-        Mockito.doReturn(wsdlContent).when(apiStore).getAPIWSDL(uuid, "Sample");
+        Mockito.doReturn(IOUtils.toInputStream(wsdlContent)).when(apiStore).getAPIWSDLStream(uuid, "Sample");
         Response response = apisApiService.apisApiIdWsdlGet(uuid, "Sample", null, null, request);
         Assert.assertEquals(response.getStatus(), 200);
-        Assert.assertTrue(response.getEntity().toString().contains("StockQuote"));
+        Assert.assertTrue(IOUtils.toString((InputStream) response.getEntity()).contains("StockQuote"));
     }
 
     @Test
@@ -865,10 +868,11 @@ public class ApisApiServiceImplTestCase {
         PowerMockito.when(RestApiUtil.getLoggedInUsername(request)).thenReturn(USER);
         Mockito.doReturn(true).when(apiStore).isWSDLExists(uuid);
         Mockito.doReturn(false).when(apiStore).isWSDLArchiveExists(uuid);
-        Mockito.doReturn(wsdlContent).when(apiStore).getAPIWSDL(uuid, APIMgtConstants.LabelConstants.DEFAULT);
+        Mockito.doReturn(IOUtils.toInputStream(wsdlContent)).when(apiStore)
+                .getAPIWSDLStream(uuid, APIMgtConstants.LabelConstants.DEFAULT);
         Response response = apisApiService.apisApiIdWsdlGet(uuid, null, null, null, request);
         Assert.assertEquals(response.getStatus(), 200);
-        Assert.assertTrue(response.getEntity().toString().contains("StockQuote"));
+        Assert.assertTrue(IOUtils.toString((InputStream) response.getEntity()).contains("StockQuote"));
     }
 
     @Test
@@ -885,9 +889,37 @@ public class ApisApiServiceImplTestCase {
         Mockito.doReturn(true).when(apiStore).isWSDLArchiveExists(uuid);
         WSDLArchiveInfo archiveInfo = new WSDLArchiveInfo(WSDL_ZIP_LOCATION, WSDL_ZIP);
         Mockito.doReturn(archiveInfo).when(apiStore).getAPIWSDLArchive(uuid, "Sample");
+        SizedInputStream wsdlArchive = Mockito.mock(SizedInputStream.class);
+        Mockito.doReturn(wsdlArchive).when(apiStore).openAPIWSDLArchive(archiveInfo);
+        PowerMockito.when(RestApiUtil.getStreamingResponseBuilder(Mockito.any(InputStream.class),
+                Mockito.anyString())).thenCallRealMethod();
         Response response = apisApiService.apisApiIdWsdlGet(uuid, "Sample", null, null, request);
         Assert.assertEquals(response.getStatus(), 200);
-        Assert.assertTrue(response.getEntity() instanceof File);
+        Assert.assertTrue(response.getEntity() instanceof StreamingOutput);
+    }
+
+    @Test
+    public void testApisApiIdWsdlGetArchiveRemovedBeforeOpened() throws Exception {
+        printTestMethodName();
+        final String uuid = "11112222-3333-4444-5555-666677778888";
+        ApisApiServiceImpl apisApiService = new ApisApiServiceImpl();
+        APIStore apiStore = Mockito.mock(APIStoreImpl.class);
+        PowerMockito.mockStatic(RestApiUtil.class);
+        PowerMockito.when(RestApiUtil.getConsumer(USER)).thenReturn(apiStore);
+        Request request = getRequest();
+        PowerMockito.when(RestApiUtil.getLoggedInUsername(request)).thenReturn(USER);
+        Mockito.doReturn(true).when(apiStore).isWSDLExists(uuid);
+        Mockito.doReturn(true).when(apiStore).isWSDLArchiveExists(uuid);
+        WSDLArchiveInfo archiveInfo = new WSDLArchiveInfo(WSDL_ZIP_LOCATION, WSDL_ZIP);
+        Mockito.doReturn(archiveInfo).when(apiStore).getAPIWSDLArchive(uuid, "Sample");
+        // the archive is removed by an update of the WSDL after it is created, and is created again
+        SizedInputStream wsdlArchive = Mockito.mock(SizedInputStream.class);
+        Mockito.doReturn(null).doReturn(wsdlArchive).when(apiStore).openAPIWSDLArchive(archiveInfo);
+        PowerMockito.when(RestApiUtil.getStreamingResponseBuilder(Mockito.any(InputStream.class),
+                Mockito.anyString())).thenCallRealMethod();
+        Response response = apisApiService.apisApiIdWsdlGet(uuid, "Sample", null, null, request);
+        Assert.assertEquals(response.getStatus(), 200);
+        Mockito.verify(apiStore, Mockito.times(2)).getAPIWSDLArchive(uuid, "Sample");
     }
 
     @Test
@@ -918,7 +950,7 @@ public class ApisApiServiceImplTestCase {
         Mockito.doReturn(true).when(apiStore).isWSDLExists(uuid);
         Mockito.doReturn(false).when(apiStore).isWSDLArchiveExists(uuid);
         Mockito.doThrow(new APIMgtWSDLException("Error while retrieving WSDL", ExceptionCodes.INTERNAL_WSDL_EXCEPTION))
-                .when(apiStore).getAPIWSDL(uuid, "Sample");
+                .when(apiStore).getAPIWSDLStream(uuid, "Sample");
         Response response = apisApiService.apisApiIdWsdlGet(uuid, "Sample", null, null,request);
         assertEquals(response.getStatus(), 500);
     }
@@ -1002,6 +1034,8 @@ public class ApisApiServiceImplTestCase {
                 TestUtil.createEndpointTypeToIdMap(api1SandBoxEndpointId, api1ProdEndpointId)).build();
         Mockito.when(apiStore.getAPIbyUUID(apiId)).thenReturn(api);
         Mockito.when(apiStore.getApiSwaggerDefinition(apiId)).thenReturn(swaggerPetStoreCorrect);
+        PowerMockito.when(RestApiUtil.getStreamingResponseBuilder(Mockito.any(InputStream.class),
+                Mockito.anyString())).thenCallRealMethod();
         Response response = apisApiService.apisApiIdSdksLanguageGet(apiId,correctLanguage,request);
 
         Assert.assertEquals(200,response.getStatus());
@@ -1084,6 +1118,57 @@ public class ApisApiServiceImplTestCase {
 
         Assert.assertEquals(404,response.getStatus());
     }
+    @Test
+    public void apisApiIdSdksLanguagePostAndJobGet()
+            throws APIManagementException, ApiStoreSdkGenerationException, NotFoundException {
+        String apiId = UUID.randomUUID().toString();
+        ApisApiServiceImpl apisApiService = new ApisApiServiceImpl();
+        APIStore apiStore = Mockito.mock(APIStoreImpl.class);
+
+        APIManagerFactory instance = Mockito.mock(APIManagerFactory.class);
+        PowerMockito.mockStatic(APIManagerFactory.class);
+        PowerMockito.when(APIManagerFactory.getInstance()).thenReturn(instance);
+        Mockito.when(instance.getAPIConsumer(USER)).thenReturn(apiStore);
+
+        PowerMockito.mockStatic(RestApiUtil.class);
+        Request request = getRequest();
+        PowerMockito.when(RestApiUtil.getLoggedInUsername(request)).thenReturn(USER);
+        Endpoint api1SandBoxEndpointId = new Endpoint.Builder().id(UUID.randomUUID().toString()).applicableLevel
+                (APIMgtConstants.API_SPECIFIC_ENDPOINT).name("abcd").build();
+        Endpoint api1ProdEndpointId = new Endpoint.Builder().id(UUID.randomUUID().toString()).applicableLevel
+                (APIMgtConstants.API_SPECIFIC_ENDPOINT).name("cdef").build();
+        API api = TestUtil.createApi("provider1", apiId, "testapi1", "1.0.0", "Test API 1 - version 1.0.0",
+                TestUtil.createEndpointTypeToIdMap(api1SandBoxEndpointId, api1ProdEndpointId)).build();
+        Mockito.when(apiStore.getAPIbyUUID(apiId)).thenReturn(api);
+        Mockito.when(apiStore.getApiSwaggerDefinition(apiId)).thenReturn(swaggerPetStoreCorrect);
+
+        Response response = apisApiService.apisApiIdSdksLanguagePost(apiId, correctLanguage, request);
+        Assert.assertEquals(202, response.getStatus());
+        String jobId = ((SdkGenerationJobDTO) response.getEntity()).getJobId();
+
+        response = apisApiService.apisApiIdSdksLanguageJobsJobIdGet(apiId, correctLanguage, jobId, request);
+        Assert.assertEquals(200, response.getStatus());
+        Assert.assertEquals(jobId, ((SdkGenerationJobDTO) response.getEntity()).getJobId());
+
+        response = apisApiService.apisApiIdSdksLanguageJobsJobIdGet(apiId, correctLanguage,
+                UUID.randomUUID().toString(), request);
+        Assert.assertEquals(404, response.getStatus());
+
+        // the SDK is downloaded once generated
+        response = apisApiService.apisApiIdSdksLanguageGet(apiId, correctLanguage, request);
+        Assert.assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    public void apisApiIdSdksLanguagePostIncorrectLanguage()
+            throws APIManagementException, ApiStoreSdkGenerationException, NotFoundException {
+        String apiId = UUID.randomUUID().toString();
+        ApisApiServiceImpl apisApiService = new ApisApiServiceImpl();
+        Request request = getRequest();
+        Response response = apisApiService.apisApiIdSdksLanguagePost(apiId, incorrectLanguage, request);
+        Assert.assertEquals(400, response.getStatus());
+    }
+
     // Sample request to be used by tests
     private Request getRequest() throws APIMgtSecurityException {
         CarbonMessage carbonMessage = new HTTPCarbonMessage();
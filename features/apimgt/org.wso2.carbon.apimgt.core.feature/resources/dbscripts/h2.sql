@@ -471,4 +471,17 @@ CREATE TABLE IF NOT EXISTS AM_SYSTEM_APPS (
             CONSUMER_KEY VARCHAR(512) NOT NULL,
             CREATED_TIME TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6),
             PRIMARY KEY (ID)
-);
\ No newline at end of file
+);
+
+CREATE TABLE IF NOT EXISTS AM_SUBSCRIPTION_CHANGES (
+            SEQUENCE_ID BIGINT NOT NULL AUTO_INCREMENT,
+            SUBSCRIPTION_ID VARCHAR(255) NOT NULL,
+            CHANGE_TYPE VARCHAR(10) NOT NULL,
+            API_CONTEXT VARCHAR(255),
+            API_VERSION VARCHAR(30),
+            APPLICATION_ID VARCHAR(255),
+            CLIENT_ID VARCHAR(255),
+            KEY_TYPE VARCHAR(255),
+            CHANGED_TIME TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6),
+            PRIMARY KEY (SEQUENCE_ID)
+);
@@ -477,4 +477,17 @@ CREATE TABLE AM_SYSTEM_APPS (
             CONSUMER_KEY VARCHAR(512) NOT NULL,
             CREATED_TIME DATETIME2(6) DEFAULT CURRENT_TIMESTAMP,
             PRIMARY KEY (ID)
-);
\ No newline at end of file
+);
+
+CREATE TABLE AM_SUBSCRIPTION_CHANGES (
+            SEQUENCE_ID BIGINT IDENTITY,
+            SUBSCRIPTION_ID VARCHAR(255) NOT NULL,
+            CHANGE_TYPE VARCHAR(10) NOT NULL,
+            API_CONTEXT VARCHAR(255),
+            API_VERSION VARCHAR(30),
+            APPLICATION_ID VARCHAR(255),
+            CLIENT_ID VARCHAR(255),
+            KEY_TYPE VARCHAR(255),
+            CHANGED_TIME DATETIME2(6) DEFAULT CURRENT_TIMESTAMP,
+            PRIMARY KEY (SEQUENCE_ID)
+);
@@ -657,4 +657,28 @@ CREATE OR REPLACE TRIGGER AM_SYSTEM_APPS_seq_tr
 BEGIN
  SELECT AM_SYSTEM_APPS_seq.NEXTVAL INTO :NEW.ID FROM DUAL;
 END;
-/
\ No newline at end of file
+/
+
+CREATE TABLE AM_SUBSCRIPTION_CHANGES (
+            SEQUENCE_ID NUMBER(19),
+            SUBSCRIPTION_ID VARCHAR2(255) NOT NULL,
+            CHANGE_TYPE VARCHAR2(10) NOT NULL,
+            API_CONTEXT VARCHAR2(255),
+            API_VERSION VARCHAR2(30),
+            APPLICATION_ID VARCHAR2(255),
+            CLIENT_ID VARCHAR2(255),
+            KEY_TYPE VARCHAR2(255),
+            CHANGED_TIME TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6),
+            PRIMARY KEY (SEQUENCE_ID)
+)
+/
+
+CREATE SEQUENCE AM_SUBSCRIPTION_CHANGES_seq START WITH 1 INCREMENT BY 1
+/
+CREATE OR REPLACE TRIGGER AM_SUBSCRIPTION_CHANGES_seq_tr
+ BEFORE INSERT ON AM_SUBSCRIPTION_CHANGES FOR EACH ROW
+ WHEN (NEW.SEQUENCE_ID IS NULL)
+BEGIN
+ SELECT AM_SUBSCRIPTION_CHANGES_seq.NEXTVAL INTO :NEW.SEQUENCE_ID FROM DUAL;
+END;
+/
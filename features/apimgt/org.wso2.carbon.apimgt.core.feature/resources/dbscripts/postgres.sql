@@ -497,3 +497,19 @@ CREATE TABLE IF NOT EXISTS AM_SYSTEM_APPS (
             CREATED_TIME TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6),
             PRIMARY KEY (ID)
 );
+
+
+CREATE SEQUENCE AM_SUBSCRIPTION_CHANGES_seq;
+
+CREATE TABLE IF NOT EXISTS AM_SUBSCRIPTION_CHANGES (
+            SEQUENCE_ID BIGINT DEFAULT NEXTVAL ('AM_SUBSCRIPTION_CHANGES_seq'),
+            SUBSCRIPTION_ID VARCHAR(255) NOT NULL,
+            CHANGE_TYPE VARCHAR(10) NOT NULL,
+            API_CONTEXT VARCHAR(255),
+            API_VERSION VARCHAR(30),
+            APPLICATION_ID VARCHAR(255),
+            CLIENT_ID VARCHAR(255),
+            KEY_TYPE VARCHAR(255),
+            CHANGED_TIME TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6),
+            PRIMARY KEY (SEQUENCE_ID)
+);
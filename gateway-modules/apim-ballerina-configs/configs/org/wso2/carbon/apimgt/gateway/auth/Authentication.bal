@@ -10,6 +10,7 @@ import org.wso2.carbon.apimgt.gateway.utils as gatewayUtil;
 import org.wso2.carbon.apimgt.gateway.holders as holder;
 import org.wso2.carbon.apimgt.gateway.constants;
 import org.wso2.carbon.apimgt.ballerina.util;
+import org.wso2.carbon.apimgt.ballerina.introspect;
 
 function main(string[] args) {
     system:println("Hello, World!");
@@ -105,6 +106,17 @@ function authenticate (message m) (boolean, message) {
             introspectDto = doIntrospect(authToken);
         }
 
+        if (introspectDto.errorCode != "") {
+            // the key manager could not be reached or failed, the token is not known to be invalid
+            gatewayUtil:constructKeyManagerErrorPayload(response);
+            if (introspectDto.errorCode == constants:INTROSPECT_ERROR_KEY_MANAGER_UNAVAILABLE) {
+                http:setStatusCode(response, 503);
+            } else {
+                http:setStatusCode(response, 500);
+            }
+            return false, response;
+        }
+
         if (!introspectDto.active) {
             // access token expired
             gatewayUtil:constructAccessTokenExpiredPayload(response);
@@ -191,16 +203,12 @@ function authenticate (message m) (boolean, message) {
 }
 
 function doIntrospect (string authToken) (dto:IntrospectDto) {
-    message request = {};
     dto:KeyManagerInfoDTO keyManagerConf = holder:getKeyManagerConf();
     dto:CredentialsDTO credentials = keyManagerConf.credentials;
-    messages:setStringPayload(request, "token=" + authToken);
-    messages:setHeader(request, "Content-Type", "application/x-www-form-urlencoded");
-    messages:setHeader(request, constants:AUTHORIZATION, "Basic " + utils:base64encode(credentials.username + ":"
-                                                                                       + credentials.password));
-    http:ClientConnector introspectConnector = create http:ClientConnector(keyManagerConf.introspectEndpoint);
-    message introspectResponse = http:ClientConnector.post (introspectConnector,"/", request);
-    dto:IntrospectDto introspectDto = gatewayUtil:fromJsonToIntrospectDto(messages:getJsonPayload(introspectResponse));
+    string authorization = "Basic " + utils:base64encode(credentials.username + ":" + credentials.password);
+    // concurrent introspections of the same token share a single request to the key manager
+    json introspectResponse = introspect:introspectToken(keyManagerConf.introspectEndpoint, authorization, authToken);
+    dto:IntrospectDto introspectDto = gatewayUtil:fromJsonToIntrospectDto(introspectResponse);
     return introspectDto;
 }
 function validateSubscription (string apiContext, string version, dto:IntrospectDto introspectDto) (dto:SubscriptionDto) {
@@ -232,9 +240,13 @@ function constructAPIKeyValidationDto (dto:SubscriptionDto subscriptionDto, dto:
     keyValidationInfoDTO.username = applicationDto.applicationOwner;
     dto:PolicyDto applicationPolicy = holder:getFromPolicyCache(applicationDto.applicationPolicy);
     keyValidationInfoDTO.applicationPolicy = applicationPolicy.name;
+    keyValidationInfoDTO.applicationRequestCount = applicationPolicy.requestCount;
+    keyValidationInfoDTO.applicationUnitTime = applicationPolicy.unitTime;
     dto:PolicyDto subscriptionPolicy = holder:getFromPolicyCache(subscriptionDto.subscriptionPolicy);
     keyValidationInfoDTO.subscriptionPolicy = subscriptionPolicy.name;
     keyValidationInfoDTO.stopOnQuotaReach = subscriptionPolicy.stopOnQuotaReach;
+    keyValidationInfoDTO.subscriptionRequestCount = subscriptionPolicy.requestCount;
+    keyValidationInfoDTO.subscriptionUnitTime = subscriptionPolicy.unitTime;
     dto:PolicyDto apiLevelPolicy = holder:getFromPolicyCache(subscriptionDto.apiLevelPolicy);
     keyValidationInfoDTO.apiLevelPolicy = subscriptionDto.apiLevelPolicy;
     dto:PolicyDto resourceLevelPolicy = holder:getFromPolicyCache(resourceDto.policy);
@@ -259,9 +271,13 @@ function constructKeyValidationDto (string token, dto:IntrospectDto introspectDt
     keyValidationInfoDTO.username = introspectDto.username;
     dto:PolicyDto applicationPolicy = holder:getFromPolicyCache(applicationDto.applicationPolicy);
     keyValidationInfoDTO.applicationPolicy = applicationPolicy.name;
+    keyValidationInfoDTO.applicationRequestCount = applicationPolicy.requestCount;
+    keyValidationInfoDTO.applicationUnitTime = applicationPolicy.unitTime;
     dto:PolicyDto subscriptionPolicy = holder:getFromPolicyCache(subscriptionDto.subscriptionPolicy);
     keyValidationInfoDTO.subscriptionPolicy = subscriptionPolicy.name;
     keyValidationInfoDTO.stopOnQuotaReach = subscriptionPolicy.stopOnQuotaReach;
+    keyValidationInfoDTO.subscriptionRequestCount = subscriptionPolicy.requestCount;
+    keyValidationInfoDTO.subscriptionUnitTime = subscriptionPolicy.unitTime;
     dto:PolicyDto apiLevelPolicy = holder:getFromPolicyCache(subscriptionDto.apiLevelPolicy);
     keyValidationInfoDTO.apiLevelPolicy = subscriptionDto.apiLevelPolicy;
     dto:PolicyDto resourceLevelPolicy = holder:getFromPolicyCache(resourceDto.policy);
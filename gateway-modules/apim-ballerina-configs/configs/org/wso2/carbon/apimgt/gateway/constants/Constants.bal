@@ -1,6 +1,8 @@
 package org.wso2.carbon.apimgt.gateway.constants;
 
 const string API_CORE_URL = "API_CORE_URL";
+const string SUBSCRIPTION_PAGE_SIZE = "1000";
+const int SUBSCRIPTION_CHANGE_POLL_INTERVAL = 60000;
 const string GW_HOME = "GW_HOME";
 const string API_CREATE = "API_CREATE";
 const string API_UPDATE = "API_UPDATE";
@@ -24,6 +26,7 @@ const string BLOCK_CONDITION_UPDATE = "BLOCK_CONDITION_UPDATE";
 const string BLOCK_CONDITION_DELETE = "BLOCK_CONDITION_DELETE";
 const string EVENT_TYPE = "eventType";
 const string INTROSPECT_CONTEXT = "/oauth2/introspect";
+const string INTROSPECT_ERROR_KEY_MANAGER_UNAVAILABLE = "temporarily_unavailable";
 const string USER_INFO_CONTEXT = "/oauth2/userinfo";
 const string AUTHORIZATION = "Authorization";
 const string BEARER = "Bearer ";
@@ -61,6 +64,7 @@ const string KEY_TEMPLATE_KEY = "keyTemplateValue";
 const string KEY_TEMPLATE_KEY_STATE = "keyTemplateState";
 const string UNLIMITED_TIER = "Unlimited";
 const int NOT_FOUND = 404;
+const int GONE = 410;
 
 const string STOP_ON_QUOTA_REACH = "STOP_ON_QUOTA_REACH";
 const string MAINTENANCE = "Maintenance";
@@ -74,6 +78,9 @@ const string SUBSCRIPTION_STATUS_PROD_ONLY_BLOCKED="PROD_ONLY_BLOCKED";
 const string ENV_TYPE_PRODUCTION = "PRODUCTION";
 const string ENV_TYPE_SANDBOX = "SANDBOX";
 const string ENDPOINT_CACHE = "ENDPOINT_CACHE";
+const string CACHE_TIMEOUT = "15";
+const int TOKEN_CACHE_MAX_ENTRIES = 100000;
+const int USER_INFO_CACHE_MAX_ENTRIES = 100000;
 
 const string GOOGLE_ANALYTICS_HTTP_ENDPOINT = "http://www.google-analytics.com/collect";
 const string GOOGLE_ANALYTICS_HTTPS_ENDPOINT = "https://ssl.google-analytics.com/collect";
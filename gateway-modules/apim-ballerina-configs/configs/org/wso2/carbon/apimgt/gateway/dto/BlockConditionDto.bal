@@ -9,4 +9,6 @@ struct BlockConditionDto{
     int fixedIp;
     int startingIP;
     int endingIP;
+    string startingIPAddress;
+    string endingIPAddress;
 }
\ No newline at end of file
@@ -8,4 +8,5 @@ struct IntrospectDto {
     string token_type;
     string client_id;
     int iat;
+    string errorCode;
 }
\ No newline at end of file
@@ -16,4 +16,8 @@ struct KeyValidationDto {
     string subscriber;
     string resourcePath;
     boolean stopOnQuotaReach;
+    int applicationRequestCount;
+    int applicationUnitTime;
+    int subscriptionRequestCount;
+    int subscriptionUnitTime;
 }
\ No newline at end of file
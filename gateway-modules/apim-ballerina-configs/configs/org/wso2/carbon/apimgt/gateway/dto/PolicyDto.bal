@@ -4,4 +4,6 @@ struct PolicyDto {
     string id;
     string name;
     boolean stopOnQuotaReach;
+    int requestCount;
+    int unitTime;
 }
\ No newline at end of file
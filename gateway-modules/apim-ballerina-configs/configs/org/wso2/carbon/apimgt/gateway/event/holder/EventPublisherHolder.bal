@@ -38,6 +38,17 @@ function getThrottlingPublisher () (publisher:EventConnector) {
     }
 }
 
+function getPublisherStats () (json) {
+    json stats = {};
+    if (initAnalytics) {
+        stats.analytics = publisher:EventConnector.getStats(analyticsPublisher);
+    }
+    if (initThrottle) {
+        stats.throttling = publisher:EventConnector.getStats(throttlePublisher);
+    }
+    return stats;
+}
+
 function getPublisherInstance (map propertiesMap) (publisher:EventConnector) {
     publisher:EventConnector das = create publisher:EventConnector(propertiesMap);
     return das;
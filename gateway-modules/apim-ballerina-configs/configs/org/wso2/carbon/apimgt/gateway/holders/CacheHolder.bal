@@ -3,16 +3,16 @@ import org.wso2.carbon.apimgt.gateway.dto as dto;
 import org.wso2.carbon.apimgt.gateway.constants;
 import org.wso2.carbon.apimgt.ballerina.caching;
 import org.wso2.carbon.apimgt.ballerina.maps as apimgtMaps;
+import org.wso2.carbon.apimgt.ballerina.util as apimgtUtil;
 import ballerina.lang.system;
-import ballerina.lang.maps;
 import ballerina.lang.errors;
 
 map endpointCache = {};
 dto:GatewayConfDTO gatewayConf = {};
 dto:KeyManagerInfoDTO keyManagerConf = {};
 map applicationCache = {};
-map userInfoCache = {};
 string apiCoreUrl;
+int subscriptionChangeSequence;
 function getFromTokenCache (string key) (dto:IntrospectDto) {
     any introspect = caching:getCacheEntry(constants:TOKEN_CACHE, key);
     if (introspect != null) {
@@ -155,40 +155,60 @@ function removeFromSubscriptionCache (string apiContext, string apiVersion, stri
     string key = apiContext + ":" + apiVersion + ":" + consumerKey;
     caching:removeCacheEntry(constants:SUBSCRIPTION_CACHE, key);
 }
+function setSubscriptionChangeSequence (int changeSequence) {
+    subscriptionChangeSequence = changeSequence;
+}
+function getSubscriptionChangeSequence () (int) {
+    return subscriptionChangeSequence;
+}
 
 function initializeCache () (boolean) {
+    // only the caches whose entries are retrieved again on a miss are bounded, the other caches hold the only copy
+    // of the data pushed to the gateway and must not evict entries
     //cache for token introspect
-    caching:createCache(constants:TOKEN_CACHE, "15");
+    caching:createBoundedCache(constants:TOKEN_CACHE, constants:CACHE_TIMEOUT, constants:TOKEN_CACHE_MAX_ENTRIES);
     //cache for subscription
-    caching:createCache(constants:SUBSCRIPTION_CACHE, "15");
+    caching:createCache(constants:SUBSCRIPTION_CACHE, constants:CACHE_TIMEOUT);
     //cache for resource
-    caching:createCache(constants:RESOURCE_CACHE, "15");
+    caching:createCache(constants:RESOURCE_CACHE, constants:CACHE_TIMEOUT);
     //cache for application
-    caching:createCache(constants:APPLICATION_CACHE, "15");
+    caching:createCache(constants:APPLICATION_CACHE, constants:CACHE_TIMEOUT);
     //cache for policies
-    caching:createCache(constants:POLICY_CACHE, "15");
+    caching:createCache(constants:POLICY_CACHE, constants:CACHE_TIMEOUT);
     //cache for userinfo
-    caching:createCache(constants:USER_INFO_CACHE, "15");
+    caching:createBoundedCache(constants:USER_INFO_CACHE, constants:CACHE_TIMEOUT,
+                               constants:USER_INFO_CACHE_MAX_ENTRIES);
     //cache for api
-    caching:createCache(constants:API_CACHE, "15");
-    caching:createCache(constants:ENDPOINT_CACHE, "15");
+    caching:createCache(constants:API_CACHE, constants:CACHE_TIMEOUT);
+    caching:createCache(constants:ENDPOINT_CACHE, constants:CACHE_TIMEOUT);
 
     return true;
 }
 function getFromUserInfoCache (string userId) (json) {
-    if (userInfoCache[userId] != null) {
+    any userInfo = caching:getCacheEntry(constants:USER_INFO_CACHE, userId);
+    if (userInfo != null) {
         json value;
         errors:TypeCastError err;
-        value, err = (json)userInfoCache[userId];
+        value, err = (json)userInfo;
         return value;
     } else {
         return null;
     }
 }
 function putIntoUserInfoCache (string userId, json userInfo) {
-    if (userInfoCache[userId] == null) {
-        userInfoCache[userId] = userInfo;
-    }
+    caching:putCacheEntry(constants:USER_INFO_CACHE, userId, userInfo);
+}
+function getCacheStats () (json) {
+    json stats = {};
+    stats.tokenCache = caching:getCacheStats(constants:TOKEN_CACHE);
+    stats.userInfoCache = caching:getCacheStats(constants:USER_INFO_CACHE);
+    stats.subscriptionCache = caching:getCacheStats(constants:SUBSCRIPTION_CACHE);
+    stats.resourceCache = caching:getCacheStats(constants:RESOURCE_CACHE);
+    stats.applicationCache = caching:getCacheStats(constants:APPLICATION_CACHE);
+    stats.policyCache = caching:getCacheStats(constants:POLICY_CACHE);
+    stats.apiCache = caching:getCacheStats(constants:API_CACHE);
+    stats.endpointCache = caching:getCacheStats(constants:ENDPOINT_CACHE);
+    return stats;
 }
 function putIntoPolicyCache (dto:PolicyDto policyDto) {
     caching:putCacheEntry(constants:POLICY_CACHE, policyDto.id, policyDto);
@@ -231,45 +251,35 @@ function updateEndpointCache (dto:EndpointDto endpointDto) {
     putIntoEndpointCache(endpointDto);
 }
 function addBlockConditions (dto:BlockConditionDto blockConditionDto) {
-    any entry = apimgtMaps:getMapEntry(constants:BLOCK_CONDITION_MAP);
     system:println(blockConditionDto.key);
-    map blockConditionMap = {};
-    errors:TypeCastError err;
-    if (entry != null) {
-        blockConditionMap, err = (map)entry;
-    }
-    blockConditionMap[blockConditionDto.key] = blockConditionDto;
-    apimgtMaps:putMapEntry(constants:BLOCK_CONDITION_MAP, blockConditionMap);
+    apimgtMaps:putSnapshotEntry(constants:BLOCK_CONDITION_MAP, blockConditionDto.key, blockConditionDto);
+    indexIpRange(blockConditionDto);
+}
+function addBlockConditionMap (map blockConditions) {
+    // publishes a single snapshot for the whole batch, ip ranges are indexed separately with indexIpRange
+    apimgtMaps:putSnapshotEntries(constants:BLOCK_CONDITION_MAP, blockConditions);
 }
 function removeBlockCondition (dto:BlockConditionDto blockConditionDto) {
-    any entry = apimgtMaps:getMapEntry(constants:BLOCK_CONDITION_MAP);
-    map blockConditionMap = {};
-    errors:TypeCastError err;
-    if (entry != null) {
-        blockConditionMap, err = (map)entry;
-    }
-    maps:remove(blockConditionMap,blockConditionDto.key);
-    apimgtMaps:putMapEntry(constants:BLOCK_CONDITION_MAP, blockConditionMap);
+    apimgtMaps:removeSnapshotEntry(constants:BLOCK_CONDITION_MAP, blockConditionDto.key);
+    apimgtUtil:removeIpRangeBlock(blockConditionDto.key);
 }
 function updateBlockCondition (dto:BlockConditionDto blockConditionDto) {
-    any entry = apimgtMaps:getMapEntry(constants:BLOCK_CONDITION_MAP);
-    map blockConditionMap = {};
-    errors:TypeCastError err;
-    if (entry != null) {
-        blockConditionMap, err = (map)entry;
-    }
-    maps:remove(blockConditionMap,blockConditionDto.key);
     if (blockConditionDto.enabled) {
-        blockConditionMap[blockConditionDto.key] = blockConditionDto;
+        apimgtMaps:putSnapshotEntry(constants:BLOCK_CONDITION_MAP, blockConditionDto.key, blockConditionDto);
+        indexIpRange(blockConditionDto);
+    } else {
+        apimgtMaps:removeSnapshotEntry(constants:BLOCK_CONDITION_MAP, blockConditionDto.key);
+        apimgtUtil:removeIpRangeBlock(blockConditionDto.key);
     }
-    apimgtMaps:putMapEntry(constants:BLOCK_CONDITION_MAP, blockConditionMap);
 }
-function getBlockConditionMap ()(map) {
-    any entry = apimgtMaps:getMapEntry(constants:BLOCK_CONDITION_MAP);
-    map blockConditionMap = {};
-    errors:TypeCastError err;
-    if (entry != null) {
-        blockConditionMap, err = (map)entry;
+function indexIpRange (dto:BlockConditionDto blockConditionDto) {
+    if (blockConditionDto.conditionType == constants:BLOCKING_CONDITION_IP_RANGE) {
+        // IPv6 ranges are only sent as address literals, which the index compares as 128 bit values
+        apimgtUtil:addIpRangeBlock(blockConditionDto.key, blockConditionDto.startingIPAddress,
+                                   blockConditionDto.endingIPAddress);
     }
-    return blockConditionMap;
+}
+function getBlockConditionMap ()(map) {
+    // the returned snapshot is shared between requests and must not be modified
+    return apimgtMaps:getSnapshot(constants:BLOCK_CONDITION_MAP);
 }
\ No newline at end of file
@@ -11,6 +11,8 @@ service<http> gatewayInitService {
     boolean isMapsAdded = holder:addThrottleMaps();
     boolean isReady = initGateway();
     boolean subscriptionsInitialized = gatewayUtil:retrieveSubscriptions();
+    boolean subscriptionChangesApplied = gatewayUtil:retrieveSubscriptionChanges();
+    boolean subscriptionChangePollerStarted = gatewayUtil:startSubscriptionChangePoller();
     boolean applicationsInitialized = gatewayUtil:retrieveApplications();
     boolean policiesInitialized = gatewayUtil:retrievePolicies();
 
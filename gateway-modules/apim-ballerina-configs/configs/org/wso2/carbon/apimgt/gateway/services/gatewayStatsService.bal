@@ -0,0 +1,23 @@
+package org.wso2.carbon.apimgt.gateway.services;
+
+import ballerina.lang.messages;
+import ballerina.net.http;
+import org.wso2.carbon.apimgt.gateway.holders as holder;
+import org.wso2.carbon.apimgt.gateway.event.holder as eventHolder;
+import org.wso2.carbon.apimgt.ballerina.introspect;
+
+@http:config {basePath:"/gateway-stats"}
+service<http> gatewayStatsService {
+
+    @http:GET {}
+    @http:Path {value:"/"}
+    resource getStats (message m) {
+        json stats = {};
+        stats.caches = holder:getCacheStats();
+        stats.introspection = introspect:getIntrospectionStats();
+        stats.eventPublishers = eventHolder:getPublisherStats();
+        message response = {};
+        messages:setJsonPayload(response, stats);
+        reply response;
+    }
+}
\ No newline at end of file
@@ -141,7 +141,11 @@ function isRequestThrottled( message msg) (boolean){
     }
 
     // Subscription Level throttling
-    isSubscriptionLevelThrottled = throttle:isThrottled(subscriptionLevelThrottleKey, msg);
+    // the local quota rejects requests of this gateway before the traffic manager publishes a decision
+    isSubscriptionLevelThrottled = throttle:isThrottled(subscriptionLevelThrottleKey, msg) ||
+                                   isLocalQuotaExceeded(subscriptionLevelThrottleKey,
+                                                        keyValidationDto.subscriptionRequestCount,
+                                                        keyValidationDto.subscriptionUnitTime);
     boolean stopOnQuotaReach = keyValidationDto.stopOnQuotaReach;
 
     if(isSubscriptionLevelThrottled){
@@ -161,7 +165,10 @@ function isRequestThrottled( message msg) (boolean){
 
     // Application Level Throttling
     applicationLevelThrottleKey = applicationId + ":" + authorizedUser;
-    isApplicationLevelThrottled = throttle:isThrottled(applicationLevelThrottleKey, msg);
+    isApplicationLevelThrottled = throttle:isThrottled(applicationLevelThrottleKey, msg) ||
+                                  isLocalQuotaExceeded(applicationLevelThrottleKey,
+                                                       keyValidationDto.applicationRequestCount,
+                                                       keyValidationDto.applicationUnitTime);
 
     if(isApplicationLevelThrottled){
         http:setStatusCode( msg, HTTP_TOO_MANY_REQUESTS );
@@ -183,6 +190,14 @@ function isRequestThrottled( message msg) (boolean){
     return false;
 }
 
+function isLocalQuotaExceeded (string throttleKey, int requestCount, int unitTime) (boolean) {
+    if (requestCount <= 0 || unitTime <= 0) {
+        // policies which do not limit the request count are only enforced by the traffic manager
+        return false;
+    }
+    return throttle:isLocalQuotaExceeded(throttleKey, requestCount, unitTime);
+}
+
 function setInvalidUser(message msg){
     messages:setStringPayload(msg, "API is Throttled Out");
 }
@@ -148,13 +148,16 @@ function loadBlockConditions () {
     int count;
     count, err = (int)blockConditions.count;
     json blockConditionList = blockConditions.list;
+    map blockConditionMap = {};
 
     while (index < count) {
 
         dto:BlockConditionDto condition = fromJsonToBlockConditionDto(blockConditionList[index]);
-        holder:addBlockConditions(condition);
+        blockConditionMap[condition.key] = condition;
+        holder:indexIpRange(condition);
         index = index+1;
     }
+    holder:addBlockConditionMap(blockConditionMap);
 }
 
 function getAPIServiceConfig (string apiId) (int, string) {
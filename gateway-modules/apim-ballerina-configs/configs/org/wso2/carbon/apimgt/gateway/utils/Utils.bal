@@ -18,6 +18,10 @@ function constructAccessTokenExpiredPayload (message response) {
     json payload = {"code":900901, "message":"accessToken expired"};
     messages:setJsonPayload(response, payload);
 }
+function constructKeyManagerErrorPayload (message response) {
+    json payload = {"code":900900, "message":"Token could not be validated"};
+    messages:setJsonPayload(response, payload);
+}
 function constructSubscriptionNotFound (message response) {
     json payload = {"code":900903, "message":"subscription not found"};
     messages:setJsonPayload(response, payload);
@@ -70,6 +74,9 @@ function fromJsonToIntrospectDto (json introspectResponse) (dto:IntrospectDto) {
         if (introspectResponse.client_id != null) {
             introspectDto.client_id, err = (string)introspectResponse.client_id;
         }
+    } else if (introspectResponse.error != null) {
+        // the token could not be introspected, which is not the same as the token being inactive
+        introspectDto.errorCode, err = (string)introspectResponse.error;
     }
     return introspectDto;
 }
@@ -96,16 +103,81 @@ function fromJsonToResourceDto (json resourceResponse) (dto:ResourceDto) {
     return resourceDto;
 }
 function retrieveSubscriptions () (boolean) {
-    string query = "/api/am/core/v1.0/subscriptions?limit=-1";
-    message request = {};
+    string query = "/api/am/core/v1.0/subscriptions?limit=" + constants:SUBSCRIPTION_PAGE_SIZE;
     http:ClientConnector apiInfoConnector = create http:ClientConnector(getAPICoreURL());
-    messages:setHeader(request, "Content-Type", "application/json");
-    message response = http:ClientConnector.get(apiInfoConnector, query, request);
-    json subscriptions = messages:getJsonPayload(response);
+    json subscriptions = getSubscriptions(apiInfoConnector, query);
+    int changeSequence;
+    changeSequence, err = (int)subscriptions.changeSequence;
     putIntoSubscriptionCache(subscriptions.list);
+    while (subscriptions.nextCursor != null) {
+        string nextCursor;
+        nextCursor, err = (string)subscriptions.nextCursor;
+        subscriptions = getSubscriptions(apiInfoConnector, query + "&after=" + nextCursor);
+        putIntoSubscriptionCache(subscriptions.list);
+    }
+    // changes made while the pages were retrieved are applied from the change sequence of the first page
+    holders:setSubscriptionChangeSequence(changeSequence);
+    return true;
+}
+
+function retrieveSubscriptionChanges () (boolean) {
+    http:ClientConnector apiInfoConnector = create http:ClientConnector(getAPICoreURL());
+    int changeSequence = holders:getSubscriptionChangeSequence();
+    int previousChangeSequence = -1;
+    while (changeSequence != previousChangeSequence) {
+        string query = "/api/am/core/v1.0/subscriptions?limit=" + constants:SUBSCRIPTION_PAGE_SIZE + "&since=" +
+                       changeSequence;
+        message request = {};
+        messages:setHeader(request, "Content-Type", "application/json");
+        message response = http:ClientConnector.get(apiInfoConnector, query, request);
+        int status = http:getStatusCode(response);
+        if (status == constants:GONE) {
+            // the changes after the sequence were removed from API Core, hence the subscriptions are retrieved again
+            boolean subscriptionsRetrieved = retrieveSubscriptions();
+            changeSequence = holders:getSubscriptionChangeSequence();
+            previousChangeSequence = -1;
+        } else if (status != 200) {
+            system:println("Error while retrieving subscription changes. Status code : " + status);
+            return false;
+        } else {
+            json changes = messages:getJsonPayload(response);
+            removeFromSubscriptionCache(changes.removedList);
+            putIntoSubscriptionCache(changes.list);
+            previousChangeSequence = changeSequence;
+            changeSequence, err = (int)changes.changeSequence;
+            // the sequence is kept after every page, so that a failed poll resumes from the last applied change
+            holders:setSubscriptionChangeSequence(changeSequence);
+        }
+    }
     return true;
 }
 
+function startSubscriptionChangePoller () (boolean) {
+    constants:SUBSCRIPTION_CHANGE_POLL_INTERVAL -> subscriptionChangePoller;
+    return true;
+
+    worker subscriptionChangePoller {
+        int pollInterval;
+        pollInterval <- default;
+        while (true) {
+            system:sleep(pollInterval);
+            try {
+                // changes are retrieved from the last sequence applied by the previous poll or at startup
+                boolean subscriptionChangesApplied = retrieveSubscriptionChanges();
+            } catch (errors:Error e) {
+                system:println("Error while polling subscription changes. " + e.msg);
+            }
+        }
+    }
+}
+
+function getSubscriptions (http:ClientConnector apiInfoConnector, string query) (json) {
+    message request = {};
+    messages:setHeader(request, "Content-Type", "application/json");
+    message response = http:ClientConnector.get(apiInfoConnector, query, request);
+    return messages:getJsonPayload(response);
+}
+
 function putIntoSubscriptionCache (json subscriptions) {
     int length = jsons:getInt(subscriptions, "$.length()");
     int i = 0;
@@ -197,6 +269,10 @@ function putIntoPolicyCache (json policy) {
     policyDto.id, err = (string)policy.id;
     policyDto.name, err = (string)policy.name;
     policyDto.stopOnQuotaReach, err = (boolean)policy.stopOnQuotaReach;
+    if (policy.requestCount != null) {
+        policyDto.requestCount, err = (int)policy.requestCount;
+        policyDto.unitTime, err = (int)policy.unitTime;
+    }
     holders:putIntoPolicyCache(policyDto);
 }
 function removeFromApplicationCache (json application) {
@@ -319,9 +395,17 @@ function fromJsonToBlockConditionDto (json event) (dto:BlockConditionDto) {
     key = key + blockConditionDto.conditionType;
     blockConditionDto.uuid, err = (string)event.uuid;
     if (blockConditionDto.conditionType == constants:BLOCKING_CONDITION_IP_RANGE) {
-        blockConditionDto.startingIP, err = (int)event.startingIP;
-        blockConditionDto.endingIP, err = (int)event.endingIP;
-        key = key + " : " + blockConditionDto.startingIP + " : " + blockConditionDto.endingIP;
+        // the address literals are sent for both IPv4 and IPv6 ranges, the numeric values only for IPv4 ranges
+        if (event.startingIPAddress != null && event.endingIPAddress != null) {
+            blockConditionDto.startingIPAddress, err = (string)event.startingIPAddress;
+            blockConditionDto.endingIPAddress, err = (string)event.endingIPAddress;
+        } else {
+            blockConditionDto.startingIP, err = (int)event.startingIP;
+            blockConditionDto.endingIP, err = (int)event.endingIP;
+            blockConditionDto.startingIPAddress = "" + blockConditionDto.startingIP;
+            blockConditionDto.endingIPAddress = "" + blockConditionDto.endingIP;
+        }
+        key = key + " : " + blockConditionDto.startingIPAddress + " : " + blockConditionDto.endingIPAddress;
     } else if (blockConditionDto.conditionType == constants:BLOCKING_CONDITIONS_IP) {
         blockConditionDto.fixedIp, err = (int)event.fixedIp;
         key = key + " : " + blockConditionDto.fixedIp;
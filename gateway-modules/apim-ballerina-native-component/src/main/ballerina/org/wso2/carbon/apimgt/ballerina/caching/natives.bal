@@ -25,4 +25,16 @@ native function createCache (string cacheName, string cacheTimeout) (string);
 @doc:Param { value:"cacheName: Name of the cache to be create" }
 @doc:Param { value:"cacheKey: String cache key" }
 @doc:Return { value:"string: cache name" }
-native function removeCacheEntry (string cacheName, string cacheKey) (string);
\ No newline at end of file
+native function removeCacheEntry (string cacheName, string cacheKey) (string);
+
+@doc:Description { value:"Create a cache bounded by the number of entries"}
+@doc:Param { value:"cacheName: Name of the cache to be create" }
+@doc:Param { value:"cacheTimeout: Cache timeout in minutes" }
+@doc:Param { value:"maxEntries: Maximum number of entries of the cache" }
+@doc:Return { value:"string: created cache name" }
+native function createBoundedCache (string cacheName, string cacheTimeout, int maxEntries) (string);
+
+@doc:Description { value:"Get the statistics of a cache"}
+@doc:Param { value:"cacheName: Name of the cache" }
+@doc:Return { value:"json: hit, miss and eviction counts, hit rate, size and maximum number of entries of the cache" }
+native function getCacheStats (string cacheName) (json);
\ No newline at end of file
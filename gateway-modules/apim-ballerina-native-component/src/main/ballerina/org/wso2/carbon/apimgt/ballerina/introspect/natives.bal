@@ -0,0 +1,14 @@
+package org.wso2.carbon.apimgt.ballerina.introspect;
+
+import ballerina.doc;
+
+@doc:Description { value:"Introspect an access token against the key manager. Concurrent introspections of a token are coalesced and inactive tokens are cached for a short time"}
+@doc:Param { value:"endpoint: Introspection endpoint of the key manager" }
+@doc:Param { value:"authorization: Authorization header sent to the key manager" }
+@doc:Param { value:"token: Access token" }
+@doc:Return { value:"json: Introspection response, which reports the token as inactive if the introspection failed" }
+native function introspectToken (string endpoint, string authorization, string token) (json);
+
+@doc:Description { value:"Get the token introspection statistics of the gateway"}
+@doc:Return { value:"json: Request, negative cache hit, introspection, coalesced request and failure counts" }
+native function getIntrospectionStats () (json);
\ No newline at end of file
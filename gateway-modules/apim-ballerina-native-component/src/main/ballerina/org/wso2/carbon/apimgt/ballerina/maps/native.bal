@@ -16,4 +16,35 @@ native function getMapEntry (string key) (any);
 @doc:Description {value:"Remove cache entry by providing cacheName, cacheKey"}
 @doc:Param {value:"key: String key"}
 @doc:Return {value:"string: key"}
-native function removeMapEntry (string key) (string);
\ No newline at end of file
+native function removeMapEntry (string key) (string);
+
+@doc:Description {value:"Atomically put an entry into a snapshot map, publishing a new snapshot of the map"}
+@doc:Param {value:"mapName: Name of the map"}
+@doc:Param {value:"key: Entry key"}
+@doc:Param {value:"value: Entry value"}
+@doc:Return {value:"string: Entry key"}
+native function putSnapshotEntry (string mapName, string key, any value) (string);
+
+@doc:Description {value:"Atomically put a batch of entries into a snapshot map, publishing a single new snapshot of the map"}
+@doc:Param {value:"mapName: Name of the map"}
+@doc:Param {value:"entries: Entries to be put"}
+@doc:Return {value:"int: Number of entries put"}
+native function putSnapshotEntries (string mapName, map entries) (int);
+
+@doc:Description {value:"Atomically put an entry into a snapshot map unless the key is already present"}
+@doc:Param {value:"mapName: Name of the map"}
+@doc:Param {value:"key: Entry key"}
+@doc:Param {value:"value: Entry value"}
+@doc:Return {value:"any: Value present for the key after the operation"}
+native function putSnapshotEntryIfAbsent (string mapName, string key, any value) (any);
+
+@doc:Description {value:"Atomically remove an entry from a snapshot map, publishing a new snapshot of the map"}
+@doc:Param {value:"mapName: Name of the map"}
+@doc:Param {value:"key: Entry key"}
+@doc:Return {value:"string: Entry key"}
+native function removeSnapshotEntry (string mapName, string key) (string);
+
+@doc:Description {value:"Get the current snapshot of a snapshot map. The snapshot must not be modified"}
+@doc:Param {value:"mapName: Name of the map"}
+@doc:Return {value:"map: Snapshot of the map, which is empty if the map does not exist"}
+native function getSnapshot (string mapName) (map);
\ No newline at end of file
@@ -0,0 +1,31 @@
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import ballerina.doc;
+
+@doc:Description { value:"Check whether a throttle key has been throttled by the traffic manager"}
+@doc:Param { value:"throttleKey: Throttle key" }
+@doc:Return { value:"boolean: true if the throttle key is throttled" }
+native function isThrottled (string throttleKey) (boolean);
+
+@doc:Description { value:"Record a throttle decision received from the traffic manager"}
+@doc:Param { value:"throttleKey: Throttle key" }
+@doc:Param { value:"expiryTimeStamp: Time in milliseconds until which the key is throttled" }
+@doc:Return { value:"string: Throttle key" }
+native function addThrottleDecision (string throttleKey, string expiryTimeStamp) (string);
+
+@doc:Description { value:"Remove the throttle decision of a throttle key and reset its local counter"}
+@doc:Param { value:"throttleKey: Throttle key" }
+@doc:Return { value:"string: Throttle key" }
+native function removeThrottleDecision (string throttleKey) (string);
+
+@doc:Description { value:"Get the expiry time of the throttle decision of a throttle key"}
+@doc:Param { value:"throttleKey: Throttle key" }
+@doc:Return { value:"string: Expiry time in milliseconds or an empty string if the key is not throttled" }
+native function getThrottleDecision (string throttleKey) (string);
+
+@doc:Description { value:"Count a request against the local quota of a throttle key"}
+@doc:Param { value:"throttleKey: Throttle key" }
+@doc:Param { value:"limit: Maximum number of requests allowed within the unit time" }
+@doc:Param { value:"unitTime: Unit time in milliseconds" }
+@doc:Return { value:"boolean: true if the local quota has been exceeded" }
+native function isLocalQuotaExceeded (string throttleKey, int limit, int unitTime) (boolean);
\ No newline at end of file
@@ -27,4 +27,21 @@ native function parse (string value) (json);
 @doc:Description { value:"Convert ip to long"}
 @doc:Param { value:"string: Current String value of ip" }
 @doc:Return { value:"int: integer value" }
-native function convertIpToLong (string value) (int );
\ No newline at end of file
+native function convertIpToLong (string value) (int );
+
+@doc:Description { value:"Index the IP range of a block condition"}
+@doc:Param { value:"key: Key of the block condition" }
+@doc:Param { value:"startingIp: First address of the range as an IPv4 or IPv6 literal, or the numeric value of an IPv4 address" }
+@doc:Param { value:"endingIp: Last address of the range as an IPv4 or IPv6 literal, or the numeric value of an IPv4 address" }
+@doc:Return { value:"boolean: false if the range is invalid" }
+native function addIpRangeBlock (string key, string startingIp, string endingIp) (boolean);
+
+@doc:Description { value:"Remove the IP range of a block condition from the index"}
+@doc:Param { value:"key: Key of the block condition" }
+@doc:Return { value:"string: Key of the block condition" }
+native function removeIpRangeBlock (string key) (string);
+
+@doc:Description { value:"Check whether an address falls within a blocked IP range"}
+@doc:Param { value:"ip: IPv4 or IPv6 address" }
+@doc:Return { value:"boolean: true if the address is blocked" }
+native function isIpRangeBlocked (string ip) (boolean);
\ No newline at end of file
@@ -1,33 +1,42 @@
 package org.wso2.carbon.apimgt.ballerina.caching;
 
-import org.wso2.carbon.caching.spi.CarbonCachingProvider;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.ballerinalang.model.values.BValue;
 
-import javax.cache.CacheManager;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Cache Manager holder class to hold cache Manager
+ * Cache Manager holder class to hold the gateway caches. The caches record hit and miss statistics. A bounded cache
+ * evicts entries by frequency and recency of use (W-TinyLFU) once the bound is reached, hence only caches whose
+ * entries can be retrieved again on a miss should be bounded.
  */
 public final class CacheManagerHolder {
     private static volatile CacheManagerHolder instance = null;
 
-
     /**
-     * Get cache manager instance for cache access
-     *
-     * @return {@link CacheManager} which holds cache manager object
+     * Default cache timeout in minutes
      */
-    public CacheManager getCacheManager() {
-        return cacheManager;
-    }
+    static final int DEFAULT_CACHE_TIMEOUT = 15;
+    /**
+     * Default maximum number of entries of a bounded cache
+     */
+    static final long DEFAULT_MAX_ENTRIES = 10000;
+    /**
+     * Maximum number of entries of a cache which is not bounded
+     */
+    static final long UNBOUNDED = 0;
 
-    private CacheManager cacheManager;
+    private final Map<String, Cache<String, BValue>> caches = new ConcurrentHashMap<>();
+    private final Map<String, Long> cacheMaxEntries = new ConcurrentHashMap<>();
 
     /**
      * Private cache manager holder constructor
      */
     private CacheManagerHolder() {
-        CarbonCachingProvider carbonCachingProvider = new CarbonCachingProvider();
-        this.cacheManager = carbonCachingProvider.getCacheManager();
     }
 
     /**
@@ -45,4 +54,58 @@ public final class CacheManagerHolder {
         }
         return instance;
     }
+
+    /**
+     * Create a cache unless a cache with the same name already exists
+     *
+     * @param cacheName    name of the cache
+     * @param cacheTimeout time in minutes after which an entry that has not been accessed expires
+     * @param maxEntries   maximum number of entries of the cache, or {@link #UNBOUNDED} if the entries of the cache
+     *                     are not evicted by size
+     * @return the created cache or the existing cache with the same name
+     */
+    public Cache<String, BValue> createCache(String cacheName, int cacheTimeout, long maxEntries) {
+        return caches.computeIfAbsent(cacheName, name -> {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                    .expireAfterAccess(cacheTimeout, TimeUnit.MINUTES)
+                    .recordStats();
+            if (maxEntries > UNBOUNDED) {
+                cacheMaxEntries.put(name, maxEntries);
+                builder.maximumSize(maxEntries);
+            }
+            return builder.build();
+        });
+    }
+
+    /**
+     * Get a cache by name
+     *
+     * @param cacheName name of the cache
+     * @return the cache or null if a cache with the given name has not been created
+     */
+    public Cache<String, BValue> getCache(String cacheName) {
+        return caches.get(cacheName);
+    }
+
+    /**
+     * Get the statistics of a cache as a JSON string
+     *
+     * @param cacheName name of the cache
+     * @return hit, miss and eviction counts, hit rate, current size and, for a bounded cache, maximum number of
+     * entries of the cache or an empty JSON object if a cache with the given name has not been created
+     */
+    public String getStats(String cacheName) {
+        Cache<String, BValue> cache = caches.get(cacheName);
+        if (cache == null) {
+            return "{}";
+        }
+        CacheStats stats = cache.stats();
+        Long maxEntries = cacheMaxEntries.get(cacheName);
+        return "{\"hitCount\":" + stats.hitCount()
+                + ",\"missCount\":" + stats.missCount()
+                + ",\"hitRate\":" + stats.hitRate()
+                + ",\"evictionCount\":" + stats.evictionCount()
+                + ",\"size\":" + cache.estimatedSize()
+                + (maxEntries != null ? ",\"maxEntries\":" + maxEntries : "") + "}";
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.caching;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+/**
+ * Ballerina function to create a cache bounded by the number of entries. Once the bound is reached, the entries
+ * least likely to be used again are evicted.
+ * <br>
+ * org.wso2.carbon.apimgt.ballerina.caching:createBoundedCache
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.caching",
+        functionName = "createBoundedCache",
+        args = {@Argument(name = "cacheName", type = TypeEnum.STRING),
+                @Argument(name = "cacheTimeout", type = TypeEnum.STRING),
+                @Argument(name = "maxEntries", type = TypeEnum.INT)},
+        returnType = {@ReturnType(type = TypeEnum.STRING)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Create a cache bounded by the number of entries")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "cacheName",
+        value = "Cache name")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "cacheTimeout",
+        value = "Cache Timeout value in minutes")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "maxEntries",
+        value = "Maximum number of entries of the cache")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "string",
+        value = "Cache name")})
+public class CreateBoundedCache extends AbstractNativeFunction {
+
+    @Override
+    public BValue[] execute(Context context) {
+        String cacheName = getStringArgument(context, 0);
+        String cacheTimeoutString = getStringArgument(context, 1);
+        long maxEntries = getIntArgument(context, 0);
+        int cacheTimeout = CacheManagerHolder.DEFAULT_CACHE_TIMEOUT;
+        if (cacheTimeoutString != null && cacheTimeoutString.length() > 0) {
+            cacheTimeout = ((cacheTimeout = Integer.parseInt(cacheTimeoutString)) > 0 ?
+                    cacheTimeout : CacheManagerHolder.DEFAULT_CACHE_TIMEOUT);
+        }
+        if (maxEntries <= 0) {
+            maxEntries = CacheManagerHolder.DEFAULT_MAX_ENTRIES;
+        }
+        CacheManagerHolder.getInstance().createCache(cacheName, cacheTimeout, maxEntries);
+        return getBValues(new BString(cacheName));
+    }
+}
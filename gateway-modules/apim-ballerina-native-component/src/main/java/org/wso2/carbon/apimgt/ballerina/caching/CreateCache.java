@@ -29,13 +29,6 @@ import org.ballerinalang.natives.annotations.BallerinaAnnotation;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 
-import java.util.concurrent.TimeUnit;
-import javax.cache.CacheManager;
-import javax.cache.configuration.MutableConfiguration;
-import javax.cache.expiry.AccessedExpiryPolicy;
-import javax.cache.expiry.Duration;
-
-
 
 /**
  * Native function org.wso2.carbon.apimgt.ballerina.caching.{@link CreateCache}
@@ -68,21 +61,12 @@ public class CreateCache extends AbstractNativeFunction {
         String cacheName = getStringArgument(context, 0);
         String cacheTimeoutString = getStringArgument(context, 1);
         //Default cache timeout is 15 minutes
-        int cacheTimeout = 15;
+        int cacheTimeout = CacheManagerHolder.DEFAULT_CACHE_TIMEOUT;
         if (cacheTimeoutString != null && cacheTimeoutString.length() > 0) {
             cacheTimeout = ((cacheTimeout = Integer.parseInt(cacheTimeoutString)) > 0 ?
-                    cacheTimeout : 15);
-        }
-        CacheManager cacheManager = CacheManagerHolder.getInstance().getCacheManager();
-        if ((cacheManager).getCache(cacheName) == null) {
-            Duration cacheExpiry = new Duration(TimeUnit.MINUTES, cacheTimeout);
-            MutableConfiguration<String, String> config = new MutableConfiguration<>();
-            config.setStoreByValue(true)
-                    .setExpiryPolicyFactory(AccessedExpiryPolicy.factoryOf(cacheExpiry))
-                    .setStatisticsEnabled(false)
-                    .setStoreByValue(false);
-            cacheManager.createCache(cacheName, config);
+                    cacheTimeout : CacheManagerHolder.DEFAULT_CACHE_TIMEOUT);
         }
+        CacheManagerHolder.getInstance().createCache(cacheName, cacheTimeout, CacheManagerHolder.UNBOUNDED);
         return getBValues(new BString(cacheName));
     }
 }
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.apimgt.ballerina.caching;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BValue;
@@ -28,9 +29,6 @@ import org.ballerinalang.natives.annotations.BallerinaAnnotation;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 
-import javax.cache.Cache;
-
-
 /**
  * Native function ballerina.utils:base64decode.
  * This function will be used to get cache entry by providing cacheName and cacheKey
@@ -60,11 +58,11 @@ public class GetCacheEntry extends AbstractNativeFunction {
     public BValue[] execute(Context context) {
         String cacheName = getStringArgument(context, 0);
         String cacheKey = getStringArgument(context, 1);
-        Cache cache = (CacheManagerHolder.getInstance().getCacheManager().getCache(cacheName));
-        Object cacheEntry = cache.get(cacheKey);
+        Cache<String, BValue> cache = CacheManagerHolder.getInstance().getCache(cacheName);
+        BValue cacheEntry = cache != null ? cache.getIfPresent(cacheKey) : null;
         if (cacheEntry != null) {
 
-            return getBValues((BValue) cacheEntry);
+            return getBValues(cacheEntry);
         } else {
             return getBValues();
         }
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.apimgt.ballerina.caching;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BString;
@@ -50,8 +51,13 @@ public class PutCacheEntry extends AbstractNativeFunction {
         String cacheName = getStringArgument(context, 0);
         String cacheKey = getStringArgument(context, 1);
         BValue cacheEntry = getRefArgument(context, 0);
-        //TODO If cache is not created then need to send proper message or create and put entry.
-        CacheManagerHolder.getInstance().getCacheManager().getCache(cacheName).put(cacheKey, cacheEntry);
+        Cache<String, BValue> cache = CacheManagerHolder.getInstance().getCache(cacheName);
+        if (cache == null) {
+            // the entry is not dropped, since the cache may be the only copy of it
+            cache = CacheManagerHolder.getInstance().createCache(cacheName, CacheManagerHolder.DEFAULT_CACHE_TIMEOUT,
+                    CacheManagerHolder.UNBOUNDED);
+        }
+        cache.put(cacheKey, cacheEntry);
         return getBValues(new BString(cacheName));
     }
 }
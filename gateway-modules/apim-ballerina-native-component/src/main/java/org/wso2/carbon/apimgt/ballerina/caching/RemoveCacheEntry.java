@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.apimgt.ballerina.caching;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BString;
@@ -55,7 +56,10 @@ public class RemoveCacheEntry extends AbstractNativeFunction {
     public BValue[] execute(Context context) {
         String cacheName = getStringArgument(context, 0);
         String cacheKey = getStringArgument(context, 1);
-        CacheManagerHolder.getInstance().getCacheManager().getCache(cacheName).remove(cacheKey);
+        Cache<String, BValue> cache = CacheManagerHolder.getInstance().getCache(cacheName);
+        if (cache != null) {
+            cache.invalidate(cacheKey);
+        }
         return getBValues(new BString(cacheName));
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.introspect;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+/**
+ * Ballerina function to introspect an access token against the key manager
+ * <br>
+ * org.wso2.carbon.apimgt.ballerina.introspect:introspectToken
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.introspect",
+        functionName = "introspectToken",
+        args = {@Argument(name = "endpoint", type = TypeEnum.STRING),
+                @Argument(name = "authorization", type = TypeEnum.STRING),
+                @Argument(name = "token", type = TypeEnum.STRING)},
+        returnType = {@ReturnType(type = TypeEnum.JSON)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Introspect an access token against the key manager")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "endpoint",
+        value = "Introspection endpoint of the key manager")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "authorization",
+        value = "Authorization header sent to the key manager")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "token",
+        value = "Access token")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "json",
+        value = "Introspection response, which reports the token as inactive if the introspection failed")})
+public class IntrospectToken extends AbstractNativeFunction {
+
+    @Override
+    public BValue[] execute(Context context) {
+        String endpoint = getStringArgument(context, 0);
+        String authorization = getStringArgument(context, 1);
+        String token = getStringArgument(context, 2);
+        return getBValues(new BJSON(TokenIntrospector.getInstance().introspect(endpoint, authorization, token)));
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.introspect;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManagerFactory;
+
+/**
+ * Introspects access tokens against the key manager on behalf of the gateway.
+ * <p>
+ * Concurrent introspections of the same token are coalesced, so that only one request per token is in flight to the
+ * key manager at a time. Tokens found to be inactive are cached for a short time, so that clients repeatedly sending
+ * invalid tokens do not reach the key manager on every request. Connections to the key manager are kept alive and
+ * reused between introspections.
+ * <p>
+ * If the key manager could not be reached, the token is reported as inactive with the temporarily_unavailable
+ * error, and if the key manager did not accept the introspection request, with the server_error error, so that the
+ * gateway can reject the request without reporting the token as invalid. Such a response is not cached, so that the
+ * token is introspected again on the next request.
+ * <p>
+ * Key managers are trusted based on the trust store of the gateway rather than the default trust store of the JVM.
+ */
+public final class TokenIntrospector {
+    private static final Logger log = LoggerFactory.getLogger(TokenIntrospector.class);
+    private static volatile TokenIntrospector instance = null;
+
+    static final String INACTIVE_TOKEN_RESPONSE = "{\"active\":false}";
+    static final String INTROSPECTION_FAILED_RESPONSE =
+            "{\"active\":false,\"error\":\"server_error\",\"error_description\":\"Token introspection failed\"}";
+    static final String KEY_MANAGER_UNAVAILABLE_RESPONSE = "{\"active\":false,\"error\":\"temporarily_unavailable\"," +
+            "\"error_description\":\"Key manager is unavailable\"}";
+    private static final String TRUST_STORE_PASSWORD = "wso2carbon";
+    private static final long NEGATIVE_CACHE_TIMEOUT_MILLIS = 30000;
+    private static final int NEGATIVE_CACHE_MAX_ENTRIES = 10000;
+    private static final int CONNECT_TIMEOUT_MILLIS = 5000;
+    private static final int READ_TIMEOUT_MILLIS = 10000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, CompletableFuture<String>> inFlightIntrospections = new ConcurrentHashMap<>();
+    /**
+     * Expiry time of the cached inactive tokens in milliseconds, keyed by token
+     */
+    private final Map<String, Long> inactiveTokens = new ConcurrentHashMap<>();
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder negativeCacheHitCount = new LongAdder();
+    private final LongAdder introspectionCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+
+    private volatile SSLSocketFactory sslSocketFactory;
+
+    private TokenIntrospector() {
+    }
+
+    /**
+     * Static method to get the token introspector
+     *
+     * @return {@link TokenIntrospector} instance
+     */
+    public static TokenIntrospector getInstance() {
+        if (instance == null) {
+            synchronized (TokenIntrospector.class) {
+                if (instance == null) {
+                    instance = new TokenIntrospector();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Introspect a token, joining an introspection of the same token already in flight if there is one
+     *
+     * @param endpoint      introspection endpoint of the key manager
+     * @param authorization value of the authorization header sent to the key manager
+     * @param token         access token
+     * @return introspection response of the key manager, or an inactive token response with the error if the
+     * introspection failed or the key manager could not be reached
+     */
+    public String introspect(String endpoint, String authorization, String token) {
+        requestCount.increment();
+        Long inactiveUntil = inactiveTokens.get(token);
+        if (inactiveUntil != null) {
+            if (inactiveUntil > System.currentTimeMillis()) {
+                negativeCacheHitCount.increment();
+                return INACTIVE_TOKEN_RESPONSE;
+            }
+            inactiveTokens.remove(token, inactiveUntil);
+        }
+
+        CompletableFuture<String> introspection = new CompletableFuture<>();
+        CompletableFuture<String> inFlightIntrospection = inFlightIntrospections.putIfAbsent(token, introspection);
+        if (inFlightIntrospection != null) {
+            coalescedCount.increment();
+            return awaitIntrospection(inFlightIntrospection);
+        }
+
+        try {
+            introspectionCount.increment();
+            String response = sendIntrospectionRequest(endpoint, authorization, token);
+            if (!isActive(response)) {
+                cacheInactiveToken(token);
+            }
+            introspection.complete(response);
+            return response;
+        } catch (IntrospectionFailedException e) {
+            failureCount.increment();
+            log.error("Token introspection against " + endpoint + " failed", e);
+            introspection.complete(INTROSPECTION_FAILED_RESPONSE);
+            return INTROSPECTION_FAILED_RESPONSE;
+        } catch (IOException e) {
+            failureCount.increment();
+            log.error("Error while connecting to key manager " + endpoint + " to introspect token", e);
+            introspection.complete(KEY_MANAGER_UNAVAILABLE_RESPONSE);
+            return KEY_MANAGER_UNAVAILABLE_RESPONSE;
+        } catch (RuntimeException e) {
+            failureCount.increment();
+            introspection.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightIntrospections.remove(token, introspection);
+        }
+    }
+
+    /**
+     * Get the introspection statistics of the gateway
+     *
+     * @return statistics as a JSON string
+     */
+    public String getStats() {
+        return "{\"requestCount\":" + requestCount.sum()
+                + ",\"negativeCacheHitCount\":" + negativeCacheHitCount.sum()
+                + ",\"introspectionCount\":" + introspectionCount.sum()
+                + ",\"coalescedCount\":" + coalescedCount.sum()
+                + ",\"failureCount\":" + failureCount.sum()
+                + ",\"negativeCacheSize\":" + inactiveTokens.size() + "}";
+    }
+
+    private String awaitIntrospection(CompletableFuture<String> introspection) {
+        try {
+            return introspection.get(CONNECT_TIMEOUT_MILLIS + READ_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while waiting for token introspection", e);
+        } catch (ExecutionException e) {
+            log.error("Token introspection failed", e.getCause());
+        } catch (TimeoutException e) {
+            log.error("Timed out waiting for token introspection", e);
+            failureCount.increment();
+            return KEY_MANAGER_UNAVAILABLE_RESPONSE;
+        }
+        failureCount.increment();
+        return INTROSPECTION_FAILED_RESPONSE;
+    }
+
+    private boolean isActive(String response) {
+        try {
+            JsonNode active = objectMapper.readTree(response).get("active");
+            return active != null && active.asBoolean();
+        } catch (IOException e) {
+            log.warn("Invalid token introspection response received from the key manager", e);
+            return false;
+        }
+    }
+
+    private void cacheInactiveToken(String token) {
+        if (inactiveTokens.size() >= NEGATIVE_CACHE_MAX_ENTRIES) {
+            long currentTime = System.currentTimeMillis();
+            inactiveTokens.values().removeIf(expiryTime -> expiryTime <= currentTime);
+            if (inactiveTokens.size() >= NEGATIVE_CACHE_MAX_ENTRIES) {
+                return;
+            }
+        }
+        inactiveTokens.put(token, System.currentTimeMillis() + NEGATIVE_CACHE_TIMEOUT_MILLIS);
+    }
+
+    private String sendIntrospectionRequest(String endpoint, String authorization, String token)
+            throws IOException, IntrospectionFailedException {
+        // HttpURLConnection keeps the connection alive for reuse once the response has been fully read
+        HttpURLConnection connection = (HttpURLConnection) new URL(endpoint + "/").openConnection();
+        if (connection instanceof HttpsURLConnection) {
+            ((HttpsURLConnection) connection).setSSLSocketFactory(getSSLSocketFactory());
+        }
+        connection.setRequestMethod("POST");
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+        connection.setRequestProperty("Authorization", authorization);
+        try (OutputStream outputStream = connection.getOutputStream()) {
+            outputStream.write(("token=" + URLEncoder.encode(token, "UTF-8")).getBytes(StandardCharsets.UTF_8));
+        }
+        int statusCode = connection.getResponseCode();
+        InputStream responseStream = statusCode < HttpURLConnection.HTTP_BAD_REQUEST ? connection.getInputStream()
+                : connection.getErrorStream();
+        String response = "";
+        if (responseStream != null) {
+            try (InputStream inputStream = responseStream) {
+                response = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+            }
+        }
+        if (statusCode != HttpURLConnection.HTTP_OK) {
+            throw new IntrospectionFailedException("Token introspection failed with status " + statusCode + ": " +
+                    response);
+        }
+        return response;
+    }
+
+    /**
+     * Get the socket factory of the connections to the key manager, which trusts the certificates in the trust
+     * store of the gateway
+     */
+    private SSLSocketFactory getSSLSocketFactory() throws IOException {
+        if (sslSocketFactory == null) {
+            synchronized (this) {
+                if (sslSocketFactory == null) {
+                    String trustStorePath = System.getProperty("ballerina.home") + File.separator + "bre" +
+                            File.separator + "security" + File.separator + "wso2carbon.jks";
+                    try (InputStream inputStream = Files.newInputStream(Paths.get(trustStorePath))) {
+                        KeyStore trustStore = KeyStore.getInstance("JKS");
+                        trustStore.load(inputStream, TRUST_STORE_PASSWORD.toCharArray());
+                        TrustManagerFactory trustManagerFactory = TrustManagerFactory
+                                .getInstance(TrustManagerFactory.getDefaultAlgorithm());
+                        trustManagerFactory.init(trustStore);
+                        SSLContext sslContext = SSLContext.getInstance("TLS");
+                        sslContext.init(null, trustManagerFactory.getTrustManagers(), null);
+                        sslSocketFactory = sslContext.getSocketFactory();
+                    } catch (GeneralSecurityException e) {
+                        throw new IOException("Error while loading gateway trust store " + trustStorePath, e);
+                    }
+                }
+            }
+        }
+        return sslSocketFactory;
+    }
+
+    /**
+     * Thrown when the key manager responded to an introspection request with an error
+     */
+    private static final class IntrospectionFailedException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        IntrospectionFailedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.maps;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+/**
+ * Ballerina function to get the current snapshot of a snapshot map
+ * <br>
+ * org.wso2.carbon.apimgt.ballerina.maps:getSnapshot
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.maps",
+        functionName = "getSnapshot",
+        args = {@Argument(name = "mapName", type = TypeEnum.STRING)},
+        returnType = {@ReturnType(type = TypeEnum.MAP)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Get the current snapshot of a snapshot map. The snapshot must not be modified")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "mapName",
+        value = "Name of the map")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "map",
+        value = "Snapshot of the map, which is empty if the map does not exist")})
+public class GetSnapshot extends AbstractNativeFunction {
+
+    @Override
+    public BValue[] execute(Context context) {
+        String mapName = getStringArgument(context, 0);
+        BMap<String, BValue> snapshot = MapManagerHolder.getInstance().getSnapshot(mapName);
+        return getBValues(snapshot == null ? new BMap<String, BValue>() : snapshot);
+    }
+}
@@ -1,9 +1,11 @@
 package org.wso2.carbon.apimgt.ballerina.maps;
 
+import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BValue;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * MapManager holder class to hold Maps
@@ -21,7 +23,7 @@ public final class MapManagerHolder {
         return mapManager;
     }
 
-    private Map<String, BValue> mapManager;
+    private ConcurrentMap<String, BValue> mapManager;
 
     /**
      * Private cache manager holder constructor
@@ -45,4 +47,100 @@ public final class MapManagerHolder {
         }
         return instance;
     }
+
+    /**
+     * Get the current snapshot of a map held by the holder. Snapshots are never modified once published, hence they
+     * can be read without locking while the map is being updated.
+     *
+     * @param mapName name of the map
+     * @return snapshot of the map, or null if the map does not exist
+     */
+    @SuppressWarnings("unchecked")
+    public BMap<String, BValue> getSnapshot(String mapName) {
+        BValue value = mapManager.get(mapName);
+        return value instanceof BMap ? (BMap<String, BValue>) value : null;
+    }
+
+    /**
+     * Atomically put an entry into a map held by the holder by publishing a copy of the map with the entry added
+     *
+     * @param mapName name of the map
+     * @param key     entry key
+     * @param value   entry value
+     */
+    public void putSnapshotEntry(String mapName, String key, BValue value) {
+        mapManager.compute(mapName, (name, current) -> {
+            BMap<String, BValue> snapshot = copyOf(current);
+            snapshot.put(key, value);
+            return snapshot;
+        });
+    }
+
+    /**
+     * Atomically put a batch of entries into a map held by the holder by publishing a single copy of the map with all
+     * the entries added, so that loading n entries copies the map once instead of n times
+     *
+     * @param mapName name of the map
+     * @param entries entries to be put
+     */
+    public void putSnapshotEntries(String mapName, BMap<String, BValue> entries) {
+        mapManager.compute(mapName, (name, current) -> {
+            BMap<String, BValue> snapshot = copyOf(current);
+            for (String key : entries.keySet()) {
+                snapshot.put(key, entries.get(key));
+            }
+            return snapshot;
+        });
+    }
+
+    /**
+     * Atomically put an entry into a map held by the holder unless the key is already present
+     *
+     * @param mapName name of the map
+     * @param key     entry key
+     * @param value   entry value
+     * @return the value present for the key after the operation
+     */
+    @SuppressWarnings("unchecked")
+    public BValue putSnapshotEntryIfAbsent(String mapName, String key, BValue value) {
+        BMap<String, BValue> snapshot = (BMap<String, BValue>) mapManager.compute(mapName, (name, current) -> {
+            if (current instanceof BMap && ((BMap<String, BValue>) current).get(key) != null) {
+                return current;
+            }
+            BMap<String, BValue> copy = copyOf(current);
+            copy.put(key, value);
+            return copy;
+        });
+        return snapshot.get(key);
+    }
+
+    /**
+     * Atomically remove an entry from a map held by the holder by publishing a copy of the map without the entry
+     *
+     * @param mapName name of the map
+     * @param key     entry key
+     */
+    @SuppressWarnings("unchecked")
+    public void removeSnapshotEntry(String mapName, String key) {
+        mapManager.computeIfPresent(mapName, (name, current) -> {
+            if (!(current instanceof BMap) || ((BMap<String, BValue>) current).get(key) == null) {
+                return current;
+            }
+            BMap<String, BValue> snapshot = copyOf(current);
+            snapshot.remove(key);
+            return snapshot;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BMap<String, BValue> copyOf(BValue current) {
+        BMap<String, BValue> copy = new BMap<>();
+        if (current instanceof BMap) {
+            BMap<String, BValue> currentMap = (BMap<String, BValue>) current;
+            for (String key : currentMap.keySet()) {
+                copy.put(key, currentMap.get(key));
+            }
+        }
+        return copy;
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sliding window request counter for a single throttle key. The count of the current window is weighted with the
+ * count of the previous window according to how far the current window has progressed, which smooths out bursts at
+ * window boundaries. Counting a request is a single atomic increment; a new window is only allocated once per unit
+ * time.
+ */
+final class SlidingWindowCounter {
+
+    private final AtomicReference<Window> window;
+    private final long unitTime;
+
+    SlidingWindowCounter(long unitTime, long currentTime) {
+        this.unitTime = unitTime;
+        this.window = new AtomicReference<>(new Window(currentTime, 0));
+    }
+
+    /**
+     * Check whether the counter has not counted a request within the last two windows, so that neither the current
+     * nor the previous window holds a count and the counter can be discarded
+     *
+     * @param currentTime current time in milliseconds
+     * @return true if the counter is idle
+     */
+    boolean isIdle(long currentTime) {
+        return currentTime - window.get().start >= 2 * unitTime;
+    }
+
+    /**
+     * Count a request if it is within the given limit
+     *
+     * @param limit       maximum number of requests allowed within the unit time
+     * @param unitTime    length of the window in milliseconds
+     * @param currentTime current time in milliseconds
+     * @return true if the request was counted, false if the limit has been reached
+     */
+    boolean tryAcquire(long limit, long unitTime, long currentTime) {
+        Window current = roll(unitTime, currentTime);
+        long elapsed = currentTime - current.start;
+        long weightedPrevious = unitTime > elapsed ? current.previousCount * (unitTime - elapsed) / unitTime : 0;
+        if (weightedPrevious + current.count.get() >= limit) {
+            return false;
+        }
+        return weightedPrevious + current.count.incrementAndGet() <= limit;
+    }
+
+    private Window roll(long unitTime, long currentTime) {
+        Window current = window.get();
+        while (currentTime - current.start >= unitTime) {
+            long windowsElapsed = (currentTime - current.start) / unitTime;
+            // the previous window only contributes if it is immediately before the new one
+            Window next = new Window(current.start + windowsElapsed * unitTime,
+                    windowsElapsed == 1 ? current.count.get() : 0);
+            if (window.compareAndSet(current, next)) {
+                return next;
+            }
+            current = window.get();
+        }
+        return current;
+    }
+
+    private static final class Window {
+        private final long start;
+        private final long previousCount;
+        private final AtomicLong count = new AtomicLong();
+
+        private Window(long start, long previousCount) {
+            this.start = start;
+            this.previousCount = previousCount;
+        }
+    }
+}
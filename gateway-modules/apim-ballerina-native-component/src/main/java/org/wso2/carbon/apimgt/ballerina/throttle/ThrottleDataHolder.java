@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the throttle decisions received from the traffic manager along with the local request counters of the
+ * gateway. Both are keyed by throttle key and are read without locking on the request path.
+ * <p>
+ * The number of local counters is bounded. Once the bound is reached, counters which have been idle for two windows
+ * are evicted before a counter is added for a new key; if every counter is still in use, the new key is left to the
+ * traffic manager.
+ */
+public final class ThrottleDataHolder {
+    private static volatile ThrottleDataHolder instance = null;
+
+    private static final int MAX_LOCAL_COUNTERS = 100000;
+    private static final long EVICTION_INTERVAL_MILLIS = 1000;
+
+    /**
+     * Expiry time of the throttle decisions in milliseconds, keyed by throttle key
+     */
+    private final Map<String, Long> throttleDecisions = new ConcurrentHashMap<>();
+    private final Map<String, SlidingWindowCounter> localCounters = new ConcurrentHashMap<>();
+    private final AtomicLong nextEvictionTime = new AtomicLong();
+    private final int maxLocalCounters;
+
+    /**
+     * Private throttle data holder constructor
+     */
+    private ThrottleDataHolder() {
+        this(MAX_LOCAL_COUNTERS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxLocalCounters maximum number of local request counters
+     */
+    ThrottleDataHolder(int maxLocalCounters) {
+        this.maxLocalCounters = maxLocalCounters;
+    }
+
+    /**
+     * Static method to get throttle data holder
+     *
+     * @return {@link ThrottleDataHolder} instance
+     */
+    public static ThrottleDataHolder getInstance() {
+        if (instance == null) {
+            synchronized (ThrottleDataHolder.class) {
+                if (instance == null) {
+                    instance = new ThrottleDataHolder();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Record a throttle decision received from the traffic manager
+     *
+     * @param throttleKey throttle key
+     * @param expiryTime  time in milliseconds until which the key is throttled
+     */
+    public void addThrottleDecision(String throttleKey, long expiryTime) {
+        throttleDecisions.put(throttleKey, expiryTime);
+    }
+
+    /**
+     * Remove the throttle decision of a key. Since the traffic manager holds the authoritative count, the local
+     * counter of the key is reset as well.
+     *
+     * @param throttleKey throttle key
+     */
+    public void removeThrottleDecision(String throttleKey) {
+        throttleDecisions.remove(throttleKey);
+        localCounters.remove(throttleKey);
+    }
+
+    /**
+     * Get the expiry time of the throttle decision of a key
+     *
+     * @param throttleKey throttle key
+     * @return expiry time in milliseconds or null if the key is not throttled
+     */
+    public Long getThrottleDecision(String throttleKey) {
+        return throttleDecisions.get(throttleKey);
+    }
+
+    /**
+     * Check whether a key has been throttled by the traffic manager. Expired decisions are removed.
+     *
+     * @param throttleKey throttle key
+     * @param currentTime current time in milliseconds
+     * @return true if the key is throttled
+     */
+    public boolean isThrottled(String throttleKey, long currentTime) {
+        Long expiryTime = throttleDecisions.get(throttleKey);
+        if (expiryTime == null) {
+            return false;
+        }
+        if (expiryTime > currentTime) {
+            return true;
+        }
+        throttleDecisions.remove(throttleKey, expiryTime);
+        return false;
+    }
+
+    /**
+     * Count a request against the local quota of a key
+     *
+     * @param throttleKey throttle key
+     * @param limit       maximum number of requests allowed within the unit time
+     * @param unitTime    unit time in milliseconds
+     * @param currentTime current time in milliseconds
+     * @return true if the local quota of the key has been exceeded
+     */
+    public boolean isLocalQuotaExceeded(String throttleKey, long limit, long unitTime, long currentTime) {
+        SlidingWindowCounter counter = localCounters.get(throttleKey);
+        if (counter == null) {
+            if (localCounters.size() >= maxLocalCounters && !evictIdleCounters(currentTime)) {
+                return false;
+            }
+            SlidingWindowCounter newCounter = new SlidingWindowCounter(unitTime, currentTime);
+            counter = localCounters.putIfAbsent(throttleKey, newCounter);
+            if (counter == null) {
+                counter = newCounter;
+            }
+        }
+        return !counter.tryAcquire(limit, unitTime, currentTime);
+    }
+
+    /**
+     * Get the number of local request counters
+     *
+     * @return number of local request counters
+     */
+    int getLocalCounterCount() {
+        return localCounters.size();
+    }
+
+    /**
+     * Evict the idle local counters. Eviction runs at most once per interval, so that a full holder is not scanned
+     * on every request.
+     *
+     * @param currentTime current time in milliseconds
+     * @return true if there is room for a new counter
+     */
+    private boolean evictIdleCounters(long currentTime) {
+        long evictionTime = nextEvictionTime.get();
+        if (currentTime >= evictionTime
+                && nextEvictionTime.compareAndSet(evictionTime, currentTime + EVICTION_INTERVAL_MILLIS)) {
+            localCounters.values().removeIf(counter -> counter.isIdle(currentTime));
+        }
+        return localCounters.size() < maxLocalCounters;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.util;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Ballerina function to index the IP range of a block condition
+ * <br>
+ * org.wso2.carbon.apimgt.ballerina.util:addIpRangeBlock
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.util",
+        functionName = "addIpRangeBlock",
+        args = {@Argument(name = "key", type = TypeEnum.STRING),
+                @Argument(name = "startingIp", type = TypeEnum.STRING),
+                @Argument(name = "endingIp", type = TypeEnum.STRING)},
+        returnType = {@ReturnType(type = TypeEnum.BOOLEAN)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Index the IP range of a block condition")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "key",
+        value = "Key of the block condition")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "startingIp",
+        value = "First address of the range as an IPv4 or IPv6 literal, or the numeric value of an IPv4 address")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "endingIp",
+        value = "Last address of the range as an IPv4 or IPv6 literal, or the numeric value of an IPv4 address")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "boolean",
+        value = "false if the range is invalid")})
+public class AddIpRangeBlock extends AbstractNativeFunction {
+    private static final Logger log = LoggerFactory.getLogger(AddIpRangeBlock.class);
+
+    @Override
+    public BValue[] execute(Context context) {
+        String key = getStringArgument(context, 0);
+        String startingIp = getStringArgument(context, 1);
+        String endingIp = getStringArgument(context, 2);
+        boolean added = IpRangeIndex.getInstance().addRange(key, startingIp, endingIp);
+        if (!added) {
+            log.warn("Invalid IP range " + startingIp + " - " + endingIp + " in block condition " + key);
+        }
+        return getBValues(new BBoolean(added));
+    }
+
+}
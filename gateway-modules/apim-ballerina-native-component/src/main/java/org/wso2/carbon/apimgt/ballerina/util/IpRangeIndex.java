@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.util;
+
+import java.math.BigInteger;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the IP range block conditions of the gateway. The ranges are kept as sorted arrays of non overlapping
+ * intervals, separately for IPv4 and IPv6, so that checking whether an address is blocked is a binary search.
+ * <p>
+ * Ranges are added and removed by the key of their block condition. The intervals are rebuilt lazily on the first
+ * lookup after a change, hence loading all the block conditions at startup builds the index only once.
+ */
+public final class IpRangeIndex {
+    private static volatile IpRangeIndex instance = null;
+
+    private static final long MAX_IPV4_VALUE = 0xFFFFFFFFL;
+
+    private final Map<String, IpRange> ranges = new ConcurrentHashMap<>();
+    private volatile Intervals intervals = new Intervals(new long[0], new long[0], new BigInteger[0],
+            new BigInteger[0]);
+    private volatile boolean modified = false;
+
+    private IpRangeIndex() {
+    }
+
+    /**
+     * Static method to get the IP range index
+     *
+     * @return {@link IpRangeIndex} instance
+     */
+    public static IpRangeIndex getInstance() {
+        if (instance == null) {
+            synchronized (IpRangeIndex.class) {
+                if (instance == null) {
+                    instance = new IpRangeIndex();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Add or replace the IP range of a block condition. The addresses can be IPv4 or IPv6 literals, or the numeric
+     * value of an IPv4 address.
+     *
+     * @param key         key of the block condition
+     * @param startingIp  first address of the range
+     * @param endingIp    last address of the range
+     * @return true if the range was added, false if the addresses are invalid
+     */
+    public boolean addRange(String key, String startingIp, String endingIp) {
+        BigInteger start = toAddressValue(startingIp);
+        BigInteger end = toAddressValue(endingIp);
+        boolean ipv4 = isIPv4(startingIp);
+        if (start == null || end == null || ipv4 != isIPv4(endingIp) || start.compareTo(end) > 0) {
+            return false;
+        }
+        ranges.put(key, new IpRange(start, end, ipv4));
+        modified = true;
+        return true;
+    }
+
+    /**
+     * Remove the IP range of a block condition
+     *
+     * @param key key of the block condition
+     */
+    public void removeRange(String key) {
+        if (ranges.remove(key) != null) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Check whether an address falls within any of the indexed ranges
+     *
+     * @param ip IPv4 or IPv6 literal
+     * @return true if the address is blocked
+     */
+    public boolean isBlocked(String ip) {
+        Intervals current = getIntervals();
+        long ipv4Value = parseIPv4(ip);
+        if (ipv4Value >= 0) {
+            return contains(current.ipv4Starts, current.ipv4Ends, ipv4Value);
+        }
+        if (ip == null || ip.indexOf(':') < 0) {
+            return false;
+        }
+        BigInteger value = toAddressValue(ip);
+        if (value == null) {
+            return false;
+        }
+        if (value.bitLength() <= Integer.SIZE && isIPv4(ip)) {
+            // IPv4 mapped IPv6 address
+            return contains(current.ipv4Starts, current.ipv4Ends, value.longValue());
+        }
+        if (current.ipv6Starts.length == 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(current.ipv6Starts, value);
+        if (index >= 0) {
+            return true;
+        }
+        int candidate = -index - 2;
+        return candidate >= 0 && current.ipv6Ends[candidate].compareTo(value) >= 0;
+    }
+
+    private Intervals getIntervals() {
+        if (modified) {
+            synchronized (this) {
+                if (modified) {
+                    modified = false;
+                    intervals = buildIntervals(new ArrayList<>(ranges.values()));
+                }
+            }
+        }
+        return intervals;
+    }
+
+    private static boolean contains(long[] starts, long[] ends, long value) {
+        int index = Arrays.binarySearch(starts, value);
+        if (index >= 0) {
+            return true;
+        }
+        // the interval with the greatest start below the value is the only one that could contain it
+        int candidate = -index - 2;
+        return candidate >= 0 && ends[candidate] >= value;
+    }
+
+    private static Intervals buildIntervals(List<IpRange> rangeList) {
+        rangeList.sort(Comparator.comparing((IpRange range) -> range.start));
+        List<IpRange> ipv4Ranges = new ArrayList<>();
+        List<IpRange> ipv6Ranges = new ArrayList<>();
+        for (IpRange range : rangeList) {
+            merge(range.ipv4 ? ipv4Ranges : ipv6Ranges, range);
+        }
+        long[] ipv4Starts = new long[ipv4Ranges.size()];
+        long[] ipv4Ends = new long[ipv4Ranges.size()];
+        for (int i = 0; i < ipv4Ranges.size(); i++) {
+            ipv4Starts[i] = ipv4Ranges.get(i).start.longValue();
+            ipv4Ends[i] = ipv4Ranges.get(i).end.longValue();
+        }
+        BigInteger[] ipv6Starts = new BigInteger[ipv6Ranges.size()];
+        BigInteger[] ipv6Ends = new BigInteger[ipv6Ranges.size()];
+        for (int i = 0; i < ipv6Ranges.size(); i++) {
+            ipv6Starts[i] = ipv6Ranges.get(i).start;
+            ipv6Ends[i] = ipv6Ranges.get(i).end;
+        }
+        return new Intervals(ipv4Starts, ipv4Ends, ipv6Starts, ipv6Ends);
+    }
+
+    /**
+     * Append a range to a list of sorted non overlapping ranges, merging it with the last range if they overlap
+     */
+    private static void merge(List<IpRange> merged, IpRange range) {
+        if (!merged.isEmpty()) {
+            IpRange last = merged.get(merged.size() - 1);
+            if (last.end.add(BigInteger.ONE).compareTo(range.start) >= 0) {
+                if (last.end.compareTo(range.end) < 0) {
+                    merged.set(merged.size() - 1, new IpRange(last.start, range.end, last.ipv4));
+                }
+                return;
+            }
+        }
+        merged.add(range);
+    }
+
+    private static boolean isIPv4(String ip) {
+        if (ip.indexOf(':') < 0) {
+            return true;
+        }
+        try {
+            return InetAddress.getByName(ip) instanceof Inet4Address;
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Get the numeric value of an address without resolving host names
+     *
+     * @param ip IPv4 or IPv6 literal, or the numeric value of an IPv4 address
+     * @return numeric value or null if the address is invalid
+     */
+    private static BigInteger toAddressValue(String ip) {
+        if (ip == null || ip.isEmpty()) {
+            return null;
+        }
+        if (ip.indexOf(':') >= 0) {
+            try {
+                // literals containing ':' are parsed as IPv6 addresses and never looked up
+                return new BigInteger(1, InetAddress.getByName(ip).getAddress());
+            } catch (UnknownHostException e) {
+                return null;
+            }
+        }
+        if (ip.indexOf('.') < 0) {
+            try {
+                long value = Long.parseLong(ip);
+                return value >= 0 && value <= MAX_IPV4_VALUE ? BigInteger.valueOf(value) : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        long value = parseIPv4(ip);
+        return value >= 0 ? BigInteger.valueOf(value) : null;
+    }
+
+    /**
+     * Parse a dotted IPv4 address without allocating
+     *
+     * @param ip address literal
+     * @return numeric value of the address or -1 if it is not a valid IPv4 address
+     */
+    static long parseIPv4(String ip) {
+        if (ip == null) {
+            return -1;
+        }
+        long value = 0;
+        int octet = -1;
+        int octetCount = 0;
+        for (int i = 0; i < ip.length(); i++) {
+            char c = ip.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && octet >= 0 && octetCount < 3) {
+                value = (value << 8) | octet;
+                octet = -1;
+                octetCount++;
+            } else {
+                return -1;
+            }
+        }
+        if (octet < 0 || octetCount != 3) {
+            return -1;
+        }
+        return (value << 8) | octet;
+    }
+
+    private static final class IpRange {
+        private final BigInteger start;
+        private final BigInteger end;
+        private final boolean ipv4;
+
+        private IpRange(BigInteger start, BigInteger end, boolean ipv4) {
+            this.start = start;
+            this.end = end;
+            this.ipv4 = ipv4;
+        }
+    }
+
+    private static final class Intervals {
+        private final long[] ipv4Starts;
+        private final long[] ipv4Ends;
+        private final BigInteger[] ipv6Starts;
+        private final BigInteger[] ipv6Ends;
+
+        private Intervals(long[] ipv4Starts, long[] ipv4Ends, BigInteger[] ipv6Starts, BigInteger[] ipv6Ends) {
+            this.ipv4Starts = ipv4Starts;
+            this.ipv4Ends = ipv4Ends;
+            this.ipv6Starts = ipv6Starts;
+            this.ipv6Ends = ipv6Ends;
+        }
+    }
+}
@@ -52,4 +52,12 @@ public class CacheRemoveTest {
         //Assert if cache entry is BValue
         Assert.assertTrue(returns[0] instanceof BValue);
     }
+
+    @Test
+    public void testCacheOperationsOnUnknownCache() {
+        BValue[] args = {new BString("unknownRemoveCache"), new BString("cacheKey"), new BString("cacheValue")};
+        //Removing from a cache which is not created is ignored, and putting into it creates the cache
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testUnknownCache", args);
+        Assert.assertEquals(returns[0].stringValue(), "cacheValue");
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.caching;
+
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.ballerina.caching.util.BTestUtils;
+
+/**
+ * Test class for the size bounds and statistics of the native cache implementation for API Manager
+ */
+public class CacheStatsTest {
+    private ProgramFile bLangProgram;
+
+    @BeforeClass
+    public void setup() {
+        bLangProgram = BTestUtils.parseBalFile("samples/cache/cacheStatsTest.bal");
+    }
+
+    @Test
+    public void testCacheStats() {
+        BValue[] args = {new BString("statsCache"), new BInteger(100), new BString("cacheKey"),
+                new BString("cacheValue")};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testCacheStats", args);
+        Assert.assertTrue(returns[0] instanceof BJSON);
+        BJSON stats = (BJSON) returns[0];
+        Assert.assertEquals(stats.value().get("hitCount").asLong(), 1);
+        Assert.assertEquals(stats.value().get("missCount").asLong(), 1);
+        Assert.assertEquals(stats.value().get("hitRate").asDouble(), 0.5);
+        Assert.assertEquals(stats.value().get("size").asLong(), 1);
+        Assert.assertEquals(stats.value().get("maxEntries").asLong(), 100);
+    }
+
+    @Test
+    public void testCacheSizeIsBounded() {
+        BValue[] args = {new BString("boundedCache"), new BInteger(10), new BInteger(1000)};
+        BLangFunctions.invokeNew(bLangProgram, "testBoundedCache", args);
+        // eviction is performed asynchronously, hence wait for the pending maintenance to complete
+        CacheManagerHolder.getInstance().getCache("boundedCache").cleanUp();
+        Assert.assertTrue(CacheManagerHolder.getInstance().getCache("boundedCache").estimatedSize() <= 10);
+    }
+
+    @Test
+    public void testCacheIsNotBoundedByDefault() {
+        BValue[] args = {new BString("unboundedCache"), new BString("cacheKey"), new BString("cacheValue")};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testStatsOfUnboundedCache", args);
+        BJSON stats = (BJSON) returns[0];
+        Assert.assertEquals(stats.value().get("size").asLong(), 1);
+        Assert.assertNull(stats.value().get("maxEntries"));
+    }
+
+    @Test
+    public void testStatsOfUnknownCache() {
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testStatsOfUnknownCache",
+                new BValue[]{new BString("unknownCache")});
+        Assert.assertEquals(returns[0].stringValue(), "{}");
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.introspect;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.ballerina.caching.util.BTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the token introspection of the gateway
+ */
+public class IntrospectTokenTestCase {
+    private ProgramFile bLangProgram;
+    private HttpServer keyManager;
+    private String introspectEndpoint;
+    private final AtomicInteger introspectionRequestCount = new AtomicInteger();
+    private volatile CountDownLatch responseLatch = new CountDownLatch(0);
+    private volatile String lastRequestPath;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        bLangProgram = BTestUtils.parseBalFile("samples/introspect/introspectTest.bal");
+        keyManager = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        keyManager.setExecutor(Executors.newCachedThreadPool());
+        keyManager.createContext("/introspect", exchange -> {
+            introspectionRequestCount.incrementAndGet();
+            lastRequestPath = exchange.getRequestURI().getPath();
+            String body;
+            try (InputStream inputStream = exchange.getRequestBody()) {
+                body = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+            }
+            try {
+                responseLatch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String response = body.contains("token=valid") ?
+                    "{\"active\":true,\"username\":\"admin\",\"client_id\":\"client\",\"exp\":1999999999}" :
+                    "{\"active\":false}";
+            int statusCode = body.contains("token=failing") ? 500 : 200;
+            byte[] responseBytes = response.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(statusCode, responseBytes.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(responseBytes);
+            }
+        });
+        keyManager.start();
+        introspectEndpoint = "http://localhost:" + keyManager.getAddress().getPort() + "/introspect";
+    }
+
+    @AfterClass
+    public void cleanup() {
+        keyManager.stop(0);
+    }
+
+    @Test
+    public void testIntrospectToken() {
+        BValue[] args = {new BString(introspectEndpoint), new BString("valid-token-1")};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testIntrospectToken", args);
+        Assert.assertTrue(returns[0] instanceof BJSON);
+        Assert.assertTrue(((BJSON) returns[0]).value().get("active").asBoolean());
+        Assert.assertEquals(((BJSON) returns[0]).value().get("username").asText(), "admin");
+        Assert.assertEquals(lastRequestPath, "/introspect/");
+    }
+
+    @Test
+    public void testInactiveTokenIsCached() {
+        int requestCountBefore = introspectionRequestCount.get();
+        BValue[] args = {new BString(introspectEndpoint), new BString("invalid-token")};
+        for (int i = 0; i < 5; i++) {
+            BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testIntrospectToken", args);
+            Assert.assertFalse(((BJSON) returns[0]).value().get("active").asBoolean());
+        }
+        Assert.assertEquals(introspectionRequestCount.get() - requestCountBefore, 1);
+
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testIntrospectionStats", new BValue[0]);
+        Assert.assertTrue(((BJSON) returns[0]).value().get("negativeCacheHitCount").asLong() >= 4);
+    }
+
+    @Test
+    public void testFailedIntrospectionIsNotCached() {
+        int requestCountBefore = introspectionRequestCount.get();
+        BValue[] args = {new BString(introspectEndpoint), new BString("failing-token")};
+        for (int i = 0; i < 2; i++) {
+            BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testIntrospectToken", args);
+            Assert.assertFalse(((BJSON) returns[0]).value().get("active").asBoolean());
+            Assert.assertEquals(((BJSON) returns[0]).value().get("error").asText(), "server_error");
+        }
+        Assert.assertEquals(introspectionRequestCount.get() - requestCountBefore, 2);
+    }
+
+    @Test
+    public void testUnavailableKeyManager() throws IOException {
+        String unavailableEndpoint;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            unavailableEndpoint = "http://localhost:" + serverSocket.getLocalPort() + "/introspect";
+        }
+        BValue[] args = {new BString(unavailableEndpoint), new BString("valid-token-3")};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testIntrospectToken", args);
+        Assert.assertFalse(((BJSON) returns[0]).value().get("active").asBoolean());
+        Assert.assertEquals(((BJSON) returns[0]).value().get("error").asText(), "temporarily_unavailable");
+    }
+
+    @Test
+    public void testConcurrentIntrospectionsAreCoalesced() throws Exception {
+        final int threads = 10;
+        int requestCountBefore = introspectionRequestCount.get();
+        responseLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            responses.add(executorService.submit(() -> TokenIntrospector.getInstance()
+                    .introspect(introspectEndpoint, "Basic YWRtaW46YWRtaW4=", "valid-token-2")));
+        }
+        // hold the key manager response until every request has joined the introspection in flight
+        while (introspectionRequestCount.get() == requestCountBefore) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(500);
+        responseLatch.countDown();
+        for (Future<String> response : responses) {
+            Assert.assertTrue(response.get(10, TimeUnit.SECONDS).contains("\"active\":true"));
+        }
+        executorService.shutdown();
+        Assert.assertEquals(introspectionRequestCount.get() - requestCountBefore, 1);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.maps;
+
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.ballerina.caching.util.BTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for the snapshot map operations of the ballerina native map holder
+ */
+public class SnapshotMapTestCase {
+    private ProgramFile bLangProgram;
+
+    @BeforeClass
+    public void setup() {
+        bLangProgram = BTestUtils.parseBalFile("samples/maps/snapshotMapTest.bal");
+    }
+
+    @Test
+    public void testSnapshotPutAndRemove() {
+        BValue[] args = {new BString("testSnapshotMap"), new BString("key1"), new BString("value1")};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testSnapshotPutAndRemove", args);
+        Assert.assertEquals(returns[0].stringValue(), "value1");
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 1);
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 0);
+    }
+
+    @Test
+    public void testSnapshotPutEntries() {
+        BValue[] args = {new BString("testSnapshotEntriesMap"), new BString("key1"), new BString("value1"),
+                new BString("key2"), new BString("value2")};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testSnapshotPutEntries", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 2);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 2);
+        Assert.assertEquals(MapManagerHolder.getInstance().getSnapshot("testSnapshotEntriesMap").get("key2")
+                .stringValue(), "value2");
+    }
+
+    @Test
+    public void testSnapshotPutIfAbsent() {
+        BValue[] args = {new BString("testSnapshotIfAbsentMap"), new BString("key1"), new BString("value1"),
+                new BString("value2")};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testSnapshotPutIfAbsent", args);
+        Assert.assertEquals(returns[0].stringValue(), "value1");
+    }
+
+    @Test
+    public void testConcurrentSnapshotUpdates() throws Exception {
+        final int threads = 8;
+        final int entriesPerThread = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        for (int i = 0; i < threads; i++) {
+            final int thread = i;
+            executorService.submit(() -> {
+                startLatch.await();
+                for (int j = 0; j < entriesPerThread; j++) {
+                    MapManagerHolder.getInstance().putSnapshotEntry("concurrentSnapshotMap", thread + ":" + j,
+                            new BString(String.valueOf(j)));
+                }
+                return null;
+            });
+        }
+        startLatch.countDown();
+        executorService.shutdown();
+        Assert.assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+        // no entry is lost by concurrent updates
+        Assert.assertEquals(MapManagerHolder.getInstance().getSnapshot("concurrentSnapshotMap").size(),
+                threads * entriesPerThread);
+    }
+}
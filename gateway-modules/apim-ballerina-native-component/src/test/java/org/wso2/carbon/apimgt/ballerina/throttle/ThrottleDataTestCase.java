@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.ballerina.caching.util.BTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the native throttle decision store and local request counters of the gateway
+ */
+public class ThrottleDataTestCase {
+    private ProgramFile bLangProgram;
+
+    @BeforeClass
+    public void setup() {
+        bLangProgram = BTestUtils.parseBalFile("samples/throttle/throttleDecisionTest.bal");
+    }
+
+    @Test
+    public void testThrottleDecision() {
+        String expiryTime = String.valueOf(System.currentTimeMillis() + 60000);
+        BValue[] args = {new BString("app1:admin"), new BString(expiryTime)};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testThrottleDecision", args);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+        Assert.assertEquals(returns[1].stringValue(), expiryTime);
+
+        returns = BLangFunctions.invokeNew(bLangProgram, "testRemoveThrottleDecision",
+                new BValue[]{new BString("app1:admin")});
+        Assert.assertFalse(((BBoolean) returns[0]).booleanValue());
+        Assert.assertEquals(returns[1].stringValue(), "");
+    }
+
+    @Test
+    public void testExpiredThrottleDecision() {
+        String expiryTime = String.valueOf(System.currentTimeMillis() - 1000);
+        BValue[] args = {new BString("app2:admin"), new BString(expiryTime)};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testThrottleDecision", args);
+        Assert.assertFalse(((BBoolean) returns[0]).booleanValue());
+        // expired decisions are evicted when they are checked
+        Assert.assertEquals(returns[1].stringValue(), "");
+    }
+
+    @Test
+    public void testLocalQuota() {
+        BValue[] args = {new BString("/test:1.0.0"), new BInteger(5), new BInteger(60000), new BInteger(8)};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testLocalQuota", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 5);
+
+        // removing the central decision resets the local counter
+        BLangFunctions.invokeNew(bLangProgram, "testRemoveThrottleDecision", new BValue[]{new BString("/test:1.0.0")});
+        returns = BLangFunctions.invokeNew(bLangProgram, "testLocalQuota", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 5);
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(1000, 0);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(counter.tryAcquire(10, 1000, 100));
+        }
+        Assert.assertFalse(counter.tryAcquire(10, 1000, 999));
+        // half way through the next window, half of the previous window is still counted
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(counter.tryAcquire(10, 1000, 1500));
+        }
+        Assert.assertFalse(counter.tryAcquire(10, 1000, 1500));
+        // the previous window is not counted once a full window has been skipped
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(counter.tryAcquire(10, 1000, 3000));
+        }
+    }
+
+    @Test
+    public void testIdleLocalCountersAreEvicted() {
+        ThrottleDataHolder holder = new ThrottleDataHolder(2);
+        Assert.assertFalse(holder.isLocalQuotaExceeded("key1", 1, 1000, 0));
+        Assert.assertFalse(holder.isLocalQuotaExceeded("key2", 1, 1000, 1500));
+        // every counter is still in use, so the new key is not counted locally
+        Assert.assertFalse(holder.isLocalQuotaExceeded("key3", 1, 1000, 1500));
+        Assert.assertFalse(holder.isLocalQuotaExceeded("key3", 1, 1000, 1500));
+        Assert.assertEquals(holder.getLocalCounterCount(), 2);
+
+        // key1 has been idle for two windows and makes room for key3
+        Assert.assertFalse(holder.isLocalQuotaExceeded("key3", 1, 1000, 2500));
+        Assert.assertTrue(holder.isLocalQuotaExceeded("key3", 1, 1000, 2500));
+        Assert.assertEquals(holder.getLocalCounterCount(), 2);
+        Assert.assertTrue(holder.isLocalQuotaExceeded("key2", 1, 1000, 2000));
+    }
+
+    @Test
+    public void testConcurrentLocalQuota() throws Exception {
+        final int threads = 8;
+        final int requestsPerThread = 1000;
+        final long limit = 2500;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        for (int i = 0; i < threads; i++) {
+            executorService.submit(() -> {
+                startLatch.await();
+                for (int j = 0; j < requestsPerThread; j++) {
+                    if (!ThrottleDataHolder.getInstance().isLocalQuotaExceeded("concurrent", limit, 60000,
+                            System.currentTimeMillis())) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        startLatch.countDown();
+        executorService.shutdown();
+        Assert.assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+        Assert.assertEquals(allowed.get(), limit);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.util;
+
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.ballerina.caching.util.BTestUtils;
+
+/**
+ * Test class for the IP range block condition index of the gateway
+ */
+public class IpRangeBlockTestCase {
+    private ProgramFile bLangProgram;
+
+    @BeforeClass
+    public void setup() {
+        bLangProgram = BTestUtils.parseBalFile("samples/util/ipRangeBlock.bal");
+    }
+
+    @Test
+    public void testIpRangeBlock() {
+        // ranges are received from API core as the numeric values of the addresses
+        BValue[] args = {new BString("IP_RANGE : 3411959552 : 3411959807"), new BString("3411959552"),
+                new BString("3411959807"), new BString("203.94.95.4")};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testIpRangeBlock", args);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+        Assert.assertFalse(((BBoolean) returns[1]).booleanValue());
+    }
+
+    @Test
+    public void testIPv6RangeBlock() {
+        BValue[] args = {new BString("ipv6Range"), new BString("2001:db8::"), new BString("2001:db8::ffff"),
+                new BString("2001:db8::1:0")};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testIpRangeBlock", args);
+        Assert.assertFalse(((BBoolean) returns[0]).booleanValue());
+
+        args[3] = new BString("2001:db8::abcd");
+        returns = BLangFunctions.invokeNew(bLangProgram, "testIpRangeBlock", args);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testOverlappingRanges() {
+        IpRangeIndex index = IpRangeIndex.getInstance();
+        index.addRange("range1", "10.0.0.0", "10.0.0.255");
+        index.addRange("range2", "10.0.0.128", "10.0.1.127");
+        index.addRange("range3", "10.0.5.0", "10.0.5.10");
+        Assert.assertTrue(index.isBlocked("10.0.0.1"));
+        Assert.assertTrue(index.isBlocked("10.0.1.100"));
+        Assert.assertFalse(index.isBlocked("10.0.1.128"));
+        Assert.assertTrue(index.isBlocked("10.0.5.10"));
+        Assert.assertFalse(index.isBlocked("10.0.5.11"));
+        // IPv4 mapped IPv6 addresses are matched against the IPv4 ranges
+        Assert.assertTrue(index.isBlocked("::ffff:10.0.5.1"));
+
+        index.removeRange("range1");
+        Assert.assertFalse(index.isBlocked("10.0.0.1"));
+        Assert.assertTrue(index.isBlocked("10.0.0.200"));
+        index.removeRange("range2");
+        index.removeRange("range3");
+        Assert.assertFalse(index.isBlocked("10.0.0.200"));
+    }
+
+    @Test
+    public void testInvalidAddresses() {
+        IpRangeIndex index = IpRangeIndex.getInstance();
+        Assert.assertFalse(index.addRange("invalid", "10.0.0.256", "10.0.1.0"));
+        Assert.assertFalse(index.addRange("reversed", "10.0.1.0", "10.0.0.0"));
+        Assert.assertFalse(index.addRange("mixed", "10.0.0.0", "2001:db8::"));
+        Assert.assertFalse(index.isBlocked(""));
+        Assert.assertFalse(index.isBlocked("localhost"));
+        Assert.assertEquals(IpRangeIndex.parseIPv4("203.94.95.4"), Util.ipToLong("203.94.95.4"));
+        Assert.assertEquals(IpRangeIndex.parseIPv4("1.2.3"), -1);
+    }
+}
@@ -5,4 +5,10 @@ function testRemoveCache(string cacheName, string validation, string cacheKey ,
     caching:putCacheEntry(cacheName, cacheKey ,cacheEntry);
     caching:removeCacheEntry(cacheName, cacheKey);
     return "OK";
+}
+
+function testUnknownCache(string cacheName, string cacheKey, string cacheEntry) (any) {
+    caching:removeCacheEntry(cacheName, cacheKey);
+    caching:putCacheEntry(cacheName, cacheKey, cacheEntry);
+    return caching:getCacheEntry(cacheName, cacheKey);
 }
\ No newline at end of file
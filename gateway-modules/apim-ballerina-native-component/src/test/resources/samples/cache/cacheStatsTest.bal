@@ -0,0 +1,29 @@
+import org.wso2.carbon.apimgt.ballerina.caching;
+
+function testCacheStats(string cacheName, int maxEntries, string cacheKey, any cacheEntry) (json) {
+    caching:createBoundedCache(cacheName, "15", maxEntries);
+    caching:putCacheEntry(cacheName, cacheKey, cacheEntry);
+    any hit = caching:getCacheEntry(cacheName, cacheKey);
+    any miss = caching:getCacheEntry(cacheName, cacheKey + "-missing");
+    return caching:getCacheStats(cacheName);
+}
+
+function testBoundedCache(string cacheName, int maxEntries, int entryCount) (string) {
+    caching:createBoundedCache(cacheName, "15", maxEntries);
+    int i = 0;
+    while (i < entryCount) {
+        caching:putCacheEntry(cacheName, "key" + i, "value" + i);
+        i = i + 1;
+    }
+    return cacheName;
+}
+
+function testStatsOfUnboundedCache(string cacheName, string cacheKey, any cacheEntry) (json) {
+    caching:createCache(cacheName, "15");
+    caching:putCacheEntry(cacheName, cacheKey, cacheEntry);
+    return caching:getCacheStats(cacheName);
+}
+
+function testStatsOfUnknownCache(string cacheName) (json) {
+    return caching:getCacheStats(cacheName);
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+import org.wso2.carbon.apimgt.ballerina.introspect;
+
+function testIntrospectToken (string endpoint, string token) (json) {
+    return introspect:introspectToken(endpoint, "Basic YWRtaW46YWRtaW4=", token);
+}
+
+function testIntrospectionStats () (json) {
+    return introspect:getIntrospectionStats();
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+import org.wso2.carbon.apimgt.ballerina.maps;
+import ballerina.lang.maps as langMaps;
+
+function testSnapshotPutAndRemove (string mapName, string key, any value) (any, int, int) {
+    maps:putSnapshotEntry(mapName, key, value);
+    map snapshot = maps:getSnapshot(mapName);
+    maps:removeSnapshotEntry(mapName, key);
+    // the snapshot read before the removal is not affected by it
+    return snapshot[key], langMaps:length(snapshot), langMaps:length(maps:getSnapshot(mapName));
+}
+
+function testSnapshotPutEntries (string mapName, string key, any value, string otherKey, any otherValue) (int, int) {
+    map entries = {};
+    entries[key] = value;
+    entries[otherKey] = otherValue;
+    int count = maps:putSnapshotEntries(mapName, entries);
+    return count, langMaps:length(maps:getSnapshot(mapName));
+}
+
+function testSnapshotPutIfAbsent (string mapName, string key, any value, any otherValue) (any) {
+    maps:putSnapshotEntryIfAbsent(mapName, key, value);
+    return maps:putSnapshotEntryIfAbsent(mapName, key, otherValue);
+}
\ No newline at end of file
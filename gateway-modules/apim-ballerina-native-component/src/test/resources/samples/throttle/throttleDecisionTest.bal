@@ -0,0 +1,23 @@
+import org.wso2.carbon.apimgt.ballerina.throttle;
+
+function testThrottleDecision (string key, string expiryTimeStamp) (boolean, string) {
+    throttle:addThrottleDecision(key, expiryTimeStamp);
+    return throttle:isThrottled(key), throttle:getThrottleDecision(key);
+}
+
+function testRemoveThrottleDecision (string key) (boolean, string) {
+    throttle:removeThrottleDecision(key);
+    return throttle:isThrottled(key), throttle:getThrottleDecision(key);
+}
+
+function testLocalQuota (string key, int limit, int unitTime, int requestCount) (int) {
+    int allowed = 0;
+    int i = 0;
+    while (i < requestCount) {
+        if (!throttle:isLocalQuotaExceeded(key, limit, unitTime)) {
+            allowed = allowed + 1;
+        }
+        i = i + 1;
+    }
+    return allowed;
+}
\ No newline at end of file
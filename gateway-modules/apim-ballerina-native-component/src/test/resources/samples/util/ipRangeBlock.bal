@@ -0,0 +1,8 @@
+import org.wso2.carbon.apimgt.ballerina.util;
+
+function testIpRangeBlock (string key, string startingIp, string endingIp, string ip) (boolean, boolean) {
+    util:addIpRangeBlock(key, startingIp, endingIp);
+    boolean blocked = util:isIpRangeBlocked(ip);
+    util:removeIpRangeBlock(key);
+    return blocked, util:isIpRangeBlocked(ip);
+}
\ No newline at end of file
@@ -8,4 +8,9 @@ connector EventConnector (map options) {
     @doc:Param {value:"c: conector instance"}
     @doc:Param {value:"event: json with payload attibutes"}
     native action publish (EventConnector c, json event);
+
+    @doc:Description {value:"get the queued, sent, dropped, failed and pending event counts of the publisher"}
+    @doc:Param {value:"c: connector instance"}
+    @doc:Return {value:"json: publishing statistics"}
+    native action getStats (EventConnector c) (json);
 }
@@ -0,0 +1,213 @@
+package org.wso2.carbon.apimgt.ballerina.publisher;
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.values.BValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.databridge.commons.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Publishes events asynchronously so that publishing adds no latency to the request path. Events are added to a
+ * bounded queue by the request threads and a background thread drains the queue in batches and sends the events to
+ * the receivers. When the queue is full, events are either dropped or the request thread waits for space, as
+ * configured.
+ * <p>
+ * Each publisher has a single background thread, which is stopped by {@link #shutdown(long)} once the queued events
+ * have been sent. Publishers which are not shut down are shut down when the JVM exits.
+ *
+ * @since 7.0.43
+ */
+public class AsyncEventPublisher implements BValue {
+    private static final Logger log = LoggerFactory.getLogger(AsyncEventPublisher.class);
+
+    static final int DEFAULT_QUEUE_SIZE = 8192;
+    static final int DEFAULT_BATCH_SIZE = 200;
+    static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 10000;
+    // time for which the background thread waits for an event before checking whether it has to stop
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+
+    private final Consumer<Event> sender;
+    private final BlockingQueue<Event> queue;
+    private final int batchSize;
+    private final boolean blockWhenFull;
+    private final LongAdder queuedCount = new LongAdder();
+    private final LongAdder sentCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final Thread drainer;
+    private final Thread shutdownHook;
+    private volatile boolean running = true;
+
+    /**
+     * @param sender        sends a single event to the receivers
+     * @param queueSize     maximum number of events waiting to be sent
+     * @param batchSize     maximum number of events taken from the queue at once
+     * @param blockWhenFull whether to wait for space in the queue instead of dropping the event when it is full
+     */
+    public AsyncEventPublisher(Consumer<Event> sender, int queueSize, int batchSize, boolean blockWhenFull) {
+        this.sender = sender;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.batchSize = batchSize;
+        this.blockWhenFull = blockWhenFull;
+        this.drainer = new Thread(this::drain, "analytics-event-publisher");
+        drainer.setDaemon(true);
+        drainer.start();
+        this.shutdownHook = new Thread(() -> stop(DEFAULT_SHUTDOWN_TIMEOUT_MILLIS),
+                "analytics-event-publisher-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Add an event to the queue of events to be sent
+     *
+     * @param event event to be sent
+     * @return true if the event was queued, false if it was dropped since the queue is full or the publisher is
+     * shut down
+     */
+    public boolean publish(Event event) {
+        if (!running) {
+            droppedCount.increment();
+            return false;
+        }
+        if (blockWhenFull) {
+            try {
+                while (!queue.offer(event, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (!running) {
+                        droppedCount.increment();
+                        return false;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                droppedCount.increment();
+                return false;
+            }
+        } else if (!queue.offer(event)) {
+            droppedCount.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Event publisher queue is full, dropping event of stream " + event.getStreamId());
+            }
+            return false;
+        }
+        queuedCount.increment();
+        return true;
+    }
+
+    /**
+     * Get the publishing statistics as a JSON string
+     *
+     * @return queued, sent, dropped and failed event counts and the number of events waiting to be sent
+     */
+    public String getStats() {
+        return "{\"queuedCount\":" + queuedCount.sum()
+                + ",\"sentCount\":" + sentCount.sum()
+                + ",\"droppedCount\":" + droppedCount.sum()
+                + ",\"failedCount\":" + failedCount.sum()
+                + ",\"pendingCount\":" + queue.size() + "}";
+    }
+
+    /**
+     * Stop accepting events, send the events already queued and stop the background thread
+     *
+     * @param timeoutMillis maximum time to wait for the queued events to be sent
+     * @return true if the background thread stopped within the timeout
+     */
+    public boolean shutdown(long timeoutMillis) {
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // the JVM is already shutting down and the hook stops the publisher
+        }
+        return stop(timeoutMillis);
+    }
+
+    private boolean stop(long timeoutMillis) {
+        running = false;
+        try {
+            drainer.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (drainer.isAlive()) {
+            log.warn("Event publisher did not stop within " + timeoutMillis + "ms, " + queue.size()
+                    + " events are not sent");
+            return false;
+        }
+        return true;
+    }
+
+    private void drain() {
+        List<Event> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Event event = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    continue;
+                }
+                batch.add(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            send(batch);
+        }
+        // send the events queued before the publisher was shut down
+        while (queue.drainTo(batch, batchSize) > 0) {
+            send(batch);
+        }
+    }
+
+    private void send(List<Event> batch) {
+        for (Event event : batch) {
+            try {
+                sender.accept(event);
+                sentCount.increment();
+            } catch (RuntimeException e) {
+                failedCount.increment();
+                log.error("Error occurred while publishing event of stream " + event.getStreamId(), e);
+            }
+        }
+        batch.clear();
+    }
+
+    @Override
+    public String stringValue() {
+        return "publisher";
+    }
+
+    @Override
+    public BType getType() {
+        return null;
+    }
+
+    @Override
+    public BValue copy() {
+        return null;
+    }
+}
@@ -34,4 +34,8 @@ public final class Constants {
     public static final String META_DATA = "metaData";
     public static final String CORRELATION_DATA = "correlationData";
     public static final String PAYLOAD_DATA = "payloadData";
+    public static final String QUEUE_SIZE = "queueSize";
+    public static final String BATCH_SIZE = "batchSize";
+    public static final String QUEUE_FULL_POLICY = "queueFullPolicy";
+    public static final String QUEUE_FULL_POLICY_BLOCK = "block";
 }
@@ -0,0 +1,62 @@
+package org.wso2.carbon.apimgt.ballerina.publisher;
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BConnector;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAction;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.natives.connectors.AbstractNativeAction;
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.publisher.GetStats.{@link
+ * GetStats}
+ * Ballerina action to get the queued, sent and dropped event counts of the publisher.
+ *
+ * @since 7.0.43
+ */
+@BallerinaAction(packageName = "org.wso2.carbon.apimgt.ballerina.publisher", actionName = "getStats",
+        connectorName = Constants.CONNECTOR_NAME, args = {
+        @Argument(name = "c", type = TypeEnum.CONNECTOR) },
+        returnType = { @ReturnType(type = TypeEnum.JSON) }, connectorArgs = {
+        @Argument(name = "options", type = TypeEnum.MAP) })
+@BallerinaAnnotation(annotationName = "Description", attributes = {
+        @Attribute(name = "value", value = "Get the publishing statistics of the publisher") })
+@BallerinaAnnotation(annotationName = "Param", attributes = { @Attribute(name = "c", value = "Connector") })
+@BallerinaAnnotation(annotationName = "Return", attributes = {
+        @Attribute(name = "json", value = "Queued, sent, dropped, failed and pending event counts") })
+@Component(name = "action.org.wso2.carbon.apimgt.ballerina.publisher.getStats", immediate = true,
+        service = AbstractNativeAction.class)
+public class GetStats extends AbstractNativeAction {
+
+    @Override
+    public BValue execute(Context context) {
+        BConnector bConnector = (BConnector) getRefArgument(context, 0);
+        BMap sharedMap = (BMap) bConnector.getRefField(1);
+        AsyncEventPublisher pub = (AsyncEventPublisher) sharedMap.get(Constants.PUBLISHER_INSTANCE);
+        return new BJSON(pub != null ? pub.getStats() : "{}");
+    }
+}
@@ -18,7 +18,6 @@
 package org.wso2.carbon.apimgt.ballerina.publisher;
 
 import org.ballerinalang.bre.Context;
-import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BConnector;
 import org.ballerinalang.model.values.BMap;
@@ -64,7 +63,7 @@ import java.io.File;
         @Attribute(name = "password", value = "ballerina package") })
 @Component(name = "action.org.wso2.carbon.apimgt.ballerina.publisher.init", immediate = true,
         service = AbstractNativeAction.class)
-public class Init extends AbstractEventPublisherAction implements BValue {
+public class Init extends AbstractEventPublisherAction {
 
     private static final Logger log = LoggerFactory.getLogger(AbstractEventPublisherAction.class);
 
@@ -86,9 +85,21 @@ public class Init extends AbstractEventPublisherAction implements BValue {
         String password = optionMap.get(Constants.PASSWORD).stringValue();
         String configPath = optionMap.get(Constants.CONFIG_PATH).stringValue();
         configPath = System.getProperty("ballerina.home") + File.separator + configPath;
+        int queueSize = getIntOption(optionMap, Constants.QUEUE_SIZE, AsyncEventPublisher.DEFAULT_QUEUE_SIZE);
+        int batchSize = getIntOption(optionMap, Constants.BATCH_SIZE, AsyncEventPublisher.DEFAULT_BATCH_SIZE);
+        BValue queueFullPolicy = optionMap.get(Constants.QUEUE_FULL_POLICY);
+        boolean blockWhenFull = queueFullPolicy != null
+                && Constants.QUEUE_FULL_POLICY_BLOCK.equalsIgnoreCase(queueFullPolicy.stringValue());
         try {
             initDataPublisher(type, receiverURLSet, authURLSet, username, password, configPath);
-            sharedMap.put(Constants.PUBLISHER_INSTANCE, this);
+            BValue previousPublisher = sharedMap.get(Constants.PUBLISHER_INSTANCE);
+            sharedMap.put(Constants.PUBLISHER_INSTANCE,
+                    new AsyncEventPublisher(dataPublisher::publish, queueSize, batchSize, blockWhenFull));
+            // the connector is initialized again, hence the thread of the replaced publisher is stopped
+            if (previousPublisher instanceof AsyncEventPublisher) {
+                ((AsyncEventPublisher) previousPublisher)
+                        .shutdown(AsyncEventPublisher.DEFAULT_SHUTDOWN_TIMEOUT_MILLIS);
+            }
         } catch (DataEndpointAuthenticationException e) {
             log.error("Error occurred while authenticating.", e);
         } catch (DataEndpointAgentConfigurationException e) {
@@ -103,19 +114,19 @@ public class Init extends AbstractEventPublisherAction implements BValue {
         return null;
     }
 
-    @Override
-    public String stringValue() {
-        return "publisher";
-    }
-
-    @Override
-    public BType getType() {
-        return null;
-    }
-
-    @Override
-    public BValue copy() {
-        return null;
+    private int getIntOption(BMap optionMap, String key, int defaultValue) {
+        BValue value = optionMap.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.stringValue());
+            return intValue > 0 ? intValue : defaultValue;
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value " + value.stringValue() + " for publisher option " + key + ", using default value "
+                    + defaultValue);
+            return defaultValue;
+        }
     }
 }
 
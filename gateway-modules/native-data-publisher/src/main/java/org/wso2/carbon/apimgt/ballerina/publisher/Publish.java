@@ -17,7 +17,7 @@ package org.wso2.carbon.apimgt.ballerina.publisher;
  * under the License.
  */
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BConnector;
@@ -29,7 +29,6 @@ import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAction;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
 import org.ballerinalang.natives.connectors.AbstractNativeAction;
-import org.json.JSONArray;
 import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,46 +53,54 @@ import org.wso2.carbon.databridge.commons.utils.DataBridgeCommonsUtils;
         @Attribute(name = "event", value = "aEvent") })
 @Component(name = "action.org.wso2.carbon.apimgt.ballerina.publisher.publish", immediate = true,
         service = AbstractNativeAction.class)
-public class Publish extends AbstractEventPublisherAction {
+public class Publish extends AbstractNativeAction {
     private static final Logger log = LoggerFactory.getLogger(Publish.class);
 
     @Override
     public BValue execute(Context context) {
-        log.info("publishing event to DAS");
         BConnector bConnector = (BConnector) getRefArgument(context, 0);
         BJSON json = (BJSON) getRefArgument(context, 1);
-        String streamName = json.value().get(Constants.STREAM_NAME).asText();
-        String streamVersion = json.value().get(Constants.STREAM_VERSION).asText();
-        ArrayNode metaData = (ArrayNode) json.value().get(Constants.META_DATA);
-        ArrayNode correlationData = (ArrayNode) json.value().get(Constants.CORRELATION_DATA);
-        ArrayNode payloadData = (ArrayNode) json.value().get(Constants.PAYLOAD_DATA);
+        JsonNode eventNode = json.value();
+        String streamName = eventNode.get(Constants.STREAM_NAME).asText();
+        String streamVersion = eventNode.get(Constants.STREAM_VERSION).asText();
 
-        Object[] metaDataArr = new Object[metaData.size()];
-        JSONArray jsonMetaData = new JSONArray(metaData.toString());
-        for (int i = 0; i < jsonMetaData.length(); i++) {
-            metaDataArr[i] = jsonMetaData.get(i);
-        }
+        Event event = new Event();
+        event.setStreamId(DataBridgeCommonsUtils.generateStreamId(streamName, streamVersion));
+        event.setMetaData(toObjectArray(eventNode.get(Constants.META_DATA)));
+        event.setCorrelationData(toObjectArray(eventNode.get(Constants.CORRELATION_DATA)));
+        event.setPayloadData(toObjectArray(eventNode.get(Constants.PAYLOAD_DATA)));
 
-        Object[] correlationDataArr = new Object[correlationData.size()];
-        JSONArray jsonCorrelationData = new JSONArray(correlationData.toString());
-        for (int i = 0; i < jsonCorrelationData.length(); i++) {
-            correlationDataArr[i] = jsonCorrelationData.get(i);
+        BMap sharedMap = (BMap) bConnector.getRefField(1);
+        AsyncEventPublisher pub = (AsyncEventPublisher) sharedMap.get(Constants.PUBLISHER_INSTANCE);
+        if (pub == null) {
+            log.error("Event publisher is not initialized, dropping event of stream " + event.getStreamId());
+            return null;
         }
-
-        Object[] payloadDataArr = new Object[payloadData.size()];
-        JSONArray jsonPayloadData = new JSONArray(payloadData.toString());
-        for (int i = 0; i < jsonPayloadData.length(); i++) {
-            payloadDataArr[i] = jsonPayloadData.get(i);
+        if (log.isDebugEnabled()) {
+            log.debug("Queueing event of stream " + event.getStreamId() + " to be published");
         }
-
-        BMap sharedMap = (BMap) bConnector.getRefField(1);
-        EventPublisher pub = (EventPublisher) sharedMap.get(Constants.PUBLISHER_INSTANCE);
-        Event event = new Event();
-        event.setStreamId(DataBridgeCommonsUtils.generateStreamId(streamName, streamVersion));
-        event.setMetaData(metaDataArr);
-        event.setCorrelationData(correlationDataArr);
-        event.setPayloadData(payloadDataArr);
         pub.publish(event);
         return null;
     }
+
+    private Object[] toObjectArray(JsonNode arrayNode) {
+        Object[] values = new Object[arrayNode.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = toObject(arrayNode.get(i));
+        }
+        return values;
+    }
+
+    private Object toObject(JsonNode node) {
+        if (node.isTextual()) {
+            return node.textValue();
+        } else if (node.isNumber()) {
+            return node.numberValue();
+        } else if (node.isBoolean()) {
+            return node.booleanValue();
+        } else if (node.isNull()) {
+            return null;
+        }
+        return node.toString();
+    }
 }
@@ -0,0 +1,144 @@
+package org.wso2.carbon.apimgt.ballerina.publisher;
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.databridge.commons.Event;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for the asynchronous event publisher
+ */
+public class AsyncEventPublisherTestCase {
+    private static final long WAIT_TIME = 10 * 1000;
+
+    @Test
+    public void testEventsArePublished() throws Exception {
+        List<Event> sentEvents = new CopyOnWriteArrayList<>();
+        AsyncEventPublisher publisher = new AsyncEventPublisher(sentEvents::add, 100, 10, false);
+        for (int i = 0; i < 50; i++) {
+            Assert.assertTrue(publisher.publish(createEvent(i)));
+        }
+        waitForSentCount(publisher, 50);
+
+        Assert.assertEquals(sentEvents.size(), 50);
+        Assert.assertEquals(sentEvents.get(49).getPayloadData()[0], 49);
+        JsonNode stats = getStats(publisher);
+        Assert.assertEquals(stats.get("queuedCount").asLong(), 50);
+        Assert.assertEquals(stats.get("droppedCount").asLong(), 0);
+        Assert.assertEquals(stats.get("pendingCount").asLong(), 0);
+    }
+
+    @Test
+    public void testEventsAreDroppedWhenQueueIsFull() throws Exception {
+        CountDownLatch receiverAvailable = new CountDownLatch(1);
+        AsyncEventPublisher publisher = new AsyncEventPublisher(event -> {
+            try {
+                receiverAvailable.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 5, 1, false);
+        int queued = 0;
+        for (int i = 0; i < 20; i++) {
+            if (publisher.publish(createEvent(i))) {
+                queued++;
+            }
+        }
+        // at most one event can be held by the sender while the queue is full
+        Assert.assertTrue(queued <= 6);
+        Assert.assertEquals(getStats(publisher).get("droppedCount").asLong(), 20 - queued);
+
+        receiverAvailable.countDown();
+        waitForSentCount(publisher, queued);
+        Assert.assertEquals(getStats(publisher).get("sentCount").asLong(), queued);
+    }
+
+    @Test
+    public void testPublishingFailureDoesNotStopPublisher() throws Exception {
+        List<Event> sentEvents = new CopyOnWriteArrayList<>();
+        AsyncEventPublisher publisher = new AsyncEventPublisher(event -> {
+            if ((Integer) event.getPayloadData()[0] == 0) {
+                throw new IllegalStateException("Receiver unavailable");
+            }
+            sentEvents.add(event);
+        }, 10, 10, true);
+        publisher.publish(createEvent(0));
+        publisher.publish(createEvent(1));
+        waitForSentCount(publisher, 1);
+
+        Assert.assertEquals(sentEvents.size(), 1);
+        Assert.assertEquals(getStats(publisher).get("failedCount").asLong(), 1);
+    }
+
+    @Test
+    public void testShutdownSendsQueuedEvents() throws Exception {
+        List<Event> sentEvents = new CopyOnWriteArrayList<>();
+        CountDownLatch receiverAvailable = new CountDownLatch(1);
+        AsyncEventPublisher publisher = new AsyncEventPublisher(event -> {
+            try {
+                receiverAvailable.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sentEvents.add(event);
+        }, 100, 10, false);
+        for (int i = 0; i < 30; i++) {
+            Assert.assertTrue(publisher.publish(createEvent(i)));
+        }
+        receiverAvailable.countDown();
+
+        Assert.assertTrue(publisher.shutdown(WAIT_TIME));
+        Assert.assertEquals(sentEvents.size(), 30);
+        Assert.assertEquals(getStats(publisher).get("pendingCount").asLong(), 0);
+        // events are no longer accepted once the publisher is shut down
+        Assert.assertFalse(publisher.publish(createEvent(30)));
+        Assert.assertEquals(getStats(publisher).get("droppedCount").asLong(), 1);
+    }
+
+    private Event createEvent(int id) {
+        Event event = new Event();
+        event.setStreamId("org.wso2.apimgt.statistics.request:1.0.0");
+        event.setPayloadData(new Object[]{id});
+        return event;
+    }
+
+    private JsonNode getStats(AsyncEventPublisher publisher) throws IOException {
+        return new ObjectMapper().readTree(publisher.getStats());
+    }
+
+    private void waitForSentCount(AsyncEventPublisher publisher, long count) throws Exception {
+        long waitUntil = System.currentTimeMillis() + WAIT_TIME;
+        while (System.currentTimeMillis() < waitUntil) {
+            JsonNode stats = getStats(publisher);
+            if (stats.get("sentCount").asLong() + stats.get("failedCount").asLong() >= count) {
+                return;
+            }
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        Assert.fail("Events were not published within " + WAIT_TIME + "ms");
+    }
+}